@@ -0,0 +1,56 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client;
+
+import com.google.common.base.MoreObjects;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A range of bytes within a file.
+ */
+@ThreadSafe
+public final class FileRange {
+  private final long mOffset;
+  private final int mLength;
+
+  /**
+   * @param offset the offset of the first byte of the range within the file
+   * @param length the number of bytes in the range
+   */
+  public FileRange(long offset, int length) {
+    mOffset = offset;
+    mLength = length;
+  }
+
+  /**
+   * @return the offset of the first byte of the range within the file
+   */
+  public long getOffset() {
+    return mOffset;
+  }
+
+  /**
+   * @return the number of bytes in the range
+   */
+  public int getLength() {
+    return mLength;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("offset", mOffset)
+        .add("length", mLength)
+        .toString();
+  }
+}
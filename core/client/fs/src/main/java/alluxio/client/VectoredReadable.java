@@ -0,0 +1,35 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stream that permits reading many ranges of a file at once, such as the column chunks of a
+ * columnar file. Ranges may be read in parallel and in any order, and nearby ranges may be fetched
+ * with a single request.
+ */
+public interface VectoredReadable {
+  /**
+   * Starts reading the given ranges without changing the current offset of the stream. Closing
+   * the stream waits for the outstanding reads to complete.
+   *
+   * A range which extends past the end of the file fails with an {@link java.io.EOFException}.
+   *
+   * @param ranges the ranges to read
+   * @return a future for the content of each range, in the same order as the ranges
+   */
+  List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) throws IOException;
+}
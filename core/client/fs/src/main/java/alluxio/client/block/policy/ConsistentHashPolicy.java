@@ -0,0 +1,236 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.policy;
+
+import alluxio.client.block.BlockWorkerInfo;
+import alluxio.client.block.policy.options.GetWorkerOptions;
+import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.wire.WorkerNetAddress;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * This policy maps a block to a worker with consistent hashing. Every worker owns a number of
+ * virtual nodes placed on a hash ring, and a block is mapped to the owner of the first virtual
+ * node following the hash of the block id on the ring. Unlike {@link DeterministicHashPolicy},
+ * adding or removing a worker only moves the blocks of the virtual nodes it gains or loses,
+ * about one block in every (number of workers), so the blocks cached by the other workers keep
+ * being read from them.
+ *
+ * The load of the workers is bounded. The ring is walked past the workers which do not have
+ * enough capacity to hold the block, or which hold more than
+ * {@link PropertyKey#USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_LOAD_FACTOR} times
+ * their share of the data held by all the workers, so that the blocks which hash to a full worker
+ * overflow to the next workers on the ring. The load of a worker is the one reported by the
+ * worker list given to the policy, which is the same for the clients sharing a snapshot of the
+ * worker list, so they map a block to the same worker.
+ *
+ * The ring is shared by all the policies of the process, and is only built again when a worker
+ * which is not on the ring joins. The workers missing from the worker list given to the policy,
+ * whether they left the cluster or failed to serve the client, are skipped when the ring is
+ * walked, which maps the blocks as if the workers were removed from the ring.
+ */
+@ThreadSafe
+public final class ConsistentHashPolicy implements BlockLocationPolicy {
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+  private static final AtomicReference<HashRing> RING = new AtomicReference<>();
+
+  private final int mVirtualNodes;
+  private final double mLoadFactor;
+
+  /**
+   * Constructs a new {@link ConsistentHashPolicy}.
+   *
+   * @param conf Alluxio configuration
+   */
+  public ConsistentHashPolicy(AlluxioConfiguration conf) {
+    mVirtualNodes = conf.getInt(
+        PropertyKey.USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_VIRTUAL_NODES);
+    mLoadFactor = conf.getDouble(
+        PropertyKey.USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_LOAD_FACTOR);
+    Preconditions.checkArgument(mVirtualNodes >= 1,
+        "The number of virtual nodes must be positive: %s", mVirtualNodes);
+    Preconditions.checkArgument(mLoadFactor >= 1,
+        "The load factor must be at least 1: %s", mLoadFactor);
+  }
+
+  @Override
+  @Nullable
+  public WorkerNetAddress getWorker(GetWorkerOptions options) {
+    Map<WorkerNetAddress, BlockWorkerInfo> workers = new HashMap<>();
+    long totalCapacity = 0;
+    long totalUsed = 0;
+    for (BlockWorkerInfo worker : options.getBlockWorkerInfos()) {
+      workers.put(worker.getNetAddress(), worker);
+      totalCapacity += worker.getCapacityBytes();
+      totalUsed += worker.getUsedBytes();
+    }
+    if (workers.isEmpty()) {
+      return null;
+    }
+    HashRing ring = getRing(workers.keySet());
+    long blockLength = options.getBlockInfo().getLength();
+    // The data held by all the workers once the block is read, which each worker should hold a
+    // share of in proportion to its capacity.
+    double bound = mLoadFactor * (totalUsed + blockLength) / Math.max(totalCapacity, 1);
+    WorkerNetAddress fallback = null;
+    Set<WorkerNetAddress> visited = new HashSet<>();
+    int start = ring.find(hash(options.getBlockInfo().getBlockId()));
+    for (int i = 0; i < ring.size() && visited.size() < workers.size(); i++) {
+      WorkerNetAddress candidate = ring.getOwner(start + i);
+      BlockWorkerInfo worker = workers.get(candidate);
+      if (worker == null || !visited.add(candidate)
+          || worker.getCapacityBytes() < blockLength) {
+        continue;
+      }
+      if (worker.getUsedBytes() <= bound * worker.getCapacityBytes()) {
+        return candidate;
+      }
+      if (fallback == null) {
+        fallback = candidate;
+      }
+    }
+    // All the workers which can hold the block are over the bound, which only happens when the
+    // reported loads are inconsistent.
+    return fallback;
+  }
+
+  /**
+   * @param workers the workers the ring must hold
+   * @return the shared ring if it holds all the workers, or a new ring holding them
+   */
+  private HashRing getRing(Set<WorkerNetAddress> workers) {
+    HashRing ring = RING.get();
+    if (ring != null && ring.mVirtualNodes == mVirtualNodes
+        && ring.mMembers.containsAll(workers)) {
+      return ring;
+    }
+    Set<WorkerNetAddress> members = new HashSet<>(workers);
+    if (ring != null && ring.mVirtualNodes == mVirtualNodes
+        && ring.mMembers.size() < 2 * workers.size()) {
+      // Keep the workers which are temporarily missing from the list, so that a worker which
+      // comes back does not need another rebuild, unless too many workers have left.
+      members.addAll(ring.mMembers);
+    }
+    ring = new HashRing(members, mVirtualNodes);
+    RING.set(ring);
+    return ring;
+  }
+
+  private static long hash(long blockId) {
+    return HASH_FUNCTION.hashLong(blockId).asLong();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ConsistentHashPolicy)) {
+      return false;
+    }
+    ConsistentHashPolicy that = (ConsistentHashPolicy) o;
+    return mVirtualNodes == that.mVirtualNodes && mLoadFactor == that.mLoadFactor;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mVirtualNodes, mLoadFactor);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("virtualNodes", mVirtualNodes)
+        .add("loadFactor", mLoadFactor)
+        .toString();
+  }
+
+  /**
+   * An immutable hash ring, holding the positions of the virtual nodes in sorted order.
+   */
+  private static final class HashRing {
+    private final Set<WorkerNetAddress> mMembers;
+    private final int mVirtualNodes;
+    private final long[] mPositions;
+    private final WorkerNetAddress[] mOwners;
+
+    private HashRing(Set<WorkerNetAddress> members, int virtualNodes) {
+      mMembers = members;
+      mVirtualNodes = virtualNodes;
+      int size = members.size() * virtualNodes;
+      long[] positions = new long[size];
+      WorkerNetAddress[] owners = new WorkerNetAddress[size];
+      int i = 0;
+      for (WorkerNetAddress member : members) {
+        // The virtual nodes only depend on the address of the worker, so every client places
+        // them at the same positions.
+        String id = member.getHost() + ":" + member.getRpcPort();
+        for (int node = 0; node < virtualNodes; node++) {
+          positions[i] = HASH_FUNCTION.newHasher()
+              .putString(id, StandardCharsets.UTF_8).putInt(node).hash().asLong();
+          owners[i] = member;
+          i++;
+        }
+      }
+      // Sort the owners along with their positions.
+      Integer[] order = new Integer[size];
+      for (int j = 0; j < size; j++) {
+        order[j] = j;
+      }
+      Arrays.sort(order, (a, b) -> Long.compare(positions[a], positions[b]));
+      mPositions = new long[size];
+      mOwners = new WorkerNetAddress[size];
+      for (int j = 0; j < size; j++) {
+        mPositions[j] = positions[order[j]];
+        mOwners[j] = owners[order[j]];
+      }
+    }
+
+    /**
+     * @param position a position on the ring
+     * @return the index of the first virtual node at or after the position
+     */
+    private int find(long position) {
+      int index = Arrays.binarySearch(mPositions, position);
+      return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * @param index the index of a virtual node, wrapping around the ring
+     * @return the owner of the virtual node
+     */
+    private WorkerNetAddress getOwner(int index) {
+      return mOwners[index % mOwners.length];
+    }
+
+    private int size() {
+      return mOwners.length;
+    }
+  }
+}
@@ -13,9 +13,13 @@ package alluxio.client.block.stream;
 
 import alluxio.client.BoundedStream;
 import alluxio.client.Cancelable;
+import alluxio.client.WriteType;
 import alluxio.client.file.FileSystemContext;
 import alluxio.client.file.options.OutStreamOptions;
+import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
 import alluxio.exception.PreconditionMessage;
+import alluxio.grpc.RequestType;
 import alluxio.wire.WorkerNetAddress;
 
 import com.google.common.base.Preconditions;
@@ -28,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -96,7 +101,10 @@ public class BlockOutStream extends OutputStream implements BoundedStream, Cance
   }
 
   /**
-   * Creates a new remote block output stream.
+   * Creates a new remote block output stream. When
+   * {@link PropertyKey#USER_FILE_REPLICATION_PIPELINE_ENABLED} is set, the block is only sent to
+   * the first worker, which forwards it to the other workers through a pipeline. Otherwise the
+   * block is sent to every worker.
    *
    * @param context the file system context
    * @param blockId the block id
@@ -108,6 +116,20 @@ public class BlockOutStream extends OutputStream implements BoundedStream, Cance
   public static BlockOutStream createReplicatedBlockOutStream(FileSystemContext context,
       long blockId, long blockSize, java.util.List<WorkerNetAddress> workerNetAddresses,
       OutStreamOptions options) throws IOException {
+    AlluxioConfiguration conf = context.getClusterConf();
+    // The workers do not forward the blocks written to the UFS fallback endpoint.
+    boolean ufsFallback = options.getWriteType() == WriteType.ASYNC_THROUGH
+        && conf.getBoolean(PropertyKey.USER_FILE_UFS_TIER_ENABLED);
+    if (workerNetAddresses.size() > 1 && !ufsFallback
+        && conf.getBoolean(PropertyKey.USER_FILE_REPLICATION_PIPELINE_ENABLED)) {
+      LOG.debug("Creating pipelined gRPC output stream for block {} @ {}", blockId,
+          workerNetAddresses);
+      DataWriter dataWriter = GrpcDataWriter.create(context, workerNetAddresses.get(0), blockId,
+          blockSize, RequestType.ALLUXIO_BLOCK, options,
+          workerNetAddresses.subList(1, workerNetAddresses.size()));
+      return new BlockOutStream(Collections.singletonList(dataWriter), blockSize,
+          workerNetAddresses);
+    }
     List<DataWriter> dataWriters = new ArrayList<>();
     for (WorkerNetAddress address: workerNetAddresses) {
       DataWriter dataWriter =
@@ -19,6 +19,7 @@ import alluxio.conf.PropertyKey;
 import alluxio.exception.status.UnavailableException;
 import alluxio.grpc.Chunk;
 import alluxio.grpc.DataMessage;
+import alluxio.grpc.GrpcUtils;
 import alluxio.grpc.RequestType;
 import alluxio.grpc.WriteRequest;
 import alluxio.grpc.WriteRequestCommand;
@@ -37,6 +38,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -92,12 +95,53 @@ public final class GrpcDataWriter implements DataWriter {
   public static GrpcDataWriter create(FileSystemContext context, WorkerNetAddress address,
       long id, long length, RequestType type, OutStreamOptions options)
       throws IOException {
+    return create(context, address, id, length, type, options, Collections.emptyList());
+  }
+
+  /**
+   * Creates a writer of a block whose replicas are written through a pipeline of workers. The
+   * data server forwards the block to the first worker of the pipeline, which forwards it to the
+   * next one, and so on.
+   *
+   * @param context the file system context
+   * @param address the data server address
+   * @param id the block or UFS ID
+   * @param length the length of the block or file to write, set to Long.MAX_VALUE if unknown
+   * @param type type of the write request
+   * @param options the options of the output stream
+   * @param pipeline the workers the data server forwards the block to
+   * @return an instance of {@link GrpcDataWriter}
+   */
+  public static GrpcDataWriter create(FileSystemContext context, WorkerNetAddress address,
+      long id, long length, RequestType type, OutStreamOptions options,
+      List<WorkerNetAddress> pipeline) throws IOException {
+    WriteRequestCommand.Builder builder = createCommand(context.getClusterConf(), id, type,
+        options);
+    for (WorkerNetAddress worker : pipeline) {
+      builder.addPipeline(GrpcUtils.toProto(worker));
+    }
+    return create(context, address, length, builder.buildPartial());
+  }
+
+  /**
+   * Creates a writer which sends the given write request command. This is used by the workers
+   * to forward a block to the next worker of a pipeline. Each worker of a pipeline completes its
+   * write only after the next one completes, so the close timeout is scaled by the number of
+   * workers the block is forwarded to.
+   *
+   * @param context the file system context
+   * @param address the data server address
+   * @param length the length of the block or file to write, set to Long.MAX_VALUE if unknown
+   * @param command the write request command
+   * @return an instance of {@link GrpcDataWriter}
+   */
+  public static GrpcDataWriter create(FileSystemContext context, WorkerNetAddress address,
+      long length, WriteRequestCommand command) throws IOException {
     long chunkSize = context.getClusterConf().getBytes(
         PropertyKey.USER_NETWORK_WRITER_CHUNK_SIZE_BYTES);
     BlockWorkerClient grpcClient = context.acquireBlockWorkerClient(address);
     try {
-      return new GrpcDataWriter(context, address, id, length, chunkSize, type, options,
-          grpcClient);
+      return new GrpcDataWriter(context, address, length, chunkSize, command, grpcClient);
     } catch (Exception e) {
       context.releaseBlockWorkerClient(address, grpcClient);
       throw e;
@@ -105,29 +149,14 @@ public final class GrpcDataWriter implements DataWriter {
   }
 
   /**
-   * Creates an instance of {@link GrpcDataWriter}.
-   *
-   * @param context the file system context
-   * @param address the data server address
+   * @param conf Alluxio configuration
    * @param id the block or UFS file Id
-   * @param length the length of the block or file to write, set to Long.MAX_VALUE if unknown
-   * @param chunkSize the chunk size
    * @param type type of the write request
    * @param options details of the write request which are constant for all requests
-   * @param client the block worker client
+   * @return the builder of the write request command
    */
-  private GrpcDataWriter(FileSystemContext context, final WorkerNetAddress address, long id,
-      long length, long chunkSize, RequestType type, OutStreamOptions options,
-      BlockWorkerClient client) throws IOException {
-    mContext = context;
-    mAddress = address;
-    mLength = length;
-    AlluxioConfiguration conf = context.getClusterConf();
-    mDataTimeoutMs = conf.getMs(PropertyKey.USER_NETWORK_DATA_TIMEOUT_MS);
-    mWriterBufferSizeMessages = conf.getInt(PropertyKey.USER_NETWORK_WRITER_BUFFER_SIZE_MESSAGES);
-    mWriterCloseTimeoutMs = conf.getMs(PropertyKey.USER_NETWORK_WRITER_CLOSE_TIMEOUT_MS);
-    mWriterFlushTimeoutMs = conf.getMs(PropertyKey.USER_NETWORK_WRITER_FLUSH_TIMEOUT);
-
+  private static WriteRequestCommand.Builder createCommand(AlluxioConfiguration conf, long id,
+      RequestType type, OutStreamOptions options) {
     WriteRequestCommand.Builder builder =
         WriteRequestCommand.newBuilder().setId(id).setTier(options.getWriteTier()).setType(type)
             .setMediumType(options.getMediumType());
@@ -157,7 +186,31 @@ public final class GrpcDataWriter implements DataWriter {
     }
     // check if we need to pin block on create
     builder.setPinOnCreate(options.getWriteType() == WriteType.ASYNC_THROUGH);
-    mPartialRequest = builder.buildPartial();
+    return builder;
+  }
+
+  /**
+   * Creates an instance of {@link GrpcDataWriter}.
+   *
+   * @param context the file system context
+   * @param address the data server address
+   * @param length the length of the block or file to write, set to Long.MAX_VALUE if unknown
+   * @param chunkSize the chunk size
+   * @param command the write request command, which is constant for all requests
+   * @param client the block worker client
+   */
+  private GrpcDataWriter(FileSystemContext context, final WorkerNetAddress address, long length,
+      long chunkSize, WriteRequestCommand command, BlockWorkerClient client) throws IOException {
+    mContext = context;
+    mAddress = address;
+    mLength = length;
+    AlluxioConfiguration conf = context.getClusterConf();
+    mDataTimeoutMs = conf.getMs(PropertyKey.USER_NETWORK_DATA_TIMEOUT_MS);
+    mWriterBufferSizeMessages = conf.getInt(PropertyKey.USER_NETWORK_WRITER_BUFFER_SIZE_MESSAGES);
+    mWriterCloseTimeoutMs = conf.getMs(PropertyKey.USER_NETWORK_WRITER_CLOSE_TIMEOUT_MS)
+        * (1 + command.getPipelineCount());
+    mWriterFlushTimeoutMs = conf.getMs(PropertyKey.USER_NETWORK_WRITER_FLUSH_TIMEOUT);
+    mPartialRequest = command;
     mChunkSize = chunkSize;
     mClient = client;
     mMarshaller = new WriteRequestMarshaller();
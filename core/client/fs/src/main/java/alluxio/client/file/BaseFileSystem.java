@@ -18,6 +18,8 @@ import alluxio.AlluxioURI;
 import alluxio.Constants;
 import alluxio.client.block.AlluxioBlockStore;
 import alluxio.client.block.BlockWorkerInfo;
+import alluxio.client.file.cache.LocalCacheFileInStream;
+import alluxio.client.file.cache.LocalCacheManager;
 import alluxio.client.file.options.InStreamOptions;
 import alluxio.client.file.options.OutStreamOptions;
 import alluxio.client.file.FileSystemContextReinitializer.ReinitBlockerResource;
@@ -422,6 +424,10 @@ public class BaseFileSystem implements FileSystem {
       OpenFilePOptions mergedOptions = FileSystemOptions.openFileDefaults(conf)
           .toBuilder().mergeFrom(options).build();
       InStreamOptions inStreamOptions = new InStreamOptions(status, mergedOptions, conf);
+      if (conf.getBoolean(PropertyKey.USER_CLIENT_CACHE_ENABLED)) {
+        return new LocalCacheFileInStream(status, inStreamOptions, mFsContext,
+            LocalCacheManager.Factory.get(conf));
+      }
       return new FileInStream(status, inStreamOptions, mFsContext);
     });
   }
@@ -15,8 +15,10 @@ import alluxio.AlluxioURI;
 import alluxio.Seekable;
 import alluxio.annotation.PublicApi;
 import alluxio.client.BoundedStream;
+import alluxio.client.FileRange;
 import alluxio.client.PositionedReadable;
 import alluxio.client.ReadType;
+import alluxio.client.VectoredReadable;
 import alluxio.client.block.AlluxioBlockStore;
 import alluxio.client.block.stream.BlockInStream;
 import alluxio.client.block.stream.BlockWorkerClient;
@@ -29,6 +31,7 @@ import alluxio.exception.status.UnavailableException;
 import alluxio.grpc.AsyncCacheRequest;
 import alluxio.retry.CountingRetry;
 import alluxio.util.CommonUtils;
+import alluxio.util.ThreadFactoryUtils;
 import alluxio.wire.WorkerNetAddress;
 
 import com.google.common.base.Preconditions;
@@ -36,12 +39,26 @@ import com.google.common.io.Closer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -67,15 +84,22 @@ import javax.annotation.concurrent.NotThreadSafe;
 @PublicApi
 @NotThreadSafe
 public class FileInStream extends InputStream implements BoundedStream, PositionedReadable,
-    Seekable {
+    Seekable, VectoredReadable {
   private static final Logger LOG = LoggerFactory.getLogger(FileInStream.class);
 
+  /** The executor for vectored reads, shared by all streams and created on first use. */
+  @GuardedBy("FileInStream.class")
+  private static ExecutorService sVectoredReadExecutor;
+
   private final int mBlockWorkerClientReadRetry;
   private final URIStatus mStatus;
   private final InStreamOptions mOptions;
   private final AlluxioBlockStore mBlockStore;
   private final FileSystemContext mContext;
   private final boolean mPassiveCachingEnabled;
+  private final long mVectoredReadMergeGap;
+  private final long mVectoredReadMaxMergedSize;
+  private final ExecutorService mVectoredReadExecutor;
 
   /* Convenience values derived from mStatus, use these instead of querying mStatus. */
   /** Length of the file in bytes. */
@@ -98,6 +122,9 @@ public class FileInStream extends InputStream implements BoundedStream, Position
   /** A map of worker addresses to the most recent epoch time when client fails to read from it. */
   private Map<WorkerNetAddress, Long> mFailedWorkers = new HashMap<>();
 
+  /** The vectored reads which have not completed yet. */
+  private final Set<CompletableFuture<Void>> mVectoredReads = ConcurrentHashMap.newKeySet();
+
   private Closer mCloser;
 
   protected FileInStream(URIStatus status, InStreamOptions options, FileSystemContext context)
@@ -112,6 +139,10 @@ public class FileInStream extends InputStream implements BoundedStream, Position
       AlluxioConfiguration conf = mContext.getPathConf(new AlluxioURI(status.getPath()));
       mPassiveCachingEnabled = conf.getBoolean(PropertyKey.USER_FILE_PASSIVE_CACHE_ENABLED);
       mBlockWorkerClientReadRetry = conf.getInt(PropertyKey.USER_BLOCK_WORKER_CLIENT_READ_RETRY);
+      mVectoredReadMergeGap = conf.getBytes(PropertyKey.USER_FILE_VECTORED_READ_MERGE_GAP);
+      mVectoredReadMaxMergedSize =
+          conf.getBytes(PropertyKey.USER_FILE_VECTORED_READ_MAX_MERGED_SIZE);
+      mVectoredReadExecutor = getVectoredReadExecutor(conf);
       mStatus = status;
       mOptions = options;
       mBlockStore = AlluxioBlockStore.create(mContext);
@@ -215,6 +246,15 @@ public class FileInStream extends InputStream implements BoundedStream, Position
 
   @Override
   public void close() throws IOException {
+    // Waits for the vectored reads, which use the file system context without holding a
+    // reinitialization blocker of their own.
+    for (CompletableFuture<Void> read : mVectoredReads) {
+      try {
+        read.join();
+      } catch (Exception e) {
+        // The failure has been reported through the futures of the affected ranges.
+      }
+    }
     closeBlockInStream(mBlockInStream);
     closeBlockInStream(mCachedPositionedReadStream);
     mCloser.close();
@@ -278,6 +318,184 @@ public class FileInStream extends InputStream implements BoundedStream, Position
     return lenCopy - len;
   }
 
+  /* Vectored Readable methods */
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    List<CompletableFuture<ByteBuffer>> results = new ArrayList<>(ranges.size());
+    List<RangePiece> pieces = new ArrayList<>();
+    for (FileRange range : ranges) {
+      CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+      results.add(result);
+      if (range.getOffset() < 0 || range.getLength() < 0) {
+        result.completeExceptionally(new IllegalArgumentException("Invalid range " + range));
+      } else if (range.getOffset() + range.getLength() > mLength) {
+        result.completeExceptionally(new EOFException(String.format(
+            "Range %s extends past the end of file %s of %d bytes", range, mStatus.getPath(),
+            mLength)));
+      } else if (range.getLength() == 0) {
+        result.complete(ByteBuffer.allocate(0));
+      } else {
+        // Splits the range at block boundaries, since each block is read from its own stream.
+        RangeResult rangeResult = new RangeResult(range, result);
+        long pos = range.getOffset();
+        long end = range.getOffset() + range.getLength();
+        while (pos < end) {
+          long blockEnd = (pos / mBlockSize + 1) * mBlockSize;
+          int length = (int) (Math.min(end, blockEnd) - pos);
+          pieces.add(new RangePiece(pos, length, rangeResult,
+              (int) (pos - range.getOffset())));
+          rangeResult.mPendingPieces.incrementAndGet();
+          pos += length;
+        }
+      }
+    }
+    pieces.sort(Comparator.comparingLong(piece -> piece.mPos));
+    int start = 0;
+    while (start < pieces.size()) {
+      // Coalesces the following pieces within the same block which are close enough.
+      long blockIndex = pieces.get(start).mPos / mBlockSize;
+      long mergedStart = pieces.get(start).mPos;
+      long mergedEnd = mergedStart + pieces.get(start).mLength;
+      int end = start + 1;
+      while (end < pieces.size()) {
+        RangePiece next = pieces.get(end);
+        long nextEnd = Math.max(mergedEnd, next.mPos + next.mLength);
+        if (next.mPos / mBlockSize != blockIndex || next.mPos - mergedEnd > mVectoredReadMergeGap
+            || nextEnd - mergedStart > mVectoredReadMaxMergedSize) {
+          break;
+        }
+        mergedEnd = nextEnd;
+        end++;
+      }
+      List<RangePiece> merged = new ArrayList<>(pieces.subList(start, end));
+      long blockId = mStatus.getBlockIds().get(Math.toIntExact(blockIndex));
+      Map<WorkerNetAddress, Long> failedWorkers = new HashMap<>(mFailedWorkers);
+      long readStart = mergedStart;
+      int readLength = (int) (mergedEnd - mergedStart);
+      CompletableFuture<Void> read = CompletableFuture.runAsync(() -> {
+        try {
+          byte[] data = new byte[readLength];
+          readBlockRange(blockId, readStart % mBlockSize, data, failedWorkers);
+          for (RangePiece piece : merged) {
+            piece.complete(data, (int) (piece.mPos - readStart));
+          }
+        } catch (Throwable t) {
+          for (RangePiece piece : merged) {
+            piece.mRange.mResult.completeExceptionally(t);
+          }
+        }
+      }, mVectoredReadExecutor);
+      mVectoredReads.add(read);
+      read.whenComplete((r, t) -> mVectoredReads.remove(read));
+      start = end;
+    }
+    return results;
+  }
+
+  /**
+   * Reads a range of a block from a new block stream, retrying other workers on failures.
+   *
+   * @param blockId the block id
+   * @param offset the offset within the block
+   * @param data the buffer to read into, which is filled completely
+   * @param failedWorkers the workers which failed recently, updated by this method
+   */
+  private void readBlockRange(long blockId, long offset, byte[] data,
+      Map<WorkerNetAddress, Long> failedWorkers) throws IOException {
+    CountingRetry retry = new CountingRetry(mBlockWorkerClientReadRetry);
+    IOException lastException = null;
+    while (retry.attempt()) {
+      BlockInStream stream = null;
+      try {
+        stream = mBlockStore.getInStream(blockId, mOptions, failedWorkers);
+        int bytesRead = 0;
+        while (bytesRead < data.length) {
+          int read =
+              stream.positionedRead(offset + bytesRead, data, bytesRead, data.length - bytesRead);
+          if (read <= 0) {
+            throw new EOFException(String.format("Unexpected end of block %d at offset %d",
+                blockId, offset + bytesRead));
+          }
+          bytesRead += read;
+        }
+        return;
+      } catch (UnavailableException | DeadlineExceededException | ConnectException e) {
+        lastException = e;
+        if (stream != null) {
+          LOG.warn("Failed to read block {} from worker {}, will retry: {}", blockId,
+              stream.getAddress(), e.getMessage());
+          failedWorkers.put(stream.getAddress(), System.currentTimeMillis());
+        }
+      } finally {
+        if (stream != null) {
+          stream.close();
+        }
+      }
+    }
+    if (lastException == null) {
+      throw new UnavailableException(String.format(
+          "Failed to read block %d at offset %d: no read attempts are allowed", blockId, offset));
+    }
+    throw lastException;
+  }
+
+  private static synchronized ExecutorService getVectoredReadExecutor(AlluxioConfiguration conf) {
+    if (sVectoredReadExecutor == null) {
+      int threads = conf.getInt(PropertyKey.USER_FILE_VECTORED_READ_THREADS);
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(), ThreadFactoryUtils.build("vectored-read-%d", true));
+      executor.allowCoreThreadTimeOut(true);
+      sVectoredReadExecutor = executor;
+    }
+    return sVectoredReadExecutor;
+  }
+
+  /**
+   * The content of a requested range, which is assembled from the pieces of the range within each
+   * block it spans.
+   */
+  private static final class RangeResult {
+    private final CompletableFuture<ByteBuffer> mResult;
+    private final byte[] mData;
+    private final AtomicInteger mPendingPieces = new AtomicInteger();
+
+    RangeResult(FileRange range, CompletableFuture<ByteBuffer> result) {
+      mResult = result;
+      mData = new byte[range.getLength()];
+    }
+  }
+
+  /**
+   * The part of a requested range within a single block.
+   */
+  private static final class RangePiece {
+    private final long mPos;
+    private final int mLength;
+    private final RangeResult mRange;
+    private final int mRangeOffset;
+
+    RangePiece(long pos, int length, RangeResult range, int rangeOffset) {
+      mPos = pos;
+      mLength = length;
+      mRange = range;
+      mRangeOffset = rangeOffset;
+    }
+
+    /**
+     * Copies the piece out of the data read for it, and completes the range once all of its
+     * pieces have been read.
+     *
+     * @param data the data read for the piece
+     * @param dataOffset the offset of the piece within the data
+     */
+    void complete(byte[] data, int dataOffset) {
+      System.arraycopy(data, dataOffset, mRange.mData, mRangeOffset, mLength);
+      if (mRange.mPendingPieces.decrementAndGet() == 0) {
+        mRange.mResult.complete(ByteBuffer.wrap(mRange.mData));
+      }
+    }
+  }
+
   /* Seekable methods */
   @Override
   public long getPos() {
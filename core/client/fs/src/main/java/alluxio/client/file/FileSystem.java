@@ -146,6 +146,9 @@ public interface FileSystem extends Closeable {
           LOG.debug("{}={} ({})", key.getName(), value, source);
         }
       }
+      if (context.getClusterConf().getBoolean(PropertyKey.USER_METADATA_CACHE_ENABLED)) {
+        return new MetadataCachingBaseFileSystem(context, cachingEnabled);
+      }
       return BaseFileSystem.create(context, cachingEnabled);
     }
   }
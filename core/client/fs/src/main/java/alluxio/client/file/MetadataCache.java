@@ -0,0 +1,308 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import alluxio.AlluxioURI;
+import alluxio.metrics.ClientMetrics;
+import alluxio.metrics.MetricsSystem;
+
+import com.codahale.metrics.Counter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A size bounded cache of the statuses and the listings of Alluxio paths, which lets a client
+ * answer repeated metadata calls without reaching the master.
+ *
+ * The expiration of the entries is given on every lookup rather than when they are cached, so
+ * that it can be configured per path. An expired entry is not returned, and is replaced when the
+ * caller caches the status it fetched from the master instead. When the new status differs from
+ * the expired one, the entry was stale for some time, which is counted by the
+ * {@link ClientMetrics#METADATA_CACHE_STALE_READS} metric.
+ *
+ * Every invalidation starts a new generation of the cache. A caller which fetches a status from
+ * the master passes the generation it read before the fetch when caching the status, and the
+ * status is dropped if an invalidation happened in between, since it may predate the
+ * modification which caused the invalidation.
+ */
+@ThreadSafe
+public final class MetadataCache {
+  private static final Counter HITS = MetricsSystem.counter(ClientMetrics.METADATA_CACHE_HITS);
+  private static final Counter MISSES =
+      MetricsSystem.counter(ClientMetrics.METADATA_CACHE_MISSES);
+  private static final Counter STALE_READS =
+      MetricsSystem.counter(ClientMetrics.METADATA_CACHE_STALE_READS);
+
+  private final Clock mClock;
+  private final Cache<String, Entry<URIStatus>> mStatuses;
+  /** Listings are weighed by their number of children. */
+  private final Cache<String, Entry<List<URIStatus>>> mListings;
+  /** Held in read mode to cache entries, and in write mode to invalidate entries. */
+  private final ReadWriteLock mLock = new ReentrantReadWriteLock();
+  /** The number of invalidations, guarded by {@link #mLock}. */
+  private long mGeneration;
+
+  /**
+   * @param maxSize the maximum number of statuses held by the cache, for each of the single
+   *        path statuses and the listings
+   */
+  public MetadataCache(long maxSize) {
+    this(maxSize, Clock.systemUTC());
+  }
+
+  /**
+   * @param maxSize the maximum number of statuses held by the cache, for each of the single
+   *        path statuses and the listings
+   * @param clock the clock used to expire entries
+   */
+  MetadataCache(long maxSize, Clock clock) {
+    mClock = clock;
+    mStatuses = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    mListings = CacheBuilder.newBuilder().maximumWeight(maxSize)
+        .<String, Entry<List<URIStatus>>>weigher((path, entry) -> entry.mValue.size() + 1)
+        .build();
+  }
+
+  /**
+   * @param path the path
+   * @param expirationMs the time after which the status of the path expires
+   * @return the cached status of the path, or null if it is not cached or expired
+   */
+  @Nullable
+  public URIStatus getStatus(AlluxioURI path, long expirationMs) {
+    return lookup(mStatuses, path.getPath(), expirationMs);
+  }
+
+  /**
+   * @return the current generation of the cache, to read before fetching statuses to cache
+   */
+  public long getGeneration() {
+    mLock.readLock().lock();
+    try {
+      return mGeneration;
+    } finally {
+      mLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Caches the status of a path, in the current generation.
+   *
+   * @param path the path
+   * @param status the status of the path
+   */
+  public void putStatus(AlluxioURI path, URIStatus status) {
+    putStatus(path, status, getGeneration());
+  }
+
+  /**
+   * Caches the status of a path. The status of an incomplete file is not cached, since it is
+   * about to change.
+   *
+   * @param path the path
+   * @param status the status of the path
+   * @param generation the generation of the cache before the status was fetched
+   */
+  public void putStatus(AlluxioURI path, URIStatus status, long generation) {
+    if (!status.isFolder() && !status.isCompleted()) {
+      return;
+    }
+    mLock.readLock().lock();
+    try {
+      if (generation != mGeneration) {
+        return;
+      }
+      Entry<URIStatus> previous = mStatuses.getIfPresent(path.getPath());
+      if (previous != null && !isSame(previous.mValue, status)) {
+        STALE_READS.inc();
+      }
+      mStatuses.put(path.getPath(), new Entry<>(status, mClock.millis()));
+    } finally {
+      mLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @param path the path of a directory
+   * @param expirationMs the time after which the listing of the directory expires
+   * @return a copy of the cached statuses of the children of the directory, which the caller may
+   *         modify, or null if they are not cached or expired
+   */
+  @Nullable
+  public List<URIStatus> listStatus(AlluxioURI path, long expirationMs) {
+    List<URIStatus> statuses = lookup(mListings, path.getPath(), expirationMs);
+    return statuses == null ? null : new ArrayList<>(statuses);
+  }
+
+  /**
+   * Caches the listing of a directory, in the current generation.
+   *
+   * @param path the path of the directory
+   * @param statuses the statuses of the children of the directory
+   */
+  public void putListing(AlluxioURI path, List<URIStatus> statuses) {
+    putListing(path, statuses, getGeneration());
+  }
+
+  /**
+   * Caches a copy of the listing of a directory, along with the statuses of its children. A
+   * listing which holds an incomplete file is not cached.
+   *
+   * @param path the path of the directory
+   * @param statuses the statuses of the children of the directory
+   * @param generation the generation of the cache before the listing was fetched
+   */
+  public void putListing(AlluxioURI path, List<URIStatus> statuses, long generation) {
+    for (URIStatus status : statuses) {
+      if (!status.isFolder() && !status.isCompleted()) {
+        return;
+      }
+    }
+    List<URIStatus> listing = Collections.unmodifiableList(new ArrayList<>(statuses));
+    mLock.readLock().lock();
+    try {
+      if (generation != mGeneration) {
+        return;
+      }
+      Entry<List<URIStatus>> previous = mListings.getIfPresent(path.getPath());
+      if (previous != null && !isSame(previous.mValue, listing)) {
+        STALE_READS.inc();
+      }
+      long now = mClock.millis();
+      mListings.put(path.getPath(), new Entry<>(listing, now));
+      for (URIStatus status : listing) {
+        mStatuses.put(status.getPath(), new Entry<>(status, now));
+      }
+    } finally {
+      mLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Invalidates the status and the listing of a path, along with those of its ancestors, whose
+   * listings or modification times may be changed by a modification of the path.
+   *
+   * @param path the path
+   */
+  public void invalidate(AlluxioURI path) {
+    mLock.writeLock().lock();
+    try {
+      mGeneration++;
+      invalidateAncestors(path);
+    } finally {
+      mLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Invalidates the entries of a path and of all of its descendants, along with those of its
+   * ancestors. This goes through all the entries of the cache.
+   *
+   * @param path the path
+   */
+  public void invalidatePrefix(AlluxioURI path) {
+    String prefix = path.isRoot() ? AlluxioURI.SEPARATOR : path.getPath() + AlluxioURI.SEPARATOR;
+    mLock.writeLock().lock();
+    try {
+      mGeneration++;
+      invalidateAncestors(path);
+      mStatuses.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+      mListings.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    } finally {
+      mLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Invalidates all the entries of the cache.
+   */
+  public void invalidateAll() {
+    mLock.writeLock().lock();
+    try {
+      mGeneration++;
+      mStatuses.invalidateAll();
+      mListings.invalidateAll();
+    } finally {
+      mLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return the number of statuses and listings in the cache
+   */
+  public long size() {
+    return mStatuses.size() + mListings.size();
+  }
+
+  private void invalidateAncestors(AlluxioURI path) {
+    for (AlluxioURI uri = path; uri != null; uri = uri.getParent()) {
+      mStatuses.invalidate(uri.getPath());
+      mListings.invalidate(uri.getPath());
+    }
+  }
+
+  @Nullable
+  private <T> T lookup(Cache<String, Entry<T>> cache, String path, long expirationMs) {
+    Entry<T> entry = cache.getIfPresent(path);
+    if (entry == null || mClock.millis() - entry.mCachedTimeMs > expirationMs) {
+      MISSES.inc();
+      return null;
+    }
+    HITS.inc();
+    return entry.mValue;
+  }
+
+  /**
+   * @return whether the statuses are the same, disregarding changes which do not modify the
+   *         file or directory, such as access times
+   */
+  private static boolean isSame(URIStatus a, URIStatus b) {
+    return a.getLastModificationTimeMs() == b.getLastModificationTimeMs()
+        && a.getLength() == b.getLength()
+        && a.isCompleted() == b.isCompleted();
+  }
+
+  private static boolean isSame(List<URIStatus> a, List<URIStatus> b) {
+    if (a.size() != b.size()) {
+      return false;
+    }
+    for (int i = 0; i < a.size(); i++) {
+      if (!a.get(i).getPath().equals(b.get(i).getPath()) || !isSame(a.get(i), b.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param <T> the type of the cached value
+   */
+  private static final class Entry<T> {
+    private final T mValue;
+    private final long mCachedTimeMs;
+
+    private Entry(T value, long cachedTimeMs) {
+      mValue = value;
+      mCachedTimeMs = cachedTimeMs;
+    }
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import alluxio.AlluxioURI;
+import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.DirectoryNotEmptyException;
+import alluxio.exception.FileAlreadyExistsException;
+import alluxio.exception.FileDoesNotExistException;
+import alluxio.exception.InvalidPathException;
+import alluxio.grpc.CreateDirectoryPOptions;
+import alluxio.grpc.CreateFilePOptions;
+import alluxio.grpc.DeletePOptions;
+import alluxio.grpc.ExistsPOptions;
+import alluxio.grpc.FileSystemMasterCommonPOptions;
+import alluxio.grpc.FreePOptions;
+import alluxio.grpc.GetStatusPOptions;
+import alluxio.grpc.GrpcUtils;
+import alluxio.grpc.ListStatusPOptions;
+import alluxio.grpc.MountPOptions;
+import alluxio.grpc.RenamePOptions;
+import alluxio.grpc.ScheduleAsyncPersistencePOptions;
+import alluxio.grpc.SetAclAction;
+import alluxio.grpc.SetAclPOptions;
+import alluxio.grpc.SetAttributePOptions;
+import alluxio.grpc.UnmountPOptions;
+import alluxio.security.authorization.AclEntry;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link FileSystem} which caches the results of getStatus, exists and listStatus in a
+ * {@link MetadataCache}, for the paths where {@link PropertyKey#USER_METADATA_CACHE_ENABLED} is
+ * set.
+ *
+ * Every modification made through this file system invalidates the cached entries of the
+ * modified paths, whether it succeeds or not, and the statuses fetched concurrently with a
+ * modification are not cached. The modifications made by other clients are only
+ * seen once the entries expire. Calls which ask the master to sync the metadata of a path with
+ * the under storage every time, or to check the access to a path, bypass the cache.
+ */
+@ThreadSafe
+public class MetadataCachingBaseFileSystem extends BaseFileSystem {
+  private final MetadataCache mMetadataCache;
+
+  /**
+   * @param context the {@link FileSystemContext} to use for client operations
+   * @param cachingEnabled whether or not this FileSystem should remove itself from the
+   *                       {@link Factory} cache when closed
+   */
+  public MetadataCachingBaseFileSystem(FileSystemContext context, boolean cachingEnabled) {
+    super(context, cachingEnabled);
+    mMetadataCache = new MetadataCache(
+        context.getClusterConf().getInt(PropertyKey.USER_METADATA_CACHE_MAX_SIZE));
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    mMetadataCache.invalidateAll();
+    super.close();
+  }
+
+  @Override
+  public URIStatus getStatus(AlluxioURI path, GetStatusPOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    AlluxioConfiguration conf = mFsContext.getPathConf(path);
+    if (options.hasAccessMode() || !isCacheable(conf, options.getCommonOptions())) {
+      return super.getStatus(path, options);
+    }
+    long expirationMs = conf.getMs(PropertyKey.USER_METADATA_CACHE_EXPIRATION_TIME);
+    URIStatus status = mMetadataCache.getStatus(path, expirationMs);
+    if (status == null) {
+      long generation = mMetadataCache.getGeneration();
+      status = super.getStatus(path, options);
+      mMetadataCache.putStatus(path, status, generation);
+    }
+    return status;
+  }
+
+  @Override
+  public boolean exists(AlluxioURI path, ExistsPOptions options)
+      throws IOException, AlluxioException {
+    AlluxioConfiguration conf = mFsContext.getPathConf(path);
+    if (!isCacheable(conf, options.getCommonOptions())) {
+      return super.exists(path, options);
+    }
+    try {
+      getStatus(path, GrpcUtils.toGetStatusOptions(options));
+      return true;
+    } catch (FileDoesNotExistException | InvalidPathException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public List<URIStatus> listStatus(AlluxioURI path, ListStatusPOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    AlluxioConfiguration conf = mFsContext.getPathConf(path);
+    if (options.getRecursive() || !isCacheable(conf, options.getCommonOptions())) {
+      return super.listStatus(path, options);
+    }
+    long expirationMs = conf.getMs(PropertyKey.USER_METADATA_CACHE_EXPIRATION_TIME);
+    List<URIStatus> statuses = mMetadataCache.listStatus(path, expirationMs);
+    if (statuses == null) {
+      long generation = mMetadataCache.getGeneration();
+      statuses = super.listStatus(path, options);
+      mMetadataCache.putListing(path, statuses, generation);
+    }
+    return statuses;
+  }
+
+  @Override
+  public void createDirectory(AlluxioURI path, CreateDirectoryPOptions options)
+      throws FileAlreadyExistsException, InvalidPathException, IOException, AlluxioException {
+    try {
+      super.createDirectory(path, options);
+    } finally {
+      mMetadataCache.invalidate(path);
+    }
+  }
+
+  @Override
+  public FileOutStream createFile(AlluxioURI path, CreateFilePOptions options)
+      throws FileAlreadyExistsException, InvalidPathException, IOException, AlluxioException {
+    // The status of the file keeps changing until it is completed, so it is not cached until then.
+    try {
+      return super.createFile(path, options);
+    } finally {
+      mMetadataCache.invalidate(path);
+    }
+  }
+
+  @Override
+  public void delete(AlluxioURI path, DeletePOptions options)
+      throws DirectoryNotEmptyException, FileDoesNotExistException, IOException, AlluxioException {
+    try {
+      super.delete(path, options);
+    } finally {
+      mMetadataCache.invalidatePrefix(path);
+    }
+  }
+
+  @Override
+  public void free(AlluxioURI path, FreePOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    try {
+      super.free(path, options);
+    } finally {
+      invalidate(path, options.getRecursive());
+    }
+  }
+
+  @Override
+  public void mount(AlluxioURI alluxioPath, AlluxioURI ufsPath, MountPOptions options)
+      throws IOException, AlluxioException {
+    try {
+      super.mount(alluxioPath, ufsPath, options);
+    } finally {
+      mMetadataCache.invalidatePrefix(alluxioPath);
+    }
+  }
+
+  @Override
+  public void updateMount(AlluxioURI alluxioPath, MountPOptions options)
+      throws IOException, AlluxioException {
+    try {
+      super.updateMount(alluxioPath, options);
+    } finally {
+      mMetadataCache.invalidatePrefix(alluxioPath);
+    }
+  }
+
+  @Override
+  public void persist(AlluxioURI path, ScheduleAsyncPersistencePOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    try {
+      super.persist(path, options);
+    } finally {
+      mMetadataCache.invalidate(path);
+    }
+  }
+
+  @Override
+  public void rename(AlluxioURI src, AlluxioURI dst, RenamePOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    try {
+      super.rename(src, dst, options);
+    } finally {
+      mMetadataCache.invalidatePrefix(src);
+      mMetadataCache.invalidatePrefix(dst);
+    }
+  }
+
+  @Override
+  public void setAcl(AlluxioURI path, SetAclAction action, List<AclEntry> entries,
+      SetAclPOptions options) throws FileDoesNotExistException, IOException, AlluxioException {
+    try {
+      super.setAcl(path, action, entries, options);
+    } finally {
+      invalidate(path, options.getRecursive());
+    }
+  }
+
+  @Override
+  public void setAttribute(AlluxioURI path, SetAttributePOptions options)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    try {
+      super.setAttribute(path, options);
+    } finally {
+      invalidate(path, options.getRecursive());
+    }
+  }
+
+  @Override
+  public void unmount(AlluxioURI path, UnmountPOptions options)
+      throws IOException, AlluxioException {
+    try {
+      super.unmount(path, options);
+    } finally {
+      mMetadataCache.invalidatePrefix(path);
+    }
+  }
+
+  /**
+   * @return the metadata cache of this file system
+   */
+  MetadataCache getMetadataCache() {
+    return mMetadataCache;
+  }
+
+  private void invalidate(AlluxioURI path, boolean recursive) {
+    if (recursive) {
+      mMetadataCache.invalidatePrefix(path);
+    } else {
+      mMetadataCache.invalidate(path);
+    }
+  }
+
+  /**
+   * @param conf the configuration of the path
+   * @param options the common options of the call
+   * @return whether the result of the call can be served from the cache, which is not the case
+   *         when the cache is disabled for the path, or when the call asks the master to sync
+   *         the path with the under storage every time
+   */
+  private static boolean isCacheable(AlluxioConfiguration conf,
+      FileSystemMasterCommonPOptions options) {
+    if (!conf.getBoolean(PropertyKey.USER_METADATA_CACHE_ENABLED)) {
+      return false;
+    }
+    long syncIntervalMs = options.hasSyncIntervalMs() ? options.getSyncIntervalMs()
+        : conf.getMs(PropertyKey.USER_FILE_METADATA_SYNC_INTERVAL);
+    return syncIntervalMs != 0;
+  }
+}
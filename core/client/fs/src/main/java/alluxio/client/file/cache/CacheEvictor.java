@@ -0,0 +1,77 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.util.CommonUtils;
+
+import javax.annotation.Nullable;
+
+/**
+ * Interface for choosing which page to evict from the client page cache when it runs out of
+ * space. The cache manager reports every access to a page, and asks for a victim when it needs to
+ * make room for a new page.
+ *
+ * An evictor must have a constructor which takes an {@link AlluxioConfiguration}, and must be
+ * thread safe.
+ */
+public interface CacheEvictor {
+
+  /**
+   * The factory for the {@link CacheEvictor}.
+   */
+  class Factory {
+    private Factory() {} // prevent instantiation
+
+    /**
+     * Creates the evictor selected by {@link PropertyKey#USER_CLIENT_CACHE_EVICTOR_CLASS}.
+     *
+     * @param conf Alluxio configuration
+     * @return a new instance of {@link CacheEvictor}
+     */
+    public static CacheEvictor create(AlluxioConfiguration conf) {
+      Class<CacheEvictor> clazz = conf.getClass(PropertyKey.USER_CLIENT_CACHE_EVICTOR_CLASS);
+      return CommonUtils.createNewClassInstance(clazz, new Class[] {AlluxioConfiguration.class},
+          new Object[] {conf});
+    }
+  }
+
+  /**
+   * Records a read of a cached page.
+   *
+   * @param pageId the page id
+   */
+  void updateOnGet(PageId pageId);
+
+  /**
+   * Records that a page has been added to the cache.
+   *
+   * @param pageId the page id
+   */
+  void updateOnPut(PageId pageId);
+
+  /**
+   * Records that a page has been removed from the cache.
+   *
+   * @param pageId the page id
+   */
+  void updateOnDelete(PageId pageId);
+
+  /**
+   * Chooses a page to evict. The page remains tracked until {@link #updateOnDelete} is called.
+   *
+   * @return the page to evict, or null if the evictor does not track any page
+   */
+  @Nullable
+  PageId evict();
+}
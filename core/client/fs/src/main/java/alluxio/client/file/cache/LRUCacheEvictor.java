@@ -0,0 +1,64 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.conf.AlluxioConfiguration;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link CacheEvictor} which evicts the least recently used page.
+ */
+@ThreadSafe
+public final class LRUCacheEvictor implements CacheEvictor {
+  private static final int INITIAL_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+  private static final boolean ACCESS_ORDERED = true;
+
+  /** The tracked pages, ordered from the least to the most recently used. */
+  @GuardedBy("this")
+  private final Map<PageId, Boolean> mLRUCache =
+      new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, ACCESS_ORDERED);
+
+  /**
+   * @param conf Alluxio configuration
+   */
+  public LRUCacheEvictor(AlluxioConfiguration conf) {}
+
+  @Override
+  public synchronized void updateOnGet(PageId pageId) {
+    mLRUCache.put(pageId, Boolean.TRUE);
+  }
+
+  @Override
+  public synchronized void updateOnPut(PageId pageId) {
+    mLRUCache.put(pageId, Boolean.TRUE);
+  }
+
+  @Override
+  public synchronized void updateOnDelete(PageId pageId) {
+    mLRUCache.remove(pageId);
+  }
+
+  @Nullable
+  @Override
+  public synchronized PageId evict() {
+    Iterator<PageId> it = mLRUCache.keySet().iterator();
+    return it.hasNext() ? it.next() : null;
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.client.FileRange;
+import alluxio.client.file.FileInStream;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.file.URIStatus;
+import alluxio.client.file.options.InStreamOptions;
+import alluxio.exception.PreconditionMessage;
+import alluxio.metrics.ClientMetrics;
+import alluxio.metrics.MetricsSystem;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.Preconditions;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link FileInStream} which serves reads from the client page cache, and only reads the pages
+ * which are not cached from Alluxio. Pages read from Alluxio are added to the cache.
+ */
+@NotThreadSafe
+public final class LocalCacheFileInStream extends FileInStream {
+  private static final Counter BYTES_READ_CACHE =
+      MetricsSystem.counter(ClientMetrics.CACHE_BYTES_READ_CACHE);
+  private static final Counter BYTES_REQUESTED_EXTERNAL =
+      MetricsSystem.counter(ClientMetrics.CACHE_BYTES_REQUESTED_EXTERNAL);
+  private static final Counter BYTES_READ_EXTERNAL =
+      MetricsSystem.counter(ClientMetrics.CACHE_BYTES_READ_EXTERNAL);
+
+  static {
+    MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMetricName(ClientMetrics.CACHE_HIT_RATE),
+        () -> {
+          long hits = BYTES_READ_CACHE.getCount();
+          long total = hits + BYTES_REQUESTED_EXTERNAL.getCount();
+          return total == 0 ? 0.0 : (double) hits / total;
+        });
+  }
+
+  private final LocalCacheManager mCacheManager;
+  private final long mPageSize;
+  private final long mLength;
+  private final long mFileId;
+  private final String mFingerprint;
+  private final byte[] mSingleByte = new byte[1];
+
+  /** Current offset in the file. */
+  private long mPosition = 0;
+
+  /**
+   * @param status the file status
+   * @param options the options to read the file from Alluxio with
+   * @param context the file system context
+   * @param cacheManager the client page cache
+   */
+  public LocalCacheFileInStream(URIStatus status, InStreamOptions options,
+      FileSystemContext context, LocalCacheManager cacheManager) throws IOException {
+    super(status, options, context);
+    mCacheManager = cacheManager;
+    mPageSize = cacheManager.getPageSize();
+    mLength = status.getLength();
+    mFileId = status.getFileId();
+    mFingerprint = fingerprint(status);
+  }
+
+  @Override
+  public int read() throws IOException {
+    int bytesRead = read(mSingleByte, 0, 1);
+    return bytesRead == -1 ? -1 : mSingleByte[0] & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b) throws IOException {
+    return read(b, 0, b.length);
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkArgument(b != null, PreconditionMessage.ERR_READ_BUFFER_NULL);
+    Preconditions.checkArgument(off >= 0 && len >= 0 && len + off <= b.length,
+        PreconditionMessage.ERR_BUFFER_STATE.toString(), b.length, off, len);
+    if (len == 0) {
+      return 0;
+    }
+    int bytesRead = readInternal(mPosition, b, off, len);
+    if (bytesRead > 0) {
+      mPosition += bytesRead;
+    }
+    return bytesRead;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    if (n <= 0) {
+      return 0;
+    }
+    long toSkip = Math.min(n, mLength - mPosition);
+    mPosition += toSkip;
+    return toSkip;
+  }
+
+  @Override
+  public long remaining() {
+    return mLength - mPosition;
+  }
+
+  @Override
+  public int positionedRead(long pos, byte[] b, int off, int len) throws IOException {
+    if (pos < 0 || pos >= mLength) {
+      return -1;
+    }
+    return readInternal(pos, b, off, len);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * The ranges are served through the page cache one after another, so the returned futures are
+   * already complete.
+   */
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges) {
+    List<CompletableFuture<ByteBuffer>> results = new ArrayList<>(ranges.size());
+    for (FileRange range : ranges) {
+      CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+      results.add(result);
+      if (range.getOffset() < 0 || range.getLength() < 0) {
+        result.completeExceptionally(new IllegalArgumentException("Invalid range " + range));
+      } else if (range.getOffset() + range.getLength() > mLength) {
+        result.completeExceptionally(new EOFException(String.format(
+            "Range %s extends past the end of file %d of %d bytes", range, mFileId, mLength)));
+      } else {
+        byte[] data = new byte[range.getLength()];
+        try {
+          if (data.length > 0) {
+            readInternal(range.getOffset(), data, 0, data.length);
+          }
+          result.complete(ByteBuffer.wrap(data));
+        } catch (IOException e) {
+          result.completeExceptionally(e);
+        }
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public long getPos() {
+    return mPosition;
+  }
+
+  @Override
+  public void seek(long pos) {
+    Preconditions.checkArgument(pos >= 0, PreconditionMessage.ERR_SEEK_NEGATIVE.toString(), pos);
+    Preconditions.checkArgument(pos <= mLength,
+        PreconditionMessage.ERR_SEEK_PAST_END_OF_FILE.toString(), pos);
+    mPosition = pos;
+  }
+
+  /**
+   * Reads from the given position page by page, without changing the stream position.
+   *
+   * @return the number of bytes read, or -1 if the position is at the end of the file
+   */
+  private int readInternal(long pos, byte[] b, int off, int len) throws IOException {
+    if (pos >= mLength) {
+      return -1;
+    }
+    int totalLength = (int) Math.min(len, mLength - pos);
+    int bytesRead = 0;
+    while (bytesRead < totalLength) {
+      long currentPos = pos + bytesRead;
+      long pageIndex = currentPos / mPageSize;
+      int pageOffset = (int) (currentPos % mPageSize);
+      int length = (int) Math.min(mPageSize - pageOffset, totalLength - bytesRead);
+      PageId pageId = new PageId(mFileId, mFingerprint, pageIndex);
+      int cached = mCacheManager.get(pageId, pageOffset, length, b, off + bytesRead);
+      if (cached == length) {
+        BYTES_READ_CACHE.inc(length);
+      } else {
+        BYTES_REQUESTED_EXTERNAL.inc(length);
+        byte[] page = readExternalPage(pageIndex);
+        System.arraycopy(page, pageOffset, b, off + bytesRead, length);
+        mCacheManager.put(pageId, page);
+      }
+      bytesRead += length;
+    }
+    return bytesRead;
+  }
+
+  /**
+   * Reads a whole page from Alluxio. The last page of the file is shorter than the page size.
+   */
+  private byte[] readExternalPage(long pageIndex) throws IOException {
+    long pageStart = pageIndex * mPageSize;
+    byte[] page = new byte[(int) Math.min(mPageSize, mLength - pageStart)];
+    int bytesRead = 0;
+    while (bytesRead < page.length) {
+      int read = super.positionedRead(pageStart + bytesRead, page, bytesRead,
+          page.length - bytesRead);
+      if (read <= 0) {
+        throw new IOException(String.format("Unexpected end of file %d at offset %d of %d bytes",
+            mFileId, pageStart + bytesRead, mLength));
+      }
+      bytesRead += read;
+    }
+    BYTES_READ_EXTERNAL.inc(page.length);
+    return page;
+  }
+
+  /**
+   * Builds a fingerprint of the file content, so that pages cached for an earlier version of a
+   * file with the same id are never served.
+   */
+  private static String fingerprint(URIStatus status) {
+    String ufsFingerprint = status.getUfsFingerprint();
+    return status.getLength() + ":" + status.getLastModificationTimeMs() + ":"
+        + (ufsFingerprint == null ? "" : ufsFingerprint);
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.metrics.ClientMetrics;
+import alluxio.metrics.MetricsSystem;
+import alluxio.resource.LockResource;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A cache of fixed-size file pages on the client host, so that data which is read repeatedly does
+ * not have to be fetched from Alluxio workers every time. The pages are held in a
+ * {@link PageStore}, and the {@link CacheEvictor} chooses which pages to drop once the cache is
+ * full.
+ *
+ * Operations on a page are guarded by a lock striped over the page ids, which is always acquired
+ * before the lock on the cache metadata. At most one page lock is held at a time.
+ */
+@ThreadSafe
+public final class LocalCacheManager implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(LocalCacheManager.class);
+
+  private static final int LOCK_SIZE = 1024;
+  /** The maximum number of pages to evict to make room for a single new page. */
+  private static final int MAX_EVICTIONS_PER_PUT = 16;
+
+  private static final Counter PAGES_EVICTED =
+      MetricsSystem.counter(ClientMetrics.CACHE_PAGES_EVICTED);
+  private static final Counter ERRORS = MetricsSystem.counter(ClientMetrics.CACHE_ERRORS);
+
+  private final long mPageSize;
+  private final long mCacheSize;
+  private final PageStore mPageStore;
+  private final CacheEvictor mEvictor;
+  private final ReadWriteLock[] mPageLocks = new ReadWriteLock[LOCK_SIZE];
+
+  private final Lock mMetaLock = new ReentrantLock();
+  /** The sizes of the cached pages, including pages which are still being written. */
+  @GuardedBy("mMetaLock")
+  private final Map<PageId, Integer> mPages = new HashMap<>();
+  @GuardedBy("mMetaLock")
+  private long mBytes;
+
+  /**
+   * The factory for the {@link LocalCacheManager}. A single cache is shared by all streams in the
+   * process, since it manages a directory or memory budget of the whole host.
+   */
+  public static final class Factory {
+    private static volatile LocalCacheManager sCacheManager;
+
+    private Factory() {} // prevent instantiation
+
+    /**
+     * @param conf Alluxio configuration
+     * @return the cache manager of this process, which is created on the first call
+     */
+    public static LocalCacheManager get(AlluxioConfiguration conf) throws IOException {
+      if (sCacheManager == null) {
+        synchronized (Factory.class) {
+          if (sCacheManager == null) {
+            sCacheManager = new LocalCacheManager(conf.getBytes(PropertyKey.USER_CLIENT_CACHE_SIZE),
+                conf.getBytes(PropertyKey.USER_CLIENT_CACHE_PAGE_SIZE),
+                PageStore.Factory.create(conf), CacheEvictor.Factory.create(conf));
+          }
+        }
+      }
+      return sCacheManager;
+    }
+  }
+
+  /**
+   * @param cacheSize the maximum number of bytes to cache
+   * @param pageSize the size of a page in bytes
+   * @param pageStore the store for the pages
+   * @param evictor the evictor choosing which pages to drop
+   */
+  public LocalCacheManager(long cacheSize, long pageSize, PageStore pageStore,
+      CacheEvictor evictor) {
+    Preconditions.checkArgument(pageSize > 0 && pageSize <= Integer.MAX_VALUE,
+        "page size must be positive and fit in an int, but is %s", pageSize);
+    Preconditions.checkArgument(cacheSize >= pageSize,
+        "cache size %s must be at least the page size %s", cacheSize, pageSize);
+    mCacheSize = cacheSize;
+    mPageSize = pageSize;
+    mPageStore = pageStore;
+    mEvictor = evictor;
+    for (int i = 0; i < LOCK_SIZE; i++) {
+      mPageLocks[i] = new ReentrantReadWriteLock();
+    }
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(ClientMetrics.CACHE_SPACE_USED), this::getBytes);
+  }
+
+  /**
+   * @return the size of a page in bytes
+   */
+  public long getPageSize() {
+    return mPageSize;
+  }
+
+  /**
+   * @return the number of bytes taken by the cached pages
+   */
+  public long getBytes() {
+    try (LockResource r = new LockResource(mMetaLock)) {
+      return mBytes;
+    }
+  }
+
+  /**
+   * Copies part of a cached page into a buffer.
+   *
+   * @param pageId the page id
+   * @param pageOffset the offset within the page to start copying from
+   * @param length the number of bytes to copy
+   * @param buffer the destination buffer
+   * @param bufferOffset the offset within the destination buffer
+   * @return the number of bytes copied, or -1 if the page is not cached
+   */
+  public int get(PageId pageId, int pageOffset, int length, byte[] buffer, int bufferOffset) {
+    try (LockResource r = new LockResource(getPageLock(pageId).readLock())) {
+      try (LockResource r2 = new LockResource(mMetaLock)) {
+        if (!mPages.containsKey(pageId)) {
+          return -1;
+        }
+      }
+      int bytesRead = mPageStore.get(pageId, pageOffset, length, buffer, bufferOffset);
+      if (bytesRead != -1) {
+        mEvictor.updateOnGet(pageId);
+      }
+      return bytesRead;
+    } catch (IOException e) {
+      ERRORS.inc();
+      LOG.warn("Failed to read page {} from the client cache: {}", pageId, e.getMessage());
+      return -1;
+    }
+  }
+
+  /**
+   * Adds a page to the cache, evicting other pages if there is not enough space. Failing to cache
+   * a page is not an error, since the page can always be read from Alluxio again.
+   *
+   * @param pageId the page id
+   * @param page the page data, which must not be longer than the page size
+   * @return whether the page is cached
+   */
+  public boolean put(PageId pageId, byte[] page) {
+    Preconditions.checkArgument(page.length <= mPageSize,
+        "page of %s bytes exceeds the page size %s", page.length, mPageSize);
+    for (int i = 0; i <= MAX_EVICTIONS_PER_PUT; i++) {
+      PageId victim;
+      try (LockResource r = new LockResource(getPageLock(pageId).writeLock())) {
+        try (LockResource r2 = new LockResource(mMetaLock)) {
+          if (mPages.containsKey(pageId)) {
+            return true;
+          }
+          if (mBytes + page.length <= mCacheSize) {
+            // Reserves the space before writing the page, the page lock keeps readers away.
+            mPages.put(pageId, page.length);
+            mBytes += page.length;
+            victim = null;
+          } else {
+            victim = mEvictor.evict();
+            if (victim == null) {
+              return false;
+            }
+          }
+        }
+        if (victim == null) {
+          return addPage(pageId, page);
+        }
+      }
+      // The victim is evicted after releasing the lock on the new page, so that two threads
+      // evicting each other's pages cannot deadlock.
+      evict(victim);
+    }
+    return false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    mPageStore.close();
+  }
+
+  /**
+   * Writes a page whose space has already been reserved. The caller must hold the write lock of
+   * the page.
+   */
+  private boolean addPage(PageId pageId, byte[] page) {
+    try {
+      mPageStore.put(pageId, page);
+      mEvictor.updateOnPut(pageId);
+      return true;
+    } catch (IOException e) {
+      ERRORS.inc();
+      LOG.warn("Failed to add page {} to the client cache: {}", pageId, e.getMessage());
+      try (LockResource r = new LockResource(mMetaLock)) {
+        mPages.remove(pageId);
+        mBytes -= page.length;
+      }
+      return false;
+    }
+  }
+
+  private void evict(PageId pageId) {
+    try (LockResource r = new LockResource(getPageLock(pageId).writeLock())) {
+      Integer size;
+      try (LockResource r2 = new LockResource(mMetaLock)) {
+        size = mPages.remove(pageId);
+        if (size != null) {
+          mBytes -= size;
+        }
+      }
+      mEvictor.updateOnDelete(pageId);
+      if (size == null) {
+        // Another thread evicted the page first.
+        return;
+      }
+      PAGES_EVICTED.inc();
+      try {
+        mPageStore.delete(pageId);
+      } catch (IOException e) {
+        ERRORS.inc();
+        LOG.warn("Failed to delete page {} from the client cache: {}", pageId, e.getMessage());
+      }
+    }
+  }
+
+  private ReadWriteLock getPageLock(PageId pageId) {
+    return mPageLocks[Math.floorMod(pageId.hashCode(), LOCK_SIZE)];
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.util.io.FileUtils;
+
+import com.google.common.hash.Hashing;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A page store which keeps each page in a file under a local directory, such as a directory on a
+ * local SSD. The pages of a file are stored under a directory named after the file id and a hash
+ * of the fingerprint.
+ *
+ * The cache metadata is not persisted, and the directory may be shared by several clients, so each
+ * store keeps its pages in its own temporary subdirectory of the directory, which is deleted when
+ * the store is closed.
+ */
+@ThreadSafe
+public final class LocalPageStore implements PageStore {
+  private final Path mRoot;
+
+  /**
+   * @param root the directory under which to store the pages
+   */
+  public LocalPageStore(String root) throws IOException {
+    mRoot = Files.createTempDirectory(Files.createDirectories(Paths.get(root)), "pages-");
+  }
+
+  @Override
+  public void put(PageId pageId, byte[] page) throws IOException {
+    Path path = getPagePath(pageId);
+    Files.createDirectories(path.getParent());
+    try {
+      Files.write(path, page);
+    } catch (NoSuchFileException e) {
+      // The directory was removed by a concurrent delete of the last other page of the file.
+      Files.createDirectories(path.getParent());
+      Files.write(path, page);
+    }
+  }
+
+  @Override
+  public int get(PageId pageId, int pageOffset, int length, byte[] buffer, int bufferOffset)
+      throws IOException {
+    try (RandomAccessFile file = new RandomAccessFile(getPagePath(pageId).toFile(), "r")) {
+      file.seek(pageOffset);
+      int bytesRead = 0;
+      while (bytesRead < length) {
+        int read = file.read(buffer, bufferOffset + bytesRead, length - bytesRead);
+        if (read == -1) {
+          break;
+        }
+        bytesRead += read;
+      }
+      return bytesRead;
+    } catch (FileNotFoundException e) {
+      return -1;
+    }
+  }
+
+  @Override
+  public void delete(PageId pageId) throws IOException {
+    Path path = getPagePath(pageId);
+    try {
+      Files.delete(path);
+    } catch (NoSuchFileException e) {
+      return;
+    }
+    // Removes the directory of the file once its last page is gone.
+    try {
+      Files.deleteIfExists(path.getParent());
+    } catch (IOException e) {
+      // The directory still holds other pages of the file.
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    FileUtils.deletePathRecursively(mRoot.toString());
+  }
+
+  private Path getPagePath(PageId pageId) {
+    String fingerprintHash =
+        Hashing.sha256().hashString(pageId.getFingerprint(), StandardCharsets.UTF_8).toString();
+    return mRoot.resolve(pageId.getFileId() + "_" + fingerprintHash)
+        .resolve(Long.toString(pageId.getPageIndex()));
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.util.io.BufferUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A page store which keeps the pages in direct buffers, outside of the Java heap.
+ */
+@ThreadSafe
+public final class MemoryPageStore implements PageStore {
+  private final Map<PageId, ByteBuffer> mPages = new ConcurrentHashMap<>();
+
+  @Override
+  public void put(PageId pageId, byte[] page) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(page.length);
+    buffer.put(page);
+    buffer.flip();
+    ByteBuffer previous = mPages.put(pageId, buffer);
+    if (previous != null) {
+      BufferUtils.cleanDirectBuffer(previous);
+    }
+  }
+
+  @Override
+  public int get(PageId pageId, int pageOffset, int length, byte[] buffer, int bufferOffset) {
+    ByteBuffer page = mPages.get(pageId);
+    if (page == null) {
+      return -1;
+    }
+    // Reads through a duplicate so that concurrent readers of the page have independent positions.
+    ByteBuffer view = page.duplicate();
+    if (pageOffset >= view.limit()) {
+      return 0;
+    }
+    view.position(pageOffset);
+    int bytesRead = Math.min(length, view.remaining());
+    view.get(buffer, bufferOffset, bytesRead);
+    return bytesRead;
+  }
+
+  @Override
+  public void delete(PageId pageId) {
+    ByteBuffer page = mPages.remove(pageId);
+    if (page != null) {
+      BufferUtils.cleanDirectBuffer(page);
+    }
+  }
+
+  @Override
+  public void close() {
+    for (PageId pageId : mPages.keySet()) {
+      delete(pageId);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Identifies a page of a file in the client page cache. A page is identified by the id of the file,
+ * a fingerprint of the file content so that pages of a file which has been replaced under the same
+ * id are never served, and the index of the page within the file.
+ */
+@ThreadSafe
+public final class PageId {
+  private final long mFileId;
+  private final String mFingerprint;
+  private final long mPageIndex;
+
+  /**
+   * @param fileId the file id
+   * @param fingerprint the fingerprint of the file content
+   * @param pageIndex the index of the page within the file
+   */
+  public PageId(long fileId, String fingerprint, long pageIndex) {
+    mFileId = fileId;
+    mFingerprint = Preconditions.checkNotNull(fingerprint, "fingerprint");
+    mPageIndex = pageIndex;
+  }
+
+  /**
+   * @return the file id
+   */
+  public long getFileId() {
+    return mFileId;
+  }
+
+  /**
+   * @return the fingerprint of the file content
+   */
+  public String getFingerprint() {
+    return mFingerprint;
+  }
+
+  /**
+   * @return the index of the page within the file
+   */
+  public long getPageIndex() {
+    return mPageIndex;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PageId)) {
+      return false;
+    }
+    PageId that = (PageId) o;
+    return mFileId == that.mFileId && mPageIndex == that.mPageIndex
+        && mFingerprint.equals(that.mFingerprint);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mFileId, mFingerprint, mPageIndex);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("fileId", mFileId)
+        .add("fingerprint", mFingerprint)
+        .add("pageIndex", mPageIndex)
+        .toString();
+  }
+}
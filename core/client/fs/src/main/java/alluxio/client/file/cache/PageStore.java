@@ -0,0 +1,82 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import alluxio.conf.AlluxioConfiguration;
+import alluxio.conf.PropertyKey;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Storage for the pages of the client page cache. A page store only holds the page data; the
+ * {@link LocalCacheManager} keeps track of which pages are stored and of the space they use.
+ *
+ * Implementations must allow concurrent operations on different pages. Operations on the same page
+ * are serialized by the cache manager.
+ */
+public interface PageStore extends Closeable {
+
+  /**
+   * The factory for the {@link PageStore}.
+   */
+  class Factory {
+    private Factory() {} // prevent instantiation
+
+    /**
+     * Creates the page store selected by {@link PropertyKey#USER_CLIENT_CACHE_STORE_TYPE}.
+     *
+     * @param conf Alluxio configuration
+     * @return a new page store
+     */
+    public static PageStore create(AlluxioConfiguration conf) throws IOException {
+      switch (conf.getEnum(PropertyKey.USER_CLIENT_CACHE_STORE_TYPE, PageStoreType.class)) {
+        case MEMORY:
+          return new MemoryPageStore();
+        case LOCAL:
+          return new LocalPageStore(conf.get(PropertyKey.USER_CLIENT_CACHE_DIR));
+        default:
+          throw new IllegalArgumentException("Unknown page store type "
+              + conf.get(PropertyKey.USER_CLIENT_CACHE_STORE_TYPE));
+      }
+    }
+  }
+
+  /**
+   * Stores a page, replacing any page stored under the same id.
+   *
+   * @param pageId the page id
+   * @param page the page data
+   */
+  void put(PageId pageId, byte[] page) throws IOException;
+
+  /**
+   * Copies part of a stored page into a buffer.
+   *
+   * @param pageId the page id
+   * @param pageOffset the offset within the page to start copying from
+   * @param length the number of bytes to copy
+   * @param buffer the destination buffer
+   * @param bufferOffset the offset within the destination buffer
+   * @return the number of bytes copied, which is less than the requested length if the page ends
+   *         first, or -1 if the page is not stored
+   */
+  int get(PageId pageId, int pageOffset, int length, byte[] buffer, int bufferOffset)
+      throws IOException;
+
+  /**
+   * Deletes a page if it is stored.
+   *
+   * @param pageId the page id
+   */
+  void delete(PageId pageId) throws IOException;
+}
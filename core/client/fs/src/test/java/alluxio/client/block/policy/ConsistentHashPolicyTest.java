@@ -0,0 +1,164 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.policy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.ConfigurationTestUtils;
+import alluxio.Constants;
+import alluxio.client.block.BlockWorkerInfo;
+import alluxio.client.block.policy.options.GetWorkerOptions;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.WorkerNetAddress;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests {@link ConsistentHashPolicy}.
+ */
+public final class ConsistentHashPolicyTest {
+  private static final int PORT = 1;
+  private static final int NUM_BLOCKS = 1000;
+
+  private final List<BlockWorkerInfo> mWorkerInfos = new ArrayList<>();
+  private static InstancedConfiguration sConf = ConfigurationTestUtils.defaults();
+
+  @Before
+  public void before() {
+    mWorkerInfos.clear();
+    mWorkerInfos.add(worker("worker1", Constants.GB, 0));
+    mWorkerInfos.add(worker("worker2", 2 * (long) Constants.GB, 0));
+    mWorkerInfos.add(worker("worker3", 3 * (long) Constants.GB, 0));
+    mWorkerInfos.add(worker("worker4", 3 * (long) Constants.GB, 0));
+    sConf = ConfigurationTestUtils.defaults();
+  }
+
+  @Test
+  public void getWorkerDeterministically() {
+    BlockLocationPolicy policy = BlockLocationPolicy.Factory.create(
+        ConsistentHashPolicy.class.getCanonicalName(), sConf);
+    String host = getWorker(policy, mWorkerInfos, 1, Constants.MB);
+    for (int i = 0; i < 10; i++) {
+      BlockLocationPolicy p = BlockLocationPolicy.Factory.create(
+          ConsistentHashPolicy.class.getCanonicalName(), sConf);
+      // For the same block, always return the same worker.
+      assertEquals(host, getWorker(p, mWorkerInfos, 1, Constants.MB));
+      assertEquals(host, getWorker(p, mWorkerInfos, 1, Constants.MB));
+    }
+  }
+
+  @Test
+  public void getWorkerEnoughCapacity() {
+    BlockLocationPolicy policy = BlockLocationPolicy.Factory.create(
+        ConsistentHashPolicy.class.getCanonicalName(), sConf);
+    for (long blockId = 0; blockId < 100; blockId++) {
+      // worker1 does not have enough capacity. It should never be picked.
+      assertNotEquals("worker1",
+          getWorker(policy, mWorkerInfos, blockId, 2 * (long) Constants.GB));
+    }
+  }
+
+  @Test
+  public void getWorkerSpreadsBlocks() {
+    List<BlockWorkerInfo> workers = workers(8);
+    BlockLocationPolicy policy = BlockLocationPolicy.Factory.create(
+        ConsistentHashPolicy.class.getCanonicalName(), sConf);
+    Map<String, Integer> counts = new HashMap<>();
+    for (long blockId = 0; blockId < NUM_BLOCKS; blockId++) {
+      counts.merge(getWorker(policy, workers, blockId, Constants.MB), 1, Integer::sum);
+    }
+    assertEquals(workers.size(), counts.size());
+    for (int count : counts.values()) {
+      // Each worker should get roughly 1/8 of the blocks.
+      assertTrue(count > NUM_BLOCKS / 16 && count < NUM_BLOCKS / 4);
+    }
+  }
+
+  @Test
+  public void getWorkerMovesFewBlocksOnMembershipChange() {
+    List<BlockWorkerInfo> workers = workers(8);
+    BlockLocationPolicy policy = BlockLocationPolicy.Factory.create(
+        ConsistentHashPolicy.class.getCanonicalName(), sConf);
+    Map<Long, String> before = new HashMap<>();
+    for (long blockId = 0; blockId < NUM_BLOCKS; blockId++) {
+      before.put(blockId, getWorker(policy, workers, blockId, Constants.MB));
+    }
+    String removed = workers.remove(3).getNetAddress().getHost();
+    for (long blockId = 0; blockId < NUM_BLOCKS; blockId++) {
+      String host = getWorker(policy, workers, blockId, Constants.MB);
+      // Only the blocks of the removed worker move.
+      if (!before.get(blockId).equals(removed)) {
+        assertEquals(before.get(blockId), host);
+      }
+      assertNotEquals(removed, host);
+    }
+    workers.add(worker("worker8", Constants.GB, 0));
+    int moved = 0;
+    for (long blockId = 0; blockId < NUM_BLOCKS; blockId++) {
+      String host = getWorker(policy, workers, blockId, Constants.MB);
+      String previous = before.get(blockId);
+      if (!host.equals(previous) && !previous.equals(removed)) {
+        assertEquals("worker8", host);
+        moved++;
+      }
+    }
+    // A new worker takes about 1/8 of the blocks.
+    assertTrue(moved < NUM_BLOCKS / 4);
+  }
+
+  @Test
+  public void getWorkerBoundedLoad() {
+    sConf.set(PropertyKey.USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_LOAD_FACTOR, 1.25);
+    List<BlockWorkerInfo> workers = workers(4);
+    // worker0 holds much more than its share of the data, the blocks it owns overflow.
+    workers.set(0, worker("worker0", Constants.GB, Constants.GB / 2));
+    workers.set(1, worker("worker1", Constants.GB, Constants.GB / 8));
+    BlockLocationPolicy policy = BlockLocationPolicy.Factory.create(
+        ConsistentHashPolicy.class.getCanonicalName(), sConf);
+    Map<String, Integer> counts = new HashMap<>();
+    for (long blockId = 0; blockId < NUM_BLOCKS; blockId++) {
+      counts.merge(getWorker(policy, workers, blockId, Constants.MB), 1, Integer::sum);
+    }
+    assertNull(counts.get("worker0"));
+    assertEquals(3, counts.size());
+  }
+
+  private static String getWorker(BlockLocationPolicy policy, List<BlockWorkerInfo> workers,
+      long blockId, long length) {
+    return policy.getWorker(GetWorkerOptions.defaults().setBlockWorkerInfos(workers)
+        .setBlockInfo(new BlockInfo().setBlockId(blockId).setLength(length))).getHost();
+  }
+
+  private static List<BlockWorkerInfo> workers(int count) {
+    List<BlockWorkerInfo> workers = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      workers.add(worker("worker" + i, Constants.GB, 0));
+    }
+    return workers;
+  }
+
+  private static BlockWorkerInfo worker(String host, long capacity, long used) {
+    return new BlockWorkerInfo(new WorkerNetAddress().setHost(host).setRpcPort(PORT)
+        .setDataPort(PORT).setWebPort(PORT), capacity, used);
+  }
+}
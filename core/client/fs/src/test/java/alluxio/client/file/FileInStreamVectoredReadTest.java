@@ -0,0 +1,166 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import alluxio.AlluxioURI;
+import alluxio.ClientContext;
+import alluxio.ConfigurationTestUtils;
+import alluxio.client.FileRange;
+import alluxio.client.block.AlluxioBlockStore;
+import alluxio.client.block.stream.BlockInStream;
+import alluxio.client.block.stream.BlockInStream.BlockInStreamSource;
+import alluxio.client.block.stream.TestBlockInStream;
+import alluxio.client.file.options.InStreamOptions;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.grpc.OpenFilePOptions;
+import alluxio.grpc.ReadPType;
+import alluxio.util.io.BufferUtils;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.FileBlockInfo;
+import alluxio.wire.FileInfo;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Tests for {@link FileInStream#readVectored(List)}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({FileSystemContext.class, AlluxioBlockStore.class, BlockInStream.class})
+public final class FileInStreamVectoredReadTest {
+  private static final int BLOCK_LENGTH = 100;
+  private static final int FILE_LENGTH = 350;
+  private static final int MERGE_GAP = 10;
+
+  private AlluxioBlockStore mBlockStore;
+  private FileSystemContext mContext;
+  private URIStatus mStatus;
+  private InStreamOptions mOptions;
+
+  @Before
+  public void before() throws Exception {
+    InstancedConfiguration conf = ConfigurationTestUtils.defaults();
+    conf.set(PropertyKey.USER_FILE_VECTORED_READ_MERGE_GAP, MERGE_GAP);
+    mContext = PowerMockito.mock(FileSystemContext.class);
+    when(mContext.getClientContext()).thenReturn(ClientContext.create(conf));
+    when(mContext.getClusterConf()).thenReturn(conf);
+    when(mContext.getPathConf(any(AlluxioURI.class))).thenReturn(conf);
+    mBlockStore = mock(AlluxioBlockStore.class);
+    PowerMockito.mockStatic(AlluxioBlockStore.class);
+    PowerMockito.when(AlluxioBlockStore.create(mContext)).thenReturn(mBlockStore);
+
+    FileInfo info = new FileInfo().setFileId(1L).setPath("/file")
+        .setBlockSizeBytes(BLOCK_LENGTH).setLength(FILE_LENGTH);
+    List<Long> blockIds = new ArrayList<>();
+    List<FileBlockInfo> fileBlockInfos = new ArrayList<>();
+    for (int i = 0; i * BLOCK_LENGTH < FILE_LENGTH; i++) {
+      long blockId = i;
+      blockIds.add(blockId);
+      fileBlockInfos.add(new FileBlockInfo().setBlockInfo(new BlockInfo().setBlockId(blockId)));
+      byte[] data = BufferUtils.getIncreasingByteArray(i * BLOCK_LENGTH,
+          Math.min(BLOCK_LENGTH, FILE_LENGTH - i * BLOCK_LENGTH));
+      when(mBlockStore.getInStream(eq(blockId), any(InStreamOptions.class), any()))
+          .thenAnswer(invocation ->
+              new TestBlockInStream(data, blockId, data.length, false, BlockInStreamSource.REMOTE));
+    }
+    info.setBlockIds(blockIds);
+    info.setFileBlockInfos(fileBlockInfos);
+    mStatus = new URIStatus(info);
+    mOptions = new InStreamOptions(mStatus,
+        OpenFilePOptions.newBuilder().setReadType(ReadPType.NO_CACHE).build(), conf);
+  }
+
+  @Test
+  public void readRanges() throws Exception {
+    List<FileRange> ranges = Arrays.asList(new FileRange(250, 30), new FileRange(10, 20),
+        new FileRange(0, 0), new FileRange(FILE_LENGTH - 5, 5));
+    try (FileInStream in = new FileInStream(mStatus, mOptions, mContext)) {
+      List<CompletableFuture<ByteBuffer>> results = in.readVectored(ranges);
+      for (int i = 0; i < ranges.size(); i++) {
+        checkRange(ranges.get(i), results.get(i).get());
+      }
+      assertEquals(0, in.getPos());
+    }
+  }
+
+  @Test
+  public void mergeNearbyRanges() throws Exception {
+    // The first two ranges are merged, the third is too far away from them.
+    List<FileRange> ranges = Arrays.asList(new FileRange(0, 10), new FileRange(15, 10),
+        new FileRange(60, 10));
+    try (FileInStream in = new FileInStream(mStatus, mOptions, mContext)) {
+      List<CompletableFuture<ByteBuffer>> results = in.readVectored(ranges);
+      for (int i = 0; i < ranges.size(); i++) {
+        checkRange(ranges.get(i), results.get(i).get());
+      }
+    }
+    verify(mBlockStore, times(2)).getInStream(eq(0L), any(InStreamOptions.class), any());
+  }
+
+  @Test
+  public void rangeAcrossBlocks() throws Exception {
+    FileRange range = new FileRange(90, 220);
+    try (FileInStream in = new FileInStream(mStatus, mOptions, mContext)) {
+      checkRange(range, in.readVectored(Arrays.asList(range)).get(0).get());
+    }
+    for (long blockId = 0; blockId < 4; blockId++) {
+      verify(mBlockStore).getInStream(eq(blockId), any(InStreamOptions.class), any());
+    }
+  }
+
+  @Test
+  public void rangePastEndOfFile() throws Exception {
+    FileRange valid = new FileRange(100, 50);
+    try (FileInStream in = new FileInStream(mStatus, mOptions, mContext)) {
+      List<CompletableFuture<ByteBuffer>> results =
+          in.readVectored(Arrays.asList(new FileRange(FILE_LENGTH - 10, 11), valid));
+      try {
+        results.get(0).get();
+        fail("Reading a range past the end of the file should fail");
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof EOFException);
+      }
+      checkRange(valid, results.get(1).get());
+    }
+  }
+
+  private static void checkRange(FileRange range, ByteBuffer buffer) {
+    byte[] data = new byte[buffer.remaining()];
+    buffer.get(data);
+    assertArrayEquals(
+        BufferUtils.getIncreasingByteArray((int) range.getOffset(), range.getLength()), data);
+  }
+}
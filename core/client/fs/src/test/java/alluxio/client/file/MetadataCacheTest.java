@@ -0,0 +1,150 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import alluxio.AlluxioURI;
+import alluxio.clock.ManualClock;
+import alluxio.metrics.ClientMetrics;
+import alluxio.metrics.MetricsSystem;
+import alluxio.wire.FileInfo;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests {@link MetadataCache}.
+ */
+public final class MetadataCacheTest {
+  private static final long EXPIRATION_MS = 1000;
+
+  private ManualClock mClock;
+  private MetadataCache mCache;
+
+  @Before
+  public void before() {
+    mClock = new ManualClock();
+    mCache = new MetadataCache(100, mClock);
+  }
+
+  @Test
+  public void expireStatus() {
+    AlluxioURI path = new AlluxioURI("/dir/file");
+    URIStatus status = file("/dir/file", 10);
+    mCache.putStatus(path, status);
+    assertEquals(status, mCache.getStatus(path, EXPIRATION_MS));
+    mClock.addTimeMs(EXPIRATION_MS + 1);
+    assertNull(mCache.getStatus(path, EXPIRATION_MS));
+    // A longer expiration, as configured for another path, still finds the entry.
+    assertEquals(status, mCache.getStatus(path, 10 * EXPIRATION_MS));
+  }
+
+  @Test
+  public void skipIncompleteFiles() {
+    AlluxioURI path = new AlluxioURI("/dir/file");
+    mCache.putStatus(path, new URIStatus(new FileInfo().setPath("/dir/file")));
+    assertNull(mCache.getStatus(path, EXPIRATION_MS));
+    mCache.putListing(new AlluxioURI("/dir"),
+        ImmutableList.of(new URIStatus(new FileInfo().setPath("/dir/file"))));
+    assertNull(mCache.listStatus(new AlluxioURI("/dir"), EXPIRATION_MS));
+  }
+
+  @Test
+  public void listingCachesChildren() {
+    AlluxioURI dir = new AlluxioURI("/dir");
+    List<URIStatus> children = ImmutableList.of(file("/dir/a", 1), file("/dir/b", 2));
+    mCache.putListing(dir, children);
+    assertEquals(children, mCache.listStatus(dir, EXPIRATION_MS));
+    assertEquals(children.get(1), mCache.getStatus(new AlluxioURI("/dir/b"), EXPIRATION_MS));
+  }
+
+  @Test
+  public void listingIsCopied() {
+    AlluxioURI dir = new AlluxioURI("/dir");
+    List<URIStatus> children = new ArrayList<>(ImmutableList.of(file("/dir/b", 2)));
+    mCache.putListing(dir, children);
+    children.add(file("/dir/a", 1));
+    List<URIStatus> cached = mCache.listStatus(dir, EXPIRATION_MS);
+    assertEquals(ImmutableList.of(file("/dir/b", 2)), cached);
+    // Callers such as the S3 proxy sort the listing in place.
+    cached.add(0, file("/dir/a", 1));
+    assertEquals(ImmutableList.of(file("/dir/b", 2)), mCache.listStatus(dir, EXPIRATION_MS));
+  }
+
+  @Test
+  public void dropStatusesFetchedBeforeInvalidation() {
+    AlluxioURI path = new AlluxioURI("/dir/file");
+    long generation = mCache.getGeneration();
+    // The file is modified while its previous status is being fetched.
+    mCache.invalidate(path);
+    mCache.putStatus(path, file("/dir/file", 10), generation);
+    mCache.putListing(new AlluxioURI("/dir"), ImmutableList.of(file("/dir/file", 10)),
+        generation);
+    assertNull(mCache.getStatus(path, EXPIRATION_MS));
+    assertNull(mCache.listStatus(new AlluxioURI("/dir"), EXPIRATION_MS));
+    mCache.putStatus(path, file("/dir/file", 20), mCache.getGeneration());
+    assertEquals(file("/dir/file", 20), mCache.getStatus(path, EXPIRATION_MS));
+  }
+
+  @Test
+  public void invalidate() {
+    AlluxioURI dir = new AlluxioURI("/dir");
+    mCache.putListing(new AlluxioURI("/"), ImmutableList.of(dir("/dir")));
+    mCache.putListing(dir, ImmutableList.of(file("/dir/a", 1), file("/dir/b", 2)));
+    mCache.putListing(new AlluxioURI("/dir2"), ImmutableList.of(file("/dir2/c", 3)));
+
+    // Modifying a file invalidates it and the listings of its ancestors.
+    mCache.invalidate(new AlluxioURI("/dir/a"));
+    assertNull(mCache.getStatus(new AlluxioURI("/dir/a"), EXPIRATION_MS));
+    assertNull(mCache.listStatus(dir, EXPIRATION_MS));
+    assertNull(mCache.listStatus(new AlluxioURI("/"), EXPIRATION_MS));
+    assertEquals(file("/dir/b", 2), mCache.getStatus(new AlluxioURI("/dir/b"), EXPIRATION_MS));
+
+    // Removing a directory invalidates all of its descendants, but not its siblings.
+    mCache.invalidatePrefix(dir);
+    assertNull(mCache.getStatus(new AlluxioURI("/dir/b"), EXPIRATION_MS));
+    assertEquals(file("/dir2/c", 3), mCache.getStatus(new AlluxioURI("/dir2/c"), EXPIRATION_MS));
+    mCache.invalidatePrefix(new AlluxioURI("/"));
+    assertEquals(0, mCache.size());
+  }
+
+  @Test
+  public void countStaleReads() {
+    long staleReads = staleReads();
+    AlluxioURI path = new AlluxioURI("/file");
+    mCache.putStatus(path, file("/file", 10));
+    mClock.addTimeMs(EXPIRATION_MS + 1);
+    mCache.putStatus(path, file("/file", 10));
+    assertEquals(staleReads, staleReads());
+    mClock.addTimeMs(EXPIRATION_MS + 1);
+    mCache.putStatus(path, file("/file", 20));
+    assertEquals(staleReads + 1, staleReads());
+  }
+
+  private static long staleReads() {
+    return MetricsSystem.counter(ClientMetrics.METADATA_CACHE_STALE_READS).getCount();
+  }
+
+  private static URIStatus file(String path, long length) {
+    return new URIStatus(new FileInfo().setPath(path).setLength(length).setCompleted(true));
+  }
+
+  private static URIStatus dir(String path) {
+    return new URIStatus(new FileInfo().setPath(path).setFolder(true));
+  }
+}
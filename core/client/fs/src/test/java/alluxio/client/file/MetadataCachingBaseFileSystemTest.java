@@ -0,0 +1,145 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import alluxio.AlluxioURI;
+import alluxio.ClientContext;
+import alluxio.ConfigurationTestUtils;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.exception.status.NotFoundException;
+import alluxio.grpc.DeletePOptions;
+import alluxio.grpc.FileSystemMasterCommonPOptions;
+import alluxio.grpc.GetStatusPOptions;
+import alluxio.grpc.ListStatusPOptions;
+import alluxio.resource.CloseableResource;
+import alluxio.wire.FileInfo;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.List;
+
+/**
+ * Unit tests for {@link MetadataCachingBaseFileSystem}.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({FileSystemContext.class, FileSystemMasterClient.class})
+public final class MetadataCachingBaseFileSystemTest {
+  private static final AlluxioURI DIR = new AlluxioURI("/dir");
+  private static final AlluxioURI FILE = new AlluxioURI("/dir/file");
+
+  private InstancedConfiguration mConf = ConfigurationTestUtils.defaults();
+  private FileSystemContext mFileContext;
+  private FileSystemMasterClient mFileSystemMasterClient;
+  private FileSystem mFileSystem;
+
+  /**
+   * Sets up the file system and the context before a test runs.
+   */
+  @Before
+  public void before() throws Exception {
+    mConf.set(PropertyKey.USER_METADATA_CACHE_ENABLED, true);
+    mFileContext = PowerMockito.mock(FileSystemContext.class);
+    mFileSystemMasterClient = PowerMockito.mock(FileSystemMasterClient.class);
+    when(mFileContext.acquireMasterClientResource()).thenReturn(
+        new CloseableResource<FileSystemMasterClient>(mFileSystemMasterClient) {
+          @Override
+          public void close() {
+            // Noop.
+          }
+        });
+    when(mFileContext.getClientContext()).thenReturn(ClientContext.create(mConf));
+    when(mFileContext.getClusterConf()).thenReturn(mConf);
+    when(mFileContext.getPathConf(any())).thenReturn(mConf);
+    when(mFileContext.getUriValidationEnabled()).thenReturn(true);
+    mFileSystem = new MetadataCachingBaseFileSystem(mFileContext, false);
+
+    when(mFileSystemMasterClient.getStatus(any(AlluxioURI.class), any(GetStatusPOptions.class)))
+        .thenReturn(new URIStatus(new FileInfo().setPath(FILE.getPath()).setCompleted(true)));
+    when(mFileSystemMasterClient.listStatus(any(AlluxioURI.class), any(ListStatusPOptions.class)))
+        .thenReturn(ImmutableList.of(
+            new URIStatus(new FileInfo().setPath(FILE.getPath()).setCompleted(true))));
+  }
+
+  @Test
+  public void getStatusIsCached() throws Exception {
+    URIStatus status = mFileSystem.getStatus(FILE);
+    assertEquals(status, mFileSystem.getStatus(FILE));
+    assertTrue(mFileSystem.exists(FILE));
+    verify(mFileSystemMasterClient, times(1))
+        .getStatus(any(AlluxioURI.class), any(GetStatusPOptions.class));
+  }
+
+  @Test
+  public void listStatusIsCached() throws Exception {
+    List<URIStatus> statuses = mFileSystem.listStatus(DIR);
+    assertEquals(statuses, mFileSystem.listStatus(DIR));
+    // The statuses of the children are cached along with the listing.
+    mFileSystem.getStatus(FILE);
+    verify(mFileSystemMasterClient, times(1))
+        .listStatus(any(AlluxioURI.class), any(ListStatusPOptions.class));
+    verify(mFileSystemMasterClient, times(0))
+        .getStatus(any(AlluxioURI.class), any(GetStatusPOptions.class));
+
+    // Recursive listings are not cached.
+    ListStatusPOptions recursive = ListStatusPOptions.newBuilder().setRecursive(true).build();
+    mFileSystem.listStatus(DIR, recursive);
+    mFileSystem.listStatus(DIR, recursive);
+    verify(mFileSystemMasterClient, times(3))
+        .listStatus(any(AlluxioURI.class), any(ListStatusPOptions.class));
+  }
+
+  @Test
+  public void deleteInvalidates() throws Exception {
+    mFileSystem.listStatus(DIR);
+    mFileSystem.getStatus(FILE);
+    mFileSystem.delete(DIR, DeletePOptions.newBuilder().setRecursive(true).build());
+    when(mFileSystemMasterClient.getStatus(any(AlluxioURI.class), any(GetStatusPOptions.class)))
+        .thenThrow(new NotFoundException("File does not exist"));
+    assertFalse(mFileSystem.exists(FILE));
+    mFileSystem.listStatus(DIR);
+    verify(mFileSystemMasterClient, times(2))
+        .listStatus(any(AlluxioURI.class), any(ListStatusPOptions.class));
+  }
+
+  @Test
+  public void bypassCache() throws Exception {
+    // Calls which sync the path with the under storage every time are not cached.
+    GetStatusPOptions sync = GetStatusPOptions.newBuilder().setCommonOptions(
+        FileSystemMasterCommonPOptions.newBuilder().setSyncIntervalMs(0)).build();
+    mFileSystem.getStatus(FILE, sync);
+    mFileSystem.getStatus(FILE, sync);
+    verify(mFileSystemMasterClient, times(2))
+        .getStatus(any(AlluxioURI.class), any(GetStatusPOptions.class));
+
+    // The cache can be disabled for the path.
+    mConf.set(PropertyKey.USER_METADATA_CACHE_ENABLED, false);
+    mFileSystem.getStatus(FILE);
+    mFileSystem.getStatus(FILE);
+    verify(mFileSystemMasterClient, times(4))
+        .getStatus(any(AlluxioURI.class), any(GetStatusPOptions.class));
+  }
+}
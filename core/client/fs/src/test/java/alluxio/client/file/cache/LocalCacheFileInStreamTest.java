@@ -0,0 +1,177 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import alluxio.AlluxioURI;
+import alluxio.ClientContext;
+import alluxio.ConfigurationTestUtils;
+import alluxio.client.block.AlluxioBlockStore;
+import alluxio.client.block.stream.BlockInStream;
+import alluxio.client.block.stream.BlockInStream.BlockInStreamSource;
+import alluxio.client.block.stream.TestBlockInStream;
+import alluxio.client.file.FileInStream;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.file.URIStatus;
+import alluxio.client.file.options.InStreamOptions;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.grpc.OpenFilePOptions;
+import alluxio.grpc.ReadPType;
+import alluxio.util.io.BufferUtils;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.FileBlockInfo;
+import alluxio.wire.FileInfo;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for the {@link LocalCacheFileInStream} class.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({FileSystemContext.class, AlluxioBlockStore.class, BlockInStream.class})
+public final class LocalCacheFileInStreamTest {
+  private static final int BLOCK_LENGTH = 100;
+  private static final int FILE_LENGTH = 350;
+  private static final int PAGE_SIZE = 64;
+
+  private AlluxioBlockStore mBlockStore;
+  private FileSystemContext mContext;
+  private URIStatus mStatus;
+  private InStreamOptions mOptions;
+  private LocalCacheManager mCacheManager;
+
+  @Before
+  public void before() throws Exception {
+    InstancedConfiguration conf = ConfigurationTestUtils.defaults();
+    mContext = PowerMockito.mock(FileSystemContext.class);
+    when(mContext.getClientContext()).thenReturn(ClientContext.create(conf));
+    when(mContext.getClusterConf()).thenReturn(conf);
+    when(mContext.getPathConf(any(AlluxioURI.class))).thenReturn(conf);
+    mBlockStore = mock(AlluxioBlockStore.class);
+    PowerMockito.mockStatic(AlluxioBlockStore.class);
+    PowerMockito.when(AlluxioBlockStore.create(mContext)).thenReturn(mBlockStore);
+
+    FileInfo info = new FileInfo().setFileId(1L).setPath("/file")
+        .setBlockSizeBytes(BLOCK_LENGTH).setLength(FILE_LENGTH);
+    List<Long> blockIds = new ArrayList<>();
+    List<FileBlockInfo> fileBlockInfos = new ArrayList<>();
+    for (int i = 0; i * BLOCK_LENGTH < FILE_LENGTH; i++) {
+      long blockId = i;
+      blockIds.add(blockId);
+      fileBlockInfos.add(new FileBlockInfo().setBlockInfo(new BlockInfo().setBlockId(blockId)));
+      byte[] data = BufferUtils.getIncreasingByteArray(i * BLOCK_LENGTH,
+          Math.min(BLOCK_LENGTH, FILE_LENGTH - i * BLOCK_LENGTH));
+      when(mBlockStore.getInStream(eq(blockId), any(InStreamOptions.class), any()))
+          .thenAnswer(invocation ->
+              new TestBlockInStream(data, blockId, data.length, false, BlockInStreamSource.REMOTE));
+    }
+    info.setBlockIds(blockIds);
+    info.setFileBlockInfos(fileBlockInfos);
+    mStatus = new URIStatus(info);
+    mOptions = new InStreamOptions(mStatus,
+        OpenFilePOptions.newBuilder().setReadType(ReadPType.NO_CACHE).build(), conf);
+    mCacheManager = new LocalCacheManager(PAGE_SIZE * 100, PAGE_SIZE, new MemoryPageStore(),
+        new LRUCacheEvictor(conf));
+  }
+
+  @After
+  public void after() throws Exception {
+    mCacheManager.close();
+  }
+
+  @Test
+  public void readFullFile() throws Exception {
+    try (FileInStream in = createStream()) {
+      byte[] buf = new byte[FILE_LENGTH + 37];
+      int bytesRead = 0;
+      int read;
+      while ((read = in.read(buf, bytesRead, 37)) != -1) {
+        bytesRead += read;
+      }
+      assertEquals(FILE_LENGTH, bytesRead);
+      assertEquals(0, in.remaining());
+      assertArrayEquals(BufferUtils.getIncreasingByteArray(FILE_LENGTH),
+          Arrays.copyOf(buf, FILE_LENGTH));
+    }
+    assertEquals(FILE_LENGTH, mCacheManager.getBytes());
+  }
+
+  @Test
+  public void readFromCache() throws Exception {
+    try (FileInStream in = createStream()) {
+      in.read(new byte[FILE_LENGTH]);
+    }
+    reset(mBlockStore);
+    try (FileInStream in = createStream()) {
+      for (int i = 0; i < FILE_LENGTH; i++) {
+        assertEquals(i & 0xff, in.read());
+      }
+      assertEquals(-1, in.read());
+    }
+    verifyZeroInteractions(mBlockStore);
+  }
+
+  @Test
+  public void positionedRead() throws Exception {
+    try (FileInStream in = createStream()) {
+      byte[] buf = new byte[150];
+      assertEquals(150, in.positionedRead(90, buf, 0, 150));
+      assertArrayEquals(BufferUtils.getIncreasingByteArray(90, 150), buf);
+      assertEquals(10, in.positionedRead(FILE_LENGTH - 10, buf, 0, 150));
+      assertEquals(-1, in.positionedRead(FILE_LENGTH, buf, 0, 150));
+      assertEquals(0, in.getPos());
+    }
+    // Only the pages covering the requested ranges are cached.
+    assertEquals(PAGE_SIZE * 3 + (FILE_LENGTH - PAGE_SIZE * 5), mCacheManager.getBytes());
+  }
+
+  @Test
+  public void seekAndSkip() throws Exception {
+    try (FileInStream in = createStream()) {
+      in.seek(200);
+      assertEquals(200, in.read());
+      assertEquals(50, in.skip(50));
+      assertEquals(251, in.getPos());
+      assertEquals(251 & 0xff, in.read());
+      assertEquals(98, in.skip(1000));
+      assertEquals(-1, in.read());
+    }
+    verify(mBlockStore, never()).getInStream(eq(0L), any(InStreamOptions.class), any());
+    verify(mBlockStore, atLeastOnce()).getInStream(anyLong(), any(InStreamOptions.class), any());
+  }
+
+  private FileInStream createStream() throws Exception {
+    return new LocalCacheFileInStream(mStatus, mOptions, mContext, mCacheManager);
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file.cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.ConfigurationTestUtils;
+import alluxio.util.io.BufferUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for the {@link LocalCacheManager} class.
+ */
+@RunWith(Parameterized.class)
+public final class LocalCacheManagerTest {
+  private static final int PAGE_SIZE = 128;
+  private static final int CACHE_PAGES = 4;
+
+  @Rule
+  public TemporaryFolder mTemp = new TemporaryFolder();
+
+  private final PageStoreType mStoreType;
+  private LocalCacheManager mCacheManager;
+
+  /**
+   * @return the page store types to test
+   */
+  @Parameters
+  public static Collection<Object[]> data() {
+    return Arrays.asList(new Object[][] {{PageStoreType.LOCAL}, {PageStoreType.MEMORY}});
+  }
+
+  /**
+   * @param storeType the page store type
+   */
+  public LocalCacheManagerTest(PageStoreType storeType) {
+    mStoreType = storeType;
+  }
+
+  @Before
+  public void before() throws Exception {
+    PageStore store = mStoreType == PageStoreType.LOCAL
+        ? new LocalPageStore(mTemp.newFolder().getAbsolutePath()) : new MemoryPageStore();
+    mCacheManager = new LocalCacheManager(PAGE_SIZE * CACHE_PAGES, PAGE_SIZE, store,
+        new LRUCacheEvictor(ConfigurationTestUtils.defaults()));
+  }
+
+  @After
+  public void after() throws Exception {
+    mCacheManager.close();
+  }
+
+  @Test
+  public void putGet() {
+    byte[] page = BufferUtils.getIncreasingByteArray(PAGE_SIZE);
+    assertTrue(mCacheManager.put(pageId(0), page));
+    byte[] buf = new byte[PAGE_SIZE];
+    assertEquals(PAGE_SIZE, mCacheManager.get(pageId(0), 0, PAGE_SIZE, buf, 0));
+    assertArrayEquals(page, buf);
+    assertEquals(PAGE_SIZE, mCacheManager.getBytes());
+  }
+
+  @Test
+  public void getPartialPage() {
+    mCacheManager.put(pageId(0), BufferUtils.getIncreasingByteArray(PAGE_SIZE));
+    byte[] buf = new byte[20];
+    assertEquals(10, mCacheManager.get(pageId(0), 5, 10, buf, 3));
+    for (int i = 0; i < 10; i++) {
+      assertEquals(5 + i, buf[3 + i]);
+    }
+  }
+
+  @Test
+  public void getShortPage() {
+    mCacheManager.put(pageId(0), BufferUtils.getIncreasingByteArray(10));
+    byte[] buf = new byte[PAGE_SIZE];
+    assertEquals(4, mCacheManager.get(pageId(0), 6, PAGE_SIZE, buf, 0));
+    assertEquals(10, mCacheManager.getBytes());
+  }
+
+  @Test
+  public void getMissing() {
+    assertEquals(-1, mCacheManager.get(pageId(0), 0, PAGE_SIZE, new byte[PAGE_SIZE], 0));
+    mCacheManager.put(pageId(0), BufferUtils.getIncreasingByteArray(PAGE_SIZE));
+    assertEquals(-1, mCacheManager.get(new PageId(1L, "other", 0), 0, PAGE_SIZE,
+        new byte[PAGE_SIZE], 0));
+  }
+
+  @Test
+  public void evictLeastRecentlyUsed() {
+    for (int i = 0; i < CACHE_PAGES; i++) {
+      assertTrue(mCacheManager.put(pageId(i), BufferUtils.getIncreasingByteArray(i, PAGE_SIZE)));
+    }
+    // Touches page 0, so that page 1 becomes the least recently used.
+    mCacheManager.get(pageId(0), 0, 1, new byte[1], 0);
+    assertTrue(mCacheManager.put(pageId(CACHE_PAGES),
+        BufferUtils.getIncreasingByteArray(PAGE_SIZE)));
+    assertEquals(-1, mCacheManager.get(pageId(1), 0, PAGE_SIZE, new byte[PAGE_SIZE], 0));
+    for (int i : new int[] {0, 2, 3}) {
+      byte[] buf = new byte[PAGE_SIZE];
+      assertEquals(PAGE_SIZE, mCacheManager.get(pageId(i), 0, PAGE_SIZE, buf, 0));
+      assertArrayEquals(BufferUtils.getIncreasingByteArray(i, PAGE_SIZE), buf);
+    }
+    assertEquals(PAGE_SIZE * CACHE_PAGES, mCacheManager.getBytes());
+  }
+
+  @Test
+  public void putTwice() {
+    byte[] page = BufferUtils.getIncreasingByteArray(PAGE_SIZE);
+    assertTrue(mCacheManager.put(pageId(0), page));
+    assertTrue(mCacheManager.put(pageId(0), page));
+    assertEquals(PAGE_SIZE, mCacheManager.getBytes());
+  }
+
+  @Test
+  public void putFailsWithoutVictim() throws Exception {
+    mCacheManager.close();
+    // An evictor which never chooses a victim leaves no room for new pages once the cache is full.
+    mCacheManager = new LocalCacheManager(PAGE_SIZE, PAGE_SIZE, new MemoryPageStore(),
+        new CacheEvictor() {
+          @Override
+          public void updateOnGet(PageId pageId) {}
+
+          @Override
+          public void updateOnPut(PageId pageId) {}
+
+          @Override
+          public void updateOnDelete(PageId pageId) {}
+
+          @Override
+          public PageId evict() {
+            return null;
+          }
+        });
+    assertTrue(mCacheManager.put(pageId(0), BufferUtils.getIncreasingByteArray(PAGE_SIZE)));
+    assertFalse(mCacheManager.put(pageId(1), BufferUtils.getIncreasingByteArray(PAGE_SIZE)));
+  }
+
+  @Test
+  public void concurrentPutGet() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 200; i++) {
+            int index = i % (CACHE_PAGES * 2);
+            byte[] expected = BufferUtils.getIncreasingByteArray(index, PAGE_SIZE);
+            byte[] buf = new byte[PAGE_SIZE];
+            int bytesRead = mCacheManager.get(pageId(index), 0, PAGE_SIZE, buf, 0);
+            if (bytesRead == -1) {
+              mCacheManager.put(pageId(index), expected);
+            } else {
+              assertEquals(PAGE_SIZE, bytesRead);
+              assertArrayEquals(expected, buf);
+            }
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertTrue(mCacheManager.getBytes() <= PAGE_SIZE * CACHE_PAGES);
+  }
+
+  private static PageId pageId(long pageIndex) {
+    return new PageId(1L, "fingerprint", pageIndex);
+  }
+}
@@ -12,6 +12,8 @@
 package alluxio.hadoop;
 
 import alluxio.AlluxioURI;
+import alluxio.client.FileRange;
+import alluxio.client.VectoredReadable;
 import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileSystem;
 import alluxio.exception.AlluxioException;
@@ -28,6 +30,9 @@ import java.io.EOFException;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -36,7 +41,8 @@ import javax.annotation.concurrent.NotThreadSafe;
  * {@link FileInStream} with additional statistics gathering in a {@link Statistics} object.
  */
 @NotThreadSafe
-public class HdfsFileInputStream extends InputStream implements Seekable, PositionedReadable {
+public class HdfsFileInputStream extends InputStream implements Seekable, PositionedReadable,
+    VectoredReadable {
   private static final Logger LOG = LoggerFactory.getLogger(HdfsFileInputStream.class);
 
   private final Statistics mStatistics;
@@ -150,6 +156,22 @@ public class HdfsFileInputStream extends InputStream implements Seekable, Positi
     }
   }
 
+  @Override
+  public List<CompletableFuture<ByteBuffer>> readVectored(List<FileRange> ranges)
+      throws IOException {
+    if (mClosed) {
+      throw new IOException(ExceptionMessage.READ_CLOSED_STREAM.getMessage());
+    }
+
+    List<CompletableFuture<ByteBuffer>> results = mInputStream.readVectored(ranges);
+    if (mStatistics != null) {
+      for (CompletableFuture<ByteBuffer> result : results) {
+        result.thenAccept(buffer -> mStatistics.incrementBytesRead(buffer.remaining()));
+      }
+    }
+    return results;
+  }
+
   @Override
   public void seek(long pos) throws IOException {
     try {
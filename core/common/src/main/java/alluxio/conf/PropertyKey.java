@@ -1382,6 +1382,24 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METADATA_SYNC_UFS_PREFETCH_POOL_SIZE =
+      new Builder(Name.MASTER_METADATA_SYNC_UFS_PREFETCH_POOL_SIZE)
+          .setDefaultSupplier(() -> Runtime.getRuntime().availableProcessors(),
+              "The number of CPU cores")
+          .setDescription("The number of threads used to prefetch UFS directory listings "
+              + "during metadata sync. Set this to 0 to list directories on the thread "
+              + "performing the sync.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METADATA_SYNC_UFS_PREFETCH_WINDOW =
+      new Builder(Name.MASTER_METADATA_SYNC_UFS_PREFETCH_WINDOW)
+          .setDefaultValue(64)
+          .setDescription("The maximum number of sibling directories whose UFS listings are "
+              + "prefetched ahead of the directory being synced.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_METASTORE =
       new Builder(Name.MASTER_METASTORE)
           .setDefaultValue("HEAP")
@@ -1409,6 +1427,17 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METASTORE_INODE_CACHE_EDGE_POLICY =
+      new Builder(Name.MASTER_METASTORE_INODE_CACHE_EDGE_POLICY)
+          .setDefaultValue("CLOCK")
+          .setDescription("The policy for choosing which edges the edge cache keeps, either "
+              + "CLOCK or TINY_LFU. CLOCK evicts the edges which have not been accessed "
+              + "recently. TINY_LFU only keeps a newly cached edge if it is accessed more often "
+              + "than the edge which would be evicted instead, so that scans such as recursive "
+              + "listings do not evict the frequently accessed edges.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_METASTORE_INODE_CACHE_HIGH_WATER_MARK_RATIO =
       new Builder(Name.MASTER_METASTORE_INODE_CACHE_HIGH_WATER_MARK_RATIO)
           .setDefaultValue("0.85")
@@ -1419,6 +1448,27 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METASTORE_INODE_CACHE_INODE_POLICY =
+      new Builder(Name.MASTER_METASTORE_INODE_CACHE_INODE_POLICY)
+          .setDefaultValue("CLOCK")
+          .setDescription("The policy for choosing which inodes the inode cache keeps, either "
+              + "CLOCK or TINY_LFU. CLOCK evicts the inodes which have not been accessed "
+              + "recently. TINY_LFU only keeps a newly cached inode if it is accessed more often "
+              + "than the inode which would be evicted instead, so that scans such as recursive "
+              + "listings and metadata syncs do not evict the frequently accessed inodes.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_INODE_CACHE_LISTING_POLICY =
+      new Builder(Name.MASTER_METASTORE_INODE_CACHE_LISTING_POLICY)
+          .setDefaultValue("CLOCK")
+          .setDescription("The policy for choosing which directory listings the listing cache "
+              + "keeps, either CLOCK or TINY_LFU. With TINY_LFU, once the cache is over its high "
+              + "water mark, a listing is only cached if the directory has been listed "
+              + "recently before.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_METASTORE_INODE_CACHE_LOW_WATER_MARK_RATIO =
       new Builder(Name.MASTER_METASTORE_INODE_CACHE_LOW_WATER_MARK_RATIO)
           .setDefaultValue("0.8")
@@ -1438,6 +1488,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METASTORE_INODE_CACHE_WINDOW_RATIO =
+      new Builder(Name.MASTER_METASTORE_INODE_CACHE_WINDOW_RATIO)
+          .setDefaultValue("0.01")
+          .setDescription("The size of the admission window of the caches which use the "
+              + "TINY_LFU policy, as a ratio of the low water mark. Newly cached entries stay in "
+              + "the window until they are old enough to compete for a place in the cache.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_METASTORE_INODE_ITERATION_CRAWLER_COUNT =
       new Builder(Name.MASTER_METASTORE_INODE_ITERATION_CRAWLER_COUNT)
           .setDefaultSupplier(() -> Runtime.getRuntime().availableProcessors(),
@@ -1461,6 +1520,92 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_BLOCK_CACHE_SIZE =
+      new Builder(Name.MASTER_METASTORE_ROCKS_BLOCK_CACHE_SIZE)
+          .setDefaultValue("64MB")
+          .setDescription("The size of the LRU block cache of each RocksDB metastore database. "
+              + "The cache is shared by the column families of the database and holds "
+              + "uncompressed data blocks, so that lookups which miss the on-heap inode cache "
+              + "can be served without reading from disk.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_BLOCK_LOCATION_COMPRESSION =
+      new Builder(Name.MASTER_METASTORE_ROCKS_BLOCK_LOCATION_COMPRESSION)
+          .setDefaultValue("NO_COMPRESSION")
+          .setDescription("The RocksDB compression type of the block locations column family, "
+              + "e.g. NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION or ZSTD_COMPRESSION.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_BLOCK_META_COMPRESSION =
+      new Builder(Name.MASTER_METASTORE_ROCKS_BLOCK_META_COMPRESSION)
+          .setDefaultValue("NO_COMPRESSION")
+          .setDescription("The RocksDB compression type of the block metadata column family, "
+              + "e.g. NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION or ZSTD_COMPRESSION.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY =
+      new Builder(Name.MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY)
+          .setDefaultValue("10")
+          .setDescription("The number of bits per key of the bloom filters built for the RocksDB "
+              + "metastore tables. The filters let point lookups of absent keys skip reading "
+              + "table files; 10 bits per key gives a false positive rate of about 1%. Set this "
+              + "to 0 to disable bloom filters.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_EDGE_COMPRESSION =
+      new Builder(Name.MASTER_METASTORE_ROCKS_EDGE_COMPRESSION)
+          .setDefaultValue("NO_COMPRESSION")
+          .setDescription("The RocksDB compression type of the inode edges column family, "
+              + "e.g. NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION or ZSTD_COMPRESSION.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_INODE_COMPRESSION =
+      new Builder(Name.MASTER_METASTORE_ROCKS_INODE_COMPRESSION)
+          .setDefaultValue("NO_COMPRESSION")
+          .setDescription("The RocksDB compression type of the inodes column family, "
+              + "e.g. NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION or ZSTD_COMPRESSION.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_MEMTABLE_TYPE =
+      new Builder(Name.MASTER_METASTORE_ROCKS_MEMTABLE_TYPE)
+          .setDefaultValue("HASH_LINKED_LIST")
+          .setDescription("The memtable implementation of the RocksDB metastore, either "
+              + "HASH_LINKED_LIST or SKIP_LIST. Only the SKIP_LIST memtable supports "
+              + "concurrent writes, which are enabled when it is used.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_STATISTICS_ENABLED =
+      new Builder(Name.MASTER_METASTORE_ROCKS_STATISTICS_ENABLED)
+          .setDefaultValue("false")
+          .setDescription("Whether to collect RocksDB statistics, such as block cache and bloom "
+              + "filter hits, and report them as master metrics. Collecting statistics adds a "
+              + "small overhead to every database operation.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_WRITE_BUFFER_NUMBER =
+      new Builder(Name.MASTER_METASTORE_ROCKS_WRITE_BUFFER_NUMBER)
+          .setDefaultValue("2")
+          .setDescription("The maximum number of memtables of each RocksDB metastore column "
+              + "family, including the one being written to. Writes stall when all of them are "
+              + "full and waiting to be flushed.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_METASTORE_ROCKS_WRITE_BUFFER_SIZE =
+      new Builder(Name.MASTER_METASTORE_ROCKS_WRITE_BUFFER_SIZE)
+          .setDefaultValue("64MB")
+          .setDescription("The size of each memtable of the RocksDB metastore column families.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_METRICS_TIME_SERIES_INTERVAL =
       new Builder(Name.MASTER_METRICS_TIME_SERIES_INTERVAL)
           .setDefaultValue("5min")
@@ -1614,6 +1759,22 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_RESTORE_BUFFER_SIZE =
+      new Builder(Name.MASTER_JOURNAL_CHECKPOINT_RESTORE_BUFFER_SIZE)
+          .setDefaultValue("8MB")
+          .setDescription("The amount of checkpoint data buffered for each master whose "
+              + "checkpoint is restored concurrently with the checkpoints of other masters.")
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey MASTER_JOURNAL_CHECKPOINT_RESTORE_THREADS =
+      new Builder(Name.MASTER_JOURNAL_CHECKPOINT_RESTORE_THREADS)
+          .setDefaultSupplier(() -> Runtime.getRuntime().availableProcessors(),
+              "The number of CPU cores")
+          .setDescription("The number of threads used to restore the checkpoints of different "
+              + "masters concurrently, and to decode the inodes of a checkpoint. Set this to 1 "
+              + "to restore checkpoints on a single thread.")
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_JOURNAL_GC_PERIOD_MS =
       new Builder(Name.MASTER_JOURNAL_GC_PERIOD_MS)
           .setAlias("alluxio.master.journal.gc.period.ms")
@@ -1953,6 +2114,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
               .build();
+  public static final PropertyKey MASTER_WORKER_REGISTER_STREAM_CONCURRENCY =
+      new Builder(Name.MASTER_WORKER_REGISTER_STREAM_CONCURRENCY)
+          .setDefaultValue(16)
+          .setDescription("The maximum number of workers registering with the master through "
+              + "streams at the same time. Workers registering while the limit is reached are "
+              + "turned away, and retry later.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey MASTER_WORKER_TIMEOUT_MS =
       new Builder(Name.MASTER_WORKER_TIMEOUT_MS)
           .setAlias("alluxio.master.worker.timeout.ms")
@@ -2365,6 +2535,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.WORKER)
           .build();
+  public static final PropertyKey WORKER_NETWORK_READER_MMAP_ENABLED =
+      new Builder(Name.WORKER_NETWORK_READER_MMAP_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether the worker serves remote reads of blocks in Alluxio storage "
+              + "from memory-mapped regions of the block files, instead of copying each chunk "
+              + "into a network buffer first.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey WORKER_NETWORK_SHUTDOWN_TIMEOUT =
       new Builder(Name.WORKER_NETWORK_SHUTDOWN_TIMEOUT)
           .setDefaultValue("15sec")
@@ -2395,6 +2574,32 @@ public final class PropertyKey implements Comparable<PropertyKey> {
       .setConsistencyCheckLevel(ConsistencyCheckLevel.ENFORCE)
       .setScope(Scope.WORKER)
       .build();
+  public static final PropertyKey WORKER_REGISTER_STREAM_BATCH_SIZE =
+      new Builder(Name.WORKER_REGISTER_STREAM_BATCH_SIZE)
+          .setDefaultValue(100000)
+          .setDescription("The maximum number of block ids sent to the master in each request "
+              + "of a streaming registration.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
+  public static final PropertyKey WORKER_REGISTER_STREAM_ENABLED =
+      new Builder(Name.WORKER_REGISTER_STREAM_ENABLED)
+          .setDefaultValue(true)
+          .setDescription("Whether the worker registers with the master by streaming its blocks "
+              + "in batches, rather than by sending all of its blocks in a single request. "
+              + "Workers fall back to a single request when the master does not support "
+              + "streaming registrations.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
+  public static final PropertyKey WORKER_REGISTER_STREAM_RESPONSE_TIMEOUT =
+      new Builder(Name.WORKER_REGISTER_STREAM_RESPONSE_TIMEOUT)
+          .setDefaultValue("5min")
+          .setDescription("The maximum time the worker waits for the master to process a batch "
+              + "of blocks of a streaming registration.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey WORKER_RPC_PORT =
       new Builder(Name.WORKER_RPC_PORT)
           .setAlias("alluxio.worker.port")
@@ -2624,6 +2829,25 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.WORKER)
           .build();
+  public static final PropertyKey WORKER_UFS_BLOCK_READ_COALESCE_ENABLED =
+      new Builder(Name.WORKER_UFS_BLOCK_READ_COALESCE_ENABLED)
+          .setDefaultValue(true)
+          .setDescription("Whether the concurrent reads of a block which is not cached by the "
+              + "worker are coalesced into a single read from the under storage. The readers "
+              + "which open the block while another reader caches it read the block from the "
+              + "cached data as it is written.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
+  public static final PropertyKey WORKER_UFS_BLOCK_READ_COALESCE_WAIT_TIMEOUT =
+      new Builder(Name.WORKER_UFS_BLOCK_READ_COALESCE_WAIT_TIMEOUT)
+          .setDefaultValue("30sec")
+          .setDescription("When reads of a block are coalesced, the time a reader waits for the "
+              + "reader caching the block to make progress before reading the rest of the "
+              + "block from the under storage itself.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.WORKER)
+          .build();
   public static final PropertyKey WORKER_UFS_INSTREAM_CACHE_ENABLED =
       new Builder(Name.WORKER_UFS_INSTREAM_CACHE_ENABLED)
           .setDefaultValue("true")
@@ -2677,6 +2901,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.IGNORE)
           .setScope(Scope.NONE)
           .build();
+  public static final PropertyKey PROXY_S3_MULTIPART_COMPLETE_PARALLELISM =
+      new Builder(Name.PROXY_S3_MULTIPART_COMPLETE_PARALLELISM)
+          .setDefaultValue(4)
+          .setDescription("The number of chunks of the parts of a multipart upload which are "
+              + "read in parallel while the parts are combined into the final object through "
+              + "S3 API.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.IGNORE)
+          .setScope(Scope.NONE)
+          .build();
   public static final PropertyKey PROXY_S3_MULTIPART_TEMPORARY_DIR_SUFFIX =
       new Builder(Name.PROXY_S3_MULTIPART_TEMPORARY_DIR_SUFFIX)
           .setDefaultValue(Constants.S3_MULTIPART_TEMPORARY_DIR_SUFFIX)
@@ -2826,6 +3059,48 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey USER_CLIENT_CACHE_DIR =
+      new Builder(Name.USER_CLIENT_CACHE_DIR)
+          .setDefaultValue("/tmp/alluxio_cache")
+          .setDescription("The directory where the client page cache stores its pages when "
+              + "alluxio.user.client.cache.store.type is LOCAL. Any content of the directory is "
+              + "deleted when the cache is created.")
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_ENABLED =
+      new Builder(Name.USER_CLIENT_CACHE_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether files read by the client are cached in pages on the client "
+              + "host, so that data which is read repeatedly is not fetched from Alluxio "
+              + "workers every time.")
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_EVICTOR_CLASS =
+      new Builder(Name.USER_CLIENT_CACHE_EVICTOR_CLASS)
+          .setDefaultValue("alluxio.client.file.cache.LRUCacheEvictor")
+          .setDescription("The strategy which the client page cache uses to choose the pages "
+              + "to evict when it is full.")
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_PAGE_SIZE =
+      new Builder(Name.USER_CLIENT_CACHE_PAGE_SIZE)
+          .setDefaultValue("1MB")
+          .setDescription("The size of the pages in the client page cache.")
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_SIZE =
+      new Builder(Name.USER_CLIENT_CACHE_SIZE)
+          .setDefaultValue("512MB")
+          .setDescription("The maximum amount of data which the client page cache holds.")
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_CLIENT_CACHE_STORE_TYPE =
+      new Builder(Name.USER_CLIENT_CACHE_STORE_TYPE)
+          .setDefaultValue("LOCAL")
+          .setDescription("Where the client page cache stores its pages. Valid options are "
+              + "LOCAL (files in alluxio.user.client.cache.dir) and MEMORY (off-heap memory).")
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_CONF_SYNC_INTERVAL =
       new Builder(Name.USER_CONF_SYNC_INTERVAL)
           .setDefaultValue("3sec")
@@ -2854,6 +3129,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "before this file is persisted.")
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey USER_FILE_REPLICATION_PIPELINE_ENABLED =
+      new Builder(Name.USER_FILE_REPLICATION_PIPELINE_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether the replicas of a block written with a min replication level "
+              + "above one are written through a pipeline of workers. When enabled, the client "
+              + "only sends the block to the first worker, which forwards it to the next worker "
+              + "while writing it, instead of the client sending the block to every worker.")
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_BLOCK_SIZE_BYTES_DEFAULT =
       new Builder(Name.USER_BLOCK_SIZE_BYTES_DEFAULT)
           .setDefaultValue("64MB")
@@ -3004,6 +3288,27 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "writing data to Alluxio but fallback to write to UFS without stopping the "
               + "application. This property only works when the write type is ASYNC_THROUGH.")
           .setDefaultValue(false).build();
+  public static final PropertyKey USER_FILE_VECTORED_READ_MAX_MERGED_SIZE =
+      new Builder(Name.USER_FILE_VECTORED_READ_MAX_MERGED_SIZE)
+          .setDefaultValue("4MB")
+          .setDescription("The maximum size of a single read which nearby ranges of a vectored "
+              + "read are merged into.")
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_FILE_VECTORED_READ_MERGE_GAP =
+      new Builder(Name.USER_FILE_VECTORED_READ_MERGE_GAP)
+          .setDefaultValue("64KB")
+          .setDescription("Ranges of a vectored read within the same block are merged into a "
+              + "single read when the gap between them is at most this size.")
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_FILE_VECTORED_READ_THREADS =
+      new Builder(Name.USER_FILE_VECTORED_READ_THREADS)
+          .setDefaultValue(32)
+          .setDescription("The number of threads a client uses to issue the reads of vectored "
+              + "reads in parallel.")
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_BLOCK_WRITE_LOCATION_POLICY =
       new Builder(Name.USER_BLOCK_WRITE_LOCATION_POLICY)
           .setDefaultValue("alluxio.client.block.policy.LocalFirstPolicy")
@@ -3066,6 +3371,32 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey USER_METADATA_CACHE_ENABLED =
+      new Builder(Name.USER_METADATA_CACHE_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether the client caches the results of getStatus, exists and "
+              + "listStatus, so that repeated calls on the same paths do not reach the master. "
+              + "The modifications made through the same client invalidate the cached entries, "
+              + "but the modifications made by other clients are only seen once the entries "
+              + "expire. When the cache is enabled for the client, it can be disabled for some "
+              + "paths with path level configuration.")
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_METADATA_CACHE_EXPIRATION_TIME =
+      new Builder(Name.USER_METADATA_CACHE_EXPIRATION_TIME)
+          .setDefaultValue("1min")
+          .setDescription("The time after which the entries of the client metadata cache "
+              + "expire, and are fetched from the master again. It can be configured per path "
+              + "with path level configuration.")
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey USER_METADATA_CACHE_MAX_SIZE =
+      new Builder(Name.USER_METADATA_CACHE_MAX_SIZE)
+          .setDefaultValue(100000)
+          .setDescription("The maximum number of file statuses held by the client metadata "
+              + "cache, for each of the single path statuses and the directory listings.")
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_METRICS_COLLECTION_ENABLED =
       new Builder(Name.USER_METRICS_COLLECTION_ENABLED)
           .setDefaultValue(false)
@@ -3249,6 +3580,7 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDescription(String.format("When an Alluxio client reads a file from the UFS, it "
               + "delegates the read to an Alluxio worker. The client uses this policy to choose "
               + "which worker to read through. Built-in choices: %s.", Arrays.asList(
+              javadocLink("alluxio.client.block.policy.ConsistentHashPolicy"),
               javadocLink("alluxio.client.block.policy.DeterministicHashPolicy"),
               javadocLink("alluxio.client.block.policy.LocalFirstAvoidEvictionPolicy"),
               javadocLink("alluxio.client.block.policy.LocalFirstPolicy"),
@@ -3258,6 +3590,29 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.CLIENT)
           .build();
+  public static final PropertyKey
+      USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_LOAD_FACTOR =
+      new Builder(Name.USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_LOAD_FACTOR)
+          .setDefaultValue(1.25)
+          .setDescription("When alluxio.user.ufs.block.read.location.policy is set to "
+              + "alluxio.client.block.policy.ConsistentHashPolicy, the maximum ratio between the "
+              + "data held by a worker and its share of the data held by all the workers, in "
+              + "proportion to its capacity. The blocks which hash to a worker over this bound "
+              + "are read through the next worker on the hash ring.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
+  public static final PropertyKey
+      USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_VIRTUAL_NODES =
+      new Builder(Name.USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_VIRTUAL_NODES)
+          .setDefaultValue(200)
+          .setDescription("When alluxio.user.ufs.block.read.location.policy is set to "
+              + "alluxio.client.block.policy.ConsistentHashPolicy, the number of virtual nodes "
+              + "each worker owns on the hash ring. More virtual nodes spread the blocks more "
+              + "evenly across the workers.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.CLIENT)
+          .build();
   public static final PropertyKey USER_UFS_BLOCK_READ_LOCATION_POLICY_DETERMINISTIC_HASH_SHARDS =
       new Builder(Name.USER_UFS_BLOCK_READ_LOCATION_POLICY_DETERMINISTIC_HASH_SHARDS)
           .setDefaultValue(1)
@@ -3569,6 +3924,13 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + Name.JOB_MASTER_FINISHED_JOB_RETENTION_TIME + ".")
           .setDefaultValue(100000)
           .build();
+  public static final PropertyKey JOB_MASTER_JOB_RESTORE_DELAY =
+      new Builder(Name.JOB_MASTER_JOB_RESTORE_DELAY)
+          .setDescription("The amount of time the job master waits after becoming the primary "
+              + "before restarting the jobs which were still running on the previous primary, so "
+              + "that job workers can register with it first.")
+          .setDefaultValue("10sec")
+          .build();
   public static final PropertyKey JOB_MASTER_WORKER_HEARTBEAT_INTERVAL =
       new Builder(Name.JOB_MASTER_WORKER_HEARTBEAT_INTERVAL)
           .setDescription("The amount of time that the Alluxio job worker should wait in between "
@@ -3739,6 +4101,23 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
           .setScope(Scope.MASTER)
           .build();
+  public static final PropertyKey TABLE_CATALOG_UDB_SYNC_INTERVAL =
+      new Builder(Name.TABLE_CATALOG_UDB_SYNC_INTERVAL)
+          .setDefaultValue("10min")
+          .setDescription("The interval at which the table master syncs the tables and "
+              + "partitions of the attached databases from their under databases in the "
+              + "background.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
+  public static final PropertyKey TABLE_CATALOG_UDB_SYNC_THREADS =
+      new Builder(Name.TABLE_CATALOG_UDB_SYNC_THREADS)
+          .setDefaultValue(8)
+          .setDescription("The maximum number of tables of a database which are fetched from "
+              + "the under database concurrently when syncing the database.")
+          .setConsistencyCheckLevel(ConsistencyCheckLevel.WARN)
+          .setScope(Scope.MASTER)
+          .build();
   public static final PropertyKey TABLE_TRANSFORM_MANAGER_JOB_MONITOR_INTERVAL =
       new Builder(Name.TABLE_TRANSFORM_MANAGER_JOB_MONITOR_INTERVAL)
           .setDefaultValue(10 * Constants.SECOND_MS)
@@ -4036,22 +4415,54 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String MASTER_EMBEDDED_JOURNAL_TRANSPORT_MAX_INBOUND_MESSAGE_SIZE =
         "alluxio.master.embedded.journal.transport.max.inbound.message.size";
     public static final String MASTER_KEYTAB_KEY_FILE = "alluxio.master.keytab.file";
+    public static final String MASTER_METADATA_SYNC_UFS_PREFETCH_POOL_SIZE =
+        "alluxio.master.metadata.sync.ufs.prefetch.pool.size";
+    public static final String MASTER_METADATA_SYNC_UFS_PREFETCH_WINDOW =
+        "alluxio.master.metadata.sync.ufs.prefetch.window";
     public static final String MASTER_METASTORE = "alluxio.master.metastore";
     public static final String MASTER_METASTORE_DIR = "alluxio.master.metastore.dir";
     public static final String MASTER_METASTORE_INODE_CACHE_EVICT_BATCH_SIZE =
         "alluxio.master.metastore.inode.cache.evict.batch.size";
+    public static final String MASTER_METASTORE_INODE_CACHE_EDGE_POLICY =
+        "alluxio.master.metastore.inode.cache.edge.policy";
     public static final String MASTER_METASTORE_INODE_CACHE_HIGH_WATER_MARK_RATIO =
         "alluxio.master.metastore.inode.cache.high.water.mark.ratio";
+    public static final String MASTER_METASTORE_INODE_CACHE_INODE_POLICY =
+        "alluxio.master.metastore.inode.cache.inode.policy";
+    public static final String MASTER_METASTORE_INODE_CACHE_LISTING_POLICY =
+        "alluxio.master.metastore.inode.cache.listing.policy";
     public static final String MASTER_METASTORE_INODE_CACHE_LOW_WATER_MARK_RATIO =
         "alluxio.master.metastore.inode.cache.low.water.mark.ratio";
     public static final String MASTER_METASTORE_INODE_CACHE_MAX_SIZE =
         "alluxio.master.metastore.inode.cache.max.size";
+    public static final String MASTER_METASTORE_INODE_CACHE_WINDOW_RATIO =
+        "alluxio.master.metastore.inode.cache.window.ratio";
     public static final String MASTER_METASTORE_INODE_ITERATION_CRAWLER_COUNT =
         "alluxio.master.metastore.inode.iteration.crawler.count";
     public static final String MASTER_METASTORE_INODE_ENUMERATOR_BUFFER_COUNT =
         "alluxio.master.metastore.inode.enumerator.buffer.count";
     public static final String MASTER_METASTORE_INODE_INHERIT_OWNER_AND_GROUP =
         "alluxio.master.metastore.inode.inherit.owner.and.group";
+    public static final String MASTER_METASTORE_ROCKS_BLOCK_CACHE_SIZE =
+        "alluxio.master.metastore.rocks.block.cache.size";
+    public static final String MASTER_METASTORE_ROCKS_BLOCK_LOCATION_COMPRESSION =
+        "alluxio.master.metastore.rocks.block.location.compression";
+    public static final String MASTER_METASTORE_ROCKS_BLOCK_META_COMPRESSION =
+        "alluxio.master.metastore.rocks.block.meta.compression";
+    public static final String MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY =
+        "alluxio.master.metastore.rocks.bloom.filter.bits.per.key";
+    public static final String MASTER_METASTORE_ROCKS_EDGE_COMPRESSION =
+        "alluxio.master.metastore.rocks.edge.compression";
+    public static final String MASTER_METASTORE_ROCKS_INODE_COMPRESSION =
+        "alluxio.master.metastore.rocks.inode.compression";
+    public static final String MASTER_METASTORE_ROCKS_MEMTABLE_TYPE =
+        "alluxio.master.metastore.rocks.memtable.type";
+    public static final String MASTER_METASTORE_ROCKS_STATISTICS_ENABLED =
+        "alluxio.master.metastore.rocks.statistics.enabled";
+    public static final String MASTER_METASTORE_ROCKS_WRITE_BUFFER_NUMBER =
+        "alluxio.master.metastore.rocks.write.buffer.number";
+    public static final String MASTER_METASTORE_ROCKS_WRITE_BUFFER_SIZE =
+        "alluxio.master.metastore.rocks.write.buffer.size";
     public static final String MASTER_PERSISTENCE_CHECKER_INTERVAL_MS =
         "alluxio.master.persistence.checker.interval";
     public static final String MASTER_METRICS_TIME_SERIES_INTERVAL =
@@ -4136,9 +4547,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String MASTER_WHITELIST = "alluxio.master.whitelist";
     public static final String MASTER_WORKER_CONNECT_WAIT_TIME =
         "alluxio.master.worker.connect.wait.time";
+    public static final String MASTER_WORKER_REGISTER_STREAM_CONCURRENCY =
+        "alluxio.master.worker.register.stream.concurrency";
     public static final String MASTER_WORKER_TIMEOUT_MS = "alluxio.master.worker.timeout";
     public static final String MASTER_JOURNAL_CHECKPOINT_PERIOD_ENTRIES =
         "alluxio.master.journal.checkpoint.period.entries";
+    public static final String MASTER_JOURNAL_CHECKPOINT_RESTORE_BUFFER_SIZE =
+        "alluxio.master.journal.checkpoint.restore.buffer.size";
+    public static final String MASTER_JOURNAL_CHECKPOINT_RESTORE_THREADS =
+        "alluxio.master.journal.checkpoint.restore.threads";
     public static final String MASTER_JOURNAL_GC_PERIOD_MS = "alluxio.master.journal.gc.period";
     public static final String MASTER_JOURNAL_GC_THRESHOLD_MS =
         "alluxio.master.journal.gc.threshold";
@@ -4228,6 +4645,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.worker.network.reader.buffer.size";
     public static final String WORKER_NETWORK_READER_MAX_CHUNK_SIZE_BYTES =
         "alluxio.worker.network.reader.max.chunk.size.bytes";
+    public static final String WORKER_NETWORK_READER_MMAP_ENABLED =
+        "alluxio.worker.network.reader.mmap.enabled";
     public static final String WORKER_NETWORK_SHUTDOWN_TIMEOUT =
         "alluxio.worker.network.shutdown.timeout";
     public static final String WORKER_NETWORK_ZEROCOPY_ENABLED =
@@ -4235,6 +4654,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String WORKER_BLOCK_MASTER_CLIENT_POOL_SIZE =
         "alluxio.worker.block.master.client.pool.size";
     public static final String WORKER_PRINCIPAL = "alluxio.worker.principal";
+    public static final String WORKER_REGISTER_STREAM_BATCH_SIZE =
+        "alluxio.worker.register.stream.batch.size";
+    public static final String WORKER_REGISTER_STREAM_ENABLED =
+        "alluxio.worker.register.stream.enabled";
+    public static final String WORKER_REGISTER_STREAM_RESPONSE_TIMEOUT =
+        "alluxio.worker.register.stream.response.timeout";
     public static final String WORKER_RPC_PORT = "alluxio.worker.rpc.port";
     public static final String WORKER_SESSION_TIMEOUT_MS = "alluxio.worker.session.timeout";
     public static final String WORKER_STORAGE_CHECKER_ENABLED =
@@ -4251,6 +4676,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String WORKER_WEB_PORT = "alluxio.worker.web.port";
     public static final String WORKER_UFS_BLOCK_OPEN_TIMEOUT_MS =
         "alluxio.worker.ufs.block.open.timeout";
+    public static final String WORKER_UFS_BLOCK_READ_COALESCE_ENABLED =
+        "alluxio.worker.ufs.block.read.coalesce.enabled";
+    public static final String WORKER_UFS_BLOCK_READ_COALESCE_WAIT_TIMEOUT =
+        "alluxio.worker.ufs.block.read.coalesce.wait.timeout";
     public static final String WORKER_UFS_INSTREAM_CACHE_EXPIRATION_TIME =
         "alluxio.worker.ufs.instream.cache.expiration.time";
     public static final String WORKER_UFS_INSTREAM_CACHE_ENABLED =
@@ -4263,6 +4692,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     //
     public static final String PROXY_S3_WRITE_TYPE = "alluxio.proxy.s3.writetype";
     public static final String PROXY_S3_DELETE_TYPE = "alluxio.proxy.s3.deletetype";
+    public static final String PROXY_S3_MULTIPART_COMPLETE_PARALLELISM =
+        "alluxio.proxy.s3.multipart.complete.parallelism";
     public static final String PROXY_S3_MULTIPART_TEMPORARY_DIR_SUFFIX =
         "alluxio.proxy.s3.multipart.temporary.dir.suffix";
     public static final String PROXY_STREAM_CACHE_TIMEOUT_MS =
@@ -4306,6 +4737,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.user.block.worker.client.read.retry";
     public static final String USER_BLOCK_WRITE_LOCATION_POLICY =
         "alluxio.user.block.write.location.policy.class";
+    public static final String USER_CLIENT_CACHE_DIR = "alluxio.user.client.cache.dir";
+    public static final String USER_CLIENT_CACHE_ENABLED = "alluxio.user.client.cache.enabled";
+    public static final String USER_CLIENT_CACHE_EVICTOR_CLASS =
+        "alluxio.user.client.cache.evictor.class";
+    public static final String USER_CLIENT_CACHE_PAGE_SIZE =
+        "alluxio.user.client.cache.page.size";
+    public static final String USER_CLIENT_CACHE_SIZE = "alluxio.user.client.cache.size";
+    public static final String USER_CLIENT_CACHE_STORE_TYPE =
+        "alluxio.user.client.cache.store.type";
     public static final String USER_CONF_CLUSTER_DEFAULT_ENABLED =
         "alluxio.user.conf.cluster.default.enabled";
     public static final String USER_CONF_SYNC_INTERVAL = "alluxio.user.conf.sync.interval";
@@ -4331,7 +4771,15 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String USER_FILE_REPLICATION_MIN = "alluxio.user.file.replication.min";
     public static final String USER_FILE_REPLICATION_DURABLE =
         "alluxio.user.file.replication.durable";
+    public static final String USER_FILE_REPLICATION_PIPELINE_ENABLED =
+        "alluxio.user.file.replication.pipeline.enabled";
     public static final String USER_FILE_UFS_TIER_ENABLED = "alluxio.user.file.ufs.tier.enabled";
+    public static final String USER_FILE_VECTORED_READ_MAX_MERGED_SIZE =
+        "alluxio.user.file.vectored.read.max.merged.size";
+    public static final String USER_FILE_VECTORED_READ_MERGE_GAP =
+        "alluxio.user.file.vectored.read.merge.gap";
+    public static final String USER_FILE_VECTORED_READ_THREADS =
+        "alluxio.user.file.vectored.read.threads";
     public static final String USER_FILE_WAITCOMPLETED_POLL_MS =
         "alluxio.user.file.waitcompleted.poll";
     public static final String USER_FILE_CREATE_TTL =
@@ -4346,6 +4794,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.user.local.reader.chunk.size.bytes";
     public static final String USER_LOCAL_WRITER_CHUNK_SIZE_BYTES =
         "alluxio.user.local.writer.chunk.size.bytes";
+    public static final String USER_METADATA_CACHE_ENABLED =
+        "alluxio.user.metadata.cache.enabled";
+    public static final String USER_METADATA_CACHE_EXPIRATION_TIME =
+        "alluxio.user.metadata.cache.expiration.time";
+    public static final String USER_METADATA_CACHE_MAX_SIZE =
+        "alluxio.user.metadata.cache.max.size";
     public static final String USER_METRICS_COLLECTION_ENABLED =
         "alluxio.user.metrics.collection.enabled";
     public static final String USER_METRICS_HEARTBEAT_INTERVAL_MS =
@@ -4387,6 +4841,11 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.user.ufs.block.location.all.fallback.enabled";
     public static final String USER_UFS_BLOCK_READ_LOCATION_POLICY =
         "alluxio.user.ufs.block.read.location.policy";
+    public static final String USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_LOAD_FACTOR =
+        "alluxio.user.ufs.block.read.location.policy.consistent.hash.load.factor";
+    public static final String
+        USER_UFS_BLOCK_READ_LOCATION_POLICY_CONSISTENT_HASH_VIRTUAL_NODES =
+        "alluxio.user.ufs.block.read.location.policy.consistent.hash.virtual.nodes";
     public static final String USER_UFS_BLOCK_READ_LOCATION_POLICY_DETERMINISTIC_HASH_SHARDS =
         "alluxio.user.ufs.block.read.location.policy.deterministic.hash.shards";
     public static final String USER_UFS_BLOCK_READ_CONCURRENCY_MAX =
@@ -4438,6 +4897,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String JOB_MASTER_FINISHED_JOB_RETENTION_TIME =
         "alluxio.job.master.finished.job.retention.time";
     public static final String JOB_MASTER_JOB_CAPACITY = "alluxio.job.master.job.capacity";
+    public static final String JOB_MASTER_JOB_RESTORE_DELAY =
+        "alluxio.job.master.job.restore.delay";
     public static final String JOB_MASTER_WORKER_HEARTBEAT_INTERVAL =
         "alluxio.job.master.worker.heartbeat.interval";
     public static final String JOB_MASTER_WORKER_TIMEOUT =
@@ -4486,6 +4947,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     //
     public static final String TABLE_ENABLED = "alluxio.table.enabled";
     public static final String TABLE_CATALOG_PATH = "alluxio.table.catalog.path";
+    public static final String TABLE_CATALOG_UDB_SYNC_INTERVAL =
+        "alluxio.table.catalog.udb.sync.interval";
+    public static final String TABLE_CATALOG_UDB_SYNC_THREADS =
+        "alluxio.table.catalog.udb.sync.threads";
     public static final String TABLE_TRANSFORM_MANAGER_JOB_MONITOR_INTERVAL =
         "alluxio.table.transform.manager.job.monitor.interval";
 
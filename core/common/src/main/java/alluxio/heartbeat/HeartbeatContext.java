@@ -52,6 +52,7 @@ public final class HeartbeatContext {
   public static final String MASTER_ACTIVE_UFS_SYNC = "Master Active UFS Sync";
   public static final String MASTER_TABLE_TRANSFORMATION_MONITOR =
       "Master Table Transformation Monitor";
+  public static final String MASTER_TABLE_UDB_SYNC = "Master Table UDB Sync";
   public static final String META_MASTER_SYNC = "Meta Master Sync";
   public static final String META_MASTER_CONFIG_HASH_SYNC = "Meta Master Config Hash Sync";
   public static final String WORKER_BLOCK_SYNC = "Worker Block Sync";
@@ -81,6 +82,7 @@ public final class HeartbeatContext {
     sTimerClasses.put(MASTER_TTL_CHECK, SLEEPING_TIMER_CLASS);
     sTimerClasses.put(MASTER_ACTIVE_UFS_SYNC, SLEEPING_TIMER_CLASS);
     sTimerClasses.put(MASTER_TABLE_TRANSFORMATION_MONITOR, SLEEPING_TIMER_CLASS);
+    sTimerClasses.put(MASTER_TABLE_UDB_SYNC, SLEEPING_TIMER_CLASS);
     sTimerClasses.put(META_MASTER_SYNC, SLEEPING_TIMER_CLASS);
     sTimerClasses.put(META_MASTER_CONFIG_HASH_SYNC, SLEEPING_TIMER_CLASS);
     sTimerClasses.put(WORKER_FILESYSTEM_MASTER_SYNC, SLEEPING_TIMER_CLASS);
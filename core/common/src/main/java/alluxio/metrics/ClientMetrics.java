@@ -20,5 +20,24 @@ public final class ClientMetrics {
   public static final String BYTES_READ_LOCAL_THROUGHPUT = "BytesReadLocalThroughput";
   public static final String BYTES_WRITTEN_UFS = "BytesWrittenUfs";
 
+  /** Total number of bytes read from the client page cache. */
+  public static final String CACHE_BYTES_READ_CACHE = "CacheBytesReadCache";
+  /** Total number of bytes fetched from Alluxio to fill the client page cache. */
+  public static final String CACHE_BYTES_READ_EXTERNAL = "CacheBytesReadExternal";
+  /** Total number of bytes requested by reads which missed the client page cache. */
+  public static final String CACHE_BYTES_REQUESTED_EXTERNAL = "CacheBytesRequestedExternal";
+  public static final String CACHE_ERRORS = "CacheErrors";
+  /** Fraction of the requested bytes which were served by the client page cache. */
+  public static final String CACHE_HIT_RATE = "CacheHitRate";
+  public static final String CACHE_PAGES_EVICTED = "CachePagesEvicted";
+  public static final String CACHE_SPACE_USED = "CacheSpaceUsed";
+
+  /** Number of metadata lookups answered by the client metadata cache. */
+  public static final String METADATA_CACHE_HITS = "MetadataCacheHits";
+  /** Number of metadata lookups which missed the client metadata cache, or found it expired. */
+  public static final String METADATA_CACHE_MISSES = "MetadataCacheMisses";
+  /** Number of cached metadata entries which had changed on the master when refreshed. */
+  public static final String METADATA_CACHE_STALE_READS = "MetadataCacheStaleReads";
+
   private ClientMetrics() {} // prevent instantiation
 }
@@ -20,6 +20,18 @@ public final class MasterMetrics {
   public static final String LAST_BACKUP_RESTORE_COUNT = "LastBackupRestoreCount";
   public static final String BACKUP_ENTRIES_PROCESS_TIME = "BackupEntriesProcessTime";
   public static final String BACKUP_RESTORE_PROCESS_TIME = "BackupRestoreProcessTime";
+  // metrics for the phases of becoming primary
+  public static final String JOURNAL_CHECKPOINT_RESTORE_TIMER = "JournalCheckpointRestoreTimer";
+  public static final String JOURNAL_GAIN_PRIMACY_TIMER = "JournalGainPrimacyTimer";
+  public static final String MASTERS_START_TIMER = "MastersStartTimer";
+  // metrics for the embedded journal
+  public static final String EMBEDDED_JOURNAL_APPLY_LAG = "EmbeddedJournalApplyLagMs";
+  public static final String EMBEDDED_JOURNAL_SNAPSHOT_APPLY_LAG =
+      "EmbeddedJournalSnapshotApplyLagMs";
+  public static final String EMBEDDED_JOURNAL_SNAPSHOT_GENERATE_TIMER =
+      "EmbeddedJournalSnapshotGenerateTimer";
+  public static final String EMBEDDED_JOURNAL_LAST_SNAPSHOT_DURATION =
+      "EmbeddedJournalLastSnapshotDurationMs";
   // metrics names for FileSystemMaster
   public static final String DIRECTORIES_CREATED = "DirectoriesCreated";
   public static final String FILE_BLOCK_INFOS_GOT = "FileBlockInfosGot";
@@ -51,6 +63,23 @@ public final class MasterMetrics {
   public static final String UFS_CAPACITY_TOTAL = "UfsCapacityTotal";
   public static final String UFS_CAPACITY_USED = "UfsCapacityUsed";
   public static final String UFS_CAPACITY_FREE = "UfsCapacityFree";
+  // metrics for UFS metadata sync
+  public static final String UFS_SYNC_DIRECTORIES_LISTED = "UfsSyncDirectoriesListed";
+  public static final String UFS_SYNC_PATHS_LISTED = "UfsSyncPathsListed";
+  public static final String UFS_SYNC_PREFETCHES_PENDING = "UfsSyncPrefetchesPending";
+  public static final String UFS_SYNC_PREFETCHES_USED = "UfsSyncPrefetchesUsed";
+  // metrics for the RocksDB metastore, which are prefixed with the name of the store
+  public static final String ROCKS_BLOCK_STORE = "RocksBlockStore";
+  public static final String ROCKS_INODE_STORE = "RocksInodeStore";
+  public static final String ROCKS_BLOCK_CACHE_HITS = "BlockCacheHits";
+  public static final String ROCKS_BLOCK_CACHE_MISSES = "BlockCacheMisses";
+  public static final String ROCKS_BLOCK_CACHE_USAGE = "BlockCacheUsage";
+  public static final String ROCKS_BLOOM_FILTER_USEFUL = "BloomFilterUseful";
+  public static final String ROCKS_ESTIMATED_NUM_KEYS = "EstimatedNumKeys";
+  public static final String ROCKS_LIVE_SST_FILES_SIZE = "LiveSstFilesSize";
+  public static final String ROCKS_MEMTABLE_HITS = "MemTableHits";
+  public static final String ROCKS_MEMTABLE_MISSES = "MemTableMisses";
+  public static final String ROCKS_MEMTABLE_SIZE = "MemTableSize";
 
   private MasterMetrics() {} // prevent instantiation
 }
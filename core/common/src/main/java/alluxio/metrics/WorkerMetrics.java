@@ -72,6 +72,11 @@ public final class WorkerMetrics {
   public static final String BYTES_READ_DOMAIN_THROUGHPUT = "BytesReadDomainThroughput";
   public static final String BYTES_WRITTEN_DOMAIN = "BytesWrittenDomain";
   public static final String BYTES_WRITTEN_DOMAIN_THROUGHPUT = "BytesWrittenDomainThroughput";
+  /**
+   * Total number of bytes sent to remote readers straight from memory-mapped block files, without
+   * being copied into a network buffer.
+   */
+  public static final String BYTES_READ_MAPPED = "BytesReadMapped";
 
   /** Total number of bytes read/written from UFS through this worker. */
   public static final String BYTES_READ_UFS = "BytesReadPerUfs";
@@ -81,6 +86,16 @@ public final class WorkerMetrics {
   public static final String BYTES_WRITTEN_UFS_ALL = "BytesWrittenUfsAll";
   public static final String BYTES_WRITTEN_UFS_THROUGHPUT = "BytesWrittenUfsThroughput";
 
+  /**
+   * Number of UFS blocks read from the under storage into a temp block which concurrent readers
+   * of the block can join, and number of UFS block reads which joined one of them. The fallback
+   * counts the reads which left the fetch they joined to read from the under storage.
+   */
+  public static final String UFS_BLOCK_FETCHES = "UfsBlockFetches";
+  public static final String UFS_BLOCK_READS_COALESCED = "UfsBlockReadsCoalesced";
+  public static final String UFS_BLOCK_READS_COALESCED_FALLBACK =
+      "UfsBlockReadsCoalescedFallback";
+
   public static final String UFS_OP_PREFIX = "UfsOp";
 
   // Tags
@@ -0,0 +1,67 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.resource;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * An {@link Iterator} which holds resources, such as a database cursor, that must be released once
+ * the caller is done iterating, whether or not the iterator has been exhausted.
+ *
+ * @param <T> the type of the iterated elements
+ */
+public interface CloseableIterator<T> extends Iterator<T>, Closeable {
+  /**
+   * Releases the resources held by the iterator.
+   */
+  @Override
+  void close();
+
+  /**
+   * Wraps an iterator which does not hold any resources.
+   *
+   * @param iterator the iterator to wrap
+   * @param <T> the type of the iterated elements
+   * @return a closeable iterator whose {@link #close()} does nothing
+   */
+  static <T> CloseableIterator<T> noopCloseable(Iterator<? extends T> iterator) {
+    return create(iterator, () -> { });
+  }
+
+  /**
+   * Wraps an iterator together with the action which releases its resources.
+   *
+   * @param iterator the iterator to wrap
+   * @param closer the action to run when the iterator is closed
+   * @param <T> the type of the iterated elements
+   * @return the closeable iterator
+   */
+  static <T> CloseableIterator<T> create(Iterator<? extends T> iterator, Runnable closer) {
+    return new CloseableIterator<T>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public T next() {
+        return iterator.next();
+      }
+
+      @Override
+      public void close() {
+        closer.run();
+      }
+    };
+  }
+}
@@ -35,8 +35,10 @@ import java.io.OutputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 
 import javax.annotation.Nullable;
@@ -174,6 +176,33 @@ public abstract class BaseUnderFileSystem implements UnderFileSystem {
     return returnPaths.toArray(new UfsStatus[returnPaths.size()]);
   }
 
+  @Override
+  @Nullable
+  public UfsStatusIterator listStatusIterator(String path, ListOptions options)
+      throws IOException {
+    path = validatePath(path);
+    UfsStatusIterator children = listChildrenIterator(path);
+    if (children == null || !options.isRecursive()) {
+      return children;
+    }
+    return new RecursiveStatusIterator(path, children);
+  }
+
+  /**
+   * Returns an iterator over the statuses of the immediate children of a directory, named relative
+   * to the directory. Under file systems which can page through a directory listing should
+   * override this to do so; by default the children are listed with {@link #listStatus(String)}.
+   *
+   * @param path the path of the directory to list
+   * @return an iterator over the statuses of the children, or null if the path does not denote a
+   *         directory
+   */
+  @Nullable
+  protected UfsStatusIterator listChildrenIterator(String path) throws IOException {
+    UfsStatus[] statuses = listStatus(path);
+    return statuses == null ? null : UfsStatusIterator.fromArray(statuses);
+  }
+
   @Override
   public InputStream open(String path) throws IOException {
     return open(path, OpenOptions.defaults());
@@ -225,4 +254,74 @@ public abstract class BaseUnderFileSystem implements UnderFileSystem {
   protected static String validatePath(String path) {
     return new AlluxioURI(path).toString();
   }
+
+  /**
+   * Walks a directory tree depth first, opening the listing of a subdirectory only once the
+   * caller advances past it, so that at most one listing per level of the tree is open at a time.
+   * The names of the returned statuses are relative to the root of the walk.
+   */
+  private final class RecursiveStatusIterator implements UfsStatusIterator {
+    private final String mRootPath;
+    /** Each element is a pair of (path relative to the root, listing of that directory). */
+    private final Deque<Pair<String, UfsStatusIterator>> mListings = new ArrayDeque<>();
+    /** The relative path of the last returned directory, whose listing is yet to be opened. */
+    @Nullable
+    private String mPendingDir;
+
+    RecursiveStatusIterator(String rootPath, UfsStatusIterator rootListing) {
+      mRootPath = rootPath;
+      mListings.push(new Pair<>("", rootListing));
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+      if (mPendingDir != null) {
+        UfsStatusIterator children =
+            listChildrenIterator(PathUtils.concatPath(mRootPath, mPendingDir));
+        if (children != null) {
+          mListings.push(new Pair<>(mPendingDir, children));
+        }
+        mPendingDir = null;
+      }
+      while (!mListings.isEmpty()) {
+        if (mListings.peek().getSecond().hasNext()) {
+          return true;
+        }
+        mListings.pop().getSecond().close();
+      }
+      return false;
+    }
+
+    @Override
+    public UfsStatus next() throws IOException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Pair<String, UfsStatusIterator> listing = mListings.peek();
+      UfsStatus status = listing.getSecond().next();
+      String prefix = listing.getFirst();
+      if (!prefix.isEmpty()) {
+        status.setName(PathUtils.concatPath(prefix, status.getName()));
+      }
+      if (status.isDirectory()) {
+        mPendingDir = status.getName();
+      }
+      return status;
+    }
+
+    @Override
+    public void close() throws IOException {
+      IOException exception = null;
+      while (!mListings.isEmpty()) {
+        try {
+          mListings.pop().getSecond().close();
+        } catch (IOException e) {
+          exception = e;
+        }
+      }
+      if (exception != null) {
+        throw exception;
+      }
+    }
+  }
 }
@@ -42,8 +42,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -605,6 +609,22 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
     return listInternal(path, options);
   }
 
+  @Override
+  @Nullable
+  public UfsStatusIterator listStatusIterator(String path, ListOptions options)
+      throws IOException {
+    ObjectListingChunk chunk = getObjectListingChunkForPath(path, options.isRecursive());
+    if (chunk == null) {
+      String keyAsFolder = convertToFolderName(stripPrefixIfPresent(path));
+      if (getObjectStatus(keyAsFolder) != null) {
+        // Path is an empty directory
+        return UfsStatusIterator.fromArray();
+      }
+      return null;
+    }
+    return new ObjectStatusIterator(chunk, getKeyPrefix(path), options.isRecursive());
+  }
+
   @Override
   public boolean mkdirs(String path, MkdirsOptions options) throws IOException {
     if (path == null) {
@@ -974,98 +994,184 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
       }
       return null;
     }
-    String keyPrefix = PathUtils.normalizePath(stripPrefixIfPresent(path), PATH_SEPARATOR);
-    keyPrefix = keyPrefix.equals(PATH_SEPARATOR) ? "" : keyPrefix;
+    String keyPrefix = getKeyPrefix(path);
     Map<String, UfsStatus> children = new HashMap<>();
     while (chunk != null) {
-      // Directories in UFS can be possibly encoded in two different ways:
-      // (1) as file objects with FOLDER_SUFFIX for directories created through Alluxio or
-      // (2) as "common prefixes" of other files objects for directories not created through
-      // Alluxio
-      //
-      // Case (1) (and file objects) is accounted for by iterating over chunk.getObjects() while
-      // case (2) is accounted for by iterating over chunk.getCommonPrefixes().
-      //
-      // An example, with prefix="ufs" and delimiter="/" and LISTING_LENGTH=5
-      // - objects.key = ufs/, child =
-      // - objects.key = ufs/dir1<FOLDER_SUFFIX>, child = dir1
-      // - objects.key = ufs/file, child = file
-      // - commonPrefix = ufs/dir1/, child = dir1
-      // - commonPrefix = ufs/dir2/, child = dir2
-
-      // Handle case (1)
-      for (ObjectStatus status : chunk.getObjectStatuses()) {
-        // Remove parent portion of the key
-        String child = getChildName(status.getName(), keyPrefix);
-        if (child.isEmpty() || child.equals(getFolderSuffix())) {
-          // Removes results equal to the path
-          continue;
+      addChildren(chunk, keyPrefix, options.isRecursive(), Collections.emptySet(), children);
+      chunk = chunk.getNextChunk();
+    }
+    UfsStatus[] ret = new UfsStatus[children.size()];
+    int pos = 0;
+    for (UfsStatus status : children.values()) {
+      ret[pos++] = status;
+    }
+    return ret;
+  }
+
+  /**
+   * @param path the path of a pseudo-directory
+   * @return the key prefix shared by the objects in the pseudo-directory
+   */
+  private String getKeyPrefix(String path) {
+    String keyPrefix = PathUtils.normalizePath(stripPrefixIfPresent(path), PATH_SEPARATOR);
+    return keyPrefix.equals(PATH_SEPARATOR) ? "" : keyPrefix;
+  }
+
+  /**
+   * Adds the children found in a chunk of an object listing to a map from the child names to
+   * their statuses. Directories inferred from common prefixes are skipped if a child with the same
+   * name is already in the map or has been listed before.
+   *
+   * @param chunk the chunk of the listing
+   * @param keyPrefix the key prefix of the listed pseudo-directory
+   * @param recursive whether the listing is recursive
+   * @param listedDirs the names of directories listed from previous chunks
+   * @param children the map to add the children to
+   */
+  private void addChildren(ObjectListingChunk chunk, String keyPrefix, boolean recursive,
+      Set<String> listedDirs, Map<String, UfsStatus> children) throws IOException {
+    // Directories in UFS can be possibly encoded in two different ways:
+    // (1) as file objects with FOLDER_SUFFIX for directories created through Alluxio or
+    // (2) as "common prefixes" of other files objects for directories not created through
+    // Alluxio
+    //
+    // Case (1) (and file objects) is accounted for by iterating over chunk.getObjects() while
+    // case (2) is accounted for by iterating over chunk.getCommonPrefixes().
+    //
+    // An example, with prefix="ufs" and delimiter="/" and LISTING_LENGTH=5
+    // - objects.key = ufs/, child =
+    // - objects.key = ufs/dir1<FOLDER_SUFFIX>, child = dir1
+    // - objects.key = ufs/file, child = file
+    // - commonPrefix = ufs/dir1/, child = dir1
+    // - commonPrefix = ufs/dir2/, child = dir2
+
+    // Handle case (1)
+    for (ObjectStatus status : chunk.getObjectStatuses()) {
+      // Remove parent portion of the key
+      String child = getChildName(status.getName(), keyPrefix);
+      if (child.isEmpty() || child.equals(getFolderSuffix())) {
+        // Removes results equal to the path
+        continue;
+      }
+      ObjectPermissions permissions = getPermissions();
+      if (child.endsWith(getFolderSuffix())) {
+        // Child is a directory
+        child = CommonUtils.stripSuffixIfPresent(child, getFolderSuffix());
+        children.put(child, new UfsDirectoryStatus(child, permissions.getOwner(),
+            permissions.getGroup(), permissions.getMode()));
+      } else {
+        // Child is a file
+        children.put(child,
+            new UfsFileStatus(child, status.getContentHash(), status.getContentLength(),
+                status.getLastModifiedTimeMs(), permissions.getOwner(), permissions.getGroup(),
+                permissions.getMode(),
+                mUfsConf.getBytes(PropertyKey.USER_BLOCK_SIZE_BYTES_DEFAULT)));
+      }
+    }
+    // Handle case (2)
+    String[] commonPrefixes;
+    if (recursive) {
+      // In case of a recursive listing infer pseudo-directories as the commonPrefixes returned
+      // from the object store is empty for an empty delimiter.
+      HashSet<String> prefixes = new HashSet<>();
+      for (ObjectStatus objectStatus : chunk.getObjectStatuses()) {
+        String objectName = objectStatus.getName();
+        while (objectName.startsWith(keyPrefix) && objectName.contains(PATH_SEPARATOR)) {
+          objectName = objectName.substring(0, objectName.lastIndexOf(PATH_SEPARATOR));
+          if (!objectName.isEmpty()) {
+            // include the separator with the prefix, to conform to what object stores return
+            // as common prefixes.
+            prefixes.add(PathUtils.normalizePath(objectName, PATH_SEPARATOR));
+          }
         }
-        ObjectPermissions permissions = getPermissions();
-        if (child.endsWith(getFolderSuffix())) {
-          // Child is a directory
-          child = CommonUtils.stripSuffixIfPresent(child, getFolderSuffix());
+      }
+      commonPrefixes = prefixes.toArray(new String[prefixes.size()]);
+    } else {
+      commonPrefixes = chunk.getCommonPrefixes();
+    }
+    for (String commonPrefix : commonPrefixes) {
+      if (commonPrefix.startsWith(keyPrefix)) {
+        // Remove parent portion of the key
+        String child = getChildName(commonPrefix, keyPrefix);
+        // Remove any portion after the last path delimiter
+        int childNameIndex = child.lastIndexOf(PATH_SEPARATOR);
+        child = childNameIndex != -1 ? child.substring(0, childNameIndex) : child;
+        if (!child.isEmpty() && !children.containsKey(child) && !listedDirs.contains(child)) {
+          // This directory has not been created through Alluxio.
+          if (!mUfsConf.isReadOnly()
+              && mUfsConf.getBoolean(PropertyKey.UNDERFS_OBJECT_STORE_BREADCRUMBS_ENABLED)) {
+            mkdirsInternal(commonPrefix);
+          }
+          // If both a file and a directory existed with the same name, the path will be
+          // treated as a directory
+          ObjectPermissions permissions = getPermissions();
           children.put(child, new UfsDirectoryStatus(child, permissions.getOwner(),
               permissions.getGroup(), permissions.getMode()));
-        } else {
-          // Child is a file
-          children.put(child,
-              new UfsFileStatus(child, status.getContentHash(), status.getContentLength(),
-                  status.getLastModifiedTimeMs(), permissions.getOwner(), permissions.getGroup(),
-                  permissions.getMode(),
-                  mUfsConf.getBytes(PropertyKey.USER_BLOCK_SIZE_BYTES_DEFAULT)));
         }
       }
-      // Handle case (2)
-      String[] commonPrefixes;
-      if (options.isRecursive()) {
-        // In case of a recursive listing infer pseudo-directories as the commonPrefixes returned
-        // from the object store is empty for an empty delimiter.
-        HashSet<String> prefixes = new HashSet<>();
-        for (ObjectStatus objectStatus : chunk.getObjectStatuses()) {
-          String objectName = objectStatus.getName();
-          while (objectName.startsWith(keyPrefix) && objectName.contains(PATH_SEPARATOR)) {
-            objectName = objectName.substring(0, objectName.lastIndexOf(PATH_SEPARATOR));
-            if (!objectName.isEmpty()) {
-              // include the separator with the prefix, to conform to what object stores return
-              // as common prefixes.
-              prefixes.add(PathUtils.normalizePath(objectName, PATH_SEPARATOR));
-            }
-          }
+    }
+  }
+
+  /**
+   * Streams the statuses of an object listing chunk by chunk, so that only a single chunk of the
+   * listing is held in memory at a time. The statuses of every chunk are returned in the order of
+   * their names, so that a directory inferred from the keys of its descendants is returned before
+   * them.
+   *
+   * A directory may be encoded both as a folder object and as a common prefix, possibly in
+   * different chunks of the listing, so the names of the directories already returned are
+   * remembered to avoid returning the same directory twice. A file and a directory with the same
+   * name which are returned in different chunks are both returned.
+   */
+  private final class ObjectStatusIterator implements UfsStatusIterator {
+    private final String mKeyPrefix;
+    private final boolean mRecursive;
+    private final Set<String> mReturnedDirs = new HashSet<>();
+    /** The chunk whose statuses are being returned, or the first chunk if none have been. */
+    @Nullable
+    private ObjectListingChunk mChunk;
+    /** Whether the statuses of the current chunk have already been taken. */
+    private boolean mChunkTaken = false;
+    private Iterator<UfsStatus> mChunkStatuses = Collections.emptyIterator();
+
+    ObjectStatusIterator(ObjectListingChunk chunk, String keyPrefix, boolean recursive) {
+      mChunk = chunk;
+      mKeyPrefix = keyPrefix;
+      mRecursive = recursive;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+      while (!mChunkStatuses.hasNext()) {
+        if (mChunkTaken) {
+          // Only list the next chunk once the statuses of the current one have been consumed.
+          mChunk = mChunk.getNextChunk();
+          mChunkTaken = false;
         }
-        commonPrefixes = prefixes.toArray(new String[prefixes.size()]);
-      } else {
-        commonPrefixes = chunk.getCommonPrefixes();
-      }
-      for (String commonPrefix : commonPrefixes) {
-        if (commonPrefix.startsWith(keyPrefix)) {
-          // Remove parent portion of the key
-          String child = getChildName(commonPrefix, keyPrefix);
-          // Remove any portion after the last path delimiter
-          int childNameIndex = child.lastIndexOf(PATH_SEPARATOR);
-          child = childNameIndex != -1 ? child.substring(0, childNameIndex) : child;
-          if (!child.isEmpty() && !children.containsKey(child)) {
-            // This directory has not been created through Alluxio.
-            if (!mUfsConf.isReadOnly()
-                && mUfsConf.getBoolean(PropertyKey.UNDERFS_OBJECT_STORE_BREADCRUMBS_ENABLED)) {
-              mkdirsInternal(commonPrefix);
-            }
-            // If both a file and a directory existed with the same name, the path will be
-            // treated as a directory
-            ObjectPermissions permissions = getPermissions();
-            children.put(child, new UfsDirectoryStatus(child, permissions.getOwner(),
-                permissions.getGroup(), permissions.getMode()));
+        if (mChunk == null) {
+          return false;
+        }
+        Map<String, UfsStatus> children = new TreeMap<>();
+        addChildren(mChunk, mKeyPrefix, mRecursive, mReturnedDirs, children);
+        children.keySet().removeAll(mReturnedDirs);
+        for (UfsStatus status : children.values()) {
+          if (status.isDirectory()) {
+            mReturnedDirs.add(status.getName());
           }
         }
+        mChunkStatuses = children.values().iterator();
+        mChunkTaken = true;
       }
-      chunk = chunk.getNextChunk();
+      return true;
     }
-    UfsStatus[] ret = new UfsStatus[children.size()];
-    int pos = 0;
-    for (UfsStatus status : children.values()) {
-      ret[pos++] = status;
+
+    @Override
+    public UfsStatus next() throws IOException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return mChunkStatuses.next();
     }
-    return ret;
   }
 
   /**
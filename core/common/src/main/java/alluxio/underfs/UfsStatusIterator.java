@@ -0,0 +1,66 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the statuses returned by a streaming listing of an {@link UnderFileSystem}.
+ *
+ * Unlike {@link UnderFileSystem#listStatus(String, alluxio.underfs.options.ListOptions)}, the
+ * statuses are fetched from the under storage as the iterator advances, so that a caller can
+ * process a listing without holding all of it in memory. Both {@link #hasNext()} and
+ * {@link #next()} may query the under storage and therefore throw {@link IOException}. The
+ * iterator must be closed once the caller is done with it, even if it was not exhausted.
+ */
+public interface UfsStatusIterator extends Closeable {
+  /**
+   * @return true if the listing has more statuses
+   */
+  boolean hasNext() throws IOException;
+
+  /**
+   * @return the next status of the listing
+   * @throws NoSuchElementException if the listing has no more statuses
+   */
+  UfsStatus next() throws IOException;
+
+  @Override
+  default void close() throws IOException {}
+
+  /**
+   * Creates an iterator over statuses which have already been listed.
+   *
+   * @param statuses the statuses to iterate over
+   * @return the iterator
+   */
+  static UfsStatusIterator fromArray(UfsStatus... statuses) {
+    return new UfsStatusIterator() {
+      private int mIndex = 0;
+
+      @Override
+      public boolean hasNext() {
+        return mIndex < statuses.length;
+      }
+
+      @Override
+      public UfsStatus next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return statuses[mIndex++];
+      }
+    };
+  }
+}
@@ -556,6 +556,25 @@ public interface UnderFileSystem extends Closeable {
   @Nullable
   UfsStatus[] listStatus(String path, ListOptions options) throws IOException;
 
+  /**
+   * Returns an iterator over the statuses of the files and directories in the directory denoted
+   * by this abstract pathname, with options. This is the streaming equivalent of
+   * {@link #listStatus(String, ListOptions)}: the names of the statuses are relative to the given
+   * directory, and the statuses are fetched from the under storage as the iterator advances
+   * rather than all at once. The caller must close the returned iterator.
+   *
+   * <p>
+   * There is no guarantee that the statuses will be returned in any specific order.
+   *
+   * @param path the abstract pathname to list
+   * @param options for list directory
+   * @return an iterator over the statuses of the files and directories in the directory denoted
+   *         by this abstract pathname, or {@code null} if this abstract pathname does not denote a
+   *         directory
+   */
+  @Nullable
+  UfsStatusIterator listStatusIterator(String path, ListOptions options) throws IOException;
+
   /**
    * Creates the directory named by this abstract pathname. If the folder already exists, the method
    * returns false. The method creates any necessary but nonexistent parent directories.
@@ -42,6 +42,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+
 import javax.annotation.Nullable;
 
 /**
@@ -591,6 +593,24 @@ public class UnderFileSystemWithLogging implements UnderFileSystem {
     });
   }
 
+  @Override
+  @Nullable
+  public UfsStatusIterator listStatusIterator(final String path, final ListOptions options)
+      throws IOException {
+    return call(new UfsCallable<UfsStatusIterator>() {
+      @Override
+      public UfsStatusIterator call() throws IOException {
+        UfsStatusIterator statuses = mUnderFileSystem.listStatusIterator(path, options);
+        return statuses == null ? null : new ValidPathsIterator(statuses, path);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("ListStatusIterator: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
   @Nullable
   private UfsStatus[] filterInvalidPaths(UfsStatus[] statuses, String listedPath) {
     // This is a temporary fix to prevent us from choking on paths containing '?'.
@@ -619,6 +639,51 @@ public class UnderFileSystemWithLogging implements UnderFileSystem {
     return statuses;
   }
 
+  /**
+   * Skips the statuses of a streaming listing whose names contain '?', the same way as
+   * {@link #filterInvalidPaths(UfsStatus[], String)}.
+   */
+  private static final class ValidPathsIterator implements UfsStatusIterator {
+    private final UfsStatusIterator mStatuses;
+    private final String mListedPath;
+    @Nullable
+    private UfsStatus mNext;
+
+    ValidPathsIterator(UfsStatusIterator statuses, String listedPath) {
+      mStatuses = statuses;
+      mListedPath = listedPath;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+      while (mNext == null && mStatuses.hasNext()) {
+        UfsStatus status = mStatuses.next();
+        if (status.getName().contains("?")) {
+          LOG.warn("Ignoring {} while listing {} since it contains '?'", status.getName(),
+              mListedPath);
+        } else {
+          mNext = status;
+        }
+      }
+      return mNext != null;
+    }
+
+    @Override
+    public UfsStatus next() throws IOException {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      UfsStatus next = mNext;
+      mNext = null;
+      return next;
+    }
+
+    @Override
+    public void close() throws IOException {
+      mStatuses.close();
+    }
+  }
+
   @Override
   public boolean mkdirs(final String path) throws IOException {
     return call(new UfsCallable<Boolean>() {
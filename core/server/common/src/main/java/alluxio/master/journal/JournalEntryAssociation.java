@@ -59,11 +59,20 @@ public final class JournalEntryAssociation {
     }
     if (entry.hasAttachDb()
         || entry.hasAddTable()
+        || entry.hasAddTablePartitions()
         || entry.hasDetachDb()
+        || entry.hasRemoveTable()
+        || entry.hasRemoveTablePartitions()
+        || entry.hasUpdateTable()
         || entry.hasTransformJob()
         || entry.hasRemoveTransformJob()) {
       return Constants.TABLE_MASTER_NAME;
     }
+    if (entry.hasFinishedJob()
+        || entry.hasStartJob()
+        || entry.hasUpdateJob()) {
+      return Constants.JOB_MASTER_NAME;
+    }
     throw new IllegalStateException("Unrecognized journal entry: " + entry);
   }
 
@@ -16,6 +16,7 @@ import alluxio.Constants;
 import alluxio.conf.PropertyKey;
 import alluxio.conf.ServerConfiguration;
 import alluxio.master.journal.checkpoint.CheckpointInputStream;
+import alluxio.master.journal.checkpoint.CheckpointName;
 import alluxio.master.journal.checkpoint.CheckpointOutputStream;
 import alluxio.master.journal.checkpoint.CheckpointType;
 import alluxio.master.journal.checkpoint.Checkpointed;
@@ -24,22 +25,32 @@ import alluxio.master.journal.checkpoint.CompoundCheckpointFormat.CompoundCheckp
 import alluxio.master.journal.sink.JournalSink;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.util.StreamUtils;
+import alluxio.util.ThreadFactoryUtils;
 
 import com.esotericsoftware.kryo.io.OutputChunked;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.io.ByteStreams;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 /**
@@ -150,20 +161,98 @@ public final class JournalUtils {
     Optional<Entry> next;
     while ((next = reader.nextCheckpoint()).isPresent()) {
       Entry nextEntry = next.get();
-      boolean found = false;
-      for (Checkpointed component : components) {
-        if (component.getCheckpointName().equals(nextEntry.getName())) {
-          component.restoreFromCheckpoint(nextEntry.getStream());
-          found = true;
-          break;
+      getComponent(nextEntry.getName(), components).restoreFromCheckpoint(nextEntry.getStream());
+    }
+  }
+
+  /**
+   * Restores the given checkpointed components from a composite checkpoint, restoring different
+   * components concurrently. The components must not depend on each other while restoring.
+   *
+   * The checkpoint of each component is handed to a restoring thread through a buffer of the
+   * given size, so that the next component can be read while the previous ones are still being
+   * restored.
+   *
+   * @param input the stream to read from
+   * @param components the components to restore
+   * @param parallelism the maximum number of components to restore concurrently
+   * @param bufferSize the number of bytes to buffer for each component
+   */
+  public static void restoreFromCheckpoint(CheckpointInputStream input,
+      List<? extends Checkpointed> components, int parallelism, int bufferSize)
+      throws IOException {
+    if (parallelism <= 1) {
+      restoreFromCheckpoint(input, components);
+      return;
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+        ThreadFactoryUtils.build("checkpoint-restore-%d", true));
+    List<Future<Void>> futures = new ArrayList<>();
+    try {
+      CompoundCheckpointReader reader = new CompoundCheckpointReader(input);
+      Optional<Entry> next;
+      byte[] buf = new byte[64 * Constants.KB];
+      while ((next = reader.nextCheckpoint()).isPresent()) {
+        Entry nextEntry = next.get();
+        Checkpointed component = getComponent(nextEntry.getName(), components);
+        PipedInputStream pipeIn = new PipedInputStream(bufferSize);
+        PipedOutputStream pipeOut = new PipedOutputStream(pipeIn);
+        futures.add(executor.submit(() -> {
+          try {
+            component.restoreFromCheckpoint(new CheckpointInputStream(pipeIn));
+            // Skip whatever the component did not read, so that the reader is never blocked.
+            ByteStreams.exhaust(pipeIn);
+            return null;
+          } finally {
+            pipeIn.close();
+          }
+        }));
+        try {
+          // The checkpoint type was already consumed from the entry stream, so it is written again
+          // for the component to read.
+          CheckpointOutputStream out =
+              new CheckpointOutputStream(pipeOut, nextEntry.getStream().getType());
+          int read;
+          while ((read = nextEntry.getStream().read(buf)) != -1) {
+            out.write(buf, 0, read);
+          }
+          out.close();
+        } catch (IOException e) {
+          // The component may have failed and closed its end of the pipe, report its failure.
+          waitForRestores(futures);
+          throw e;
         }
       }
-      if (!found) {
-        throw new RuntimeException(String.format(
-            "Unrecognized checkpoint name: %s. Existing components: %s", nextEntry.getName(), Arrays
-                .toString(StreamUtils.map(Checkpointed::getCheckpointName, components).toArray())));
+      waitForRestores(futures);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void waitForRestores(List<Future<Void>> futures) throws IOException {
+    for (Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while restoring checkpoint", e);
+      } catch (ExecutionException e) {
+        Throwables.propagateIfPossible(e.getCause(), IOException.class);
+        throw new RuntimeException(e.getCause());
+      }
+    }
+  }
+
+  private static Checkpointed getComponent(CheckpointName name,
+      List<? extends Checkpointed> components) {
+    for (Checkpointed component : components) {
+      if (component.getCheckpointName().equals(name)) {
+        return component;
       }
     }
+    throw new RuntimeException(String.format(
+        "Unrecognized checkpoint name: %s. Existing components: %s", name, Arrays
+            .toString(StreamUtils.map(Checkpointed::getCheckpointName, components).toArray())));
   }
 
   /**
@@ -25,6 +25,7 @@ public enum CheckpointName {
   INODE_COUNTER,
   INODE_DIRECTORY_ID_GENERATOR,
   INODE_TREE,
+  JOB_MASTER,
   MASTER_UFS_MANAGER,
   META_MASTER,
   MOUNT_TABLE,
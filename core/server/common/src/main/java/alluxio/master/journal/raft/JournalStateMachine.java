@@ -19,9 +19,12 @@ import alluxio.master.journal.JournalEntryAssociation;
 import alluxio.master.journal.JournalUtils;
 import alluxio.master.journal.Journaled;
 import alluxio.master.journal.sink.JournalSink;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.util.StreamUtils;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.atomix.copycat.server.Commit;
@@ -38,6 +41,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import javax.annotation.concurrent.GuardedBy;
@@ -51,6 +55,13 @@ import javax.annotation.concurrent.GuardedBy;
  * other primary master is serving, then call {@link #upgrade}. Once the state machine is upgraded,
  * it will ignore all entries appended by copycat because those entries are applied to primary
  * master state before being written to copycat.
+ *
+ * Snapshots do not hold the lock of the state machine, so that upgrading or closing the state
+ * machine is not blocked behind a long running snapshot. The state written to a snapshot is
+ * consistent because it only changes through entries applied by copycat, which never applies
+ * entries concurrently with a snapshot, or through the primary master, which blocks state changes
+ * while snapshotting. Components which keep their state in rocksdb write it from a point-in-time
+ * rocksdb checkpoint, so reads and writes on the primary proceed while the snapshot is archived.
  */
 @ThreadSafe
 public class JournalStateMachine extends StateMachine implements Snapshottable {
@@ -59,17 +70,23 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
   private final Map<String, RaftJournal> mJournals;
   @GuardedBy("this")
   private boolean mIgnoreApplys = false;
-  @GuardedBy("this")
-  private boolean mClosed = false;
+  private volatile boolean mClosed = false;
 
   private volatile long mLastAppliedCommitIndex = -1;
   // The last special "primary start" sequence number applied to this state machine. These special
   // sequence numbers are identified by being negative.
   private volatile long mLastPrimaryStartSequenceNumber = 0;
   private volatile long mNextSequenceNumberToRead = 0;
-  private volatile boolean mSnapshotting = false;
+  private final AtomicBoolean mSnapshotting = new AtomicBoolean(false);
   // The start time of the most recent snapshot
   private volatile long mLastSnapshotStartTime = 0;
+  // The time between committing and applying the most recently applied entry
+  private volatile long mApplyLagMs = 0;
+  // The apply lag of the first entry applied after the most recent snapshot, which shows how far
+  // the state machine fell behind while snapshotting
+  private volatile long mSnapshotApplyLagMs = 0;
+  private volatile boolean mSnapshotApplyLagPending = false;
+  private volatile long mLastSnapshotDurationMs = 0;
 
   /** A supplier of journal sinks for this journal. */
   private final Supplier<Set<JournalSink>> mJournalSinks;
@@ -109,10 +126,19 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
     } finally {
       Preconditions.checkState(commit.index() > mLastAppliedCommitIndex);
       mLastAppliedCommitIndex = commit.index();
+      updateApplyLag(commit);
       commit.close();
     }
   }
 
+  private void updateApplyLag(Commit<JournalEntryCommand> commit) {
+    mApplyLagMs = Math.max(0, System.currentTimeMillis() - commit.time().toEpochMilli());
+    if (mSnapshotApplyLagPending) {
+      mSnapshotApplyLagPending = false;
+      mSnapshotApplyLagMs = mApplyLagMs;
+    }
+  }
+
   /**
    * Applies the journal entry, ignoring empty entries and expanding multi-entries.
    *
@@ -190,26 +216,31 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
   }
 
   @Override
-  public synchronized void snapshot(SnapshotWriter writer) {
+  public void snapshot(SnapshotWriter writer) {
     // Snapshot format is [snapshotId, name1, bytes1, name2, bytes2, ...].
     if (mClosed) {
       return;
     }
     LOG.debug("Calling snapshot");
-    Preconditions.checkState(!mSnapshotting, "Cannot call snapshot multiple times concurrently");
-    mSnapshotting = true;
-    mLastSnapshotStartTime = System.currentTimeMillis();
-    long snapshotId = mNextSequenceNumberToRead - 1;
-    try (SnapshotWriterStream sws = new SnapshotWriterStream(writer)) {
-      writer.writeLong(snapshotId);
-      JournalUtils.writeToCheckpoint(sws, getStateMachines());
-    } catch (Throwable t) {
-      ProcessUtils.fatalError(LOG, t, "Failed to snapshot");
-      throw new RuntimeException(t);
+    Preconditions.checkState(mSnapshotting.compareAndSet(false, true),
+        "Cannot call snapshot multiple times concurrently");
+    try (Timer.Context ctx = MetricsSystem
+        .timer(MasterMetrics.EMBEDDED_JOURNAL_SNAPSHOT_GENERATE_TIMER).time()) {
+      mLastSnapshotStartTime = System.currentTimeMillis();
+      long snapshotId = mNextSequenceNumberToRead - 1;
+      try (SnapshotWriterStream sws = new SnapshotWriterStream(writer)) {
+        writer.writeLong(snapshotId);
+        JournalUtils.writeToCheckpoint(sws, getStateMachines());
+      } catch (Throwable t) {
+        ProcessUtils.fatalError(LOG, t, "Failed to snapshot");
+        throw new RuntimeException(t);
+      }
+      mLastSnapshotDurationMs = System.currentTimeMillis() - mLastSnapshotStartTime;
+      LOG.info("Completed snapshot up to SN {} in {}ms", snapshotId, mLastSnapshotDurationMs);
+    } finally {
+      mSnapshotApplyLagPending = true;
+      mSnapshotting.set(false);
     }
-    LOG.info("Completed snapshot up to SN {} in {}ms", snapshotId,
-        System.currentTimeMillis() - mLastSnapshotStartTime);
-    mSnapshotting = false;
   }
 
   @Override
@@ -223,9 +254,15 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
     }
 
     long snapshotId = 0L;
-    try (InputStream srs = new SnapshotReaderStream(snapshotReader)) {
+    try (InputStream srs = new SnapshotReaderStream(snapshotReader);
+         Timer.Context ctx = MetricsSystem
+             .timer(MasterMetrics.JOURNAL_CHECKPOINT_RESTORE_TIMER).time()) {
       snapshotId = snapshotReader.readLong();
-      JournalUtils.restoreFromCheckpoint(new CheckpointInputStream(srs), getStateMachines());
+      // The masters are independent of each other, so their snapshots are restored concurrently.
+      JournalUtils.restoreFromCheckpoint(new CheckpointInputStream(srs), getStateMachines(),
+          ServerConfiguration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_RESTORE_THREADS),
+          (int) ServerConfiguration.getBytes(
+              PropertyKey.MASTER_JOURNAL_CHECKPOINT_RESTORE_BUFFER_SIZE));
     } catch (Throwable t) {
       JournalUtils.handleJournalReplayFailure(LOG, t,
           "Failed to install snapshot");
@@ -290,11 +327,34 @@ public class JournalStateMachine extends StateMachine implements Snapshottable {
     return mLastSnapshotStartTime;
   }
 
+  /**
+   * @return the duration of the most recent completed snapshot in milliseconds
+   */
+  public long getLastSnapshotDurationMs() {
+    return mLastSnapshotDurationMs;
+  }
+
+  /**
+   * @return the time between committing and applying the most recently applied entry in
+   *         milliseconds
+   */
+  public long getApplyLagMs() {
+    return mApplyLagMs;
+  }
+
+  /**
+   * @return the apply lag of the first entry applied after the most recent snapshot in
+   *         milliseconds
+   */
+  public long getSnapshotApplyLagMs() {
+    return mSnapshotApplyLagMs;
+  }
+
   /**
    * @return whether the state machine is in the process of taking a snapshot
    */
   public boolean isSnapshotting() {
-    return mSnapshotting;
+    return mSnapshotting.get();
   }
 
   /**
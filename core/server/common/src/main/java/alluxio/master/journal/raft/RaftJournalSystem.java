@@ -26,6 +26,8 @@ import alluxio.master.journal.AbstractJournalSystem;
 import alluxio.master.journal.AsyncJournalWriter;
 import alluxio.master.journal.Journal;
 import alluxio.master.journal.raft.transport.CopycatGrpcTransport;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.security.user.ServerUserState;
 import alluxio.util.CommonUtils;
@@ -64,6 +66,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -154,7 +157,7 @@ public final class RaftJournalSystem extends AbstractJournalSystem {
    * Interacts with Copycat, applying entries to masters, taking snapshots,
    * and installing snapshots.
    */
-  private JournalStateMachine mStateMachine;
+  private volatile JournalStateMachine mStateMachine;
   /**
    * Copycat server.
    */
@@ -184,6 +187,25 @@ public final class RaftJournalSystem extends AbstractJournalSystem {
     mJournalStateLock = new ReentrantReadWriteLock(true);
     mPrimarySelector = new RaftPrimarySelector();
     mAsyncJournalWriter = new AtomicReference<>();
+    // The state machine is re-created when primacy is lost, so the gauges read the current one.
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(MasterMetrics.EMBEDDED_JOURNAL_APPLY_LAG),
+        () -> getStateMachineMetric(JournalStateMachine::getApplyLagMs));
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(MasterMetrics.EMBEDDED_JOURNAL_SNAPSHOT_APPLY_LAG),
+        () -> getStateMachineMetric(JournalStateMachine::getSnapshotApplyLagMs));
+    MetricsSystem.registerGaugeIfAbsent(
+        MetricsSystem.getMetricName(MasterMetrics.EMBEDDED_JOURNAL_LAST_SNAPSHOT_DURATION),
+        () -> getStateMachineMetric(JournalStateMachine::getLastSnapshotDurationMs));
+  }
+
+  /**
+   * @param metric the metric to read from the state machine
+   * @return the metric of the current state machine, or 0 if there is none yet
+   */
+  private long getStateMachineMetric(ToLongFunction<JournalStateMachine> metric) {
+    JournalStateMachine stateMachine = mStateMachine;
+    return stateMachine == null ? 0 : metric.applyAsLong(stateMachine);
   }
 
   /**
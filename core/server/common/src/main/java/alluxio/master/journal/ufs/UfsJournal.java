@@ -24,6 +24,8 @@ import alluxio.master.journal.JournalReader;
 import alluxio.master.journal.JournalUtils;
 import alluxio.master.journal.MasterJournalContext;
 import alluxio.master.journal.sink.JournalSink;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.retry.ExponentialTimeBoundedRetry;
 import alluxio.retry.RetryPolicy;
@@ -34,6 +36,7 @@ import alluxio.underfs.options.DeleteOptions;
 import alluxio.util.URIUtils;
 import alluxio.util.UnderFileSystemUtils;
 
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
@@ -410,7 +413,10 @@ public class UfsJournal implements Journal {
       try {
         switch (journalReader.advance()) {
           case CHECKPOINT:
-            mMaster.restoreFromCheckpoint(journalReader.getCheckpoint());
+            try (Timer.Context ctx = MetricsSystem
+                .timer(MasterMetrics.JOURNAL_CHECKPOINT_RESTORE_TIMER).time()) {
+              mMaster.restoreFromCheckpoint(journalReader.getCheckpoint());
+            }
             break;
           case LOG:
             JournalEntry entry = journalReader.getEntry();
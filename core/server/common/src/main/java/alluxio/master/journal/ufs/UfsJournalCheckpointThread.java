@@ -18,10 +18,13 @@ import alluxio.master.Master;
 import alluxio.master.journal.JournalReader;
 import alluxio.master.journal.JournalUtils;
 import alluxio.master.journal.sink.JournalSink;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.util.CommonUtils;
 import alluxio.util.ExceptionUtils;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -169,7 +172,10 @@ public final class UfsJournalCheckpointThread extends Thread {
         switch (mJournalReader.advance()) {
           case CHECKPOINT:
             LOG.debug("{}: Restoring from checkpoint", mMaster.getName());
-            mMaster.restoreFromCheckpoint(mJournalReader.getCheckpoint());
+            try (Timer.Context ctx = MetricsSystem
+                .timer(MasterMetrics.JOURNAL_CHECKPOINT_RESTORE_TIMER).time()) {
+              mMaster.restoreFromCheckpoint(mJournalReader.getCheckpoint());
+            }
             LOG.debug("{}: Finished restoring from checkpoint", mMaster.getName());
             break;
           case LOG:
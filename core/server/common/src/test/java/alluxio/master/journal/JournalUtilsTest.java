@@ -75,6 +75,42 @@ public final class JournalUtilsTest {
     components.forEach(c -> assertEquals(1, c.getNumEntriesProcessed()));
   }
 
+  @Test
+  public void checkpointAndRestoreComponentsConcurrently() throws Exception {
+    List<TestJournaled> components = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      components.add(new TestJournaled(i));
+    }
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    JournalUtils.writeToCheckpoint(baos, components);
+    // A tiny buffer makes the reader wait for the components to restore.
+    JournalUtils.restoreFromCheckpoint(
+        new CheckpointInputStream(new ByteArrayInputStream(baos.toByteArray())), components, 3,
+        16);
+    components.forEach(c -> assertEquals(1, c.getNumEntriesProcessed()));
+  }
+
+  @Test
+  public void restoreComponentsConcurrentlyFailure() throws Exception {
+    List<TestJournaled> components = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      components.add(new TestJournaled(i));
+    }
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    JournalUtils.writeToCheckpoint(baos, components);
+    components.set(2, new TestJournaled(2) {
+      @Override
+      public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
+        throw new IOException("restore failed");
+      }
+    });
+    mThrown.expect(IOException.class);
+    mThrown.expectMessage("restore failed");
+    JournalUtils.restoreFromCheckpoint(
+        new CheckpointInputStream(new ByteArrayInputStream(baos.toByteArray())), components, 3,
+        16);
+  }
+
   private static class TestJournaled implements Journaled {
     private final CheckpointName mName;
     private int mNumEntriesProcessed;
@@ -0,0 +1,131 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.journal.raft;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import alluxio.Constants;
+import alluxio.master.journal.Journaled;
+import alluxio.master.journal.checkpoint.CheckpointName;
+import alluxio.proto.journal.File.AddMountPointEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
+
+import com.google.common.collect.ImmutableMap;
+import io.atomix.copycat.server.Commit;
+import io.atomix.copycat.server.storage.snapshot.SnapshotWriter;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Unit tests for {@link JournalStateMachine}.
+ */
+public final class JournalStateMachineTest {
+  private final TestJournaled mJournaled = new TestJournaled();
+  private final JournalStateMachine mStateMachine = new JournalStateMachine(
+      ImmutableMap.of(Constants.FILE_SYSTEM_MASTER_NAME, new RaftJournal(mJournaled,
+          URI.create("/journal"), new AtomicReference<>(), new ReentrantLock())),
+      Collections::emptySet);
+
+  @Test
+  public void upgradeDuringSnapshot() throws Exception {
+    mStateMachine.applyJournalEntryCommand(commit(0, 1));
+    CompletableFuture<Void> snapshot =
+        CompletableFuture.runAsync(() -> mStateMachine.snapshot(mock(SnapshotWriter.class)));
+    assertTrue(mJournaled.mCheckpointStarted.await(10, TimeUnit.SECONDS));
+    assertTrue(mStateMachine.isSnapshotting());
+    // Upgrading must not wait for the snapshot to complete.
+    assertEquals(0, mStateMachine.upgrade());
+    mJournaled.mFinishCheckpoint.countDown();
+    snapshot.get(10, TimeUnit.SECONDS);
+    assertFalse(mStateMachine.isSnapshotting());
+  }
+
+  @Test
+  public void snapshotMetrics() throws Exception {
+    long now = System.currentTimeMillis();
+    mStateMachine.applyJournalEntryCommand(commit(0, 1));
+    mJournaled.mFinishCheckpoint.countDown();
+    mStateMachine.snapshot(mock(SnapshotWriter.class));
+    assertTrue(mStateMachine.getLastSnapshotDurationMs() >= 0);
+    assertEquals(0, mStateMachine.getSnapshotApplyLagMs());
+    // The first entry applied after the snapshot was committed long before it was applied.
+    Commit<JournalEntryCommand> commit = commit(1, 2);
+    when(commit.time()).thenReturn(Instant.ofEpochMilli(now - 5000));
+    mStateMachine.applyJournalEntryCommand(commit);
+    assertTrue(mStateMachine.getSnapshotApplyLagMs() >= 5000);
+    assertTrue(mStateMachine.getApplyLagMs() >= 5000);
+    mStateMachine.applyJournalEntryCommand(commit(2, 3));
+    assertTrue(mStateMachine.getApplyLagMs() < 5000);
+    assertTrue(mStateMachine.getSnapshotApplyLagMs() >= 5000);
+    assertEquals(3, mJournaled.mNumEntriesProcessed.get());
+  }
+
+  private static Commit<JournalEntryCommand> commit(long sequenceNumber, long index) {
+    JournalEntry entry = JournalEntry.newBuilder().setSequenceNumber(sequenceNumber)
+        .setAddMountPoint(AddMountPointEntry.newBuilder().setAlluxioPath("/mnt")).build();
+    @SuppressWarnings("unchecked")
+    Commit<JournalEntryCommand> commit = mock(Commit.class);
+    when(commit.command()).thenReturn(new JournalEntryCommand(entry));
+    when(commit.index()).thenReturn(index);
+    when(commit.time()).thenReturn(Instant.now());
+    return commit;
+  }
+
+  /**
+   * A journaled component whose checkpoints wait until they are allowed to finish.
+   */
+  private static class TestJournaled implements Journaled {
+    private final AtomicInteger mNumEntriesProcessed = new AtomicInteger();
+    private final CountDownLatch mCheckpointStarted = new CountDownLatch(1);
+    private final CountDownLatch mFinishCheckpoint = new CountDownLatch(1);
+
+    @Override
+    public boolean processJournalEntry(JournalEntry entry) {
+      mNumEntriesProcessed.incrementAndGet();
+      return true;
+    }
+
+    @Override
+    public void resetState() {}
+
+    @Override
+    public Iterator<JournalEntry> getJournalEntryIterator() {
+      return Collections.emptyIterator();
+    }
+
+    @Override
+    public void writeToCheckpoint(OutputStream output) throws InterruptedException {
+      mCheckpointStarted.countDown();
+      mFinishCheckpoint.await();
+    }
+
+    @Override
+    public CheckpointName getCheckpointName() {
+      return CheckpointName.FILE_SYSTEM_MASTER;
+    }
+  }
+}
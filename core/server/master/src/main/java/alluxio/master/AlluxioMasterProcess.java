@@ -27,6 +27,7 @@ import alluxio.master.journal.JournalMasterClientServiceHandler;
 import alluxio.master.journal.JournalSystem;
 import alluxio.master.journal.JournalUtils;
 import alluxio.master.journal.raft.RaftJournalSystem;
+import alluxio.metrics.MasterMetrics;
 import alluxio.metrics.MetricsSystem;
 import alluxio.metrics.sink.MetricsServlet;
 import alluxio.metrics.sink.PrometheusMetricsServlet;
@@ -41,6 +42,7 @@ import alluxio.util.URIUtils;
 import alluxio.util.network.NetworkAddressUtils;
 import alluxio.web.MasterWebServer;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -159,7 +161,9 @@ public class AlluxioMasterProcess extends MasterProcess {
   @Override
   public void start() throws Exception {
     mJournalSystem.start();
-    mJournalSystem.gainPrimacy();
+    try (Timer.Context ctx = MetricsSystem.timer(MasterMetrics.JOURNAL_GAIN_PRIMACY_TIMER).time()) {
+      mJournalSystem.gainPrimacy();
+    }
     startMasters(true);
     startServing();
   }
@@ -199,7 +203,7 @@ public class AlluxioMasterProcess extends MasterProcess {
    * @param isLeader if the Master is leader
    */
   protected void startMasters(boolean isLeader) {
-    try {
+    try (Timer.Context ctx = MetricsSystem.timer(MasterMetrics.MASTERS_START_TIMER).time()) {
       if (isLeader) {
         if (ServerConfiguration.isSet(PropertyKey.MASTER_JOURNAL_INIT_FROM_BACKUP)) {
           AlluxioURI backup =
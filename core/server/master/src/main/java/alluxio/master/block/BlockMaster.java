@@ -187,6 +187,53 @@ public interface BlockMaster extends Master, ContainerIdGenerable {
       Map<String, StorageList> lostStorage, RegisterWorkerPOptions options)
       throws NotFoundException;
 
+  /**
+   * Starts a streaming registration of a worker, which reports its blocks in several chunks with
+   * {@link #workerRegisterBlocks(long, Map)}, and completes with
+   * {@link #workerRegisterFinish(long, RegisterWorkerPOptions)}.
+   *
+   * @param workerId the worker id of the worker registering
+   * @param storageTiers a list of storage tier aliases in order of their position in the worker's
+   *        hierarchy
+   * @param totalBytesOnTiers a mapping from storage tier alias to total bytes
+   * @param usedBytesOnTiers a mapping from storage tier alias to the used byes
+   * @param lostStorage a mapping from storage tier alias to a list of lost storage paths
+   * @throws NotFoundException if workerId cannot be found
+   */
+  void workerRegisterStart(long workerId, List<String> storageTiers,
+      Map<String, Long> totalBytesOnTiers, Map<String, Long> usedBytesOnTiers,
+      Map<String, StorageList> lostStorage) throws NotFoundException;
+
+  /**
+   * Updates metadata with a chunk of the blocks of a worker registering with a stream.
+   *
+   * @param workerId the worker id of the worker registering
+   * @param currentBlocksOnLocation a mapping from storage tier alias to a list of blocks
+   * @throws NotFoundException if workerId cannot be found
+   */
+  void workerRegisterBlocks(long workerId,
+      Map<Block.BlockLocation, List<Long>> currentBlocksOnLocation) throws NotFoundException;
+
+  /**
+   * Completes a streaming registration of a worker, removing the blocks it did not report.
+   *
+   * @param workerId the worker id of the worker registering
+   * @param options the options that may contain worker configuration
+   * @throws NotFoundException if workerId cannot be found, or if it has no registration in
+   *         progress
+   */
+  void workerRegisterFinish(long workerId, RegisterWorkerPOptions options)
+      throws NotFoundException;
+
+  /**
+   * Aborts the streaming registration of a worker, such as when the worker disconnects before
+   * completing its stream. If the worker is not registered, the block locations reported so far
+   * are removed, as for a lost worker.
+   *
+   * @param workerId the worker id of the worker registering
+   */
+  void workerRegisterAbort(long workerId);
+
   /**
    * Updates metadata when a worker periodically heartbeats with the master.
    *
@@ -12,6 +12,8 @@
 package alluxio.master.block;
 
 import alluxio.RpcUtils;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.grpc.BlockHeartbeatPRequest;
 import alluxio.grpc.BlockHeartbeatPResponse;
 import alluxio.grpc.BlockMasterWorkerServiceGrpc;
@@ -22,6 +24,7 @@ import alluxio.grpc.CommitBlockPResponse;
 import alluxio.grpc.GetWorkerIdPRequest;
 import alluxio.grpc.GetWorkerIdPResponse;
 import alluxio.grpc.GrpcUtils;
+import alluxio.grpc.LocationBlockIdListEntry;
 import alluxio.grpc.RegisterWorkerPOptions;
 import alluxio.grpc.RegisterWorkerPRequest;
 import alluxio.grpc.RegisterWorkerPResponse;
@@ -37,6 +40,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 /**
@@ -47,6 +51,8 @@ public final class BlockMasterWorkerServiceHandler extends
   private static final Logger LOG = LoggerFactory.getLogger(BlockMasterWorkerServiceHandler.class);
 
   private final BlockMaster mBlockMaster;
+  /** Bounds the number of streaming worker registrations processed at the same time. */
+  private final Semaphore mRegisterStreamPermits;
 
   /**
    * Creates a new instance of {@link BlockMasterWorkerServiceHandler}.
@@ -56,6 +62,8 @@ public final class BlockMasterWorkerServiceHandler extends
   public BlockMasterWorkerServiceHandler(BlockMaster blockMaster) {
     Preconditions.checkNotNull(blockMaster, "blockMaster");
     mBlockMaster = blockMaster;
+    mRegisterStreamPermits = new Semaphore(
+        ServerConfiguration.getInt(PropertyKey.MASTER_WORKER_REGISTER_STREAM_CONCURRENCY));
   }
 
   @Override
@@ -143,19 +151,7 @@ public final class BlockMasterWorkerServiceHandler extends
     final Map<String, StorageList> lostStorageMap = request.getLostStorageMap();
 
     final Map<Block.BlockLocation, List<Long>> currBlocksOnLocationMap =
-        request
-            .getCurrentBlocksList()
-            .stream()
-            .collect(
-                Collectors.toMap(
-                    e -> Block.BlockLocation.newBuilder().setTier(e.getKey().getTierAlias())
-                        .setMediumType(e.getKey().getMediumType()).build(),
-                    e -> e.getValue().getBlockIdList(),
-                    (e1, e2) -> {
-                      List<Long> e3 = new ArrayList<>(e1);
-                      e3.addAll(e2);
-                      return e3;
-                    }));
+        toBlockLocationMap(request.getCurrentBlocksList());
 
     RegisterWorkerPOptions options = request.getOptions();
     RpcUtils.call(LOG,
@@ -165,4 +161,31 @@ public final class BlockMasterWorkerServiceHandler extends
           return RegisterWorkerPResponse.getDefaultInstance();
         }, "registerWorker", "request=%s", responseObserver, request);
   }
+
+  @Override
+  public StreamObserver<RegisterWorkerPRequest> registerWorkerStream(
+      StreamObserver<RegisterWorkerPResponse> responseObserver) {
+    return new RegisterWorkerStreamObserver(mBlockMaster, mRegisterStreamPermits,
+        responseObserver);
+  }
+
+  /**
+   * @param entries the block lists of a worker
+   * @return a mapping from block location to the ids of the blocks at the location
+   */
+  static Map<Block.BlockLocation, List<Long>> toBlockLocationMap(
+      List<LocationBlockIdListEntry> entries) {
+    return entries
+        .stream()
+        .collect(
+            Collectors.toMap(
+                e -> Block.BlockLocation.newBuilder().setTier(e.getKey().getTierAlias())
+                    .setMediumType(e.getKey().getMediumType()).build(),
+                e -> e.getValue().getBlockIdList(),
+                (e1, e2) -> {
+                  List<Long> e3 = new ArrayList<>(e1);
+                  e3.addAll(e2);
+                  return e3;
+                }));
+  }
 }
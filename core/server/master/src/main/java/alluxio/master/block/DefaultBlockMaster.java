@@ -74,6 +74,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 import com.google.common.util.concurrent.Striped;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -821,19 +822,14 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
       Map<BlockLocation, List<Long>> currentBlocksOnLocation,
       Map<String, StorageList> lostStorage, RegisterWorkerPOptions options)
       throws NotFoundException {
-
-    MasterWorkerInfo worker = mWorkers.getFirstByField(ID_INDEX, workerId);
-
-    if (worker == null) {
-      worker = findUnregisteredWorker(workerId);
-    }
-
-    if (worker == null) {
-      throw new NotFoundException(ExceptionMessage.NO_WORKER_FOUND.getMessage(workerId));
-    }
+    MasterWorkerInfo worker = getRegisteringWorker(workerId);
 
     // Gather all blocks on this worker.
-    HashSet<Long> blocks = new HashSet<>();
+    int blockCount = 0;
+    for (List<Long> blockIds : currentBlocksOnLocation.values()) {
+      blockCount += blockIds.size();
+    }
+    LongOpenHashSet blocks = new LongOpenHashSet(blockCount);
     for (List<Long> blockIds : currentBlocksOnLocation.values()) {
       blocks.addAll(blockIds);
     }
@@ -848,6 +844,102 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
       processWorkerOrphanedBlocks(worker);
       worker.addLostStorage(lostStorage);
     }
+    completeWorkerRegister(worker, options);
+  }
+
+  @Override
+  public void workerRegisterStart(long workerId, List<String> storageTiers,
+      Map<String, Long> totalBytesOnTiers, Map<String, Long> usedBytesOnTiers,
+      Map<String, StorageList> lostStorage) throws NotFoundException {
+    MasterWorkerInfo worker = getRegisteringWorker(workerId);
+    synchronized (worker) {
+      worker.updateLastUpdatedTimeMs();
+      worker.startRegister(mGlobalStorageTierAssoc, storageTiers, totalBytesOnTiers,
+          usedBytesOnTiers);
+      worker.addLostStorage(lostStorage);
+    }
+  }
+
+  @Override
+  public void workerRegisterBlocks(long workerId,
+      Map<BlockLocation, List<Long>> currentBlocksOnLocation) throws NotFoundException {
+    MasterWorkerInfo worker = getRegisteringWorker(workerId);
+    // Each chunk only holds the worker lock while it is processed, so that heartbeats and
+    // lost worker detection are not blocked for the whole registration.
+    synchronized (worker) {
+      worker.updateLastUpdatedTimeMs();
+      // Blocks unknown to the master are recorded too, to be detected as orphaned at the end.
+      for (List<Long> blockIds : currentBlocksOnLocation.values()) {
+        for (long blockId : blockIds) {
+          worker.addBlock(blockId);
+        }
+      }
+      processWorkerAddedBlocks(worker, currentBlocksOnLocation);
+    }
+  }
+
+  @Override
+  public void workerRegisterFinish(long workerId, RegisterWorkerPOptions options)
+      throws NotFoundException {
+    MasterWorkerInfo worker = getRegisteringWorker(workerId);
+    synchronized (worker) {
+      if (!worker.isRegistering()) {
+        throw new NotFoundException(
+            String.format("Worker %d has no registration in progress", workerId));
+      }
+      worker.updateLastUpdatedTimeMs();
+      // Detect any lost blocks on this worker.
+      processWorkerRemovedBlocks(worker, worker.finishRegister());
+      processWorkerOrphanedBlocks(worker);
+    }
+    completeWorkerRegister(worker, options);
+  }
+
+  @Override
+  public void workerRegisterAbort(long workerId) {
+    MasterWorkerInfo worker;
+    try {
+      worker = getRegisteringWorker(workerId);
+    } catch (NotFoundException e) {
+      return;
+    }
+    synchronized (worker) {
+      if (!worker.isRegistering()) {
+        return;
+      }
+      worker.abortRegister();
+      // The locations of a worker which is not registered are never cleaned up by the lost worker
+      // detection, so they are removed right away.
+      if (!mWorkers.contains(ID_INDEX, workerId)) {
+        processWorkerRemovedBlocks(worker, worker.getBlocks());
+      }
+    }
+    LOG.warn("Aborted the registration of worker {}", workerId);
+  }
+
+  /**
+   * @param workerId the id of a worker which is registering
+   * @return the worker, whether it is registered or not
+   * @throws NotFoundException if the worker cannot be found
+   */
+  private MasterWorkerInfo getRegisteringWorker(long workerId) throws NotFoundException {
+    MasterWorkerInfo worker = mWorkers.getFirstByField(ID_INDEX, workerId);
+    if (worker == null) {
+      worker = findUnregisteredWorker(workerId);
+    }
+    if (worker == null) {
+      throw new NotFoundException(ExceptionMessage.NO_WORKER_FOUND.getMessage(workerId));
+    }
+    return worker;
+  }
+
+  /**
+   * Notifies the listeners of a registered worker, and moves it to the registered workers.
+   *
+   * @param worker the worker which has registered
+   * @param options the options that may contain worker configuration
+   */
+  private void completeWorkerRegister(MasterWorkerInfo worker, RegisterWorkerPOptions options) {
     if (options.getConfigsCount() > 0) {
       for (BiConsumer<Address, List<ConfigProperty>> function : mWorkerRegisteredListeners) {
         WorkerNetAddress workerAddress = worker.getWorkerAddress();
@@ -856,7 +948,7 @@ public final class DefaultBlockMaster extends CoreMaster implements BlockMaster
       }
     }
 
-    registerWorkerInternal(workerId);
+    registerWorkerInternal(worker.getId());
 
     LOG.info("registerWorker(): {}", worker);
   }
@@ -0,0 +1,163 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block;
+
+import alluxio.RpcUtils;
+import alluxio.exception.status.InvalidArgumentException;
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.grpc.RegisterWorkerPOptions;
+import alluxio.grpc.RegisterWorkerPRequest;
+import alluxio.grpc.RegisterWorkerPResponse;
+
+import io.grpc.StatusException;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Semaphore;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Handles the requests of a streaming worker registration. The first request starts the
+ * registration, and the blocks of each request are added to the master before the request is
+ * acknowledged, so a worker never has more than a chunk of blocks in flight. The registration
+ * completes when the worker completes its stream.
+ *
+ * A registration holds a permit of the semaphore from its first request until it completes or
+ * fails. When no permit is available, the registration is rejected right away with a
+ * {@link ResourceExhaustedException}, and the worker retries later.
+ *
+ * gRPC never calls a request observer concurrently for a single call.
+ */
+@NotThreadSafe
+final class RegisterWorkerStreamObserver implements StreamObserver<RegisterWorkerPRequest> {
+  private static final Logger LOG = LoggerFactory.getLogger(RegisterWorkerStreamObserver.class);
+
+  private final BlockMaster mBlockMaster;
+  private final Semaphore mPermits;
+  private final StreamObserver<RegisterWorkerPResponse> mResponseObserver;
+
+  /** The id of the registering worker, set by the first request. */
+  private long mWorkerId;
+  private RegisterWorkerPOptions mOptions;
+  private boolean mStarted;
+  private boolean mHoldsPermit;
+  private boolean mDone;
+
+  /**
+   * @param blockMaster the block master
+   * @param permits the permits bounding the number of concurrent registrations
+   * @param responseObserver the response observer of the call
+   */
+  RegisterWorkerStreamObserver(BlockMaster blockMaster, Semaphore permits,
+      StreamObserver<RegisterWorkerPResponse> responseObserver) {
+    mBlockMaster = blockMaster;
+    mPermits = permits;
+    mResponseObserver = responseObserver;
+  }
+
+  @Override
+  public void onNext(RegisterWorkerPRequest request) {
+    if (mDone) {
+      return;
+    }
+    try {
+      if (!mStarted) {
+        start(request);
+      }
+      RpcUtils.callAndReturn(LOG,
+          (RpcUtils.RpcCallableThrowsIOException<RegisterWorkerPResponse>) () -> {
+            mBlockMaster.workerRegisterBlocks(mWorkerId,
+                BlockMasterWorkerServiceHandler.toBlockLocationMap(request.getCurrentBlocksList()));
+            return null;
+          }, "registerWorkerStream", false, "workerId=%s, blocks=%s", mWorkerId,
+          request.getCurrentBlocksCount());
+      mResponseObserver.onNext(RegisterWorkerPResponse.getDefaultInstance());
+    } catch (StatusException e) {
+      fail(e);
+    }
+  }
+
+  @Override
+  public void onError(Throwable t) {
+    LOG.warn("Registration of worker {} was cancelled: {}", mWorkerId, t.toString());
+    mDone = true;
+    abort();
+  }
+
+  @Override
+  public void onCompleted() {
+    if (mDone) {
+      return;
+    }
+    try {
+      if (!mStarted) {
+        throw new InvalidArgumentException("Empty worker registration")
+            .toGrpcStatusException();
+      }
+      RpcUtils.callAndReturn(LOG,
+          (RpcUtils.RpcCallableThrowsIOException<RegisterWorkerPResponse>) () -> {
+            mBlockMaster.workerRegisterFinish(mWorkerId, mOptions);
+            return null;
+          }, "registerWorkerStream", false, "workerId=%s", mWorkerId);
+      mDone = true;
+      releasePermit();
+      mResponseObserver.onCompleted();
+    } catch (StatusException e) {
+      fail(e);
+    }
+  }
+
+  private void start(RegisterWorkerPRequest request) throws StatusException {
+    mStarted = true;
+    mWorkerId = request.getWorkerId();
+    mOptions = request.getOptions();
+    if (!mPermits.tryAcquire()) {
+      throw new ResourceExhaustedException(String.format(
+          "Too many workers are registering, worker %d should retry later", mWorkerId))
+          .toGrpcStatusException();
+    }
+    mHoldsPermit = true;
+    RpcUtils.callAndReturn(LOG,
+        (RpcUtils.RpcCallableThrowsIOException<RegisterWorkerPResponse>) () -> {
+          mBlockMaster.workerRegisterStart(mWorkerId, request.getStorageTiersList(),
+              request.getTotalBytesOnTiersMap(), request.getUsedBytesOnTiersMap(),
+              request.getLostStorageMap());
+          return null;
+        }, "registerWorkerStream", false, "request=%s", request.toBuilder()
+            .clearCurrentBlocks().build());
+  }
+
+  private void fail(StatusException e) {
+    mDone = true;
+    abort();
+    mResponseObserver.onError(e);
+  }
+
+  /**
+   * Aborts the registration in the block master if it was started, and releases the permit.
+   */
+  private void abort() {
+    if (mHoldsPermit) {
+      mBlockMaster.workerRegisterAbort(mWorkerId);
+    }
+    releasePermit();
+  }
+
+  private void releasePermit() {
+    if (mHoldsPermit) {
+      mHoldsPermit = false;
+      mPermits.release();
+    }
+  }
+}
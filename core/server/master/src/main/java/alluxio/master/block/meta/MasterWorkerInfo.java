@@ -22,13 +22,15 @@ import alluxio.wire.WorkerNetAddress;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -39,6 +41,9 @@ import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * Metadata for an Alluxio worker. This class is not thread safe, so external locking is required.
+ *
+ * The ids of the blocks of the worker are kept in primitive long sets. A worker may hold millions
+ * of blocks, and a set of boxed longs takes several times more memory than the ids themselves.
  */
 @NotThreadSafe
 public final class MasterWorkerInfo {
@@ -68,9 +73,11 @@ public final class MasterWorkerInfo {
   private Map<String, Long> mUsedBytesOnTiers;
 
   /** ids of blocks the worker contains. */
-  private Set<Long> mBlocks;
+  private LongSet mBlocks;
   /** ids of blocks the worker should remove. */
-  private Set<Long> mToRemoveBlocks;
+  private LongSet mToRemoveBlocks;
+  /** ids of blocks reported by the streaming registration in progress, null if there is none. */
+  private LongSet mRegisteringBlocks;
   /** Mapping from tier alias to lost storage paths. */
   private Map<String, List<String>> mLostStorage;
 
@@ -89,8 +96,8 @@ public final class MasterWorkerInfo {
     mStorageTierAssoc = null;
     mTotalBytesOnTiers = new HashMap<>();
     mUsedBytesOnTiers = new HashMap<>();
-    mBlocks = new HashSet<>();
-    mToRemoveBlocks = new HashSet<>();
+    mBlocks = new LongOpenHashSet();
+    mToRemoveBlocks = new LongOpenHashSet();
     mLostStorage = new HashMap<>();
   }
 
@@ -108,6 +115,99 @@ public final class MasterWorkerInfo {
   public Set<Long> register(final StorageTierAssoc globalStorageTierAssoc,
       final List<String> storageTierAliases, final Map<String, Long> totalBytesOnTiers,
       final Map<String, Long> usedBytesOnTiers, final Set<Long> blocks) {
+    updateStorage(globalStorageTierAssoc, storageTierAliases, totalBytesOnTiers,
+        usedBytesOnTiers);
+
+    // defensive copy
+    LongSet newBlocks = new LongOpenHashSet(blocks);
+    LongSet removedBlocks = new LongOpenHashSet();
+    if (mIsRegistered) {
+      // This is a re-register of an existing worker. Assume the new block ownership data is more
+      // up-to-date and update the existing block information.
+      LOG.info("re-registering an existing workerId: {}", mId);
+
+      // Compute the difference between the existing block data, and the new data.
+      for (LongIterator it = mBlocks.iterator(); it.hasNext(); ) {
+        long blockId = it.nextLong();
+        if (!newBlocks.contains(blockId)) {
+          removedBlocks.add(blockId);
+        }
+      }
+    }
+
+    // Set the new block information.
+    mBlocks = newBlocks;
+    mRegisteringBlocks = null;
+
+    mIsRegistered = true;
+    return removedBlocks;
+  }
+
+  /**
+   * Starts a streaming registration of the worker, while updating its storage metadata. The
+   * blocks of the worker are then added with {@link #addBlock(long)}, and the registration is
+   * completed by {@link #finishRegister()}. A streaming registration which is started again
+   * before it completes starts over.
+   *
+   * @param globalStorageTierAssoc global mapping between storage aliases and ordinal position
+   * @param storageTierAliases list of storage tier aliases in order of their position in the
+   *        hierarchy
+   * @param totalBytesOnTiers mapping from storage tier alias to total bytes
+   * @param usedBytesOnTiers mapping from storage tier alias to used byes
+   */
+  public void startRegister(final StorageTierAssoc globalStorageTierAssoc,
+      final List<String> storageTierAliases, final Map<String, Long> totalBytesOnTiers,
+      final Map<String, Long> usedBytesOnTiers) {
+    updateStorage(globalStorageTierAssoc, storageTierAliases, totalBytesOnTiers,
+        usedBytesOnTiers);
+    if (mIsRegistered) {
+      LOG.info("re-registering an existing workerId: {}", mId);
+    }
+    mRegisteringBlocks = new LongOpenHashSet();
+  }
+
+  /**
+   * Completes a streaming registration of the worker, and marks the worker as registered.
+   *
+   * @return the blocks of the worker which were not reported by the registration, and should
+   *         be removed (or lost) from this worker
+   */
+  public Set<Long> finishRegister() {
+    Preconditions.checkState(mRegisteringBlocks != null,
+        "Worker %s has no registration in progress", mId);
+    LongSet removedBlocks = new LongOpenHashSet();
+    for (LongIterator it = mBlocks.iterator(); it.hasNext(); ) {
+      long blockId = it.nextLong();
+      if (!mRegisteringBlocks.contains(blockId)) {
+        removedBlocks.add(blockId);
+      }
+    }
+    mRegisteringBlocks = null;
+    mIsRegistered = true;
+    return removedBlocks;
+  }
+
+  /**
+   * Aborts the streaming registration in progress. The blocks added by the registration are kept,
+   * and the worker stays registered if it was registered before.
+   */
+  public void abortRegister() {
+    mRegisteringBlocks = null;
+  }
+
+  /**
+   * @return whether a streaming registration of the worker is in progress
+   */
+  public boolean isRegistering() {
+    return mRegisteringBlocks != null;
+  }
+
+  /**
+   * Validates and updates the storage metadata of the worker.
+   */
+  private void updateStorage(final StorageTierAssoc globalStorageTierAssoc,
+      final List<String> storageTierAliases, final Map<String, Long> totalBytesOnTiers,
+      final Map<String, Long> usedBytesOnTiers) {
     // If the storage aliases do not have strictly increasing ordinal value based on the total
     // ordering, throw an error
     for (int i = 0; i < storageTierAliases.size() - 1; i++) {
@@ -140,24 +240,6 @@ public final class MasterWorkerInfo {
     for (long bytes : mUsedBytesOnTiers.values()) {
       mUsedBytes += bytes;
     }
-
-    Set<Long> removedBlocks;
-    if (mIsRegistered) {
-      // This is a re-register of an existing worker. Assume the new block ownership data is more
-      // up-to-date and update the existing block information.
-      LOG.info("re-registering an existing workerId: {}", mId);
-
-      // Compute the difference between the existing block data, and the new data.
-      removedBlocks = Sets.difference(mBlocks, blocks);
-    } else {
-      removedBlocks = Collections.emptySet();
-    }
-
-    // Set the new block information.
-    mBlocks = new HashSet<>(blocks);
-
-    mIsRegistered = true;
-    return removedBlocks;
   }
 
   /**
@@ -167,6 +249,9 @@ public final class MasterWorkerInfo {
    */
   public void addBlock(long blockId) {
     mBlocks.add(blockId);
+    if (mRegisteringBlocks != null) {
+      mRegisteringBlocks.add(blockId);
+    }
   }
 
   /**
@@ -274,7 +359,7 @@ public final class MasterWorkerInfo {
    * @return ids of all blocks the worker contains
    */
   public Set<Long> getBlocks() {
-    return new HashSet<>(mBlocks);
+    return new LongOpenHashSet(mBlocks);
   }
 
   /**
@@ -302,7 +387,7 @@ public final class MasterWorkerInfo {
    * @return ids of blocks the worker should remove
    */
   public List<Long> getToRemoveBlocks() {
-    return new ArrayList<>(mToRemoveBlocks);
+    return new LongArrayList(mToRemoveBlocks);
   }
 
   /**
@@ -377,7 +462,7 @@ public final class MasterWorkerInfo {
   public String toString() {
     return MoreObjects.toStringHelper(this).add("id", mId).add("workerAddress", mWorkerAddress)
         .add("capacityBytes", mCapacityBytes).add("usedBytes", mUsedBytes)
-        .add("lastUpdatedTimeMs", mLastUpdatedTimeMs).add("blocks", mBlocks)
+        .add("lastUpdatedTimeMs", mLastUpdatedTimeMs).add("blocks", mBlocks.size())
         .add("lostStorage", mLostStorage).toString();
   }
 
@@ -98,6 +98,7 @@ import alluxio.master.file.meta.MountTable;
 import alluxio.master.file.meta.PersistenceState;
 import alluxio.master.file.meta.UfsAbsentPathCache;
 import alluxio.master.file.meta.UfsBlockLocationCache;
+import alluxio.master.file.meta.UfsStatusCache;
 import alluxio.master.file.meta.UfsSyncPathCache;
 import alluxio.master.file.meta.UfsSyncUtils;
 import alluxio.master.file.meta.options.MountInfo;
@@ -123,6 +124,7 @@ import alluxio.proto.journal.File.UpdateInodeEntry;
 import alluxio.proto.journal.File.UpdateInodeFileEntry;
 import alluxio.proto.journal.File.UpdateInodeFileEntry.Builder;
 import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.resource.CloseableIterator;
 import alluxio.resource.CloseableResource;
 import alluxio.resource.LockResource;
 import alluxio.retry.CountingRetry;
@@ -142,6 +144,7 @@ import alluxio.underfs.UfsFileStatus;
 import alluxio.underfs.UfsManager;
 import alluxio.underfs.UfsMode;
 import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.UnderFileSystemConfiguration;
 import alluxio.underfs.options.ListOptions;
@@ -186,7 +189,6 @@ import org.slf4j.LoggerFactory;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -375,6 +377,16 @@ public final class DefaultFileSystemMaster extends CoreMaster
   /** Thread pool which asynchronously handles the completion of persist jobs. */
   private java.util.concurrent.ThreadPoolExecutor mPersistCheckerPool;
 
+  /**
+   * Thread pool which prefetches UFS directory listings for metadata sync, or null if listings
+   * are not prefetched.
+   */
+  @Nullable
+  private final java.util.concurrent.ThreadPoolExecutor mSyncPrefetchExecutor;
+
+  /** The number of sibling directories whose listings are prefetched during metadata sync. */
+  private final int mSyncPrefetchWindow;
+
   private ActiveSyncManager mSyncManager;
 
   /** Log writer for user access audit log. */
@@ -432,6 +444,19 @@ public final class DefaultFileSystemMaster extends CoreMaster
     mUfsAbsentPathCache = UfsAbsentPathCache.Factory.create(mMountTable);
     mUfsBlockLocationCache = UfsBlockLocationCache.Factory.create(mMountTable);
     mUfsSyncPathCache = new UfsSyncPathCache();
+    int syncPrefetchThreads =
+        ServerConfiguration.getInt(PropertyKey.MASTER_METADATA_SYNC_UFS_PREFETCH_POOL_SIZE);
+    if (syncPrefetchThreads > 0) {
+      mSyncPrefetchExecutor = new java.util.concurrent.ThreadPoolExecutor(syncPrefetchThreads,
+          syncPrefetchThreads, 1, java.util.concurrent.TimeUnit.MINUTES,
+          new LinkedBlockingQueue<>(),
+          alluxio.util.ThreadFactoryUtils.build("alluxio-ufs-sync-prefetch-%d", true));
+      mSyncPrefetchExecutor.allowCoreThreadTimeOut(true);
+    } else {
+      mSyncPrefetchExecutor = null;
+    }
+    mSyncPrefetchWindow =
+        ServerConfiguration.getInt(PropertyKey.MASTER_METADATA_SYNC_UFS_PREFETCH_WINDOW);
     mSyncManager = new ActiveSyncManager(mMountTable, this);
     mTimeSeriesStore = new TimeSeriesStore();
     mAccessTimeUpdater = new AccessTimeUpdater(this, mInodeTree, masterContext.getJournalSystem());
@@ -450,6 +475,11 @@ public final class DefaultFileSystemMaster extends CoreMaster
 
     resetState();
     Metrics.registerGauges(this, mUfsManager);
+    if (mSyncPrefetchExecutor != null) {
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMetricName(MasterMetrics.UFS_SYNC_PREFETCHES_PENDING),
+          () -> mSyncPrefetchExecutor.getQueue().size() + mSyncPrefetchExecutor.getActiveCount());
+    }
   }
 
   private static MountInfo getRootMountInfo(MasterUfsManager ufsManager) {
@@ -656,6 +686,9 @@ public final class DefaultFileSystemMaster extends CoreMaster
   @Override
   public void close() throws IOException {
     super.close();
+    if (mSyncPrefetchExecutor != null) {
+      mSyncPrefetchExecutor.shutdownNow();
+    }
     mInodeTree.close();
   }
 
@@ -916,22 +949,30 @@ public final class DefaultFileSystemMaster extends CoreMaster
           ? DescendantType.ALL : DescendantType.NONE;
       // This is to generate a parsed child path components to be passed to lockChildPath
       String [] childComponentsHint = null;
-      for (Inode child : mInodeStore.getChildren(inode.asDirectory())) {
-        if (childComponentsHint == null) {
-          String[] parentComponents = PathUtils.getPathComponents(currInodePath.getUri().getPath());
-          childComponentsHint = new String[parentComponents.length + 1];
-          System.arraycopy(parentComponents, 0, childComponentsHint, 0, parentComponents.length);
-        }
-        // TODO(david): Make extending InodePath more efficient
-        childComponentsHint[childComponentsHint.length - 1] = child.getName();
-
-        try (LockedInodePath childInodePath =
-            currInodePath.lockChild(child, LockPattern.READ, childComponentsHint)) {
-          listStatusInternal(rpcContext, childInodePath, auditContext, nextDescendantType,
-              resultStream, depth + 1);
-        } catch (InvalidPathException | FileDoesNotExistException e) {
-          LOG.debug("Path \"{0}\" is invalid, has been ignored.",
-              PathUtils.concatPath("/", childComponentsHint));
+      // The children are streamed from the inode store, so that the results for a large
+      // directory are sent to the client while the rest of the directory is still being read.
+      try (CloseableIterator<? extends Inode> children =
+          mInodeStore.getChildrenIterator(inode.asDirectory())) {
+        while (children.hasNext()) {
+          Inode child = children.next();
+          if (childComponentsHint == null) {
+            String[] parentComponents =
+                PathUtils.getPathComponents(currInodePath.getUri().getPath());
+            childComponentsHint = new String[parentComponents.length + 1];
+            System.arraycopy(parentComponents, 0, childComponentsHint, 0,
+                parentComponents.length);
+          }
+          // TODO(david): Make extending InodePath more efficient
+          childComponentsHint[childComponentsHint.length - 1] = child.getName();
+
+          try (LockedInodePath childInodePath =
+              currInodePath.lockChild(child, LockPattern.READ, childComponentsHint)) {
+            listStatusInternal(rpcContext, childInodePath, auditContext, nextDescendantType,
+                resultStream, depth + 1);
+          } catch (InvalidPathException | FileDoesNotExistException e) {
+            LOG.debug("Path \"{0}\" is invalid, has been ignored.",
+                PathUtils.concatPath("/", childComponentsHint));
+          }
         }
       }
     }
@@ -2367,11 +2408,35 @@ public final class DefaultFileSystemMaster extends CoreMaster
       LoadMetadataContext context)
       throws AccessControlException, BlockInfoException, FileAlreadyCompletedException,
       FileDoesNotExistException, InvalidFileSizeException, InvalidPathException, IOException {
+    UfsStatusCache statusCache = createStatusCache();
+    try {
+      loadMetadataInternal(rpcContext, inodePath, statusCache, context);
+    } finally {
+      statusCache.cancelAllPrefetch();
+    }
+  }
+
+  /**
+   * Loads metadata for the object identified by the given path from UFS into Alluxio, using the
+   * UFS statuses and listings which have already been fetched into the status cache.
+   *
+   * @param rpcContext the rpc context
+   * @param inodePath the path for which metadata should be loaded
+   * @param statusCache the cache of UFS statuses and listings to use
+   * @param context the load metadata context
+   */
+  private void loadMetadataInternal(RpcContext rpcContext, LockedInodePath inodePath,
+      UfsStatusCache statusCache, LoadMetadataContext context)
+      throws AccessControlException, BlockInfoException, FileAlreadyCompletedException,
+      FileDoesNotExistException, InvalidFileSizeException, InvalidPathException, IOException {
     AlluxioURI path = inodePath.getUri();
     MountTable.Resolution resolution = mMountTable.resolve(path);
     AlluxioURI ufsUri = resolution.getUri();
     try (CloseableResource<UnderFileSystem> ufsResource = resolution.acquireUfsResource()) {
       UnderFileSystem ufs = ufsResource.get();
+      if (context.getUfsStatus() == null) {
+        context.setUfsStatus(statusCache.getStatus(path));
+      }
       if (context.getUfsStatus() == null && !ufs.exists(ufsUri.toString())) {
         // uri does not exist in ufs
         InodeDirectory inode = inodePath.getInode().asDirectory();
@@ -2390,58 +2455,31 @@ public final class DefaultFileSystemMaster extends CoreMaster
         loadDirectoryMetadata(rpcContext, inodePath, context);
 
         if (context.getOptions().getLoadDescendantType() != LoadDescendantPType.NONE) {
-          ListOptions listOptions = ListOptions.defaults();
           if (context.getOptions().getLoadDescendantType() == LoadDescendantPType.ALL) {
-            listOptions.setRecursive(true);
-          } else {
-            listOptions.setRecursive(false);
-          }
-          UfsStatus[] children = ufs.listStatus(ufsUri.toString(), listOptions);
-          // children can be null if the pathname does not denote a directory
-          // or if the we do not have permission to listStatus on the directory in the ufs.
-          if (children == null) {
-            throw new IOException("Failed to loadMetadata because ufs can not listStatus at path "
-                + ufsUri.toString());
-          }
-          Arrays.sort(children, Comparator.comparing(UfsStatus::getName));
-
-          for (UfsStatus childStatus : children) {
-            if (PathUtils.isTemporaryFileName(childStatus.getName())) {
-              continue;
-            }
-            AlluxioURI childURI = new AlluxioURI(
-                PathUtils.concatPath(inodePath.getUri(), childStatus.getName()));
-            if (mInodeTree.inodePathExists(childURI) && (childStatus.isFile()
-                || context.getOptions().getLoadDescendantType() != LoadDescendantPType.ALL)) {
-              // stop traversing if this is an existing file, or an existing directory without
-              // loading all descendants.
-              continue;
-            }
-
-            try (LockedInodePath descendant = inodePath.lockDescendant(
-                inodePath.getUri().joinUnsafe(childStatus.getName()), LockPattern.READ)) {
-              LoadMetadataContext loadMetadataContext = LoadMetadataContext
-                  .mergeFrom(LoadMetadataPOptions.newBuilder()
-                      .setLoadDescendantType(LoadDescendantPType.NONE).setCreateAncestors(false))
-                  .setUfsStatus(childStatus);
-              try {
-                loadMetadataInternal(rpcContext, descendant, loadMetadataContext);
-              } catch (FileNotFoundException e) {
-                LOG.debug(
-                    "Failed to loadMetadata because file is not in ufs:"
-                        + " inodePath={}, options={}.",
-                    descendant.getUri(), loadMetadataContext, e);
-                continue;
-              } catch (Exception e) {
-                LOG.info("Failed to loadMetadata: inodePath={}, options={}.", descendant.getUri(),
-                    loadMetadataContext, e);
-                continue;
+            // A single recursive listing is much cheaper than listing every directory,
+            // especially for object stores. The listing is streamed, and every directory is
+            // listed before its descendants, so the descendants are loaded as they are listed.
+            try (UfsStatusIterator descendants = ufs.listStatusIterator(ufsUri.toString(),
+                ListOptions.defaults().setRecursive(true))) {
+              if (descendants == null) {
+                throw listStatusFailure(ufsUri);
               }
-              if (context.getOptions().getLoadDescendantType() == LoadDescendantPType.ALL
-                  && descendant.getInode().isDirectory()) {
-                mInodeTree.setDirectChildrenLoaded(rpcContext, descendant.getInode().asDirectory());
+              while (descendants.hasNext()) {
+                loadChildMetadata(rpcContext, inodePath, descendants.next(), statusCache,
+                    context);
               }
             }
+          } else {
+            // The direct children may have already been listed while syncing the path.
+            List<UfsStatus> children = statusCache.fetchChildrenIfAbsent(path);
+            if (children == null) {
+              throw listStatusFailure(ufsUri);
+            }
+            children = new ArrayList<>(children);
+            children.sort(Comparator.comparing(UfsStatus::getName));
+            for (UfsStatus childStatus : children) {
+              loadChildMetadata(rpcContext, inodePath, childStatus, statusCache, context);
+            }
           }
           mInodeTree.setDirectChildrenLoaded(rpcContext, inodePath.getInode().asDirectory());
         }
@@ -2453,6 +2491,95 @@ public final class DefaultFileSystemMaster extends CoreMaster
     }
   }
 
+  /**
+   * @param ufsUri the UFS path of a directory which could not be listed
+   * @return the exception to throw
+   */
+  private static IOException listStatusFailure(AlluxioURI ufsUri) {
+    // The listing can be null if the pathname does not denote a directory
+    // or if the we do not have permission to listStatus on the directory in the ufs.
+    return new IOException("Failed to loadMetadata because ufs can not listStatus at path "
+        + ufsUri.toString());
+  }
+
+  /**
+   * Loads the metadata of a child or descendant of a directory whose descendants are being loaded.
+   *
+   * @param rpcContext the rpc context
+   * @param inodePath the path of the directory
+   * @param childStatus the UFS status of the child, named relative to the directory
+   * @param statusCache the cache of UFS statuses and listings to use
+   * @param context the load metadata context of the directory
+   */
+  private void loadChildMetadata(RpcContext rpcContext, LockedInodePath inodePath,
+      UfsStatus childStatus, UfsStatusCache statusCache, LoadMetadataContext context)
+      throws FileDoesNotExistException, InvalidPathException {
+    if (PathUtils.isTemporaryFileName(childStatus.getName())) {
+      return;
+    }
+    AlluxioURI childURI = new AlluxioURI(
+        PathUtils.concatPath(inodePath.getUri(), childStatus.getName()));
+    if (mInodeTree.inodePathExists(childURI) && (childStatus.isFile()
+        || context.getOptions().getLoadDescendantType() != LoadDescendantPType.ALL)) {
+      // stop traversing if this is an existing file, or an existing directory without
+      // loading all descendants.
+      return;
+    }
+
+    try (LockedInodePath descendant = inodePath.lockDescendant(
+        inodePath.getUri().joinUnsafe(childStatus.getName()), LockPattern.READ)) {
+      LoadMetadataContext loadMetadataContext = LoadMetadataContext
+          .mergeFrom(LoadMetadataPOptions.newBuilder()
+              .setLoadDescendantType(LoadDescendantPType.NONE).setCreateAncestors(false))
+          .setUfsStatus(childStatus);
+      try {
+        loadMetadataInternal(rpcContext, descendant, statusCache, loadMetadataContext);
+      } catch (FileNotFoundException e) {
+        LOG.debug(
+            "Failed to loadMetadata because file is not in ufs:"
+                + " inodePath={}, options={}.",
+            descendant.getUri(), loadMetadataContext, e);
+        return;
+      } catch (Exception e) {
+        LOG.info("Failed to loadMetadata: inodePath={}, options={}.", descendant.getUri(),
+            loadMetadataContext, e);
+        return;
+      }
+      if (context.getOptions().getLoadDescendantType() == LoadDescendantPType.ALL
+          && descendant.getInode().isDirectory()) {
+        mInodeTree.setDirectChildrenLoaded(rpcContext, descendant.getInode().asDirectory());
+      }
+    }
+  }
+
+  /**
+   * Starts prefetching the listings of the first directories which are going to be synced, up to
+   * the prefetch window.
+   *
+   * @param statusCache the status cache to prefetch into
+   * @param directories the directories which are going to be synced, in order
+   */
+  private void prefetchChildren(UfsStatusCache statusCache, List<AlluxioURI> directories) {
+    for (int i = 0; i < Math.min(directories.size(), mSyncPrefetchWindow); i++) {
+      statusCache.prefetchChildren(directories.get(i));
+    }
+  }
+
+  /**
+   * Advances the prefetch window when a directory starts being synced, so that the listings of
+   * the next directories stay in flight.
+   *
+   * @param statusCache the status cache to prefetch into
+   * @param directories the directories which are going to be synced, in order
+   * @param index the index of the directory which starts being synced
+   */
+  private void slidePrefetchWindow(UfsStatusCache statusCache, List<AlluxioURI> directories,
+      int index) {
+    if (index + mSyncPrefetchWindow < directories.size()) {
+      statusCache.prefetchChildren(directories.get(index + mSyncPrefetchWindow));
+    }
+  }
+
   /**
    * Loads metadata for the file identified by the given path from UFS into Alluxio.
    *
@@ -3207,10 +3334,10 @@ public final class DefaultFileSystemMaster extends CoreMaster
       return;
     }
 
-    Map<AlluxioURI, UfsStatus> statusCache;
+    UfsStatusCache statusCache = createStatusCache();
     try (RpcContext rpcContext = createRpcContext()) {
-      statusCache = populateStatusCache(path, DescendantType.ALL);
       if (changedFiles == null) {
+        statusCache.prefetchChildren(path);
         LockingScheme lockingScheme = new LockingScheme(path, LockPattern.READ, true);
         try (LockedInodePath inodePath =
             mInodeTree.lockInodePath(lockingScheme.getPath(), lockingScheme.getPattern())) {
@@ -3220,6 +3347,14 @@ public final class DefaultFileSystemMaster extends CoreMaster
         LOG.info("Ended an active full sync of {}", path.toString());
         return;
       } else {
+        // Only the statuses of the changed files are needed, so list their parents rather than
+        // the whole sync point.
+        for (AlluxioURI changedFile : changedFiles) {
+          AlluxioURI parent = changedFile.getParent();
+          if (parent != null) {
+            statusCache.prefetchChildren(parent);
+          }
+        }
         Set<Callable<Void>> callables = new HashSet<>();
         for (AlluxioURI changedFile : changedFiles) {
           callables.add(() -> {
@@ -3242,6 +3377,8 @@ public final class DefaultFileSystemMaster extends CoreMaster
       LOG.warn("InterruptedException during active sync {}", e);
       Thread.currentThread().interrupt();
       return;
+    } finally {
+      statusCache.cancelAllPrefetch();
     }
     LOG.info("Ended an active incremental sync of {} files", changedFiles.size());
   }
@@ -3275,45 +3412,28 @@ public final class DefaultFileSystemMaster extends CoreMaster
     if (!lockingScheme.shouldSync()) {
       return false;
     }
+    UfsStatusCache statusCache = createStatusCache();
     try {
+      if (syncDescendantType != DescendantType.NONE) {
+        statusCache.prefetchChildren(inodePath.getUri());
+      }
       result = syncMetadataInternal(rpcContext, inodePath, lockingScheme,
-          syncDescendantType, populateStatusCache(inodePath.getUri(), syncDescendantType));
+          syncDescendantType, statusCache);
     } catch (Exception e) {
       LOG.warn("Sync metadata for path {} encountered exception {}", inodePath.getUri(),
           Throwables.getStackTraceAsString(e));
       return false;
+    } finally {
+      statusCache.cancelAllPrefetch();
     }
     return result;
   }
 
-  private Map<AlluxioURI, UfsStatus> populateStatusCache(AlluxioURI path,
-      DescendantType syncDescendantType) {
-    Map<AlluxioURI, UfsStatus> statusCache = new HashMap<>();
-    try {
-      MountTable.Resolution resolution = mMountTable.resolve(path);
-      AlluxioURI ufsUri = resolution.getUri();
-      try (CloseableResource<UnderFileSystem> ufsResource = resolution.acquireUfsResource()) {
-        UnderFileSystem ufs = ufsResource.get();
-        ListOptions listOptions = ListOptions.defaults();
-        // statusCache stores uri to ufsstatus mapping that is used to construct fingerprint
-
-        listOptions.setRecursive(syncDescendantType == DescendantType.ALL);
-        try {
-          UfsStatus[] children = ufs.listStatus(ufsUri.toString(), listOptions);
-          if (children != null) {
-            for (UfsStatus childStatus : children) {
-              statusCache.put(path.joinUnsafe(childStatus.getName()),
-                  childStatus);
-            }
-          }
-        } catch (Exception e) {
-          LOG.debug("ListStatus failed as an preparation step for syncMetadata {}", path, e);
-        }
-        return statusCache;
-      }
-    } catch (InvalidPathException e) {
-      return statusCache;
-    }
+  /**
+   * @return a new cache for the UFS statuses fetched during a metadata sync
+   */
+  private UfsStatusCache createStatusCache() {
+    return new UfsStatusCache(mMountTable, mSyncPrefetchExecutor);
   }
 
   /**
@@ -3326,11 +3446,12 @@ public final class DefaultFileSystemMaster extends CoreMaster
    * @param lockingScheme the locking scheme used to lock the inode path
    * @param syncDescendantType how to sync descendants
    * @param statusCache a cache provided to the sync method which stores the UfsStatus of files
+   *        and the listings of directories
    * @return true if the sync was performed successfully, false otherwise (including errors)
    */
   private boolean syncMetadataInternal(RpcContext rpcContext, LockedInodePath inodePath,
       LockingScheme lockingScheme, DescendantType syncDescendantType,
-      Map<AlluxioURI, UfsStatus> statusCache)
+      UfsStatusCache statusCache)
       throws IOException {
     Preconditions.checkState(inodePath.getLockPattern() == LockPattern.WRITE_EDGE);
 
@@ -3375,7 +3496,7 @@ public final class DefaultFileSystemMaster extends CoreMaster
           // one of the mountpoint is above the original inodePath, we start loading from the
           // original inodePath. It is already locked. so we proceed to load metadata.
           try {
-            loadMetadataInternal(rpcContext, inodePath,
+            loadMetadataInternal(rpcContext, inodePath, statusCache,
                 LoadMetadataContext
                     .mergeFrom(LoadMetadataPOptions.newBuilder().setCreateAncestors(true)
                         .setLoadDescendantType(GrpcUtils.toProto(syncDescendantType))));
@@ -3391,7 +3512,7 @@ public final class DefaultFileSystemMaster extends CoreMaster
           try (LockedInodePath descendantPath =
               inodePath.lockDescendant(mountPointUri, LockPattern.READ)) {
             try {
-              loadMetadataInternal(rpcContext, descendantPath,
+              loadMetadataInternal(rpcContext, descendantPath, statusCache,
                   LoadMetadataContext
                       .mergeFrom(LoadMetadataPOptions.newBuilder().setCreateAncestors(true)
                           .setLoadDescendantType(GrpcUtils.toProto(syncDescendantType))));
@@ -3462,7 +3583,7 @@ public final class DefaultFileSystemMaster extends CoreMaster
    *         metadata is required
    */
   private SyncResult syncInodeMetadata(RpcContext rpcContext, LockedInodePath inodePath,
-      DescendantType syncDescendantType, Map<AlluxioURI, UfsStatus> statusCache)
+      DescendantType syncDescendantType, UfsStatusCache statusCache)
       throws FileDoesNotExistException, InvalidPathException, IOException, AccessControlException {
     Preconditions.checkState(inodePath.getLockPattern() == LockPattern.WRITE_EDGE);
 
@@ -3496,7 +3617,7 @@ public final class DefaultFileSystemMaster extends CoreMaster
       UnderFileSystem ufs = ufsResource.get();
       String ufsFingerprint;
       Fingerprint ufsFpParsed;
-      UfsStatus cachedStatus = statusCache.get(inodePath.getUri());
+      UfsStatus cachedStatus = statusCache.fetchStatusIfAbsent(inodePath.getUri());
       if (cachedStatus == null) {
         // TODO(david): change the interface so that getFingerprint returns a parsed fingerprint
         ufsFingerprint = ufs.getFingerprint(ufsUri.toString());
@@ -3554,8 +3675,7 @@ public final class DefaultFileSystemMaster extends CoreMaster
           inodeChildren.put(child.getName(), child);
         }
 
-        UfsStatus[] listStatus = ufs.listStatus(ufsUri.toString(),
-            ListOptions.defaults());
+        List<UfsStatus> listStatus = statusCache.fetchChildrenIfAbsent(inodePath.getUri());
         // Iterate over UFS listings and process UFS children.
         if (listStatus != null) {
           for (UfsStatus ufsChildStatus : listStatus) {
@@ -3570,11 +3690,24 @@ public final class DefaultFileSystemMaster extends CoreMaster
         }
 
         // Iterate over Alluxio children and process persisted children.
+        List<AlluxioURI> directories = new ArrayList<>();
+        if (syncDescendantType == DescendantType.ALL) {
+          for (Inode child : inodeChildren.values()) {
+            if (child.isPersisted() && child.isDirectory()) {
+              directories.add(inodePath.getUri().joinUnsafe(child.getName()));
+            }
+          }
+        }
+        prefetchChildren(statusCache, directories);
+        int directoryIndex = 0;
         for (Map.Entry<String, Inode> inodeEntry : inodeChildren.entrySet()) {
           if (!inodeEntry.getValue().isPersisted()) {
             // Ignore non-persisted inodes.
             continue;
           }
+          if (syncDescendantType == DescendantType.ALL && inodeEntry.getValue().isDirectory()) {
+            slidePrefetchWindow(statusCache, directories, directoryIndex++);
+          }
 
           // Technically we don't need to lock here since inodePath is already write-locked. We can
           // improve this by implementing a way to traverse an inode path without locking.
@@ -0,0 +1,213 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.AlluxioURI;
+import alluxio.exception.InvalidPathException;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
+import alluxio.resource.CloseableResource;
+import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UfsStatusIterator;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.underfs.options.ListOptions;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * This cache holds the UFS statuses and directory listings fetched during a single metadata sync.
+ *
+ * Listings of directories which the sync is going to visit can be prefetched on an executor, so
+ * that the UFS round trips overlap with the reconciliation of the inodes already listed. A
+ * listing is only consumed once the sync needs it; any prefetch which is still outstanding when
+ * the sync finishes should be cancelled with {@link #cancelAllPrefetch()}.
+ */
+@ThreadSafe
+public final class UfsStatusCache {
+  private static final Logger LOG = LoggerFactory.getLogger(UfsStatusCache.class);
+
+  private static final Counter DIRECTORIES_LISTED =
+      MetricsSystem.counter(MasterMetrics.UFS_SYNC_DIRECTORIES_LISTED);
+  private static final Counter PREFETCHES_USED =
+      MetricsSystem.counter(MasterMetrics.UFS_SYNC_PREFETCHES_USED);
+  private static final Meter PATHS_LISTED =
+      MetricsSystem.meter(MasterMetrics.UFS_SYNC_PATHS_LISTED);
+
+  private final MountTable mMountTable;
+  /** The executor for prefetching listings, or null if listings should not be prefetched. */
+  @Nullable
+  private final ExecutorService mPrefetchExecutor;
+  private final Map<AlluxioURI, UfsStatus> mStatuses = new ConcurrentHashMap<>();
+  private final Map<AlluxioURI, List<UfsStatus>> mChildren = new ConcurrentHashMap<>();
+  private final Map<AlluxioURI, Future<UfsStatus[]>> mPrefetchJobs = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance of {@link UfsStatusCache}.
+   *
+   * @param mountTable the mount table used to resolve the UFS paths
+   * @param prefetchExecutor the executor to prefetch listings with, or null to disable prefetching
+   */
+  public UfsStatusCache(MountTable mountTable, @Nullable ExecutorService prefetchExecutor) {
+    mMountTable = mountTable;
+    mPrefetchExecutor = prefetchExecutor;
+  }
+
+  /**
+   * @param path the Alluxio path
+   * @return the cached UFS status of the path, or null if it is not cached
+   */
+  @Nullable
+  public UfsStatus getStatus(AlluxioURI path) {
+    return mStatuses.get(path);
+  }
+
+  /**
+   * Gets the UFS status of a path. If the status is not cached but a listing of the parent
+   * directory has been prefetched, the listing is consumed to find the status.
+   *
+   * @param path the Alluxio path
+   * @return the UFS status of the path, or null if it is not known without querying the UFS
+   */
+  @Nullable
+  public UfsStatus fetchStatusIfAbsent(AlluxioURI path) {
+    UfsStatus status = mStatuses.get(path);
+    if (status != null || path.isRoot()) {
+      return status;
+    }
+    AlluxioURI parent = path.getParent();
+    if (parent != null && mPrefetchJobs.containsKey(parent)) {
+      try {
+        fetchChildrenIfAbsent(parent);
+      } catch (InvalidPathException | IOException e) {
+        LOG.debug("Failed to list {} while looking up the status of {}", parent, path, e);
+      }
+    }
+    return mStatuses.get(path);
+  }
+
+  /**
+   * Starts fetching the children of a directory in the background, unless prefetching is
+   * disabled or the children are already cached or being fetched.
+   *
+   * @param path the Alluxio path of the directory
+   */
+  public void prefetchChildren(AlluxioURI path) {
+    if (mPrefetchExecutor == null || mChildren.containsKey(path)
+        || mPrefetchJobs.containsKey(path)) {
+      return;
+    }
+    try {
+      mPrefetchJobs.computeIfAbsent(path, key -> mPrefetchExecutor.submit(() -> listStatus(key)));
+    } catch (RejectedExecutionException e) {
+      LOG.debug("Failed to prefetch the children of {}", path, e);
+    }
+  }
+
+  /**
+   * Gets the children of a directory. The children are taken from the cache or a finished
+   * prefetch if possible, and are otherwise listed from the UFS by the calling thread.
+   *
+   * @param path the Alluxio path of the directory
+   * @return the UFS statuses of the children, or null if the path does not denote a directory or
+   *         cannot be listed
+   */
+  @Nullable
+  public List<UfsStatus> fetchChildrenIfAbsent(AlluxioURI path)
+      throws InvalidPathException, IOException {
+    List<UfsStatus> children = mChildren.get(path);
+    if (children != null) {
+      return children;
+    }
+    UfsStatus[] statuses = null;
+    boolean listed = false;
+    Future<UfsStatus[]> prefetchJob = mPrefetchJobs.remove(path);
+    if (prefetchJob != null) {
+      try {
+        statuses = prefetchJob.get();
+        listed = true;
+        PREFETCHES_USED.inc();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        prefetchJob.cancel(true);
+      } catch (ExecutionException e) {
+        LOG.debug("Failed to prefetch the children of {}, listing them again", path,
+            e.getCause());
+      }
+    }
+    if (!listed) {
+      statuses = listStatus(path);
+    }
+    if (statuses == null) {
+      return null;
+    }
+    for (UfsStatus status : statuses) {
+      AlluxioURI childPath = path.joinUnsafe(status.getName());
+      // The status of a nested mount point comes from another UFS, so it cannot be taken from
+      // the listing of its parent.
+      if (!mMountTable.isMountPoint(childPath)) {
+        mStatuses.put(childPath, status);
+      }
+    }
+    children = Collections.unmodifiableList(Arrays.asList(statuses));
+    mChildren.put(path, children);
+    return children;
+  }
+
+  /**
+   * Cancels all outstanding prefetches.
+   */
+  public void cancelAllPrefetch() {
+    for (Future<UfsStatus[]> prefetchJob : mPrefetchJobs.values()) {
+      // Listings which are already running are left to finish, since interrupting a UFS client
+      // may leave it unusable.
+      prefetchJob.cancel(false);
+    }
+    mPrefetchJobs.clear();
+  }
+
+  @Nullable
+  private UfsStatus[] listStatus(AlluxioURI path) throws InvalidPathException, IOException {
+    MountTable.Resolution resolution = mMountTable.resolve(path);
+    try (CloseableResource<UnderFileSystem> ufsResource = resolution.acquireUfsResource();
+         UfsStatusIterator statuses = ufsResource.get()
+             .listStatusIterator(resolution.getUri().toString(), ListOptions.defaults())) {
+      DIRECTORIES_LISTED.inc();
+      if (statuses == null) {
+        return null;
+      }
+      List<UfsStatus> children = new ArrayList<>();
+      while (statuses.hasNext()) {
+        children.add(statuses.next());
+        PATHS_LISTED.mark();
+      }
+      return children.toArray(new UfsStatus[children.size()]);
+    }
+  }
+}
@@ -15,10 +15,13 @@ import alluxio.master.file.meta.EdgeEntry;
 import alluxio.master.file.meta.Inode;
 import alluxio.master.file.meta.InodeDirectoryView;
 import alluxio.master.file.meta.MutableInode;
+import alluxio.resource.CloseableIterator;
 
 import com.google.common.annotations.VisibleForTesting;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -40,6 +43,11 @@ public class DelegatingReadOnlyInodeStore implements ReadOnlyInodeStore {
     return mDelegate.get(id, option);
   }
 
+  @Override
+  public Map<Long, Inode> getAll(Collection<Long> ids, ReadOption option) {
+    return mDelegate.getAll(ids, option);
+  }
+
   @Override
   public Iterable<Long> getChildIds(Long inodeId, ReadOption option) {
     return mDelegate.getChildIds(inodeId, option);
@@ -60,6 +68,16 @@ public class DelegatingReadOnlyInodeStore implements ReadOnlyInodeStore {
     return mDelegate.getChildren(inode, option);
   }
 
+  @Override
+  public CloseableIterator<Long> getChildIdsIterator(Long inodeId, ReadOption option) {
+    return mDelegate.getChildIdsIterator(inodeId, option);
+  }
+
+  @Override
+  public CloseableIterator<? extends Inode> getChildrenIterator(Long inodeId, ReadOption option) {
+    return mDelegate.getChildrenIterator(inodeId, option);
+  }
+
   @Override
   public Optional<Long> getChildId(Long inodeId, String name, ReadOption option) {
     return mDelegate.getChildId(inodeId, name, option);
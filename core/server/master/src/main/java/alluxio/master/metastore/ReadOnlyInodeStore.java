@@ -15,11 +15,15 @@ import alluxio.master.file.meta.EdgeEntry;
 import alluxio.master.file.meta.Inode;
 import alluxio.master.file.meta.InodeDirectoryView;
 import alluxio.master.file.meta.MutableInode;
+import alluxio.resource.CloseableIterator;
 
 import com.google.common.annotations.VisibleForTesting;
 
 import java.io.Closeable;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
@@ -43,6 +47,23 @@ public interface ReadOnlyInodeStore extends Closeable {
     return get(id, ReadOption.defaults());
   }
 
+  /**
+   * Gets several inodes at once. Stores which can look up several inodes together should override
+   * this to do so; by default the inodes are looked up one by one with
+   * {@link #get(long, ReadOption)}.
+   *
+   * @param ids the inode ids
+   * @param option the options
+   * @return the inodes which exist, keyed by id
+   */
+  default Map<Long, Inode> getAll(Collection<Long> ids, ReadOption option) {
+    Map<Long, Inode> inodes = new HashMap<>(ids.size());
+    for (long id : ids) {
+      get(id, option).ifPresent(inode -> inodes.put(id, inode));
+    }
+    return inodes;
+  }
+
   /**
    * Returns an iterable for the ids of the children of the given directory.
    *
@@ -79,6 +100,19 @@ public interface ReadOnlyInodeStore extends Closeable {
     return getChildIds(inode, ReadOption.defaults());
   }
 
+  /**
+   * Returns a closeable iterator over the ids of the children of the given directory. The ids may
+   * be read from the store lazily as the iterator advances, so the caller must close the iterator
+   * once done with it.
+   *
+   * @param inodeId an inode id to list child ids for
+   * @param option the options
+   * @return an iterator over the child ids
+   */
+  default CloseableIterator<Long> getChildIdsIterator(Long inodeId, ReadOption option) {
+    return CloseableIterator.noopCloseable(getChildIds(inodeId, option).iterator());
+  }
+
   /**
    * Returns an iterator over the children of the specified inode.
    *
@@ -152,6 +186,29 @@ public interface ReadOnlyInodeStore extends Closeable {
     return getChildren(inode.getId(), ReadOption.defaults());
   }
 
+  /**
+   * Returns a closeable iterator over the children of the specified inode. The consistency
+   * guarantees are the same as for {@link #getChildren(Long, ReadOption)}, but the children may
+   * be read from the store lazily as the iterator advances, so the caller must close the iterator
+   * once done with it.
+   *
+   * @param inodeId an inode id
+   * @param option the options
+   * @return an iterator over the children of the inode with the given id
+   */
+  default CloseableIterator<? extends Inode> getChildrenIterator(Long inodeId,
+      ReadOption option) {
+    return CloseableIterator.noopCloseable(getChildren(inodeId, option).iterator());
+  }
+
+  /**
+   * @param inode an inode directory
+   * @return the result of {@link #getChildrenIterator(Long, ReadOption)} with default option
+   */
+  default CloseableIterator<? extends Inode> getChildrenIterator(InodeDirectoryView inode) {
+    return getChildrenIterator(inode.getId(), ReadOption.defaults());
+  }
+
   /**
    * @param inodeId an inode id
    * @param name an inode name
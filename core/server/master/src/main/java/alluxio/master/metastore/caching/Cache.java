@@ -16,6 +16,7 @@ import alluxio.master.metastore.ReadOption;
 import alluxio.metrics.MetricsSystem;
 import alluxio.util.logging.SamplingLogger;
 
+import com.codahale.metrics.Counter;
 import com.google.common.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,13 +26,17 @@ import java.lang.Thread.State;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
@@ -46,6 +51,14 @@ import javax.annotation.concurrent.ThreadSafe;
  * best performance, maximum capacity should never be reached. This requires that the eviction
  * thread can keep up cache writes.
  *
+ * Which entries are evicted depends on the {@link CachePolicy}. With {@link CachePolicy#CLOCK},
+ * the eviction thread evicts entries which have not been accessed since its last pass. With
+ * {@link CachePolicy#TINY_LFU}, new entries are first added to a small window. When the eviction
+ * thread moves an entry out of the window, the entry is compared with the entry which the clock
+ * would evict, and the one which a {@link FrequencySketch} estimates to be accessed less often is
+ * evicted. This keeps a scan over many keys which are accessed once from flushing the working set
+ * out of the cache.
+ *
  * Cache hit reads are served without any locking. Writes and cache miss reads take locks on their
  * cache key.
  *
@@ -66,6 +79,19 @@ public abstract class Cache<K, V> implements Closeable {
   private final String mName;
   @VisibleForTesting
   final ConcurrentHashMap<K, Entry> mMap;
+  // Estimates the access frequencies of keys for the TinyLFU policy, or null for other policies.
+  @Nullable
+  private final FrequencySketch<K> mSketch;
+  // The entries which have been added to the cache but not yet considered for admission by the
+  // eviction thread, in insertion order. Only used by the TinyLFU policy.
+  private final Queue<Entry> mWindow = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger mWindowSize = new AtomicInteger(0);
+  private final int mWindowMaxSize;
+  private final int mMainMaxSize;
+  private final Counter mHits;
+  private final Counter mMisses;
+  private final Counter mAdmissions;
+  private final Counter mEvictions;
   // TODO(andrew): Support using multiple threads to speed up backing store writes.
   // Thread for performing eviction to the backing store.
   @VisibleForTesting
@@ -82,11 +108,18 @@ public abstract class Cache<K, V> implements Closeable {
     mEvictBatchSize = conf.getEvictBatchSize();
     mName = name;
     mMap = new ConcurrentHashMap<>(mMaxSize);
+    mSketch = conf.getPolicy() == CachePolicy.TINY_LFU ? new FrequencySketch<>(mMaxSize) : null;
+    mWindowMaxSize = Math.max(1, Math.round(mLowWaterMark * conf.getWindowRatio()));
+    mMainMaxSize = mLowWaterMark - mWindowMaxSize;
     mEvictionThread = new EvictionThread();
     mEvictionThread.setDaemon(true);
     // The eviction thread is started lazily when we first reach the high water mark.
 
     MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMetricName(mName + "-size"), mMap::size);
+    mHits = MetricsSystem.counter(mName + "-hits");
+    mMisses = MetricsSystem.counter(mName + "-misses");
+    mAdmissions = MetricsSystem.counter(mName + "-admissions");
+    mEvictions = MetricsSystem.counter(mName + "-evictions");
   }
 
   /**
@@ -106,15 +139,18 @@ public abstract class Cache<K, V> implements Closeable {
     if (option.shouldSkipCache() || cacheIsFull()) {
       return getSkipCache(key);
     }
+    recordAccess(key);
     Entry result = mMap.compute(key, (k, entry) -> {
       if (entry != null) {
+        mHits.inc();
         entry.mReferenced = true;
         return entry;
       }
+      mMisses.inc();
       Optional<V> value = load(key);
       if (value.isPresent()) {
         onCacheUpdate(key, value.get());
-        Entry newEntry = new Entry(key, value.get());
+        Entry newEntry = newEntry(key, value.get());
         newEntry.mDirty = false;
         return newEntry;
       }
@@ -145,11 +181,48 @@ public abstract class Cache<K, V> implements Closeable {
   private Optional<V> getSkipCache(K key) {
     Entry entry = mMap.get(key);
     if (entry == null) {
+      mMisses.inc();
       return load(key);
     }
+    mHits.inc();
     return Optional.ofNullable(entry.mValue);
   }
 
+  /**
+   * @param key the key to check
+   * @return whether the cache holds an entry for the key, including an entry which records that
+   *         the key has been removed but not yet removed from the backing store
+   */
+  public boolean isCached(K key) {
+    return mMap.containsKey(key);
+  }
+
+  /**
+   * Looks keys up in the cache only, without loading them from the backing store or recording
+   * accesses, so that callers can load the missing keys from the backing store together without
+   * filling the cache. Keys which are cached as removed are neither returned nor reported missing.
+   *
+   * @param keys the keys to look up
+   * @param misses a collection which the keys that are not cached are added to
+   * @return the cached values of the keys
+   */
+  public Map<K, V> getCached(Collection<K> keys, Collection<K> misses) {
+    Map<K, V> values = new HashMap<>();
+    for (K key : keys) {
+      Entry entry = mMap.get(key);
+      if (entry == null) {
+        mMisses.inc();
+        misses.add(key);
+      } else {
+        mHits.inc();
+        if (entry.mValue != null) {
+          values.put(key, entry.mValue);
+        }
+      }
+    }
+    return values;
+  }
+
   /**
    * Writes a key/value pair to the cache.
    *
@@ -157,6 +230,7 @@ public abstract class Cache<K, V> implements Closeable {
    * @param value the value
    */
   public void put(K key, V value) {
+    recordAccess(key);
     mMap.compute(key, (k, entry) -> {
       onPut(key, value);
       if (entry == null && cacheIsFull()) {
@@ -165,7 +239,7 @@ public abstract class Cache<K, V> implements Closeable {
       }
       if (entry == null || entry.mValue == null) {
         onCacheUpdate(key, value);
-        return new Entry(key, value);
+        return newEntry(key, value);
       }
       entry.mValue = value;
       entry.mReferenced = true;
@@ -196,7 +270,7 @@ public abstract class Cache<K, V> implements Closeable {
       }
       onCacheUpdate(key, null);
       if (entry == null) {
-        entry = new Entry(key, null);
+        entry = newEntry(key, null);
       } else {
         entry.mValue = null;
       }
@@ -238,6 +312,28 @@ public abstract class Cache<K, V> implements Closeable {
       onRemove(key);
     });
     mMap.clear();
+    mWindow.clear();
+    mWindowSize.set(0);
+  }
+
+  /**
+   * Creates an entry for a key which is being added to the cache. Must be called while holding
+   * the entry-level lock of the key.
+   */
+  private Entry newEntry(K key, @Nullable V value) {
+    Entry entry = new Entry(key, value);
+    if (mSketch != null) {
+      entry.mInWindow = true;
+      mWindow.add(entry);
+      mWindowSize.incrementAndGet();
+    }
+    return entry;
+  }
+
+  private void recordAccess(K key) {
+    if (mSketch != null) {
+      mSketch.increment(key);
+    }
   }
 
   private boolean overHighWaterMark() {
@@ -289,6 +385,10 @@ public abstract class Cache<K, V> implements Closeable {
     private final Logger mCacheFullLogger = new SamplingLogger(LOG, 10 * Constants.SECOND_MS);
 
     private Iterator<Entry> mEvictionHead = Collections.emptyIterator();
+    // The entry chosen by the clock which window entries compete against for admission under the
+    // TinyLFU policy. It is kept until either it or a window entry is evicted.
+    @Nullable
+    private Entry mMainVictim = null;
 
     private EvictionThread() {
       super(mName + "-eviction-thread");
@@ -346,17 +446,87 @@ public abstract class Cache<K, V> implements Closeable {
      */
     private void fillBatch(int count) {
       int targetSize = Math.min(count, mEvictBatchSize);
-      while (mEvictionCandidates.size() < targetSize && mEvictionHead.hasNext()) {
+      while (mEvictionCandidates.size() < targetSize) {
+        Entry candidate = mSketch == null ? nextClockVictim() : nextTinyLfuVictim();
+        if (candidate == null) {
+          return;
+        }
+        mEvictionCandidates.add(candidate);
+        if (candidate.mDirty) {
+          mDirtyEvictionCandidates.add(candidate);
+        }
+      }
+    }
+
+    /**
+     * Advances the clock hand to the next entry outside the window which has not been referenced
+     * since the last pass, clearing the referenced bits of the entries it passes.
+     *
+     * @return the entry, or null if the clock hand reached the end of the cache
+     */
+    @Nullable
+    private Entry nextClockVictim() {
+      while (mEvictionHead.hasNext()) {
         Entry candidate = mEvictionHead.next();
+        if (candidate.mInWindow) {
+          continue;
+        }
         if (candidate.mReferenced) {
           candidate.mReferenced = false;
           continue;
         }
-        mEvictionCandidates.add(candidate);
-        if (candidate.mDirty) {
-          mDirtyEvictionCandidates.add(candidate);
+        return candidate;
+      }
+      return null;
+    }
+
+    /**
+     * Moves entries out of the window until one of them has to compete with the clock's victim
+     * for a place in the cache, and returns the loser.
+     *
+     * @return the entry to evict, or null if the clock hand reached the end of the cache
+     */
+    @Nullable
+    private Entry nextTinyLfuVictim() {
+      if (mMainVictim != null && mMap.get(mMainVictim.mKey) != mMainVictim) {
+        mMainVictim = null; // The cache has been cleared.
+      }
+      while (mWindowSize.get() > mWindowMaxSize) {
+        Entry candidate = mWindow.poll();
+        if (candidate == null) {
+          break;
         }
+        mWindowSize.decrementAndGet();
+        candidate.mInWindow = false;
+        if (mMap.get(candidate.mKey) != candidate) {
+          continue; // The cache has been cleared.
+        }
+        if (mMap.size() - mWindowSize.get() <= mMainMaxSize) {
+          // There is room outside the window, so the candidate doesn't need to compete.
+          mAdmissions.inc();
+          continue;
+        }
+        if (mMainVictim == null) {
+          mMainVictim = nextClockVictim();
+          if (mMainVictim == null) {
+            // Let the candidate compete with the clock's victim once the hand has wrapped around.
+            mWindow.add(candidate);
+            mWindowSize.incrementAndGet();
+            candidate.mInWindow = true;
+            return null;
+          }
+        }
+        if (mSketch.frequency(candidate.mKey) > mSketch.frequency(mMainVictim.mKey)) {
+          mAdmissions.inc();
+          Entry victim = mMainVictim;
+          mMainVictim = null;
+          return victim;
+        }
+        return candidate;
       }
+      Entry victim = mMainVictim != null ? mMainVictim : nextClockVictim();
+      mMainVictim = null;
+      return victim;
     }
 
     /**
@@ -375,6 +545,7 @@ public abstract class Cache<K, V> implements Closeable {
           evicted++;
         }
       }
+      mEvictions.inc(evicted);
       mEvictionCandidates.clear();
       mDirtyEvictionCandidates.clear();
       return evicted;
@@ -486,6 +657,9 @@ public abstract class Cache<K, V> implements Closeable {
     // CLOCK algorithm.
     private volatile boolean mReferenced = true;
 
+    // Whether the entry is in the admission window of the TinyLFU policy.
+    private volatile boolean mInWindow = false;
+
     private Entry(K key, V value) {
       mKey = key;
       mValue = value;
@@ -19,12 +19,17 @@ public class CacheConfiguration {
   private final int mHighWaterMark;
   private final int mLowWaterMark;
   private final int mEvictBatchSize;
+  private final CachePolicy mPolicy;
+  private final float mWindowRatio;
 
-  private CacheConfiguration(int maxSize, int highWaterMark, int lowWaterMark, int evictBatchSize) {
+  private CacheConfiguration(int maxSize, int highWaterMark, int lowWaterMark, int evictBatchSize,
+      CachePolicy policy, float windowRatio) {
     mMaxSize = maxSize;
     mHighWaterMark = highWaterMark;
     mLowWaterMark = lowWaterMark;
     mEvictBatchSize = evictBatchSize;
+    mPolicy = policy;
+    mWindowRatio = windowRatio;
   }
 
   /**
@@ -55,6 +60,21 @@ public class CacheConfiguration {
     return mEvictBatchSize;
   }
 
+  /**
+   * @return the cache policy
+   */
+  public CachePolicy getPolicy() {
+    return mPolicy;
+  }
+
+  /**
+   * @return the size of the admission window of the {@link CachePolicy#TINY_LFU} policy, as a
+   *         ratio of the low water mark
+   */
+  public float getWindowRatio() {
+    return mWindowRatio;
+  }
+
   /**
    * @return a cache configuration builder
    */
@@ -70,6 +90,8 @@ public class CacheConfiguration {
     private int mHighWaterMark;
     private int mLowWaterMark;
     private int mEvictBatchSize;
+    private CachePolicy mPolicy = CachePolicy.CLOCK;
+    private float mWindowRatio = 0.01f;
 
     /**
      * @param maxSize the target max cache size
@@ -107,11 +129,31 @@ public class CacheConfiguration {
       return this;
     }
 
+    /**
+     * @param policy the policy for choosing which entries the cache keeps
+     * @return the builder
+     */
+    public Builder setPolicy(CachePolicy policy) {
+      mPolicy = policy;
+      return this;
+    }
+
+    /**
+     * @param windowRatio the size of the admission window of the {@link CachePolicy#TINY_LFU}
+     *        policy, as a ratio of the low water mark
+     * @return the builder
+     */
+    public Builder setWindowRatio(float windowRatio) {
+      mWindowRatio = windowRatio;
+      return this;
+    }
+
     /**
      * @return a cache configuration based on the values passed to the builder
      */
     public CacheConfiguration build() {
-      return new CacheConfiguration(mMaxSize, mHighWaterMark, mLowWaterMark, mEvictBatchSize);
+      return new CacheConfiguration(mMaxSize, mHighWaterMark, mLowWaterMark, mEvictBatchSize,
+          mPolicy, mWindowRatio);
     }
   }
 }
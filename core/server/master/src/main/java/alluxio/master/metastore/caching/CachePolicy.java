@@ -0,0 +1,28 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.caching;
+
+/**
+ * Policies for choosing which entries a metastore cache keeps.
+ */
+public enum CachePolicy {
+  /**
+   * Evicts entries which have not been accessed since the last pass of a clock hand.
+   */
+  CLOCK,
+  /**
+   * Admits new entries through a small window. An entry leaving the window is only kept if it has
+   * been accessed more often than the entry which the clock would evict instead, so that scans
+   * do not flush the frequently accessed entries out of the cache.
+   */
+  TINY_LFU
+}
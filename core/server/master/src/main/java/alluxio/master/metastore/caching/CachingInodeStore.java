@@ -30,11 +30,14 @@ import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.ReadOption;
 import alluxio.master.metastore.heap.HeapInodeStore;
 import alluxio.metrics.MetricsSystem;
+import alluxio.resource.CloseableIterator;
 import alluxio.resource.LockResource;
 import alluxio.util.ConfigurationUtils;
 
+import com.codahale.metrics.Counter;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import com.google.common.io.Closer;
 import org.slf4j.Logger;
@@ -43,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -88,6 +92,8 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public final class CachingInodeStore implements InodeStore, Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(CachingInodeStore.class);
+  /** The number of flushed children which are resolved together when iterating a directory. */
+  private static final int CHILDREN_BATCH_SIZE = 1000;
 
   private final InodeStore mBackingStore;
   private final InodeLockManager mLockManager;
@@ -133,13 +139,20 @@ public final class CachingInodeStore implements InodeStore, Closeable {
     int lowWaterMark = Math.round(maxSize * lowWaterMarkRatio);
 
     mBackingStoreEmpty = true;
-    CacheConfiguration cacheConf = CacheConfiguration.newBuilder().setMaxSize(maxSize)
+    CacheConfiguration.Builder cacheConf = CacheConfiguration.newBuilder().setMaxSize(maxSize)
         .setHighWaterMark(highWaterMark).setLowWaterMark(lowWaterMark)
         .setEvictBatchSize(conf.getInt(PropertyKey.MASTER_METASTORE_INODE_CACHE_EVICT_BATCH_SIZE))
-        .build();
-    mInodeCache = new InodeCache(cacheConf);
-    mEdgeCache = new EdgeCache(cacheConf);
-    mListingCache = new ListingCache(cacheConf);
+        .setWindowRatio(ConfigurationUtils.checkRatio(conf,
+            PropertyKey.MASTER_METASTORE_INODE_CACHE_WINDOW_RATIO));
+    mInodeCache = new InodeCache(cacheConf.setPolicy(
+        conf.getEnum(PropertyKey.MASTER_METASTORE_INODE_CACHE_INODE_POLICY, CachePolicy.class))
+        .build());
+    mEdgeCache = new EdgeCache(cacheConf.setPolicy(
+        conf.getEnum(PropertyKey.MASTER_METASTORE_INODE_CACHE_EDGE_POLICY, CachePolicy.class))
+        .build());
+    mListingCache = new ListingCache(cacheConf.setPolicy(
+        conf.getEnum(PropertyKey.MASTER_METASTORE_INODE_CACHE_LISTING_POLICY, CachePolicy.class))
+        .build());
   }
 
   @Override
@@ -187,6 +200,15 @@ public final class CachingInodeStore implements InodeStore, Closeable {
     return () -> mListingCache.getChildIds(inodeId, option).iterator();
   }
 
+  @Override
+  public CloseableIterator<? extends Inode> getChildrenIterator(Long inodeId,
+      ReadOption option) {
+    if (mBackingStoreEmpty || mListingCache.getCachedChildIds(inodeId).isPresent()) {
+      return InodeStore.super.getChildrenIterator(inodeId, option);
+    }
+    return mEdgeCache.getChildrenIterator(inodeId, option);
+  }
+
   @Override
   public Optional<Long> getChildId(Long inodeId, String name, ReadOption option) {
     return mEdgeCache.get(new Edge(inodeId, name), option);
@@ -406,6 +428,66 @@ public final class CachingInodeStore implements InodeStore, Closeable {
       return childIds;
     }
 
+    /**
+     * Gets an iterator over the children of an inode, which streams the children stored in the
+     * backing store instead of first collecting all child ids like
+     * {@link #getChildIds(Long, ReadOption)}. The children found in the cache are returned first.
+     * It has the same consistency guarantees as {@link #getChildIds(Long, ReadOption)}.
+     *
+     * @param inodeId the inode to get the children for
+     * @param option the read options
+     * @return an iterator over the children
+     */
+    public CloseableIterator<Inode> getChildrenIterator(Long inodeId, ReadOption option) {
+      Map<String, Long> cachedChildIds =
+          new HashMap<>(mIdToChildMap.getOrDefault(inodeId, Collections.emptyMap()));
+      // Copy the list of unflushed deletes before reading the backing store to prevent racing async
+      // deletion.
+      Set<String> unflushedDeletes =
+          new HashSet<>(mUnflushedDeletes.getOrDefault(inodeId, Collections.EMPTY_SET));
+      // Iterates over the edges rather than the inodes of the backing store, because an edge can
+      // be flushed before its inode. The children are resolved in batches, so that the inodes
+      // which are not cached are fetched from the backing store together and without filling the
+      // inode cache, while the cached inodes, which may be newer or not flushed yet, still win.
+      CloseableIterator<Long> backingChildIds =
+          mBackingStore.getChildIdsIterator(inodeId, ReadOption.defaults());
+      Iterator<Inode> cachedChildren = cachedChildIds.values().stream()
+          .map(childId -> CachingInodeStore.this.get(childId, option))
+          .filter(Optional::isPresent).map(Optional::get).iterator();
+      Iterator<Inode> flushedChildren = Iterators.concat(Iterators.transform(
+          Iterators.partition(backingChildIds, CHILDREN_BATCH_SIZE),
+          batch -> resolveChildren(batch).stream()
+              .filter(inode -> !cachedChildIds.containsKey(inode.getName())
+                  && !unflushedDeletes.contains(inode.getName()))
+              .iterator()));
+      return CloseableIterator.create(Iterators.concat(cachedChildren, flushedChildren),
+          backingChildIds::close);
+    }
+
+    /**
+     * Gets inodes from the inode cache if they are cached, and otherwise from the backing store
+     * with a single lookup which does not add them to the cache.
+     *
+     * @param ids the inode ids
+     * @return the inodes which exist, in the order of the ids
+     */
+    private List<Inode> resolveChildren(List<Long> ids) {
+      List<Long> misses = new ArrayList<>();
+      Map<Long, MutableInode<?>> cached = mInodeCache.getCached(ids, misses);
+      Map<Long, Inode> loaded = misses.isEmpty() || mBackingStoreEmpty ? Collections.emptyMap()
+          : mBackingStore.getAll(misses, ReadOption.defaults());
+      List<Inode> inodes = new ArrayList<>(ids.size());
+      for (Long id : ids) {
+        MutableInode<?> inode = cached.get(id);
+        if (inode != null) {
+          inodes.add(Inode.wrap(inode));
+        } else if (loaded.containsKey(id)) {
+          inodes.add(loaded.get(id));
+        }
+      }
+      return inodes;
+    }
+
     @Override
     protected Optional<Long> load(Edge edge) {
       if (mBackingStoreEmpty) {
@@ -577,12 +659,25 @@ public final class CachingInodeStore implements InodeStore, Closeable {
    * The listing cache tracks its size by weight. The weight for each entry is one plus the size of
    * the listing. Once the weight reaches the high water mark, the first thread to acquire the
    * eviction lock will evict down to the low watermark before computing and caching its result.
+   *
+   * With the {@link CachePolicy#TINY_LFU} policy, a listing is only added to a cache which is over
+   * its high water mark if the directory has been listed before, as estimated by a
+   * {@link FrequencySketch}. Listings are too large to stay in an admission window, so this
+   * cache applies the frequency check when the listing is loaded instead.
    */
   @VisibleForTesting
   class ListingCache {
     private final int mMaxSize;
     private final int mHighWaterMark;
     private final int mLowWaterMark;
+    // Estimates how often directories are listed for the TinyLFU policy, or null for other
+    // policies.
+    @Nullable
+    private final FrequencySketch<Long> mSketch;
+    private final Counter mHits = MetricsSystem.counter("listing-cache-hits");
+    private final Counter mMisses = MetricsSystem.counter("listing-cache-misses");
+    private final Counter mAdmissions = MetricsSystem.counter("listing-cache-admissions");
+    private final Counter mEvictions = MetricsSystem.counter("listing-cache-evictions");
     private AtomicLong mWeight = new AtomicLong(0);
     private Lock mEvictionLock = new ReentrantLock();
 
@@ -593,6 +688,7 @@ public final class CachingInodeStore implements InodeStore, Closeable {
       mMaxSize = conf.getMaxSize();
       mHighWaterMark = conf.getHighWaterMark();
       mLowWaterMark = conf.getLowWaterMark();
+      mSketch = conf.getPolicy() == CachePolicy.TINY_LFU ? new FrequencySketch<>(mMaxSize) : null;
       MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMetricName("listing-cache-size"),
           () -> mWeight.get());
     }
@@ -667,10 +763,13 @@ public final class CachingInodeStore implements InodeStore, Closeable {
      */
     public Collection<Long> getChildIds(Long inodeId, ReadOption option) {
       evictIfNecessary();
+      if (mSketch != null && !option.shouldSkipCache()) {
+        mSketch.increment(inodeId);
+      }
       AtomicBoolean createdNewEntry = new AtomicBoolean(false);
       ListingCacheEntry entry = mMap.compute(inodeId, (key, value) -> {
         if (value == null) {
-          if (mWeight.get() >= mMaxSize) {
+          if (mWeight.get() >= mMaxSize || !shouldAdmit(inodeId)) {
             return null;
           }
           createdNewEntry.set(true);
@@ -680,8 +779,10 @@ public final class CachingInodeStore implements InodeStore, Closeable {
         return value;
       });
       if (entry != null && entry.mChildren != null) {
+        mHits.inc();
         return entry.mChildren.values();
       }
+      mMisses.inc();
       if (entry == null || !createdNewEntry.get() || option.shouldSkipCache()) {
         // Skip caching if the cache is full or someone else is already caching.
         return mEdgeCache.getChildIds(inodeId, option).values();
@@ -695,6 +796,16 @@ public final class CachingInodeStore implements InodeStore, Closeable {
       mEvictionHead = mMap.entrySet().iterator();
     }
 
+    /**
+     * @param inodeId the id of a directory whose listing isn't cached
+     * @return whether the listing of the directory should be cached
+     */
+    private boolean shouldAdmit(Long inodeId) {
+      // A directory which has only been listed once, such as by a recursive listing, is not
+      // worth evicting other listings for.
+      return mSketch == null || mWeight.get() < mHighWaterMark || mSketch.frequency(inodeId) > 1;
+    }
+
     private Map<String, Long> loadChildren(Long inodeId, ListingCacheEntry entry,
         ReadOption option) {
       evictIfNecessary();
@@ -706,6 +817,7 @@ public final class CachingInodeStore implements InodeStore, Closeable {
         if (!entry.mModified) {
           entry.mChildren = new ConcurrentHashMap<>(listing);
           mWeight.addAndGet(weight(entry));
+          mAdmissions.inc();
           return entry;
         }
         return null;
@@ -746,6 +858,7 @@ public final class CachingInodeStore implements InodeStore, Closeable {
           if (entry != null && entry.mChildren != null) {
             mWeight.addAndGet(-weight(entry));
             evicted.addAndGet(weight(entry));
+            mEvictions.inc();
             return null;
           }
           return entry;
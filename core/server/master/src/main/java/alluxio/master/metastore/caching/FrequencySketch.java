@@ -0,0 +1,144 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.caching;
+
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A count-min sketch which estimates how often keys have been accessed recently, as used by the
+ * TinyLFU admission policy.
+ *
+ * Each key maps to four 4-bit counters which are packed into longs, so frequencies saturate at 15
+ * and the sketch takes 8 bytes per key of the maximum size. Once the number of recorded accesses
+ * reaches ten times the maximum size, all counters are halved so that the sketch favors recent
+ * accesses.
+ *
+ * Concurrent updates are lock-free. An update may be lost if it races with halving the counters,
+ * which only makes the estimates slightly less accurate.
+ *
+ * @param <K> the key type
+ */
+@ThreadSafe
+public final class FrequencySketch<K> {
+  private static final long[] SEEDS = {
+      0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private final AtomicLongArray mTable;
+  private final int mTableMask;
+  private final int mSampleSize;
+  private final AtomicInteger mSize = new AtomicInteger();
+
+  /**
+   * @param maxSize the maximum number of keys which the owner of the sketch holds
+   */
+  public FrequencySketch(int maxSize) {
+    Preconditions.checkArgument(maxSize > 0, "maxSize must be positive");
+    int tableSize = Integer.highestOneBit(Math.min(maxSize, 1 << 30));
+    if (tableSize < maxSize) {
+      tableSize <<= 1;
+    }
+    mTable = new AtomicLongArray(tableSize);
+    mTableMask = tableSize - 1;
+    mSampleSize = (int) Math.min(10L * maxSize, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param key a key
+   * @return the estimated number of recent accesses to the key, at most 15
+   */
+  public int frequency(K key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < SEEDS.length; i++) {
+      long value = mTable.get(indexOf(hash, i));
+      frequency = Math.min(frequency, (int) ((value >>> ((start + i) << 2)) & 0xfL));
+    }
+    return frequency;
+  }
+
+  /**
+   * Records an access to a key.
+   *
+   * @param key the accessed key
+   */
+  public void increment(K key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < SEEDS.length; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && mSize.incrementAndGet() >= mSampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * Increments the counter at the given offset of a table entry, unless it is saturated.
+   *
+   * @param index the index of the table entry
+   * @param offset the offset of the counter within the entry, from 0 to 15
+   * @return whether the counter was incremented
+   */
+  private boolean incrementAt(int index, int offset) {
+    int shift = offset << 2;
+    long mask = 0xfL << shift;
+    while (true) {
+      long value = mTable.get(index);
+      if ((value & mask) == mask) {
+        return false;
+      }
+      if (mTable.compareAndSet(index, value, value + (1L << shift))) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Halves all counters, so that the frequencies of keys which are no longer accessed decay.
+   */
+  private synchronized void reset() {
+    if (mSize.get() < mSampleSize) {
+      return; // Another thread already reset the sketch.
+    }
+    for (int i = 0; i < mTable.length(); i++) {
+      long value;
+      do {
+        value = mTable.get(i);
+      } while (!mTable.compareAndSet(i, value, (value >>> 1) & RESET_MASK));
+    }
+    mSize.set(mSampleSize / 2);
+  }
+
+  private int indexOf(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return ((int) h) & mTableMask;
+  }
+
+  /**
+   * Applies a supplemental hash function, since keys such as inode ids often have poorly
+   * distributed hash codes.
+   */
+  private static int spread(int x) {
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    x = ((x >>> 16) ^ x) * 0x45d9f3b;
+    return (x >>> 16) ^ x;
+  }
+}
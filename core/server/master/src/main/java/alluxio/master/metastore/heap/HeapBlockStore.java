@@ -11,70 +11,149 @@
 
 package alluxio.master.metastore.heap;
 
-import alluxio.collections.TwoKeyConcurrentMap;
 import alluxio.master.metastore.BlockStore;
 import alluxio.proto.meta.Block.BlockLocation;
 import alluxio.proto.meta.Block.BlockMeta;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * This class requires external synchronization for operations on the same block id. Operations on
  * different block ids can be performed concurrently.
+ *
+ * The master may hold hundreds of millions of blocks and block locations, so both are kept in
+ * primitive maps keyed by block id rather than in maps of boxed ids, striped to allow concurrent
+ * operations on different blocks. A block is mapped to its length, and to its location when it
+ * has a single location, or to an array of its locations otherwise. Equal locations share a
+ * single instance.
  */
 @ThreadSafe
 public class HeapBlockStore implements BlockStore {
-  // Map from block id to block metadata.
-  public final Map<Long, BlockMeta> mBlocks = new ConcurrentHashMap<>();
-  // Map from block id to block locations.
-  public final TwoKeyConcurrentMap<Long, Long, BlockLocation, Map<Long, BlockLocation>>
-      mBlockLocations = new TwoKeyConcurrentMap<>(() -> new HashMap<>(4));
+  /** The number of stripes of the block lengths, a power of two. */
+  private static final int NUM_STRIPES = 256;
+  /**
+   * The no value marker of the block length maps, which is never a valid length. Blocks of unknown
+   * length have length {@link alluxio.Constants#UNKNOWN_SIZE}, so it cannot be the marker.
+   */
+  private static final long NO_LENGTH = Long.MIN_VALUE;
+
+  // Stripes of the map from block id to block length, each guarded by itself.
+  private final Long2LongOpenHashMap[] mBlockLengths = new Long2LongOpenHashMap[NUM_STRIPES];
+  // Stripes of the map from block id to a BlockLocation or a BlockLocation[], each guarded by
+  // itself.
+  private final List<Long2ObjectOpenHashMap<Object>> mBlockLocations =
+      new ArrayList<>(NUM_STRIPES);
+  // Each (worker, tier, medium) location is held by many blocks, and is stored once.
+  private final Interner<BlockLocation> mLocationInterner = Interners.newWeakInterner();
+
+  /**
+   * Creates a new instance of {@link HeapBlockStore}.
+   */
+  public HeapBlockStore() {
+    for (int i = 0; i < NUM_STRIPES; i++) {
+      mBlockLengths[i] = new Long2LongOpenHashMap();
+      mBlockLengths[i].defaultReturnValue(NO_LENGTH);
+      mBlockLocations.add(new Long2ObjectOpenHashMap<>());
+    }
+  }
 
   @Override
   public Optional<BlockMeta> getBlock(long id) {
-    return Optional.ofNullable(mBlocks.get(id));
+    Long2LongOpenHashMap stripe = mBlockLengths[stripe(id)];
+    long length;
+    synchronized (stripe) {
+      length = stripe.get(id);
+    }
+    if (length == NO_LENGTH) {
+      return Optional.empty();
+    }
+    return Optional.of(BlockMeta.newBuilder().setLength(length).build());
   }
 
   @Override
   public void putBlock(long id, BlockMeta meta) {
-    mBlocks.put(id, meta);
+    Long2LongOpenHashMap stripe = mBlockLengths[stripe(id)];
+    synchronized (stripe) {
+      stripe.put(id, meta.getLength());
+    }
   }
 
   @Override
   public void removeBlock(long id) {
-    mBlocks.remove(id);
+    Long2LongOpenHashMap stripe = mBlockLengths[stripe(id)];
+    synchronized (stripe) {
+      stripe.remove(id);
+    }
   }
 
+  /**
+   * Iterates over the blocks stripe by stripe. Like the iterators of concurrent maps, the
+   * iterator reflects the blocks of each stripe when the iteration reaches it.
+   *
+   * @return an iterator over the blocks
+   */
   @Override
   public Iterator<Block> iterator() {
-    Iterator<Entry<Long, BlockMeta>> it = mBlocks.entrySet().iterator();
     return new Iterator<Block>() {
+      private int mNextStripe = 0;
+      private long[] mIds = new long[0];
+      private long[] mLengths = new long[0];
+      private int mIndex = 0;
+
       @Override
       public boolean hasNext() {
-        return it.hasNext();
+        while (mIndex == mIds.length && mNextStripe < NUM_STRIPES) {
+          Long2LongOpenHashMap stripe = mBlockLengths[mNextStripe++];
+          synchronized (stripe) {
+            mIds = new long[stripe.size()];
+            mLengths = new long[stripe.size()];
+            int i = 0;
+            for (Long2LongMap.Entry entry : stripe.long2LongEntrySet()) {
+              mIds[i] = entry.getLongKey();
+              mLengths[i] = entry.getLongValue();
+              i++;
+            }
+          }
+          mIndex = 0;
+        }
+        return mIndex < mIds.length;
       }
 
       @Override
       public Block next() {
-        Entry<Long, BlockMeta> entry = it.next();
-        return new Block(entry.getKey(), entry.getValue());
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        Block block = new Block(mIds[mIndex],
+            BlockMeta.newBuilder().setLength(mLengths[mIndex]).build());
+        mIndex++;
+        return block;
       }
     };
   }
 
   @Override
   public void clear() {
-    mBlocks.clear();
+    for (Long2LongOpenHashMap stripe : mBlockLengths) {
+      synchronized (stripe) {
+        stripe.clear();
+        stripe.trim();
+      }
+    }
   }
 
   @Override
@@ -84,19 +163,82 @@ public class HeapBlockStore implements BlockStore {
 
   @Override
   public List<BlockLocation> getLocations(long blockid) {
-    if (!mBlockLocations.containsKey(blockid)) {
+    Long2ObjectOpenHashMap<Object> stripe = mBlockLocations.get(stripe(blockid));
+    Object locations;
+    synchronized (stripe) {
+      locations = stripe.get(blockid);
+      if (locations instanceof BlockLocation[]) {
+        return new ArrayList<>(Arrays.asList((BlockLocation[]) locations));
+      }
+    }
+    if (locations == null) {
       return Collections.emptyList();
     }
-    return new ArrayList<>(mBlockLocations.get(blockid).values());
+    List<BlockLocation> list = new ArrayList<>(1);
+    list.add((BlockLocation) locations);
+    return list;
   }
 
   @Override
   public void addLocation(long blockId, BlockLocation location) {
-    mBlockLocations.addInnerValue(blockId, location.getWorkerId(), location);
+    BlockLocation interned = mLocationInterner.intern(location);
+    Long2ObjectOpenHashMap<Object> stripe = mBlockLocations.get(stripe(blockId));
+    synchronized (stripe) {
+      Object locations = stripe.get(blockId);
+      if (locations == null) {
+        stripe.put(blockId, interned);
+        return;
+      }
+      BlockLocation[] array = locations instanceof BlockLocation[] ? (BlockLocation[]) locations
+          : new BlockLocation[] {(BlockLocation) locations};
+      for (int i = 0; i < array.length; i++) {
+        if (array[i].getWorkerId() == location.getWorkerId()) {
+          array[i] = interned;
+          stripe.put(blockId, array.length == 1 ? interned : array);
+          return;
+        }
+      }
+      array = Arrays.copyOf(array, array.length + 1);
+      array[array.length - 1] = interned;
+      stripe.put(blockId, array);
+    }
   }
 
   @Override
   public void removeLocation(long blockId, long workerId) {
-    mBlockLocations.removeInnerValue(blockId, workerId);
+    Long2ObjectOpenHashMap<Object> stripe = mBlockLocations.get(stripe(blockId));
+    synchronized (stripe) {
+      Object locations = stripe.get(blockId);
+      if (locations instanceof BlockLocation) {
+        if (((BlockLocation) locations).getWorkerId() == workerId) {
+          stripe.remove(blockId);
+        }
+      } else if (locations != null) {
+        BlockLocation[] array = (BlockLocation[]) locations;
+        for (int i = 0; i < array.length; i++) {
+          if (array[i].getWorkerId() == workerId) {
+            if (array.length == 2) {
+              stripe.put(blockId, array[1 - i]);
+            } else {
+              BlockLocation[] remaining = new BlockLocation[array.length - 1];
+              System.arraycopy(array, 0, remaining, 0, i);
+              System.arraycopy(array, i + 1, remaining, i, array.length - i - 1);
+              stripe.put(blockId, remaining);
+            }
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @param id a block id
+   * @return the index of the stripe of the block
+   */
+  private static int stripe(long id) {
+    // Block ids of a file share their high bits, so the bits are mixed before picking a stripe.
+    long hash = id * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32) & (NUM_STRIPES - 1);
   }
 }
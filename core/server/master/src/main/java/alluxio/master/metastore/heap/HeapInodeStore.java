@@ -14,6 +14,8 @@ package alluxio.master.metastore.heap;
 import static java.util.stream.Collectors.toList;
 
 import alluxio.collections.TwoKeyConcurrentMap;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.master.file.meta.EdgeEntry;
 import alluxio.master.file.meta.Inode;
 import alluxio.master.file.meta.InodeDirectoryView;
@@ -25,17 +27,30 @@ import alluxio.master.journal.checkpoint.CheckpointType;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.ReadOption;
 import alluxio.proto.meta.InodeMeta;
+import alluxio.util.ThreadFactoryUtils;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.io.ByteStreams;
+import com.google.protobuf.CodedInputStream;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -44,6 +59,9 @@ import javax.annotation.concurrent.ThreadSafe;
  */
 @ThreadSafe
 public class HeapInodeStore implements InodeStore {
+  /** The number of inodes decoded by a single task when restoring from a checkpoint. */
+  private static final int RESTORE_BATCH_SIZE = 1000;
+
   private final Map<Long, MutableInode<?>> mInodes = new ConcurrentHashMap<>();
   // Map from inode id to ids of children of that inode. The inner maps are ordered by child name.
   private final TwoKeyConcurrentMap<Long, String, Long, Map<String, Long>> mEdges =
@@ -141,12 +159,79 @@ public class HeapInodeStore implements InodeStore {
   public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
     Preconditions.checkState(input.getType() == CheckpointType.INODE_PROTOS,
         "Unexpected checkpoint type in heap inode store: " + input.getType());
-    InodeMeta.Inode inodeProto;
-    while ((inodeProto = InodeMeta.Inode.parseDelimitedFrom(input)) != null) {
-      MutableInode<?> inode = MutableInode.fromProto(inodeProto);
-      mInodes.put(inode.getId(), inode);
-      mEdges.addInnerValue(inode.getParentId(), inode.getName(), inode.getId());
+    int parallelism =
+        ServerConfiguration.getInt(PropertyKey.MASTER_JOURNAL_CHECKPOINT_RESTORE_THREADS);
+    if (parallelism <= 1) {
+      InodeMeta.Inode inodeProto;
+      while ((inodeProto = InodeMeta.Inode.parseDelimitedFrom(input)) != null) {
+        addInode(MutableInode.fromProto(inodeProto));
+      }
+      return;
+    }
+    // Batches of inodes are decoded concurrently, but added to the store in checkpoint order.
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+        ThreadFactoryUtils.build("heap-inode-restore-%d", true));
+    Deque<Future<List<MutableInode<?>>>> pending = new ArrayDeque<>();
+    try {
+      List<byte[]> batch;
+      while (!(batch = readBatch(input)).isEmpty()) {
+        List<byte[]> protos = batch;
+        pending.add(executor.submit(() -> decode(protos)));
+        if (pending.size() >= 2 * parallelism) {
+          addInodes(pending.poll());
+        }
+      }
+      while (!pending.isEmpty()) {
+        addInodes(pending.poll());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void addInode(MutableInode<?> inode) {
+    mInodes.put(inode.getId(), inode);
+    mEdges.addInnerValue(inode.getParentId(), inode.getName(), inode.getId());
+  }
+
+  private void addInodes(Future<List<MutableInode<?>>> batch) throws IOException {
+    try {
+      batch.get().forEach(this::addInode);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while restoring inodes", e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), IOException.class);
+      throw new RuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * Reads the serialized bytes of up to {@link #RESTORE_BATCH_SIZE} length-delimited inode
+   * protos, without parsing them.
+   *
+   * @return the inode protos, or an empty list at the end of the checkpoint
+   */
+  private static List<byte[]> readBatch(InputStream input) throws IOException {
+    List<byte[]> batch = new ArrayList<>(RESTORE_BATCH_SIZE);
+    while (batch.size() < RESTORE_BATCH_SIZE) {
+      int firstByte = input.read();
+      if (firstByte == -1) {
+        break;
+      }
+      byte[] proto = new byte[CodedInputStream.readRawVarint32(firstByte, input)];
+      ByteStreams.readFully(input, proto);
+      batch.add(proto);
+    }
+    return batch;
+  }
+
+  private static List<MutableInode<?>> decode(List<byte[]> protos) throws IOException {
+    List<MutableInode<?>> inodes = new ArrayList<>(protos.size());
+    for (byte[] proto : protos) {
+      inodes.add(MutableInode.fromProto(InodeMeta.Inode.parseFrom(proto)));
     }
+    return inodes;
   }
 
   @Override
@@ -11,19 +11,20 @@
 
 package alluxio.master.metastore.rocks;
 
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.master.metastore.BlockStore;
+import alluxio.metrics.MasterMetrics;
 import alluxio.proto.meta.Block.BlockLocation;
 import alluxio.proto.meta.Block.BlockMeta;
 import alluxio.util.io.FileUtils;
 import alluxio.util.io.PathUtils;
 
 import com.google.common.primitives.Longs;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
-import org.rocksdb.ColumnFamilyOptions;
-import org.rocksdb.CompressionType;
-import org.rocksdb.DBOptions;
-import org.rocksdb.HashLinkedListMemTableConfig;
+import org.rocksdb.LRUCache;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -55,6 +56,7 @@ public class RocksBlockStore implements BlockStore {
   // This is a field instead of a constant because it depends on the call to RocksDB.loadLibrary().
   private final WriteOptions mDisableWAL;
 
+  private final Cache mBlockCache;
   private final RocksStore mRocksStore;
   private final AtomicReference<ColumnFamilyHandle> mBlockMetaColumn = new AtomicReference<>();
   private final AtomicReference<ColumnFamilyHandle> mBlockLocationsColumn = new AtomicReference<>();
@@ -67,19 +69,15 @@ public class RocksBlockStore implements BlockStore {
   public RocksBlockStore(String baseDir) {
     RocksDB.loadLibrary();
     mDisableWAL = new WriteOptions().setDisableWAL(true);
-    ColumnFamilyOptions cfOpts = new ColumnFamilyOptions()
-        .setMemTableConfig(new HashLinkedListMemTableConfig())
-        .setCompressionType(CompressionType.NO_COMPRESSION)
-        .useFixedLengthPrefixExtractor(8); // We always search using the initial long key
-    List<ColumnFamilyDescriptor> columns =
-        Arrays.asList(new ColumnFamilyDescriptor(BLOCK_META_COLUMN.getBytes(), cfOpts),
-            new ColumnFamilyDescriptor(BLOCK_LOCATIONS_COLUMN.getBytes(), cfOpts));
-    DBOptions dbOpts = new DBOptions()
-        // Concurrent memtable write is not supported for hash linked list memtable
-        .setAllowConcurrentMemtableWrite(false)
-        .setMaxOpenFiles(-1)
-        .setCreateIfMissing(true)
-        .setCreateMissingColumnFamilies(true);
+    mBlockCache = new LRUCache(
+        ServerConfiguration.getBytes(PropertyKey.MASTER_METASTORE_ROCKS_BLOCK_CACHE_SIZE));
+    List<ColumnFamilyDescriptor> columns = Arrays.asList(
+        new ColumnFamilyDescriptor(BLOCK_META_COLUMN.getBytes(),
+            RocksUtils.createColumnFamilyOptions(mBlockCache,
+                PropertyKey.MASTER_METASTORE_ROCKS_BLOCK_META_COMPRESSION)),
+        new ColumnFamilyDescriptor(BLOCK_LOCATIONS_COLUMN.getBytes(),
+            RocksUtils.createColumnFamilyOptions(mBlockCache,
+                PropertyKey.MASTER_METASTORE_ROCKS_BLOCK_LOCATION_COMPRESSION)));
     String dbPath = PathUtils.concatPath(baseDir, BLOCKS_DB_NAME);
     String backupPath = PathUtils.concatPath(baseDir, BLOCKS_DB_NAME + "-backups");
     // Create block store db path if it does not exist.
@@ -90,8 +88,9 @@ public class RocksBlockStore implements BlockStore {
         LOG.warn("Failed to create nonexistent db path at: {}. Error:{}", dbPath, e);
       }
     }
-    mRocksStore = new RocksStore(dbPath, backupPath, columns, dbOpts,
+    mRocksStore = new RocksStore(dbPath, backupPath, columns, RocksUtils.createDbOptions(),
         Arrays.asList(mBlockMetaColumn, mBlockLocationsColumn));
+    mRocksStore.registerMetrics(MasterMetrics.ROCKS_BLOCK_STORE);
   }
 
   @Override
@@ -139,6 +138,7 @@ public class RocksBlockStore implements BlockStore {
   @Override
   public void close() {
     mRocksStore.close();
+    mBlockCache.close();
   }
 
   @Override
@@ -11,6 +11,8 @@
 
 package alluxio.master.metastore.rocks;
 
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.master.file.meta.EdgeEntry;
 import alluxio.master.file.meta.Inode;
 import alluxio.master.file.meta.InodeDirectoryView;
@@ -20,16 +22,16 @@ import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.journal.checkpoint.CheckpointName;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.ReadOption;
+import alluxio.metrics.MasterMetrics;
 import alluxio.proto.meta.InodeMeta;
+import alluxio.resource.CloseableIterator;
 import alluxio.util.io.PathUtils;
 
 import com.google.common.primitives.Longs;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
-import org.rocksdb.ColumnFamilyOptions;
-import org.rocksdb.CompressionType;
-import org.rocksdb.DBOptions;
-import org.rocksdb.HashLinkedListMemTableConfig;
+import org.rocksdb.LRUCache;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -42,9 +44,14 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -60,11 +67,14 @@ public class RocksInodeStore implements InodeStore {
   private static final String INODES_DB_NAME = "inodes";
   private static final String INODES_COLUMN = "inodes";
   private static final String EDGES_COLUMN = "edges";
+  /** The number of child inodes which are fetched together when iterating over a directory. */
+  private static final int CHILDREN_BATCH_SIZE = 1000;
 
   // These are fields instead of constants because they depend on the call to RocksDB.loadLibrary().
   private final WriteOptions mDisableWAL;
   private final ReadOptions mReadPrefixSameAsStart;
 
+  private final Cache mBlockCache;
   private final RocksStore mRocksStore;
 
   private final AtomicReference<ColumnFamilyHandle> mInodesColumn = new AtomicReference<>();
@@ -81,21 +91,16 @@ public class RocksInodeStore implements InodeStore {
     mReadPrefixSameAsStart = new ReadOptions().setPrefixSameAsStart(true);
     String dbPath = PathUtils.concatPath(baseDir, INODES_DB_NAME);
     String backupPath = PathUtils.concatPath(baseDir, INODES_DB_NAME + "-backup");
-    ColumnFamilyOptions cfOpts = new ColumnFamilyOptions()
-        .setMemTableConfig(new HashLinkedListMemTableConfig())
-        .setCompressionType(CompressionType.NO_COMPRESSION)
-        .useFixedLengthPrefixExtractor(Longs.BYTES); // We always search using the initial long key
+    mBlockCache = new LRUCache(
+        ServerConfiguration.getBytes(PropertyKey.MASTER_METASTORE_ROCKS_BLOCK_CACHE_SIZE));
     List<ColumnFamilyDescriptor> columns = Arrays.asList(
-        new ColumnFamilyDescriptor(INODES_COLUMN.getBytes(), cfOpts),
-        new ColumnFamilyDescriptor(EDGES_COLUMN.getBytes(), cfOpts));
-    DBOptions dbOpts = new DBOptions()
-        // Concurrent memtable write is not supported for hash linked list memtable
-        .setAllowConcurrentMemtableWrite(false)
-        .setMaxOpenFiles(-1)
-        .setCreateIfMissing(true)
-        .setCreateMissingColumnFamilies(true);
-    mRocksStore = new RocksStore(dbPath, backupPath, columns, dbOpts,
+        new ColumnFamilyDescriptor(INODES_COLUMN.getBytes(), RocksUtils.createColumnFamilyOptions(
+            mBlockCache, PropertyKey.MASTER_METASTORE_ROCKS_INODE_COMPRESSION)),
+        new ColumnFamilyDescriptor(EDGES_COLUMN.getBytes(), RocksUtils.createColumnFamilyOptions(
+            mBlockCache, PropertyKey.MASTER_METASTORE_ROCKS_EDGE_COMPRESSION)));
+    mRocksStore = new RocksStore(dbPath, backupPath, columns, RocksUtils.createDbOptions(),
         Arrays.asList(mInodesColumn, mEdgesColumn));
+    mRocksStore.registerMetrics(MasterMetrics.ROCKS_INODE_STORE);
   }
 
   @Override
@@ -178,6 +183,80 @@ public class RocksInodeStore implements InodeStore {
     return ids;
   }
 
+  @Override
+  public Map<Long, Inode> getAll(Collection<Long> ids, ReadOption option) {
+    List<byte[]> keys = new ArrayList<>(ids.size());
+    for (long id : ids) {
+      keys.add(Longs.toByteArray(id));
+    }
+    Map<Long, Inode> inodes = new HashMap<>(ids.size());
+    for (Inode inode : multiGet(keys)) {
+      inodes.put(inode.getId(), inode);
+    }
+    return inodes;
+  }
+
+  /**
+   * Looks several inodes up with a single multiGet.
+   *
+   * @param ids the inode ids, as keys of the inodes column
+   * @return the inodes which exist, in the order of the ids
+   */
+  private List<Inode> multiGet(List<byte[]> ids) {
+    if (ids.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Map<byte[], byte[]> inodes;
+    try {
+      inodes = db().multiGet(Collections.nCopies(ids.size(), mInodesColumn.get()), ids);
+    } catch (RocksDBException e) {
+      throw new RuntimeException(e);
+    }
+    List<Inode> result = new ArrayList<>(ids.size());
+    for (byte[] id : ids) {
+      // The returned map is keyed by the requested key arrays. The inode metadata may have been
+      // removed since its id was read.
+      byte[] inode = inodes.get(id);
+      if (inode == null) {
+        continue;
+      }
+      try {
+        result.add(Inode.wrap(MutableInode.fromProto(InodeMeta.Inode.parseFrom(inode))));
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public CloseableIterator<Long> getChildIdsIterator(Long inodeId, ReadOption option) {
+    RocksIterator iter = db().newIterator(mEdgesColumn.get(), mReadPrefixSameAsStart);
+    iter.seek(Longs.toByteArray(inodeId));
+    return CloseableIterator.create(new Iterator<Long>() {
+      @Override
+      public boolean hasNext() {
+        return iter.isValid();
+      }
+
+      @Override
+      public Long next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        long id = Longs.fromByteArray(iter.value());
+        iter.next();
+        return id;
+      }
+    }, iter::close);
+  }
+
+  @Override
+  public CloseableIterator<? extends Inode> getChildrenIterator(Long inodeId,
+      ReadOption option) {
+    return new RocksChildIterator(inodeId);
+  }
+
   @Override
   public Optional<Long> getChildId(Long inodeId, String name, ReadOption option) {
     byte[] id;
@@ -327,6 +406,7 @@ public class RocksInodeStore implements InodeStore {
   @Override
   public void close() {
     mRocksStore.close();
+    mBlockCache.close();
   }
 
   private RocksDB db() {
@@ -369,6 +449,60 @@ public class RocksInodeStore implements InodeStore {
     return sb.toString();
   }
 
+  /**
+   * Iterates over the children of a directory with a single iterator over the edges column. The
+   * child inodes are fetched from the inodes column in batches with multiGet, so that listing a
+   * large directory neither materializes all of its child ids nor looks up every child separately.
+   */
+  private class RocksChildIterator implements CloseableIterator<Inode> {
+    private final RocksIterator mEdgeIterator;
+    private Iterator<Inode> mBatch = Collections.emptyIterator();
+    /** Whether the edge iterator has been exhausted or closed. */
+    private boolean mClosed = false;
+
+    RocksChildIterator(long inodeId) {
+      mEdgeIterator = db().newIterator(mEdgesColumn.get(), mReadPrefixSameAsStart);
+      mEdgeIterator.seek(Longs.toByteArray(inodeId));
+    }
+
+    @Override
+    public boolean hasNext() {
+      // A batch can be empty if all of its inodes have been concurrently removed.
+      while (!mBatch.hasNext() && !mClosed) {
+        mBatch = nextBatch();
+      }
+      return mBatch.hasNext();
+    }
+
+    @Override
+    public Inode next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return mBatch.next();
+    }
+
+    private Iterator<Inode> nextBatch() {
+      List<byte[]> childIds = new ArrayList<>(CHILDREN_BATCH_SIZE);
+      while (childIds.size() < CHILDREN_BATCH_SIZE && mEdgeIterator.isValid()) {
+        childIds.add(mEdgeIterator.value());
+        mEdgeIterator.next();
+      }
+      if (!mEdgeIterator.isValid()) {
+        close();
+      }
+      return multiGet(childIds).iterator();
+    }
+
+    @Override
+    public void close() {
+      if (!mClosed) {
+        mEdgeIterator.close();
+        mClosed = true;
+      }
+    }
+  }
+
   /**
    * Used to iterate over inodes stored in this store.
    */
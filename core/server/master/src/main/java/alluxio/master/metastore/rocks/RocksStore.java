@@ -15,6 +15,8 @@ import alluxio.Constants;
 import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.journal.checkpoint.CheckpointOutputStream;
 import alluxio.master.journal.checkpoint.CheckpointType;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 import alluxio.util.TarUtils;
 import alluxio.util.io.FileUtils;
 
@@ -25,6 +27,8 @@ import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.DBOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,29 +40,53 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Class for managing a rocksdb database. This class handles common functionality such as
  * initializing the database and performing database backup/restore.
  *
- * Thread safety is achieved by synchronizing all public methods.
+ * Thread safety is achieved by synchronizing all public methods. Writing a checkpoint only holds
+ * the lock while the point-in-time rocksdb checkpoint is created, since archiving the checkpoint
+ * takes a long time for large databases. The operations which replace the database directories
+ * also hold the checkpoint lock, which is always acquired before the store lock, so that they
+ * never run while a checkpoint is being archived.
  */
 @ThreadSafe
 public final class RocksStore implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(RocksStore.class);
 
+  /**
+   * Map from metrics prefix to the store whose metrics are reported under that prefix. The gauges
+   * read the current store, so they keep reporting when a store is replaced by a new one.
+   */
+  private static final Map<String, RocksStore> METRICS_STORES = new ConcurrentHashMap<>();
+
   private final String mDbPath;
   private final String mDbCheckpointPath;
   private final Collection<ColumnFamilyDescriptor> mColumnFamilyDescriptors;
   private final DBOptions mDbOpts;
+  /** The statistics collected by the database options, or null if statistics are disabled. */
+  @Nullable
+  private Statistics mStatistics;
+
+  /**
+   * Serializes writing checkpoints, which share the checkpoint directory, with the operations
+   * which delete the checkpoint directory or replace the database.
+   */
+  private final Object mCheckpointLock = new Object();
 
   private RocksDB mDb;
   private Checkpoint mCheckpoint;
   // When we create the database, we must set these handles.
   private List<AtomicReference<ColumnFamilyHandle>> mColumnHandles;
+  @Nullable
+  private String mMetricsPrefix;
 
   /**
    * @param dbPath a path for the rocks database
@@ -75,6 +103,7 @@ public final class RocksStore implements Closeable {
     mDbCheckpointPath = checkpointPath;
     mColumnFamilyDescriptors = columnFamilyDescriptors;
     mDbOpts = dbOpts;
+    mStatistics = dbOpts.statistics();
     mColumnHandles = columnHandles;
     try {
       resetDb();
@@ -92,13 +121,95 @@ public final class RocksStore implements Closeable {
   }
 
   /**
-   * Clears and re-initializes the database.
+   * Registers gauges which report the memory and disk usage of the database. If the database
+   * options collect statistics, gauges which report the block cache, bloom filter and memtable
+   * hits are registered as well.
+   *
+   * @param prefix the prefix for the metric names
+   */
+  public synchronized void registerMetrics(String prefix) {
+    mMetricsPrefix = prefix;
+    METRICS_STORES.put(prefix, this);
+    registerPropertyGauge(prefix, MasterMetrics.ROCKS_BLOCK_CACHE_USAGE,
+        // The block cache is shared by all column families.
+        "rocksdb.block-cache-usage", false);
+    registerPropertyGauge(prefix, MasterMetrics.ROCKS_ESTIMATED_NUM_KEYS,
+        "rocksdb.estimate-num-keys", true);
+    registerPropertyGauge(prefix, MasterMetrics.ROCKS_LIVE_SST_FILES_SIZE,
+        "rocksdb.live-sst-files-size", true);
+    registerPropertyGauge(prefix, MasterMetrics.ROCKS_MEMTABLE_SIZE,
+        "rocksdb.cur-size-all-mem-tables", true);
+    if (mStatistics != null) {
+      registerTickerGauge(prefix, MasterMetrics.ROCKS_BLOCK_CACHE_HITS,
+          TickerType.BLOCK_CACHE_HIT);
+      registerTickerGauge(prefix, MasterMetrics.ROCKS_BLOCK_CACHE_MISSES,
+          TickerType.BLOCK_CACHE_MISS);
+      registerTickerGauge(prefix, MasterMetrics.ROCKS_BLOOM_FILTER_USEFUL,
+          TickerType.BLOOM_FILTER_USEFUL);
+      registerTickerGauge(prefix, MasterMetrics.ROCKS_MEMTABLE_HITS, TickerType.MEMTABLE_HIT);
+      registerTickerGauge(prefix, MasterMetrics.ROCKS_MEMTABLE_MISSES, TickerType.MEMTABLE_MISS);
+    }
+  }
+
+  private static void registerPropertyGauge(String prefix, String name, String property,
+      boolean sumColumns) {
+    MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMetricName(prefix + name), () -> {
+      RocksStore store = METRICS_STORES.get(prefix);
+      return store == null ? 0 : store.getLongProperty(property, sumColumns);
+    });
+  }
+
+  private static void registerTickerGauge(String prefix, String name, TickerType ticker) {
+    MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMetricName(prefix + name), () -> {
+      RocksStore store = METRICS_STORES.get(prefix);
+      return store == null ? 0 : store.getTickerCount(ticker);
+    });
+  }
+
+  /**
+   * @param ticker the statistics ticker
+   * @return the count of the ticker, or 0 if the store does not collect statistics or is closed
+   */
+  private synchronized long getTickerCount(TickerType ticker) {
+    return mStatistics == null ? 0 : mStatistics.getTickerCount(ticker);
+  }
+
+  /**
+   * @param property the name of a RocksDB property with an integer value
+   * @param sumColumns whether to sum the property over the column families, instead of reading
+   *        it from the first column family
+   * @return the value of the property, or 0 if the database is closed
    */
-  public synchronized void clear() {
+  private synchronized long getLongProperty(String property, boolean sumColumns) {
+    if (mDb == null) {
+      return 0;
+    }
+    long value = 0;
     try {
-      resetDb();
+      for (AtomicReference<ColumnFamilyHandle> column : mColumnHandles) {
+        value += mDb.getLongProperty(column.get(), property);
+        if (!sumColumns) {
+          break;
+        }
+      }
     } catch (RocksDBException e) {
-      throw new RuntimeException(e);
+      LOG.debug("Failed to read rocksdb property {}", property, e);
+    }
+    return value;
+  }
+
+  /**
+   * Clears and re-initializes the database.
+   */
+  public void clear() {
+    synchronized (mCheckpointLock) {
+      synchronized (this) {
+        try {
+          resetDb();
+        } catch (RocksDBException e) {
+          throw new RuntimeException(e);
+        }
+      }
     }
   }
 
@@ -156,24 +267,30 @@ public final class RocksStore implements Closeable {
    *
    * @param output the stream to write to
    */
-  public synchronized void writeToCheckpoint(OutputStream output)
-      throws IOException, InterruptedException {
-    LOG.info("Creating rocksdb checkpoint at {}", mDbCheckpointPath);
-    long startNano = System.nanoTime();
+  public void writeToCheckpoint(OutputStream output) throws IOException, InterruptedException {
+    synchronized (mCheckpointLock) {
+      LOG.info("Creating rocksdb checkpoint at {}", mDbCheckpointPath);
+      long startNano = System.nanoTime();
 
-    CheckpointOutputStream out = new CheckpointOutputStream(output, CheckpointType.ROCKS);
-    try {
-      // createCheckpoint requires that the directory not already exist.
+      CheckpointOutputStream out = new CheckpointOutputStream(output, CheckpointType.ROCKS);
+      synchronized (this) {
+        try {
+          // createCheckpoint requires that the directory not already exist.
+          FileUtils.deletePathRecursively(mDbCheckpointPath);
+          mCheckpoint.createCheckpoint(mDbCheckpointPath);
+        } catch (RocksDBException e) {
+          throw new IOException(e);
+        }
+      }
+      // The checkpoint is an immutable point-in-time view of the database, so it is archived
+      // without blocking the operations on the database.
+      LOG.info("Checkpoint complete, creating tarball");
+      TarUtils.writeTarGz(Paths.get(mDbCheckpointPath), out);
+      LOG.info("Completed rocksdb checkpoint in {}ms",
+          (System.nanoTime() - startNano) / Constants.MS_NANO);
+      // Checkpoint is no longer needed, delete to save space.
       FileUtils.deletePathRecursively(mDbCheckpointPath);
-      mCheckpoint.createCheckpoint(mDbCheckpointPath);
-    } catch (RocksDBException e) {
-      throw new IOException(e);
     }
-    LOG.info("Checkpoint complete, creating tarball");
-    TarUtils.writeTarGz(Paths.get(mDbCheckpointPath), out);
-    LOG.info("Completed rocksdb checkpoint in {}ms", (System.nanoTime() - startNano) / 1_000_000);
-    // Checkpoint is no longer needed, delete to save space.
-    FileUtils.deletePathRecursively(mDbCheckpointPath);
   }
 
   /**
@@ -181,25 +298,36 @@ public final class RocksStore implements Closeable {
    *
    * @param input the checkpoint stream to restore from
    */
-  public synchronized void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
-    LOG.info("Restoring rocksdb from checkpoint");
-    long startNano = System.nanoTime();
-    Preconditions.checkState(input.getType() == CheckpointType.ROCKS,
-        "Unexpected checkpoint type in RocksStore: " + input.getType());
-    stopDb();
-    FileUtils.deletePathRecursively(mDbPath);
-    TarUtils.readTarGz(Paths.get(mDbPath), input);
-    try {
-      createDb();
-    } catch (RocksDBException e) {
-      throw new IOException(e);
+  public void restoreFromCheckpoint(CheckpointInputStream input) throws IOException {
+    synchronized (mCheckpointLock) {
+      synchronized (this) {
+        LOG.info("Restoring rocksdb from checkpoint");
+        long startNano = System.nanoTime();
+        Preconditions.checkState(input.getType() == CheckpointType.ROCKS,
+            "Unexpected checkpoint type in RocksStore: " + input.getType());
+        stopDb();
+        FileUtils.deletePathRecursively(mDbPath);
+        TarUtils.readTarGz(Paths.get(mDbPath), input);
+        try {
+          createDb();
+        } catch (RocksDBException e) {
+          throw new IOException(e);
+        }
+        LOG.info("Restored rocksdb checkpoint in {}ms",
+            (System.nanoTime() - startNano) / Constants.MS_NANO);
+      }
     }
-    LOG.info("Restored rocksdb checkpoint in {}ms",
-        (System.nanoTime() - startNano) / Constants.MS_NANO);
   }
 
   @Override
   public synchronized void close() {
     stopDb();
+    if (mStatistics != null) {
+      mStatistics.close();
+      mStatistics = null;
+    }
+    if (mMetricsPrefix != null) {
+      METRICS_STORES.remove(mMetricsPrefix, this);
+    }
   }
 }
@@ -11,9 +11,20 @@
 
 package alluxio.master.metastore.rocks;
 
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.util.io.PathUtils;
 
 import com.google.common.primitives.Longs;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
+import org.rocksdb.DBOptions;
+import org.rocksdb.HashLinkedListMemTableConfig;
+import org.rocksdb.SkipListMemTableConfig;
+import org.rocksdb.Statistics;
 
 /**
  * Convenience methods for working with RocksDB.
@@ -77,4 +88,66 @@ public final class RocksUtils {
     return Longs.fromBytes(bytes[start], bytes[start + 1], bytes[start + 2], bytes[start + 3],
         bytes[start + 4], bytes[start + 5], bytes[start + 6], bytes[start + 7]);
   }
+
+  /**
+   * Creates the options for a column family of a metastore database, as configured by the
+   * alluxio.master.metastore.rocks.* properties. Keys are always searched by their initial long,
+   * which is used as the prefix for the memtable and the bloom filters.
+   *
+   * @param blockCache the block cache shared by the column families of the database
+   * @param compressionKey the property key for the compression type of the column family
+   * @return the column family options
+   */
+  public static ColumnFamilyOptions createColumnFamilyOptions(Cache blockCache,
+      PropertyKey compressionKey) {
+    BlockBasedTableConfig tableConfig = new BlockBasedTableConfig().setBlockCache(blockCache);
+    int bloomFilterBitsPerKey =
+        ServerConfiguration.getInt(PropertyKey.MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY);
+    if (bloomFilterBitsPerKey > 0) {
+      tableConfig.setFilter(new BloomFilter(bloomFilterBitsPerKey, false));
+    }
+    ColumnFamilyOptions cfOpts = new ColumnFamilyOptions()
+        .setTableFormatConfig(tableConfig)
+        .setCompressionType(ServerConfiguration.getEnum(compressionKey, CompressionType.class))
+        .setWriteBufferSize(
+            ServerConfiguration.getBytes(PropertyKey.MASTER_METASTORE_ROCKS_WRITE_BUFFER_SIZE))
+        .setMaxWriteBufferNumber(
+            ServerConfiguration.getInt(PropertyKey.MASTER_METASTORE_ROCKS_WRITE_BUFFER_NUMBER))
+        .useFixedLengthPrefixExtractor(Longs.BYTES);
+    switch (getMemTableType()) {
+      case HASH_LINKED_LIST:
+        return cfOpts.setMemTableConfig(new HashLinkedListMemTableConfig());
+      case SKIP_LIST:
+        return cfOpts.setMemTableConfig(new SkipListMemTableConfig());
+      default:
+        throw new IllegalStateException("Unknown memtable type: " + getMemTableType());
+    }
+  }
+
+  /**
+   * Creates the options for a metastore database, as configured by the
+   * alluxio.master.metastore.rocks.* properties.
+   *
+   * @return the database options
+   */
+  public static DBOptions createDbOptions() {
+    DBOptions dbOpts = new DBOptions()
+        // Concurrent memtable write is only supported for the skip list memtable
+        .setAllowConcurrentMemtableWrite(getMemTableType() == MemTableType.SKIP_LIST)
+        .setMaxOpenFiles(-1)
+        .setCreateIfMissing(true)
+        .setCreateMissingColumnFamilies(true);
+    if (ServerConfiguration.getBoolean(PropertyKey.MASTER_METASTORE_ROCKS_STATISTICS_ENABLED)) {
+      // The options keep their own reference to the statistics.
+      try (Statistics statistics = new Statistics()) {
+        dbOpts.setStatistics(statistics);
+      }
+    }
+    return dbOpts;
+  }
+
+  private static MemTableType getMemTableType() {
+    return ServerConfiguration.getEnum(PropertyKey.MASTER_METASTORE_ROCKS_MEMTABLE_TYPE,
+        MemTableType.class);
+  }
 }
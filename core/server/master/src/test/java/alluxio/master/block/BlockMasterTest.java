@@ -13,14 +13,25 @@ package alluxio.master.block;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import alluxio.conf.ServerConfiguration;
 import alluxio.Constants;
 import alluxio.conf.PropertyKey;
+import alluxio.exception.status.NotFoundException;
 import alluxio.clock.ManualClock;
 import alluxio.grpc.Command;
+import alluxio.grpc.BlockIdList;
+import alluxio.grpc.BlockStoreLocationProto;
 import alluxio.grpc.CommandType;
+import alluxio.grpc.LocationBlockIdListEntry;
 import alluxio.grpc.RegisterWorkerPOptions;
+import alluxio.grpc.RegisterWorkerPRequest;
+import alluxio.grpc.RegisterWorkerPResponse;
 import alluxio.grpc.StorageList;
 import alluxio.grpc.WorkerLostStorageInfo;
 import alluxio.heartbeat.HeartbeatContext;
@@ -48,6 +59,9 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import io.grpc.stub.StreamObserver;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -55,6 +69,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -62,6 +77,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 /**
  * Unit tests for {@link BlockMaster}.
@@ -247,6 +263,113 @@ public class BlockMasterTest {
     assertEquals(orphanedBlocks, heartBeat.getDataList());
   }
 
+  @Test
+  public void streamingRegisterProcessesChunks() throws Exception {
+    long worker = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    mBlockMaster.workerRegister(worker, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+        ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE,
+        RegisterWorkerPOptions.getDefaultInstance());
+    mBlockMaster.commitBlock(worker, 10L, "MEM", "MEM", 1L, 10L);
+    mBlockMaster.commitBlock(worker, 20L, "MEM", "MEM", 2L, 10L);
+
+    // Re-register through a stream, no longer reporting block 2 and reporting unknown block 3.
+    Map<String, Long> memUsage = ImmutableMap.of("MEM", 20L);
+    mBlockMaster.workerRegisterStart(worker, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+        memUsage, NO_LOST_STORAGE);
+    mBlockMaster.workerRegisterBlocks(worker, ImmutableMap.of(BLOCK_LOCATION, Arrays.asList(1L)));
+    mBlockMaster.workerRegisterBlocks(worker, ImmutableMap.of(BLOCK_LOCATION, Arrays.asList(3L)));
+    mBlockMaster.workerRegisterFinish(worker, RegisterWorkerPOptions.getDefaultInstance());
+
+    assertEquals(1, mBlockMaster.getBlockInfo(1L).getLocations().size());
+    assertEquals(0, mBlockMaster.getBlockInfo(2L).getLocations().size());
+    assertTrue(mBlockMaster.getLostBlocks().contains(2L));
+    assertEquals(1, mBlockMaster.getWorkerCount());
+    // The unknown block is orphaned and removed from the worker.
+    Command heartBeat = mBlockMaster.workerHeartbeat(worker, null, memUsage,
+        NO_BLOCKS, NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE, mMetrics);
+    assertEquals(ImmutableList.of(3L), heartBeat.getDataList());
+  }
+
+  @Test
+  public void streamingRegisterAborted() throws Exception {
+    long worker1 = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    mBlockMaster.workerRegister(worker1, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+        ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_LOCATION, NO_LOST_STORAGE,
+        RegisterWorkerPOptions.getDefaultInstance());
+    mBlockMaster.commitBlock(worker1, 10L, "MEM", "MEM", 1L, 10L);
+
+    // The stream of a new worker fails after reporting a chunk.
+    long worker2 = mBlockMaster.getWorkerId(NET_ADDRESS_2);
+    Semaphore permits = new Semaphore(1);
+    StreamObserver<RegisterWorkerPResponse> responseObserver = mock(StreamObserver.class);
+    RegisterWorkerStreamObserver observer =
+        new RegisterWorkerStreamObserver(mBlockMaster, permits, responseObserver);
+    observer.onNext(RegisterWorkerPRequest.newBuilder().setWorkerId(worker2)
+        .addStorageTiers("MEM").putTotalBytesOnTiers("MEM", 100L)
+        .putUsedBytesOnTiers("MEM", 10L)
+        .addCurrentBlocks(LocationBlockIdListEntry.newBuilder()
+            .setKey(BlockStoreLocationProto.newBuilder().setTierAlias("MEM").setMediumType("MEM"))
+            .setValue(BlockIdList.newBuilder().addBlockId(1L)))
+        .setOptions(RegisterWorkerPOptions.getDefaultInstance()).build());
+    assertEquals(2, mBlockMaster.getBlockInfo(1L).getLocations().size());
+    observer.onError(Status.CANCELLED.asException());
+
+    // The block is only located on the registered worker, and the registration is over.
+    assertEquals(1, permits.availablePermits());
+    assertEquals(1, mBlockMaster.getWorkerCount());
+    assertEquals(worker1,
+        Iterables.getOnlyElement(mBlockMaster.getBlockInfo(1L).getLocations()).getWorkerId());
+    mThrown.expect(NotFoundException.class);
+    mBlockMaster.workerRegisterFinish(worker2, RegisterWorkerPOptions.getDefaultInstance());
+  }
+
+  @Test
+  public void streamingRegisterFinishWithoutStart() throws Exception {
+    long worker = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    mThrown.expect(NotFoundException.class);
+    mBlockMaster.workerRegisterFinish(worker, RegisterWorkerPOptions.getDefaultInstance());
+  }
+
+  @Test
+  public void streamingRegisterObserver() throws Exception {
+    long worker = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    RegisterWorkerPRequest first = RegisterWorkerPRequest.newBuilder().setWorkerId(worker)
+        .addStorageTiers("MEM").putTotalBytesOnTiers("MEM", 100L)
+        .putUsedBytesOnTiers("MEM", 0L)
+        .setOptions(RegisterWorkerPOptions.getDefaultInstance()).build();
+    RegisterWorkerPRequest chunk = RegisterWorkerPRequest.newBuilder().setWorkerId(worker)
+        .addCurrentBlocks(LocationBlockIdListEntry.newBuilder()
+            .setKey(BlockStoreLocationProto.newBuilder().setTierAlias("MEM").setMediumType("MEM"))
+            .setValue(BlockIdList.newBuilder().addBlockId(1L))).build();
+
+    // A registration beyond the concurrency limit is rejected.
+    Semaphore permits = new Semaphore(0);
+    StreamObserver<RegisterWorkerPResponse> rejected = mock(StreamObserver.class);
+    RegisterWorkerStreamObserver observer =
+        new RegisterWorkerStreamObserver(mBlockMaster, permits, rejected);
+    observer.onNext(first);
+    ArgumentCaptor<Throwable> error = ArgumentCaptor.forClass(Throwable.class);
+    verify(rejected).onError(error.capture());
+    assertEquals(Status.Code.RESOURCE_EXHAUSTED,
+        ((StatusException) error.getValue()).getStatus().getCode());
+    assertEquals(0, mBlockMaster.getWorkerCount());
+
+    // Each chunk is acknowledged, and the permit is released once the registration completes.
+    permits.release();
+    StreamObserver<RegisterWorkerPResponse> accepted = mock(StreamObserver.class);
+    observer = new RegisterWorkerStreamObserver(mBlockMaster, permits, accepted);
+    observer.onNext(first);
+    observer.onNext(chunk);
+    assertEquals(0, permits.availablePermits());
+    observer.onCompleted();
+    verify(accepted, times(2))
+        .onNext(RegisterWorkerPResponse.getDefaultInstance());
+    verify(accepted).onCompleted();
+    verify(accepted, never()).onError(any());
+    assertEquals(1, permits.availablePermits());
+    assertEquals(1, mBlockMaster.getWorkerCount());
+  }
+
   @Test
   public void workerHeartbeatUpdatesMemoryCount() throws Exception {
     // Create a worker.
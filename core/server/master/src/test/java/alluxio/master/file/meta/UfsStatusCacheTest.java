@@ -0,0 +1,143 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.AlluxioURI;
+import alluxio.ConfigurationTestUtils;
+import alluxio.grpc.MountPOptions;
+import alluxio.master.file.contexts.MountContext;
+import alluxio.master.file.meta.options.MountInfo;
+import alluxio.master.journal.NoopJournalContext;
+import alluxio.underfs.MasterUfsManager;
+import alluxio.underfs.UfsManager;
+import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UnderFileSystemConfiguration;
+import alluxio.util.IdUtils;
+
+import com.google.common.io.Files;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for {@link UfsStatusCache}.
+ */
+public class UfsStatusCacheTest {
+  private String mLocalUfsPath;
+  private MountTable mMountTable;
+  private ExecutorService mExecutor;
+
+  /**
+   * Mounts a local directory at /mnt before a test runs.
+   */
+  @Before
+  public void before() throws Exception {
+    mLocalUfsPath = Files.createTempDir().getAbsolutePath();
+    UfsManager ufsManager = new MasterUfsManager();
+    mMountTable = new MountTable(ufsManager, new MountInfo(new AlluxioURI("/"),
+        new AlluxioURI("/ufs"), 1, MountContext.defaults().getOptions().build()));
+    long mountId = IdUtils.getRandomNonNegativeLong();
+    MountPOptions options = MountContext.defaults().getOptions().build();
+    ufsManager.addMount(mountId, new AlluxioURI(mLocalUfsPath),
+        UnderFileSystemConfiguration.defaults(ConfigurationTestUtils.defaults())
+            .setReadOnly(options.getReadOnly()).setShared(options.getShared())
+            .createMountSpecificConf(Collections.<String, String>emptyMap()));
+    mMountTable.add(NoopJournalContext.INSTANCE, new AlluxioURI("/mnt"),
+        new AlluxioURI(mLocalUfsPath), mountId, options);
+    mExecutor = Executors.newFixedThreadPool(2);
+  }
+
+  /**
+   * Shuts down the prefetch executor.
+   */
+  @After
+  public void after() {
+    mExecutor.shutdownNow();
+  }
+
+  @Test
+  public void fetchChildren() throws Exception {
+    createUfsFiles("/a/f1", "/a/f2", "/a/d/f3");
+    UfsStatusCache cache = new UfsStatusCache(mMountTable, null);
+
+    List<UfsStatus> children = cache.fetchChildrenIfAbsent(new AlluxioURI("/mnt/a"));
+    Assert.assertEquals(3, children.size());
+    Assert.assertTrue(cache.getStatus(new AlluxioURI("/mnt/a/f1")).isFile());
+    Assert.assertTrue(cache.getStatus(new AlluxioURI("/mnt/a/d")).isDirectory());
+    Assert.assertNull(cache.getStatus(new AlluxioURI("/mnt/a/d/f3")));
+
+    // A second fetch is served from the cache, even if the UFS changed.
+    createUfsFiles("/a/f4");
+    Assert.assertSame(children, cache.fetchChildrenIfAbsent(new AlluxioURI("/mnt/a")));
+  }
+
+  @Test
+  public void fetchChildrenOfMissingDirectory() throws Exception {
+    UfsStatusCache cache = new UfsStatusCache(mMountTable, mExecutor);
+    cache.prefetchChildren(new AlluxioURI("/mnt/missing"));
+    Assert.assertNull(cache.fetchChildrenIfAbsent(new AlluxioURI("/mnt/missing")));
+  }
+
+  @Test
+  public void prefetchChildren() throws Exception {
+    createUfsFiles("/a/f1", "/a/f2", "/b/f3");
+    UfsStatusCache cache = new UfsStatusCache(mMountTable, mExecutor);
+    cache.prefetchChildren(new AlluxioURI("/mnt/a"));
+    cache.prefetchChildren(new AlluxioURI("/mnt/b"));
+
+    Assert.assertEquals(Collections.singletonList("f3"),
+        names(cache.fetchChildrenIfAbsent(new AlluxioURI("/mnt/b"))));
+    Assert.assertTrue(cache.getStatus(new AlluxioURI("/mnt/b/f3")).isFile());
+    // The status of a child can be looked up from the prefetched listing of its parent.
+    Assert.assertTrue(cache.fetchStatusIfAbsent(new AlluxioURI("/mnt/a/f2")).isFile());
+    Assert.assertEquals(2, cache.fetchChildrenIfAbsent(new AlluxioURI("/mnt/a")).size());
+  }
+
+  @Test
+  public void fetchStatusWithoutPrefetch() throws Exception {
+    createUfsFiles("/a/f1");
+    UfsStatusCache cache = new UfsStatusCache(mMountTable, mExecutor);
+    // Without a listing of the parent in flight, the status is not fetched.
+    Assert.assertNull(cache.fetchStatusIfAbsent(new AlluxioURI("/mnt/a/f1")));
+  }
+
+  @Test
+  public void cancelAllPrefetch() throws Exception {
+    createUfsFiles("/a/f1");
+    UfsStatusCache cache = new UfsStatusCache(mMountTable, mExecutor);
+    cache.prefetchChildren(new AlluxioURI("/mnt/a"));
+    cache.cancelAllPrefetch();
+    Assert.assertNull(cache.fetchStatusIfAbsent(new AlluxioURI("/mnt/a/f1")));
+    // The listing is still available by listing the UFS again.
+    Assert.assertEquals(1, cache.fetchChildrenIfAbsent(new AlluxioURI("/mnt/a")).size());
+  }
+
+  private void createUfsFiles(String... paths) throws Exception {
+    for (String path : paths) {
+      File file = new File(mLocalUfsPath + path);
+      file.getParentFile().mkdirs();
+      Assert.assertTrue(file.createNewFile());
+    }
+  }
+
+  private static List<String> names(List<UfsStatus> statuses) {
+    return statuses.stream().map(UfsStatus::getName).collect(Collectors.toList());
+  }
+}
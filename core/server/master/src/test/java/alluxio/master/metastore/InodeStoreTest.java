@@ -30,10 +30,12 @@ import alluxio.master.file.meta.InodeView;
 import alluxio.master.file.meta.MutableInode;
 import alluxio.master.file.meta.MutableInodeDirectory;
 import alluxio.master.file.meta.MutableInodeFile;
+import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.metastore.InodeStore.WriteBatch;
 import alluxio.master.metastore.caching.CachingInodeStore;
 import alluxio.master.metastore.heap.HeapInodeStore;
 import alluxio.master.metastore.rocks.RocksInodeStore;
+import alluxio.resource.CloseableIterator;
 import alluxio.resource.LockResource;
 
 import com.google.common.collect.Iterables;
@@ -44,10 +46,14 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 @RunWith(Parameterized.class)
@@ -172,6 +178,49 @@ public class InodeStoreTest {
     assertEquals(9, Iterables.size(mStore.getChildren(mRoot)));
   }
 
+  @Test
+  public void getChildrenIterator() {
+    writeInode(mRoot);
+    // Enough children to span several batches of the streaming iterators.
+    int numChildren = 2500;
+    List<MutableInodeFile> files = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+    for (int i = 1; i <= numChildren; i++) {
+      MutableInodeFile file = inodeFile(i, 0, "file" + i);
+      writeInode(file);
+      writeEdge(mRoot, file);
+      files.add(file);
+      names.add(file.getName());
+    }
+    // Remove some inodes without their edges, which the iterator should skip.
+    for (int i = 0; i < numChildren; i += 100) {
+      removeInode(files.get(i));
+      names.remove(files.get(i).getName());
+    }
+    Set<String> listed = new HashSet<>();
+    try (CloseableIterator<? extends Inode> it = mStore.getChildrenIterator(mRoot)) {
+      while (it.hasNext()) {
+        assertTrue(listed.add(it.next().getName()));
+      }
+    }
+    assertEquals(names, listed);
+  }
+
+  @Test
+  public void closeChildrenIteratorEarly() {
+    writeInode(mRoot);
+    for (int i = 1; i < 10; i++) {
+      MutableInodeFile file = inodeFile(i, 0, "file" + i);
+      writeInode(file);
+      writeEdge(mRoot, file);
+    }
+    try (CloseableIterator<? extends Inode> it = mStore.getChildrenIterator(mRoot)) {
+      assertTrue(it.hasNext());
+      it.next();
+    }
+    assertEquals(9, Iterables.size(mStore.getChildren(mRoot)));
+  }
+
   @Test
   public void repeatedAddRemoveAndList() {
     MutableInodeFile child = inodeFile(1, 0, "child");
@@ -243,6 +292,30 @@ public class InodeStoreTest {
         Iterables.size(mStore.getChildren(mStore.get(middleDir - 1).get().asDirectory())));
   }
 
+  @Test
+  public void checkpointAndRestore() throws Exception {
+    // Enough inodes for several restore batches.
+    int numChildren = 2500;
+    writeInode(mRoot);
+    for (int i = 1; i <= numChildren; i++) {
+      MutableInodeFile child = inodeFile(i, 0, "child" + i);
+      writeInode(child);
+      writeEdge(mRoot, child);
+    }
+    ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+    mStore.writeToCheckpoint(checkpoint);
+    mStore.clear();
+    assertFalse(mStore.get(0).isPresent());
+    mStore.restoreFromCheckpoint(
+        new CheckpointInputStream(new ByteArrayInputStream(checkpoint.toByteArray())));
+    assertEquals(numChildren, Iterables.size(mStore.getChildren(0L)));
+    for (int i = 1; i <= numChildren; i++) {
+      Optional<Long> childId = mStore.getChildId(0L, "child" + i);
+      assertTrue(childId.isPresent());
+      assertEquals("child" + i, mStore.get(childId.get()).get().getName());
+    }
+  }
+
   private void writeInode(MutableInode<?> inode) {
     try (LockResource lr = mLockManager.lockInode(inode, LockMode.WRITE)) {
       mStore.writeInode(inode);
@@ -0,0 +1,130 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.caching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CacheTest {
+  private static final int MAX_SIZE = 100;
+  private static final int HIGH_WATER_MARK = 90;
+  private static final int LOW_WATER_MARK = 80;
+
+  private TestCache mCache;
+
+  @After
+  public void after() {
+    if (mCache != null) {
+      mCache.close();
+    }
+  }
+
+  @Test
+  public void tinyLfuKeepsFrequentEntriesDuringScan() throws Exception {
+    mCache = new TestCache(CachePolicy.TINY_LFU);
+    int numHot = 50;
+    for (long key = 0; key < 1000; key++) {
+      mCache.mBackingStore.put(key, key);
+    }
+    for (int i = 0; i < 10; i++) {
+      for (long key = 0; key < numHot; key++) {
+        assertEquals(Optional.of(key), mCache.get(key));
+      }
+    }
+    for (long key = numHot; key < 1000; key++) {
+      assertEquals(Optional.of(key), mCache.get(key));
+      waitForEviction();
+    }
+    for (long key = 0; key < numHot; key++) {
+      assertTrue("Expected frequently accessed key " + key + " to stay cached",
+          mCache.isCached(key));
+    }
+  }
+
+  @Test
+  public void tinyLfuFlushesEvictedEntries() throws Exception {
+    mCache = new TestCache(CachePolicy.TINY_LFU);
+    for (long key = 0; key < 1000; key++) {
+      mCache.put(key, key);
+      if (key % 2 == 0) {
+        mCache.remove(key);
+      }
+      waitForEviction();
+    }
+    assertTrue(mCache.mMap.size() < MAX_SIZE);
+    mCache.flush();
+    for (long key = 0; key < 1000; key++) {
+      if (key % 2 == 0) {
+        assertFalse(mCache.get(key).isPresent());
+        assertFalse(mCache.mBackingStore.containsKey(key));
+      } else {
+        assertEquals(Optional.of(key), mCache.get(key));
+        assertEquals(Long.valueOf(key), mCache.mBackingStore.get(key));
+      }
+    }
+  }
+
+  private void waitForEviction() throws Exception {
+    CommonUtils.waitFor("eviction to finish",
+        () -> mCache.mEvictionThread.mIsSleeping && mCache.mMap.size() < HIGH_WATER_MARK,
+        WaitForOptions.defaults().setTimeoutMs(10000));
+  }
+
+  private static final class TestCache extends Cache<Long, Long> {
+    private final Map<Long, Long> mBackingStore = new ConcurrentHashMap<>();
+
+    TestCache(CachePolicy policy) {
+      super(CacheConfiguration.newBuilder().setMaxSize(MAX_SIZE).setHighWaterMark(HIGH_WATER_MARK)
+          .setLowWaterMark(LOW_WATER_MARK).setEvictBatchSize(10).setPolicy(policy)
+          .setWindowRatio(0.1f).build(), "test-cache");
+    }
+
+    @Override
+    protected Optional<Long> load(Long key) {
+      return Optional.ofNullable(mBackingStore.get(key));
+    }
+
+    @Override
+    protected void writeToBackingStore(Long key, Long value) {
+      mBackingStore.put(key, value);
+    }
+
+    @Override
+    protected void removeFromBackingStore(Long key) {
+      mBackingStore.remove(key);
+    }
+
+    @Override
+    protected void flushEntries(List<Entry> candidates) {
+      for (Entry entry : candidates) {
+        if (entry.mValue == null) {
+          mBackingStore.remove(entry.mKey);
+        } else {
+          mBackingStore.put(entry.mKey, entry.mValue);
+        }
+        entry.mDirty = false;
+      }
+    }
+  }
+}
@@ -35,6 +35,7 @@ import alluxio.master.journal.checkpoint.CheckpointInputStream;
 import alluxio.master.metastore.InodeStore;
 import alluxio.master.metastore.ReadOption;
 import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.resource.CloseableIterator;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
@@ -47,8 +48,12 @@ import org.mockito.Mockito;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -299,6 +304,62 @@ public class CachingInodeStoreMockedBackingStoreTest {
     assertEquals(CACHE_SIZE / 2, Iterables.size(mBackingStore.getChildren(0L)));
   }
 
+  @Test
+  public void childrenIteratorWithUnflushedChildInode() throws Exception {
+    MutableInodeDirectory dir = createInodeDir(10, 0);
+    mStore.addChild(0, dir);
+    // Only the edge reaches the backing store, the child inode stays in the inode cache.
+    mStore.mEdgeCache.flush();
+    mStore.mEdgeCache.clear();
+    mStore.mListingCache.clear();
+    assertFalse(mBackingStore.get(dir.getId()).isPresent());
+    try (CloseableIterator<? extends Inode> it = mStore.getChildrenIterator(0L,
+        ReadOption.defaults())) {
+      assertTrue(it.hasNext());
+      assertEquals(dir.getId(), it.next().getId());
+      assertFalse(it.hasNext());
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void childrenIteratorOfUncachedDirectory() throws Exception {
+    Map<Long, Inode> children = new HashMap<>();
+    for (long id = 10; id < 20; id++) {
+      MutableInodeDirectory dir = createInodeDir(id, 0);
+      mStore.addChild(0, dir);
+      children.put(id, Inode.wrap(dir));
+    }
+    mStore.mInodeCache.flush();
+    mStore.mEdgeCache.flush();
+    mStore.mInodeCache.clear();
+    mStore.mEdgeCache.clear();
+    mStore.mListingCache.clear();
+    Mockito.reset(mBackingStore);
+    // Answers the batched lookups without going through the per-inode lookups of the backing
+    // store, so that any per-inode lookup comes from the caching store.
+    Mockito.doAnswer(invocation -> {
+      Map<Long, Inode> inodes = new HashMap<>();
+      for (Long id : (Collection<Long>) invocation.getArguments()[0]) {
+        inodes.put(id, children.get(id));
+      }
+      return inodes;
+    }).when(mBackingStore).getAll(any(), any());
+
+    List<Long> listed = new ArrayList<>();
+    try (CloseableIterator<? extends Inode> it = mStore.getChildrenIterator(0L,
+        ReadOption.defaults())) {
+      it.forEachRemaining(inode -> listed.add(inode.getId()));
+    }
+    assertEquals(children.size(), listed.size());
+    assertEquals(children.keySet(), new HashSet<>(listed));
+    verify(mBackingStore, times(1)).getAll(any(), any());
+    verify(mBackingStore, Mockito.never()).get(anyLong(), any(ReadOption.class));
+    verify(mBackingStore, Mockito.never()).getMutable(anyLong(), any(ReadOption.class));
+    // Listing the directory does not fill the inode cache.
+    assertEquals(0, mStore.mInodeCache.getCacheMap().size());
+  }
+
   private MutableInodeDirectory createInodeDir(long id, long parentId) {
     MutableInodeDirectory dir = MutableInodeDirectory.create(id, parentId, Long.toString(id),
         CreateDirectoryContext.defaults());
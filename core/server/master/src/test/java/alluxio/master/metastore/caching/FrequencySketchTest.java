@@ -0,0 +1,73 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.caching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class FrequencySketchTest {
+  @Test
+  public void increment() {
+    FrequencySketch<Long> sketch = new FrequencySketch<>(1000);
+    assertEquals(0, sketch.frequency(1L));
+    for (int i = 1; i <= 10; i++) {
+      sketch.increment(1L);
+      assertEquals(i, sketch.frequency(1L));
+    }
+  }
+
+  @Test
+  public void saturate() {
+    FrequencySketch<Long> sketch = new FrequencySketch<>(1000);
+    for (int i = 0; i < 100; i++) {
+      sketch.increment(1L);
+    }
+    assertEquals(15, sketch.frequency(1L));
+  }
+
+  @Test
+  public void reset() {
+    int maxSize = 100;
+    FrequencySketch<Long> sketch = new FrequencySketch<>(maxSize);
+    for (int i = 0; i < 8; i++) {
+      sketch.increment(-1L);
+    }
+    // Recording ten times the maximum size halves the counters.
+    for (long key = 0; key < 10 * maxSize; key++) {
+      sketch.increment(key);
+    }
+    int frequency = sketch.frequency(-1L);
+    assertTrue("Expected the frequency to be halved, but it was " + frequency,
+        frequency >= 4 && frequency < 8);
+  }
+
+  @Test
+  public void distinguishesKeys() {
+    FrequencySketch<Long> sketch = new FrequencySketch<>(1000);
+    for (long key = 0; key < 500; key++) {
+      for (int i = 0; i < key % 4; i++) {
+        sketch.increment(key);
+      }
+    }
+    int overestimates = 0;
+    for (long key = 0; key < 500; key++) {
+      int frequency = sketch.frequency(key);
+      assertTrue(frequency >= key % 4);
+      if (frequency > key % 4) {
+        overestimates++;
+      }
+    }
+    assertTrue("Too many overestimates: " + overestimates, overestimates < 25);
+  }
+}
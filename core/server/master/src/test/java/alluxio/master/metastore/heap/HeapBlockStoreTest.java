@@ -0,0 +1,106 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.heap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.Constants;
+import alluxio.master.metastore.BlockStore.Block;
+import alluxio.proto.meta.Block.BlockLocation;
+import alluxio.proto.meta.Block.BlockMeta;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link HeapBlockStore}.
+ */
+public final class HeapBlockStoreTest {
+  private final HeapBlockStore mStore = new HeapBlockStore();
+
+  @Test
+  public void putGetRemove() {
+    assertFalse(mStore.getBlock(1L).isPresent());
+    mStore.putBlock(1L, BlockMeta.newBuilder().setLength(10).build());
+    mStore.putBlock(2L, BlockMeta.newBuilder().setLength(0).build());
+    assertEquals(10, mStore.getBlock(1L).get().getLength());
+    assertEquals(0, mStore.getBlock(2L).get().getLength());
+
+    mStore.putBlock(1L, BlockMeta.newBuilder().setLength(20).build());
+    assertEquals(20, mStore.getBlock(1L).get().getLength());
+    mStore.removeBlock(1L);
+    assertFalse(mStore.getBlock(1L).isPresent());
+    assertTrue(mStore.getBlock(2L).isPresent());
+  }
+
+  @Test
+  public void unknownLength() {
+    mStore.putBlock(1L, BlockMeta.newBuilder().setLength(Constants.UNKNOWN_SIZE).build());
+    assertEquals(Constants.UNKNOWN_SIZE, mStore.getBlock(1L).get().getLength());
+    Block block = mStore.iterator().next();
+    assertEquals(1, block.getId());
+    assertEquals(Constants.UNKNOWN_SIZE, block.getMeta().getLength());
+  }
+
+  @Test
+  public void iterate() {
+    Map<Long, Long> expected = new HashMap<>();
+    for (long containerId = 0; containerId < 100; containerId++) {
+      for (long sequence = 0; sequence < 10; sequence++) {
+        long blockId = (containerId << 24) + sequence;
+        expected.put(blockId, blockId * 3);
+        mStore.putBlock(blockId, BlockMeta.newBuilder().setLength(blockId * 3).build());
+      }
+    }
+    Map<Long, Long> actual = new HashMap<>();
+    Iterator<Block> it = mStore.iterator();
+    while (it.hasNext()) {
+      Block block = it.next();
+      actual.put(block.getId(), block.getMeta().getLength());
+    }
+    assertEquals(expected, actual);
+
+    mStore.clear();
+    assertFalse(mStore.iterator().hasNext());
+  }
+
+  @Test
+  public void locations() {
+    assertTrue(mStore.getLocations(1L).isEmpty());
+    mStore.addLocation(1L, location(1L, "MEM"));
+    mStore.addLocation(1L, location(2L, "SSD"));
+    mStore.addLocation(2L, location(1L, "MEM"));
+    assertEquals(2, mStore.getLocations(1L).size());
+    // Equal locations of different blocks are stored once.
+    assertSame(mStore.getLocations(1L).stream().filter(l -> l.getWorkerId() == 1L)
+        .findFirst().get(), mStore.getLocations(2L).get(0));
+
+    mStore.addLocation(1L, location(2L, "HDD"));
+    assertEquals(2, mStore.getLocations(1L).size());
+    mStore.removeLocation(1L, 1L);
+    assertEquals(1, mStore.getLocations(1L).size());
+    assertEquals("HDD", mStore.getLocations(1L).get(0).getTier());
+    mStore.removeLocation(1L, 2L);
+    assertTrue(mStore.getLocations(1L).isEmpty());
+  }
+
+  private static BlockLocation location(long workerId, String tier) {
+    return BlockLocation.newBuilder().setWorkerId(workerId).setTier(tier).setMediumType(tier)
+        .build();
+  }
+}
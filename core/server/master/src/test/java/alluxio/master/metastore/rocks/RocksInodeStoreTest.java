@@ -14,15 +14,24 @@ package alluxio.master.metastore.rocks;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import alluxio.ConfigurationRule;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.master.file.contexts.CreateDirectoryContext;
 import alluxio.master.file.meta.MutableInodeDirectory;
 import alluxio.master.metastore.InodeStore.WriteBatch;
+import alluxio.metrics.MasterMetrics;
+import alluxio.metrics.MetricsSystem;
 
+import com.codahale.metrics.Gauge;
+import com.google.common.collect.ImmutableMap;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.Closeable;
 import java.io.IOException;
 
 public class RocksInodeStoreTest {
@@ -52,4 +61,60 @@ public class RocksInodeStoreTest {
     assertEquals("dir", store.get(1).get().getName());
     assertThat(store.toStringEntries(), containsString("name=dir"));
   }
+
+  @Test
+  public void tunedOptions() throws IOException {
+    try (Closeable c = new ConfigurationRule(ImmutableMap.of(
+        PropertyKey.MASTER_METASTORE_ROCKS_MEMTABLE_TYPE, "SKIP_LIST",
+        PropertyKey.MASTER_METASTORE_ROCKS_INODE_COMPRESSION, "LZ4_COMPRESSION",
+        PropertyKey.MASTER_METASTORE_ROCKS_BLOOM_FILTER_BITS_PER_KEY, "0",
+        PropertyKey.MASTER_METASTORE_ROCKS_STATISTICS_ENABLED, "true"),
+        ServerConfiguration.global()).toResource()) {
+      MetricsSystem.resetCountersAndGauges();
+      RocksInodeStore store = new RocksInodeStore(mFolder.newFolder().getAbsolutePath());
+      for (int i = 1; i < 20; i++) {
+        store.writeInode(
+            MutableInodeDirectory.create(i, 0, "dir" + i, CreateDirectoryContext.defaults()));
+      }
+      for (int i = 1; i < 20; i++) {
+        assertEquals("dir" + i, store.get(i).get().getName());
+      }
+      Gauge<?> memTableHits = MetricsSystem.METRIC_REGISTRY.getGauges().get(
+          MetricsSystem.getMetricName(
+              MasterMetrics.ROCKS_INODE_STORE + MasterMetrics.ROCKS_MEMTABLE_HITS));
+      assertTrue((Long) memTableHits.getValue() >= 19);
+      store.close();
+    }
+  }
+
+  @Test
+  public void metricsReportReplacementStore() throws IOException {
+    try (Closeable c = new ConfigurationRule(
+        PropertyKey.MASTER_METASTORE_ROCKS_STATISTICS_ENABLED, "true",
+        ServerConfiguration.global()).toResource()) {
+      MetricsSystem.resetCountersAndGauges();
+      RocksInodeStore store = new RocksInodeStore(mFolder.newFolder().getAbsolutePath());
+      store.writeInode(
+          MutableInodeDirectory.create(1, 0, "dir", CreateDirectoryContext.defaults()));
+      assertEquals("dir", store.get(1).get().getName());
+      Gauge<?> memTableHits = MetricsSystem.METRIC_REGISTRY.getGauges().get(
+          MetricsSystem.getMetricName(
+              MasterMetrics.ROCKS_INODE_STORE + MasterMetrics.ROCKS_MEMTABLE_HITS));
+      assertTrue((Long) memTableHits.getValue() >= 1);
+      store.close();
+      assertEquals(0L, memTableHits.getValue());
+
+      // The gauges registered by the first store report the store which replaced it.
+      store = new RocksInodeStore(mFolder.newFolder().getAbsolutePath());
+      for (int i = 1; i < 20; i++) {
+        store.writeInode(
+            MutableInodeDirectory.create(i, 0, "dir" + i, CreateDirectoryContext.defaults()));
+      }
+      for (int i = 1; i < 20; i++) {
+        assertEquals("dir" + i, store.get(i).get().getName());
+      }
+      assertTrue((Long) memTableHits.getValue() >= 19);
+      store.close();
+    }
+  }
 }
@@ -0,0 +1,142 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.proxy.s3;
+
+import alluxio.AlluxioURI;
+import alluxio.Constants;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.URIStatus;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.FileDoesNotExistException;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Iterates over the objects of a bucket in the order of their paths, listing the directories of
+ * the bucket only when the iteration reaches them.
+ *
+ * Files are objects, and so are empty directories. The directories holding the parts of multipart
+ * uploads are skipped. The directories which only contain objects before the continuation token,
+ * or no object starting with the prefix, are not listed at all. A listing which stops after a page
+ * of keys thus only lists the directories leading to that page.
+ *
+ * The iteration keeps the statuses it has listed but not returned yet in a heap ordered by path.
+ * The path of a directory is smaller than the paths of all its descendants, so a directory is
+ * always listed before any of its descendants must be returned.
+ */
+@NotThreadSafe
+public final class BucketObjectIterator implements Iterator<URIStatus> {
+  private static final Comparator<URIStatus> PATH_COMPARATOR =
+      Comparator.comparing(URIStatus::getPath);
+
+  private final FileSystem mFileSystem;
+  /** The bucket path followed by a separator, which is removed from paths to get object keys. */
+  private final String mBucketPrefix;
+  private final String mContinuationToken;
+  private final String mPrefix;
+  private final PriorityQueue<URIStatus> mQueue = new PriorityQueue<>(PATH_COMPARATOR);
+  private URIStatus mNext;
+
+  /**
+   * Creates a new instance of {@link BucketObjectIterator}. The directory where the listing
+   * starts is listed right away.
+   *
+   * @param fileSystem the file system
+   * @param bucketPath the path of the bucket
+   * @param options the list bucket options
+   */
+  public BucketObjectIterator(FileSystem fileSystem, String bucketPath, ListBucketOptions options)
+      throws IOException, AlluxioException {
+    mFileSystem = fileSystem;
+    mBucketPrefix = bucketPath + AlluxioURI.SEPARATOR;
+    mContinuationToken = options.getContinuationToken();
+    mPrefix = options.getPrefix();
+    AlluxioURI startUri;
+    if (mPrefix != null && mPrefix.contains(AlluxioURI.SEPARATOR)) {
+      startUri = new AlluxioURI(mBucketPrefix
+          + mPrefix.substring(0, mPrefix.lastIndexOf(AlluxioURI.SEPARATOR)));
+    } else {
+      startUri = new AlluxioURI(bucketPath);
+    }
+    mQueue.addAll(mFileSystem.listStatus(startUri));
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (mNext == null) {
+      mNext = advance();
+    }
+    return mNext != null;
+  }
+
+  @Override
+  public URIStatus next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    URIStatus next = mNext;
+    mNext = null;
+    return next;
+  }
+
+  @Nullable
+  private URIStatus advance() {
+    while (!mQueue.isEmpty()) {
+      URIStatus status = mQueue.poll();
+      if (!status.isFolder()) {
+        // Alluxio file is an object.
+        return status;
+      }
+      if (status.getName().endsWith(Constants.S3_MULTIPART_TEMPORARY_DIR_SUFFIX)
+          || !mayContainObjects(status.getPath().substring(mBucketPrefix.length())
+          + AlluxioURI.SEPARATOR)) {
+        continue;
+      }
+      List<URIStatus> children;
+      try {
+        children = mFileSystem.listStatus(new AlluxioURI(status.getPath()));
+      } catch (FileDoesNotExistException e) {
+        // The directory was removed since its parent was listed.
+        continue;
+      } catch (IOException | AlluxioException e) {
+        throw new RuntimeException(e);
+      }
+      if (children.isEmpty()) {
+        // An empty Alluxio directory is considered as a valid object.
+        return status;
+      }
+      mQueue.addAll(children);
+    }
+    return null;
+  }
+
+  /**
+   * @param dirKey the key of a directory, followed by a separator
+   * @return whether the directory may contain objects at or after the continuation token and
+   *         starting with the prefix
+   */
+  private boolean mayContainObjects(String dirKey) {
+    if (mContinuationToken != null && mContinuationToken.compareTo(dirKey) > 0
+        && !mContinuationToken.startsWith(dirKey)) {
+      return false;
+    }
+    return mPrefix == null || dirKey.startsWith(mPrefix) || mPrefix.startsWith(dirKey);
+  }
+}
@@ -11,9 +11,7 @@
 
 package alluxio.proxy.s3;
 
-import alluxio.AlluxioURI;
 import alluxio.client.file.URIStatus;
-import alluxio.wire.FileInfo;
 
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
@@ -23,6 +21,7 @@ import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -76,6 +75,19 @@ public class ListBucketResult {
    */
   public ListBucketResult(
       String bucketName, List<URIStatus> objectsList, ListBucketOptions options) {
+    this(bucketName, sorted(objectsList), options);
+  }
+
+  /**
+   * Creates an {@link ListBucketResult}. The objects are only consumed until a page of keys is
+   * found.
+   *
+   * @param bucketName the bucket name
+   * @param objects an iterator over the objects, in the order of their paths
+   * @param options the list bucket options
+   */
+  public ListBucketResult(
+      String bucketName, Iterator<URIStatus> objects, ListBucketOptions options) {
     mName = bucketName;
     mPrefix = options.getPrefix();
     mKeyCount = 0;
@@ -85,38 +97,24 @@ public class ListBucketResult {
     mContents = new ArrayList<>();
     mContinuationToken = options.getContinuationToken();
 
-    Collections.sort(objectsList, new URIStatusComparator());
-
-    int startIndex = 0;
-    if (options.getContinuationToken() != null) {
-      URIStatus tokenStatus = new URIStatus(new FileInfo().setPath(
-          mName + AlluxioURI.SEPARATOR + mContinuationToken));
-      startIndex = Collections.binarySearch(objectsList, tokenStatus, new URIStatusComparator());
-      if (startIndex < 0) {
-        // If continuation token does not exist in the object list, find the first element which is
-        // greater than the token.
-        startIndex = (-1) * startIndex - 1;
-      }
-    }
-
-    for (int i = startIndex; i < objectsList.size(); i++) {
-      URIStatus status = objectsList.get(i);
+    while (objects.hasNext()) {
+      URIStatus status = objects.next();
       String objectKey = status.getPath().substring(mName.length() + 1);
-      if (mKeyCount >= mMaxKeys) {
-        mIsTruncated = true;
-        mNextContinuationToken = objectKey;
-        return;
-      }
       if (mContinuationToken != null && objectKey.compareTo(mContinuationToken) < 0) {
         continue;
       }
       if (mPrefix != null && !objectKey.startsWith(mPrefix)) {
         continue;
       }
+      if (mKeyCount >= mMaxKeys) {
+        mIsTruncated = true;
+        mNextContinuationToken = objectKey;
+        return;
+      }
       // TODO(chaomin): set ETag once there's a way to get MD5 hash of an Alluxio file.
       // TODO(chaomin): construct the response with CommonPrefixes when delimiter support is added.
       mContents.add(new Content(
-          status.getPath().substring(mName.length() + 1),
+          objectKey,
           S3RestUtils.toS3Date(status.getLastModificationTimeMs()),
           S3Constants.S3_EMPTY_ETAG,
           String.valueOf(status.getLength()),
@@ -125,6 +123,11 @@ public class ListBucketResult {
     }
   }
 
+  private static Iterator<URIStatus> sorted(List<URIStatus> objectsList) {
+    Collections.sort(objectsList, new URIStatusComparator());
+    return objectsList.iterator();
+  }
+
   /**
    * @return the bucket name
    */
@@ -385,7 +388,7 @@ public class ListBucketResult {
     }
   }
 
-  private class URIStatusComparator implements Comparator<URIStatus> {
+  private static class URIStatusComparator implements Comparator<URIStatus> {
     @Override
     public int compare(URIStatus o1, URIStatus o2) {
       return o1.getPath().compareTo(o2.getPath());
@@ -27,6 +27,7 @@ public class S3ErrorCode {
     public static final String BUCKET_NOT_EMPTY = "BucketNotEmpty";
     public static final String INTERNAL_ERROR = "InternalError";
     public static final String INVALID_BUCKET_NAME = "InvalidBucketName";
+    public static final String INVALID_RANGE = "InvalidRange";
     public static final String NO_SUCH_BUCKET = "NoSuchBucket";
     public static final String NO_SUCH_KEY = "NoSuchKey";
     public static final String NO_SUCH_UPLOAD = "NoSuchUpload";
@@ -55,6 +56,10 @@ public class S3ErrorCode {
       Name.INVALID_BUCKET_NAME,
       "The specified bucket name is invalid",
       Response.Status.BAD_REQUEST);
+  public static final S3ErrorCode INVALID_RANGE = new S3ErrorCode(
+      Name.INVALID_RANGE,
+      "The requested range is not satisfiable",
+      Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE);
   public static final S3ErrorCode INTERNAL_ERROR = new S3ErrorCode(
       Name.INTERNAL_ERROR,
       "We encountered an internal error. Please try again.",
@@ -0,0 +1,122 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.proxy.s3;
+
+import com.google.common.base.MoreObjects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A byte range of an object requested through the Range header of a GET object request, defined
+ * in https://tools.ietf.org/html/rfc7233#section-2.1. Like S3, only a single range is supported.
+ */
+@ThreadSafe
+public final class S3RangeSpec {
+  private final long mOffset;
+  private final long mLength;
+  private final long mObjectLength;
+
+  private S3RangeSpec(long offset, long length, long objectLength) {
+    mOffset = offset;
+    mLength = length;
+    mObjectLength = objectLength;
+  }
+
+  /**
+   * Parses the value of a Range header. A header which is missing, malformed or which requests
+   * several ranges is ignored, and the whole object is returned, as allowed by the RFC.
+   *
+   * @param range the value of the Range header, null if the header is missing
+   * @param objectLength the length of the object
+   * @return the requested range, or null if the whole object should be returned
+   * @throws S3Exception if the range starts after the end of the object
+   */
+  @Nullable
+  public static S3RangeSpec parse(@Nullable String range, long objectLength) throws S3Exception {
+    if (range == null) {
+      return null;
+    }
+    String prefix = S3Constants.S3_RANGE_UNIT + "=";
+    String spec = range.trim();
+    if (!spec.startsWith(prefix) || spec.indexOf(',') >= 0) {
+      return null;
+    }
+    spec = spec.substring(prefix.length()).trim();
+    int dash = spec.indexOf('-');
+    if (dash < 0) {
+      return null;
+    }
+    String first = spec.substring(0, dash).trim();
+    String last = spec.substring(dash + 1).trim();
+    long offset;
+    long end;
+    try {
+      if (first.isEmpty()) {
+        // A suffix range, which requests the last bytes of the object.
+        long suffixLength = Long.parseLong(last);
+        if (suffixLength <= 0) {
+          return null;
+        }
+        if (objectLength == 0) {
+          throw new S3Exception(range, S3ErrorCode.INVALID_RANGE);
+        }
+        offset = Math.max(0, objectLength - suffixLength);
+        end = objectLength - 1;
+      } else {
+        offset = Long.parseLong(first);
+        end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+        if (end < offset) {
+          return null;
+        }
+        if (offset >= objectLength) {
+          throw new S3Exception(range, S3ErrorCode.INVALID_RANGE);
+        }
+        end = Math.min(end, objectLength - 1);
+      }
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    return new S3RangeSpec(offset, end - offset + 1, objectLength);
+  }
+
+  /**
+   * @return the offset of the first byte of the range
+   */
+  public long getOffset() {
+    return mOffset;
+  }
+
+  /**
+   * @return the number of bytes in the range
+   */
+  public long getLength() {
+    return mLength;
+  }
+
+  /**
+   * @return the value of the Content-Range header of the response
+   */
+  public String getContentRange() {
+    return String.format("%s %d-%d/%d", S3Constants.S3_RANGE_UNIT, mOffset,
+        mOffset + mLength - 1, mObjectLength);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("offset", mOffset)
+        .add("length", mLength)
+        .add("objectLength", mObjectLength)
+        .toString();
+  }
+}
@@ -20,7 +20,6 @@ import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileOutStream;
 import alluxio.client.file.FileSystem;
 import alluxio.client.file.URIStatus;
-import alluxio.exception.AlluxioException;
 import alluxio.exception.DirectoryNotEmptyException;
 import alluxio.exception.FileAlreadyExistsException;
 import alluxio.exception.FileDoesNotExistException;
@@ -29,6 +28,7 @@ import alluxio.grpc.CreateDirectoryPOptions;
 import alluxio.grpc.CreateFilePOptions;
 import alluxio.grpc.DeletePOptions;
 import alluxio.grpc.WritePType;
+import alluxio.util.ThreadFactoryUtils;
 import alluxio.web.ProxyWebServer;
 
 import com.google.common.base.Preconditions;
@@ -38,6 +38,7 @@ import org.apache.commons.codec.binary.Hex;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.util.ArrayDeque;
@@ -45,8 +46,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.servlet.ServletContext;
@@ -64,6 +70,7 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * This class is a REST handler for Amazon S3 API.
@@ -87,6 +94,13 @@ public final class S3RestServiceHandler {
   /* Object is after bucket in the URL path */
   public static final String OBJECT_PARAM = "{bucket}/{object:.+}";
 
+  /** The size of the chunks the parts of a multipart upload are read in. */
+  private static final int MULTIPART_CHUNK_SIZE = 8 * Constants.MB;
+  private static final int RANGE_BUFFER_SIZE = Constants.MB;
+  /** Reads the parts of the multipart uploads being completed. */
+  private static final ExecutorService MULTIPART_EXECUTOR = Executors.newCachedThreadPool(
+      ThreadFactoryUtils.build("s3-multipart-complete-%d", true));
+
   private final FileSystem mFileSystem;
 
   /**
@@ -182,15 +196,15 @@ public final class S3RestServiceHandler {
 
         checkBucketIsAlluxioDirectory(bucketPath);
 
-        List<URIStatus> objects;
         ListBucketOptions listBucketOptions = ListBucketOptions.defaults()
             .setContinuationToken(continuationToken)
             .setMaxKeys(maxKeys)
             .setPrefix(prefix);
         try {
-          objects = listObjects(new AlluxioURI(bucketPath), listBucketOptions);
-          ListBucketResult response = new ListBucketResult(bucketPath, objects, listBucketOptions);
-          return response;
+          // The bucket is only walked until a page of objects is found.
+          Iterator<URIStatus> objects =
+              new BucketObjectIterator(mFileSystem, bucketPath, listBucketOptions);
+          return new ListBucketResult(bucketPath, objects, listBucketOptions);
         } catch (Exception e) {
           throw toBucketS3Exception(e, bucketPath);
         }
@@ -349,14 +363,12 @@ public final class S3RestServiceHandler {
           DigestOutputStream digestOutputStream = new DigestOutputStream(os, md5);
 
           try {
-            for (URIStatus part : parts) {
-              try (FileInStream is = mFileSystem.openFile(new AlluxioURI(part.getPath()))) {
-                ByteStreams.copy(is, digestOutputStream);
-              }
-            }
-          } finally {
-            digestOutputStream.close();
+            combineParts(parts, digestOutputStream);
+          } catch (Exception e) {
+            os.cancel();
+            throw e;
           }
+          digestOutputStream.close();
 
           mFileSystem.delete(multipartTemporaryDir,
               DeletePOptions.newBuilder().setRecursive(true).build());
@@ -370,6 +382,62 @@ public final class S3RestServiceHandler {
     });
   }
 
+  /**
+   * Writes the parts of a multipart upload one after the other. The parts are read in chunks,
+   * several chunks being read in parallel while the previous ones are written.
+   *
+   * @param parts the parts, in order
+   * @param out the stream to write the parts to
+   */
+  private void combineParts(List<URIStatus> parts, OutputStream out) throws Exception {
+    List<Callable<byte[]>> chunks = new ArrayList<>();
+    for (URIStatus part : parts) {
+      AlluxioURI partUri = new AlluxioURI(part.getPath());
+      for (long offset = 0; offset < part.getLength(); offset += MULTIPART_CHUNK_SIZE) {
+        long chunkOffset = offset;
+        int chunkLength = (int) Math.min(MULTIPART_CHUNK_SIZE, part.getLength() - offset);
+        chunks.add(() -> readChunk(partUri, chunkOffset, chunkLength));
+      }
+    }
+    // With no chunk read in parallel, no part would be read and an empty object committed.
+    int parallelism = Math.max(1,
+        ServerConfiguration.getInt(PropertyKey.PROXY_S3_MULTIPART_COMPLETE_PARALLELISM));
+    Queue<Future<byte[]>> pending = new ArrayDeque<>();
+    Iterator<Callable<byte[]>> toRead = chunks.iterator();
+    try {
+      while (toRead.hasNext() && pending.size() < parallelism) {
+        pending.add(MULTIPART_EXECUTOR.submit(toRead.next()));
+      }
+      while (!pending.isEmpty()) {
+        byte[] chunk = pending.remove().get();
+        if (toRead.hasNext()) {
+          pending.add(MULTIPART_EXECUTOR.submit(toRead.next()));
+        }
+        out.write(chunk);
+      }
+    } finally {
+      for (Future<byte[]> future : pending) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private byte[] readChunk(AlluxioURI partUri, long offset, int length) throws Exception {
+    byte[] chunk = new byte[length];
+    try (FileInStream is = mFileSystem.openFile(partUri)) {
+      int read = 0;
+      while (read < length) {
+        int n = is.positionedRead(offset + read, chunk, read, length - read);
+        if (n < 0) {
+          throw new IOException(String.format("Part %s ended before offset %d",
+              partUri, offset + read));
+        }
+        read += n;
+      }
+    }
+    return chunk;
+  }
+
   /**
    * @summary retrieves an object's metadata
    * @param bucket the bucket name
@@ -398,6 +466,7 @@ public final class S3RestServiceHandler {
           return Response.ok()
               .lastModified(new Date(status.getLastModificationTimeMs()))
               .header(S3Constants.S3_CONTENT_LENGTH_HEADER, status.getLength())
+              .header(S3Constants.S3_ACCEPT_RANGES_HEADER, S3Constants.S3_RANGE_UNIT)
               .build();
         } catch (Exception e) {
           throw toObjectS3Exception(e, objectPath);
@@ -411,20 +480,22 @@ public final class S3RestServiceHandler {
    * @param bucket the bucket name
    * @param object the object name
    * @param uploadId the ID of the multipart upload, if not null, listing parts of the object
+   * @param range the optional byte range of the object to download
    * @return the response object
    */
   @GET
   @Path(OBJECT_PARAM)
   @Produces({MediaType.APPLICATION_XML, MediaType.APPLICATION_OCTET_STREAM})
   public Response getObjectOrListParts(@PathParam("bucket") final String bucket,
-      @PathParam("object") final String object, @QueryParam("uploadId") final Long uploadId) {
+      @PathParam("object") final String object, @QueryParam("uploadId") final Long uploadId,
+      @HeaderParam(S3Constants.S3_RANGE_HEADER) final String range) {
     Preconditions.checkNotNull(bucket, "required 'bucket' parameter is missing");
     Preconditions.checkNotNull(object, "required 'object' parameter is missing");
 
     if (uploadId != null) {
       return listParts(bucket, object, uploadId);
     } else {
-      return getObject(bucket, object);
+      return getObject(bucket, object, range);
     }
   }
 
@@ -462,7 +533,7 @@ public final class S3RestServiceHandler {
     });
   }
 
-  private Response getObject(final String bucket, final String object) {
+  private Response getObject(final String bucket, final String object, final String range) {
     return S3RestUtils.call(bucket, new S3RestUtils.RestCallable<Response>() {
       @Override
       public Response call() throws S3Exception {
@@ -474,11 +545,22 @@ public final class S3RestServiceHandler {
 
         try {
           URIStatus status = mFileSystem.getStatus(objectURI);
+          S3RangeSpec rangeSpec = S3RangeSpec.parse(range, status.getLength());
           FileInStream is = mFileSystem.openFile(objectURI);
           // TODO(cc): Consider how to respond with the object's ETag.
-          return Response.ok(is)
+          if (rangeSpec == null) {
+            return Response.ok(is)
+                .lastModified(new Date(status.getLastModificationTimeMs()))
+                .header(S3Constants.S3_CONTENT_LENGTH_HEADER, status.getLength())
+                .header(S3Constants.S3_ACCEPT_RANGES_HEADER, S3Constants.S3_RANGE_UNIT)
+                .build();
+          }
+          return Response.status(Response.Status.PARTIAL_CONTENT)
+              .entity(new RangeStreamingOutput(is, rangeSpec))
               .lastModified(new Date(status.getLastModificationTimeMs()))
-              .header(S3Constants.S3_CONTENT_LENGTH_HEADER, status.getLength())
+              .header(S3Constants.S3_CONTENT_LENGTH_HEADER, rangeSpec.getLength())
+              .header(S3Constants.S3_CONTENT_RANGE_HEADER, rangeSpec.getContentRange())
+              .header(S3Constants.S3_ACCEPT_RANGES_HEADER, S3Constants.S3_RANGE_UNIT)
               .build();
         } catch (Exception e) {
           throw toObjectS3Exception(e, objectPath);
@@ -549,6 +631,11 @@ public final class S3RestServiceHandler {
   }
 
   private S3Exception toBucketS3Exception(Exception exception, String resource) {
+    // BucketObjectIterator wraps the checked exceptions of the listings it makes.
+    if (exception.getClass() == RuntimeException.class
+        && exception.getCause() instanceof Exception) {
+      exception = (Exception) exception.getCause();
+    }
     try {
       throw exception;
     } catch (S3Exception e) {
@@ -626,42 +713,39 @@ public final class S3RestServiceHandler {
     }
   }
 
-  private List<URIStatus> listObjects(AlluxioURI uri, ListBucketOptions listBucketOptions)
-      throws FileDoesNotExistException, IOException, AlluxioException {
-    List<URIStatus> objects = new ArrayList<>();
-    Queue<URIStatus> traverseQueue = new ArrayDeque<>();
-
-    List<URIStatus> children;
-    String prefix = listBucketOptions.getPrefix();
-    if (prefix != null && prefix.contains(AlluxioURI.SEPARATOR)) {
-      AlluxioURI prefixDirUri = new AlluxioURI(uri.getPath() + AlluxioURI.SEPARATOR
-          + prefix.substring(0, prefix.lastIndexOf(AlluxioURI.SEPARATOR)));
-      children = mFileSystem.listStatus(prefixDirUri);
-    } else {
-      children = mFileSystem.listStatus(uri);
+  private WritePType getS3WriteType() {
+    return ServerConfiguration.getEnum(PropertyKey.PROXY_S3_WRITE_TYPE, WriteType.class).toProto();
+  }
+
+  /**
+   * Writes a range of an object with positioned reads, and closes the object stream.
+   */
+  private static final class RangeStreamingOutput implements StreamingOutput {
+    private final FileInStream mInStream;
+    private final S3RangeSpec mRange;
+
+    private RangeStreamingOutput(FileInStream inStream, S3RangeSpec range) {
+      mInStream = inStream;
+      mRange = range;
     }
-    traverseQueue.addAll(children);
-    while (!traverseQueue.isEmpty()) {
-      URIStatus cur = traverseQueue.remove();
-      if (!cur.isFolder()) {
-        // Alluxio file is an object.
-        objects.add(cur);
-      } else if (!cur.getName().endsWith(Constants.S3_MULTIPART_TEMPORARY_DIR_SUFFIX)) {
-        // The directory is not a temporary directory of multipart upload, list recursively.
-        List<URIStatus> curChildren = mFileSystem.listStatus(new AlluxioURI(cur.getPath()));
-        if (curChildren.isEmpty()) {
-          // An empty Alluxio directory is considered as a valid object.
-          objects.add(cur);
-        } else {
-          traverseQueue.addAll(curChildren);
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+      try (FileInStream is = mInStream) {
+        byte[] buffer = new byte[(int) Math.min(RANGE_BUFFER_SIZE, mRange.getLength())];
+        long position = mRange.getOffset();
+        long end = mRange.getOffset() + mRange.getLength();
+        while (position < end) {
+          int n = is.positionedRead(position, buffer, 0,
+              (int) Math.min(buffer.length, end - position));
+          if (n < 0) {
+            throw new IOException(String.format("Object ended before offset %d", position));
+          }
+          output.write(buffer, 0, n);
+          position += n;
         }
       }
     }
-    return objects;
-  }
-
-  private WritePType getS3WriteType() {
-    return ServerConfiguration.getEnum(PropertyKey.PROXY_S3_WRITE_TYPE, WriteType.class).toProto();
   }
 
   private class URIStatusNameComparator implements Comparator<URIStatus> {
@@ -0,0 +1,72 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.proxy.s3;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link S3RangeSpec}.
+ */
+public final class S3RangeSpecTest {
+  private static final long LENGTH = 1000;
+
+  @Test
+  public void parseRanges() throws Exception {
+    checkRange("bytes=0-99", 0, 100);
+    checkRange("bytes=100-", 100, 900);
+    checkRange("bytes=-10", 990, 10);
+    checkRange("bytes=-2000", 0, 1000);
+    checkRange("bytes=900-2000", 900, 100);
+    checkRange("bytes=5-5", 5, 1);
+    assertEquals("bytes 100-199/1000",
+        S3RangeSpec.parse("bytes=100-199", LENGTH).getContentRange());
+  }
+
+  @Test
+  public void ignoreUnsupportedRanges() throws Exception {
+    assertNull(S3RangeSpec.parse(null, LENGTH));
+    assertNull(S3RangeSpec.parse("bytes=0-1,5-6", LENGTH));
+    assertNull(S3RangeSpec.parse("items=0-1", LENGTH));
+    assertNull(S3RangeSpec.parse("bytes=5-1", LENGTH));
+    assertNull(S3RangeSpec.parse("bytes=a-b", LENGTH));
+    assertNull(S3RangeSpec.parse("bytes=-0", LENGTH));
+    assertNull(S3RangeSpec.parse("bytes=10", LENGTH));
+  }
+
+  @Test
+  public void unsatisfiableRanges() throws Exception {
+    for (String range : new String[] {"bytes=1000-", "bytes=2000-3000"}) {
+      try {
+        S3RangeSpec.parse(range, LENGTH);
+        fail("Range " + range + " should not be satisfiable");
+      } catch (S3Exception e) {
+        assertEquals(S3ErrorCode.INVALID_RANGE, e.getErrorCode());
+      }
+    }
+    try {
+      S3RangeSpec.parse("bytes=-10", 0);
+      fail("A suffix range of an empty object should not be satisfiable");
+    } catch (S3Exception e) {
+      assertEquals(S3ErrorCode.INVALID_RANGE, e.getErrorCode());
+    }
+  }
+
+  private static void checkRange(String range, long offset, long length) throws Exception {
+    S3RangeSpec spec = S3RangeSpec.parse(range, LENGTH);
+    assertEquals(offset, spec.getOffset());
+    assertEquals(length, spec.getLength());
+  }
+}
@@ -16,17 +16,13 @@ import alluxio.conf.PropertyKey;
 import alluxio.exception.BlockDoesNotExistException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.InvalidWorkerStateException;
-import alluxio.resource.LockResource;
 import alluxio.resource.ResourcePool;
 
 import com.google.common.base.Objects;
-import com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -35,9 +31,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -65,20 +59,22 @@ public final class BlockLockManager {
     }
   };
 
-  /** A map from block id to the read write lock used to guard that block. */
-  @GuardedBy("mSharedMapsLock")
-  private final Map<Long, ClientRWLock> mLocks = new HashMap<>();
+  /**
+   * A map from block id to the read write lock used to guard that block. The reference count of a
+   * block lock is only changed while computing its entry, so that a lock is never returned to the
+   * pool while another thread is about to use it.
+   */
+  private final ConcurrentHashMap<Long, ClientRWLock> mLocks = new ConcurrentHashMap<>();
 
-  /** A map from a session id to all the locks hold by this session. */
-  @GuardedBy("mSharedMapsLock")
-  private final Map<Long, Set<Long>> mSessionIdToLockIdsMap = new HashMap<>();
+  /**
+   * A map from a session id to all the locks hold by this session. The entry of a session is only
+   * added, changed and removed while computing it.
+   */
+  private final ConcurrentHashMap<Long, Set<Long>> mSessionIdToLockIdsMap =
+      new ConcurrentHashMap<>();
 
   /** A map from a lock id to the lock record of it. */
-  @GuardedBy("mSharedMapsLock")
-  private final Map<Long, LockRecord> mLockIdToRecordMap = new HashMap<>();
-
-  /** Lock to guard metadata operations. */
-  private final ReentrantReadWriteLock mSharedMapsLock = new ReentrantReadWriteLock();
+  private final ConcurrentHashMap<Long, LockRecord> mLockIdToRecordMap = new ConcurrentHashMap<>();
 
   /**
    * Constructs a new {@link BlockLockManager}.
@@ -105,6 +101,7 @@ public final class BlockLockManager {
     } else {
       // Make sure the session isn't already holding the block lock.
       if (sessionHoldsLock(sessionId, blockId)) {
+        releaseBlockLockIfUnused(blockId);
         throw new IllegalStateException(String
             .format("Session %s attempted to take a write lock on block %s, but the session already"
                 + " holds a lock on the block", sessionId, blockId));
@@ -114,15 +111,14 @@ public final class BlockLockManager {
     lock.lock();
     try {
       long lockId = LOCK_ID_GEN.getAndIncrement();
-      try (LockResource r = new LockResource(mSharedMapsLock.writeLock())) {
-        mLockIdToRecordMap.put(lockId, new LockRecord(sessionId, blockId, lock));
-        Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-        if (sessionLockIds == null) {
-          mSessionIdToLockIdsMap.put(sessionId, Sets.newHashSet(lockId));
-        } else {
-          sessionLockIds.add(lockId);
+      mLockIdToRecordMap.put(lockId, new LockRecord(sessionId, blockId, lock));
+      mSessionIdToLockIdsMap.compute(sessionId, (id, lockIds) -> {
+        if (lockIds == null) {
+          lockIds = ConcurrentHashMap.newKeySet();
         }
-      }
+        lockIds.add(lockId);
+        return lockIds;
+      });
       return lockId;
     } catch (RuntimeException e) {
       // If an unexpected exception occurs, we should release the lock to be conservative.
@@ -137,19 +133,17 @@ public final class BlockLockManager {
    * @return whether the specified session holds a lock on the specified block
    */
   private boolean sessionHoldsLock(long sessionId, long blockId) {
-    try (LockResource r = new LockResource(mSharedMapsLock.readLock())) {
-      Set<Long> sessionLocks = mSessionIdToLockIdsMap.get(sessionId);
-      if (sessionLocks == null) {
-        return false;
-      }
-      for (Long lockId : sessionLocks) {
-        LockRecord lockRecord = mLockIdToRecordMap.get(lockId);
-        if (lockRecord.getBlockId() == blockId) {
-          return true;
-        }
-      }
+    Set<Long> sessionLocks = mSessionIdToLockIdsMap.get(sessionId);
+    if (sessionLocks == null) {
       return false;
     }
+    for (Long lockId : sessionLocks) {
+      LockRecord lockRecord = mLockIdToRecordMap.get(lockId);
+      if (lockRecord != null && lockRecord.getBlockId() == blockId) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
@@ -164,32 +158,30 @@ public final class BlockLockManager {
     // Loop until we either find the block lock in the mLocks map, or successfully acquire a new
     // block lock from the lock pool.
     while (true) {
-      ClientRWLock blockLock;
       // Check whether a lock has already been allocated for the block id.
-      try (LockResource r = new LockResource(mSharedMapsLock.readLock())) {
-        blockLock = mLocks.get(blockId);
-        if (blockLock != null) {
-          blockLock.addReference();
-          return blockLock;
-        }
+      ClientRWLock blockLock = mLocks.computeIfPresent(blockId, (id, lock) -> {
+        lock.addReference();
+        return lock;
+      });
+      if (blockLock != null) {
+        return blockLock;
       }
       // Since a block lock hasn't already been allocated, try to acquire a new one from the pool.
-      // Acquire the lock outside the synchronized section because #acquire might need to block.
+      // Acquire the lock outside the map update because #acquire might need to block.
       // We shouldn't wait indefinitely in acquire because the another lock for this block could be
       // allocated to another thread, in which case we could just use that lock.
-      blockLock = mLockPool.acquire(1, TimeUnit.SECONDS);
-      if (blockLock != null) {
-        try (LockResource r = new LockResource(mSharedMapsLock.writeLock())) {
-          // Check if someone else acquired a block lock for blockId while we were acquiring one.
-          if (mLocks.containsKey(blockId)) {
-            mLockPool.release(blockLock);
-            blockLock = mLocks.get(blockId);
-          } else {
-            mLocks.put(blockId, blockLock);
-          }
-          blockLock.addReference();
-          return blockLock;
+      ClientRWLock newLock = mLockPool.acquire(1, TimeUnit.SECONDS);
+      if (newLock != null) {
+        // Check if someone else acquired a block lock for blockId while we were acquiring one.
+        blockLock = mLocks.compute(blockId, (id, lock) -> {
+          ClientRWLock result = lock == null ? newLock : lock;
+          result.addReference();
+          return result;
+        });
+        if (blockLock != newLock) {
+          mLockPool.release(newLock);
         }
+        return blockLock;
       }
     }
   }
@@ -201,23 +193,12 @@ public final class BlockLockManager {
    * @return whether the lock corresponding the lock ID has been successfully unlocked
    */
   public boolean unlockBlockNoException(long lockId) {
-    Lock lock;
-    LockRecord record;
-    try (LockResource r = new LockResource(mSharedMapsLock.writeLock())) {
-      record = mLockIdToRecordMap.get(lockId);
-      if (record == null) {
-        return false;
-      }
-      long sessionId = record.getSessionId();
-      lock = record.getLock();
-      mLockIdToRecordMap.remove(lockId);
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-      sessionLockIds.remove(lockId);
-      if (sessionLockIds.isEmpty()) {
-        mSessionIdToLockIdsMap.remove(sessionId);
-      }
+    LockRecord record = mLockIdToRecordMap.remove(lockId);
+    if (record == null) {
+      return false;
     }
-    unlock(lock, record.getBlockId());
+    removeSessionLockId(record.getSessionId(), lockId);
+    unlock(record.getLock(), record.getBlockId());
     return true;
   }
 
@@ -243,30 +224,24 @@ public final class BlockLockManager {
    */
   // TODO(bin): Temporary, remove me later.
   public boolean unlockBlock(long sessionId, long blockId) {
-    try (LockResource r = new LockResource(mSharedMapsLock.writeLock())) {
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-      if (sessionLockIds == null) {
-        return false;
+    Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
+    if (sessionLockIds == null) {
+      return false;
+    }
+    for (long lockId : sessionLockIds) {
+      LockRecord record = mLockIdToRecordMap.get(lockId);
+      if (record == null) {
+        // The lock is being released by another thread.
+        continue;
       }
-      for (long lockId : sessionLockIds) {
-        LockRecord record = mLockIdToRecordMap.get(lockId);
-        if (record == null) {
-          // TODO(peis): Should this be a check failure?
-          return false;
-        }
-        if (blockId == record.getBlockId()) {
-          mLockIdToRecordMap.remove(lockId);
-          sessionLockIds.remove(lockId);
-          if (sessionLockIds.isEmpty()) {
-            mSessionIdToLockIdsMap.remove(sessionId);
-          }
-          Lock lock = record.getLock();
-          unlock(lock, blockId);
-          return true;
-        }
+      // Only the thread which removes the record releases the lock.
+      if (blockId == record.getBlockId() && mLockIdToRecordMap.remove(lockId, record)) {
+        removeSessionLockId(sessionId, lockId);
+        unlock(record.getLock(), blockId);
+        return true;
       }
-      return false;
     }
+    return false;
   }
 
   /**
@@ -281,20 +256,18 @@ public final class BlockLockManager {
    */
   public void validateLock(long sessionId, long blockId, long lockId)
       throws BlockDoesNotExistException, InvalidWorkerStateException {
-    try (LockResource r = new LockResource(mSharedMapsLock.readLock())) {
-      LockRecord record = mLockIdToRecordMap.get(lockId);
-      if (record == null) {
-        throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
-            lockId);
-      }
-      if (sessionId != record.getSessionId()) {
-        throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_SESSION,
-            lockId, record.getSessionId(), sessionId);
-      }
-      if (blockId != record.getBlockId()) {
-        throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_BLOCK, lockId,
-            record.getBlockId(), blockId);
-      }
+    LockRecord record = mLockIdToRecordMap.get(lockId);
+    if (record == null) {
+      throw new BlockDoesNotExistException(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID,
+          lockId);
+    }
+    if (sessionId != record.getSessionId()) {
+      throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_SESSION,
+          lockId, record.getSessionId(), sessionId);
+    }
+    if (blockId != record.getBlockId()) {
+      throw new InvalidWorkerStateException(ExceptionMessage.LOCK_ID_FOR_DIFFERENT_BLOCK, lockId,
+          record.getBlockId(), blockId);
     }
   }
 
@@ -304,22 +277,17 @@ public final class BlockLockManager {
    * @param sessionId the id of the session to cleanup
    */
   public void cleanupSession(long sessionId) {
-    try (LockResource r = new LockResource(mSharedMapsLock.writeLock())) {
-      Set<Long> sessionLockIds = mSessionIdToLockIdsMap.get(sessionId);
-      if (sessionLockIds == null) {
-        return;
-      }
-      for (long lockId : sessionLockIds) {
-        LockRecord record = mLockIdToRecordMap.get(lockId);
-        if (record == null) {
-          LOG.error(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID.getMessage(lockId));
-          continue;
-        }
-        Lock lock = record.getLock();
-        unlock(lock, record.getBlockId());
-        mLockIdToRecordMap.remove(lockId);
+    Set<Long> sessionLockIds = mSessionIdToLockIdsMap.remove(sessionId);
+    if (sessionLockIds == null) {
+      return;
+    }
+    for (long lockId : sessionLockIds) {
+      LockRecord record = mLockIdToRecordMap.remove(lockId);
+      if (record == null) {
+        LOG.error(ExceptionMessage.LOCK_RECORD_NOT_FOUND_FOR_LOCK_ID.getMessage(lockId));
+        continue;
       }
-      mSessionIdToLockIdsMap.remove(sessionId);
+      unlock(record.getLock(), record.getBlockId());
     }
   }
 
@@ -329,13 +297,25 @@ public final class BlockLockManager {
    * @return a set of locked blocks
    */
   public Set<Long> getLockedBlocks() {
-    try (LockResource r = new LockResource(mSharedMapsLock.readLock())) {
-      Set<Long> set = new HashSet<>();
-      for (LockRecord lockRecord : mLockIdToRecordMap.values()) {
-        set.add(lockRecord.getBlockId());
-      }
-      return set;
+    Set<Long> set = new HashSet<>();
+    for (LockRecord lockRecord : mLockIdToRecordMap.values()) {
+      set.add(lockRecord.getBlockId());
     }
+    return set;
+  }
+
+  /**
+   * Removes a lock id from the locks held by a session, and removes the session once it holds no
+   * more locks.
+   *
+   * @param sessionId the session id
+   * @param lockId the lock id
+   */
+  private void removeSessionLockId(long sessionId, long lockId) {
+    mSessionIdToLockIdsMap.computeIfPresent(sessionId, (id, lockIds) -> {
+      lockIds.remove(lockId);
+      return lockIds.isEmpty() ? null : lockIds;
+    });
   }
 
   /**
@@ -351,63 +331,58 @@ public final class BlockLockManager {
   }
 
   /**
-   * Checks whether anyone is using the block lock for the given block id, returning the lock to
-   * the lock pool if it is unused.
+   * Drops a reference to the block lock for the given block id, returning the lock to the lock
+   * pool if it is unused.
    *
    * @param blockId the block id for which to potentially release the block lock
    */
   private void releaseBlockLockIfUnused(long blockId) {
-    try (LockResource r = new LockResource(mSharedMapsLock.writeLock())) {
-      ClientRWLock lock = mLocks.get(blockId);
-      if (lock == null) {
-        // Someone else probably released the block lock already.
-        return;
-      }
+    mLocks.computeIfPresent(blockId, (id, lock) -> {
       // If we were the last worker with a reference to the lock, clean it up.
       if (lock.dropReference() == 0) {
-        mLocks.remove(blockId);
         mLockPool.release(lock);
+        return null;
       }
-    }
+      return lock;
+    });
   }
 
   /**
    * Checks the internal state of the manager to make sure invariants hold.
    *
-   * This method is intended for testing purposes. A runtime exception will be thrown if invalid
-   * state is encountered.
+   * This method is intended for testing purposes, and must not run concurrently with other calls.
+   * A runtime exception will be thrown if invalid state is encountered.
    */
   public void validate() {
-    try (LockResource r = new LockResource(mSharedMapsLock.readLock())) {
-      // Compute block lock reference counts based off of lock records
-      ConcurrentMap<Long, AtomicInteger> blockLockReferenceCounts = new ConcurrentHashMap<>();
-      for (LockRecord record : mLockIdToRecordMap.values()) {
-        blockLockReferenceCounts.putIfAbsent(record.getBlockId(), new AtomicInteger(0));
-        blockLockReferenceCounts.get(record.getBlockId()).incrementAndGet();
-      }
+    // Compute block lock reference counts based off of lock records
+    ConcurrentMap<Long, AtomicInteger> blockLockReferenceCounts = new ConcurrentHashMap<>();
+    for (LockRecord record : mLockIdToRecordMap.values()) {
+      blockLockReferenceCounts.putIfAbsent(record.getBlockId(), new AtomicInteger(0));
+      blockLockReferenceCounts.get(record.getBlockId()).incrementAndGet();
+    }
 
-      // Check that the reference count for each block lock matches the lock record counts.
-      for (Entry<Long, ClientRWLock> entry : mLocks.entrySet()) {
-        long blockId = entry.getKey();
-        ClientRWLock lock = entry.getValue();
-        Integer recordCount = blockLockReferenceCounts.get(blockId).get();
-        Integer referenceCount = lock.getReferenceCount();
-        if (!Objects.equal(recordCount, referenceCount)) {
-          throw new IllegalStateException("There are " + recordCount + " lock records for block"
-              + " id " + blockId + ", but the reference count is " + referenceCount);
-        }
+    // Check that the reference count for each block lock matches the lock record counts.
+    for (Entry<Long, ClientRWLock> entry : mLocks.entrySet()) {
+      long blockId = entry.getKey();
+      ClientRWLock lock = entry.getValue();
+      AtomicInteger records = blockLockReferenceCounts.get(blockId);
+      Integer recordCount = records == null ? 0 : records.get();
+      Integer referenceCount = lock.getReferenceCount();
+      if (!Objects.equal(recordCount, referenceCount)) {
+        throw new IllegalStateException("There are " + recordCount + " lock records for block"
+            + " id " + blockId + ", but the reference count is " + referenceCount);
       }
+    }
 
-      // Check that if a lock id is mapped to by a session id, the lock record for that lock id
-      // contains that session id.
-      for (Entry<Long, Set<Long>> entry : mSessionIdToLockIdsMap.entrySet()) {
-        for (Long lockId : entry.getValue()) {
-          LockRecord record = mLockIdToRecordMap.get(lockId);
-          if (record.getSessionId() != entry.getKey()) {
-            throw new IllegalStateException("The session id map contains lock id " + lockId
-                + "under session id " + entry.getKey() + ", but the record for that lock id ("
-                + record + ")" + " doesn't contain that session id");
-          }
+    // Check that if a lock id is mapped to by a session id, the lock record for that lock id
+    // contains that session id.
+    for (Entry<Long, Set<Long>> entry : mSessionIdToLockIdsMap.entrySet()) {
+      for (Long lockId : entry.getValue()) {
+        LockRecord record = mLockIdToRecordMap.get(lockId);
+        if (record.getSessionId() != entry.getKey()) {
+          throw new IllegalStateException("The session id map contains lock id " + lockId
+              + "under session id " + entry.getKey() + ", but the record for that lock id ("
+              + record + ")" + " doesn't contain that session id");
         }
       }
     }
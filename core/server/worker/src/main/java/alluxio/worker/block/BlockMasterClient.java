@@ -13,6 +13,9 @@ package alluxio.worker.block;
 
 import alluxio.AbstractMasterClient;
 import alluxio.Constants;
+import alluxio.client.block.stream.GrpcBlockingStream;
+import alluxio.conf.PropertyKey;
+import alluxio.exception.status.UnavailableException;
 import alluxio.grpc.BlockHeartbeatPOptions;
 import alluxio.grpc.BlockHeartbeatPRequest;
 import alluxio.grpc.BlockIdList;
@@ -27,6 +30,7 @@ import alluxio.grpc.LocationBlockIdListEntry;
 import alluxio.grpc.Metric;
 import alluxio.grpc.RegisterWorkerPOptions;
 import alluxio.grpc.RegisterWorkerPRequest;
+import alluxio.grpc.RegisterWorkerPResponse;
 import alluxio.grpc.ServiceType;
 import alluxio.grpc.StorageList;
 import alluxio.master.MasterClientContext;
@@ -48,6 +52,7 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public final class BlockMasterClient extends AbstractMasterClient {
   private BlockMasterWorkerServiceGrpc.BlockMasterWorkerServiceBlockingStub mClient = null;
+  private BlockMasterWorkerServiceGrpc.BlockMasterWorkerServiceStub mAsyncClient = null;
 
   /**
    * Creates a new instance of {@link BlockMasterClient} for the worker.
@@ -76,6 +81,7 @@ public final class BlockMasterClient extends AbstractMasterClient {
   @Override
   protected void afterConnect() throws IOException {
     mClient = BlockMasterWorkerServiceGrpc.newBlockingStub(mChannel);
+    mAsyncClient = BlockMasterWorkerServiceGrpc.newStub(mChannel);
   }
 
   /**
@@ -224,4 +230,94 @@ public final class BlockMasterClient extends AbstractMasterClient {
       return null;
     });
   }
+
+  /**
+   * Registers the worker with the block master through a stream, sending its blocks in chunks of
+   * at most {@link PropertyKey#WORKER_REGISTER_STREAM_BATCH_SIZE} blocks. Each chunk is sent once
+   * the master has acknowledged the previous one, so neither side buffers the whole block list
+   * in a single message. The registration is not retried, and fails with a
+   * {@link alluxio.exception.status.ResourceExhaustedException} if too many workers are
+   * registering with the master, or with an
+   * {@link alluxio.exception.status.UnimplementedException} if the master does not support
+   * streaming registrations.
+   *
+   * @param workerId the id of the worker
+   * @param storageTierAliases a list of storage tier aliases in ordinal order
+   * @param totalBytesOnTiers mapping from storage tier alias to total bytes
+   * @param usedBytesOnTiers mapping from storage tier alias to used bytes
+   * @param currentBlocksOnLocation mapping from storage tier alias to a list of blocks
+   * @param lostStorage mapping from storage tier alias to a list of lost storage paths
+   * @param configList a list of configurations
+   */
+  public synchronized void registerWithStream(final long workerId,
+      final List<String> storageTierAliases, final Map<String, Long> totalBytesOnTiers,
+      final Map<String, Long> usedBytesOnTiers,
+      final Map<BlockStoreLocation, List<Long>> currentBlocksOnLocation,
+      final Map<String, List<String>> lostStorage,
+      final List<ConfigProperty> configList) throws IOException {
+    int batchSize = mContext.getClusterConf().getInt(PropertyKey.WORKER_REGISTER_STREAM_BATCH_SIZE);
+    long timeoutMs =
+        mContext.getClusterConf().getMs(PropertyKey.WORKER_REGISTER_STREAM_RESPONSE_TIMEOUT);
+
+    final Map<String, StorageList> lostStorageMap = lostStorage.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey,
+            e -> StorageList.newBuilder().addAllStorage(e.getValue()).build()));
+    // The first request carries the storage information along with the first chunk.
+    RegisterWorkerPRequest.Builder request = RegisterWorkerPRequest.newBuilder()
+        .setWorkerId(workerId)
+        .addAllStorageTiers(storageTierAliases).putAllTotalBytesOnTiers(totalBytesOnTiers)
+        .putAllUsedBytesOnTiers(usedBytesOnTiers)
+        .putAllLostStorage(lostStorageMap)
+        .setOptions(RegisterWorkerPOptions.newBuilder().addAllConfigs(configList));
+
+    connect();
+    GrpcBlockingStream<RegisterWorkerPRequest, RegisterWorkerPResponse> stream =
+        new GrpcBlockingStream<>(mAsyncClient::registerWorkerStream, 2,
+            String.format("registerWorkerStream workerId=%d", workerId));
+    try {
+      int chunkSize = 0;
+      for (Map.Entry<BlockStoreLocation, List<Long>> entry
+          : currentBlocksOnLocation.entrySet()) {
+        BlockStoreLocationProto location = BlockStoreLocationProto.newBuilder()
+            .setTierAlias(entry.getKey().tierAlias())
+            .setMediumType(entry.getKey().mediumType())
+            .build();
+        List<Long> blockIds = entry.getValue();
+        int start = 0;
+        while (start < blockIds.size()) {
+          int end = Math.min(blockIds.size(), start + batchSize - chunkSize);
+          request.addCurrentBlocks(LocationBlockIdListEntry.newBuilder().setKey(location)
+              .setValue(BlockIdList.newBuilder().addAllBlockId(blockIds.subList(start, end))));
+          chunkSize += end - start;
+          start = end;
+          if (chunkSize == batchSize) {
+            sendChunk(stream, request.build(), timeoutMs);
+            request = RegisterWorkerPRequest.newBuilder().setWorkerId(workerId);
+            chunkSize = 0;
+          }
+        }
+      }
+      if (chunkSize > 0 || request.hasOptions()) {
+        sendChunk(stream, request.build(), timeoutMs);
+      }
+      stream.close();
+      stream.waitForComplete(timeoutMs);
+    } catch (Exception e) {
+      stream.cancel();
+      throw e;
+    }
+  }
+
+  /**
+   * Sends a chunk of a streaming registration, and waits for the master to acknowledge it.
+   */
+  private static void sendChunk(
+      GrpcBlockingStream<RegisterWorkerPRequest, RegisterWorkerPResponse> stream,
+      RegisterWorkerPRequest request, long timeoutMs) throws IOException {
+    stream.send(request, timeoutMs);
+    if (stream.receive(timeoutMs) == null) {
+      throw new UnavailableException(
+          "Master completed the registration stream before the worker completed it");
+    }
+  }
 }
@@ -17,11 +17,14 @@ import alluxio.conf.PropertyKey;
 import alluxio.StorageTierAssoc;
 import alluxio.WorkerStorageTierAssoc;
 import alluxio.exception.ConnectionFailedException;
+import alluxio.exception.status.UnimplementedException;
 import alluxio.grpc.Command;
 import alluxio.grpc.ConfigProperty;
 import alluxio.grpc.Scope;
 import alluxio.heartbeat.HeartbeatExecutor;
 import alluxio.metrics.MetricsSystem;
+import alluxio.retry.RetryPolicy;
+import alluxio.retry.RetryUtils;
 import alluxio.util.ConfigurationUtils;
 import alluxio.wire.WorkerNetAddress;
 
@@ -103,6 +106,34 @@ public final class BlockMasterSync implements HeartbeatExecutor {
     StorageTierAssoc storageTierAssoc = new WorkerStorageTierAssoc();
     List<ConfigProperty> configList =
         ConfigurationUtils.getConfiguration(ServerConfiguration.global(), Scope.WORKER);
+    if (ServerConfiguration.getBoolean(PropertyKey.WORKER_REGISTER_STREAM_ENABLED)) {
+      // The master rejects streaming registrations beyond its concurrency limit, so they are
+      // retried with backoff until the worker gets its turn.
+      RetryPolicy retry = RetryUtils.defaultWorkerMasterClientRetry(
+          ServerConfiguration.getDuration(PropertyKey.WORKER_MASTER_CONNECT_RETRY_TIMEOUT));
+      IOException failure = null;
+      while (retry.attempt()) {
+        try {
+          mMasterClient.registerWithStream(mWorkerId.get(),
+              storageTierAssoc.getOrderedStorageAliases(), storeMeta.getCapacityBytesOnTiers(),
+              storeMeta.getUsedBytesOnTiers(), storeMeta.getBlockListByStorageLocation(),
+              storeMeta.getLostStorage(), configList);
+          return;
+        } catch (UnimplementedException e) {
+          LOG.warn("The master does not support streaming registrations, registering with a "
+              + "single request instead: {}", e.getMessage());
+          failure = null;
+          break;
+        } catch (IOException e) {
+          LOG.warn("Failed to register with the master through a stream (attempt {}): {}",
+              retry.getAttemptCount(), e.getMessage());
+          failure = e;
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    }
     mMasterClient.register(mWorkerId.get(),
         storageTierAssoc.getOrderedStorageAliases(), storeMeta.getCapacityBytesOnTiers(),
         storeMeta.getUsedBytesOnTiers(), storeMeta.getBlockListByStorageLocation(),
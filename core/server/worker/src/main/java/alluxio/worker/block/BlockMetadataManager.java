@@ -379,11 +379,18 @@ public final class BlockMetadataManager {
       throws BlockDoesNotExistException, WorkerOutOfSpaceException, BlockAlreadyExistsException {
     StorageDir srcDir = blockMeta.getParentDir();
     StorageDir dstDir = tempBlockMeta.getParentDir();
-    srcDir.removeBlockMeta(blockMeta);
+    dstDir.removeTempBlockMeta(tempBlockMeta);
+    if (srcDir == dstDir) {
+      // The block already is in its destination, so it is kept as is rather than removed and
+      // re-added, which lock-free lookups could observe as a missing block.
+      return blockMeta;
+    }
     BlockMeta newBlockMeta =
         new BlockMeta(blockMeta.getBlockId(), blockMeta.getBlockSize(), dstDir);
-    dstDir.removeTempBlockMeta(tempBlockMeta);
+    // Adds the block to its new dir before removing it from the old one, so that lock-free
+    // lookups never miss a block while it moves.
     dstDir.addBlockMeta(newBlockMeta);
+    srcDir.removeBlockMeta(blockMeta);
     return newBlockMeta;
   }
 
@@ -57,6 +57,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -78,7 +79,11 @@ import javax.annotation.concurrent.NotThreadSafe;
  * <li>Any metadata operation (read or write) must go through {@link TieredBlockStore#mMetaManager}
  * and guarded by {@link TieredBlockStore#mMetadataLock}. This is also a read/write lock and
  * coordinates different threads (clients) when accessing the shared data structure for metadata.
+ * The exception are lookups of a single block by id on the read path, which take no metadata lock
+ * since the storage dirs index their blocks in concurrent maps. A reader holding the block lock
+ * sees a stable block, because moving or removing it requires the write lock of the block.
  * </li>
+ * <li>Event listeners are notified without holding any store lock, and must be thread safe.</li>
  * <li>Method {@link #createBlock} does not acquire the block lock, because it only creates a
  * temp block which is only visible to its writer before committed (thus no concurrent access).</li>
  * <li>Method {@link #abortBlock(long, long)} does not acquire the block lock, because only
@@ -102,7 +107,9 @@ public class TieredBlockStore implements BlockStore {
   private final Allocator mAllocator;
   private final Evictor mEvictor;
 
-  private final List<BlockStoreEventListener> mBlockStoreEventListeners = new ArrayList<>();
+  /** The listeners are notified without locking, so they must be thread safe themselves. */
+  private final List<BlockStoreEventListener> mBlockStoreEventListeners =
+      new CopyOnWriteArrayList<>();
 
   /** A set of pinned inodes fetched from the master. */
   private final Set<Long> mPinnedInodes = new HashSet<>();
@@ -147,11 +154,7 @@ public class TieredBlockStore implements BlockStore {
   public long lockBlock(long sessionId, long blockId) throws BlockDoesNotExistException {
     LOG.debug("lockBlock: sessionId={}, blockId={}", sessionId, blockId);
     long lockId = mLockManager.lockBlock(sessionId, blockId, BlockLockType.READ);
-    boolean hasBlock;
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      hasBlock = mMetaManager.hasBlockMeta(blockId);
-    }
-    if (hasBlock) {
+    if (mMetaManager.hasBlockMeta(blockId)) {
       return lockId;
     }
 
@@ -163,11 +166,7 @@ public class TieredBlockStore implements BlockStore {
   public long lockBlockNoException(long sessionId, long blockId) {
     LOG.debug("lockBlockNoException: sessionId={}, blockId={}", sessionId, blockId);
     long lockId = mLockManager.lockBlock(sessionId, blockId, BlockLockType.READ);
-    boolean hasBlock;
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      hasBlock = mMetaManager.hasBlockMeta(blockId);
-    }
-    if (hasBlock) {
+    if (mMetaManager.hasBlockMeta(blockId)) {
       return lockId;
     }
 
@@ -207,10 +206,8 @@ public class TieredBlockStore implements BlockStore {
       throws BlockDoesNotExistException, InvalidWorkerStateException, IOException {
     LOG.debug("getBlockReader: sessionId={}, blockId={}, lockId={}", sessionId, blockId, lockId);
     mLockManager.validateLock(sessionId, blockId, lockId);
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      BlockMeta blockMeta = mMetaManager.getBlockMeta(blockId);
-      return new LocalFileBlockReader(blockMeta.getPath());
-    }
+    BlockMeta blockMeta = mMetaManager.getBlockMeta(blockId);
+    return new LocalFileBlockReader(blockMeta.getPath());
   }
 
   @Override
@@ -238,9 +235,7 @@ public class TieredBlockStore implements BlockStore {
   @Override
   public BlockMeta getVolatileBlockMeta(long blockId) throws BlockDoesNotExistException {
     LOG.debug("getVolatileBlockMeta: blockId={}", blockId);
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      return mMetaManager.getBlockMeta(blockId);
-    }
+    return mMetaManager.getBlockMeta(blockId);
   }
 
   @Override
@@ -248,9 +243,7 @@ public class TieredBlockStore implements BlockStore {
       throws BlockDoesNotExistException, InvalidWorkerStateException {
     LOG.debug("getBlockMeta: sessionId={}, blockId={}, lockId={}", sessionId, blockId, lockId);
     mLockManager.validateLock(sessionId, blockId, lockId);
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      return mMetaManager.getBlockMeta(blockId);
-    }
+    return mMetaManager.getBlockMeta(blockId);
   }
 
   @Override
@@ -267,10 +260,8 @@ public class TieredBlockStore implements BlockStore {
       IOException {
     LOG.debug("commitBlock: sessionId={}, blockId={}", sessionId, blockId);
     BlockStoreLocation loc = commitBlockInternal(sessionId, blockId, pinOnCreate);
-    synchronized (mBlockStoreEventListeners) {
-      for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-        listener.onCommitBlock(sessionId, blockId, loc);
-      }
+    for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+      listener.onCommitBlock(sessionId, blockId, loc);
     }
   }
 
@@ -279,10 +270,8 @@ public class TieredBlockStore implements BlockStore {
       BlockDoesNotExistException, InvalidWorkerStateException, IOException {
     LOG.debug("abortBlock: sessionId={}, blockId={}", sessionId, blockId);
     abortBlockInternal(sessionId, blockId);
-    synchronized (mBlockStoreEventListeners) {
-      for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-        listener.onAbortBlock(sessionId, blockId);
-      }
+    for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+      listener.onAbortBlock(sessionId, blockId);
     }
   }
 
@@ -323,11 +312,9 @@ public class TieredBlockStore implements BlockStore {
     while (retryPolicy.attempt()) {
       MoveBlockResult result = moveBlockInternal(sessionId, blockId, oldLocation, newLocation);
       if (result.getSuccess()) {
-        synchronized (mBlockStoreEventListeners) {
-          for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-            listener.onMoveBlockByClient(sessionId, blockId, result.getSrcLocation(),
-                result.getDstLocation());
-          }
+        for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+          listener.onMoveBlockByClient(sessionId, blockId, result.getSrcLocation(),
+              result.getDstLocation());
         }
         return;
       }
@@ -349,27 +336,19 @@ public class TieredBlockStore implements BlockStore {
       throws InvalidWorkerStateException, BlockDoesNotExistException, IOException {
     LOG.debug("removeBlock: sessionId={}, blockId={}, location={}", sessionId, blockId, location);
     removeBlockInternal(sessionId, blockId, location);
-    synchronized (mBlockStoreEventListeners) {
-      for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-        listener.onRemoveBlockByClient(sessionId, blockId);
-      }
+    for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+      listener.onRemoveBlockByClient(sessionId, blockId);
     }
   }
 
   @Override
   public void accessBlock(long sessionId, long blockId) throws BlockDoesNotExistException {
     LOG.debug("accessBlock: sessionId={}, blockId={}", sessionId, blockId);
-    boolean hasBlock;
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      hasBlock = mMetaManager.hasBlockMeta(blockId);
-    }
-    if (!hasBlock) {
+    if (!mMetaManager.hasBlockMeta(blockId)) {
       throw new BlockDoesNotExistException(ExceptionMessage.NO_BLOCK_ID_FOUND, blockId);
     }
-    synchronized (mBlockStoreEventListeners) {
-      for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-        listener.onAccessBlock(sessionId, blockId);
-      }
+    for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+      listener.onAccessBlock(sessionId, blockId);
     }
   }
 
@@ -407,9 +386,7 @@ public class TieredBlockStore implements BlockStore {
   @Override
   public boolean hasBlockMeta(long blockId) {
     LOG.debug("hasBlockMeta: blockId={}", blockId);
-    try (LockResource r = new LockResource(mMetadataReadLock)) {
-      return mMetaManager.hasBlockMeta(blockId);
-    }
+    return mMetaManager.hasBlockMeta(blockId);
   }
 
   @Override
@@ -437,9 +414,7 @@ public class TieredBlockStore implements BlockStore {
   @Override
   public void registerBlockStoreEventListener(BlockStoreEventListener listener) {
     LOG.debug("registerBlockStoreEventListener: listener={}", listener);
-    synchronized (mBlockStoreEventListeners) {
-      mBlockStoreEventListeners.add(listener);
-    }
+    mBlockStoreEventListeners.add(listener);
   }
 
   /**
@@ -675,10 +650,8 @@ public class TieredBlockStore implements BlockStore {
         LOG.info("Failed to evict blockId {}, it could be already deleted", blockInfo.getFirst());
         continue;
       }
-      synchronized (mBlockStoreEventListeners) {
-        for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-          listener.onRemoveBlockByWorker(sessionId, blockInfo.getFirst());
-        }
+      for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+        listener.onRemoveBlockByWorker(sessionId, blockInfo.getFirst());
       }
     }
     // 2. transfer blocks among tiers.
@@ -717,11 +690,9 @@ public class TieredBlockStore implements BlockStore {
           continue;
         }
         if (moveResult.getSuccess()) {
-          synchronized (mBlockStoreEventListeners) {
-            for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-              listener.onMoveBlockByWorker(sessionId, blockId, moveResult.getSrcLocation(),
-                  newLocation);
-            }
+          for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+            listener.onMoveBlockByWorker(sessionId, blockId, moveResult.getSrcLocation(),
+                newLocation);
           }
         }
       }
@@ -932,11 +903,9 @@ public class TieredBlockStore implements BlockStore {
     try (LockResource r = new LockResource(mMetadataWriteLock)) {
       String tierAlias = dir.getParentTier().getTierAlias();
       dir.getParentTier().removeStorageDir(dir);
-      synchronized (mBlockStoreEventListeners) {
-        for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
-          dir.getBlockIds().forEach(listener::onBlockLost);
-          listener.onStorageLost(tierAlias, dir.getDirPath());
-        }
+      for (BlockStoreEventListener listener : mBlockStoreEventListeners) {
+        dir.getBlockIds().forEach(listener::onBlockLost);
+        listener.onStorageLost(tierAlias, dir.getDirPath());
       }
     }
   }
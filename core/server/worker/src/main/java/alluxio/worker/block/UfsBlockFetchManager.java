@@ -0,0 +1,226 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.WorkerMetrics;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Tracks the UFS blocks which are being read from the under storage and cached into the local
+ * block store, so that concurrent readers of the same block are served from the temp block being
+ * cached instead of each reading the block from the under storage.
+ *
+ * The {@link UnderFileSystemBlockReader} which creates the temp block of a UFS block starts a
+ * {@link Fetch}, and reports the number of bytes written to the temp block as it reads them from
+ * the under storage. The readers which open the block while the fetch is in progress join it, and
+ * wait for the bytes they read to be written. If the fetch fails, or does not progress for
+ * {@link PropertyKey#WORKER_UFS_BLOCK_READ_COALESCE_WAIT_TIMEOUT}, they read the rest of the block
+ * from the under storage themselves.
+ */
+@ThreadSafe
+public final class UfsBlockFetchManager {
+  private static final Counter FETCHES = MetricsSystem.counter(WorkerMetrics.UFS_BLOCK_FETCHES);
+  private static final Counter READS_COALESCED =
+      MetricsSystem.counter(WorkerMetrics.UFS_BLOCK_READS_COALESCED);
+  private static final Counter READS_COALESCED_FALLBACK =
+      MetricsSystem.counter(WorkerMetrics.UFS_BLOCK_READS_COALESCED_FALLBACK);
+
+  /** The fetches in progress, by block id. */
+  private final ConcurrentHashMap<Long, Fetch> mFetches = new ConcurrentHashMap<>();
+  private final boolean mEnabled;
+  private final long mWaitTimeoutMs;
+
+  /**
+   * Creates a new {@link UfsBlockFetchManager} configured by the worker configuration.
+   */
+  public UfsBlockFetchManager() {
+    this(ServerConfiguration.getBoolean(PropertyKey.WORKER_UFS_BLOCK_READ_COALESCE_ENABLED),
+        ServerConfiguration.getMs(PropertyKey.WORKER_UFS_BLOCK_READ_COALESCE_WAIT_TIMEOUT));
+  }
+
+  /**
+   * @param enabled whether concurrent reads of a block are coalesced
+   * @param waitTimeoutMs the time to wait for the progress of a fetch
+   */
+  UfsBlockFetchManager(boolean enabled, long waitTimeoutMs) {
+    mEnabled = enabled;
+    mWaitTimeoutMs = waitTimeoutMs;
+  }
+
+  /**
+   * Starts a fetch of a block, which other readers of the block can join until it is finished.
+   *
+   * @param blockId the block id
+   * @param tempBlockPath the path of the temp block the block is cached to
+   * @return the fetch, or null if reads are not coalesced
+   */
+  @Nullable
+  public Fetch start(long blockId, String tempBlockPath) {
+    if (!mEnabled) {
+      return null;
+    }
+    Fetch fetch = new Fetch(blockId, tempBlockPath);
+    // Only one reader can create the temp block of a block, so a fetch left in the map has been
+    // abandoned and can be replaced.
+    Fetch previous = mFetches.put(blockId, fetch);
+    if (previous != null) {
+      previous.finish(false);
+    }
+    FETCHES.inc();
+    return fetch;
+  }
+
+  /**
+   * @param blockId the block id
+   * @return the fetch of the block in progress, or null if there is none
+   */
+  @Nullable
+  public Fetch join(long blockId) {
+    if (!mEnabled) {
+      return null;
+    }
+    Fetch fetch = mFetches.get(blockId);
+    if (fetch != null) {
+      READS_COALESCED.inc();
+    }
+    return fetch;
+  }
+
+  /**
+   * Finishes a fetch. The readers which joined it read the block from the temp block if it was
+   * completed, or from the under storage otherwise.
+   *
+   * @param fetch the fetch
+   * @param completed whether the whole block was written to the temp block
+   */
+  public void finish(Fetch fetch, boolean completed) {
+    mFetches.remove(fetch.mBlockId, fetch);
+    fetch.finish(completed);
+  }
+
+  /**
+   * Records that a reader left a fetch before reading the whole block.
+   */
+  public void leave() {
+    READS_COALESCED_FALLBACK.inc();
+  }
+
+  /**
+   * @return the time to wait for the progress of a fetch
+   */
+  public long getWaitTimeoutMs() {
+    return mWaitTimeoutMs;
+  }
+
+  /**
+   * @return the number of fetches in progress
+   */
+  public int size() {
+    return mFetches.size();
+  }
+
+  /**
+   * A read of a block from the under storage into a temp block.
+   */
+  @ThreadSafe
+  public static final class Fetch {
+    private final long mBlockId;
+    private final String mTempBlockPath;
+    /** The number of bytes written to the temp block. */
+    @GuardedBy("this")
+    private long mAvailable;
+    @GuardedBy("this")
+    private boolean mFinished;
+    @GuardedBy("this")
+    private boolean mFailed;
+
+    private Fetch(long blockId, String tempBlockPath) {
+      mBlockId = blockId;
+      mTempBlockPath = tempBlockPath;
+    }
+
+    /**
+     * @return the path of the temp block the block is cached to
+     */
+    public String getTempBlockPath() {
+      return mTempBlockPath;
+    }
+
+    /**
+     * Records that bytes were written to the temp block, and wakes up the readers waiting for
+     * them.
+     *
+     * @param available the number of bytes written to the temp block
+     */
+    public synchronized void advance(long available) {
+      if (available > mAvailable) {
+        mAvailable = available;
+        notifyAll();
+      }
+    }
+
+    /**
+     * Waits until the given number of bytes are written to the temp block, or the fetch fails.
+     *
+     * @param position the number of bytes to wait for
+     * @param timeoutMs the time to wait for the progress of the fetch
+     * @return the number of bytes written to the temp block, at least position, or -1 if the
+     *         fetch failed or did not progress for the timeout
+     */
+    public synchronized long await(long position, long timeoutMs) throws InterruptedException {
+      long deadlineNs = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+      long available = mAvailable;
+      while (mAvailable < position && !mFailed && !mFinished) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNs - System.nanoTime());
+        if (remainingMs <= 0) {
+          return -1;
+        }
+        wait(remainingMs);
+        if (mAvailable > available) {
+          // The timeout is on the progress of the fetch rather than on the whole wait.
+          available = mAvailable;
+          deadlineNs = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        }
+      }
+      return mAvailable >= position && !mFailed ? mAvailable : -1;
+    }
+
+    private synchronized void finish(boolean completed) {
+      mFinished = true;
+      mFailed = !completed;
+      notifyAll();
+    }
+
+    @Override
+    public synchronized String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("blockId", mBlockId)
+          .add("tempBlockPath", mTempBlockPath)
+          .add("available", mAvailable)
+          .add("finished", mFinished)
+          .add("failed", mFailed)
+          .toString();
+    }
+  }
+}
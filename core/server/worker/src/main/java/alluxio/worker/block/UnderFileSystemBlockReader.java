@@ -29,6 +29,7 @@ import alluxio.underfs.options.OpenOptions;
 import alluxio.util.IdUtils;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.BlockWriter;
+import alluxio.worker.block.meta.TempBlockMeta;
 import alluxio.worker.block.meta.UnderFileSystemBlockMeta;
 
 import com.google.common.base.Preconditions;
@@ -38,7 +39,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -46,6 +50,10 @@ import javax.annotation.concurrent.NotThreadSafe;
 /**
  * This class implements a {@link BlockReader} to read a block directly from UFS, and
  * optionally cache the block to the Alluxio worker if the whole block it is read.
+ *
+ * When another reader is already caching the block, the reader joins its
+ * {@link UfsBlockFetchManager.Fetch} and reads the block from the temp block as it is written,
+ * rather than reading it from UFS again.
  */
 @NotThreadSafe
 public final class UnderFileSystemBlockReader implements BlockReader {
@@ -75,6 +83,14 @@ public final class UnderFileSystemBlockReader implements BlockReader {
   private final UfsInputStreamManager mUfsInstreamManager;
   /** The ufs client resource. */
   private CloseableResource<UnderFileSystem> mUfsResource;
+  /** The manager for the fetches of UFS blocks into temp blocks. */
+  private final UfsBlockFetchManager mUfsBlockFetchManager;
+  /** The fetch of the block this reader is caching, null if it does not cache the block. */
+  private UfsBlockFetchManager.Fetch mFetch;
+  /** The fetch of another reader this reader reads the block from, null if it reads from UFS. */
+  private UfsBlockFetchManager.Fetch mJoinedFetch;
+  /** The channel to read the temp block of the joined fetch. */
+  private FileChannel mJoinedFetchChannel;
 
   /**
    * The position of mUnderFileSystemInputStream (if not null) is blockStart + mInStreamPos.
@@ -93,13 +109,14 @@ public final class UnderFileSystemBlockReader implements BlockReader {
    * @param localBlockStore the Local block store
    * @param ufsManager the manager of ufs
    * @param ufsInstreamManager the manager of ufs instreams
+   * @param ufsBlockFetchManager the manager of ufs block fetches
    * @return the block reader
    */
   public static UnderFileSystemBlockReader create(UnderFileSystemBlockMeta blockMeta, long offset,
-      BlockStore localBlockStore, UfsManager ufsManager, UfsInputStreamManager ufsInstreamManager)
-      throws IOException {
-    UnderFileSystemBlockReader ufsBlockReader =
-        new UnderFileSystemBlockReader(blockMeta, localBlockStore, ufsManager, ufsInstreamManager);
+      BlockStore localBlockStore, UfsManager ufsManager, UfsInputStreamManager ufsInstreamManager,
+      UfsBlockFetchManager ufsBlockFetchManager) throws IOException {
+    UnderFileSystemBlockReader ufsBlockReader = new UnderFileSystemBlockReader(blockMeta,
+        localBlockStore, ufsManager, ufsInstreamManager, ufsBlockFetchManager);
     ufsBlockReader.init(offset);
     return ufsBlockReader;
   }
@@ -111,15 +128,18 @@ public final class UnderFileSystemBlockReader implements BlockReader {
    * @param localBlockStore the Local block store
    * @param ufsManager the manager of ufs
    * @param ufsInstreamManager the manager of ufs instreams
+   * @param ufsBlockFetchManager the manager of ufs block fetches
    */
   private UnderFileSystemBlockReader(UnderFileSystemBlockMeta blockMeta, BlockStore localBlockStore,
-      UfsManager ufsManager, UfsInputStreamManager ufsInstreamManager) throws IOException {
+      UfsManager ufsManager, UfsInputStreamManager ufsInstreamManager,
+      UfsBlockFetchManager ufsBlockFetchManager) throws IOException {
     mInitialBlockSize = ServerConfiguration.getBytes(PropertyKey.WORKER_FILE_BUFFER_SIZE);
     mBlockMeta = blockMeta;
     mLocalBlockStore = localBlockStore;
     mInStreamPos = -1;
     mUfsManager = ufsManager;
     mUfsInstreamManager = ufsInstreamManager;
+    mUfsBlockFetchManager = ufsBlockFetchManager;
     UfsManager.UfsClient ufsClient = mUfsManager.get(mBlockMeta.getMountId());
     mUfsResource = ufsClient.acquireUfsResource();
     mUfsMountPointUri = ufsClient.getUfsMountPointUri();
@@ -131,6 +151,9 @@ public final class UnderFileSystemBlockReader implements BlockReader {
    * @param offset the position within the block to start the read
    */
   private void init(long offset) throws IOException {
+    if (joinFetch(offset)) {
+      return;
+    }
     updateUnderFileSystemInputStream(offset);
     updateBlockWriter(offset);
   }
@@ -148,6 +171,12 @@ public final class UnderFileSystemBlockReader implements BlockReader {
   @Override
   public ByteBuffer read(long offset, long length) throws IOException {
     Preconditions.checkState(!mClosed);
+    if (mJoinedFetch != null) {
+      ByteBuffer buffer = readJoinedFetch(offset, length);
+      if (buffer != null) {
+        return buffer;
+      }
+    }
     updateUnderFileSystemInputStream(offset);
     updateBlockWriter(offset);
 
@@ -185,6 +214,7 @@ public final class UnderFileSystemBlockReader implements BlockReader {
         ByteBuffer buffer = ByteBuffer.wrap(data, (int) (mBlockWriter.getPosition() - offset),
             (int) (mInStreamPos - mBlockWriter.getPosition()));
         mBlockWriter.append(buffer.duplicate());
+        advanceFetch();
       } catch (Exception e) {
         LOG.warn("Failed to cache data read from UFS (on read()): {}", e.getMessage());
         try {
@@ -206,6 +236,15 @@ public final class UnderFileSystemBlockReader implements BlockReader {
   @Override
   public int transferTo(ByteBuf buf) throws IOException {
     Preconditions.checkState(!mClosed);
+    if (mJoinedFetch != null) {
+      int bytesRead = transferFromJoinedFetch(buf);
+      if (mJoinedFetch != null) {
+        return bytesRead;
+      }
+      // The fetch failed, read the rest of the block from UFS.
+      updateUnderFileSystemInputStream(mInStreamPos);
+      updateBlockWriter(mInStreamPos);
+    }
     if (mUnderFileSystemInputStream == null) {
       return -1;
     }
@@ -235,6 +274,7 @@ public final class UnderFileSystemBlockReader implements BlockReader {
               mInStreamPos - mBlockWriter.getPosition());
           mBlockWriter.append(bufCopy);
         }
+        advanceFetch();
       } catch (Exception e) {
         LOG.warn("Failed to cache data read from UFS (on transferTo()): {}", e.getMessage());
         cancelBlockWriter();
@@ -259,6 +299,8 @@ public final class UnderFileSystemBlockReader implements BlockReader {
       // This aborts the block if the block is not fully read.
       updateBlockWriter(mBlockMeta.getBlockSize());
 
+      leaveFetch();
+
       if (mUnderFileSystemInputStream != null) {
         mUfsInstreamManager.release(mUnderFileSystemInputStream);
         mUnderFileSystemInputStream = null;
@@ -267,6 +309,11 @@ public final class UnderFileSystemBlockReader implements BlockReader {
       if (mBlockWriter != null) {
         mBlockWriter.close();
       }
+      if (mFetch != null) {
+        // The block writer is only left open when the whole block is written.
+        mUfsBlockFetchManager.finish(mFetch, mBlockWriter != null);
+        mFetch = null;
+      }
 
       mUfsResource.close();
     } finally {
@@ -314,6 +361,10 @@ public final class UnderFileSystemBlockReader implements BlockReader {
     if (mBlockWriter == null) {
       return;
     }
+    if (mFetch != null) {
+      mUfsBlockFetchManager.finish(mFetch, false);
+      mFetch = null;
+    }
     try {
       mBlockWriter.close();
       mBlockWriter = null;
@@ -346,6 +397,11 @@ public final class UnderFileSystemBlockReader implements BlockReader {
             mInitialBlockSize);
         mBlockWriter = mLocalBlockStore.getBlockWriter(
             mBlockMeta.getSessionId(), mBlockMeta.getBlockId());
+        TempBlockMeta tempBlock =
+            mLocalBlockStore.getTempBlockMeta(mBlockMeta.getSessionId(), mBlockMeta.getBlockId());
+        if (tempBlock != null) {
+          mFetch = mUfsBlockFetchManager.start(mBlockMeta.getBlockId(), tempBlock.getPath());
+        }
       }
     } catch (BlockAlreadyExistsException e) {
       // This can happen when there are concurrent UFS readers who are all trying to cache to block.
@@ -361,4 +417,133 @@ public final class UnderFileSystemBlockReader implements BlockReader {
       mBlockWriter = null;
     }
   }
+
+  /**
+   * Reports the bytes written to the temp block to the readers which joined the fetch.
+   */
+  private void advanceFetch() {
+    if (mFetch != null) {
+      mFetch.advance(mBlockWriter.getPosition());
+    }
+  }
+
+  /**
+   * Joins the fetch of the block by another reader, if there is one in progress.
+   *
+   * @param offset the position within the block to start the read
+   * @return whether the fetch was joined
+   */
+  private boolean joinFetch(long offset) {
+    if (offset >= mBlockMeta.getBlockSize()) {
+      return false;
+    }
+    UfsBlockFetchManager.Fetch fetch = mUfsBlockFetchManager.join(mBlockMeta.getBlockId());
+    if (fetch == null) {
+      return false;
+    }
+    try {
+      // The channel keeps reading the temp block after it is committed or removed.
+      mJoinedFetchChannel = new RandomAccessFile(fetch.getTempBlockPath(), "r").getChannel();
+    } catch (IOException e) {
+      LOG.debug("Failed to open temp block {} of UFS block {}, reading from UFS: {}",
+          fetch.getTempBlockPath(), mBlockMeta.getBlockId(), e.getMessage());
+      mUfsBlockFetchManager.leave();
+      return false;
+    }
+    mJoinedFetch = fetch;
+    mInStreamPos = offset;
+    return true;
+  }
+
+  /**
+   * Leaves the joined fetch, after which the block is read from UFS.
+   */
+  private void leaveFetch() throws IOException {
+    if (mJoinedFetch == null) {
+      return;
+    }
+    mJoinedFetch = null;
+    try {
+      mJoinedFetchChannel.close();
+    } finally {
+      mJoinedFetchChannel = null;
+    }
+  }
+
+  /**
+   * Waits for the bytes to be written to the temp block of the joined fetch, and leaves the
+   * fetch if it fails.
+   *
+   * @param position the number of bytes to wait for
+   * @return the number of bytes written to the temp block, or -1 if the fetch was left
+   */
+  private long awaitJoinedFetch(long position) throws IOException {
+    long available;
+    try {
+      available = mJoinedFetch.await(position, mUfsBlockFetchManager.getWaitTimeoutMs());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(e.getMessage());
+    }
+    if (available < 0) {
+      LOG.debug("Fetch {} of UFS block {} failed or stalled, reading from UFS.", mJoinedFetch,
+          mBlockMeta.getBlockId());
+      mUfsBlockFetchManager.leave();
+      leaveFetch();
+    }
+    return available;
+  }
+
+  /**
+   * Reads from the temp block of the joined fetch.
+   *
+   * @param offset the offset within the block
+   * @param length the number of bytes to read
+   * @return the data read, or null if the fetch was left
+   */
+  private ByteBuffer readJoinedFetch(long offset, long length) throws IOException {
+    long bytesToRead = Math.min(length, mBlockMeta.getBlockSize() - offset);
+    if (bytesToRead <= 0) {
+      return ByteBuffer.allocate(0);
+    }
+    if (awaitJoinedFetch(offset + bytesToRead) < 0) {
+      return null;
+    }
+    ByteBuffer data = ByteBuffer.allocate((int) bytesToRead);
+    while (data.hasRemaining()) {
+      if (mJoinedFetchChannel.read(data, offset + data.position()) == -1) {
+        break;
+      }
+    }
+    Preconditions.checkState(!data.hasRemaining(),
+        PreconditionMessage.NOT_ENOUGH_BYTES_READ.toString(), data.position(), bytesToRead,
+        mBlockMeta.getUnderFileSystemPath());
+    data.flip();
+    mInStreamPos = offset + bytesToRead;
+    return data;
+  }
+
+  /**
+   * Transfers the bytes already written to the temp block of the joined fetch, waiting for at
+   * least one byte to be written.
+   *
+   * @param buf the byte buffer
+   * @return the number of bytes read, -1 if it reaches EOF, or 0 if the fetch was left
+   */
+  private int transferFromJoinedFetch(ByteBuf buf) throws IOException {
+    if (mBlockMeta.getBlockSize() <= mInStreamPos) {
+      return -1;
+    }
+    long available = awaitJoinedFetch(mInStreamPos + 1);
+    if (available < 0) {
+      return 0;
+    }
+    int bytesToRead = (int) Math.min(buf.writableBytes(),
+        Math.min(available, mBlockMeta.getBlockSize()) - mInStreamPos);
+    int bytesRead = buf.writeBytes(mJoinedFetchChannel, mInStreamPos, bytesToRead);
+    if (bytesRead > 0) {
+      mInStreamPos += bytesRead;
+    }
+    return bytesRead;
+  }
 }
@@ -78,6 +78,9 @@ public final class UnderFileSystemBlockStore implements SessionCleanable {
   /** The manager for all ufs instream. */
   private final UfsInputStreamManager mUfsInstreamManager;
 
+  /** The manager for the fetches of ufs blocks being cached. */
+  private final UfsBlockFetchManager mUfsBlockFetchManager;
+
   /**
    * Creates an instance of {@link UnderFileSystemBlockStore}.
    *
@@ -88,6 +91,7 @@ public final class UnderFileSystemBlockStore implements SessionCleanable {
     mLocalBlockStore = localBlockStore;
     mUfsManager = ufsManager;
     mUfsInstreamManager = new UfsInputStreamManager();
+    mUfsBlockFetchManager = new UfsBlockFetchManager();
   }
 
   /**
@@ -240,7 +244,7 @@ public final class UnderFileSystemBlockStore implements SessionCleanable {
     }
     BlockReader reader =
         UnderFileSystemBlockReader.create(blockInfo.getMeta(), offset, mLocalBlockStore,
-            mUfsManager, mUfsInstreamManager);
+            mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     blockInfo.setBlockReader(reader);
     return reader;
   }
@@ -13,7 +13,6 @@ package alluxio.worker.block.evictor;
 
 import alluxio.conf.ServerConfiguration;
 import alluxio.conf.PropertyKey;
-import alluxio.collections.Pair;
 import alluxio.worker.block.BlockMetadataEvictorView;
 import alluxio.worker.block.BlockStoreLocation;
 import alluxio.worker.block.allocator.Allocator;
@@ -23,16 +22,8 @@ import alluxio.worker.block.meta.StorageDirView;
 import alluxio.worker.block.meta.StorageTierView;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Iterators;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -47,20 +38,26 @@ import javax.annotation.concurrent.NotThreadSafe;
  * combines LRU and LFU, it evicts blocks with small frequency or large recency. When
  * {@link #mStepFactor} is close to 0, LRFU is close to LFU. Conversely, LRFU is close to LRU
  * when {@link #mStepFactor} is close to 1.
+ *
+ * Since the CRF of every block decays by the same factor over the same time, the order of the
+ * blocks only changes when a block is accessed. Each block is therefore kept with the time
+ * independent priority ln(CRF(t)) + t * {@link #mDecayRate}, which sorts the blocks in the same
+ * order as their CRF at any time t. An access updates the priority of one block in O(log n), and
+ * eviction walks the blocks with the smallest CRF without decaying or sorting the others.
  */
 @NotThreadSafe
 public final class LRFUEvictor extends AbstractEvictor {
-  /** Map from block id to the last updated logic time count. */
-  private final Map<Long, Long> mBlockIdToLastUpdateTime = new ConcurrentHashMap<>();
-  // Map from block id to the CRF value of the block
-  private final Map<Long, Double> mBlockIdToCRFValue = new ConcurrentHashMap<>();
+  /** Blocks sorted by priority, the block with the minimum CRF first. */
+  private final SortedBlockSet mBlocks = new SortedBlockSet();
   /** In the range of [0, 1]. Closer to 0, LRFU closer to LFU. Closer to 1, LRFU closer to LRU. */
   private final double mStepFactor;
   /** The attenuation factor is in the range of [2, INF]. */
   private final double mAttenuationFactor;
+  /** The decay of ln(CRF) per logic time unit, which is ln({@link #mAttenuationFactor}) * step. */
+  private final double mDecayRate;
 
   /** Logic time count. */
-  private AtomicLong mLogicTimeCount = new AtomicLong(0L);
+  private long mLogicTimeCount = 0L;
 
   /**
    * Creates a new instance of {@link LRFUEvictor}.
@@ -77,66 +74,53 @@ public final class LRFUEvictor extends AbstractEvictor {
         "Step factor should be in the range of [0.0, 1.0]");
     Preconditions.checkArgument(mAttenuationFactor >= 2.0,
         "Attenuation factor should be no less than 2.0");
+    mDecayRate = Math.log(mAttenuationFactor) * mStepFactor;
 
     // Preloading blocks
     for (StorageTierView tier : mMetadataView.getTierViews()) {
       for (StorageDirView dir : tier.getDirViews()) {
         for (BlockMeta block : ((StorageDirEvictorView) dir).getEvictableBlocks()) {
-          mBlockIdToLastUpdateTime.put(block.getBlockId(), 0L);
-          mBlockIdToCRFValue.put(block.getBlockId(), 0.0);
+          mBlocks.put(block.getBlockId(), toPriority(0.0, 0L));
         }
       }
     }
   }
 
   /**
-   * Calculates weight of an access, which is the function value of
-   * F(t) = pow (1.0 / {@link #mAttenuationFactor}, t * {@link #mStepFactor}).
+   * Calculates the priority of a block from its CRF at some logic time.
    *
-   * @param logicTimeInterval time interval since that access to current
-   * @return Function value of F(t)
+   * @param crf the CRF of the block at the logic time
+   * @param logicTime the logic time
+   * @return the priority of the block
    */
-  private double calculateAccessWeight(long logicTimeInterval) {
-    return Math.pow(1.0 / mAttenuationFactor, logicTimeInterval * mStepFactor);
+  private double toPriority(double crf, long logicTime) {
+    return Math.log(crf) + logicTime * mDecayRate;
+  }
+
+  /**
+   * Calculates the CRF of a block at some logic time from its priority.
+   *
+   * @param priority the priority of the block
+   * @param logicTime the logic time
+   * @return the CRF of the block at the logic time
+   */
+  private double toCRF(double priority, long logicTime) {
+    return Math.exp(priority - logicTime * mDecayRate);
   }
 
   @Nullable
   @Override
   public EvictionPlan freeSpaceWithView(long bytesToBeAvailable, BlockStoreLocation location,
       BlockMetadataEvictorView view, Mode mode) {
-    synchronized (mBlockIdToLastUpdateTime) {
-      updateCRFValue();
-      mMetadataView = view;
-
-      List<BlockTransferInfo> toMove = new ArrayList<>();
-      List<Pair<Long, BlockStoreLocation>> toEvict = new ArrayList<>();
-      EvictionPlan plan = new EvictionPlan(toMove, toEvict);
-      StorageDirEvictorView candidateDir
-          = cascadingEvict(bytesToBeAvailable, location, plan, mode);
-
-      mMetadataView.clearBlockMarks();
-      if (candidateDir == null) {
-        return null;
-      }
-
-      return plan;
+    // The block iterator walks the sorted blocks in place, so accesses wait for the plan.
+    synchronized (mBlocks) {
+      return super.freeSpaceWithView(bytesToBeAvailable, location, view, mode);
     }
   }
 
   @Override
   protected Iterator<Long> getBlockIterator() {
-    return Iterators.transform(getSortedCRF().iterator(), Entry::getKey);
-  }
-
-  /**
-   * Sorts all blocks in ascending order of CRF.
-   *
-   * @return the sorted CRF of all blocks
-   */
-  private List<Map.Entry<Long, Double>> getSortedCRF() {
-    List<Map.Entry<Long, Double>> sortedCRF = new ArrayList<>(mBlockIdToCRFValue.entrySet());
-    sortedCRF.sort(Comparator.comparingDouble(Entry::getValue));
-    return sortedCRF;
+    return mBlocks.iterator();
   }
 
   @Override
@@ -166,67 +150,39 @@ public final class LRFUEvictor extends AbstractEvictor {
 
   @Override
   protected void onRemoveBlockFromIterator(long blockId) {
-    mBlockIdToLastUpdateTime.remove(blockId);
-    mBlockIdToCRFValue.remove(blockId);
-  }
-
-  /**
-   * This function is used to update CRF of all the blocks according to current logic time. When
-   * some block is accessed in some time, only CRF of that block itself will be updated to current
-   * time, other blocks who are not accessed recently will only be updated until
-   * {@link #freeSpaceWithView(long, BlockStoreLocation, BlockMetadataEvictorView)} is called
-   * because blocks need to be sorted in the increasing order of CRF. When this function is called,
-   * {@link #mBlockIdToLastUpdateTime} and {@link #mBlockIdToCRFValue} need to be locked in case
-   * of the changing of values.
-   */
-  private void updateCRFValue() {
-    long currentLogicTime = mLogicTimeCount.get();
-    for (Entry<Long, Double> entry : mBlockIdToCRFValue.entrySet()) {
-      long blockId = entry.getKey();
-      double crfValue = entry.getValue();
-      mBlockIdToCRFValue.put(blockId, crfValue
-          * calculateAccessWeight(currentLogicTime - mBlockIdToLastUpdateTime.get(blockId)));
-      mBlockIdToLastUpdateTime.put(blockId, currentLogicTime);
-    }
+    // Called with the lock held by freeSpaceWithView.
+    mBlocks.remove(blockId);
   }
 
   /**
-   * Updates {@link #mBlockIdToLastUpdateTime} and {@link #mBlockIdToCRFValue} when block is
-   * accessed or committed. Only CRF of the accessed or committed block will be updated, CRF
-   * of other blocks will be lazily updated (only when {@link #updateCRFValue()} is called).
-   * If the block is updated at the first time, CRF of the block will be set to 1.0, otherwise
-   * the CRF of the block will be set to {1.0 + old CRF * F(current time - last update time)}.
+   * Updates the priority of a block when it is accessed or committed. Only the priority of the
+   * accessed or committed block changes. If the block is updated at the first time, CRF of the
+   * block will be set to 1.0, otherwise the CRF of the block will be set to
+   * {1.0 + old CRF * F(current time - last update time)}.
    *
    * @param blockId id of the block to be accessed or committed
    */
   private void updateOnAccessAndCommit(long blockId) {
-    synchronized (mBlockIdToLastUpdateTime) {
-      long currentLogicTime = mLogicTimeCount.incrementAndGet();
-      // update CRF value
+    synchronized (mBlocks) {
+      long currentLogicTime = ++mLogicTimeCount;
       // CRF(currentLogicTime)=CRF(lastUpdateTime)*F(currentLogicTime-lastUpdateTime)+F(0)
-      if (mBlockIdToCRFValue.containsKey(blockId)) {
-        mBlockIdToCRFValue.put(blockId, mBlockIdToCRFValue.get(blockId)
-            * calculateAccessWeight(currentLogicTime - mBlockIdToLastUpdateTime.get(blockId))
-            + 1.0);
-      } else {
-        mBlockIdToCRFValue.put(blockId, 1.0);
+      double crf = 1.0;
+      if (mBlocks.contains(blockId)) {
+        crf += toCRF(mBlocks.getPriority(blockId), currentLogicTime);
       }
-      // update currentLogicTime to lastUpdateTime
-      mBlockIdToLastUpdateTime.put(blockId, currentLogicTime);
+      mBlocks.put(blockId, toPriority(crf, currentLogicTime));
     }
   }
 
   /**
-   * Updates {@link #mBlockIdToLastUpdateTime} and {@link #mBlockIdToCRFValue} when block is
-   * removed.
+   * Removes a block from {@link #mBlocks} when it is removed.
    *
    * @param blockId id of the block to be removed
    */
   private void updateOnRemoveBlock(long blockId) {
-    synchronized (mBlockIdToLastUpdateTime) {
-      mLogicTimeCount.incrementAndGet();
-      mBlockIdToCRFValue.remove(blockId);
-      mBlockIdToLastUpdateTime.remove(blockId);
+    synchronized (mBlocks) {
+      mLogicTimeCount++;
+      mBlocks.remove(blockId);
     }
   }
 }
@@ -19,13 +19,9 @@ import alluxio.worker.block.meta.StorageDirEvictorView;
 import alluxio.worker.block.meta.StorageDirView;
 import alluxio.worker.block.meta.StorageTierView;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -34,19 +30,15 @@ import javax.annotation.concurrent.NotThreadSafe;
  */
 @NotThreadSafe
 public class LRUEvictor extends AbstractEvictor {
-  private static final int LINKED_HASH_MAP_INIT_CAPACITY = 200;
-  private static final float LINKED_HASH_MAP_INIT_LOAD_FACTOR = 0.75f;
-  private static final boolean LINKED_HASH_MAP_ACCESS_ORDERED = true;
-  private static final boolean UNUSED_MAP_VALUE = true;
-
   /**
-   * Access-ordered {@link java.util.LinkedHashMap} from blockId to {@link #UNUSED_MAP_VALUE}(just a
-   * placeholder to occupy the value), acts as a LRU double linked list where most recently accessed
-   * element is put at the tail while least recently accessed element is put at the head.
+   * Blocks sorted by the logic time of their last access, the least recently accessed block
+   * first. Accesses update the order in O(log n), and eviction walks the least recently used
+   * blocks without copying the others.
    */
-  protected Map<Long, Boolean> mLRUCache =
-      Collections.synchronizedMap(new LinkedHashMap<Long, Boolean>(LINKED_HASH_MAP_INIT_CAPACITY,
-          LINKED_HASH_MAP_INIT_LOAD_FACTOR, LINKED_HASH_MAP_ACCESS_ORDERED));
+  private final SortedBlockSet mLRUBlocks = new SortedBlockSet();
+
+  /** Logic time count, incremented on every access. */
+  private long mLogicTimeCount = 0L;
 
   /**
    * Creates a new instance of {@link LRUEvictor}.
@@ -62,46 +54,78 @@ public class LRUEvictor extends AbstractEvictor {
       for (StorageDirView dirView : tierView.getDirViews()) {
         for (BlockMeta blockMeta : ((StorageDirEvictorView) dirView)
             .getEvictableBlocks()) { // all blocks with initial view
-          mLRUCache.put(blockMeta.getBlockId(), UNUSED_MAP_VALUE);
+          updateOnAccess(blockMeta.getBlockId());
         }
       }
     }
   }
 
+  @Nullable
+  @Override
+  public EvictionPlan freeSpaceWithView(long bytesToBeAvailable, BlockStoreLocation location,
+      BlockMetadataEvictorView view, Mode mode) {
+    // The block iterator walks the sorted blocks in place, so accesses wait for the plan.
+    synchronized (mLRUBlocks) {
+      return super.freeSpaceWithView(bytesToBeAvailable, location, view, mode);
+    }
+  }
+
   @Override
   protected Iterator<Long> getBlockIterator() {
-    List<Long> blocks = new ArrayList<>(mLRUCache.keySet());
-    return blocks.iterator();
+    return mLRUBlocks.iterator();
   }
 
   @Override
   public void onAccessBlock(long sessionId, long blockId) {
-    mLRUCache.put(blockId, UNUSED_MAP_VALUE);
+    updateOnAccess(blockId);
   }
 
   @Override
   public void onCommitBlock(long sessionId, long blockId, BlockStoreLocation location) {
     // Since the temp block has been committed, update Evictor about the new added blocks
-    mLRUCache.put(blockId, UNUSED_MAP_VALUE);
+    updateOnAccess(blockId);
   }
 
   @Override
   public void onRemoveBlockByClient(long sessionId, long blockId) {
-    mLRUCache.remove(blockId);
+    updateOnRemoveBlock(blockId);
   }
 
   @Override
   public void onRemoveBlockByWorker(long sessionId, long blockId) {
-    mLRUCache.remove(blockId);
+    updateOnRemoveBlock(blockId);
   }
 
   @Override
   public void onBlockLost(long blockId) {
-    mLRUCache.remove(blockId);
+    updateOnRemoveBlock(blockId);
   }
 
   @Override
   protected void onRemoveBlockFromIterator(long blockId) {
-    mLRUCache.remove(blockId);
+    // Called with the lock held by freeSpaceWithView.
+    mLRUBlocks.remove(blockId);
+  }
+
+  /**
+   * Moves a block to the most recently used end of {@link #mLRUBlocks}, adding it if needed.
+   *
+   * @param blockId id of the block accessed or committed
+   */
+  private void updateOnAccess(long blockId) {
+    synchronized (mLRUBlocks) {
+      mLRUBlocks.put(blockId, ++mLogicTimeCount);
+    }
+  }
+
+  /**
+   * Removes a block from {@link #mLRUBlocks}.
+   *
+   * @param blockId id of the block removed
+   */
+  private void updateOnRemoveBlock(long blockId) {
+    synchronized (mLRUBlocks) {
+      mLRUBlocks.remove(blockId);
+    }
   }
 }
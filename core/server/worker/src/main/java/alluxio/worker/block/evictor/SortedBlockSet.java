@@ -0,0 +1,127 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.evictor;
+
+import it.unimi.dsi.fastutil.longs.AbstractLongComparator;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongAVLTreeSet;
+import it.unimi.dsi.fastutil.longs.LongBidirectionalIterator;
+
+import java.util.Iterator;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A set of block ids sorted in ascending order of a priority, ties broken by block id. Setting
+ * the priority of a block takes O(log n), and iterating over the first k blocks takes
+ * O(log n + k) without copying the set.
+ *
+ * The priorities are kept in a primitive map and the order in a tree of primitive block ids whose
+ * comparator looks the priorities up, so the priority of a block must not change while the block
+ * is in the tree.
+ */
+@NotThreadSafe
+final class SortedBlockSet {
+  /** Map from block id to the priority of the block. */
+  private final Long2DoubleOpenHashMap mPriorities = new Long2DoubleOpenHashMap();
+  /** Block ids in ascending order of priority. */
+  private final LongAVLTreeSet mSortedBlocks = new LongAVLTreeSet(new AbstractLongComparator() {
+    @Override
+    public int compare(long blockId1, long blockId2) {
+      int res = Double.compare(mPriorities.get(blockId1), mPriorities.get(blockId2));
+      return res != 0 ? res : Long.compare(blockId1, blockId2);
+    }
+  });
+
+  /**
+   * @param blockId the block id
+   * @return whether the block is in the set
+   */
+  public boolean contains(long blockId) {
+    return mPriorities.containsKey(blockId);
+  }
+
+  /**
+   * @param blockId the block id, which must be in the set
+   * @return the priority of the block
+   */
+  public double getPriority(long blockId) {
+    return mPriorities.get(blockId);
+  }
+
+  /**
+   * Adds a block to the set, or updates its priority if it is already in the set.
+   *
+   * @param blockId the block id
+   * @param priority the priority of the block
+   */
+  public void put(long blockId, double priority) {
+    if (mPriorities.containsKey(blockId)) {
+      if (mPriorities.get(blockId) == priority) {
+        return;
+      }
+      mSortedBlocks.remove(blockId);
+    }
+    mPriorities.put(blockId, priority);
+    mSortedBlocks.add(blockId);
+  }
+
+  /**
+   * Removes a block from the set, if it is in the set.
+   *
+   * @param blockId the block id
+   */
+  public void remove(long blockId) {
+    if (mPriorities.containsKey(blockId)) {
+      mSortedBlocks.remove(blockId);
+      mPriorities.remove(blockId);
+    }
+  }
+
+  /**
+   * @return the number of blocks in the set
+   */
+  public int size() {
+    return mPriorities.size();
+  }
+
+  /**
+   * Returns an iterator over the block ids in ascending order of priority. The iterator supports
+   * removal, and is invalidated by any other modification of the set.
+   *
+   * @return the iterator
+   */
+  public Iterator<Long> iterator() {
+    LongBidirectionalIterator it = mSortedBlocks.iterator();
+    return new Iterator<Long>() {
+      private long mCurrent;
+
+      @Override
+      public boolean hasNext() {
+        return it.hasNext();
+      }
+
+      @Override
+      public Long next() {
+        mCurrent = it.nextLong();
+        return mCurrent;
+      }
+
+      @Override
+      public void remove() {
+        // The tree looks the priority up while removing the block, so the priority goes last.
+        it.remove();
+        mPriorities.remove(mCurrent);
+      }
+    };
+  }
+}
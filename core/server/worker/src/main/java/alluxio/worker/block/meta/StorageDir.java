@@ -35,11 +35,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a directory in a storage tier. It has a fixed capacity allocated to it on
  * instantiation. It contains the set of blocks currently in the storage directory.
+ *
+ * Changes to a storage dir must be serialized by the caller, but the lookups of blocks and temp
+ * blocks by id may run concurrently with them.
  */
 @NotThreadSafe
 public final class StorageDir {
@@ -48,9 +52,9 @@ public final class StorageDir {
   private final long mCapacityBytes;
   private final String mDirMedium;
   /** A map from block id to block metadata. */
-  private Map<Long, BlockMeta> mBlockIdToBlockMap;
+  private final Map<Long, BlockMeta> mBlockIdToBlockMap;
   /** A map from block id to temp block metadata. */
-  private Map<Long, TempBlockMeta> mBlockIdToTempBlockMap;
+  private final Map<Long, TempBlockMeta> mBlockIdToTempBlockMap;
   /** A map from session id to the set of temp blocks created by this session. */
   private Map<Long, Set<Long>> mSessionIdToTempBlockIdsMap;
   private AtomicLong mAvailableBytes;
@@ -68,8 +72,8 @@ public final class StorageDir {
     mCommittedBytes = new AtomicLong(0);
     mDirPath = dirPath;
     mDirMedium = dirMedium;
-    mBlockIdToBlockMap = new HashMap<>(200);
-    mBlockIdToTempBlockMap = new HashMap<>(200);
+    mBlockIdToBlockMap = new ConcurrentHashMap<>(200);
+    mBlockIdToTempBlockMap = new ConcurrentHashMap<>(200);
     mSessionIdToTempBlockIdsMap = new HashMap<>(200);
   }
 
@@ -35,6 +35,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -86,7 +87,8 @@ public final class StorageTier {
         "Tier medium type configuration should not be blank");
     String[] dirMedium = rawDirMedium.split(",");
 
-    mDirs = new ArrayList<>(dirPaths.length);
+    // Lookups iterate the dirs without locking, and dirs are only removed when they are lost.
+    mDirs = new CopyOnWriteArrayList<>();
     mLostStorage = new ArrayList<>();
 
     long totalCapacity = 0;
@@ -30,18 +30,24 @@ import alluxio.proto.dataserver.Protocol;
 import alluxio.retry.RetryPolicy;
 import alluxio.retry.TimeoutRetry;
 import alluxio.security.authentication.AuthenticatedUserInfo;
+import alluxio.util.io.BufferUtils;
 import alluxio.worker.block.BlockLockManager;
 import alluxio.worker.block.BlockWorker;
 import alluxio.worker.block.UnderFileSystemBlockReader;
 import alluxio.worker.block.io.BlockReader;
+import alluxio.worker.block.io.LocalFileBlockReader;
 
+import com.codahale.metrics.Counter;
 import com.google.common.base.Preconditions;
 import io.grpc.stub.StreamObserver;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.concurrent.ExecutorService;
 
@@ -58,6 +64,12 @@ public final class BlockReadHandler extends AbstractReadHandler<BlockReadRequest
   private static final Logger LOG = LoggerFactory.getLogger(BlockReadHandler.class);
   private static final long UFS_BLOCK_OPEN_TIMEOUT_MS =
       ServerConfiguration.getMs(PropertyKey.WORKER_UFS_BLOCK_OPEN_TIMEOUT_MS);
+  private static final Counter BYTES_READ_MAPPED =
+      MetricsSystem.counter(WorkerMetrics.BYTES_READ_MAPPED);
+
+  /** Whether to send chunks of local block files from memory-mapped regions. */
+  private final boolean mMmapEnabled =
+      ServerConfiguration.getBoolean(PropertyKey.WORKER_NETWORK_READER_MMAP_ENABLED);
 
   /** The Block Worker. */
   private final BlockWorker mWorker;
@@ -105,6 +117,19 @@ public final class BlockReadHandler extends AbstractReadHandler<BlockReadRequest
       openBlock(context, response);
       BlockReader blockReader = context.getBlockReader();
       Preconditions.checkState(blockReader != null);
+      if (mMmapEnabled && blockReader instanceof LocalFileBlockReader) {
+        long remaining = blockReader.getLength() - offset;
+        if (remaining <= 0) {
+          // Positional reads never move the channel position, so transferTo cannot be used to
+          // read past the end of the block.
+          return new NettyDataBuffer(Unpooled.EMPTY_BUFFER);
+        }
+        int mappedLen = (int) Math.min(len, remaining);
+        MappedByteBuffer mapped =
+            (MappedByteBuffer) ((LocalFileBlockReader) blockReader).read(offset, mappedLen);
+        BYTES_READ_MAPPED.inc(mappedLen);
+        return new NettyDataBuffer(new MappedChunk(mapped));
+      }
       ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer(len, len);
       try {
         while (buf.writableBytes() > 0 && blockReader.transferTo(buf) != -1) {
@@ -198,6 +223,27 @@ public final class BlockReadHandler extends AbstractReadHandler<BlockReadRequest
     }
   }
 
+  /**
+   * A buffer over a memory-mapped region of a block file. The gRPC transport keeps its own
+   * reference to the buffer until the chunk has been written to the socket, so the region is only
+   * unmapped once the last reference is released, rather than being left to the garbage collector.
+   */
+  private static final class MappedChunk extends CompositeByteBuf {
+    private final MappedByteBuffer mMapped;
+
+    MappedChunk(MappedByteBuffer mapped) {
+      super(PooledByteBufAllocator.DEFAULT, true, 1);
+      mMapped = mapped;
+      addComponent(true, Unpooled.wrappedBuffer(mapped));
+    }
+
+    @Override
+    protected void deallocate() {
+      super.deallocate();
+      BufferUtils.cleanDirectBuffer(mMapped);
+    }
+  }
+
   /**
    * Creates an instance of {@link AbstractReadHandler}.
    *
@@ -62,6 +62,7 @@ public class BlockWorkerImpl extends BlockWorkerGrpc.BlockWorkerImplBase {
   private static final boolean ZERO_COPY_ENABLED =
       ServerConfiguration.getBoolean(PropertyKey.WORKER_NETWORK_ZEROCOPY_ENABLED);
   private WorkerProcess mWorkerProcess;
+  private final FileSystemContext mFsContext;
   private final AsyncCacheRequestManager mRequestManager;
   private ReadResponseMarshaller mReadResponseMarshaller = new ReadResponseMarshaller();
   private WriteRequestMarshaller mWriteRequestMarshaller = new WriteRequestMarshaller();
@@ -71,12 +72,13 @@ public class BlockWorkerImpl extends BlockWorkerGrpc.BlockWorkerImplBase {
    * Creates a new implementation of gRPC BlockWorker interface.
    *
    * @param workerProcess the worker process
-   * @param fsContext context used to read blocks
+   * @param fsContext context used to read blocks and to forward written blocks to other workers
    * @param domainSocketEnabled is using domain sockets
    */
   public BlockWorkerImpl(WorkerProcess workerProcess, FileSystemContext fsContext,
       boolean domainSocketEnabled) {
     mWorkerProcess = workerProcess;
+    mFsContext = fsContext;
     mRequestManager = new AsyncCacheRequestManager(
         GrpcExecutors.ASYNC_CACHE_MANAGER_EXECUTOR, mWorkerProcess.getWorker(BlockWorker.class),
         fsContext);
@@ -123,8 +125,8 @@ public class BlockWorkerImpl extends BlockWorkerGrpc.BlockWorkerImplBase {
       responseObserver =
           new DataMessageServerRequestObserver<>(responseObserver, mWriteRequestMarshaller, null);
     }
-    DelegationWriteHandler handler = new DelegationWriteHandler(mWorkerProcess, responseObserver,
-        getAuthenticatedUserInfo(), mDomainSocketEnabled);
+    DelegationWriteHandler handler = new DelegationWriteHandler(mWorkerProcess, mFsContext,
+        responseObserver, getAuthenticatedUserInfo(), mDomainSocketEnabled);
     serverResponseObserver.setOnCancelHandler(handler::onCancel);
     return handler;
   }
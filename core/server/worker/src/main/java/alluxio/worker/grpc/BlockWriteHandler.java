@@ -13,27 +13,49 @@ package alluxio.worker.grpc;
 
 import alluxio.StorageTierAssoc;
 import alluxio.WorkerStorageTierAssoc;
+import alluxio.client.block.stream.DataWriter;
+import alluxio.client.block.stream.GrpcDataWriter;
+import alluxio.client.file.FileSystemContext;
 import alluxio.conf.PropertyKey;
 import alluxio.conf.ServerConfiguration;
+import alluxio.exception.status.InvalidArgumentException;
+import alluxio.grpc.GrpcUtils;
+import alluxio.grpc.WriteRequestCommand;
 import alluxio.grpc.WriteResponse;
 import alluxio.metrics.MetricsSystem;
 import alluxio.metrics.WorkerMetrics;
 import alluxio.network.protocol.databuffer.DataBuffer;
+import alluxio.network.protocol.databuffer.NettyDataBuffer;
+import alluxio.network.protocol.databuffer.NioDataBuffer;
 import alluxio.security.authentication.AuthenticatedUserInfo;
+import alluxio.wire.WorkerNetAddress;
 import alluxio.worker.block.BlockWorker;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 
 import io.grpc.stub.StreamObserver;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * This handler handles block write request. Check more information in
  * {@link AbstractWriteHandler}.
+ *
+ * When the write request carries a pipeline of workers, the handler forwards every chunk to the
+ * first worker of the pipeline before writing it locally, and asks that worker to forward the
+ * block to the rest of the pipeline. A request completes only after the next worker has
+ * acknowledged the completion of its own write, so the acks flow back along the pipeline. The
+ * writers to the next worker scale their close timeout by the length of the rest of the pipeline,
+ * see {@link GrpcDataWriter#create(FileSystemContext, WorkerNetAddress, long, WriteRequestCommand)}.
  */
 @edu.umd.cs.findbugs.annotations.SuppressFBWarnings(value = "BC_UNCONFIRMED_CAST_OF_RETURN_VALUE",
     justification = "false positive with superclass generics, "
@@ -51,8 +73,12 @@ public final class BlockWriteHandler extends AbstractWriteHandler<BlockWriteRequ
 
   private final boolean mDomainSocketEnabled;
 
+  /** The factory of the writers forwarding blocks to the next worker of a pipeline. */
+  @Nullable
+  private final ForwardWriterFactory mForwardWriterFactory;
+
   /**
-   * Creates an instance of {@link BlockWriteHandler}.
+   * Creates an instance of {@link BlockWriteHandler} which does not support pipelined writes.
    *
    * @param blockWorker the block worker
    * @param responseObserver the stream observer for the write response
@@ -61,8 +87,44 @@ public final class BlockWriteHandler extends AbstractWriteHandler<BlockWriteRequ
    */
   BlockWriteHandler(BlockWorker blockWorker, StreamObserver<WriteResponse> responseObserver,
       AuthenticatedUserInfo userInfo, boolean domainSocketEnabled) {
+    this(blockWorker, (ForwardWriterFactory) null, responseObserver, userInfo,
+        domainSocketEnabled);
+  }
+
+  /**
+   * Creates an instance of {@link BlockWriteHandler}.
+   *
+   * @param blockWorker the block worker
+   * @param fsContext the context used to forward blocks to the next worker of a pipeline
+   * @param responseObserver the stream observer for the write response
+   * @param userInfo the authenticated user info
+   * @param domainSocketEnabled whether reading block over domain socket
+   */
+  BlockWriteHandler(BlockWorker blockWorker, @Nullable FileSystemContext fsContext,
+      StreamObserver<WriteResponse> responseObserver, AuthenticatedUserInfo userInfo,
+      boolean domainSocketEnabled) {
+    this(blockWorker, fsContext == null ? null : (address, command) ->
+        GrpcDataWriter.create(fsContext, address, Long.MAX_VALUE, command),
+        responseObserver, userInfo, domainSocketEnabled);
+  }
+
+  /**
+   * Creates an instance of {@link BlockWriteHandler}.
+   *
+   * @param blockWorker the block worker
+   * @param forwardWriterFactory the factory of the writers forwarding blocks to the next worker
+   *        of a pipeline, or null if pipelined writes are not supported
+   * @param responseObserver the stream observer for the write response
+   * @param userInfo the authenticated user info
+   * @param domainSocketEnabled whether reading block over domain socket
+   */
+  @VisibleForTesting
+  BlockWriteHandler(BlockWorker blockWorker, @Nullable ForwardWriterFactory forwardWriterFactory,
+      StreamObserver<WriteResponse> responseObserver, AuthenticatedUserInfo userInfo,
+      boolean domainSocketEnabled) {
     super(responseObserver, userInfo);
     mWorker = blockWorker;
+    mForwardWriterFactory = forwardWriterFactory;
     mDomainSocketEnabled = domainSocketEnabled;
   }
 
@@ -84,12 +146,66 @@ public final class BlockWriteHandler extends AbstractWriteHandler<BlockWriteRequ
     return context;
   }
 
+  @Override
+  protected void handleCommand(WriteRequestCommand command, BlockWriteRequestContext context)
+      throws Exception {
+    if (command.getPipelineCount() > 0 && context.getForwardWriter() == null) {
+      context.setForwardWriter(createForwardWriter(command));
+    }
+  }
+
+  /**
+   * Creates a writer which forwards the block to the first worker of the pipeline of the given
+   * command. The command sent to that worker carries the rest of the pipeline.
+   *
+   * @param command the write request command received
+   * @return the writer forwarding the block
+   */
+  private DataWriter createForwardWriter(WriteRequestCommand command) throws Exception {
+    if (mForwardWriterFactory == null) {
+      throw new InvalidArgumentException(String.format(
+          "Pipelined writes are not supported for request type %s", command.getType()));
+    }
+    WriteRequestCommand forwardCommand = command.toBuilder()
+        .clearOffset()
+        .clearPipeline()
+        .addAllPipeline(command.getPipelineList().subList(1, command.getPipelineCount()))
+        .buildPartial();
+    return mForwardWriterFactory.create(GrpcUtils.fromProto(command.getPipeline(0)),
+        forwardCommand);
+  }
+
+  /**
+   * Cancels the forwarding of the block to the next worker of the pipeline, if any.
+   *
+   * @param context context of the request
+   */
+  private void cancelForwarding(BlockWriteRequestContext context) throws Exception {
+    DataWriter forwardWriter = context.getForwardWriter();
+    if (forwardWriter == null) {
+      return;
+    }
+    context.setForwardWriter(null);
+    try {
+      forwardWriter.cancel();
+    } finally {
+      forwardWriter.close();
+    }
+  }
+
   @Override
   protected void completeRequest(BlockWriteRequestContext context) throws Exception {
     WriteRequest request = context.getRequest();
     if (context.getBlockWriter() != null) {
       context.getBlockWriter().close();
     }
+    DataWriter forwardWriter = context.getForwardWriter();
+    if (forwardWriter != null) {
+      // Waits for the rest of the pipeline to commit the block before committing it here. A
+      // failure to close cancels the request, which does not close the writer again.
+      context.setForwardWriter(null);
+      forwardWriter.close();
+    }
     mWorker.commitBlock(request.getSessionId(), request.getId(), request.getPinOnCreate());
   }
 
@@ -99,25 +215,60 @@ public final class BlockWriteHandler extends AbstractWriteHandler<BlockWriteRequ
     if (context.getBlockWriter() != null) {
       context.getBlockWriter().close();
     }
+    cancelForwarding(context);
     mWorker.abortBlock(request.getSessionId(), request.getId());
   }
 
   @Override
   protected void cleanupRequest(BlockWriteRequestContext context) throws Exception {
     WriteRequest request = context.getRequest();
-    mWorker.cleanupSession(request.getSessionId());
+    try {
+      cancelForwarding(context);
+    } finally {
+      mWorker.cleanupSession(request.getSessionId());
+    }
   }
 
   @Override
   protected void flushRequest(BlockWriteRequestContext context)
       throws Exception {
-    // This is a no-op because block worker does not support flush currently.
+    // The block worker does not support flush currently, only the rest of the pipeline is
+    // flushed.
+    if (context.getForwardWriter() != null) {
+      context.getForwardWriter().flush();
+    }
   }
 
   @Override
   protected void writeBuf(BlockWriteRequestContext context,
       StreamObserver<WriteResponse> observer, DataBuffer buf, long pos) throws Exception {
     Preconditions.checkState(context != null);
+    if (context.getForwardWriter() == null) {
+      writeLocal(context, buf, pos);
+      return;
+    }
+    DataBuffer nettyBuf = toNettyBuf(buf);
+    try {
+      // Forwards the chunk first so that the next worker writes it while it is written here.
+      context.getForwardWriter().writeChunk(
+          ((ByteBuf) nettyBuf.getNettyOutput()).retainedDuplicate());
+      writeLocal(context, nettyBuf, pos);
+    } finally {
+      if (nettyBuf != buf) {
+        nettyBuf.release();
+      }
+    }
+  }
+
+  /**
+   * Writes a buffer to the local block.
+   *
+   * @param context context of the request
+   * @param buf the buffer to write
+   * @param pos the position of the end of the buffer in the block
+   */
+  private void writeLocal(BlockWriteRequestContext context, DataBuffer buf, long pos)
+      throws Exception {
     WriteRequest request = context.getRequest();
     long bytesReserved = context.getBytesReserved();
     if (bytesReserved < pos) {
@@ -134,4 +285,38 @@ public final class BlockWriteHandler extends AbstractWriteHandler<BlockWriteRequ
     int sz = buf.readableBytes();
     Preconditions.checkState(context.getBlockWriter().append(buf)  == sz);
   }
+
+  /**
+   * @param buf the buffer received
+   * @return a Netty buffer with the readable bytes of the given buffer, which is the given buffer
+   *         itself if it is already a Netty buffer
+   */
+  private static DataBuffer toNettyBuf(DataBuffer buf) {
+    if (buf instanceof NettyDataBuffer) {
+      return buf;
+    }
+    if (buf instanceof NioDataBuffer) {
+      return new NettyDataBuffer(Unpooled.wrappedBuffer(buf.getReadOnlyByteBuffer()));
+    }
+    // The buffers of the zero-copy transport cannot be shared with the forward writer, so their
+    // data is copied once, for both the next worker and the local block.
+    int length = buf.readableBytes();
+    ByteBuf copy = Unpooled.buffer(length, length);
+    buf.readBytes(copy.nioBuffer(0, length));
+    copy.writerIndex(length);
+    return new NettyDataBuffer(copy);
+  }
+
+  /**
+   * Creates the writers forwarding blocks to the next worker of a pipeline.
+   */
+  @FunctionalInterface
+  interface ForwardWriterFactory {
+    /**
+     * @param address the address of the next worker
+     * @param command the write request command to send to the next worker
+     * @return the writer forwarding the block
+     */
+    DataWriter create(WorkerNetAddress address, WriteRequestCommand command) throws IOException;
+  }
 }
@@ -11,6 +11,7 @@
 
 package alluxio.worker.grpc;
 
+import alluxio.client.block.stream.DataWriter;
 import alluxio.worker.block.io.BlockWriter;
 
 import javax.annotation.Nullable;
@@ -27,6 +28,7 @@ public final class BlockWriteRequestContext extends WriteRequestContext<BlockWri
   private alluxio.resource.CloseableResource<alluxio.underfs.UnderFileSystem> mUfsResource;
   private java.io.OutputStream mOutputStream;
   private String mUfsPath;
+  private DataWriter mForwardWriter;
 
   BlockWriteRequestContext(alluxio.grpc.WriteRequest request, long bytesReserved) {
     super(new BlockWriteRequest(request));
@@ -120,4 +122,20 @@ public final class BlockWriteRequestContext extends WriteRequestContext<BlockWri
   public void setUfsPath(String ufsPath) {
     mUfsPath = ufsPath;
   }
+
+  /**
+   * @return the writer which forwards the block to the next worker of the pipeline, or null if
+   *         the block is not written through a pipeline or this is the last worker of it
+   */
+  @Nullable
+  public DataWriter getForwardWriter() {
+    return mForwardWriter;
+  }
+
+  /**
+   * @param forwardWriter the writer forwarding the block to the next worker to set
+   */
+  public void setForwardWriter(@Nullable DataWriter forwardWriter) {
+    mForwardWriter = forwardWriter;
+  }
 }
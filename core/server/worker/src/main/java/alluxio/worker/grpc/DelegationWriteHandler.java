@@ -11,6 +11,7 @@
 
 package alluxio.worker.grpc;
 
+import alluxio.client.file.FileSystemContext;
 import alluxio.grpc.DataMessageMarshaller;
 import alluxio.grpc.DataMessageMarshallerProvider;
 import alluxio.grpc.WriteRequest;
@@ -28,6 +29,7 @@ import io.grpc.stub.StreamObserver;
 public class DelegationWriteHandler implements StreamObserver<alluxio.grpc.WriteRequest> {
   private final StreamObserver<WriteResponse> mResponseObserver;
   private final WorkerProcess mWorkerProcess;
+  private final FileSystemContext mFsContext;
   private final DataMessageMarshaller<WriteRequest> mMarshaller;
   private AbstractWriteHandler mWriteHandler;
   private AuthenticatedUserInfo mUserInfo;
@@ -35,14 +37,16 @@ public class DelegationWriteHandler implements StreamObserver<alluxio.grpc.Write
 
   /**
    * @param workerProcess the worker process instance
+   * @param fsContext context used to forward blocks to other workers
    * @param responseObserver the response observer of the gRPC stream
    * @param userInfo the authenticated user info
    * @param domainSocketEnabled whether using a domain socket
    */
-  public DelegationWriteHandler(WorkerProcess workerProcess,
+  public DelegationWriteHandler(WorkerProcess workerProcess, FileSystemContext fsContext,
       StreamObserver<WriteResponse> responseObserver, AuthenticatedUserInfo userInfo,
       boolean domainSocketEnabled) {
     mWorkerProcess = workerProcess;
+    mFsContext = fsContext;
     mResponseObserver = responseObserver;
     mUserInfo = userInfo;
     if (mResponseObserver instanceof DataMessageMarshallerProvider) {
@@ -57,8 +61,8 @@ public class DelegationWriteHandler implements StreamObserver<alluxio.grpc.Write
   private AbstractWriteHandler createWriterHandler(alluxio.grpc.WriteRequest request) {
     switch (request.getCommand().getType()) {
       case ALLUXIO_BLOCK:
-        return new BlockWriteHandler(mWorkerProcess.getWorker(BlockWorker.class), mResponseObserver,
-            mUserInfo, mDomainSocketEnabled);
+        return new BlockWriteHandler(mWorkerProcess.getWorker(BlockWorker.class), mFsContext,
+            mResponseObserver, mUserInfo, mDomainSocketEnabled);
       case UFS_FILE:
         return new UfsFileWriteHandler(mWorkerProcess.getUfsManager(), mResponseObserver,
             mUserInfo);
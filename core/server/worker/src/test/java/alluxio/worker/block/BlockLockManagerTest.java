@@ -14,6 +14,7 @@ package alluxio.worker.block;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import alluxio.conf.ServerConfiguration;
 import alluxio.conf.PropertyKey;
@@ -229,6 +230,27 @@ public final class BlockLockManagerTest {
     manager.lockBlock(TEST_SESSION_ID, 2, BlockLockType.WRITE);
   }
 
+  /**
+   * Tests that a rejected write lock does not keep a reference to the block lock, so that the lock
+   * is returned to the pool once the block is unlocked.
+   */
+  @Test(timeout = 10000)
+  public void rejectedLockReleasesReference() throws Exception {
+    setMaxLocks(1);
+    BlockLockManager manager = new BlockLockManager();
+    long lockId = manager.lockBlock(TEST_SESSION_ID, 1, BlockLockType.READ);
+    try {
+      manager.lockBlock(TEST_SESSION_ID, 1, BlockLockType.WRITE);
+      fail("Taking a write lock on a block the session holds should fail");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    manager.validate();
+    assertTrue(manager.unlockBlockNoException(lockId));
+    // Without releasing the reference, the only lock would stay assigned to block 1.
+    manager.lockBlock(TEST_SESSION_ID, 2, BlockLockType.WRITE);
+  }
+
   /**
    * Tests that block locks are not returned to the pool when they are still in use.
    */
@@ -14,6 +14,7 @@ package alluxio.worker.block;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 
 import alluxio.exception.BlockDoesNotExistException;
 import alluxio.exception.ExceptionMessage;
@@ -243,7 +244,8 @@ public final class BlockMetadataManagerTest {
     mMetaManager.commitTempBlockMeta(tempBlockMeta1);
     BlockMeta blockMeta = mMetaManager.getBlockMeta(TEST_TEMP_BLOCK_ID);
 
-    mMetaManager.moveBlockMeta(blockMeta, tempBlockMeta2);
+    assertSame(blockMeta, mMetaManager.moveBlockMeta(blockMeta, tempBlockMeta2));
+    assertTrue(dir.hasBlockMeta(TEST_TEMP_BLOCK_ID));
 
     // test to make sure that the dst tempBlockMeta has been removed from the dir
     mThrown.expect(BlockDoesNotExistException.class);
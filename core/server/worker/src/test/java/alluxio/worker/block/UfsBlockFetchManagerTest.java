@@ -0,0 +1,84 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import alluxio.Constants;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link UfsBlockFetchManager}.
+ */
+public final class UfsBlockFetchManagerTest {
+  private static final long BLOCK_ID = 1;
+  private static final String PATH = "/tmp/1";
+
+  @Test
+  public void startAndJoin() {
+    UfsBlockFetchManager manager = new UfsBlockFetchManager(true, Constants.SECOND_MS);
+    assertNull(manager.join(BLOCK_ID));
+    UfsBlockFetchManager.Fetch fetch = manager.start(BLOCK_ID, PATH);
+    assertNotNull(fetch);
+    assertSame(fetch, manager.join(BLOCK_ID));
+    manager.finish(fetch, true);
+    assertNull(manager.join(BLOCK_ID));
+    assertEquals(0, manager.size());
+  }
+
+  @Test
+  public void disabled() {
+    UfsBlockFetchManager manager = new UfsBlockFetchManager(false, Constants.SECOND_MS);
+    assertNull(manager.start(BLOCK_ID, PATH));
+    assertNull(manager.join(BLOCK_ID));
+  }
+
+  @Test
+  public void awaitProgress() throws Exception {
+    UfsBlockFetchManager manager = new UfsBlockFetchManager(true, Constants.SECOND_MS);
+    UfsBlockFetchManager.Fetch fetch = manager.start(BLOCK_ID, PATH);
+    fetch.advance(10);
+    assertEquals(10, fetch.await(5, Constants.SECOND_MS));
+    Thread advance = new Thread(() -> fetch.advance(20));
+    advance.start();
+    assertEquals(20, fetch.await(15, 10 * Constants.SECOND_MS));
+    advance.join();
+    // The fetch does not progress.
+    assertEquals(-1, fetch.await(25, 10));
+  }
+
+  @Test
+  public void awaitFailedFetch() throws Exception {
+    UfsBlockFetchManager manager = new UfsBlockFetchManager(true, Constants.SECOND_MS);
+    UfsBlockFetchManager.Fetch fetch = manager.start(BLOCK_ID, PATH);
+    fetch.advance(10);
+    manager.finish(fetch, false);
+    assertEquals(-1, fetch.await(5, Constants.SECOND_MS));
+    assertEquals(-1, fetch.await(15, Constants.SECOND_MS));
+  }
+
+  @Test
+  public void startReplacesAbandonedFetch() throws Exception {
+    UfsBlockFetchManager manager = new UfsBlockFetchManager(true, Constants.SECOND_MS);
+    UfsBlockFetchManager.Fetch abandoned = manager.start(BLOCK_ID, PATH);
+    UfsBlockFetchManager.Fetch fetch = manager.start(BLOCK_ID, PATH);
+    assertEquals(-1, abandoned.await(1, Constants.SECOND_MS));
+    assertSame(fetch, manager.join(BLOCK_ID));
+    // Finishing the abandoned fetch does not remove the new one.
+    manager.finish(abandoned, false);
+    assertSame(fetch, manager.join(BLOCK_ID));
+  }
+}
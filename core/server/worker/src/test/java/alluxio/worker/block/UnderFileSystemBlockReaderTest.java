@@ -20,6 +20,7 @@ import static org.mockito.Mockito.any;
 
 import alluxio.AlluxioTestDirectory;
 import alluxio.AlluxioURI;
+import alluxio.Constants;
 import alluxio.conf.ServerConfiguration;
 import alluxio.ConfigurationRule;
 import alluxio.conf.PropertyKey;
@@ -49,12 +50,14 @@ public final class UnderFileSystemBlockReaderTest {
   private static final long TEST_BLOCK_SIZE = 1024;
   private static final long SESSION_ID = 1;
   private static final long BLOCK_ID = 2;
+  private static final long OTHER_SESSION_ID = 3;
 
   private UnderFileSystemBlockReader mReader;
   private BlockStore mAlluxioBlockStore;
   private UnderFileSystemBlockMeta mUnderFileSystemBlockMeta;
   private UfsManager mUfsManager;
   private UfsInputStreamManager mUfsInstreamManager;
+  private UfsBlockFetchManager mUfsBlockFetchManager;
   private Protocol.OpenUfsBlockOptions mOpenUfsBlockOptions;
 
   /** Rule to create a new temporary folder during each test. */
@@ -76,16 +79,20 @@ public final class UnderFileSystemBlockReaderTest {
         }
       }, ServerConfiguration.global());
 
+  private String mTestFilePath;
+
   @Before
   public void before() throws Exception {
     String ufsFolder = ServerConfiguration.get(PropertyKey.MASTER_MOUNT_TABLE_ROOT_UFS);
     String testFilePath = File.createTempFile("temp", null, new File(ufsFolder)).getAbsolutePath();
     byte[] buffer = BufferUtils.getIncreasingByteArray((int) TEST_BLOCK_SIZE * 2);
     BufferUtils.writeBufferToFile(testFilePath, buffer);
+    mTestFilePath = testFilePath;
 
     mAlluxioBlockStore = new TieredBlockStore();
     mUfsManager = mock(UfsManager.class);
     mUfsInstreamManager = new UfsInputStreamManager();
+    mUfsBlockFetchManager = new UfsBlockFetchManager(true, 10 * Constants.SECOND_MS);
     UfsClient ufsClient = new UfsClient(
         () -> UnderFileSystem.Factory.create(testFilePath.toString(),
             UnderFileSystemConfiguration.defaults(ServerConfiguration.global())),
@@ -113,7 +120,7 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void readFullBlock() throws Exception {
     mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore,
-        mUfsManager, mUfsInstreamManager);
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
     mReader.close();
@@ -123,7 +130,7 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void readPartialBlock() throws Exception {
     mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore,
-        mUfsManager, mUfsInstreamManager);
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE - 1);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE - 1, buffer));
     mReader.close();
@@ -134,7 +141,7 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void offset() throws Exception {
     mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore,
-        mUfsManager, mUfsInstreamManager);
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     ByteBuffer buffer = mReader.read(2, TEST_BLOCK_SIZE - 2);
     Assert.assertTrue(BufferUtils
         .equalIncreasingByteBuffer(2, (int) TEST_BLOCK_SIZE - 2, buffer));
@@ -146,7 +153,7 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void readOverlap() throws Exception {
     mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 2, mAlluxioBlockStore,
-        mUfsManager, mUfsInstreamManager);
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     ByteBuffer buffer = mReader.read(2, TEST_BLOCK_SIZE - 2);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(2, (int) TEST_BLOCK_SIZE - 2, buffer));
     buffer = mReader.read(0, TEST_BLOCK_SIZE - 2);
@@ -163,7 +170,7 @@ public final class UnderFileSystemBlockReaderTest {
     mUnderFileSystemBlockMeta = new UnderFileSystemBlockMeta(SESSION_ID, BLOCK_ID,
         mOpenUfsBlockOptions.toBuilder().setNoCache(true).build());
     mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore,
-        mUfsManager, mUfsInstreamManager);
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE);
     // read should succeed even if error is thrown when caching
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
@@ -178,7 +185,7 @@ public final class UnderFileSystemBlockReaderTest {
         .when(errorThrowingBlockStore)
         .requestSpace(anyLong(), anyLong(), anyLong());
     mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0,
-        errorThrowingBlockStore, mUfsManager, mUfsInstreamManager);
+        errorThrowingBlockStore, mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
     mReader.close();
@@ -192,7 +199,7 @@ public final class UnderFileSystemBlockReaderTest {
         .createBlock(anyLong(), anyLong(), any(BlockStoreLocation.class),
             anyLong());
     mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0,
-        errorThrowingBlockStore, mUfsManager, mUfsInstreamManager);
+        errorThrowingBlockStore, mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
     mReader.close();
@@ -202,7 +209,7 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void transferFullBlock() throws Exception {
     mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore,
-        mUfsManager, mUfsInstreamManager);
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     ByteBuf buf =
         PooledByteBufAllocator.DEFAULT.buffer((int) TEST_BLOCK_SIZE * 2, (int) TEST_BLOCK_SIZE * 2);
     try {
@@ -220,7 +227,7 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void transferPartialBlock() throws Exception {
     mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore,
-        mUfsManager, mUfsInstreamManager);
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
     ByteBuf buf =
         PooledByteBufAllocator.DEFAULT.buffer((int) TEST_BLOCK_SIZE / 2, (int) TEST_BLOCK_SIZE / 2);
     try {
@@ -235,4 +242,72 @@ public final class UnderFileSystemBlockReaderTest {
     // partial block should not be cached
     Assert.assertNull(mAlluxioBlockStore.getTempBlockMeta(SESSION_ID, BLOCK_ID));
   }
+
+  @Test
+  public void joinFetchInProgress() throws Exception {
+    mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore,
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
+    ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE / 2);
+    Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE / 2, buffer));
+    Assert.assertEquals(1, mUfsBlockFetchManager.size());
+    UnderFileSystemBlockReader joined = UnderFileSystemBlockReader.create(
+        new UnderFileSystemBlockMeta(OTHER_SESSION_ID, BLOCK_ID, mOpenUfsBlockOptions), 0,
+        mAlluxioBlockStore, mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
+    // The joined reader can only read the block from the temp block of the fetch.
+    Assert.assertTrue(new File(mTestFilePath).delete());
+    buffer = joined.read(0, TEST_BLOCK_SIZE / 4);
+    ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer((int) TEST_BLOCK_SIZE);
+    try {
+      buf.writeBytes(buffer);
+      Thread transfer = new Thread(() -> {
+        try {
+          while (buf.writableBytes() > 0 && joined.transferTo(buf) != -1) {
+          }
+        } catch (Exception e) {
+          throw new RuntimeException(e);
+        }
+      });
+      transfer.start();
+      // The joined reader waits for the rest of the block to be read.
+      buffer = mReader.read(TEST_BLOCK_SIZE / 2, TEST_BLOCK_SIZE / 2);
+      Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer((int) TEST_BLOCK_SIZE / 2,
+          (int) TEST_BLOCK_SIZE / 2, buffer));
+      transfer.join(10 * Constants.SECOND_MS);
+      Assert.assertFalse(transfer.isAlive());
+      Assert.assertTrue(
+          BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buf.nioBuffer()));
+    } finally {
+      buf.release();
+    }
+    mReader.close();
+    joined.close();
+    Assert.assertEquals(0, mUfsBlockFetchManager.size());
+    checkTempBlock(0, TEST_BLOCK_SIZE);
+  }
+
+  @Test
+  public void joinFetchFailed() throws Exception {
+    mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore,
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
+    mReader.read(0, TEST_BLOCK_SIZE / 2);
+    UnderFileSystemBlockReader joined = UnderFileSystemBlockReader.create(
+        new UnderFileSystemBlockMeta(OTHER_SESSION_ID, BLOCK_ID, mOpenUfsBlockOptions), 0,
+        mAlluxioBlockStore, mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
+    // Closing the reader caching the block aborts the fetch, the joined reader reads from UFS.
+    mReader.close();
+    Assert.assertEquals(0, mUfsBlockFetchManager.size());
+    ByteBuffer buffer = joined.read(0, TEST_BLOCK_SIZE);
+    Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
+    joined.close();
+  }
+
+  @Test
+  public void joinFetchDisabled() throws Exception {
+    mUfsBlockFetchManager = new UfsBlockFetchManager(false, 10 * Constants.SECOND_MS);
+    mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore,
+        mUfsManager, mUfsInstreamManager, mUfsBlockFetchManager);
+    mReader.read(0, TEST_BLOCK_SIZE / 2);
+    Assert.assertEquals(0, mUfsBlockFetchManager.size());
+    mReader.close();
+  }
 }
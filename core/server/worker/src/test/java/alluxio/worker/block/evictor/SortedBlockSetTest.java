@@ -0,0 +1,79 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.evictor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+/**
+ * Unit tests for {@link SortedBlockSet}.
+ */
+public final class SortedBlockSetTest {
+
+  /**
+   * Tests that blocks are iterated in ascending order of priority, ties broken by block id.
+   */
+  @Test
+  public void iterateInOrder() {
+    SortedBlockSet set = new SortedBlockSet();
+    set.put(3L, 2.0);
+    set.put(1L, 5.0);
+    set.put(4L, Double.NEGATIVE_INFINITY);
+    set.put(2L, 2.0);
+    assertEquals(4, set.size());
+    assertEquals(ImmutableList.of(4L, 2L, 3L, 1L), Lists.newArrayList(set.iterator()));
+  }
+
+  /**
+   * Tests that updating the priority of a block moves it in the order.
+   */
+  @Test
+  public void updatePriority() {
+    SortedBlockSet set = new SortedBlockSet();
+    set.put(1L, 1.0);
+    set.put(2L, 2.0);
+    set.put(3L, 3.0);
+    set.put(1L, 4.0);
+    assertEquals(3, set.size());
+    assertEquals(4.0, set.getPriority(1L), 0.0);
+    assertEquals(ImmutableList.of(2L, 3L, 1L), Lists.newArrayList(set.iterator()));
+  }
+
+  /**
+   * Tests removing blocks directly and through the iterator.
+   */
+  @Test
+  public void remove() {
+    SortedBlockSet set = new SortedBlockSet();
+    set.put(1L, 1.0);
+    set.put(2L, 2.0);
+    set.put(3L, 3.0);
+    set.remove(2L);
+    set.remove(5L);
+    assertFalse(set.contains(2L));
+
+    Iterator<Long> it = set.iterator();
+    assertEquals(1L, (long) it.next());
+    it.remove();
+    assertFalse(set.contains(1L));
+    assertTrue(set.contains(3L));
+    assertEquals(1, set.size());
+    assertEquals(ImmutableList.of(3L), Lists.newArrayList(set.iterator()));
+  }
+}
@@ -11,6 +11,7 @@
 
 package alluxio.worker.grpc;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -18,13 +19,19 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.when;
 
+import alluxio.ConfigurationRule;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.grpc.ReadRequest;
 import alluxio.grpc.ReadResponse;
+import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.WorkerMetrics;
 import alluxio.security.authentication.AuthenticatedUserInfo;
 import alluxio.worker.block.BlockWorker;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.LocalFileBlockReader;
 
+import com.codahale.metrics.Counter;
 import io.grpc.Status;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.netty.util.ResourceLeakDetector;
@@ -32,6 +39,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.io.Closeable;
+
 public final class BlockReadHandlerTest extends ReadHandlerTest {
   private BlockWorker mBlockWorker;
   private BlockReader mBlockReader;
@@ -76,6 +85,49 @@ public final class BlockReadHandlerTest extends ReadHandlerTest {
     checkErrorCode(mResponseObserver, Status.Code.FAILED_PRECONDITION);
   }
 
+  /**
+   * Reads a sub-region of a file from memory-mapped chunks, including a chunk which is cut short
+   * by the end of the file.
+   */
+  @Test
+  public void readPartialFileMapped() throws Exception {
+    long fileSize = CHUNK_SIZE * 10 + 7;
+    long start = 3;
+    long checksumExpected = populateInputFile(fileSize, start, fileSize - 1);
+    Counter mappedBytes = MetricsSystem.counter(WorkerMetrics.BYTES_READ_MAPPED);
+    long mappedBefore = mappedBytes.getCount();
+    try (Closeable r = new ConfigurationRule(PropertyKey.WORKER_NETWORK_READER_MMAP_ENABLED,
+        "true", ServerConfiguration.global()).toResource()) {
+      AbstractReadHandler readHandler = new BlockReadHandler(
+          GrpcExecutors.BLOCK_READER_EXECUTOR, mBlockWorker, mResponseObserver,
+          new AuthenticatedUserInfo(), false);
+      readHandler.onNext(buildReadRequest(start, fileSize + CHUNK_SIZE));
+      checkAllReadResponses(mResponses, checksumExpected);
+    }
+    assertEquals(fileSize - start, mappedBytes.getCount() - mappedBefore);
+  }
+
+  /**
+   * Reads past the end of a file made of full memory-mapped chunks, so the last chunk is followed
+   * by a read at the end of the file.
+   */
+  @Test
+  public void readPastEndOfFullChunksMapped() throws Exception {
+    long fileSize = CHUNK_SIZE * 10;
+    long checksumExpected = populateInputFile(fileSize, 0, fileSize - 1);
+    Counter mappedBytes = MetricsSystem.counter(WorkerMetrics.BYTES_READ_MAPPED);
+    long mappedBefore = mappedBytes.getCount();
+    try (Closeable r = new ConfigurationRule(PropertyKey.WORKER_NETWORK_READER_MMAP_ENABLED,
+        "true", ServerConfiguration.global()).toResource()) {
+      AbstractReadHandler readHandler = new BlockReadHandler(
+          GrpcExecutors.BLOCK_READER_EXECUTOR, mBlockWorker, mResponseObserver,
+          new AuthenticatedUserInfo(), false);
+      readHandler.onNext(buildReadRequest(0, fileSize + CHUNK_SIZE));
+      checkAllReadResponses(mResponses, checksumExpected);
+    }
+    assertEquals(fileSize, mappedBytes.getCount() - mappedBefore);
+  }
+
   @Override
   protected void mockReader(long start) throws Exception {
     mBlockReader = new LocalFileBlockReader(mFile);
@@ -11,26 +11,46 @@
 
 package alluxio.worker.grpc;
 
+import static org.junit.Assert.assertEquals;
+
+import alluxio.client.block.stream.DataWriter;
+import alluxio.grpc.ReadableDataBuffer;
 import alluxio.grpc.RequestType;
+import alluxio.grpc.WorkerNetAddress;
+import alluxio.grpc.WriteRequestCommand;
+import alluxio.network.protocol.databuffer.DataBuffer;
+import alluxio.util.io.BufferUtils;
 import alluxio.worker.block.BlockWorker;
 import alluxio.worker.block.io.BlockWriter;
 import alluxio.worker.block.io.LocalFileBlockWriter;
 
+import com.google.common.collect.ImmutableList;
 import io.grpc.Status;
+import io.grpc.internal.ReadableBuffers;
 import io.grpc.stub.StreamObserver;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Unit tests for {@link BlockWriteHandler}.
  */
 public final class BlockWriteHandlerTest extends AbstractWriteHandlerTest {
+  private static final WorkerNetAddress NEXT_WORKER =
+      WorkerNetAddress.newBuilder().setHost("next").setDataPort(1).build();
+  private static final WorkerNetAddress LAST_WORKER =
+      WorkerNetAddress.newBuilder().setHost("last").setDataPort(1).build();
+
   private BlockWorker mBlockWorker;
   private BlockWriter mBlockWriter;
   private File mFile;
@@ -65,6 +85,138 @@ public final class BlockWriteHandlerTest extends AbstractWriteHandlerTest {
     checkErrorCode(mResponseObserver, Status.Code.FAILED_PRECONDITION);
   }
 
+  @Test
+  public void pipelinedWriteWithoutContext() throws Exception {
+    alluxio.grpc.WriteRequest request = newWriteRequestCommand(0);
+    mWriteHandler.write(request.toBuilder().setCommand(request.getCommand().toBuilder()
+        .addPipeline(WorkerNetAddress.newBuilder().setHost("localhost").setDataPort(1)))
+        .build());
+    waitForResponses();
+    checkErrorCode(mResponseObserver, Status.Code.INVALID_ARGUMENT);
+  }
+
+  @Test
+  public void pipelinedWrite() throws Exception {
+    DataWriter forwardWriter = Mockito.mock(DataWriter.class);
+    List<Long> forwardedChecksums = new ArrayList<>();
+    Mockito.doAnswer(args -> {
+      ByteBuf chunk = args.getArgumentAt(0, ByteBuf.class);
+      forwardedChecksums.add(getChecksum(chunk));
+      chunk.release();
+      return null;
+    }).when(forwardWriter).writeChunk(Mockito.any(ByteBuf.class));
+    List<WriteRequestCommand> forwardedCommands = new ArrayList<>();
+    mWriteHandler = new BlockWriteHandler(mBlockWorker, (address, command) -> {
+      assertEquals(NEXT_WORKER.getHost(), address.getHost());
+      forwardedCommands.add(command);
+      return forwardWriter;
+    }, mResponseObserver, mUserInfo, false);
+
+    mWriteHandler.write(newPipelinedWriteRequestCommand());
+    long len = 0;
+    long checksum = 0;
+    List<Long> checksums = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      DataBuffer dataBuffer = newDataBuffer(CHUNK_SIZE);
+      checksums.add(getChecksum(dataBuffer));
+      checksum += checksums.get(i);
+      mWriteHandler.write(newWriteRequest(dataBuffer));
+      len += CHUNK_SIZE;
+    }
+    mWriteHandler.onCompleted();
+    waitForResponses();
+    checkComplete(mResponseObserver);
+    checkWriteData(checksum, len);
+
+    // The next worker is asked to forward the block to the rest of the pipeline.
+    assertEquals(1, forwardedCommands.size());
+    assertEquals(ImmutableList.of(LAST_WORKER), forwardedCommands.get(0).getPipelineList());
+    assertEquals(checksums, forwardedChecksums);
+    // The rest of the pipeline commits the block before it is committed here.
+    InOrder inOrder = Mockito.inOrder(forwardWriter, mBlockWorker);
+    inOrder.verify(forwardWriter).close();
+    inOrder.verify(mBlockWorker).commitBlock(Mockito.anyLong(), Mockito.anyLong(),
+        Mockito.anyBoolean());
+    Mockito.verify(forwardWriter, Mockito.never()).cancel();
+  }
+
+  @Test
+  public void pipelinedWriteZeroCopyBuffer() throws Exception {
+    DataWriter forwardWriter = Mockito.mock(DataWriter.class);
+    List<Long> forwardedChecksums = new ArrayList<>();
+    Mockito.doAnswer(args -> {
+      ByteBuf chunk = args.getArgumentAt(0, ByteBuf.class);
+      forwardedChecksums.add(getChecksum(chunk));
+      chunk.release();
+      return null;
+    }).when(forwardWriter).writeChunk(Mockito.any(ByteBuf.class));
+    mWriteHandler = new BlockWriteHandler(mBlockWorker, (address, command) -> forwardWriter,
+        mResponseObserver, mUserInfo, false);
+
+    mWriteHandler.write(newPipelinedWriteRequestCommand());
+    byte[] data = BufferUtils.getIncreasingByteArray(CHUNK_SIZE);
+    long checksum = getChecksum(Unpooled.wrappedBuffer(data));
+    mWriteHandler.writeDataMessage(alluxio.grpc.WriteRequest.getDefaultInstance(),
+        new ReadableDataBuffer(ReadableBuffers.wrap(data)));
+    mWriteHandler.onCompleted();
+    waitForResponses();
+    checkComplete(mResponseObserver);
+    checkWriteData(checksum, CHUNK_SIZE);
+    assertEquals(ImmutableList.of(checksum), forwardedChecksums);
+  }
+
+  @Test
+  public void pipelinedWriteCancel() throws Exception {
+    DataWriter forwardWriter = Mockito.mock(DataWriter.class);
+    mWriteHandler = new BlockWriteHandler(mBlockWorker, (address, command) -> forwardWriter,
+        mResponseObserver, mUserInfo, false);
+    mWriteHandler.write(newPipelinedWriteRequestCommand());
+    mWriteHandler.write(newWriteRequest(newDataBuffer(CHUNK_SIZE)));
+    mWriteHandler.onCancel();
+    waitForResponses();
+    checkComplete(mResponseObserver);
+    InOrder inOrder = Mockito.inOrder(forwardWriter);
+    inOrder.verify(forwardWriter).cancel();
+    inOrder.verify(forwardWriter).close();
+    Mockito.verify(mBlockWorker).abortBlock(Mockito.anyLong(), Mockito.anyLong());
+  }
+
+  @Test
+  public void pipelinedWriteFailure() throws Exception {
+    DataWriter forwardWriter = Mockito.mock(DataWriter.class);
+    mWriteHandler = new BlockWriteHandler(mBlockWorker, (address, command) -> forwardWriter,
+        mResponseObserver, mUserInfo, false);
+    mWriteHandler.write(newPipelinedWriteRequestCommand());
+    mBlockWriter.close();
+    mWriteHandler.write(newWriteRequest(newDataBuffer(CHUNK_SIZE)));
+    waitForResponses();
+    checkErrorCode(mResponseObserver, Status.Code.FAILED_PRECONDITION);
+    InOrder inOrder = Mockito.inOrder(forwardWriter);
+    inOrder.verify(forwardWriter).cancel();
+    inOrder.verify(forwardWriter).close();
+  }
+
+  @Test
+  public void pipelinedWriteForwardFailure() throws Exception {
+    DataWriter forwardWriter = Mockito.mock(DataWriter.class);
+    Mockito.doThrow(new IOException("next worker failed")).when(forwardWriter)
+        .writeChunk(Mockito.any(ByteBuf.class));
+    mWriteHandler = new BlockWriteHandler(mBlockWorker, (address, command) -> forwardWriter,
+        mResponseObserver, mUserInfo, false);
+    mWriteHandler.write(newPipelinedWriteRequestCommand());
+    mWriteHandler.write(newWriteRequest(newDataBuffer(CHUNK_SIZE)));
+    waitForResponses();
+    getError(mResponseObserver);
+    // The writer to the next worker is closed even though it failed.
+    Mockito.verify(forwardWriter).close();
+  }
+
+  private alluxio.grpc.WriteRequest newPipelinedWriteRequestCommand() {
+    alluxio.grpc.WriteRequest request = newWriteRequestCommand(0);
+    return request.toBuilder().setCommand(request.getCommand().toBuilder()
+        .addPipeline(NEXT_WORKER).addPipeline(LAST_WORKER)).build();
+  }
+
   @Override
   protected RequestType getWriteRequestType() {
     return RequestType.ALLUXIO_BLOCK;
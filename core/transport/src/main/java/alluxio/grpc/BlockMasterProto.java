@@ -422,7 +422,7 @@ public final class BlockMasterProto {
       "ponse\022{\n\024GetWorkerLostStorage\0220.alluxio." +
       "grpc.block.GetWorkerLostStoragePOptions\032" +
       "1.alluxio.grpc.block.GetWorkerLostStorag" +
-      "ePResponse2\245\004\n\030BlockMasterWorkerService\022" +
+      "ePResponse2\232\005\n\030BlockMasterWorkerService\022" +
       "i\n\016BlockHeartbeat\022*.alluxio.grpc.block.B" +
       "lockHeartbeatPRequest\032+.alluxio.grpc.blo" +
       "ck.BlockHeartbeatPResponse\022`\n\013CommitBloc" +
@@ -436,7 +436,10 @@ public final class BlockMasterProto {
       "rkerIdPResponse\022i\n\016RegisterWorker\022*.allu" +
       "xio.grpc.block.RegisterWorkerPRequest\032+." +
       "alluxio.grpc.block.RegisterWorkerPRespon" +
-      "seB\"\n\014alluxio.grpcB\020BlockMasterProtoP\001"
+      "se\022s\n\024RegisterWorkerStream\022*.alluxio.grp" +
+      "c.block.RegisterWorkerPRequest\032+.alluxio" +
+      ".grpc.block.RegisterWorkerPResponse(\0010\001B" +
+      "\"\n\014alluxio.grpcB\020BlockMasterProtoP\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
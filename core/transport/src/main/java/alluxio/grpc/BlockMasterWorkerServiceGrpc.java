@@ -191,6 +191,38 @@ public final class BlockMasterWorkerServiceGrpc {
      return getRegisterWorkerMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<alluxio.grpc.RegisterWorkerPRequest,
+      alluxio.grpc.RegisterWorkerPResponse> getRegisterWorkerStreamMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "RegisterWorkerStream",
+      requestType = alluxio.grpc.RegisterWorkerPRequest.class,
+      responseType = alluxio.grpc.RegisterWorkerPResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<alluxio.grpc.RegisterWorkerPRequest,
+      alluxio.grpc.RegisterWorkerPResponse> getRegisterWorkerStreamMethod() {
+    io.grpc.MethodDescriptor<alluxio.grpc.RegisterWorkerPRequest, alluxio.grpc.RegisterWorkerPResponse> getRegisterWorkerStreamMethod;
+    if ((getRegisterWorkerStreamMethod = BlockMasterWorkerServiceGrpc.getRegisterWorkerStreamMethod) == null) {
+      synchronized (BlockMasterWorkerServiceGrpc.class) {
+        if ((getRegisterWorkerStreamMethod = BlockMasterWorkerServiceGrpc.getRegisterWorkerStreamMethod) == null) {
+          BlockMasterWorkerServiceGrpc.getRegisterWorkerStreamMethod = getRegisterWorkerStreamMethod = 
+              io.grpc.MethodDescriptor.<alluxio.grpc.RegisterWorkerPRequest, alluxio.grpc.RegisterWorkerPResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(
+                  "alluxio.grpc.block.BlockMasterWorkerService", "RegisterWorkerStream"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.RegisterWorkerPRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  alluxio.grpc.RegisterWorkerPResponse.getDefaultInstance()))
+                  .setSchemaDescriptor(new BlockMasterWorkerServiceMethodDescriptorSupplier("RegisterWorkerStream"))
+                  .build();
+          }
+        }
+     }
+     return getRegisterWorkerStreamMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -277,6 +309,20 @@ public final class BlockMasterWorkerServiceGrpc {
       asyncUnimplementedUnaryCall(getRegisterWorkerMethod(), responseObserver);
     }
 
+    /**
+     * <pre>
+     **
+     * Registers a worker, streaming its blocks in chunks. The first request carries the storage
+     * information of the worker along with the first chunk of blocks, and the following requests
+     * only carry blocks. The master acknowledges each request once its blocks are processed, and
+     * completes the stream once the worker completes it and the registration is done.
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<alluxio.grpc.RegisterWorkerPRequest> registerWorkerStream(
+        io.grpc.stub.StreamObserver<alluxio.grpc.RegisterWorkerPResponse> responseObserver) {
+      return asyncUnimplementedStreamingCall(getRegisterWorkerStreamMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -314,6 +360,13 @@ public final class BlockMasterWorkerServiceGrpc {
                 alluxio.grpc.RegisterWorkerPRequest,
                 alluxio.grpc.RegisterWorkerPResponse>(
                   this, METHODID_REGISTER_WORKER)))
+          .addMethod(
+            getRegisterWorkerStreamMethod(),
+            asyncBidiStreamingCall(
+              new MethodHandlers<
+                alluxio.grpc.RegisterWorkerPRequest,
+                alluxio.grpc.RegisterWorkerPResponse>(
+                  this, METHODID_REGISTER_WORKER_STREAM)))
           .build();
     }
   }
@@ -399,6 +452,21 @@ public final class BlockMasterWorkerServiceGrpc {
       asyncUnaryCall(
           getChannel().newCall(getRegisterWorkerMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     * <pre>
+     **
+     * Registers a worker, streaming its blocks in chunks. The first request carries the storage
+     * information of the worker along with the first chunk of blocks, and the following requests
+     * only carry blocks. The master acknowledges each request once its blocks are processed, and
+     * completes the stream once the worker completes it and the registration is done.
+     * </pre>
+     */
+    public io.grpc.stub.StreamObserver<alluxio.grpc.RegisterWorkerPRequest> registerWorkerStream(
+        io.grpc.stub.StreamObserver<alluxio.grpc.RegisterWorkerPResponse> responseObserver) {
+      return asyncBidiStreamingCall(
+          getChannel().newCall(getRegisterWorkerStreamMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -567,6 +635,7 @@ public final class BlockMasterWorkerServiceGrpc {
   private static final int METHODID_COMMIT_BLOCK_IN_UFS = 2;
   private static final int METHODID_GET_WORKER_ID = 3;
   private static final int METHODID_REGISTER_WORKER = 4;
+  private static final int METHODID_REGISTER_WORKER_STREAM = 5;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -615,6 +684,9 @@ public final class BlockMasterWorkerServiceGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_REGISTER_WORKER_STREAM:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.registerWorkerStream(
+              (io.grpc.stub.StreamObserver<alluxio.grpc.RegisterWorkerPResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -671,6 +743,7 @@ public final class BlockMasterWorkerServiceGrpc {
               .addMethod(getCommitBlockInUfsMethod())
               .addMethod(getGetWorkerIdMethod())
               .addMethod(getRegisterWorkerMethod())
+              .addMethod(getRegisterWorkerStreamMethod())
               .build();
         }
       }
@@ -49,6 +49,61 @@ public final class JobMasterProto {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_alluxio_grpc_job_RegisterCommand_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_LoadJobConfig_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_LoadJobConfig_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_MigrateJobConfig_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_MigrateJobConfig_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_PersistJobConfig_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_PersistJobConfig_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_ReplicateJobConfig_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_ReplicateJobConfig_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_EvictJobConfig_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_EvictJobConfig_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_MoveJobConfig_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_MoveJobConfig_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_CompactJobConfig_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_CompactJobConfig_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_CompositeJobConfig_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_CompositeJobConfig_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_JobConfigMessage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_JobConfigMessage_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_LoadTaskArgs_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_LoadTaskArgs_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_grpc_job_TaskArgsMessage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_grpc_job_TaskArgsMessage_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_alluxio_grpc_job_CancelTaskCommand_descriptor;
   static final 
@@ -191,60 +246,89 @@ public final class JobMasterProto {
       "ob.RegisterCommand\"T\n\016RunTaskCommand\022\r\n\005" +
       "jobId\030\001 \001(\003\022\016\n\006taskId\030\002 \001(\005\022\021\n\tjobConfig" +
       "\030\003 \001(\014\022\020\n\010taskArgs\030\004 \001(\014\"\021\n\017RegisterComm" +
-      "and\"2\n\021CancelTaskCommand\022\r\n\005jobId\030\001 \001(\003\022" +
-      "\016\n\006taskId\030\002 \001(\005\"\020\n\016CancelPOptions\"R\n\016Can" +
-      "celPRequest\022\r\n\005jobId\030\001 \001(\003\0221\n\007options\030\002 " +
-      "\001(\0132 .alluxio.grpc.job.CancelPOptions\"\021\n" +
-      "\017CancelPResponse\"\026\n\024GetJobStatusPOptions" +
-      "\"^\n\024GetJobStatusPRequest\022\r\n\005jobId\030\001 \001(\003\022" +
-      "7\n\007options\030\002 \001(\0132&.alluxio.grpc.job.GetJ" +
-      "obStatusPOptions\"C\n\025GetJobStatusPRespons" +
-      "e\022*\n\007jobInfo\030\001 \001(\0132\031.alluxio.grpc.job.Jo" +
-      "bInfo\"\021\n\017ListAllPOptions\"E\n\017ListAllPRequ" +
-      "est\0222\n\007options\030\001 \001(\0132!.alluxio.grpc.job." +
-      "ListAllPOptions\"\"\n\020ListAllPResponse\022\016\n\006j" +
-      "obIds\030\001 \003(\003\"\r\n\013RunPOptions\"P\n\013RunPReques" +
-      "t\022\021\n\tjobConfig\030\001 \001(\014\022.\n\007options\030\002 \001(\0132\035." +
-      "alluxio.grpc.job.RunPOptions\"\035\n\014RunPResp" +
-      "onse\022\r\n\005jobId\030\001 \001(\003\"\036\n\034GetJobServiceSumm" +
-      "aryPOptions\"_\n\034GetJobServiceSummaryPRequ" +
-      "est\022?\n\007options\030\001 \001(\0132..alluxio.grpc.job." +
-      "GetJobServiceSummaryPOptions\"U\n\035GetJobSe" +
-      "rviceSummaryPResponse\0224\n\007summary\030\001 \001(\0132#" +
-      ".alluxio.grpc.job.JobServiceSummary\"\026\n\024J" +
-      "obHeartbeatPOptions\"\220\001\n\024JobHeartbeatPReq" +
-      "uest\022\020\n\010workerId\030\001 \001(\003\022-\n\ttaskInfos\030\002 \003(" +
-      "\0132\032.alluxio.grpc.job.TaskInfo\0227\n\007options" +
-      "\030\003 \001(\0132&.alluxio.grpc.job.JobHeartbeatPO" +
-      "ptions\"G\n\025JobHeartbeatPResponse\022.\n\010comma" +
-      "nds\030\001 \003(\0132\034.alluxio.grpc.job.JobCommand\"" +
-      "\033\n\031RegisterJobWorkerPOptions\"\223\001\n\031Registe" +
-      "rJobWorkerPRequest\0228\n\020workerNetAddress\030\001" +
-      " \001(\0132\036.alluxio.grpc.WorkerNetAddress\022<\n\007" +
-      "options\030\002 \001(\0132+.alluxio.grpc.job.Registe" +
-      "rJobWorkerPOptions\"(\n\032RegisterJobWorkerP" +
-      "Response\022\n\n\002id\030\001 \001(\003*X\n\006Status\022\013\n\007UNKNOW" +
-      "N\020\000\022\013\n\007CREATED\020\001\022\014\n\010CANCELED\020\002\022\n\n\006FAILED" +
-      "\020\003\022\013\n\007RUNNING\020\004\022\r\n\tCOMPLETED\020\0052\331\003\n\026JobMa" +
-      "sterClientService\022M\n\006Cancel\022 .alluxio.gr" +
-      "pc.job.CancelPRequest\032!.alluxio.grpc.job" +
-      ".CancelPResponse\022_\n\014GetJobStatus\022&.allux" +
-      "io.grpc.job.GetJobStatusPRequest\032\'.allux" +
-      "io.grpc.job.GetJobStatusPResponse\022w\n\024Get" +
-      "JobServiceSummary\022..alluxio.grpc.job.Get" +
-      "JobServiceSummaryPRequest\032/.alluxio.grpc" +
-      ".job.GetJobServiceSummaryPResponse\022P\n\007Li" +
-      "stAll\022!.alluxio.grpc.job.ListAllPRequest" +
-      "\032\".alluxio.grpc.job.ListAllPResponse\022D\n\003" +
-      "Run\022\035.alluxio.grpc.job.RunPRequest\032\036.all" +
-      "uxio.grpc.job.RunPResponse2\346\001\n\026JobMaster" +
-      "WorkerService\022\\\n\tHeartbeat\022&.alluxio.grp" +
-      "c.job.JobHeartbeatPRequest\032\'.alluxio.grp" +
-      "c.job.JobHeartbeatPResponse\022n\n\021RegisterJ" +
-      "obWorker\022+.alluxio.grpc.job.RegisterJobW" +
-      "orkerPRequest\032,.alluxio.grpc.job.Registe" +
-      "rJobWorkerPResponseB \n\014alluxio.grpcB\016Job" +
-      "MasterProtoP\001"
+      "and\"6\n\rLoadJobConfig\022\020\n\010filePath\030\001 \001(\t\022\023" +
+      "\n\013replication\030\002 \001(\005\"s\n\020MigrateJobConfig\022" +
+      "\016\n\006source\030\001 \001(\t\022\023\n\013destination\030\002 \001(\t\022\021\n\t" +
+      "writeType\030\003 \001(\t\022\021\n\toverwrite\030\004 \001(\010\022\024\n\014de" +
+      "leteSource\030\005 \001(\010\"Y\n\020PersistJobConfig\022\020\n\010" +
+      "filePath\030\001 \001(\t\022\017\n\007mountId\030\002 \001(\003\022\021\n\toverw" +
+      "rite\030\003 \001(\010\022\017\n\007ufsPath\030\004 \001(\t\"E\n\022Replicate" +
+      "JobConfig\022\014\n\004path\030\001 \001(\t\022\017\n\007blockId\030\002 \001(\003" +
+      "\022\020\n\010replicas\030\003 \001(\005\"3\n\016EvictJobConfig\022\017\n\007" +
+      "blockId\030\001 \001(\003\022\020\n\010replicas\030\002 \001(\005\"H\n\rMoveJ" +
+      "obConfig\022\017\n\007blockId\030\001 \001(\003\022\022\n\nworkerHost\030" +
+      "\002 \001(\t\022\022\n\nmediumType\030\003 \001(\t\"Y\n\020CompactJobC" +
+      "onfig\022\r\n\005input\030\001 \001(\t\022\016\n\006output\030\002 \001(\t\022\024\n\014" +
+      "databaseType\030\003 \001(\t\022\020\n\010numFiles\030\004 \001(\005\"6\n\022" +
+      "CompositeJobConfig\022\014\n\004jobs\030\001 \003(\014\022\022\n\nsequ" +
+      "ential\030\002 \001(\010\"\314\003\n\020JobConfigMessage\022/\n\004loa" +
+      "d\030\001 \001(\0132\037.alluxio.grpc.job.LoadJobConfig" +
+      "H\000\0225\n\007migrate\030\002 \001(\0132\".alluxio.grpc.job.M" +
+      "igrateJobConfigH\000\0225\n\007persist\030\003 \001(\0132\".all" +
+      "uxio.grpc.job.PersistJobConfigH\000\0229\n\trepl" +
+      "icate\030\004 \001(\0132$.alluxio.grpc.job.Replicate" +
+      "JobConfigH\000\0221\n\005evict\030\005 \001(\0132 .alluxio.grp" +
+      "c.job.EvictJobConfigH\000\022/\n\004move\030\006 \001(\0132\037.a" +
+      "lluxio.grpc.job.MoveJobConfigH\000\0225\n\007compa" +
+      "ct\030\007 \001(\0132\".alluxio.grpc.job.CompactJobCo" +
+      "nfigH\000\0229\n\tcomposite\030\010 \001(\0132$.alluxio.grpc" +
+      ".job.CompositeJobConfigH\000B\010\n\006config\"$\n\014L" +
+      "oadTaskArgs\022\024\n\010blockIds\030\001 \003(\003B\002\020\001\"I\n\017Tas" +
+      "kArgsMessage\022.\n\004load\030\001 \001(\0132\036.alluxio.grp" +
+      "c.job.LoadTaskArgsH\000B\006\n\004args\"2\n\021CancelTa" +
+      "skCommand\022\r\n\005jobId\030\001 \001(\003\022\016\n\006taskId\030\002 \001(\005" +
+      "\"\020\n\016CancelPOptions\"R\n\016CancelPRequest\022\r\n\005" +
+      "jobId\030\001 \001(\003\0221\n\007options\030\002 \001(\0132 .alluxio.g" +
+      "rpc.job.CancelPOptions\"\021\n\017CancelPRespons" +
+      "e\"\026\n\024GetJobStatusPOptions\"^\n\024GetJobStatu" +
+      "sPRequest\022\r\n\005jobId\030\001 \001(\003\0227\n\007options\030\002 \001(" +
+      "\0132&.alluxio.grpc.job.GetJobStatusPOption" +
+      "s\"C\n\025GetJobStatusPResponse\022*\n\007jobInfo\030\001 " +
+      "\001(\0132\031.alluxio.grpc.job.JobInfo\"\021\n\017ListAl" +
+      "lPOptions\"E\n\017ListAllPRequest\0222\n\007options\030" +
+      "\001 \001(\0132!.alluxio.grpc.job.ListAllPOptions" +
+      "\"\"\n\020ListAllPResponse\022\016\n\006jobIds\030\001 \003(\003\"\r\n\013" +
+      "RunPOptions\"P\n\013RunPRequest\022\021\n\tjobConfig\030" +
+      "\001 \001(\014\022.\n\007options\030\002 \001(\0132\035.alluxio.grpc.jo" +
+      "b.RunPOptions\"\035\n\014RunPResponse\022\r\n\005jobId\030\001" +
+      " \001(\003\"\036\n\034GetJobServiceSummaryPOptions\"_\n\034" +
+      "GetJobServiceSummaryPRequest\022?\n\007options\030" +
+      "\001 \001(\0132..alluxio.grpc.job.GetJobServiceSu" +
+      "mmaryPOptions\"U\n\035GetJobServiceSummaryPRe" +
+      "sponse\0224\n\007summary\030\001 \001(\0132#.alluxio.grpc.j" +
+      "ob.JobServiceSummary\"\026\n\024JobHeartbeatPOpt" +
+      "ions\"\220\001\n\024JobHeartbeatPRequest\022\020\n\010workerI" +
+      "d\030\001 \001(\003\022-\n\ttaskInfos\030\002 \003(\0132\032.alluxio.grp" +
+      "c.job.TaskInfo\0227\n\007options\030\003 \001(\0132&.alluxi" +
+      "o.grpc.job.JobHeartbeatPOptions\"G\n\025JobHe" +
+      "artbeatPResponse\022.\n\010commands\030\001 \003(\0132\034.all" +
+      "uxio.grpc.job.JobCommand\"\033\n\031RegisterJobW" +
+      "orkerPOptions\"\223\001\n\031RegisterJobWorkerPRequ" +
+      "est\0228\n\020workerNetAddress\030\001 \001(\0132\036.alluxio." +
+      "grpc.WorkerNetAddress\022<\n\007options\030\002 \001(\0132+" +
+      ".alluxio.grpc.job.RegisterJobWorkerPOpti" +
+      "ons\"(\n\032RegisterJobWorkerPResponse\022\n\n\002id\030" +
+      "\001 \001(\003*X\n\006Status\022\013\n\007UNKNOWN\020\000\022\013\n\007CREATED\020" +
+      "\001\022\014\n\010CANCELED\020\002\022\n\n\006FAILED\020\003\022\013\n\007RUNNING\020\004" +
+      "\022\r\n\tCOMPLETED\020\0052\331\003\n\026JobMasterClientServi" +
+      "ce\022M\n\006Cancel\022 .alluxio.grpc.job.CancelPR" +
+      "equest\032!.alluxio.grpc.job.CancelPRespons" +
+      "e\022_\n\014GetJobStatus\022&.alluxio.grpc.job.Get" +
+      "JobStatusPRequest\032\'.alluxio.grpc.job.Get" +
+      "JobStatusPResponse\022w\n\024GetJobServiceSumma" +
+      "ry\022..alluxio.grpc.job.GetJobServiceSumma" +
+      "ryPRequest\032/.alluxio.grpc.job.GetJobServ" +
+      "iceSummaryPResponse\022P\n\007ListAll\022!.alluxio" +
+      ".grpc.job.ListAllPRequest\032\".alluxio.grpc" +
+      ".job.ListAllPResponse\022D\n\003Run\022\035.alluxio.g" +
+      "rpc.job.RunPRequest\032\036.alluxio.grpc.job.R" +
+      "unPResponse2\346\001\n\026JobMasterWorkerService\022\\" +
+      "\n\tHeartbeat\022&.alluxio.grpc.job.JobHeartb" +
+      "eatPRequest\032\'.alluxio.grpc.job.JobHeartb" +
+      "eatPResponse\022n\n\021RegisterJobWorker\022+.allu" +
+      "xio.grpc.job.RegisterJobWorkerPRequest\032," +
+      ".alluxio.grpc.job.RegisterJobWorkerPResp" +
+      "onseB \n\014alluxio.grpcB\016JobMasterProtoP\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -301,134 +385,200 @@ public final class JobMasterProto {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_RegisterCommand_descriptor,
         new java.lang.String[] { });
-    internal_static_alluxio_grpc_job_CancelTaskCommand_descriptor =
+    internal_static_alluxio_grpc_job_LoadJobConfig_descriptor =
       getDescriptor().getMessageTypes().get(7);
+    internal_static_alluxio_grpc_job_LoadJobConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_LoadJobConfig_descriptor,
+        new java.lang.String[] { "FilePath", "Replication", });
+    internal_static_alluxio_grpc_job_MigrateJobConfig_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_alluxio_grpc_job_MigrateJobConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_MigrateJobConfig_descriptor,
+        new java.lang.String[] { "Source", "Destination", "WriteType", "Overwrite", "DeleteSource", });
+    internal_static_alluxio_grpc_job_PersistJobConfig_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_alluxio_grpc_job_PersistJobConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_PersistJobConfig_descriptor,
+        new java.lang.String[] { "FilePath", "MountId", "Overwrite", "UfsPath", });
+    internal_static_alluxio_grpc_job_ReplicateJobConfig_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_alluxio_grpc_job_ReplicateJobConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_ReplicateJobConfig_descriptor,
+        new java.lang.String[] { "Path", "BlockId", "Replicas", });
+    internal_static_alluxio_grpc_job_EvictJobConfig_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_alluxio_grpc_job_EvictJobConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_EvictJobConfig_descriptor,
+        new java.lang.String[] { "BlockId", "Replicas", });
+    internal_static_alluxio_grpc_job_MoveJobConfig_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_alluxio_grpc_job_MoveJobConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_MoveJobConfig_descriptor,
+        new java.lang.String[] { "BlockId", "WorkerHost", "MediumType", });
+    internal_static_alluxio_grpc_job_CompactJobConfig_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_alluxio_grpc_job_CompactJobConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_CompactJobConfig_descriptor,
+        new java.lang.String[] { "Input", "Output", "DatabaseType", "NumFiles", });
+    internal_static_alluxio_grpc_job_CompositeJobConfig_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_alluxio_grpc_job_CompositeJobConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_CompositeJobConfig_descriptor,
+        new java.lang.String[] { "Jobs", "Sequential", });
+    internal_static_alluxio_grpc_job_JobConfigMessage_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_alluxio_grpc_job_JobConfigMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_JobConfigMessage_descriptor,
+        new java.lang.String[] { "Load", "Migrate", "Persist", "Replicate", "Evict", "Move", "Compact", "Composite", "Config", });
+    internal_static_alluxio_grpc_job_LoadTaskArgs_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_alluxio_grpc_job_LoadTaskArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_LoadTaskArgs_descriptor,
+        new java.lang.String[] { "BlockIds", });
+    internal_static_alluxio_grpc_job_TaskArgsMessage_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_alluxio_grpc_job_TaskArgsMessage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_grpc_job_TaskArgsMessage_descriptor,
+        new java.lang.String[] { "Load", "Args", });
+    internal_static_alluxio_grpc_job_CancelTaskCommand_descriptor =
+      getDescriptor().getMessageTypes().get(18);
     internal_static_alluxio_grpc_job_CancelTaskCommand_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_CancelTaskCommand_descriptor,
         new java.lang.String[] { "JobId", "TaskId", });
     internal_static_alluxio_grpc_job_CancelPOptions_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(19);
     internal_static_alluxio_grpc_job_CancelPOptions_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_CancelPOptions_descriptor,
         new java.lang.String[] { });
     internal_static_alluxio_grpc_job_CancelPRequest_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_alluxio_grpc_job_CancelPRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_CancelPRequest_descriptor,
         new java.lang.String[] { "JobId", "Options", });
     internal_static_alluxio_grpc_job_CancelPResponse_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_alluxio_grpc_job_CancelPResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_CancelPResponse_descriptor,
         new java.lang.String[] { });
     internal_static_alluxio_grpc_job_GetJobStatusPOptions_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(22);
     internal_static_alluxio_grpc_job_GetJobStatusPOptions_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_GetJobStatusPOptions_descriptor,
         new java.lang.String[] { });
     internal_static_alluxio_grpc_job_GetJobStatusPRequest_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(23);
     internal_static_alluxio_grpc_job_GetJobStatusPRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_GetJobStatusPRequest_descriptor,
         new java.lang.String[] { "JobId", "Options", });
     internal_static_alluxio_grpc_job_GetJobStatusPResponse_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(24);
     internal_static_alluxio_grpc_job_GetJobStatusPResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_GetJobStatusPResponse_descriptor,
         new java.lang.String[] { "JobInfo", });
     internal_static_alluxio_grpc_job_ListAllPOptions_descriptor =
-      getDescriptor().getMessageTypes().get(14);
+      getDescriptor().getMessageTypes().get(25);
     internal_static_alluxio_grpc_job_ListAllPOptions_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_ListAllPOptions_descriptor,
         new java.lang.String[] { });
     internal_static_alluxio_grpc_job_ListAllPRequest_descriptor =
-      getDescriptor().getMessageTypes().get(15);
+      getDescriptor().getMessageTypes().get(26);
     internal_static_alluxio_grpc_job_ListAllPRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_ListAllPRequest_descriptor,
         new java.lang.String[] { "Options", });
     internal_static_alluxio_grpc_job_ListAllPResponse_descriptor =
-      getDescriptor().getMessageTypes().get(16);
+      getDescriptor().getMessageTypes().get(27);
     internal_static_alluxio_grpc_job_ListAllPResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_ListAllPResponse_descriptor,
         new java.lang.String[] { "JobIds", });
     internal_static_alluxio_grpc_job_RunPOptions_descriptor =
-      getDescriptor().getMessageTypes().get(17);
+      getDescriptor().getMessageTypes().get(28);
     internal_static_alluxio_grpc_job_RunPOptions_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_RunPOptions_descriptor,
         new java.lang.String[] { });
     internal_static_alluxio_grpc_job_RunPRequest_descriptor =
-      getDescriptor().getMessageTypes().get(18);
+      getDescriptor().getMessageTypes().get(29);
     internal_static_alluxio_grpc_job_RunPRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_RunPRequest_descriptor,
         new java.lang.String[] { "JobConfig", "Options", });
     internal_static_alluxio_grpc_job_RunPResponse_descriptor =
-      getDescriptor().getMessageTypes().get(19);
+      getDescriptor().getMessageTypes().get(30);
     internal_static_alluxio_grpc_job_RunPResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_RunPResponse_descriptor,
         new java.lang.String[] { "JobId", });
     internal_static_alluxio_grpc_job_GetJobServiceSummaryPOptions_descriptor =
-      getDescriptor().getMessageTypes().get(20);
+      getDescriptor().getMessageTypes().get(31);
     internal_static_alluxio_grpc_job_GetJobServiceSummaryPOptions_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_GetJobServiceSummaryPOptions_descriptor,
         new java.lang.String[] { });
     internal_static_alluxio_grpc_job_GetJobServiceSummaryPRequest_descriptor =
-      getDescriptor().getMessageTypes().get(21);
+      getDescriptor().getMessageTypes().get(32);
     internal_static_alluxio_grpc_job_GetJobServiceSummaryPRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_GetJobServiceSummaryPRequest_descriptor,
         new java.lang.String[] { "Options", });
     internal_static_alluxio_grpc_job_GetJobServiceSummaryPResponse_descriptor =
-      getDescriptor().getMessageTypes().get(22);
+      getDescriptor().getMessageTypes().get(33);
     internal_static_alluxio_grpc_job_GetJobServiceSummaryPResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_GetJobServiceSummaryPResponse_descriptor,
         new java.lang.String[] { "Summary", });
     internal_static_alluxio_grpc_job_JobHeartbeatPOptions_descriptor =
-      getDescriptor().getMessageTypes().get(23);
+      getDescriptor().getMessageTypes().get(34);
     internal_static_alluxio_grpc_job_JobHeartbeatPOptions_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_JobHeartbeatPOptions_descriptor,
         new java.lang.String[] { });
     internal_static_alluxio_grpc_job_JobHeartbeatPRequest_descriptor =
-      getDescriptor().getMessageTypes().get(24);
+      getDescriptor().getMessageTypes().get(35);
     internal_static_alluxio_grpc_job_JobHeartbeatPRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_JobHeartbeatPRequest_descriptor,
         new java.lang.String[] { "WorkerId", "TaskInfos", "Options", });
     internal_static_alluxio_grpc_job_JobHeartbeatPResponse_descriptor =
-      getDescriptor().getMessageTypes().get(25);
+      getDescriptor().getMessageTypes().get(36);
     internal_static_alluxio_grpc_job_JobHeartbeatPResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_JobHeartbeatPResponse_descriptor,
         new java.lang.String[] { "Commands", });
     internal_static_alluxio_grpc_job_RegisterJobWorkerPOptions_descriptor =
-      getDescriptor().getMessageTypes().get(26);
+      getDescriptor().getMessageTypes().get(37);
     internal_static_alluxio_grpc_job_RegisterJobWorkerPOptions_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_RegisterJobWorkerPOptions_descriptor,
         new java.lang.String[] { });
     internal_static_alluxio_grpc_job_RegisterJobWorkerPRequest_descriptor =
-      getDescriptor().getMessageTypes().get(27);
+      getDescriptor().getMessageTypes().get(38);
     internal_static_alluxio_grpc_job_RegisterJobWorkerPRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_RegisterJobWorkerPRequest_descriptor,
         new java.lang.String[] { "WorkerNetAddress", "Options", });
     internal_static_alluxio_grpc_job_RegisterJobWorkerPResponse_descriptor =
-      getDescriptor().getMessageTypes().get(28);
+      getDescriptor().getMessageTypes().get(39);
     internal_static_alluxio_grpc_job_RegisterJobWorkerPResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_grpc_job_RegisterJobWorkerPResponse_descriptor,
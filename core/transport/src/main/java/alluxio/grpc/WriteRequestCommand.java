@@ -6,7 +6,7 @@ package alluxio.grpc;
 /**
  * <pre>
  * The write request command.
- * next available id: 10
+ * next available id: 11
  * </pre>
  *
  * Protobuf type {@code alluxio.grpc.block.WriteRequestCommand}
@@ -28,6 +28,7 @@ private static final long serialVersionUID = 0L;
     flush_ = false;
     mediumType_ = "";
     pinOnCreate_ = false;
+    pipeline_ = java.util.Collections.emptyList();
   }
 
   @java.lang.Override
@@ -129,6 +130,15 @@ private static final long serialVersionUID = 0L;
             pinOnCreate_ = input.readBool();
             break;
           }
+          case 82: {
+            if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+              pipeline_ = new java.util.ArrayList<alluxio.grpc.WorkerNetAddress>();
+              mutable_bitField0_ |= 0x00000200;
+            }
+            pipeline_.add(
+                input.readMessage(alluxio.grpc.WorkerNetAddress.PARSER, extensionRegistry));
+            break;
+          }
         }
       }
     } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -137,6 +147,9 @@ private static final long serialVersionUID = 0L;
       throw new com.google.protobuf.InvalidProtocolBufferException(
           e).setUnfinishedMessage(this);
     } finally {
+      if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
+        pipeline_ = java.util.Collections.unmodifiableList(pipeline_);
+      }
       this.unknownFields = unknownFields.build();
       makeExtensionsImmutable();
     }
@@ -357,6 +370,66 @@ private static final long serialVersionUID = 0L;
     return pinOnCreate_;
   }
 
+  public static final int PIPELINE_FIELD_NUMBER = 10;
+  private java.util.List<alluxio.grpc.WorkerNetAddress> pipeline_;
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  public java.util.List<alluxio.grpc.WorkerNetAddress> getPipelineList() {
+    return pipeline_;
+  }
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  public java.util.List<? extends alluxio.grpc.WorkerNetAddressOrBuilder> 
+      getPipelineOrBuilderList() {
+    return pipeline_;
+  }
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  public int getPipelineCount() {
+    return pipeline_.size();
+  }
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  public alluxio.grpc.WorkerNetAddress getPipeline(int index) {
+    return pipeline_.get(index);
+  }
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  public alluxio.grpc.WorkerNetAddressOrBuilder getPipelineOrBuilder(
+      int index) {
+    return pipeline_.get(index);
+  }
+
   private byte memoizedIsInitialized = -1;
   public final boolean isInitialized() {
     byte isInitialized = memoizedIsInitialized;
@@ -396,6 +469,9 @@ private static final long serialVersionUID = 0L;
     if (((bitField0_ & 0x00000100) == 0x00000100)) {
       output.writeBool(9, pinOnCreate_);
     }
+    for (int i = 0; i < pipeline_.size(); i++) {
+      output.writeMessage(10, pipeline_.get(i));
+    }
     unknownFields.writeTo(output);
   }
 
@@ -439,6 +515,10 @@ private static final long serialVersionUID = 0L;
       size += com.google.protobuf.CodedOutputStream
         .computeBoolSize(9, pinOnCreate_);
     }
+    for (int i = 0; i < pipeline_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(10, pipeline_.get(i));
+    }
     size += unknownFields.getSerializedSize();
     memoizedSize = size;
     return size;
@@ -499,6 +579,8 @@ private static final long serialVersionUID = 0L;
       result = result && (getPinOnCreate()
           == other.getPinOnCreate());
     }
+    result = result && getPipelineList()
+        .equals(other.getPipelineList());
     result = result && unknownFields.equals(other.unknownFields);
     return result;
   }
@@ -550,6 +632,10 @@ private static final long serialVersionUID = 0L;
       hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
           getPinOnCreate());
     }
+    if (getPipelineCount() > 0) {
+      hash = (37 * hash) + PIPELINE_FIELD_NUMBER;
+      hash = (53 * hash) + getPipelineList().hashCode();
+    }
     hash = (29 * hash) + unknownFields.hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -646,7 +732,7 @@ private static final long serialVersionUID = 0L;
   /**
    * <pre>
    * The write request command.
-   * next available id: 10
+   * next available id: 11
    * </pre>
    *
    * Protobuf type {@code alluxio.grpc.block.WriteRequestCommand}
@@ -682,6 +768,7 @@ private static final long serialVersionUID = 0L;
               .alwaysUseFieldBuilders) {
         getCreateUfsFileOptionsFieldBuilder();
         getCreateUfsBlockOptionsFieldBuilder();
+        getPipelineFieldBuilder();
       }
     }
     public Builder clear() {
@@ -712,6 +799,12 @@ private static final long serialVersionUID = 0L;
       bitField0_ = (bitField0_ & ~0x00000080);
       pinOnCreate_ = false;
       bitField0_ = (bitField0_ & ~0x00000100);
+      if (pipelineBuilder_ == null) {
+        pipeline_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+      } else {
+        pipelineBuilder_.clear();
+      }
       return this;
     }
 
@@ -780,6 +873,15 @@ private static final long serialVersionUID = 0L;
         to_bitField0_ |= 0x00000100;
       }
       result.pinOnCreate_ = pinOnCreate_;
+      if (pipelineBuilder_ == null) {
+        if (((bitField0_ & 0x00000200) == 0x00000200)) {
+          pipeline_ = java.util.Collections.unmodifiableList(pipeline_);
+          bitField0_ = (bitField0_ & ~0x00000200);
+        }
+        result.pipeline_ = pipeline_;
+      } else {
+        result.pipeline_ = pipelineBuilder_.build();
+      }
       result.bitField0_ = to_bitField0_;
       onBuilt();
       return result;
@@ -851,6 +953,32 @@ private static final long serialVersionUID = 0L;
       if (other.hasPinOnCreate()) {
         setPinOnCreate(other.getPinOnCreate());
       }
+      if (pipelineBuilder_ == null) {
+        if (!other.pipeline_.isEmpty()) {
+          if (pipeline_.isEmpty()) {
+            pipeline_ = other.pipeline_;
+            bitField0_ = (bitField0_ & ~0x00000200);
+          } else {
+            ensurePipelineIsMutable();
+            pipeline_.addAll(other.pipeline_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.pipeline_.isEmpty()) {
+          if (pipelineBuilder_.isEmpty()) {
+            pipelineBuilder_.dispose();
+            pipelineBuilder_ = null;
+            pipeline_ = other.pipeline_;
+            bitField0_ = (bitField0_ & ~0x00000200);
+            pipelineBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getPipelineFieldBuilder() : null;
+          } else {
+            pipelineBuilder_.addAllMessages(other.pipeline_);
+          }
+        }
+      }
       this.mergeUnknownFields(other.unknownFields);
       onChanged();
       return this;
@@ -1454,6 +1582,336 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private java.util.List<alluxio.grpc.WorkerNetAddress> pipeline_ =
+      java.util.Collections.emptyList();
+    private void ensurePipelineIsMutable() {
+      if (!((bitField0_ & 0x00000200) == 0x00000200)) {
+        pipeline_ = new java.util.ArrayList<alluxio.grpc.WorkerNetAddress>(pipeline_);
+        bitField0_ |= 0x00000200;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        alluxio.grpc.WorkerNetAddress, alluxio.grpc.WorkerNetAddress.Builder, alluxio.grpc.WorkerNetAddressOrBuilder> pipelineBuilder_;
+
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public java.util.List<alluxio.grpc.WorkerNetAddress> getPipelineList() {
+      if (pipelineBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(pipeline_);
+      } else {
+        return pipelineBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public int getPipelineCount() {
+      if (pipelineBuilder_ == null) {
+        return pipeline_.size();
+      } else {
+        return pipelineBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public alluxio.grpc.WorkerNetAddress getPipeline(int index) {
+      if (pipelineBuilder_ == null) {
+        return pipeline_.get(index);
+      } else {
+        return pipelineBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public Builder setPipeline(
+        int index, alluxio.grpc.WorkerNetAddress value) {
+      if (pipelineBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePipelineIsMutable();
+        pipeline_.set(index, value);
+        onChanged();
+      } else {
+        pipelineBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public Builder setPipeline(
+        int index, alluxio.grpc.WorkerNetAddress.Builder builderForValue) {
+      if (pipelineBuilder_ == null) {
+        ensurePipelineIsMutable();
+        pipeline_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        pipelineBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public Builder addPipeline(alluxio.grpc.WorkerNetAddress value) {
+      if (pipelineBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePipelineIsMutable();
+        pipeline_.add(value);
+        onChanged();
+      } else {
+        pipelineBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public Builder addPipeline(
+        int index, alluxio.grpc.WorkerNetAddress value) {
+      if (pipelineBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePipelineIsMutable();
+        pipeline_.add(index, value);
+        onChanged();
+      } else {
+        pipelineBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public Builder addPipeline(
+        alluxio.grpc.WorkerNetAddress.Builder builderForValue) {
+      if (pipelineBuilder_ == null) {
+        ensurePipelineIsMutable();
+        pipeline_.add(builderForValue.build());
+        onChanged();
+      } else {
+        pipelineBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public Builder addPipeline(
+        int index, alluxio.grpc.WorkerNetAddress.Builder builderForValue) {
+      if (pipelineBuilder_ == null) {
+        ensurePipelineIsMutable();
+        pipeline_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        pipelineBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public Builder addAllPipeline(
+        java.lang.Iterable<? extends alluxio.grpc.WorkerNetAddress> values) {
+      if (pipelineBuilder_ == null) {
+        ensurePipelineIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, pipeline_);
+        onChanged();
+      } else {
+        pipelineBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public Builder clearPipeline() {
+      if (pipelineBuilder_ == null) {
+        pipeline_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000200);
+        onChanged();
+      } else {
+        pipelineBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public Builder removePipeline(int index) {
+      if (pipelineBuilder_ == null) {
+        ensurePipelineIsMutable();
+        pipeline_.remove(index);
+        onChanged();
+      } else {
+        pipelineBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public alluxio.grpc.WorkerNetAddress.Builder getPipelineBuilder(
+        int index) {
+      return getPipelineFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public alluxio.grpc.WorkerNetAddressOrBuilder getPipelineOrBuilder(
+        int index) {
+      if (pipelineBuilder_ == null) {
+        return pipeline_.get(index);  } else {
+        return pipelineBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public java.util.List<? extends alluxio.grpc.WorkerNetAddressOrBuilder> 
+         getPipelineOrBuilderList() {
+      if (pipelineBuilder_ != null) {
+        return pipelineBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(pipeline_);
+      }
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public alluxio.grpc.WorkerNetAddress.Builder addPipelineBuilder() {
+      return getPipelineFieldBuilder().addBuilder(
+          alluxio.grpc.WorkerNetAddress.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public alluxio.grpc.WorkerNetAddress.Builder addPipelineBuilder(
+        int index) {
+      return getPipelineFieldBuilder().addBuilder(
+          index, alluxio.grpc.WorkerNetAddress.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * The workers the block is forwarded to, in order, when the replicas of the block are written
+     * through a pipeline of workers. Only applicable for block write.
+     * </pre>
+     *
+     * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+     */
+    public java.util.List<alluxio.grpc.WorkerNetAddress.Builder> 
+         getPipelineBuilderList() {
+      return getPipelineFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        alluxio.grpc.WorkerNetAddress, alluxio.grpc.WorkerNetAddress.Builder, alluxio.grpc.WorkerNetAddressOrBuilder> 
+        getPipelineFieldBuilder() {
+      if (pipelineBuilder_ == null) {
+        pipelineBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            alluxio.grpc.WorkerNetAddress, alluxio.grpc.WorkerNetAddress.Builder, alluxio.grpc.WorkerNetAddressOrBuilder>(
+                pipeline_,
+                ((bitField0_ & 0x00000200) == 0x00000200),
+                getParentForChildren(),
+                isClean());
+        pipeline_ = null;
+      }
+      return pipelineBuilder_;
+    }
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
       return super.setUnknownFields(unknownFields);
@@ -128,4 +128,53 @@ public interface WriteRequestCommandOrBuilder extends
    * <code>optional bool pin_on_create = 9;</code>
    */
   boolean getPinOnCreate();
+
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  java.util.List<alluxio.grpc.WorkerNetAddress> 
+      getPipelineList();
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  alluxio.grpc.WorkerNetAddress getPipeline(int index);
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  int getPipelineCount();
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  java.util.List<? extends alluxio.grpc.WorkerNetAddressOrBuilder> 
+      getPipelineOrBuilderList();
+  /**
+   * <pre>
+   * The workers the block is forwarded to, in order, when the replicas of the block are written
+   * through a pipeline of workers. Only applicable for block write.
+   * </pre>
+   *
+   * <code>repeated .alluxio.grpc.WorkerNetAddress pipeline = 10;</code>
+   */
+  alluxio.grpc.WorkerNetAddressOrBuilder getPipelineOrBuilder(
+      int index);
 }
@@ -1063,11 +1063,2024 @@ public final class Job {
 
   }
 
+  public interface StartJobEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:alluxio.proto.journal.StartJobEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int64 job_id = 1;</code>
+     */
+    boolean hasJobId();
+    /**
+     * <code>optional int64 job_id = 1;</code>
+     */
+    long getJobId();
+
+    /**
+     * <pre>
+     * the job config, serialized with java serialization
+     * </pre>
+     *
+     * <code>optional bytes job_config = 2;</code>
+     */
+    boolean hasJobConfig();
+    /**
+     * <pre>
+     * the job config, serialized with java serialization
+     * </pre>
+     *
+     * <code>optional bytes job_config = 2;</code>
+     */
+    com.google.protobuf.ByteString getJobConfig();
+
+    /**
+     * <pre>
+     * the first id to use for the tasks of the job, so that a restarted job does not reuse the ids
+     * of the tasks of its previous run
+     * </pre>
+     *
+     * <code>optional int32 first_task_id = 3;</code>
+     */
+    boolean hasFirstTaskId();
+    /**
+     * <pre>
+     * the first id to use for the tasks of the job, so that a restarted job does not reuse the ids
+     * of the tasks of its previous run
+     * </pre>
+     *
+     * <code>optional int32 first_task_id = 3;</code>
+     */
+    int getFirstTaskId();
+  }
+  /**
+   * <pre>
+   * next available id: 4
+   * </pre>
+   *
+   * Protobuf type {@code alluxio.proto.journal.StartJobEntry}
+   */
+  public  static final class StartJobEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:alluxio.proto.journal.StartJobEntry)
+      StartJobEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use StartJobEntry.newBuilder() to construct.
+    private StartJobEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private StartJobEntry() {
+      jobId_ = 0L;
+      jobConfig_ = com.google.protobuf.ByteString.EMPTY;
+      firstTaskId_ = 0;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private StartJobEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              jobId_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              jobConfig_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              firstTaskId_ = input.readInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_StartJobEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_StartJobEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.journal.Job.StartJobEntry.class, alluxio.proto.journal.Job.StartJobEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int JOB_ID_FIELD_NUMBER = 1;
+    private long jobId_;
+    /**
+     * <code>optional int64 job_id = 1;</code>
+     */
+    public boolean hasJobId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 job_id = 1;</code>
+     */
+    public long getJobId() {
+      return jobId_;
+    }
+
+    public static final int JOB_CONFIG_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString jobConfig_;
+    /**
+     * <pre>
+     * the job config, serialized with java serialization
+     * </pre>
+     *
+     * <code>optional bytes job_config = 2;</code>
+     */
+    public boolean hasJobConfig() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <pre>
+     * the job config, serialized with java serialization
+     * </pre>
+     *
+     * <code>optional bytes job_config = 2;</code>
+     */
+    public com.google.protobuf.ByteString getJobConfig() {
+      return jobConfig_;
+    }
+
+    public static final int FIRST_TASK_ID_FIELD_NUMBER = 3;
+    private int firstTaskId_;
+    /**
+     * <pre>
+     * the first id to use for the tasks of the job, so that a restarted job does not reuse the ids
+     * of the tasks of its previous run
+     * </pre>
+     *
+     * <code>optional int32 first_task_id = 3;</code>
+     */
+    public boolean hasFirstTaskId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <pre>
+     * the first id to use for the tasks of the job, so that a restarted job does not reuse the ids
+     * of the tasks of its previous run
+     * </pre>
+     *
+     * <code>optional int32 first_task_id = 3;</code>
+     */
+    public int getFirstTaskId() {
+      return firstTaskId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, jobId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, jobConfig_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, firstTaskId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, jobId_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, jobConfig_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, firstTaskId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof alluxio.proto.journal.Job.StartJobEntry)) {
+        return super.equals(obj);
+      }
+      alluxio.proto.journal.Job.StartJobEntry other = (alluxio.proto.journal.Job.StartJobEntry) obj;
+
+      boolean result = true;
+      result = result && (hasJobId() == other.hasJobId());
+      if (hasJobId()) {
+        result = result && (getJobId()
+            == other.getJobId());
+      }
+      result = result && (hasJobConfig() == other.hasJobConfig());
+      if (hasJobConfig()) {
+        result = result && getJobConfig()
+            .equals(other.getJobConfig());
+      }
+      result = result && (hasFirstTaskId() == other.hasFirstTaskId());
+      if (hasFirstTaskId()) {
+        result = result && (getFirstTaskId()
+            == other.getFirstTaskId());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasJobId()) {
+        hash = (37 * hash) + JOB_ID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getJobId());
+      }
+      if (hasJobConfig()) {
+        hash = (37 * hash) + JOB_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getJobConfig().hashCode();
+      }
+      if (hasFirstTaskId()) {
+        hash = (37 * hash) + FIRST_TASK_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getFirstTaskId();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Job.StartJobEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(alluxio.proto.journal.Job.StartJobEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * next available id: 4
+     * </pre>
+     *
+     * Protobuf type {@code alluxio.proto.journal.StartJobEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:alluxio.proto.journal.StartJobEntry)
+        alluxio.proto.journal.Job.StartJobEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_StartJobEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_StartJobEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.journal.Job.StartJobEntry.class, alluxio.proto.journal.Job.StartJobEntry.Builder.class);
+      }
+
+      // Construct using alluxio.proto.journal.Job.StartJobEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        jobId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        jobConfig_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        firstTaskId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_StartJobEntry_descriptor;
+      }
+
+      public alluxio.proto.journal.Job.StartJobEntry getDefaultInstanceForType() {
+        return alluxio.proto.journal.Job.StartJobEntry.getDefaultInstance();
+      }
+
+      public alluxio.proto.journal.Job.StartJobEntry build() {
+        alluxio.proto.journal.Job.StartJobEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.journal.Job.StartJobEntry buildPartial() {
+        alluxio.proto.journal.Job.StartJobEntry result = new alluxio.proto.journal.Job.StartJobEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.jobId_ = jobId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.jobConfig_ = jobConfig_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.firstTaskId_ = firstTaskId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.journal.Job.StartJobEntry) {
+          return mergeFrom((alluxio.proto.journal.Job.StartJobEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.journal.Job.StartJobEntry other) {
+        if (other == alluxio.proto.journal.Job.StartJobEntry.getDefaultInstance()) return this;
+        if (other.hasJobId()) {
+          setJobId(other.getJobId());
+        }
+        if (other.hasJobConfig()) {
+          setJobConfig(other.getJobConfig());
+        }
+        if (other.hasFirstTaskId()) {
+          setFirstTaskId(other.getFirstTaskId());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.journal.Job.StartJobEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.journal.Job.StartJobEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long jobId_ ;
+      /**
+       * <code>optional int64 job_id = 1;</code>
+       */
+      public boolean hasJobId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 job_id = 1;</code>
+       */
+      public long getJobId() {
+        return jobId_;
+      }
+      /**
+       * <code>optional int64 job_id = 1;</code>
+       */
+      public Builder setJobId(long value) {
+        bitField0_ |= 0x00000001;
+        jobId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 job_id = 1;</code>
+       */
+      public Builder clearJobId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        jobId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString jobConfig_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <pre>
+       * the job config, serialized with java serialization
+       * </pre>
+       *
+       * <code>optional bytes job_config = 2;</code>
+       */
+      public boolean hasJobConfig() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <pre>
+       * the job config, serialized with java serialization
+       * </pre>
+       *
+       * <code>optional bytes job_config = 2;</code>
+       */
+      public com.google.protobuf.ByteString getJobConfig() {
+        return jobConfig_;
+      }
+      /**
+       * <pre>
+       * the job config, serialized with java serialization
+       * </pre>
+       *
+       * <code>optional bytes job_config = 2;</code>
+       */
+      public Builder setJobConfig(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        jobConfig_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the job config, serialized with java serialization
+       * </pre>
+       *
+       * <code>optional bytes job_config = 2;</code>
+       */
+      public Builder clearJobConfig() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        jobConfig_ = getDefaultInstance().getJobConfig();
+        onChanged();
+        return this;
+      }
+
+      private int firstTaskId_ ;
+      /**
+       * <pre>
+       * the first id to use for the tasks of the job, so that a restarted job does not reuse the ids
+       * of the tasks of its previous run
+       * </pre>
+       *
+       * <code>optional int32 first_task_id = 3;</code>
+       */
+      public boolean hasFirstTaskId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <pre>
+       * the first id to use for the tasks of the job, so that a restarted job does not reuse the ids
+       * of the tasks of its previous run
+       * </pre>
+       *
+       * <code>optional int32 first_task_id = 3;</code>
+       */
+      public int getFirstTaskId() {
+        return firstTaskId_;
+      }
+      /**
+       * <pre>
+       * the first id to use for the tasks of the job, so that a restarted job does not reuse the ids
+       * of the tasks of its previous run
+       * </pre>
+       *
+       * <code>optional int32 first_task_id = 3;</code>
+       */
+      public Builder setFirstTaskId(int value) {
+        bitField0_ |= 0x00000004;
+        firstTaskId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * the first id to use for the tasks of the job, so that a restarted job does not reuse the ids
+       * of the tasks of its previous run
+       * </pre>
+       *
+       * <code>optional int32 first_task_id = 3;</code>
+       */
+      public Builder clearFirstTaskId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        firstTaskId_ = 0;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.StartJobEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.journal.StartJobEntry)
+    private static final alluxio.proto.journal.Job.StartJobEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new alluxio.proto.journal.Job.StartJobEntry();
+    }
+
+    public static alluxio.proto.journal.Job.StartJobEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<StartJobEntry>
+        PARSER = new com.google.protobuf.AbstractParser<StartJobEntry>() {
+      public StartJobEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new StartJobEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<StartJobEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<StartJobEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public alluxio.proto.journal.Job.StartJobEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UpdateJobEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:alluxio.proto.journal.UpdateJobEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * the job status, only the tasks which changed are included
+     * </pre>
+     *
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    boolean hasJobInfo();
+    /**
+     * <pre>
+     * the job status, only the tasks which changed are included
+     * </pre>
+     *
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    alluxio.grpc.JobInfo getJobInfo();
+    /**
+     * <pre>
+     * the job status, only the tasks which changed are included
+     * </pre>
+     *
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    alluxio.grpc.JobInfoOrBuilder getJobInfoOrBuilder();
+  }
+  /**
+   * <pre>
+   * next available id: 2
+   * </pre>
+   *
+   * Protobuf type {@code alluxio.proto.journal.UpdateJobEntry}
+   */
+  public  static final class UpdateJobEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:alluxio.proto.journal.UpdateJobEntry)
+      UpdateJobEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UpdateJobEntry.newBuilder() to construct.
+    private UpdateJobEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UpdateJobEntry() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UpdateJobEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              alluxio.grpc.JobInfo.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = jobInfo_.toBuilder();
+              }
+              jobInfo_ = input.readMessage(alluxio.grpc.JobInfo.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(jobInfo_);
+                jobInfo_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_UpdateJobEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_UpdateJobEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.journal.Job.UpdateJobEntry.class, alluxio.proto.journal.Job.UpdateJobEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int JOB_INFO_FIELD_NUMBER = 1;
+    private alluxio.grpc.JobInfo jobInfo_;
+    /**
+     * <pre>
+     * the job status, only the tasks which changed are included
+     * </pre>
+     *
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    public boolean hasJobInfo() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <pre>
+     * the job status, only the tasks which changed are included
+     * </pre>
+     *
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    public alluxio.grpc.JobInfo getJobInfo() {
+      return jobInfo_ == null ? alluxio.grpc.JobInfo.getDefaultInstance() : jobInfo_;
+    }
+    /**
+     * <pre>
+     * the job status, only the tasks which changed are included
+     * </pre>
+     *
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    public alluxio.grpc.JobInfoOrBuilder getJobInfoOrBuilder() {
+      return jobInfo_ == null ? alluxio.grpc.JobInfo.getDefaultInstance() : jobInfo_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, getJobInfo());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getJobInfo());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof alluxio.proto.journal.Job.UpdateJobEntry)) {
+        return super.equals(obj);
+      }
+      alluxio.proto.journal.Job.UpdateJobEntry other = (alluxio.proto.journal.Job.UpdateJobEntry) obj;
+
+      boolean result = true;
+      result = result && (hasJobInfo() == other.hasJobInfo());
+      if (hasJobInfo()) {
+        result = result && getJobInfo()
+            .equals(other.getJobInfo());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasJobInfo()) {
+        hash = (37 * hash) + JOB_INFO_FIELD_NUMBER;
+        hash = (53 * hash) + getJobInfo().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Job.UpdateJobEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(alluxio.proto.journal.Job.UpdateJobEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * next available id: 2
+     * </pre>
+     *
+     * Protobuf type {@code alluxio.proto.journal.UpdateJobEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:alluxio.proto.journal.UpdateJobEntry)
+        alluxio.proto.journal.Job.UpdateJobEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_UpdateJobEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_UpdateJobEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.journal.Job.UpdateJobEntry.class, alluxio.proto.journal.Job.UpdateJobEntry.Builder.class);
+      }
+
+      // Construct using alluxio.proto.journal.Job.UpdateJobEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getJobInfoFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (jobInfoBuilder_ == null) {
+          jobInfo_ = null;
+        } else {
+          jobInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_UpdateJobEntry_descriptor;
+      }
+
+      public alluxio.proto.journal.Job.UpdateJobEntry getDefaultInstanceForType() {
+        return alluxio.proto.journal.Job.UpdateJobEntry.getDefaultInstance();
+      }
+
+      public alluxio.proto.journal.Job.UpdateJobEntry build() {
+        alluxio.proto.journal.Job.UpdateJobEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.journal.Job.UpdateJobEntry buildPartial() {
+        alluxio.proto.journal.Job.UpdateJobEntry result = new alluxio.proto.journal.Job.UpdateJobEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (jobInfoBuilder_ == null) {
+          result.jobInfo_ = jobInfo_;
+        } else {
+          result.jobInfo_ = jobInfoBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.journal.Job.UpdateJobEntry) {
+          return mergeFrom((alluxio.proto.journal.Job.UpdateJobEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.journal.Job.UpdateJobEntry other) {
+        if (other == alluxio.proto.journal.Job.UpdateJobEntry.getDefaultInstance()) return this;
+        if (other.hasJobInfo()) {
+          mergeJobInfo(other.getJobInfo());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.journal.Job.UpdateJobEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.journal.Job.UpdateJobEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private alluxio.grpc.JobInfo jobInfo_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.grpc.JobInfo, alluxio.grpc.JobInfo.Builder, alluxio.grpc.JobInfoOrBuilder> jobInfoBuilder_;
+      /**
+       * <pre>
+       * the job status, only the tasks which changed are included
+       * </pre>
+       *
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public boolean hasJobInfo() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <pre>
+       * the job status, only the tasks which changed are included
+       * </pre>
+       *
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public alluxio.grpc.JobInfo getJobInfo() {
+        if (jobInfoBuilder_ == null) {
+          return jobInfo_ == null ? alluxio.grpc.JobInfo.getDefaultInstance() : jobInfo_;
+        } else {
+          return jobInfoBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * the job status, only the tasks which changed are included
+       * </pre>
+       *
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public Builder setJobInfo(alluxio.grpc.JobInfo value) {
+        if (jobInfoBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          jobInfo_ = value;
+          onChanged();
+        } else {
+          jobInfoBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <pre>
+       * the job status, only the tasks which changed are included
+       * </pre>
+       *
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public Builder setJobInfo(
+          alluxio.grpc.JobInfo.Builder builderForValue) {
+        if (jobInfoBuilder_ == null) {
+          jobInfo_ = builderForValue.build();
+          onChanged();
+        } else {
+          jobInfoBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <pre>
+       * the job status, only the tasks which changed are included
+       * </pre>
+       *
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public Builder mergeJobInfo(alluxio.grpc.JobInfo value) {
+        if (jobInfoBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              jobInfo_ != null &&
+              jobInfo_ != alluxio.grpc.JobInfo.getDefaultInstance()) {
+            jobInfo_ =
+              alluxio.grpc.JobInfo.newBuilder(jobInfo_).mergeFrom(value).buildPartial();
+          } else {
+            jobInfo_ = value;
+          }
+          onChanged();
+        } else {
+          jobInfoBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <pre>
+       * the job status, only the tasks which changed are included
+       * </pre>
+       *
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public Builder clearJobInfo() {
+        if (jobInfoBuilder_ == null) {
+          jobInfo_ = null;
+          onChanged();
+        } else {
+          jobInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <pre>
+       * the job status, only the tasks which changed are included
+       * </pre>
+       *
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public alluxio.grpc.JobInfo.Builder getJobInfoBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getJobInfoFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * the job status, only the tasks which changed are included
+       * </pre>
+       *
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public alluxio.grpc.JobInfoOrBuilder getJobInfoOrBuilder() {
+        if (jobInfoBuilder_ != null) {
+          return jobInfoBuilder_.getMessageOrBuilder();
+        } else {
+          return jobInfo_ == null ?
+              alluxio.grpc.JobInfo.getDefaultInstance() : jobInfo_;
+        }
+      }
+      /**
+       * <pre>
+       * the job status, only the tasks which changed are included
+       * </pre>
+       *
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.grpc.JobInfo, alluxio.grpc.JobInfo.Builder, alluxio.grpc.JobInfoOrBuilder> 
+          getJobInfoFieldBuilder() {
+        if (jobInfoBuilder_ == null) {
+          jobInfoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.grpc.JobInfo, alluxio.grpc.JobInfo.Builder, alluxio.grpc.JobInfoOrBuilder>(
+                  getJobInfo(),
+                  getParentForChildren(),
+                  isClean());
+          jobInfo_ = null;
+        }
+        return jobInfoBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.UpdateJobEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.journal.UpdateJobEntry)
+    private static final alluxio.proto.journal.Job.UpdateJobEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new alluxio.proto.journal.Job.UpdateJobEntry();
+    }
+
+    public static alluxio.proto.journal.Job.UpdateJobEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<UpdateJobEntry>
+        PARSER = new com.google.protobuf.AbstractParser<UpdateJobEntry>() {
+      public UpdateJobEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UpdateJobEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<UpdateJobEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdateJobEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public alluxio.proto.journal.Job.UpdateJobEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface FinishedJobEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:alluxio.proto.journal.FinishedJobEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    boolean hasJobInfo();
+    /**
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    alluxio.grpc.JobInfo getJobInfo();
+    /**
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    alluxio.grpc.JobInfoOrBuilder getJobInfoOrBuilder();
+  }
+  /**
+   * <pre>
+   * next available id: 2
+   * </pre>
+   *
+   * Protobuf type {@code alluxio.proto.journal.FinishedJobEntry}
+   */
+  public  static final class FinishedJobEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:alluxio.proto.journal.FinishedJobEntry)
+      FinishedJobEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use FinishedJobEntry.newBuilder() to construct.
+    private FinishedJobEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private FinishedJobEntry() {
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private FinishedJobEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              alluxio.grpc.JobInfo.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = jobInfo_.toBuilder();
+              }
+              jobInfo_ = input.readMessage(alluxio.grpc.JobInfo.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(jobInfo_);
+                jobInfo_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_FinishedJobEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_FinishedJobEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.journal.Job.FinishedJobEntry.class, alluxio.proto.journal.Job.FinishedJobEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int JOB_INFO_FIELD_NUMBER = 1;
+    private alluxio.grpc.JobInfo jobInfo_;
+    /**
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    public boolean hasJobInfo() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    public alluxio.grpc.JobInfo getJobInfo() {
+      return jobInfo_ == null ? alluxio.grpc.JobInfo.getDefaultInstance() : jobInfo_;
+    }
+    /**
+     * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+     */
+    public alluxio.grpc.JobInfoOrBuilder getJobInfoOrBuilder() {
+      return jobInfo_ == null ? alluxio.grpc.JobInfo.getDefaultInstance() : jobInfo_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, getJobInfo());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getJobInfo());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof alluxio.proto.journal.Job.FinishedJobEntry)) {
+        return super.equals(obj);
+      }
+      alluxio.proto.journal.Job.FinishedJobEntry other = (alluxio.proto.journal.Job.FinishedJobEntry) obj;
+
+      boolean result = true;
+      result = result && (hasJobInfo() == other.hasJobInfo());
+      if (hasJobInfo()) {
+        result = result && getJobInfo()
+            .equals(other.getJobInfo());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasJobInfo()) {
+        hash = (37 * hash) + JOB_INFO_FIELD_NUMBER;
+        hash = (53 * hash) + getJobInfo().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Job.FinishedJobEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(alluxio.proto.journal.Job.FinishedJobEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * next available id: 2
+     * </pre>
+     *
+     * Protobuf type {@code alluxio.proto.journal.FinishedJobEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:alluxio.proto.journal.FinishedJobEntry)
+        alluxio.proto.journal.Job.FinishedJobEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_FinishedJobEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_FinishedJobEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.journal.Job.FinishedJobEntry.class, alluxio.proto.journal.Job.FinishedJobEntry.Builder.class);
+      }
+
+      // Construct using alluxio.proto.journal.Job.FinishedJobEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getJobInfoFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (jobInfoBuilder_ == null) {
+          jobInfo_ = null;
+        } else {
+          jobInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.journal.Job.internal_static_alluxio_proto_journal_FinishedJobEntry_descriptor;
+      }
+
+      public alluxio.proto.journal.Job.FinishedJobEntry getDefaultInstanceForType() {
+        return alluxio.proto.journal.Job.FinishedJobEntry.getDefaultInstance();
+      }
+
+      public alluxio.proto.journal.Job.FinishedJobEntry build() {
+        alluxio.proto.journal.Job.FinishedJobEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.journal.Job.FinishedJobEntry buildPartial() {
+        alluxio.proto.journal.Job.FinishedJobEntry result = new alluxio.proto.journal.Job.FinishedJobEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (jobInfoBuilder_ == null) {
+          result.jobInfo_ = jobInfo_;
+        } else {
+          result.jobInfo_ = jobInfoBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.journal.Job.FinishedJobEntry) {
+          return mergeFrom((alluxio.proto.journal.Job.FinishedJobEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.journal.Job.FinishedJobEntry other) {
+        if (other == alluxio.proto.journal.Job.FinishedJobEntry.getDefaultInstance()) return this;
+        if (other.hasJobInfo()) {
+          mergeJobInfo(other.getJobInfo());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.journal.Job.FinishedJobEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.journal.Job.FinishedJobEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private alluxio.grpc.JobInfo jobInfo_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.grpc.JobInfo, alluxio.grpc.JobInfo.Builder, alluxio.grpc.JobInfoOrBuilder> jobInfoBuilder_;
+      /**
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public boolean hasJobInfo() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public alluxio.grpc.JobInfo getJobInfo() {
+        if (jobInfoBuilder_ == null) {
+          return jobInfo_ == null ? alluxio.grpc.JobInfo.getDefaultInstance() : jobInfo_;
+        } else {
+          return jobInfoBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public Builder setJobInfo(alluxio.grpc.JobInfo value) {
+        if (jobInfoBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          jobInfo_ = value;
+          onChanged();
+        } else {
+          jobInfoBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public Builder setJobInfo(
+          alluxio.grpc.JobInfo.Builder builderForValue) {
+        if (jobInfoBuilder_ == null) {
+          jobInfo_ = builderForValue.build();
+          onChanged();
+        } else {
+          jobInfoBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public Builder mergeJobInfo(alluxio.grpc.JobInfo value) {
+        if (jobInfoBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              jobInfo_ != null &&
+              jobInfo_ != alluxio.grpc.JobInfo.getDefaultInstance()) {
+            jobInfo_ =
+              alluxio.grpc.JobInfo.newBuilder(jobInfo_).mergeFrom(value).buildPartial();
+          } else {
+            jobInfo_ = value;
+          }
+          onChanged();
+        } else {
+          jobInfoBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public Builder clearJobInfo() {
+        if (jobInfoBuilder_ == null) {
+          jobInfo_ = null;
+          onChanged();
+        } else {
+          jobInfoBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public alluxio.grpc.JobInfo.Builder getJobInfoBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getJobInfoFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      public alluxio.grpc.JobInfoOrBuilder getJobInfoOrBuilder() {
+        if (jobInfoBuilder_ != null) {
+          return jobInfoBuilder_.getMessageOrBuilder();
+        } else {
+          return jobInfo_ == null ?
+              alluxio.grpc.JobInfo.getDefaultInstance() : jobInfo_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.grpc.job.JobInfo job_info = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.grpc.JobInfo, alluxio.grpc.JobInfo.Builder, alluxio.grpc.JobInfoOrBuilder> 
+          getJobInfoFieldBuilder() {
+        if (jobInfoBuilder_ == null) {
+          jobInfoBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.grpc.JobInfo, alluxio.grpc.JobInfo.Builder, alluxio.grpc.JobInfoOrBuilder>(
+                  getJobInfo(),
+                  getParentForChildren(),
+                  isClean());
+          jobInfo_ = null;
+        }
+        return jobInfoBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.FinishedJobEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.journal.FinishedJobEntry)
+    private static final alluxio.proto.journal.Job.FinishedJobEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new alluxio.proto.journal.Job.FinishedJobEntry();
+    }
+
+    public static alluxio.proto.journal.Job.FinishedJobEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<FinishedJobEntry>
+        PARSER = new com.google.protobuf.AbstractParser<FinishedJobEntry>() {
+      public FinishedJobEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new FinishedJobEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<FinishedJobEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<FinishedJobEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public alluxio.proto.journal.Job.FinishedJobEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_alluxio_proto_journal_TaskInfo_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_alluxio_proto_journal_TaskInfo_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_journal_StartJobEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_proto_journal_StartJobEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_journal_UpdateJobEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_proto_journal_UpdateJobEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_journal_FinishedJobEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_proto_journal_FinishedJobEntry_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -1078,12 +3091,18 @@ public final class Job {
   static {
     java.lang.String[] descriptorData = {
       "\n\027proto/journal/job.proto\022\025alluxio.proto" +
-      ".journal\"\201\001\n\010TaskInfo\022\016\n\006job_id\030\001 \001(\003\022\017\n" +
-      "\007task_id\030\002 \001(\005\022-\n\006status\030\003 \001(\0162\035.alluxio" +
-      ".proto.journal.Status\022\025\n\rerror_message\030\004" +
-      " \001(\t\022\016\n\006result\030\005 \001(\014*K\n\006Status\022\013\n\007CREATE" +
-      "D\020\001\022\014\n\010CANCELED\020\002\022\n\n\006FAILED\020\003\022\013\n\007RUNNING" +
-      "\020\004\022\r\n\tCOMPLETED\020\005"
+      ".journal\032\025grpc/job_master.proto\"\201\001\n\010Task" +
+      "Info\022\016\n\006job_id\030\001 \001(\003\022\017\n\007task_id\030\002 \001(\005\022-\n" +
+      "\006status\030\003 \001(\0162\035.alluxio.proto.journal.St" +
+      "atus\022\025\n\rerror_message\030\004 \001(\t\022\016\n\006result\030\005 " +
+      "\001(\014\"J\n\rStartJobEntry\022\016\n\006job_id\030\001 \001(\003\022\022\n\n" +
+      "job_config\030\002 \001(\014\022\025\n\rfirst_task_id\030\003 \001(\005\"" +
+      "=\n\016UpdateJobEntry\022+\n\010job_info\030\001 \001(\0132\031.al" +
+      "luxio.grpc.job.JobInfo\"?\n\020FinishedJobEnt" +
+      "ry\022+\n\010job_info\030\001 \001(\0132\031.alluxio.grpc.job." +
+      "JobInfo*K\n\006Status\022\013\n\007CREATED\020\001\022\014\n\010CANCEL" +
+      "ED\020\002\022\n\n\006FAILED\020\003\022\013\n\007RUNNING\020\004\022\r\n\tCOMPLET" +
+      "ED\020\005"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -1096,6 +3115,7 @@ public final class Job {
     com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
         new com.google.protobuf.Descriptors.FileDescriptor[] {
+          alluxio.grpc.JobMasterProto.getDescriptor(),
         }, assigner);
     internal_static_alluxio_proto_journal_TaskInfo_descriptor =
       getDescriptor().getMessageTypes().get(0);
@@ -1103,6 +3123,25 @@ public final class Job {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_proto_journal_TaskInfo_descriptor,
         new java.lang.String[] { "JobId", "TaskId", "Status", "ErrorMessage", "Result", });
+    internal_static_alluxio_proto_journal_StartJobEntry_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_alluxio_proto_journal_StartJobEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_proto_journal_StartJobEntry_descriptor,
+        new java.lang.String[] { "JobId", "JobConfig", "FirstTaskId", });
+    internal_static_alluxio_proto_journal_UpdateJobEntry_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_alluxio_proto_journal_UpdateJobEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_proto_journal_UpdateJobEntry_descriptor,
+        new java.lang.String[] { "JobInfo", });
+    internal_static_alluxio_proto_journal_FinishedJobEntry_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_alluxio_proto_journal_FinishedJobEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_proto_journal_FinishedJobEntry_descriptor,
+        new java.lang.String[] { "JobInfo", });
+    alluxio.grpc.JobMasterProto.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
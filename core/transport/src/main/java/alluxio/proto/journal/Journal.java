@@ -53,6 +53,19 @@ public final class Journal {
      */
     alluxio.proto.journal.Table.AddTableEntryOrBuilder getAddTableOrBuilder();
 
+    /**
+     * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
+     */
+    boolean hasAddTablePartitions();
+    /**
+     * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
+     */
+    alluxio.proto.journal.Table.AddTablePartitionsEntry getAddTablePartitions();
+    /**
+     * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
+     */
+    alluxio.proto.journal.Table.AddTablePartitionsEntryOrBuilder getAddTablePartitionsOrBuilder();
+
     /**
      * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
      */
@@ -209,6 +222,19 @@ public final class Journal {
      */
     alluxio.proto.journal.Table.DetachDbEntryOrBuilder getDetachDbOrBuilder();
 
+    /**
+     * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+     */
+    boolean hasFinishedJob();
+    /**
+     * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+     */
+    alluxio.proto.journal.Job.FinishedJobEntry getFinishedJob();
+    /**
+     * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+     */
+    alluxio.proto.journal.Job.FinishedJobEntryOrBuilder getFinishedJobOrBuilder();
+
     /**
      * <code>optional .alluxio.proto.journal.InodeDirectoryEntry inode_directory = 9;</code>
      */
@@ -313,6 +339,32 @@ public final class Journal {
      */
     alluxio.proto.journal.Meta.RemovePathPropertiesEntryOrBuilder getRemovePathPropertiesOrBuilder();
 
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
+     */
+    boolean hasRemoveTable();
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
+     */
+    alluxio.proto.journal.Table.RemoveTableEntry getRemoveTable();
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
+     */
+    alluxio.proto.journal.Table.RemoveTableEntryOrBuilder getRemoveTableOrBuilder();
+
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+     */
+    boolean hasRemoveTablePartitions();
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+     */
+    alluxio.proto.journal.Table.RemoveTablePartitionsEntry getRemoveTablePartitions();
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+     */
+    alluxio.proto.journal.Table.RemoveTablePartitionsEntryOrBuilder getRemoveTablePartitionsOrBuilder();
+
     /**
      * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
      */
@@ -378,6 +430,19 @@ public final class Journal {
      */
     alluxio.proto.journal.File.SetAttributeEntryOrBuilder getSetAttributeOrBuilder();
 
+    /**
+     * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+     */
+    boolean hasStartJob();
+    /**
+     * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+     */
+    alluxio.proto.journal.Job.StartJobEntry getStartJob();
+    /**
+     * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+     */
+    alluxio.proto.journal.Job.StartJobEntryOrBuilder getStartJobOrBuilder();
+
     /**
      * <code>optional .alluxio.proto.journal.TransformJobEntry transform_job = 46;</code>
      */
@@ -391,6 +456,32 @@ public final class Journal {
      */
     alluxio.proto.journal.Table.TransformJobEntryOrBuilder getTransformJobOrBuilder();
 
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+     */
+    boolean hasUpdateJob();
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+     */
+    alluxio.proto.journal.Job.UpdateJobEntry getUpdateJob();
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+     */
+    alluxio.proto.journal.Job.UpdateJobEntryOrBuilder getUpdateJobOrBuilder();
+
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+     */
+    boolean hasUpdateTable();
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+     */
+    alluxio.proto.journal.Table.UpdateTableEntry getUpdateTable();
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+     */
+    alluxio.proto.journal.Table.UpdateTableEntryOrBuilder getUpdateTableOrBuilder();
+
     /**
      * <code>optional .alluxio.proto.journal.UpdateUfsModeEntry update_ufs_mode = 30;</code>
      */
@@ -494,7 +585,7 @@ public final class Journal {
   }
   /**
    * <pre>
-   * next available id: 48
+   * next available id: 55
    * </pre>
    *
    * Protobuf type {@code alluxio.proto.journal.JournalEntry}
@@ -552,7 +643,7 @@ public final class Journal {
             }
             case 18: {
               alluxio.proto.journal.File.AddMountPointEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+              if (((bitField0_ & 0x00000020) == 0x00000020)) {
                 subBuilder = addMountPoint_.toBuilder();
               }
               addMountPoint_ = input.readMessage(alluxio.proto.journal.File.AddMountPointEntry.PARSER, extensionRegistry);
@@ -560,12 +651,12 @@ public final class Journal {
                 subBuilder.mergeFrom(addMountPoint_);
                 addMountPoint_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000010;
+              bitField0_ |= 0x00000020;
               break;
             }
             case 26: {
               alluxio.proto.journal.Block.BlockContainerIdGeneratorEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000080) == 0x00000080)) {
+              if (((bitField0_ & 0x00000100) == 0x00000100)) {
                 subBuilder = blockContainerIdGenerator_.toBuilder();
               }
               blockContainerIdGenerator_ = input.readMessage(alluxio.proto.journal.Block.BlockContainerIdGeneratorEntry.PARSER, extensionRegistry);
@@ -573,12 +664,12 @@ public final class Journal {
                 subBuilder.mergeFrom(blockContainerIdGenerator_);
                 blockContainerIdGenerator_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000080;
+              bitField0_ |= 0x00000100;
               break;
             }
             case 34: {
               alluxio.proto.journal.Block.BlockInfoEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000100) == 0x00000100)) {
+              if (((bitField0_ & 0x00000200) == 0x00000200)) {
                 subBuilder = blockInfo_.toBuilder();
               }
               blockInfo_ = input.readMessage(alluxio.proto.journal.Block.BlockInfoEntry.PARSER, extensionRegistry);
@@ -586,12 +677,12 @@ public final class Journal {
                 subBuilder.mergeFrom(blockInfo_);
                 blockInfo_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000100;
+              bitField0_ |= 0x00000200;
               break;
             }
             case 42: {
               alluxio.proto.journal.File.CompleteFileEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000400) == 0x00000400)) {
+              if (((bitField0_ & 0x00000800) == 0x00000800)) {
                 subBuilder = completeFile_.toBuilder();
               }
               completeFile_ = input.readMessage(alluxio.proto.journal.File.CompleteFileEntry.PARSER, extensionRegistry);
@@ -599,12 +690,12 @@ public final class Journal {
                 subBuilder.mergeFrom(completeFile_);
                 completeFile_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000400;
+              bitField0_ |= 0x00000800;
               break;
             }
             case 50: {
               alluxio.proto.journal.File.DeleteFileEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00001000) == 0x00001000)) {
+              if (((bitField0_ & 0x00002000) == 0x00002000)) {
                 subBuilder = deleteFile_.toBuilder();
               }
               deleteFile_ = input.readMessage(alluxio.proto.journal.File.DeleteFileEntry.PARSER, extensionRegistry);
@@ -612,12 +703,12 @@ public final class Journal {
                 subBuilder.mergeFrom(deleteFile_);
                 deleteFile_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00001000;
+              bitField0_ |= 0x00002000;
               break;
             }
             case 66: {
               alluxio.proto.journal.File.DeleteMountPointEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00002000) == 0x00002000)) {
+              if (((bitField0_ & 0x00004000) == 0x00004000)) {
                 subBuilder = deleteMountPoint_.toBuilder();
               }
               deleteMountPoint_ = input.readMessage(alluxio.proto.journal.File.DeleteMountPointEntry.PARSER, extensionRegistry);
@@ -625,12 +716,12 @@ public final class Journal {
                 subBuilder.mergeFrom(deleteMountPoint_);
                 deleteMountPoint_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00002000;
+              bitField0_ |= 0x00004000;
               break;
             }
             case 74: {
               alluxio.proto.journal.File.InodeDirectoryEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00008000) == 0x00008000)) {
+              if (((bitField0_ & 0x00020000) == 0x00020000)) {
                 subBuilder = inodeDirectory_.toBuilder();
               }
               inodeDirectory_ = input.readMessage(alluxio.proto.journal.File.InodeDirectoryEntry.PARSER, extensionRegistry);
@@ -638,12 +729,12 @@ public final class Journal {
                 subBuilder.mergeFrom(inodeDirectory_);
                 inodeDirectory_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00008000;
+              bitField0_ |= 0x00020000;
               break;
             }
             case 82: {
               alluxio.proto.journal.File.InodeDirectoryIdGeneratorEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00010000) == 0x00010000)) {
+              if (((bitField0_ & 0x00040000) == 0x00040000)) {
                 subBuilder = inodeDirectoryIdGenerator_.toBuilder();
               }
               inodeDirectoryIdGenerator_ = input.readMessage(alluxio.proto.journal.File.InodeDirectoryIdGeneratorEntry.PARSER, extensionRegistry);
@@ -651,12 +742,12 @@ public final class Journal {
                 subBuilder.mergeFrom(inodeDirectoryIdGenerator_);
                 inodeDirectoryIdGenerator_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00010000;
+              bitField0_ |= 0x00040000;
               break;
             }
             case 90: {
               alluxio.proto.journal.File.InodeFileEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00020000) == 0x00020000)) {
+              if (((bitField0_ & 0x00080000) == 0x00080000)) {
                 subBuilder = inodeFile_.toBuilder();
               }
               inodeFile_ = input.readMessage(alluxio.proto.journal.File.InodeFileEntry.PARSER, extensionRegistry);
@@ -664,12 +755,12 @@ public final class Journal {
                 subBuilder.mergeFrom(inodeFile_);
                 inodeFile_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00020000;
+              bitField0_ |= 0x00080000;
               break;
             }
             case 98: {
               alluxio.proto.journal.File.InodeLastModificationTimeEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00040000) == 0x00040000)) {
+              if (((bitField0_ & 0x00100000) == 0x00100000)) {
                 subBuilder = inodeLastModificationTime_.toBuilder();
               }
               inodeLastModificationTime_ = input.readMessage(alluxio.proto.journal.File.InodeLastModificationTimeEntry.PARSER, extensionRegistry);
@@ -677,12 +768,12 @@ public final class Journal {
                 subBuilder.mergeFrom(inodeLastModificationTime_);
                 inodeLastModificationTime_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00040000;
+              bitField0_ |= 0x00100000;
               break;
             }
             case 122: {
               alluxio.proto.journal.File.PersistDirectoryEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00200000) == 0x00200000)) {
+              if (((bitField0_ & 0x00800000) == 0x00800000)) {
                 subBuilder = persistDirectory_.toBuilder();
               }
               persistDirectory_ = input.readMessage(alluxio.proto.journal.File.PersistDirectoryEntry.PARSER, extensionRegistry);
@@ -690,12 +781,12 @@ public final class Journal {
                 subBuilder.mergeFrom(persistDirectory_);
                 persistDirectory_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00200000;
+              bitField0_ |= 0x00800000;
               break;
             }
             case 130: {
               alluxio.proto.journal.File.AsyncPersistRequestEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000020) == 0x00000020)) {
+              if (((bitField0_ & 0x00000040) == 0x00000040)) {
                 subBuilder = asyncPersistRequest_.toBuilder();
               }
               asyncPersistRequest_ = input.readMessage(alluxio.proto.journal.File.AsyncPersistRequestEntry.PARSER, extensionRegistry);
@@ -703,12 +794,12 @@ public final class Journal {
                 subBuilder.mergeFrom(asyncPersistRequest_);
                 asyncPersistRequest_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000020;
+              bitField0_ |= 0x00000040;
               break;
             }
             case 154: {
               alluxio.proto.journal.File.RenameEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x02000000) == 0x02000000)) {
+              if (((bitField0_ & 0x20000000) == 0x20000000)) {
                 subBuilder = rename_.toBuilder();
               }
               rename_ = input.readMessage(alluxio.proto.journal.File.RenameEntry.PARSER, extensionRegistry);
@@ -716,12 +807,12 @@ public final class Journal {
                 subBuilder.mergeFrom(rename_);
                 rename_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x02000000;
+              bitField0_ |= 0x20000000;
               break;
             }
             case 218: {
               alluxio.proto.journal.File.SetAttributeEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x08000000) == 0x08000000)) {
+              if (((bitField0_ & 0x80000000) == 0x80000000)) {
                 subBuilder = setAttribute_.toBuilder();
               }
               setAttribute_ = input.readMessage(alluxio.proto.journal.File.SetAttributeEntry.PARSER, extensionRegistry);
@@ -729,12 +820,12 @@ public final class Journal {
                 subBuilder.mergeFrom(setAttribute_);
                 setAttribute_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x08000000;
+              bitField0_ |= 0x80000000;
               break;
             }
             case 234: {
               alluxio.proto.journal.Block.DeleteBlockEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000800) == 0x00000800)) {
+              if (((bitField0_ & 0x00001000) == 0x00001000)) {
                 subBuilder = deleteBlock_.toBuilder();
               }
               deleteBlock_ = input.readMessage(alluxio.proto.journal.Block.DeleteBlockEntry.PARSER, extensionRegistry);
@@ -742,12 +833,12 @@ public final class Journal {
                 subBuilder.mergeFrom(deleteBlock_);
                 deleteBlock_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000800;
+              bitField0_ |= 0x00001000;
               break;
             }
             case 242: {
               alluxio.proto.journal.File.UpdateUfsModeEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x20000000) == 0x20000000)) {
+              if (((bitField1_ & 0x00000010) == 0x00000010)) {
                 subBuilder = updateUfsMode_.toBuilder();
               }
               updateUfsMode_ = input.readMessage(alluxio.proto.journal.File.UpdateUfsModeEntry.PARSER, extensionRegistry);
@@ -755,12 +846,12 @@ public final class Journal {
                 subBuilder.mergeFrom(updateUfsMode_);
                 updateUfsMode_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x20000000;
+              bitField1_ |= 0x00000010;
               break;
             }
             case 250: {
               alluxio.proto.journal.File.SetAclEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x04000000) == 0x04000000)) {
+              if (((bitField0_ & 0x40000000) == 0x40000000)) {
                 subBuilder = setAcl_.toBuilder();
               }
               setAcl_ = input.readMessage(alluxio.proto.journal.File.SetAclEntry.PARSER, extensionRegistry);
@@ -768,12 +859,12 @@ public final class Journal {
                 subBuilder.mergeFrom(setAcl_);
                 setAcl_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x04000000;
+              bitField0_ |= 0x40000000;
               break;
             }
             case 258: {
               alluxio.proto.journal.File.AddSyncPointEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
                 subBuilder = addSyncPoint_.toBuilder();
               }
               addSyncPoint_ = input.readMessage(alluxio.proto.journal.File.AddSyncPointEntry.PARSER, extensionRegistry);
@@ -781,12 +872,12 @@ public final class Journal {
                 subBuilder.mergeFrom(addSyncPoint_);
                 addSyncPoint_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000008;
+              bitField0_ |= 0x00000010;
               break;
             }
             case 266: {
               alluxio.proto.journal.File.RemoveSyncPointEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x01000000) == 0x01000000)) {
+              if (((bitField0_ & 0x10000000) == 0x10000000)) {
                 subBuilder = removeSyncPoint_.toBuilder();
               }
               removeSyncPoint_ = input.readMessage(alluxio.proto.journal.File.RemoveSyncPointEntry.PARSER, extensionRegistry);
@@ -794,7 +885,7 @@ public final class Journal {
                 subBuilder.mergeFrom(removeSyncPoint_);
                 removeSyncPoint_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x01000000;
+              bitField0_ |= 0x10000000;
               break;
             }
             case 274: {
@@ -812,7 +903,7 @@ public final class Journal {
             }
             case 282: {
               alluxio.proto.journal.File.UpdateInodeEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x40000000) == 0x40000000)) {
+              if (((bitField1_ & 0x00000020) == 0x00000020)) {
                 subBuilder = updateInode_.toBuilder();
               }
               updateInode_ = input.readMessage(alluxio.proto.journal.File.UpdateInodeEntry.PARSER, extensionRegistry);
@@ -820,12 +911,12 @@ public final class Journal {
                 subBuilder.mergeFrom(updateInode_);
                 updateInode_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x40000000;
+              bitField1_ |= 0x00000020;
               break;
             }
             case 290: {
               alluxio.proto.journal.File.UpdateInodeDirectoryEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x80000000) == 0x80000000)) {
+              if (((bitField1_ & 0x00000040) == 0x00000040)) {
                 subBuilder = updateInodeDirectory_.toBuilder();
               }
               updateInodeDirectory_ = input.readMessage(alluxio.proto.journal.File.UpdateInodeDirectoryEntry.PARSER, extensionRegistry);
@@ -833,12 +924,12 @@ public final class Journal {
                 subBuilder.mergeFrom(updateInodeDirectory_);
                 updateInodeDirectory_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x80000000;
+              bitField1_ |= 0x00000040;
               break;
             }
             case 298: {
               alluxio.proto.journal.File.UpdateInodeFileEntry.Builder subBuilder = null;
-              if (((bitField1_ & 0x00000001) == 0x00000001)) {
+              if (((bitField1_ & 0x00000080) == 0x00000080)) {
                 subBuilder = updateInodeFile_.toBuilder();
               }
               updateInodeFile_ = input.readMessage(alluxio.proto.journal.File.UpdateInodeFileEntry.PARSER, extensionRegistry);
@@ -846,12 +937,12 @@ public final class Journal {
                 subBuilder.mergeFrom(updateInodeFile_);
                 updateInodeFile_ = subBuilder.buildPartial();
               }
-              bitField1_ |= 0x00000001;
+              bitField1_ |= 0x00000080;
               break;
             }
             case 306: {
               alluxio.proto.journal.File.NewBlockEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00080000) == 0x00080000)) {
+              if (((bitField0_ & 0x00200000) == 0x00200000)) {
                 subBuilder = newBlock_.toBuilder();
               }
               newBlock_ = input.readMessage(alluxio.proto.journal.File.NewBlockEntry.PARSER, extensionRegistry);
@@ -859,13 +950,13 @@ public final class Journal {
                 subBuilder.mergeFrom(newBlock_);
                 newBlock_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00080000;
+              bitField0_ |= 0x00200000;
               break;
             }
             case 314: {
-              if (!((mutable_bitField1_ & 0x00000002) == 0x00000002)) {
+              if (!((mutable_bitField1_ & 0x00000100) == 0x00000100)) {
                 journalEntries_ = new java.util.ArrayList<alluxio.proto.journal.Journal.JournalEntry>();
-                mutable_bitField1_ |= 0x00000002;
+                mutable_bitField1_ |= 0x00000100;
               }
               journalEntries_.add(
                   input.readMessage(alluxio.proto.journal.Journal.JournalEntry.PARSER, extensionRegistry));
@@ -873,7 +964,7 @@ public final class Journal {
             }
             case 322: {
               alluxio.proto.journal.Meta.PathPropertiesEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00100000) == 0x00100000)) {
+              if (((bitField0_ & 0x00400000) == 0x00400000)) {
                 subBuilder = pathProperties_.toBuilder();
               }
               pathProperties_ = input.readMessage(alluxio.proto.journal.Meta.PathPropertiesEntry.PARSER, extensionRegistry);
@@ -881,12 +972,12 @@ public final class Journal {
                 subBuilder.mergeFrom(pathProperties_);
                 pathProperties_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00100000;
+              bitField0_ |= 0x00400000;
               break;
             }
             case 330: {
               alluxio.proto.journal.Meta.RemovePathPropertiesEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00400000) == 0x00400000)) {
+              if (((bitField0_ & 0x01000000) == 0x01000000)) {
                 subBuilder = removePathProperties_.toBuilder();
               }
               removePathProperties_ = input.readMessage(alluxio.proto.journal.Meta.RemovePathPropertiesEntry.PARSER, extensionRegistry);
@@ -894,12 +985,12 @@ public final class Journal {
                 subBuilder.mergeFrom(removePathProperties_);
                 removePathProperties_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00400000;
+              bitField0_ |= 0x01000000;
               break;
             }
             case 338: {
               alluxio.proto.journal.Meta.ClusterInfoEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000200) == 0x00000200)) {
+              if (((bitField0_ & 0x00000400) == 0x00000400)) {
                 subBuilder = clusterInfo_.toBuilder();
               }
               clusterInfo_ = input.readMessage(alluxio.proto.journal.Meta.ClusterInfoEntry.PARSER, extensionRegistry);
@@ -907,7 +998,7 @@ public final class Journal {
                 subBuilder.mergeFrom(clusterInfo_);
                 clusterInfo_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000200;
+              bitField0_ |= 0x00000400;
               break;
             }
             case 346: {
@@ -925,7 +1016,7 @@ public final class Journal {
             }
             case 354: {
               alluxio.proto.journal.Table.AttachDbEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000040) == 0x00000040)) {
+              if (((bitField0_ & 0x00000080) == 0x00000080)) {
                 subBuilder = attachDb_.toBuilder();
               }
               attachDb_ = input.readMessage(alluxio.proto.journal.Table.AttachDbEntry.PARSER, extensionRegistry);
@@ -933,12 +1024,12 @@ public final class Journal {
                 subBuilder.mergeFrom(attachDb_);
                 attachDb_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00000040;
+              bitField0_ |= 0x00000080;
               break;
             }
             case 362: {
               alluxio.proto.journal.Table.DetachDbEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00004000) == 0x00004000)) {
+              if (((bitField0_ & 0x00008000) == 0x00008000)) {
                 subBuilder = detachDb_.toBuilder();
               }
               detachDb_ = input.readMessage(alluxio.proto.journal.Table.DetachDbEntry.PARSER, extensionRegistry);
@@ -946,12 +1037,12 @@ public final class Journal {
                 subBuilder.mergeFrom(detachDb_);
                 detachDb_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00004000;
+              bitField0_ |= 0x00008000;
               break;
             }
             case 370: {
               alluxio.proto.journal.Table.TransformJobEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x10000000) == 0x10000000)) {
+              if (((bitField1_ & 0x00000002) == 0x00000002)) {
                 subBuilder = transformJob_.toBuilder();
               }
               transformJob_ = input.readMessage(alluxio.proto.journal.Table.TransformJobEntry.PARSER, extensionRegistry);
@@ -959,12 +1050,12 @@ public final class Journal {
                 subBuilder.mergeFrom(transformJob_);
                 transformJob_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x10000000;
+              bitField1_ |= 0x00000002;
               break;
             }
             case 378: {
               alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder subBuilder = null;
-              if (((bitField0_ & 0x00800000) == 0x00800000)) {
+              if (((bitField0_ & 0x08000000) == 0x08000000)) {
                 subBuilder = removeTransformJob_.toBuilder();
               }
               removeTransformJob_ = input.readMessage(alluxio.proto.journal.Table.RemoveTransformJobEntry.PARSER, extensionRegistry);
@@ -972,7 +1063,98 @@ public final class Journal {
                 subBuilder.mergeFrom(removeTransformJob_);
                 removeTransformJob_ = subBuilder.buildPartial();
               }
-              bitField0_ |= 0x00800000;
+              bitField0_ |= 0x08000000;
+              break;
+            }
+            case 386: {
+              alluxio.proto.journal.Table.AddTablePartitionsEntry.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = addTablePartitions_.toBuilder();
+              }
+              addTablePartitions_ = input.readMessage(alluxio.proto.journal.Table.AddTablePartitionsEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(addTablePartitions_);
+                addTablePartitions_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+            case 394: {
+              alluxio.proto.journal.Table.RemoveTablePartitionsEntry.Builder subBuilder = null;
+              if (((bitField0_ & 0x04000000) == 0x04000000)) {
+                subBuilder = removeTablePartitions_.toBuilder();
+              }
+              removeTablePartitions_ = input.readMessage(alluxio.proto.journal.Table.RemoveTablePartitionsEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(removeTablePartitions_);
+                removeTablePartitions_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x04000000;
+              break;
+            }
+            case 402: {
+              alluxio.proto.journal.Table.RemoveTableEntry.Builder subBuilder = null;
+              if (((bitField0_ & 0x02000000) == 0x02000000)) {
+                subBuilder = removeTable_.toBuilder();
+              }
+              removeTable_ = input.readMessage(alluxio.proto.journal.Table.RemoveTableEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(removeTable_);
+                removeTable_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x02000000;
+              break;
+            }
+            case 410: {
+              alluxio.proto.journal.Table.UpdateTableEntry.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000008) == 0x00000008)) {
+                subBuilder = updateTable_.toBuilder();
+              }
+              updateTable_ = input.readMessage(alluxio.proto.journal.Table.UpdateTableEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(updateTable_);
+                updateTable_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000008;
+              break;
+            }
+            case 418: {
+              alluxio.proto.journal.Job.StartJobEntry.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000001) == 0x00000001)) {
+                subBuilder = startJob_.toBuilder();
+              }
+              startJob_ = input.readMessage(alluxio.proto.journal.Job.StartJobEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(startJob_);
+                startJob_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000001;
+              break;
+            }
+            case 426: {
+              alluxio.proto.journal.Job.UpdateJobEntry.Builder subBuilder = null;
+              if (((bitField1_ & 0x00000004) == 0x00000004)) {
+                subBuilder = updateJob_.toBuilder();
+              }
+              updateJob_ = input.readMessage(alluxio.proto.journal.Job.UpdateJobEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(updateJob_);
+                updateJob_ = subBuilder.buildPartial();
+              }
+              bitField1_ |= 0x00000004;
+              break;
+            }
+            case 434: {
+              alluxio.proto.journal.Job.FinishedJobEntry.Builder subBuilder = null;
+              if (((bitField0_ & 0x00010000) == 0x00010000)) {
+                subBuilder = finishedJob_.toBuilder();
+              }
+              finishedJob_ = input.readMessage(alluxio.proto.journal.Job.FinishedJobEntry.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(finishedJob_);
+                finishedJob_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00010000;
               break;
             }
           }
@@ -983,7 +1165,7 @@ public final class Journal {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField1_ & 0x00000002) == 0x00000002)) {
+        if (((mutable_bitField1_ & 0x00000100) == 0x00000100)) {
           journalEntries_ = java.util.Collections.unmodifiableList(journalEntries_);
         }
         this.unknownFields = unknownFields.build();
@@ -1061,13 +1243,34 @@ public final class Journal {
       return addTable_ == null ? alluxio.proto.journal.Table.AddTableEntry.getDefaultInstance() : addTable_;
     }
 
+    public static final int ADD_TABLE_PARTITIONS_FIELD_NUMBER = 48;
+    private alluxio.proto.journal.Table.AddTablePartitionsEntry addTablePartitions_;
+    /**
+     * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
+     */
+    public boolean hasAddTablePartitions() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
+     */
+    public alluxio.proto.journal.Table.AddTablePartitionsEntry getAddTablePartitions() {
+      return addTablePartitions_ == null ? alluxio.proto.journal.Table.AddTablePartitionsEntry.getDefaultInstance() : addTablePartitions_;
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
+     */
+    public alluxio.proto.journal.Table.AddTablePartitionsEntryOrBuilder getAddTablePartitionsOrBuilder() {
+      return addTablePartitions_ == null ? alluxio.proto.journal.Table.AddTablePartitionsEntry.getDefaultInstance() : addTablePartitions_;
+    }
+
     public static final int ADD_SYNC_POINT_FIELD_NUMBER = 32;
     private alluxio.proto.journal.File.AddSyncPointEntry addSyncPoint_;
     /**
      * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
      */
     public boolean hasAddSyncPoint() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+      return ((bitField0_ & 0x00000010) == 0x00000010);
     }
     /**
      * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
@@ -1088,7 +1291,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.AddMountPointEntry add_mount_point = 2;</code>
      */
     public boolean hasAddMountPoint() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+      return ((bitField0_ & 0x00000020) == 0x00000020);
     }
     /**
      * <code>optional .alluxio.proto.journal.AddMountPointEntry add_mount_point = 2;</code>
@@ -1109,7 +1312,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.AsyncPersistRequestEntry async_persist_request = 16;</code>
      */
     public boolean hasAsyncPersistRequest() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
+      return ((bitField0_ & 0x00000040) == 0x00000040);
     }
     /**
      * <code>optional .alluxio.proto.journal.AsyncPersistRequestEntry async_persist_request = 16;</code>
@@ -1130,7 +1333,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.AttachDbEntry attach_db = 44;</code>
      */
     public boolean hasAttachDb() {
-      return ((bitField0_ & 0x00000040) == 0x00000040);
+      return ((bitField0_ & 0x00000080) == 0x00000080);
     }
     /**
      * <code>optional .alluxio.proto.journal.AttachDbEntry attach_db = 44;</code>
@@ -1151,7 +1354,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.BlockContainerIdGeneratorEntry block_container_id_generator = 3;</code>
      */
     public boolean hasBlockContainerIdGenerator() {
-      return ((bitField0_ & 0x00000080) == 0x00000080);
+      return ((bitField0_ & 0x00000100) == 0x00000100);
     }
     /**
      * <code>optional .alluxio.proto.journal.BlockContainerIdGeneratorEntry block_container_id_generator = 3;</code>
@@ -1172,7 +1375,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.BlockInfoEntry block_info = 4;</code>
      */
     public boolean hasBlockInfo() {
-      return ((bitField0_ & 0x00000100) == 0x00000100);
+      return ((bitField0_ & 0x00000200) == 0x00000200);
     }
     /**
      * <code>optional .alluxio.proto.journal.BlockInfoEntry block_info = 4;</code>
@@ -1193,7 +1396,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.ClusterInfoEntry cluster_info = 42;</code>
      */
     public boolean hasClusterInfo() {
-      return ((bitField0_ & 0x00000200) == 0x00000200);
+      return ((bitField0_ & 0x00000400) == 0x00000400);
     }
     /**
      * <code>optional .alluxio.proto.journal.ClusterInfoEntry cluster_info = 42;</code>
@@ -1214,7 +1417,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.CompleteFileEntry complete_file = 5;</code>
      */
     public boolean hasCompleteFile() {
-      return ((bitField0_ & 0x00000400) == 0x00000400);
+      return ((bitField0_ & 0x00000800) == 0x00000800);
     }
     /**
      * <code>optional .alluxio.proto.journal.CompleteFileEntry complete_file = 5;</code>
@@ -1235,7 +1438,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.DeleteBlockEntry delete_block = 29;</code>
      */
     public boolean hasDeleteBlock() {
-      return ((bitField0_ & 0x00000800) == 0x00000800);
+      return ((bitField0_ & 0x00001000) == 0x00001000);
     }
     /**
      * <code>optional .alluxio.proto.journal.DeleteBlockEntry delete_block = 29;</code>
@@ -1256,7 +1459,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.DeleteFileEntry delete_file = 6;</code>
      */
     public boolean hasDeleteFile() {
-      return ((bitField0_ & 0x00001000) == 0x00001000);
+      return ((bitField0_ & 0x00002000) == 0x00002000);
     }
     /**
      * <code>optional .alluxio.proto.journal.DeleteFileEntry delete_file = 6;</code>
@@ -1277,7 +1480,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.DeleteMountPointEntry delete_mount_point = 8;</code>
      */
     public boolean hasDeleteMountPoint() {
-      return ((bitField0_ & 0x00002000) == 0x00002000);
+      return ((bitField0_ & 0x00004000) == 0x00004000);
     }
     /**
      * <code>optional .alluxio.proto.journal.DeleteMountPointEntry delete_mount_point = 8;</code>
@@ -1298,7 +1501,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.DetachDbEntry detach_db = 45;</code>
      */
     public boolean hasDetachDb() {
-      return ((bitField0_ & 0x00004000) == 0x00004000);
+      return ((bitField0_ & 0x00008000) == 0x00008000);
     }
     /**
      * <code>optional .alluxio.proto.journal.DetachDbEntry detach_db = 45;</code>
@@ -1313,13 +1516,34 @@ public final class Journal {
       return detachDb_ == null ? alluxio.proto.journal.Table.DetachDbEntry.getDefaultInstance() : detachDb_;
     }
 
+    public static final int FINISHED_JOB_FIELD_NUMBER = 54;
+    private alluxio.proto.journal.Job.FinishedJobEntry finishedJob_;
+    /**
+     * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+     */
+    public boolean hasFinishedJob() {
+      return ((bitField0_ & 0x00010000) == 0x00010000);
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+     */
+    public alluxio.proto.journal.Job.FinishedJobEntry getFinishedJob() {
+      return finishedJob_ == null ? alluxio.proto.journal.Job.FinishedJobEntry.getDefaultInstance() : finishedJob_;
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+     */
+    public alluxio.proto.journal.Job.FinishedJobEntryOrBuilder getFinishedJobOrBuilder() {
+      return finishedJob_ == null ? alluxio.proto.journal.Job.FinishedJobEntry.getDefaultInstance() : finishedJob_;
+    }
+
     public static final int INODE_DIRECTORY_FIELD_NUMBER = 9;
     private alluxio.proto.journal.File.InodeDirectoryEntry inodeDirectory_;
     /**
      * <code>optional .alluxio.proto.journal.InodeDirectoryEntry inode_directory = 9;</code>
      */
     public boolean hasInodeDirectory() {
-      return ((bitField0_ & 0x00008000) == 0x00008000);
+      return ((bitField0_ & 0x00020000) == 0x00020000);
     }
     /**
      * <code>optional .alluxio.proto.journal.InodeDirectoryEntry inode_directory = 9;</code>
@@ -1340,7 +1564,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.InodeDirectoryIdGeneratorEntry inode_directory_id_generator = 10;</code>
      */
     public boolean hasInodeDirectoryIdGenerator() {
-      return ((bitField0_ & 0x00010000) == 0x00010000);
+      return ((bitField0_ & 0x00040000) == 0x00040000);
     }
     /**
      * <code>optional .alluxio.proto.journal.InodeDirectoryIdGeneratorEntry inode_directory_id_generator = 10;</code>
@@ -1361,7 +1585,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.InodeFileEntry inode_file = 11;</code>
      */
     public boolean hasInodeFile() {
-      return ((bitField0_ & 0x00020000) == 0x00020000);
+      return ((bitField0_ & 0x00080000) == 0x00080000);
     }
     /**
      * <code>optional .alluxio.proto.journal.InodeFileEntry inode_file = 11;</code>
@@ -1382,7 +1606,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.InodeLastModificationTimeEntry inode_last_modification_time = 12;</code>
      */
     public boolean hasInodeLastModificationTime() {
-      return ((bitField0_ & 0x00040000) == 0x00040000);
+      return ((bitField0_ & 0x00100000) == 0x00100000);
     }
     /**
      * <code>optional .alluxio.proto.journal.InodeLastModificationTimeEntry inode_last_modification_time = 12;</code>
@@ -1403,7 +1627,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.NewBlockEntry new_block = 38;</code>
      */
     public boolean hasNewBlock() {
-      return ((bitField0_ & 0x00080000) == 0x00080000);
+      return ((bitField0_ & 0x00200000) == 0x00200000);
     }
     /**
      * <code>optional .alluxio.proto.journal.NewBlockEntry new_block = 38;</code>
@@ -1424,7 +1648,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.PathPropertiesEntry path_properties = 40;</code>
      */
     public boolean hasPathProperties() {
-      return ((bitField0_ & 0x00100000) == 0x00100000);
+      return ((bitField0_ & 0x00400000) == 0x00400000);
     }
     /**
      * <code>optional .alluxio.proto.journal.PathPropertiesEntry path_properties = 40;</code>
@@ -1445,7 +1669,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.PersistDirectoryEntry persist_directory = 15;</code>
      */
     public boolean hasPersistDirectory() {
-      return ((bitField0_ & 0x00200000) == 0x00200000);
+      return ((bitField0_ & 0x00800000) == 0x00800000);
     }
     /**
      * <code>optional .alluxio.proto.journal.PersistDirectoryEntry persist_directory = 15;</code>
@@ -1466,7 +1690,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.RemovePathPropertiesEntry remove_path_properties = 41;</code>
      */
     public boolean hasRemovePathProperties() {
-      return ((bitField0_ & 0x00400000) == 0x00400000);
+      return ((bitField0_ & 0x01000000) == 0x01000000);
     }
     /**
      * <code>optional .alluxio.proto.journal.RemovePathPropertiesEntry remove_path_properties = 41;</code>
@@ -1481,13 +1705,55 @@ public final class Journal {
       return removePathProperties_ == null ? alluxio.proto.journal.Meta.RemovePathPropertiesEntry.getDefaultInstance() : removePathProperties_;
     }
 
+    public static final int REMOVE_TABLE_FIELD_NUMBER = 50;
+    private alluxio.proto.journal.Table.RemoveTableEntry removeTable_;
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
+     */
+    public boolean hasRemoveTable() {
+      return ((bitField0_ & 0x02000000) == 0x02000000);
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
+     */
+    public alluxio.proto.journal.Table.RemoveTableEntry getRemoveTable() {
+      return removeTable_ == null ? alluxio.proto.journal.Table.RemoveTableEntry.getDefaultInstance() : removeTable_;
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
+     */
+    public alluxio.proto.journal.Table.RemoveTableEntryOrBuilder getRemoveTableOrBuilder() {
+      return removeTable_ == null ? alluxio.proto.journal.Table.RemoveTableEntry.getDefaultInstance() : removeTable_;
+    }
+
+    public static final int REMOVE_TABLE_PARTITIONS_FIELD_NUMBER = 49;
+    private alluxio.proto.journal.Table.RemoveTablePartitionsEntry removeTablePartitions_;
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+     */
+    public boolean hasRemoveTablePartitions() {
+      return ((bitField0_ & 0x04000000) == 0x04000000);
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+     */
+    public alluxio.proto.journal.Table.RemoveTablePartitionsEntry getRemoveTablePartitions() {
+      return removeTablePartitions_ == null ? alluxio.proto.journal.Table.RemoveTablePartitionsEntry.getDefaultInstance() : removeTablePartitions_;
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+     */
+    public alluxio.proto.journal.Table.RemoveTablePartitionsEntryOrBuilder getRemoveTablePartitionsOrBuilder() {
+      return removeTablePartitions_ == null ? alluxio.proto.journal.Table.RemoveTablePartitionsEntry.getDefaultInstance() : removeTablePartitions_;
+    }
+
     public static final int REMOVE_TRANSFORM_JOB_FIELD_NUMBER = 47;
     private alluxio.proto.journal.Table.RemoveTransformJobEntry removeTransformJob_;
     /**
      * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
      */
     public boolean hasRemoveTransformJob() {
-      return ((bitField0_ & 0x00800000) == 0x00800000);
+      return ((bitField0_ & 0x08000000) == 0x08000000);
     }
     /**
      * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
@@ -1508,7 +1774,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.RemoveSyncPointEntry remove_sync_point = 33;</code>
      */
     public boolean hasRemoveSyncPoint() {
-      return ((bitField0_ & 0x01000000) == 0x01000000);
+      return ((bitField0_ & 0x10000000) == 0x10000000);
     }
     /**
      * <code>optional .alluxio.proto.journal.RemoveSyncPointEntry remove_sync_point = 33;</code>
@@ -1529,7 +1795,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.RenameEntry rename = 19;</code>
      */
     public boolean hasRename() {
-      return ((bitField0_ & 0x02000000) == 0x02000000);
+      return ((bitField0_ & 0x20000000) == 0x20000000);
     }
     /**
      * <code>optional .alluxio.proto.journal.RenameEntry rename = 19;</code>
@@ -1550,7 +1816,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.SetAclEntry set_acl = 31;</code>
      */
     public boolean hasSetAcl() {
-      return ((bitField0_ & 0x04000000) == 0x04000000);
+      return ((bitField0_ & 0x40000000) == 0x40000000);
     }
     /**
      * <code>optional .alluxio.proto.journal.SetAclEntry set_acl = 31;</code>
@@ -1571,7 +1837,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
      */
     public boolean hasSetAttribute() {
-      return ((bitField0_ & 0x08000000) == 0x08000000);
+      return ((bitField0_ & 0x80000000) == 0x80000000);
     }
     /**
      * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
@@ -1586,13 +1852,34 @@ public final class Journal {
       return setAttribute_ == null ? alluxio.proto.journal.File.SetAttributeEntry.getDefaultInstance() : setAttribute_;
     }
 
+    public static final int START_JOB_FIELD_NUMBER = 52;
+    private alluxio.proto.journal.Job.StartJobEntry startJob_;
+    /**
+     * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+     */
+    public boolean hasStartJob() {
+      return ((bitField1_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+     */
+    public alluxio.proto.journal.Job.StartJobEntry getStartJob() {
+      return startJob_ == null ? alluxio.proto.journal.Job.StartJobEntry.getDefaultInstance() : startJob_;
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+     */
+    public alluxio.proto.journal.Job.StartJobEntryOrBuilder getStartJobOrBuilder() {
+      return startJob_ == null ? alluxio.proto.journal.Job.StartJobEntry.getDefaultInstance() : startJob_;
+    }
+
     public static final int TRANSFORM_JOB_FIELD_NUMBER = 46;
     private alluxio.proto.journal.Table.TransformJobEntry transformJob_;
     /**
      * <code>optional .alluxio.proto.journal.TransformJobEntry transform_job = 46;</code>
      */
     public boolean hasTransformJob() {
-      return ((bitField0_ & 0x10000000) == 0x10000000);
+      return ((bitField1_ & 0x00000002) == 0x00000002);
     }
     /**
      * <code>optional .alluxio.proto.journal.TransformJobEntry transform_job = 46;</code>
@@ -1607,13 +1894,55 @@ public final class Journal {
       return transformJob_ == null ? alluxio.proto.journal.Table.TransformJobEntry.getDefaultInstance() : transformJob_;
     }
 
+    public static final int UPDATE_JOB_FIELD_NUMBER = 53;
+    private alluxio.proto.journal.Job.UpdateJobEntry updateJob_;
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+     */
+    public boolean hasUpdateJob() {
+      return ((bitField1_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+     */
+    public alluxio.proto.journal.Job.UpdateJobEntry getUpdateJob() {
+      return updateJob_ == null ? alluxio.proto.journal.Job.UpdateJobEntry.getDefaultInstance() : updateJob_;
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+     */
+    public alluxio.proto.journal.Job.UpdateJobEntryOrBuilder getUpdateJobOrBuilder() {
+      return updateJob_ == null ? alluxio.proto.journal.Job.UpdateJobEntry.getDefaultInstance() : updateJob_;
+    }
+
+    public static final int UPDATE_TABLE_FIELD_NUMBER = 51;
+    private alluxio.proto.journal.Table.UpdateTableEntry updateTable_;
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+     */
+    public boolean hasUpdateTable() {
+      return ((bitField1_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+     */
+    public alluxio.proto.journal.Table.UpdateTableEntry getUpdateTable() {
+      return updateTable_ == null ? alluxio.proto.journal.Table.UpdateTableEntry.getDefaultInstance() : updateTable_;
+    }
+    /**
+     * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+     */
+    public alluxio.proto.journal.Table.UpdateTableEntryOrBuilder getUpdateTableOrBuilder() {
+      return updateTable_ == null ? alluxio.proto.journal.Table.UpdateTableEntry.getDefaultInstance() : updateTable_;
+    }
+
     public static final int UPDATE_UFS_MODE_FIELD_NUMBER = 30;
     private alluxio.proto.journal.File.UpdateUfsModeEntry updateUfsMode_;
     /**
      * <code>optional .alluxio.proto.journal.UpdateUfsModeEntry update_ufs_mode = 30;</code>
      */
     public boolean hasUpdateUfsMode() {
-      return ((bitField0_ & 0x20000000) == 0x20000000);
+      return ((bitField1_ & 0x00000010) == 0x00000010);
     }
     /**
      * <code>optional .alluxio.proto.journal.UpdateUfsModeEntry update_ufs_mode = 30;</code>
@@ -1634,7 +1963,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.UpdateInodeEntry update_inode = 35;</code>
      */
     public boolean hasUpdateInode() {
-      return ((bitField0_ & 0x40000000) == 0x40000000);
+      return ((bitField1_ & 0x00000020) == 0x00000020);
     }
     /**
      * <code>optional .alluxio.proto.journal.UpdateInodeEntry update_inode = 35;</code>
@@ -1655,7 +1984,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.UpdateInodeDirectoryEntry update_inode_directory = 36;</code>
      */
     public boolean hasUpdateInodeDirectory() {
-      return ((bitField0_ & 0x80000000) == 0x80000000);
+      return ((bitField1_ & 0x00000040) == 0x00000040);
     }
     /**
      * <code>optional .alluxio.proto.journal.UpdateInodeDirectoryEntry update_inode_directory = 36;</code>
@@ -1676,7 +2005,7 @@ public final class Journal {
      * <code>optional .alluxio.proto.journal.UpdateInodeFileEntry update_inode_file = 37;</code>
      */
     public boolean hasUpdateInodeFile() {
-      return ((bitField1_ & 0x00000001) == 0x00000001);
+      return ((bitField1_ & 0x00000080) == 0x00000080);
     }
     /**
      * <code>optional .alluxio.proto.journal.UpdateInodeFileEntry update_inode_file = 37;</code>
@@ -1763,12 +2092,24 @@ public final class Journal {
           return false;
         }
       }
+      if (hasAddTablePartitions()) {
+        if (!getAddTablePartitions().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       if (hasTransformJob()) {
         if (!getTransformJob().isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
       }
+      if (hasUpdateTable()) {
+        if (!getUpdateTable().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       for (int i = 0; i < getJournalEntriesCount(); i++) {
         if (!getJournalEntries(i).isInitialized()) {
           memoizedIsInitialized = 0;
@@ -1784,105 +2125,126 @@ public final class Journal {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeInt64(1, sequenceNumber_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
         output.writeMessage(2, getAddMountPoint());
       }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
         output.writeMessage(3, getBlockContainerIdGenerator());
       }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
         output.writeMessage(4, getBlockInfo());
       }
-      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
         output.writeMessage(5, getCompleteFile());
       }
-      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
         output.writeMessage(6, getDeleteFile());
       }
-      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
         output.writeMessage(8, getDeleteMountPoint());
       }
-      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
         output.writeMessage(9, getInodeDirectory());
       }
-      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
         output.writeMessage(10, getInodeDirectoryIdGenerator());
       }
-      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
         output.writeMessage(11, getInodeFile());
       }
-      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
         output.writeMessage(12, getInodeLastModificationTime());
       }
-      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
         output.writeMessage(15, getPersistDirectory());
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
         output.writeMessage(16, getAsyncPersistRequest());
       }
-      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+      if (((bitField0_ & 0x20000000) == 0x20000000)) {
         output.writeMessage(19, getRename());
       }
-      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+      if (((bitField0_ & 0x80000000) == 0x80000000)) {
         output.writeMessage(27, getSetAttribute());
       }
-      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
         output.writeMessage(29, getDeleteBlock());
       }
-      if (((bitField0_ & 0x20000000) == 0x20000000)) {
+      if (((bitField1_ & 0x00000010) == 0x00000010)) {
         output.writeMessage(30, getUpdateUfsMode());
       }
-      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+      if (((bitField0_ & 0x40000000) == 0x40000000)) {
         output.writeMessage(31, getSetAcl());
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
         output.writeMessage(32, getAddSyncPoint());
       }
-      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+      if (((bitField0_ & 0x10000000) == 0x10000000)) {
         output.writeMessage(33, getRemoveSyncPoint());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeMessage(34, getActiveSyncTxId());
       }
-      if (((bitField0_ & 0x40000000) == 0x40000000)) {
+      if (((bitField1_ & 0x00000020) == 0x00000020)) {
         output.writeMessage(35, getUpdateInode());
       }
-      if (((bitField0_ & 0x80000000) == 0x80000000)) {
+      if (((bitField1_ & 0x00000040) == 0x00000040)) {
         output.writeMessage(36, getUpdateInodeDirectory());
       }
-      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+      if (((bitField1_ & 0x00000080) == 0x00000080)) {
         output.writeMessage(37, getUpdateInodeFile());
       }
-      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
         output.writeMessage(38, getNewBlock());
       }
       for (int i = 0; i < journalEntries_.size(); i++) {
         output.writeMessage(39, journalEntries_.get(i));
       }
-      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
         output.writeMessage(40, getPathProperties());
       }
-      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
         output.writeMessage(41, getRemovePathProperties());
       }
-      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
         output.writeMessage(42, getClusterInfo());
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeMessage(43, getAddTable());
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
         output.writeMessage(44, getAttachDb());
       }
-      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
         output.writeMessage(45, getDetachDb());
       }
-      if (((bitField0_ & 0x10000000) == 0x10000000)) {
+      if (((bitField1_ & 0x00000002) == 0x00000002)) {
         output.writeMessage(46, getTransformJob());
       }
-      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
         output.writeMessage(47, getRemoveTransformJob());
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(48, getAddTablePartitions());
+      }
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+        output.writeMessage(49, getRemoveTablePartitions());
+      }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        output.writeMessage(50, getRemoveTable());
+      }
+      if (((bitField1_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(51, getUpdateTable());
+      }
+      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(52, getStartJob());
+      }
+      if (((bitField1_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(53, getUpdateJob());
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        output.writeMessage(54, getFinishedJob());
+      }
       unknownFields.writeTo(output);
     }
 
@@ -1895,79 +2257,79 @@ public final class Journal {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(1, sequenceNumber_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, getAddMountPoint());
       }
-      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(3, getBlockContainerIdGenerator());
       }
-      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+      if (((bitField0_ & 0x00000200) == 0x00000200)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(4, getBlockInfo());
       }
-      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(5, getCompleteFile());
       }
-      if (((bitField0_ & 0x00001000) == 0x00001000)) {
+      if (((bitField0_ & 0x00002000) == 0x00002000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(6, getDeleteFile());
       }
-      if (((bitField0_ & 0x00002000) == 0x00002000)) {
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(8, getDeleteMountPoint());
       }
-      if (((bitField0_ & 0x00008000) == 0x00008000)) {
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(9, getInodeDirectory());
       }
-      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(10, getInodeDirectoryIdGenerator());
       }
-      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+      if (((bitField0_ & 0x00080000) == 0x00080000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(11, getInodeFile());
       }
-      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+      if (((bitField0_ & 0x00100000) == 0x00100000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(12, getInodeLastModificationTime());
       }
-      if (((bitField0_ & 0x00200000) == 0x00200000)) {
+      if (((bitField0_ & 0x00800000) == 0x00800000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(15, getPersistDirectory());
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(16, getAsyncPersistRequest());
       }
-      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+      if (((bitField0_ & 0x20000000) == 0x20000000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(19, getRename());
       }
-      if (((bitField0_ & 0x08000000) == 0x08000000)) {
+      if (((bitField0_ & 0x80000000) == 0x80000000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(27, getSetAttribute());
       }
-      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+      if (((bitField0_ & 0x00001000) == 0x00001000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(29, getDeleteBlock());
       }
-      if (((bitField0_ & 0x20000000) == 0x20000000)) {
+      if (((bitField1_ & 0x00000010) == 0x00000010)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(30, getUpdateUfsMode());
       }
-      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+      if (((bitField0_ & 0x40000000) == 0x40000000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(31, getSetAcl());
       }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(32, getAddSyncPoint());
       }
-      if (((bitField0_ & 0x01000000) == 0x01000000)) {
+      if (((bitField0_ & 0x10000000) == 0x10000000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(33, getRemoveSyncPoint());
       }
@@ -1975,19 +2337,19 @@ public final class Journal {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(34, getActiveSyncTxId());
       }
-      if (((bitField0_ & 0x40000000) == 0x40000000)) {
+      if (((bitField1_ & 0x00000020) == 0x00000020)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(35, getUpdateInode());
       }
-      if (((bitField0_ & 0x80000000) == 0x80000000)) {
+      if (((bitField1_ & 0x00000040) == 0x00000040)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(36, getUpdateInodeDirectory());
       }
-      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+      if (((bitField1_ & 0x00000080) == 0x00000080)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(37, getUpdateInodeFile());
       }
-      if (((bitField0_ & 0x00080000) == 0x00080000)) {
+      if (((bitField0_ & 0x00200000) == 0x00200000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(38, getNewBlock());
       }
@@ -1995,15 +2357,15 @@ public final class Journal {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(39, journalEntries_.get(i));
       }
-      if (((bitField0_ & 0x00100000) == 0x00100000)) {
+      if (((bitField0_ & 0x00400000) == 0x00400000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(40, getPathProperties());
       }
-      if (((bitField0_ & 0x00400000) == 0x00400000)) {
+      if (((bitField0_ & 0x01000000) == 0x01000000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(41, getRemovePathProperties());
       }
-      if (((bitField0_ & 0x00000200) == 0x00000200)) {
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(42, getClusterInfo());
       }
@@ -2011,22 +2373,50 @@ public final class Journal {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(43, getAddTable());
       }
-      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(44, getAttachDb());
       }
-      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+      if (((bitField0_ & 0x00008000) == 0x00008000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(45, getDetachDb());
       }
-      if (((bitField0_ & 0x10000000) == 0x10000000)) {
+      if (((bitField1_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(46, getTransformJob());
       }
-      if (((bitField0_ & 0x00800000) == 0x00800000)) {
+      if (((bitField0_ & 0x08000000) == 0x08000000)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(47, getRemoveTransformJob());
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(48, getAddTablePartitions());
+      }
+      if (((bitField0_ & 0x04000000) == 0x04000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(49, getRemoveTablePartitions());
+      }
+      if (((bitField0_ & 0x02000000) == 0x02000000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(50, getRemoveTable());
+      }
+      if (((bitField1_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(51, getUpdateTable());
+      }
+      if (((bitField1_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(52, getStartJob());
+      }
+      if (((bitField1_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(53, getUpdateJob());
+      }
+      if (((bitField0_ & 0x00010000) == 0x00010000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(54, getFinishedJob());
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2058,6 +2448,11 @@ public final class Journal {
         result = result && getAddTable()
             .equals(other.getAddTable());
       }
+      result = result && (hasAddTablePartitions() == other.hasAddTablePartitions());
+      if (hasAddTablePartitions()) {
+        result = result && getAddTablePartitions()
+            .equals(other.getAddTablePartitions());
+      }
       result = result && (hasAddSyncPoint() == other.hasAddSyncPoint());
       if (hasAddSyncPoint()) {
         result = result && getAddSyncPoint()
@@ -2118,6 +2513,11 @@ public final class Journal {
         result = result && getDetachDb()
             .equals(other.getDetachDb());
       }
+      result = result && (hasFinishedJob() == other.hasFinishedJob());
+      if (hasFinishedJob()) {
+        result = result && getFinishedJob()
+            .equals(other.getFinishedJob());
+      }
       result = result && (hasInodeDirectory() == other.hasInodeDirectory());
       if (hasInodeDirectory()) {
         result = result && getInodeDirectory()
@@ -2158,6 +2558,16 @@ public final class Journal {
         result = result && getRemovePathProperties()
             .equals(other.getRemovePathProperties());
       }
+      result = result && (hasRemoveTable() == other.hasRemoveTable());
+      if (hasRemoveTable()) {
+        result = result && getRemoveTable()
+            .equals(other.getRemoveTable());
+      }
+      result = result && (hasRemoveTablePartitions() == other.hasRemoveTablePartitions());
+      if (hasRemoveTablePartitions()) {
+        result = result && getRemoveTablePartitions()
+            .equals(other.getRemoveTablePartitions());
+      }
       result = result && (hasRemoveTransformJob() == other.hasRemoveTransformJob());
       if (hasRemoveTransformJob()) {
         result = result && getRemoveTransformJob()
@@ -2183,11 +2593,26 @@ public final class Journal {
         result = result && getSetAttribute()
             .equals(other.getSetAttribute());
       }
+      result = result && (hasStartJob() == other.hasStartJob());
+      if (hasStartJob()) {
+        result = result && getStartJob()
+            .equals(other.getStartJob());
+      }
       result = result && (hasTransformJob() == other.hasTransformJob());
       if (hasTransformJob()) {
         result = result && getTransformJob()
             .equals(other.getTransformJob());
       }
+      result = result && (hasUpdateJob() == other.hasUpdateJob());
+      if (hasUpdateJob()) {
+        result = result && getUpdateJob()
+            .equals(other.getUpdateJob());
+      }
+      result = result && (hasUpdateTable() == other.hasUpdateTable());
+      if (hasUpdateTable()) {
+        result = result && getUpdateTable()
+            .equals(other.getUpdateTable());
+      }
       result = result && (hasUpdateUfsMode() == other.hasUpdateUfsMode());
       if (hasUpdateUfsMode()) {
         result = result && getUpdateUfsMode()
@@ -2234,6 +2659,10 @@ public final class Journal {
         hash = (37 * hash) + ADD_TABLE_FIELD_NUMBER;
         hash = (53 * hash) + getAddTable().hashCode();
       }
+      if (hasAddTablePartitions()) {
+        hash = (37 * hash) + ADD_TABLE_PARTITIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getAddTablePartitions().hashCode();
+      }
       if (hasAddSyncPoint()) {
         hash = (37 * hash) + ADD_SYNC_POINT_FIELD_NUMBER;
         hash = (53 * hash) + getAddSyncPoint().hashCode();
@@ -2282,6 +2711,10 @@ public final class Journal {
         hash = (37 * hash) + DETACH_DB_FIELD_NUMBER;
         hash = (53 * hash) + getDetachDb().hashCode();
       }
+      if (hasFinishedJob()) {
+        hash = (37 * hash) + FINISHED_JOB_FIELD_NUMBER;
+        hash = (53 * hash) + getFinishedJob().hashCode();
+      }
       if (hasInodeDirectory()) {
         hash = (37 * hash) + INODE_DIRECTORY_FIELD_NUMBER;
         hash = (53 * hash) + getInodeDirectory().hashCode();
@@ -2314,6 +2747,14 @@ public final class Journal {
         hash = (37 * hash) + REMOVE_PATH_PROPERTIES_FIELD_NUMBER;
         hash = (53 * hash) + getRemovePathProperties().hashCode();
       }
+      if (hasRemoveTable()) {
+        hash = (37 * hash) + REMOVE_TABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getRemoveTable().hashCode();
+      }
+      if (hasRemoveTablePartitions()) {
+        hash = (37 * hash) + REMOVE_TABLE_PARTITIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemoveTablePartitions().hashCode();
+      }
       if (hasRemoveTransformJob()) {
         hash = (37 * hash) + REMOVE_TRANSFORM_JOB_FIELD_NUMBER;
         hash = (53 * hash) + getRemoveTransformJob().hashCode();
@@ -2334,10 +2775,22 @@ public final class Journal {
         hash = (37 * hash) + SET_ATTRIBUTE_FIELD_NUMBER;
         hash = (53 * hash) + getSetAttribute().hashCode();
       }
+      if (hasStartJob()) {
+        hash = (37 * hash) + START_JOB_FIELD_NUMBER;
+        hash = (53 * hash) + getStartJob().hashCode();
+      }
       if (hasTransformJob()) {
         hash = (37 * hash) + TRANSFORM_JOB_FIELD_NUMBER;
         hash = (53 * hash) + getTransformJob().hashCode();
       }
+      if (hasUpdateJob()) {
+        hash = (37 * hash) + UPDATE_JOB_FIELD_NUMBER;
+        hash = (53 * hash) + getUpdateJob().hashCode();
+      }
+      if (hasUpdateTable()) {
+        hash = (37 * hash) + UPDATE_TABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getUpdateTable().hashCode();
+      }
       if (hasUpdateUfsMode()) {
         hash = (37 * hash) + UPDATE_UFS_MODE_FIELD_NUMBER;
         hash = (53 * hash) + getUpdateUfsMode().hashCode();
@@ -2453,7 +2906,7 @@ public final class Journal {
     }
     /**
      * <pre>
-     * next available id: 48
+     * next available id: 55
      * </pre>
      *
      * Protobuf type {@code alluxio.proto.journal.JournalEntry}
@@ -2489,6 +2942,7 @@ public final class Journal {
                 .alwaysUseFieldBuilders) {
           getActiveSyncTxIdFieldBuilder();
           getAddTableFieldBuilder();
+          getAddTablePartitionsFieldBuilder();
           getAddSyncPointFieldBuilder();
           getAddMountPointFieldBuilder();
           getAsyncPersistRequestFieldBuilder();
@@ -2501,6 +2955,7 @@ public final class Journal {
           getDeleteFileFieldBuilder();
           getDeleteMountPointFieldBuilder();
           getDetachDbFieldBuilder();
+          getFinishedJobFieldBuilder();
           getInodeDirectoryFieldBuilder();
           getInodeDirectoryIdGeneratorFieldBuilder();
           getInodeFileFieldBuilder();
@@ -2509,12 +2964,17 @@ public final class Journal {
           getPathPropertiesFieldBuilder();
           getPersistDirectoryFieldBuilder();
           getRemovePathPropertiesFieldBuilder();
+          getRemoveTableFieldBuilder();
+          getRemoveTablePartitionsFieldBuilder();
           getRemoveTransformJobFieldBuilder();
           getRemoveSyncPointFieldBuilder();
           getRenameFieldBuilder();
           getSetAclFieldBuilder();
           getSetAttributeFieldBuilder();
+          getStartJobFieldBuilder();
           getTransformJobFieldBuilder();
+          getUpdateJobFieldBuilder();
+          getUpdateTableFieldBuilder();
           getUpdateUfsModeFieldBuilder();
           getUpdateInodeFieldBuilder();
           getUpdateInodeDirectoryFieldBuilder();
@@ -2538,189 +2998,231 @@ public final class Journal {
           addTableBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000004);
+        if (addTablePartitionsBuilder_ == null) {
+          addTablePartitions_ = null;
+        } else {
+          addTablePartitionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
         if (addSyncPointBuilder_ == null) {
           addSyncPoint_ = null;
         } else {
           addSyncPointBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000008);
+        bitField0_ = (bitField0_ & ~0x00000010);
         if (addMountPointBuilder_ == null) {
           addMountPoint_ = null;
         } else {
           addMountPointBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000010);
+        bitField0_ = (bitField0_ & ~0x00000020);
         if (asyncPersistRequestBuilder_ == null) {
           asyncPersistRequest_ = null;
         } else {
           asyncPersistRequestBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000020);
+        bitField0_ = (bitField0_ & ~0x00000040);
         if (attachDbBuilder_ == null) {
           attachDb_ = null;
         } else {
           attachDbBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000040);
+        bitField0_ = (bitField0_ & ~0x00000080);
         if (blockContainerIdGeneratorBuilder_ == null) {
           blockContainerIdGenerator_ = null;
         } else {
           blockContainerIdGeneratorBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000080);
+        bitField0_ = (bitField0_ & ~0x00000100);
         if (blockInfoBuilder_ == null) {
           blockInfo_ = null;
         } else {
           blockInfoBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000100);
+        bitField0_ = (bitField0_ & ~0x00000200);
         if (clusterInfoBuilder_ == null) {
           clusterInfo_ = null;
         } else {
           clusterInfoBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000200);
+        bitField0_ = (bitField0_ & ~0x00000400);
         if (completeFileBuilder_ == null) {
           completeFile_ = null;
         } else {
           completeFileBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000400);
+        bitField0_ = (bitField0_ & ~0x00000800);
         if (deleteBlockBuilder_ == null) {
           deleteBlock_ = null;
         } else {
           deleteBlockBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000800);
+        bitField0_ = (bitField0_ & ~0x00001000);
         if (deleteFileBuilder_ == null) {
           deleteFile_ = null;
         } else {
           deleteFileBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00001000);
+        bitField0_ = (bitField0_ & ~0x00002000);
         if (deleteMountPointBuilder_ == null) {
           deleteMountPoint_ = null;
         } else {
           deleteMountPointBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00002000);
+        bitField0_ = (bitField0_ & ~0x00004000);
         if (detachDbBuilder_ == null) {
           detachDb_ = null;
         } else {
           detachDbBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00004000);
+        bitField0_ = (bitField0_ & ~0x00008000);
+        if (finishedJobBuilder_ == null) {
+          finishedJob_ = null;
+        } else {
+          finishedJobBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00010000);
         if (inodeDirectoryBuilder_ == null) {
           inodeDirectory_ = null;
         } else {
           inodeDirectoryBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00008000);
+        bitField0_ = (bitField0_ & ~0x00020000);
         if (inodeDirectoryIdGeneratorBuilder_ == null) {
           inodeDirectoryIdGenerator_ = null;
         } else {
           inodeDirectoryIdGeneratorBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00010000);
+        bitField0_ = (bitField0_ & ~0x00040000);
         if (inodeFileBuilder_ == null) {
           inodeFile_ = null;
         } else {
           inodeFileBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00020000);
+        bitField0_ = (bitField0_ & ~0x00080000);
         if (inodeLastModificationTimeBuilder_ == null) {
           inodeLastModificationTime_ = null;
         } else {
           inodeLastModificationTimeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00040000);
+        bitField0_ = (bitField0_ & ~0x00100000);
         if (newBlockBuilder_ == null) {
           newBlock_ = null;
         } else {
           newBlockBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00080000);
+        bitField0_ = (bitField0_ & ~0x00200000);
         if (pathPropertiesBuilder_ == null) {
           pathProperties_ = null;
         } else {
           pathPropertiesBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00100000);
+        bitField0_ = (bitField0_ & ~0x00400000);
         if (persistDirectoryBuilder_ == null) {
           persistDirectory_ = null;
         } else {
           persistDirectoryBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00200000);
+        bitField0_ = (bitField0_ & ~0x00800000);
         if (removePathPropertiesBuilder_ == null) {
           removePathProperties_ = null;
         } else {
           removePathPropertiesBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00400000);
+        bitField0_ = (bitField0_ & ~0x01000000);
+        if (removeTableBuilder_ == null) {
+          removeTable_ = null;
+        } else {
+          removeTableBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x02000000);
+        if (removeTablePartitionsBuilder_ == null) {
+          removeTablePartitions_ = null;
+        } else {
+          removeTablePartitionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x04000000);
         if (removeTransformJobBuilder_ == null) {
           removeTransformJob_ = null;
         } else {
           removeTransformJobBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00800000);
+        bitField0_ = (bitField0_ & ~0x08000000);
         if (removeSyncPointBuilder_ == null) {
           removeSyncPoint_ = null;
         } else {
           removeSyncPointBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x01000000);
+        bitField0_ = (bitField0_ & ~0x10000000);
         if (renameBuilder_ == null) {
           rename_ = null;
         } else {
           renameBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x02000000);
+        bitField0_ = (bitField0_ & ~0x20000000);
         if (setAclBuilder_ == null) {
           setAcl_ = null;
         } else {
           setAclBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x04000000);
+        bitField0_ = (bitField0_ & ~0x40000000);
         if (setAttributeBuilder_ == null) {
           setAttribute_ = null;
         } else {
           setAttributeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x08000000);
+        bitField0_ = (bitField0_ & ~0x80000000);
+        if (startJobBuilder_ == null) {
+          startJob_ = null;
+        } else {
+          startJobBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000001);
         if (transformJobBuilder_ == null) {
           transformJob_ = null;
         } else {
           transformJobBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x10000000);
+        bitField1_ = (bitField1_ & ~0x00000002);
+        if (updateJobBuilder_ == null) {
+          updateJob_ = null;
+        } else {
+          updateJobBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000004);
+        if (updateTableBuilder_ == null) {
+          updateTable_ = null;
+        } else {
+          updateTableBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000008);
         if (updateUfsModeBuilder_ == null) {
           updateUfsMode_ = null;
         } else {
           updateUfsModeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x20000000);
+        bitField1_ = (bitField1_ & ~0x00000010);
         if (updateInodeBuilder_ == null) {
           updateInode_ = null;
         } else {
           updateInodeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x40000000);
+        bitField1_ = (bitField1_ & ~0x00000020);
         if (updateInodeDirectoryBuilder_ == null) {
           updateInodeDirectory_ = null;
         } else {
           updateInodeDirectoryBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x80000000);
+        bitField1_ = (bitField1_ & ~0x00000040);
         if (updateInodeFileBuilder_ == null) {
           updateInodeFile_ = null;
         } else {
           updateInodeFileBuilder_.clear();
         }
-        bitField1_ = (bitField1_ & ~0x00000001);
+        bitField1_ = (bitField1_ & ~0x00000080);
         if (journalEntriesBuilder_ == null) {
           journalEntries_ = java.util.Collections.emptyList();
-          bitField1_ = (bitField1_ & ~0x00000002);
+          bitField1_ = (bitField1_ & ~0x00000100);
         } else {
           journalEntriesBuilder_.clear();
         }
@@ -2773,237 +3275,293 @@ public final class Journal {
         if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
           to_bitField0_ |= 0x00000008;
         }
+        if (addTablePartitionsBuilder_ == null) {
+          result.addTablePartitions_ = addTablePartitions_;
+        } else {
+          result.addTablePartitions_ = addTablePartitionsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
         if (addSyncPointBuilder_ == null) {
           result.addSyncPoint_ = addSyncPoint_;
         } else {
           result.addSyncPoint_ = addSyncPointBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
         }
         if (addMountPointBuilder_ == null) {
           result.addMountPoint_ = addMountPoint_;
         } else {
           result.addMountPoint_ = addMountPointBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000020;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
         }
         if (asyncPersistRequestBuilder_ == null) {
           result.asyncPersistRequest_ = asyncPersistRequest_;
         } else {
           result.asyncPersistRequest_ = asyncPersistRequestBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-          to_bitField0_ |= 0x00000040;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000080;
         }
         if (attachDbBuilder_ == null) {
           result.attachDb_ = attachDb_;
         } else {
           result.attachDb_ = attachDbBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
-          to_bitField0_ |= 0x00000080;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000100;
         }
         if (blockContainerIdGeneratorBuilder_ == null) {
           result.blockContainerIdGenerator_ = blockContainerIdGenerator_;
         } else {
           result.blockContainerIdGenerator_ = blockContainerIdGeneratorBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
-          to_bitField0_ |= 0x00000100;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000200;
         }
         if (blockInfoBuilder_ == null) {
           result.blockInfo_ = blockInfo_;
         } else {
           result.blockInfo_ = blockInfoBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
-          to_bitField0_ |= 0x00000200;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000400;
         }
         if (clusterInfoBuilder_ == null) {
           result.clusterInfo_ = clusterInfo_;
         } else {
           result.clusterInfo_ = clusterInfoBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
-          to_bitField0_ |= 0x00000400;
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+          to_bitField0_ |= 0x00000800;
         }
         if (completeFileBuilder_ == null) {
           result.completeFile_ = completeFile_;
         } else {
           result.completeFile_ = completeFileBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
-          to_bitField0_ |= 0x00000800;
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+          to_bitField0_ |= 0x00001000;
         }
         if (deleteBlockBuilder_ == null) {
           result.deleteBlock_ = deleteBlock_;
         } else {
           result.deleteBlock_ = deleteBlockBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
-          to_bitField0_ |= 0x00001000;
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+          to_bitField0_ |= 0x00002000;
         }
         if (deleteFileBuilder_ == null) {
           result.deleteFile_ = deleteFile_;
         } else {
           result.deleteFile_ = deleteFileBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
-          to_bitField0_ |= 0x00002000;
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+          to_bitField0_ |= 0x00004000;
         }
         if (deleteMountPointBuilder_ == null) {
           result.deleteMountPoint_ = deleteMountPoint_;
         } else {
           result.deleteMountPoint_ = deleteMountPointBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
-          to_bitField0_ |= 0x00004000;
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+          to_bitField0_ |= 0x00008000;
         }
         if (detachDbBuilder_ == null) {
           result.detachDb_ = detachDb_;
         } else {
           result.detachDb_ = detachDbBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
-          to_bitField0_ |= 0x00008000;
+        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+          to_bitField0_ |= 0x00010000;
+        }
+        if (finishedJobBuilder_ == null) {
+          result.finishedJob_ = finishedJob_;
+        } else {
+          result.finishedJob_ = finishedJobBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+          to_bitField0_ |= 0x00020000;
         }
         if (inodeDirectoryBuilder_ == null) {
           result.inodeDirectory_ = inodeDirectory_;
         } else {
           result.inodeDirectory_ = inodeDirectoryBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
-          to_bitField0_ |= 0x00010000;
+        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+          to_bitField0_ |= 0x00040000;
         }
         if (inodeDirectoryIdGeneratorBuilder_ == null) {
           result.inodeDirectoryIdGenerator_ = inodeDirectoryIdGenerator_;
         } else {
           result.inodeDirectoryIdGenerator_ = inodeDirectoryIdGeneratorBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
-          to_bitField0_ |= 0x00020000;
+        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
+          to_bitField0_ |= 0x00080000;
         }
         if (inodeFileBuilder_ == null) {
           result.inodeFile_ = inodeFile_;
         } else {
           result.inodeFile_ = inodeFileBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
-          to_bitField0_ |= 0x00040000;
+        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
+          to_bitField0_ |= 0x00100000;
         }
         if (inodeLastModificationTimeBuilder_ == null) {
           result.inodeLastModificationTime_ = inodeLastModificationTime_;
         } else {
           result.inodeLastModificationTime_ = inodeLastModificationTimeBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
-          to_bitField0_ |= 0x00080000;
+        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
+          to_bitField0_ |= 0x00200000;
         }
         if (newBlockBuilder_ == null) {
           result.newBlock_ = newBlock_;
         } else {
           result.newBlock_ = newBlockBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00100000) == 0x00100000)) {
-          to_bitField0_ |= 0x00100000;
+        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
+          to_bitField0_ |= 0x00400000;
         }
         if (pathPropertiesBuilder_ == null) {
           result.pathProperties_ = pathProperties_;
         } else {
           result.pathProperties_ = pathPropertiesBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00200000) == 0x00200000)) {
-          to_bitField0_ |= 0x00200000;
+        if (((from_bitField0_ & 0x00800000) == 0x00800000)) {
+          to_bitField0_ |= 0x00800000;
         }
         if (persistDirectoryBuilder_ == null) {
           result.persistDirectory_ = persistDirectory_;
         } else {
           result.persistDirectory_ = persistDirectoryBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
-          to_bitField0_ |= 0x00400000;
+        if (((from_bitField0_ & 0x01000000) == 0x01000000)) {
+          to_bitField0_ |= 0x01000000;
         }
         if (removePathPropertiesBuilder_ == null) {
           result.removePathProperties_ = removePathProperties_;
         } else {
           result.removePathProperties_ = removePathPropertiesBuilder_.build();
         }
-        if (((from_bitField0_ & 0x00800000) == 0x00800000)) {
-          to_bitField0_ |= 0x00800000;
+        if (((from_bitField0_ & 0x02000000) == 0x02000000)) {
+          to_bitField0_ |= 0x02000000;
+        }
+        if (removeTableBuilder_ == null) {
+          result.removeTable_ = removeTable_;
+        } else {
+          result.removeTable_ = removeTableBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x04000000) == 0x04000000)) {
+          to_bitField0_ |= 0x04000000;
+        }
+        if (removeTablePartitionsBuilder_ == null) {
+          result.removeTablePartitions_ = removeTablePartitions_;
+        } else {
+          result.removeTablePartitions_ = removeTablePartitionsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x08000000) == 0x08000000)) {
+          to_bitField0_ |= 0x08000000;
         }
         if (removeTransformJobBuilder_ == null) {
           result.removeTransformJob_ = removeTransformJob_;
         } else {
           result.removeTransformJob_ = removeTransformJobBuilder_.build();
         }
-        if (((from_bitField0_ & 0x01000000) == 0x01000000)) {
-          to_bitField0_ |= 0x01000000;
+        if (((from_bitField0_ & 0x10000000) == 0x10000000)) {
+          to_bitField0_ |= 0x10000000;
         }
         if (removeSyncPointBuilder_ == null) {
           result.removeSyncPoint_ = removeSyncPoint_;
         } else {
           result.removeSyncPoint_ = removeSyncPointBuilder_.build();
         }
-        if (((from_bitField0_ & 0x02000000) == 0x02000000)) {
-          to_bitField0_ |= 0x02000000;
+        if (((from_bitField0_ & 0x20000000) == 0x20000000)) {
+          to_bitField0_ |= 0x20000000;
         }
         if (renameBuilder_ == null) {
           result.rename_ = rename_;
         } else {
           result.rename_ = renameBuilder_.build();
         }
-        if (((from_bitField0_ & 0x04000000) == 0x04000000)) {
-          to_bitField0_ |= 0x04000000;
+        if (((from_bitField0_ & 0x40000000) == 0x40000000)) {
+          to_bitField0_ |= 0x40000000;
         }
         if (setAclBuilder_ == null) {
           result.setAcl_ = setAcl_;
         } else {
           result.setAcl_ = setAclBuilder_.build();
         }
-        if (((from_bitField0_ & 0x08000000) == 0x08000000)) {
-          to_bitField0_ |= 0x08000000;
+        if (((from_bitField0_ & 0x80000000) == 0x80000000)) {
+          to_bitField0_ |= 0x80000000;
         }
         if (setAttributeBuilder_ == null) {
           result.setAttribute_ = setAttribute_;
         } else {
           result.setAttribute_ = setAttributeBuilder_.build();
         }
-        if (((from_bitField0_ & 0x10000000) == 0x10000000)) {
-          to_bitField0_ |= 0x10000000;
+        if (((from_bitField1_ & 0x00000001) == 0x00000001)) {
+          to_bitField1_ |= 0x00000001;
+        }
+        if (startJobBuilder_ == null) {
+          result.startJob_ = startJob_;
+        } else {
+          result.startJob_ = startJobBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000002) == 0x00000002)) {
+          to_bitField1_ |= 0x00000002;
         }
         if (transformJobBuilder_ == null) {
           result.transformJob_ = transformJob_;
         } else {
           result.transformJob_ = transformJobBuilder_.build();
         }
-        if (((from_bitField0_ & 0x20000000) == 0x20000000)) {
-          to_bitField0_ |= 0x20000000;
+        if (((from_bitField1_ & 0x00000004) == 0x00000004)) {
+          to_bitField1_ |= 0x00000004;
+        }
+        if (updateJobBuilder_ == null) {
+          result.updateJob_ = updateJob_;
+        } else {
+          result.updateJob_ = updateJobBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000008) == 0x00000008)) {
+          to_bitField1_ |= 0x00000008;
+        }
+        if (updateTableBuilder_ == null) {
+          result.updateTable_ = updateTable_;
+        } else {
+          result.updateTable_ = updateTableBuilder_.build();
+        }
+        if (((from_bitField1_ & 0x00000010) == 0x00000010)) {
+          to_bitField1_ |= 0x00000010;
         }
         if (updateUfsModeBuilder_ == null) {
           result.updateUfsMode_ = updateUfsMode_;
         } else {
           result.updateUfsMode_ = updateUfsModeBuilder_.build();
         }
-        if (((from_bitField0_ & 0x40000000) == 0x40000000)) {
-          to_bitField0_ |= 0x40000000;
+        if (((from_bitField1_ & 0x00000020) == 0x00000020)) {
+          to_bitField1_ |= 0x00000020;
         }
         if (updateInodeBuilder_ == null) {
           result.updateInode_ = updateInode_;
         } else {
           result.updateInode_ = updateInodeBuilder_.build();
         }
-        if (((from_bitField0_ & 0x80000000) == 0x80000000)) {
-          to_bitField0_ |= 0x80000000;
+        if (((from_bitField1_ & 0x00000040) == 0x00000040)) {
+          to_bitField1_ |= 0x00000040;
         }
         if (updateInodeDirectoryBuilder_ == null) {
           result.updateInodeDirectory_ = updateInodeDirectory_;
         } else {
           result.updateInodeDirectory_ = updateInodeDirectoryBuilder_.build();
         }
-        if (((from_bitField1_ & 0x00000001) == 0x00000001)) {
-          to_bitField1_ |= 0x00000001;
+        if (((from_bitField1_ & 0x00000080) == 0x00000080)) {
+          to_bitField1_ |= 0x00000080;
         }
         if (updateInodeFileBuilder_ == null) {
           result.updateInodeFile_ = updateInodeFile_;
@@ -3011,9 +3569,9 @@ public final class Journal {
           result.updateInodeFile_ = updateInodeFileBuilder_.build();
         }
         if (journalEntriesBuilder_ == null) {
-          if (((bitField1_ & 0x00000002) == 0x00000002)) {
+          if (((bitField1_ & 0x00000100) == 0x00000100)) {
             journalEntries_ = java.util.Collections.unmodifiableList(journalEntries_);
-            bitField1_ = (bitField1_ & ~0x00000002);
+            bitField1_ = (bitField1_ & ~0x00000100);
           }
           result.journalEntries_ = journalEntries_;
         } else {
@@ -3071,6 +3629,9 @@ public final class Journal {
         if (other.hasAddTable()) {
           mergeAddTable(other.getAddTable());
         }
+        if (other.hasAddTablePartitions()) {
+          mergeAddTablePartitions(other.getAddTablePartitions());
+        }
         if (other.hasAddSyncPoint()) {
           mergeAddSyncPoint(other.getAddSyncPoint());
         }
@@ -3107,6 +3668,9 @@ public final class Journal {
         if (other.hasDetachDb()) {
           mergeDetachDb(other.getDetachDb());
         }
+        if (other.hasFinishedJob()) {
+          mergeFinishedJob(other.getFinishedJob());
+        }
         if (other.hasInodeDirectory()) {
           mergeInodeDirectory(other.getInodeDirectory());
         }
@@ -3131,6 +3695,12 @@ public final class Journal {
         if (other.hasRemovePathProperties()) {
           mergeRemovePathProperties(other.getRemovePathProperties());
         }
+        if (other.hasRemoveTable()) {
+          mergeRemoveTable(other.getRemoveTable());
+        }
+        if (other.hasRemoveTablePartitions()) {
+          mergeRemoveTablePartitions(other.getRemoveTablePartitions());
+        }
         if (other.hasRemoveTransformJob()) {
           mergeRemoveTransformJob(other.getRemoveTransformJob());
         }
@@ -3146,9 +3716,18 @@ public final class Journal {
         if (other.hasSetAttribute()) {
           mergeSetAttribute(other.getSetAttribute());
         }
+        if (other.hasStartJob()) {
+          mergeStartJob(other.getStartJob());
+        }
         if (other.hasTransformJob()) {
           mergeTransformJob(other.getTransformJob());
         }
+        if (other.hasUpdateJob()) {
+          mergeUpdateJob(other.getUpdateJob());
+        }
+        if (other.hasUpdateTable()) {
+          mergeUpdateTable(other.getUpdateTable());
+        }
         if (other.hasUpdateUfsMode()) {
           mergeUpdateUfsMode(other.getUpdateUfsMode());
         }
@@ -3165,7 +3744,7 @@ public final class Journal {
           if (!other.journalEntries_.isEmpty()) {
             if (journalEntries_.isEmpty()) {
               journalEntries_ = other.journalEntries_;
-              bitField1_ = (bitField1_ & ~0x00000002);
+              bitField1_ = (bitField1_ & ~0x00000100);
             } else {
               ensureJournalEntriesIsMutable();
               journalEntries_.addAll(other.journalEntries_);
@@ -3178,7 +3757,7 @@ public final class Journal {
               journalEntriesBuilder_.dispose();
               journalEntriesBuilder_ = null;
               journalEntries_ = other.journalEntries_;
-              bitField1_ = (bitField1_ & ~0x00000002);
+              bitField1_ = (bitField1_ & ~0x00000100);
               journalEntriesBuilder_ = 
                 com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
                    getJournalEntriesFieldBuilder() : null;
@@ -3198,11 +3777,21 @@ public final class Journal {
             return false;
           }
         }
+        if (hasAddTablePartitions()) {
+          if (!getAddTablePartitions().isInitialized()) {
+            return false;
+          }
+        }
         if (hasTransformJob()) {
           if (!getTransformJob().isInitialized()) {
             return false;
           }
         }
+        if (hasUpdateTable()) {
+          if (!getUpdateTable().isInitialized()) {
+            return false;
+          }
+        }
         for (int i = 0; i < getJournalEntriesCount(); i++) {
           if (!getJournalEntries(i).isInitialized()) {
             return false;
@@ -3499,114 +4088,232 @@ public final class Journal {
         return addTableBuilder_;
       }
 
-      private alluxio.proto.journal.File.AddSyncPointEntry addSyncPoint_ = null;
+      private alluxio.proto.journal.Table.AddTablePartitionsEntry addTablePartitions_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
-          alluxio.proto.journal.File.AddSyncPointEntry, alluxio.proto.journal.File.AddSyncPointEntry.Builder, alluxio.proto.journal.File.AddSyncPointEntryOrBuilder> addSyncPointBuilder_;
+          alluxio.proto.journal.Table.AddTablePartitionsEntry, alluxio.proto.journal.Table.AddTablePartitionsEntry.Builder, alluxio.proto.journal.Table.AddTablePartitionsEntryOrBuilder> addTablePartitionsBuilder_;
       /**
-       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
        */
-      public boolean hasAddSyncPoint() {
+      public boolean hasAddTablePartitions() {
         return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
        */
-      public alluxio.proto.journal.File.AddSyncPointEntry getAddSyncPoint() {
-        if (addSyncPointBuilder_ == null) {
-          return addSyncPoint_ == null ? alluxio.proto.journal.File.AddSyncPointEntry.getDefaultInstance() : addSyncPoint_;
+      public alluxio.proto.journal.Table.AddTablePartitionsEntry getAddTablePartitions() {
+        if (addTablePartitionsBuilder_ == null) {
+          return addTablePartitions_ == null ? alluxio.proto.journal.Table.AddTablePartitionsEntry.getDefaultInstance() : addTablePartitions_;
         } else {
-          return addSyncPointBuilder_.getMessage();
+          return addTablePartitionsBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
        */
-      public Builder setAddSyncPoint(alluxio.proto.journal.File.AddSyncPointEntry value) {
-        if (addSyncPointBuilder_ == null) {
+      public Builder setAddTablePartitions(alluxio.proto.journal.Table.AddTablePartitionsEntry value) {
+        if (addTablePartitionsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          addSyncPoint_ = value;
+          addTablePartitions_ = value;
           onChanged();
         } else {
-          addSyncPointBuilder_.setMessage(value);
+          addTablePartitionsBuilder_.setMessage(value);
         }
         bitField0_ |= 0x00000008;
         return this;
       }
       /**
-       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
        */
-      public Builder setAddSyncPoint(
-          alluxio.proto.journal.File.AddSyncPointEntry.Builder builderForValue) {
-        if (addSyncPointBuilder_ == null) {
-          addSyncPoint_ = builderForValue.build();
+      public Builder setAddTablePartitions(
+          alluxio.proto.journal.Table.AddTablePartitionsEntry.Builder builderForValue) {
+        if (addTablePartitionsBuilder_ == null) {
+          addTablePartitions_ = builderForValue.build();
           onChanged();
         } else {
-          addSyncPointBuilder_.setMessage(builderForValue.build());
+          addTablePartitionsBuilder_.setMessage(builderForValue.build());
         }
         bitField0_ |= 0x00000008;
         return this;
       }
       /**
-       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
        */
-      public Builder mergeAddSyncPoint(alluxio.proto.journal.File.AddSyncPointEntry value) {
-        if (addSyncPointBuilder_ == null) {
+      public Builder mergeAddTablePartitions(alluxio.proto.journal.Table.AddTablePartitionsEntry value) {
+        if (addTablePartitionsBuilder_ == null) {
           if (((bitField0_ & 0x00000008) == 0x00000008) &&
-              addSyncPoint_ != null &&
-              addSyncPoint_ != alluxio.proto.journal.File.AddSyncPointEntry.getDefaultInstance()) {
-            addSyncPoint_ =
-              alluxio.proto.journal.File.AddSyncPointEntry.newBuilder(addSyncPoint_).mergeFrom(value).buildPartial();
+              addTablePartitions_ != null &&
+              addTablePartitions_ != alluxio.proto.journal.Table.AddTablePartitionsEntry.getDefaultInstance()) {
+            addTablePartitions_ =
+              alluxio.proto.journal.Table.AddTablePartitionsEntry.newBuilder(addTablePartitions_).mergeFrom(value).buildPartial();
           } else {
-            addSyncPoint_ = value;
+            addTablePartitions_ = value;
           }
           onChanged();
         } else {
-          addSyncPointBuilder_.mergeFrom(value);
+          addTablePartitionsBuilder_.mergeFrom(value);
         }
         bitField0_ |= 0x00000008;
         return this;
       }
       /**
-       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
        */
-      public Builder clearAddSyncPoint() {
-        if (addSyncPointBuilder_ == null) {
-          addSyncPoint_ = null;
+      public Builder clearAddTablePartitions() {
+        if (addTablePartitionsBuilder_ == null) {
+          addTablePartitions_ = null;
           onChanged();
         } else {
-          addSyncPointBuilder_.clear();
+          addTablePartitionsBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
       /**
-       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
        */
-      public alluxio.proto.journal.File.AddSyncPointEntry.Builder getAddSyncPointBuilder() {
+      public alluxio.proto.journal.Table.AddTablePartitionsEntry.Builder getAddTablePartitionsBuilder() {
         bitField0_ |= 0x00000008;
         onChanged();
-        return getAddSyncPointFieldBuilder().getBuilder();
+        return getAddTablePartitionsFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
        */
-      public alluxio.proto.journal.File.AddSyncPointEntryOrBuilder getAddSyncPointOrBuilder() {
-        if (addSyncPointBuilder_ != null) {
-          return addSyncPointBuilder_.getMessageOrBuilder();
+      public alluxio.proto.journal.Table.AddTablePartitionsEntryOrBuilder getAddTablePartitionsOrBuilder() {
+        if (addTablePartitionsBuilder_ != null) {
+          return addTablePartitionsBuilder_.getMessageOrBuilder();
         } else {
-          return addSyncPoint_ == null ?
-              alluxio.proto.journal.File.AddSyncPointEntry.getDefaultInstance() : addSyncPoint_;
+          return addTablePartitions_ == null ?
+              alluxio.proto.journal.Table.AddTablePartitionsEntry.getDefaultInstance() : addTablePartitions_;
         }
       }
       /**
-       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       * <code>optional .alluxio.proto.journal.AddTablePartitionsEntry add_table_partitions = 48;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          alluxio.proto.journal.File.AddSyncPointEntry, alluxio.proto.journal.File.AddSyncPointEntry.Builder, alluxio.proto.journal.File.AddSyncPointEntryOrBuilder> 
-          getAddSyncPointFieldBuilder() {
-        if (addSyncPointBuilder_ == null) {
+          alluxio.proto.journal.Table.AddTablePartitionsEntry, alluxio.proto.journal.Table.AddTablePartitionsEntry.Builder, alluxio.proto.journal.Table.AddTablePartitionsEntryOrBuilder> 
+          getAddTablePartitionsFieldBuilder() {
+        if (addTablePartitionsBuilder_ == null) {
+          addTablePartitionsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.proto.journal.Table.AddTablePartitionsEntry, alluxio.proto.journal.Table.AddTablePartitionsEntry.Builder, alluxio.proto.journal.Table.AddTablePartitionsEntryOrBuilder>(
+                  getAddTablePartitions(),
+                  getParentForChildren(),
+                  isClean());
+          addTablePartitions_ = null;
+        }
+        return addTablePartitionsBuilder_;
+      }
+
+      private alluxio.proto.journal.File.AddSyncPointEntry addSyncPoint_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.File.AddSyncPointEntry, alluxio.proto.journal.File.AddSyncPointEntry.Builder, alluxio.proto.journal.File.AddSyncPointEntryOrBuilder> addSyncPointBuilder_;
+      /**
+       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       */
+      public boolean hasAddSyncPoint() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       */
+      public alluxio.proto.journal.File.AddSyncPointEntry getAddSyncPoint() {
+        if (addSyncPointBuilder_ == null) {
+          return addSyncPoint_ == null ? alluxio.proto.journal.File.AddSyncPointEntry.getDefaultInstance() : addSyncPoint_;
+        } else {
+          return addSyncPointBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       */
+      public Builder setAddSyncPoint(alluxio.proto.journal.File.AddSyncPointEntry value) {
+        if (addSyncPointBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          addSyncPoint_ = value;
+          onChanged();
+        } else {
+          addSyncPointBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       */
+      public Builder setAddSyncPoint(
+          alluxio.proto.journal.File.AddSyncPointEntry.Builder builderForValue) {
+        if (addSyncPointBuilder_ == null) {
+          addSyncPoint_ = builderForValue.build();
+          onChanged();
+        } else {
+          addSyncPointBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       */
+      public Builder mergeAddSyncPoint(alluxio.proto.journal.File.AddSyncPointEntry value) {
+        if (addSyncPointBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              addSyncPoint_ != null &&
+              addSyncPoint_ != alluxio.proto.journal.File.AddSyncPointEntry.getDefaultInstance()) {
+            addSyncPoint_ =
+              alluxio.proto.journal.File.AddSyncPointEntry.newBuilder(addSyncPoint_).mergeFrom(value).buildPartial();
+          } else {
+            addSyncPoint_ = value;
+          }
+          onChanged();
+        } else {
+          addSyncPointBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       */
+      public Builder clearAddSyncPoint() {
+        if (addSyncPointBuilder_ == null) {
+          addSyncPoint_ = null;
+          onChanged();
+        } else {
+          addSyncPointBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       */
+      public alluxio.proto.journal.File.AddSyncPointEntry.Builder getAddSyncPointBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getAddSyncPointFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       */
+      public alluxio.proto.journal.File.AddSyncPointEntryOrBuilder getAddSyncPointOrBuilder() {
+        if (addSyncPointBuilder_ != null) {
+          return addSyncPointBuilder_.getMessageOrBuilder();
+        } else {
+          return addSyncPoint_ == null ?
+              alluxio.proto.journal.File.AddSyncPointEntry.getDefaultInstance() : addSyncPoint_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.AddSyncPointEntry add_sync_point = 32;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.File.AddSyncPointEntry, alluxio.proto.journal.File.AddSyncPointEntry.Builder, alluxio.proto.journal.File.AddSyncPointEntryOrBuilder> 
+          getAddSyncPointFieldBuilder() {
+        if (addSyncPointBuilder_ == null) {
           addSyncPointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
               alluxio.proto.journal.File.AddSyncPointEntry, alluxio.proto.journal.File.AddSyncPointEntry.Builder, alluxio.proto.journal.File.AddSyncPointEntryOrBuilder>(
                   getAddSyncPoint(),
@@ -3624,7 +4331,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.AddMountPointEntry add_mount_point = 2;</code>
        */
       public boolean hasAddMountPoint() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+        return ((bitField0_ & 0x00000020) == 0x00000020);
       }
       /**
        * <code>optional .alluxio.proto.journal.AddMountPointEntry add_mount_point = 2;</code>
@@ -3649,7 +4356,7 @@ public final class Journal {
         } else {
           addMountPointBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000010;
+        bitField0_ |= 0x00000020;
         return this;
       }
       /**
@@ -3663,7 +4370,7 @@ public final class Journal {
         } else {
           addMountPointBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000010;
+        bitField0_ |= 0x00000020;
         return this;
       }
       /**
@@ -3671,7 +4378,7 @@ public final class Journal {
        */
       public Builder mergeAddMountPoint(alluxio.proto.journal.File.AddMountPointEntry value) {
         if (addMountPointBuilder_ == null) {
-          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
               addMountPoint_ != null &&
               addMountPoint_ != alluxio.proto.journal.File.AddMountPointEntry.getDefaultInstance()) {
             addMountPoint_ =
@@ -3683,7 +4390,7 @@ public final class Journal {
         } else {
           addMountPointBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000010;
+        bitField0_ |= 0x00000020;
         return this;
       }
       /**
@@ -3696,14 +4403,14 @@ public final class Journal {
         } else {
           addMountPointBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000010);
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.AddMountPointEntry add_mount_point = 2;</code>
        */
       public alluxio.proto.journal.File.AddMountPointEntry.Builder getAddMountPointBuilder() {
-        bitField0_ |= 0x00000010;
+        bitField0_ |= 0x00000020;
         onChanged();
         return getAddMountPointFieldBuilder().getBuilder();
       }
@@ -3742,7 +4449,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.AsyncPersistRequestEntry async_persist_request = 16;</code>
        */
       public boolean hasAsyncPersistRequest() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+        return ((bitField0_ & 0x00000040) == 0x00000040);
       }
       /**
        * <code>optional .alluxio.proto.journal.AsyncPersistRequestEntry async_persist_request = 16;</code>
@@ -3767,7 +4474,7 @@ public final class Journal {
         } else {
           asyncPersistRequestBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000020;
+        bitField0_ |= 0x00000040;
         return this;
       }
       /**
@@ -3781,7 +4488,7 @@ public final class Journal {
         } else {
           asyncPersistRequestBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000020;
+        bitField0_ |= 0x00000040;
         return this;
       }
       /**
@@ -3789,7 +4496,7 @@ public final class Journal {
        */
       public Builder mergeAsyncPersistRequest(alluxio.proto.journal.File.AsyncPersistRequestEntry value) {
         if (asyncPersistRequestBuilder_ == null) {
-          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+          if (((bitField0_ & 0x00000040) == 0x00000040) &&
               asyncPersistRequest_ != null &&
               asyncPersistRequest_ != alluxio.proto.journal.File.AsyncPersistRequestEntry.getDefaultInstance()) {
             asyncPersistRequest_ =
@@ -3801,7 +4508,7 @@ public final class Journal {
         } else {
           asyncPersistRequestBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000020;
+        bitField0_ |= 0x00000040;
         return this;
       }
       /**
@@ -3814,14 +4521,14 @@ public final class Journal {
         } else {
           asyncPersistRequestBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000020);
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.AsyncPersistRequestEntry async_persist_request = 16;</code>
        */
       public alluxio.proto.journal.File.AsyncPersistRequestEntry.Builder getAsyncPersistRequestBuilder() {
-        bitField0_ |= 0x00000020;
+        bitField0_ |= 0x00000040;
         onChanged();
         return getAsyncPersistRequestFieldBuilder().getBuilder();
       }
@@ -3860,7 +4567,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.AttachDbEntry attach_db = 44;</code>
        */
       public boolean hasAttachDb() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
+        return ((bitField0_ & 0x00000080) == 0x00000080);
       }
       /**
        * <code>optional .alluxio.proto.journal.AttachDbEntry attach_db = 44;</code>
@@ -3885,7 +4592,7 @@ public final class Journal {
         } else {
           attachDbBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000040;
+        bitField0_ |= 0x00000080;
         return this;
       }
       /**
@@ -3899,7 +4606,7 @@ public final class Journal {
         } else {
           attachDbBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000040;
+        bitField0_ |= 0x00000080;
         return this;
       }
       /**
@@ -3907,7 +4614,7 @@ public final class Journal {
        */
       public Builder mergeAttachDb(alluxio.proto.journal.Table.AttachDbEntry value) {
         if (attachDbBuilder_ == null) {
-          if (((bitField0_ & 0x00000040) == 0x00000040) &&
+          if (((bitField0_ & 0x00000080) == 0x00000080) &&
               attachDb_ != null &&
               attachDb_ != alluxio.proto.journal.Table.AttachDbEntry.getDefaultInstance()) {
             attachDb_ =
@@ -3919,7 +4626,7 @@ public final class Journal {
         } else {
           attachDbBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000040;
+        bitField0_ |= 0x00000080;
         return this;
       }
       /**
@@ -3932,14 +4639,14 @@ public final class Journal {
         } else {
           attachDbBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000040);
+        bitField0_ = (bitField0_ & ~0x00000080);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.AttachDbEntry attach_db = 44;</code>
        */
       public alluxio.proto.journal.Table.AttachDbEntry.Builder getAttachDbBuilder() {
-        bitField0_ |= 0x00000040;
+        bitField0_ |= 0x00000080;
         onChanged();
         return getAttachDbFieldBuilder().getBuilder();
       }
@@ -3978,7 +4685,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.BlockContainerIdGeneratorEntry block_container_id_generator = 3;</code>
        */
       public boolean hasBlockContainerIdGenerator() {
-        return ((bitField0_ & 0x00000080) == 0x00000080);
+        return ((bitField0_ & 0x00000100) == 0x00000100);
       }
       /**
        * <code>optional .alluxio.proto.journal.BlockContainerIdGeneratorEntry block_container_id_generator = 3;</code>
@@ -4003,7 +4710,7 @@ public final class Journal {
         } else {
           blockContainerIdGeneratorBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000080;
+        bitField0_ |= 0x00000100;
         return this;
       }
       /**
@@ -4017,7 +4724,7 @@ public final class Journal {
         } else {
           blockContainerIdGeneratorBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000080;
+        bitField0_ |= 0x00000100;
         return this;
       }
       /**
@@ -4025,7 +4732,7 @@ public final class Journal {
        */
       public Builder mergeBlockContainerIdGenerator(alluxio.proto.journal.Block.BlockContainerIdGeneratorEntry value) {
         if (blockContainerIdGeneratorBuilder_ == null) {
-          if (((bitField0_ & 0x00000080) == 0x00000080) &&
+          if (((bitField0_ & 0x00000100) == 0x00000100) &&
               blockContainerIdGenerator_ != null &&
               blockContainerIdGenerator_ != alluxio.proto.journal.Block.BlockContainerIdGeneratorEntry.getDefaultInstance()) {
             blockContainerIdGenerator_ =
@@ -4037,7 +4744,7 @@ public final class Journal {
         } else {
           blockContainerIdGeneratorBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000080;
+        bitField0_ |= 0x00000100;
         return this;
       }
       /**
@@ -4050,14 +4757,14 @@ public final class Journal {
         } else {
           blockContainerIdGeneratorBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000080);
+        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.BlockContainerIdGeneratorEntry block_container_id_generator = 3;</code>
        */
       public alluxio.proto.journal.Block.BlockContainerIdGeneratorEntry.Builder getBlockContainerIdGeneratorBuilder() {
-        bitField0_ |= 0x00000080;
+        bitField0_ |= 0x00000100;
         onChanged();
         return getBlockContainerIdGeneratorFieldBuilder().getBuilder();
       }
@@ -4096,7 +4803,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.BlockInfoEntry block_info = 4;</code>
        */
       public boolean hasBlockInfo() {
-        return ((bitField0_ & 0x00000100) == 0x00000100);
+        return ((bitField0_ & 0x00000200) == 0x00000200);
       }
       /**
        * <code>optional .alluxio.proto.journal.BlockInfoEntry block_info = 4;</code>
@@ -4121,7 +4828,7 @@ public final class Journal {
         } else {
           blockInfoBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000100;
+        bitField0_ |= 0x00000200;
         return this;
       }
       /**
@@ -4135,7 +4842,7 @@ public final class Journal {
         } else {
           blockInfoBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000100;
+        bitField0_ |= 0x00000200;
         return this;
       }
       /**
@@ -4143,7 +4850,7 @@ public final class Journal {
        */
       public Builder mergeBlockInfo(alluxio.proto.journal.Block.BlockInfoEntry value) {
         if (blockInfoBuilder_ == null) {
-          if (((bitField0_ & 0x00000100) == 0x00000100) &&
+          if (((bitField0_ & 0x00000200) == 0x00000200) &&
               blockInfo_ != null &&
               blockInfo_ != alluxio.proto.journal.Block.BlockInfoEntry.getDefaultInstance()) {
             blockInfo_ =
@@ -4155,7 +4862,7 @@ public final class Journal {
         } else {
           blockInfoBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000100;
+        bitField0_ |= 0x00000200;
         return this;
       }
       /**
@@ -4168,14 +4875,14 @@ public final class Journal {
         } else {
           blockInfoBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000100);
+        bitField0_ = (bitField0_ & ~0x00000200);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.BlockInfoEntry block_info = 4;</code>
        */
       public alluxio.proto.journal.Block.BlockInfoEntry.Builder getBlockInfoBuilder() {
-        bitField0_ |= 0x00000100;
+        bitField0_ |= 0x00000200;
         onChanged();
         return getBlockInfoFieldBuilder().getBuilder();
       }
@@ -4214,7 +4921,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.ClusterInfoEntry cluster_info = 42;</code>
        */
       public boolean hasClusterInfo() {
-        return ((bitField0_ & 0x00000200) == 0x00000200);
+        return ((bitField0_ & 0x00000400) == 0x00000400);
       }
       /**
        * <code>optional .alluxio.proto.journal.ClusterInfoEntry cluster_info = 42;</code>
@@ -4239,7 +4946,7 @@ public final class Journal {
         } else {
           clusterInfoBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000200;
+        bitField0_ |= 0x00000400;
         return this;
       }
       /**
@@ -4253,7 +4960,7 @@ public final class Journal {
         } else {
           clusterInfoBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000200;
+        bitField0_ |= 0x00000400;
         return this;
       }
       /**
@@ -4261,7 +4968,7 @@ public final class Journal {
        */
       public Builder mergeClusterInfo(alluxio.proto.journal.Meta.ClusterInfoEntry value) {
         if (clusterInfoBuilder_ == null) {
-          if (((bitField0_ & 0x00000200) == 0x00000200) &&
+          if (((bitField0_ & 0x00000400) == 0x00000400) &&
               clusterInfo_ != null &&
               clusterInfo_ != alluxio.proto.journal.Meta.ClusterInfoEntry.getDefaultInstance()) {
             clusterInfo_ =
@@ -4273,7 +4980,7 @@ public final class Journal {
         } else {
           clusterInfoBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000200;
+        bitField0_ |= 0x00000400;
         return this;
       }
       /**
@@ -4286,14 +4993,14 @@ public final class Journal {
         } else {
           clusterInfoBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000200);
+        bitField0_ = (bitField0_ & ~0x00000400);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.ClusterInfoEntry cluster_info = 42;</code>
        */
       public alluxio.proto.journal.Meta.ClusterInfoEntry.Builder getClusterInfoBuilder() {
-        bitField0_ |= 0x00000200;
+        bitField0_ |= 0x00000400;
         onChanged();
         return getClusterInfoFieldBuilder().getBuilder();
       }
@@ -4332,7 +5039,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.CompleteFileEntry complete_file = 5;</code>
        */
       public boolean hasCompleteFile() {
-        return ((bitField0_ & 0x00000400) == 0x00000400);
+        return ((bitField0_ & 0x00000800) == 0x00000800);
       }
       /**
        * <code>optional .alluxio.proto.journal.CompleteFileEntry complete_file = 5;</code>
@@ -4357,7 +5064,7 @@ public final class Journal {
         } else {
           completeFileBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000400;
+        bitField0_ |= 0x00000800;
         return this;
       }
       /**
@@ -4371,7 +5078,7 @@ public final class Journal {
         } else {
           completeFileBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000400;
+        bitField0_ |= 0x00000800;
         return this;
       }
       /**
@@ -4379,7 +5086,7 @@ public final class Journal {
        */
       public Builder mergeCompleteFile(alluxio.proto.journal.File.CompleteFileEntry value) {
         if (completeFileBuilder_ == null) {
-          if (((bitField0_ & 0x00000400) == 0x00000400) &&
+          if (((bitField0_ & 0x00000800) == 0x00000800) &&
               completeFile_ != null &&
               completeFile_ != alluxio.proto.journal.File.CompleteFileEntry.getDefaultInstance()) {
             completeFile_ =
@@ -4391,7 +5098,7 @@ public final class Journal {
         } else {
           completeFileBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000400;
+        bitField0_ |= 0x00000800;
         return this;
       }
       /**
@@ -4404,14 +5111,14 @@ public final class Journal {
         } else {
           completeFileBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000400);
+        bitField0_ = (bitField0_ & ~0x00000800);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.CompleteFileEntry complete_file = 5;</code>
        */
       public alluxio.proto.journal.File.CompleteFileEntry.Builder getCompleteFileBuilder() {
-        bitField0_ |= 0x00000400;
+        bitField0_ |= 0x00000800;
         onChanged();
         return getCompleteFileFieldBuilder().getBuilder();
       }
@@ -4450,7 +5157,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.DeleteBlockEntry delete_block = 29;</code>
        */
       public boolean hasDeleteBlock() {
-        return ((bitField0_ & 0x00000800) == 0x00000800);
+        return ((bitField0_ & 0x00001000) == 0x00001000);
       }
       /**
        * <code>optional .alluxio.proto.journal.DeleteBlockEntry delete_block = 29;</code>
@@ -4475,7 +5182,7 @@ public final class Journal {
         } else {
           deleteBlockBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000800;
+        bitField0_ |= 0x00001000;
         return this;
       }
       /**
@@ -4489,7 +5196,7 @@ public final class Journal {
         } else {
           deleteBlockBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000800;
+        bitField0_ |= 0x00001000;
         return this;
       }
       /**
@@ -4497,7 +5204,7 @@ public final class Journal {
        */
       public Builder mergeDeleteBlock(alluxio.proto.journal.Block.DeleteBlockEntry value) {
         if (deleteBlockBuilder_ == null) {
-          if (((bitField0_ & 0x00000800) == 0x00000800) &&
+          if (((bitField0_ & 0x00001000) == 0x00001000) &&
               deleteBlock_ != null &&
               deleteBlock_ != alluxio.proto.journal.Block.DeleteBlockEntry.getDefaultInstance()) {
             deleteBlock_ =
@@ -4509,7 +5216,7 @@ public final class Journal {
         } else {
           deleteBlockBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000800;
+        bitField0_ |= 0x00001000;
         return this;
       }
       /**
@@ -4522,14 +5229,14 @@ public final class Journal {
         } else {
           deleteBlockBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000800);
+        bitField0_ = (bitField0_ & ~0x00001000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.DeleteBlockEntry delete_block = 29;</code>
        */
       public alluxio.proto.journal.Block.DeleteBlockEntry.Builder getDeleteBlockBuilder() {
-        bitField0_ |= 0x00000800;
+        bitField0_ |= 0x00001000;
         onChanged();
         return getDeleteBlockFieldBuilder().getBuilder();
       }
@@ -4568,7 +5275,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.DeleteFileEntry delete_file = 6;</code>
        */
       public boolean hasDeleteFile() {
-        return ((bitField0_ & 0x00001000) == 0x00001000);
+        return ((bitField0_ & 0x00002000) == 0x00002000);
       }
       /**
        * <code>optional .alluxio.proto.journal.DeleteFileEntry delete_file = 6;</code>
@@ -4593,7 +5300,7 @@ public final class Journal {
         } else {
           deleteFileBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00001000;
+        bitField0_ |= 0x00002000;
         return this;
       }
       /**
@@ -4607,7 +5314,7 @@ public final class Journal {
         } else {
           deleteFileBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00001000;
+        bitField0_ |= 0x00002000;
         return this;
       }
       /**
@@ -4615,7 +5322,7 @@ public final class Journal {
        */
       public Builder mergeDeleteFile(alluxio.proto.journal.File.DeleteFileEntry value) {
         if (deleteFileBuilder_ == null) {
-          if (((bitField0_ & 0x00001000) == 0x00001000) &&
+          if (((bitField0_ & 0x00002000) == 0x00002000) &&
               deleteFile_ != null &&
               deleteFile_ != alluxio.proto.journal.File.DeleteFileEntry.getDefaultInstance()) {
             deleteFile_ =
@@ -4627,7 +5334,7 @@ public final class Journal {
         } else {
           deleteFileBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00001000;
+        bitField0_ |= 0x00002000;
         return this;
       }
       /**
@@ -4640,14 +5347,14 @@ public final class Journal {
         } else {
           deleteFileBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00001000);
+        bitField0_ = (bitField0_ & ~0x00002000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.DeleteFileEntry delete_file = 6;</code>
        */
       public alluxio.proto.journal.File.DeleteFileEntry.Builder getDeleteFileBuilder() {
-        bitField0_ |= 0x00001000;
+        bitField0_ |= 0x00002000;
         onChanged();
         return getDeleteFileFieldBuilder().getBuilder();
       }
@@ -4686,7 +5393,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.DeleteMountPointEntry delete_mount_point = 8;</code>
        */
       public boolean hasDeleteMountPoint() {
-        return ((bitField0_ & 0x00002000) == 0x00002000);
+        return ((bitField0_ & 0x00004000) == 0x00004000);
       }
       /**
        * <code>optional .alluxio.proto.journal.DeleteMountPointEntry delete_mount_point = 8;</code>
@@ -4711,7 +5418,7 @@ public final class Journal {
         } else {
           deleteMountPointBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00002000;
+        bitField0_ |= 0x00004000;
         return this;
       }
       /**
@@ -4725,7 +5432,7 @@ public final class Journal {
         } else {
           deleteMountPointBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00002000;
+        bitField0_ |= 0x00004000;
         return this;
       }
       /**
@@ -4733,7 +5440,7 @@ public final class Journal {
        */
       public Builder mergeDeleteMountPoint(alluxio.proto.journal.File.DeleteMountPointEntry value) {
         if (deleteMountPointBuilder_ == null) {
-          if (((bitField0_ & 0x00002000) == 0x00002000) &&
+          if (((bitField0_ & 0x00004000) == 0x00004000) &&
               deleteMountPoint_ != null &&
               deleteMountPoint_ != alluxio.proto.journal.File.DeleteMountPointEntry.getDefaultInstance()) {
             deleteMountPoint_ =
@@ -4745,7 +5452,7 @@ public final class Journal {
         } else {
           deleteMountPointBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00002000;
+        bitField0_ |= 0x00004000;
         return this;
       }
       /**
@@ -4758,14 +5465,14 @@ public final class Journal {
         } else {
           deleteMountPointBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00002000);
+        bitField0_ = (bitField0_ & ~0x00004000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.DeleteMountPointEntry delete_mount_point = 8;</code>
        */
       public alluxio.proto.journal.File.DeleteMountPointEntry.Builder getDeleteMountPointBuilder() {
-        bitField0_ |= 0x00002000;
+        bitField0_ |= 0x00004000;
         onChanged();
         return getDeleteMountPointFieldBuilder().getBuilder();
       }
@@ -4804,7 +5511,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.DetachDbEntry detach_db = 45;</code>
        */
       public boolean hasDetachDb() {
-        return ((bitField0_ & 0x00004000) == 0x00004000);
+        return ((bitField0_ & 0x00008000) == 0x00008000);
       }
       /**
        * <code>optional .alluxio.proto.journal.DetachDbEntry detach_db = 45;</code>
@@ -4829,7 +5536,7 @@ public final class Journal {
         } else {
           detachDbBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00008000;
         return this;
       }
       /**
@@ -4843,7 +5550,7 @@ public final class Journal {
         } else {
           detachDbBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00008000;
         return this;
       }
       /**
@@ -4851,7 +5558,7 @@ public final class Journal {
        */
       public Builder mergeDetachDb(alluxio.proto.journal.Table.DetachDbEntry value) {
         if (detachDbBuilder_ == null) {
-          if (((bitField0_ & 0x00004000) == 0x00004000) &&
+          if (((bitField0_ & 0x00008000) == 0x00008000) &&
               detachDb_ != null &&
               detachDb_ != alluxio.proto.journal.Table.DetachDbEntry.getDefaultInstance()) {
             detachDb_ =
@@ -4863,7 +5570,7 @@ public final class Journal {
         } else {
           detachDbBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00008000;
         return this;
       }
       /**
@@ -4876,14 +5583,14 @@ public final class Journal {
         } else {
           detachDbBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00004000);
+        bitField0_ = (bitField0_ & ~0x00008000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.DetachDbEntry detach_db = 45;</code>
        */
       public alluxio.proto.journal.Table.DetachDbEntry.Builder getDetachDbBuilder() {
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00008000;
         onChanged();
         return getDetachDbFieldBuilder().getBuilder();
       }
@@ -4915,6 +5622,124 @@ public final class Journal {
         return detachDbBuilder_;
       }
 
+      private alluxio.proto.journal.Job.FinishedJobEntry finishedJob_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Job.FinishedJobEntry, alluxio.proto.journal.Job.FinishedJobEntry.Builder, alluxio.proto.journal.Job.FinishedJobEntryOrBuilder> finishedJobBuilder_;
+      /**
+       * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+       */
+      public boolean hasFinishedJob() {
+        return ((bitField0_ & 0x00010000) == 0x00010000);
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+       */
+      public alluxio.proto.journal.Job.FinishedJobEntry getFinishedJob() {
+        if (finishedJobBuilder_ == null) {
+          return finishedJob_ == null ? alluxio.proto.journal.Job.FinishedJobEntry.getDefaultInstance() : finishedJob_;
+        } else {
+          return finishedJobBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+       */
+      public Builder setFinishedJob(alluxio.proto.journal.Job.FinishedJobEntry value) {
+        if (finishedJobBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          finishedJob_ = value;
+          onChanged();
+        } else {
+          finishedJobBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00010000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+       */
+      public Builder setFinishedJob(
+          alluxio.proto.journal.Job.FinishedJobEntry.Builder builderForValue) {
+        if (finishedJobBuilder_ == null) {
+          finishedJob_ = builderForValue.build();
+          onChanged();
+        } else {
+          finishedJobBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00010000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+       */
+      public Builder mergeFinishedJob(alluxio.proto.journal.Job.FinishedJobEntry value) {
+        if (finishedJobBuilder_ == null) {
+          if (((bitField0_ & 0x00010000) == 0x00010000) &&
+              finishedJob_ != null &&
+              finishedJob_ != alluxio.proto.journal.Job.FinishedJobEntry.getDefaultInstance()) {
+            finishedJob_ =
+              alluxio.proto.journal.Job.FinishedJobEntry.newBuilder(finishedJob_).mergeFrom(value).buildPartial();
+          } else {
+            finishedJob_ = value;
+          }
+          onChanged();
+        } else {
+          finishedJobBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00010000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+       */
+      public Builder clearFinishedJob() {
+        if (finishedJobBuilder_ == null) {
+          finishedJob_ = null;
+          onChanged();
+        } else {
+          finishedJobBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00010000);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+       */
+      public alluxio.proto.journal.Job.FinishedJobEntry.Builder getFinishedJobBuilder() {
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return getFinishedJobFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+       */
+      public alluxio.proto.journal.Job.FinishedJobEntryOrBuilder getFinishedJobOrBuilder() {
+        if (finishedJobBuilder_ != null) {
+          return finishedJobBuilder_.getMessageOrBuilder();
+        } else {
+          return finishedJob_ == null ?
+              alluxio.proto.journal.Job.FinishedJobEntry.getDefaultInstance() : finishedJob_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.FinishedJobEntry finished_job = 54;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Job.FinishedJobEntry, alluxio.proto.journal.Job.FinishedJobEntry.Builder, alluxio.proto.journal.Job.FinishedJobEntryOrBuilder> 
+          getFinishedJobFieldBuilder() {
+        if (finishedJobBuilder_ == null) {
+          finishedJobBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.proto.journal.Job.FinishedJobEntry, alluxio.proto.journal.Job.FinishedJobEntry.Builder, alluxio.proto.journal.Job.FinishedJobEntryOrBuilder>(
+                  getFinishedJob(),
+                  getParentForChildren(),
+                  isClean());
+          finishedJob_ = null;
+        }
+        return finishedJobBuilder_;
+      }
+
       private alluxio.proto.journal.File.InodeDirectoryEntry inodeDirectory_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
           alluxio.proto.journal.File.InodeDirectoryEntry, alluxio.proto.journal.File.InodeDirectoryEntry.Builder, alluxio.proto.journal.File.InodeDirectoryEntryOrBuilder> inodeDirectoryBuilder_;
@@ -4922,7 +5747,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.InodeDirectoryEntry inode_directory = 9;</code>
        */
       public boolean hasInodeDirectory() {
-        return ((bitField0_ & 0x00008000) == 0x00008000);
+        return ((bitField0_ & 0x00020000) == 0x00020000);
       }
       /**
        * <code>optional .alluxio.proto.journal.InodeDirectoryEntry inode_directory = 9;</code>
@@ -4947,7 +5772,7 @@ public final class Journal {
         } else {
           inodeDirectoryBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00020000;
         return this;
       }
       /**
@@ -4961,7 +5786,7 @@ public final class Journal {
         } else {
           inodeDirectoryBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00020000;
         return this;
       }
       /**
@@ -4969,7 +5794,7 @@ public final class Journal {
        */
       public Builder mergeInodeDirectory(alluxio.proto.journal.File.InodeDirectoryEntry value) {
         if (inodeDirectoryBuilder_ == null) {
-          if (((bitField0_ & 0x00008000) == 0x00008000) &&
+          if (((bitField0_ & 0x00020000) == 0x00020000) &&
               inodeDirectory_ != null &&
               inodeDirectory_ != alluxio.proto.journal.File.InodeDirectoryEntry.getDefaultInstance()) {
             inodeDirectory_ =
@@ -4981,7 +5806,7 @@ public final class Journal {
         } else {
           inodeDirectoryBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00020000;
         return this;
       }
       /**
@@ -4994,14 +5819,14 @@ public final class Journal {
         } else {
           inodeDirectoryBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00008000);
+        bitField0_ = (bitField0_ & ~0x00020000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.InodeDirectoryEntry inode_directory = 9;</code>
        */
       public alluxio.proto.journal.File.InodeDirectoryEntry.Builder getInodeDirectoryBuilder() {
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00020000;
         onChanged();
         return getInodeDirectoryFieldBuilder().getBuilder();
       }
@@ -5040,7 +5865,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.InodeDirectoryIdGeneratorEntry inode_directory_id_generator = 10;</code>
        */
       public boolean hasInodeDirectoryIdGenerator() {
-        return ((bitField0_ & 0x00010000) == 0x00010000);
+        return ((bitField0_ & 0x00040000) == 0x00040000);
       }
       /**
        * <code>optional .alluxio.proto.journal.InodeDirectoryIdGeneratorEntry inode_directory_id_generator = 10;</code>
@@ -5065,7 +5890,7 @@ public final class Journal {
         } else {
           inodeDirectoryIdGeneratorBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00010000;
+        bitField0_ |= 0x00040000;
         return this;
       }
       /**
@@ -5079,7 +5904,7 @@ public final class Journal {
         } else {
           inodeDirectoryIdGeneratorBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00010000;
+        bitField0_ |= 0x00040000;
         return this;
       }
       /**
@@ -5087,7 +5912,7 @@ public final class Journal {
        */
       public Builder mergeInodeDirectoryIdGenerator(alluxio.proto.journal.File.InodeDirectoryIdGeneratorEntry value) {
         if (inodeDirectoryIdGeneratorBuilder_ == null) {
-          if (((bitField0_ & 0x00010000) == 0x00010000) &&
+          if (((bitField0_ & 0x00040000) == 0x00040000) &&
               inodeDirectoryIdGenerator_ != null &&
               inodeDirectoryIdGenerator_ != alluxio.proto.journal.File.InodeDirectoryIdGeneratorEntry.getDefaultInstance()) {
             inodeDirectoryIdGenerator_ =
@@ -5099,7 +5924,7 @@ public final class Journal {
         } else {
           inodeDirectoryIdGeneratorBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00010000;
+        bitField0_ |= 0x00040000;
         return this;
       }
       /**
@@ -5112,14 +5937,14 @@ public final class Journal {
         } else {
           inodeDirectoryIdGeneratorBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00010000);
+        bitField0_ = (bitField0_ & ~0x00040000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.InodeDirectoryIdGeneratorEntry inode_directory_id_generator = 10;</code>
        */
       public alluxio.proto.journal.File.InodeDirectoryIdGeneratorEntry.Builder getInodeDirectoryIdGeneratorBuilder() {
-        bitField0_ |= 0x00010000;
+        bitField0_ |= 0x00040000;
         onChanged();
         return getInodeDirectoryIdGeneratorFieldBuilder().getBuilder();
       }
@@ -5158,7 +5983,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.InodeFileEntry inode_file = 11;</code>
        */
       public boolean hasInodeFile() {
-        return ((bitField0_ & 0x00020000) == 0x00020000);
+        return ((bitField0_ & 0x00080000) == 0x00080000);
       }
       /**
        * <code>optional .alluxio.proto.journal.InodeFileEntry inode_file = 11;</code>
@@ -5183,7 +6008,7 @@ public final class Journal {
         } else {
           inodeFileBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00080000;
         return this;
       }
       /**
@@ -5197,7 +6022,7 @@ public final class Journal {
         } else {
           inodeFileBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00080000;
         return this;
       }
       /**
@@ -5205,7 +6030,7 @@ public final class Journal {
        */
       public Builder mergeInodeFile(alluxio.proto.journal.File.InodeFileEntry value) {
         if (inodeFileBuilder_ == null) {
-          if (((bitField0_ & 0x00020000) == 0x00020000) &&
+          if (((bitField0_ & 0x00080000) == 0x00080000) &&
               inodeFile_ != null &&
               inodeFile_ != alluxio.proto.journal.File.InodeFileEntry.getDefaultInstance()) {
             inodeFile_ =
@@ -5217,7 +6042,7 @@ public final class Journal {
         } else {
           inodeFileBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00080000;
         return this;
       }
       /**
@@ -5230,14 +6055,14 @@ public final class Journal {
         } else {
           inodeFileBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00020000);
+        bitField0_ = (bitField0_ & ~0x00080000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.InodeFileEntry inode_file = 11;</code>
        */
       public alluxio.proto.journal.File.InodeFileEntry.Builder getInodeFileBuilder() {
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00080000;
         onChanged();
         return getInodeFileFieldBuilder().getBuilder();
       }
@@ -5276,7 +6101,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.InodeLastModificationTimeEntry inode_last_modification_time = 12;</code>
        */
       public boolean hasInodeLastModificationTime() {
-        return ((bitField0_ & 0x00040000) == 0x00040000);
+        return ((bitField0_ & 0x00100000) == 0x00100000);
       }
       /**
        * <code>optional .alluxio.proto.journal.InodeLastModificationTimeEntry inode_last_modification_time = 12;</code>
@@ -5301,7 +6126,7 @@ public final class Journal {
         } else {
           inodeLastModificationTimeBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00040000;
+        bitField0_ |= 0x00100000;
         return this;
       }
       /**
@@ -5315,7 +6140,7 @@ public final class Journal {
         } else {
           inodeLastModificationTimeBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00040000;
+        bitField0_ |= 0x00100000;
         return this;
       }
       /**
@@ -5323,7 +6148,7 @@ public final class Journal {
        */
       public Builder mergeInodeLastModificationTime(alluxio.proto.journal.File.InodeLastModificationTimeEntry value) {
         if (inodeLastModificationTimeBuilder_ == null) {
-          if (((bitField0_ & 0x00040000) == 0x00040000) &&
+          if (((bitField0_ & 0x00100000) == 0x00100000) &&
               inodeLastModificationTime_ != null &&
               inodeLastModificationTime_ != alluxio.proto.journal.File.InodeLastModificationTimeEntry.getDefaultInstance()) {
             inodeLastModificationTime_ =
@@ -5335,7 +6160,7 @@ public final class Journal {
         } else {
           inodeLastModificationTimeBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00040000;
+        bitField0_ |= 0x00100000;
         return this;
       }
       /**
@@ -5348,14 +6173,14 @@ public final class Journal {
         } else {
           inodeLastModificationTimeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00040000);
+        bitField0_ = (bitField0_ & ~0x00100000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.InodeLastModificationTimeEntry inode_last_modification_time = 12;</code>
        */
       public alluxio.proto.journal.File.InodeLastModificationTimeEntry.Builder getInodeLastModificationTimeBuilder() {
-        bitField0_ |= 0x00040000;
+        bitField0_ |= 0x00100000;
         onChanged();
         return getInodeLastModificationTimeFieldBuilder().getBuilder();
       }
@@ -5394,7 +6219,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.NewBlockEntry new_block = 38;</code>
        */
       public boolean hasNewBlock() {
-        return ((bitField0_ & 0x00080000) == 0x00080000);
+        return ((bitField0_ & 0x00200000) == 0x00200000);
       }
       /**
        * <code>optional .alluxio.proto.journal.NewBlockEntry new_block = 38;</code>
@@ -5419,7 +6244,7 @@ public final class Journal {
         } else {
           newBlockBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00080000;
+        bitField0_ |= 0x00200000;
         return this;
       }
       /**
@@ -5433,7 +6258,7 @@ public final class Journal {
         } else {
           newBlockBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00080000;
+        bitField0_ |= 0x00200000;
         return this;
       }
       /**
@@ -5441,7 +6266,7 @@ public final class Journal {
        */
       public Builder mergeNewBlock(alluxio.proto.journal.File.NewBlockEntry value) {
         if (newBlockBuilder_ == null) {
-          if (((bitField0_ & 0x00080000) == 0x00080000) &&
+          if (((bitField0_ & 0x00200000) == 0x00200000) &&
               newBlock_ != null &&
               newBlock_ != alluxio.proto.journal.File.NewBlockEntry.getDefaultInstance()) {
             newBlock_ =
@@ -5453,7 +6278,7 @@ public final class Journal {
         } else {
           newBlockBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00080000;
+        bitField0_ |= 0x00200000;
         return this;
       }
       /**
@@ -5466,14 +6291,14 @@ public final class Journal {
         } else {
           newBlockBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00080000);
+        bitField0_ = (bitField0_ & ~0x00200000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.NewBlockEntry new_block = 38;</code>
        */
       public alluxio.proto.journal.File.NewBlockEntry.Builder getNewBlockBuilder() {
-        bitField0_ |= 0x00080000;
+        bitField0_ |= 0x00200000;
         onChanged();
         return getNewBlockFieldBuilder().getBuilder();
       }
@@ -5512,7 +6337,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.PathPropertiesEntry path_properties = 40;</code>
        */
       public boolean hasPathProperties() {
-        return ((bitField0_ & 0x00100000) == 0x00100000);
+        return ((bitField0_ & 0x00400000) == 0x00400000);
       }
       /**
        * <code>optional .alluxio.proto.journal.PathPropertiesEntry path_properties = 40;</code>
@@ -5537,7 +6362,7 @@ public final class Journal {
         } else {
           pathPropertiesBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00100000;
+        bitField0_ |= 0x00400000;
         return this;
       }
       /**
@@ -5551,7 +6376,7 @@ public final class Journal {
         } else {
           pathPropertiesBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00100000;
+        bitField0_ |= 0x00400000;
         return this;
       }
       /**
@@ -5559,7 +6384,7 @@ public final class Journal {
        */
       public Builder mergePathProperties(alluxio.proto.journal.Meta.PathPropertiesEntry value) {
         if (pathPropertiesBuilder_ == null) {
-          if (((bitField0_ & 0x00100000) == 0x00100000) &&
+          if (((bitField0_ & 0x00400000) == 0x00400000) &&
               pathProperties_ != null &&
               pathProperties_ != alluxio.proto.journal.Meta.PathPropertiesEntry.getDefaultInstance()) {
             pathProperties_ =
@@ -5571,7 +6396,7 @@ public final class Journal {
         } else {
           pathPropertiesBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00100000;
+        bitField0_ |= 0x00400000;
         return this;
       }
       /**
@@ -5584,14 +6409,14 @@ public final class Journal {
         } else {
           pathPropertiesBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00100000);
+        bitField0_ = (bitField0_ & ~0x00400000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.PathPropertiesEntry path_properties = 40;</code>
        */
       public alluxio.proto.journal.Meta.PathPropertiesEntry.Builder getPathPropertiesBuilder() {
-        bitField0_ |= 0x00100000;
+        bitField0_ |= 0x00400000;
         onChanged();
         return getPathPropertiesFieldBuilder().getBuilder();
       }
@@ -5630,7 +6455,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.PersistDirectoryEntry persist_directory = 15;</code>
        */
       public boolean hasPersistDirectory() {
-        return ((bitField0_ & 0x00200000) == 0x00200000);
+        return ((bitField0_ & 0x00800000) == 0x00800000);
       }
       /**
        * <code>optional .alluxio.proto.journal.PersistDirectoryEntry persist_directory = 15;</code>
@@ -5655,7 +6480,7 @@ public final class Journal {
         } else {
           persistDirectoryBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00200000;
+        bitField0_ |= 0x00800000;
         return this;
       }
       /**
@@ -5669,7 +6494,7 @@ public final class Journal {
         } else {
           persistDirectoryBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00200000;
+        bitField0_ |= 0x00800000;
         return this;
       }
       /**
@@ -5677,7 +6502,7 @@ public final class Journal {
        */
       public Builder mergePersistDirectory(alluxio.proto.journal.File.PersistDirectoryEntry value) {
         if (persistDirectoryBuilder_ == null) {
-          if (((bitField0_ & 0x00200000) == 0x00200000) &&
+          if (((bitField0_ & 0x00800000) == 0x00800000) &&
               persistDirectory_ != null &&
               persistDirectory_ != alluxio.proto.journal.File.PersistDirectoryEntry.getDefaultInstance()) {
             persistDirectory_ =
@@ -5689,7 +6514,7 @@ public final class Journal {
         } else {
           persistDirectoryBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00200000;
+        bitField0_ |= 0x00800000;
         return this;
       }
       /**
@@ -5702,14 +6527,14 @@ public final class Journal {
         } else {
           persistDirectoryBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00200000);
+        bitField0_ = (bitField0_ & ~0x00800000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.PersistDirectoryEntry persist_directory = 15;</code>
        */
       public alluxio.proto.journal.File.PersistDirectoryEntry.Builder getPersistDirectoryBuilder() {
-        bitField0_ |= 0x00200000;
+        bitField0_ |= 0x00800000;
         onChanged();
         return getPersistDirectoryFieldBuilder().getBuilder();
       }
@@ -5748,7 +6573,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.RemovePathPropertiesEntry remove_path_properties = 41;</code>
        */
       public boolean hasRemovePathProperties() {
-        return ((bitField0_ & 0x00400000) == 0x00400000);
+        return ((bitField0_ & 0x01000000) == 0x01000000);
       }
       /**
        * <code>optional .alluxio.proto.journal.RemovePathPropertiesEntry remove_path_properties = 41;</code>
@@ -5773,7 +6598,7 @@ public final class Journal {
         } else {
           removePathPropertiesBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00400000;
+        bitField0_ |= 0x01000000;
         return this;
       }
       /**
@@ -5787,7 +6612,7 @@ public final class Journal {
         } else {
           removePathPropertiesBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00400000;
+        bitField0_ |= 0x01000000;
         return this;
       }
       /**
@@ -5795,7 +6620,7 @@ public final class Journal {
        */
       public Builder mergeRemovePathProperties(alluxio.proto.journal.Meta.RemovePathPropertiesEntry value) {
         if (removePathPropertiesBuilder_ == null) {
-          if (((bitField0_ & 0x00400000) == 0x00400000) &&
+          if (((bitField0_ & 0x01000000) == 0x01000000) &&
               removePathProperties_ != null &&
               removePathProperties_ != alluxio.proto.journal.Meta.RemovePathPropertiesEntry.getDefaultInstance()) {
             removePathProperties_ =
@@ -5807,7 +6632,7 @@ public final class Journal {
         } else {
           removePathPropertiesBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00400000;
+        bitField0_ |= 0x01000000;
         return this;
       }
       /**
@@ -5820,14 +6645,14 @@ public final class Journal {
         } else {
           removePathPropertiesBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00400000);
+        bitField0_ = (bitField0_ & ~0x01000000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.RemovePathPropertiesEntry remove_path_properties = 41;</code>
        */
       public alluxio.proto.journal.Meta.RemovePathPropertiesEntry.Builder getRemovePathPropertiesBuilder() {
-        bitField0_ |= 0x00400000;
+        bitField0_ |= 0x01000000;
         onChanged();
         return getRemovePathPropertiesFieldBuilder().getBuilder();
       }
@@ -5859,132 +6684,368 @@ public final class Journal {
         return removePathPropertiesBuilder_;
       }
 
-      private alluxio.proto.journal.Table.RemoveTransformJobEntry removeTransformJob_ = null;
+      private alluxio.proto.journal.Table.RemoveTableEntry removeTable_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
-          alluxio.proto.journal.Table.RemoveTransformJobEntry, alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder, alluxio.proto.journal.Table.RemoveTransformJobEntryOrBuilder> removeTransformJobBuilder_;
+          alluxio.proto.journal.Table.RemoveTableEntry, alluxio.proto.journal.Table.RemoveTableEntry.Builder, alluxio.proto.journal.Table.RemoveTableEntryOrBuilder> removeTableBuilder_;
       /**
-       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
        */
-      public boolean hasRemoveTransformJob() {
-        return ((bitField0_ & 0x00800000) == 0x00800000);
+      public boolean hasRemoveTable() {
+        return ((bitField0_ & 0x02000000) == 0x02000000);
       }
       /**
-       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
        */
-      public alluxio.proto.journal.Table.RemoveTransformJobEntry getRemoveTransformJob() {
-        if (removeTransformJobBuilder_ == null) {
-          return removeTransformJob_ == null ? alluxio.proto.journal.Table.RemoveTransformJobEntry.getDefaultInstance() : removeTransformJob_;
+      public alluxio.proto.journal.Table.RemoveTableEntry getRemoveTable() {
+        if (removeTableBuilder_ == null) {
+          return removeTable_ == null ? alluxio.proto.journal.Table.RemoveTableEntry.getDefaultInstance() : removeTable_;
         } else {
-          return removeTransformJobBuilder_.getMessage();
+          return removeTableBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
        */
-      public Builder setRemoveTransformJob(alluxio.proto.journal.Table.RemoveTransformJobEntry value) {
-        if (removeTransformJobBuilder_ == null) {
+      public Builder setRemoveTable(alluxio.proto.journal.Table.RemoveTableEntry value) {
+        if (removeTableBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          removeTransformJob_ = value;
+          removeTable_ = value;
           onChanged();
         } else {
-          removeTransformJobBuilder_.setMessage(value);
+          removeTableBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00800000;
+        bitField0_ |= 0x02000000;
         return this;
       }
       /**
-       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
        */
-      public Builder setRemoveTransformJob(
-          alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder builderForValue) {
-        if (removeTransformJobBuilder_ == null) {
-          removeTransformJob_ = builderForValue.build();
+      public Builder setRemoveTable(
+          alluxio.proto.journal.Table.RemoveTableEntry.Builder builderForValue) {
+        if (removeTableBuilder_ == null) {
+          removeTable_ = builderForValue.build();
           onChanged();
         } else {
-          removeTransformJobBuilder_.setMessage(builderForValue.build());
+          removeTableBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00800000;
+        bitField0_ |= 0x02000000;
         return this;
       }
       /**
-       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
        */
-      public Builder mergeRemoveTransformJob(alluxio.proto.journal.Table.RemoveTransformJobEntry value) {
-        if (removeTransformJobBuilder_ == null) {
-          if (((bitField0_ & 0x00800000) == 0x00800000) &&
-              removeTransformJob_ != null &&
-              removeTransformJob_ != alluxio.proto.journal.Table.RemoveTransformJobEntry.getDefaultInstance()) {
-            removeTransformJob_ =
-              alluxio.proto.journal.Table.RemoveTransformJobEntry.newBuilder(removeTransformJob_).mergeFrom(value).buildPartial();
+      public Builder mergeRemoveTable(alluxio.proto.journal.Table.RemoveTableEntry value) {
+        if (removeTableBuilder_ == null) {
+          if (((bitField0_ & 0x02000000) == 0x02000000) &&
+              removeTable_ != null &&
+              removeTable_ != alluxio.proto.journal.Table.RemoveTableEntry.getDefaultInstance()) {
+            removeTable_ =
+              alluxio.proto.journal.Table.RemoveTableEntry.newBuilder(removeTable_).mergeFrom(value).buildPartial();
           } else {
-            removeTransformJob_ = value;
+            removeTable_ = value;
           }
           onChanged();
         } else {
-          removeTransformJobBuilder_.mergeFrom(value);
+          removeTableBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00800000;
+        bitField0_ |= 0x02000000;
         return this;
       }
       /**
-       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
        */
-      public Builder clearRemoveTransformJob() {
-        if (removeTransformJobBuilder_ == null) {
-          removeTransformJob_ = null;
+      public Builder clearRemoveTable() {
+        if (removeTableBuilder_ == null) {
+          removeTable_ = null;
           onChanged();
         } else {
-          removeTransformJobBuilder_.clear();
+          removeTableBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00800000);
+        bitField0_ = (bitField0_ & ~0x02000000);
         return this;
       }
       /**
-       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
        */
-      public alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder getRemoveTransformJobBuilder() {
-        bitField0_ |= 0x00800000;
+      public alluxio.proto.journal.Table.RemoveTableEntry.Builder getRemoveTableBuilder() {
+        bitField0_ |= 0x02000000;
         onChanged();
-        return getRemoveTransformJobFieldBuilder().getBuilder();
+        return getRemoveTableFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
        */
-      public alluxio.proto.journal.Table.RemoveTransformJobEntryOrBuilder getRemoveTransformJobOrBuilder() {
-        if (removeTransformJobBuilder_ != null) {
-          return removeTransformJobBuilder_.getMessageOrBuilder();
+      public alluxio.proto.journal.Table.RemoveTableEntryOrBuilder getRemoveTableOrBuilder() {
+        if (removeTableBuilder_ != null) {
+          return removeTableBuilder_.getMessageOrBuilder();
         } else {
-          return removeTransformJob_ == null ?
-              alluxio.proto.journal.Table.RemoveTransformJobEntry.getDefaultInstance() : removeTransformJob_;
+          return removeTable_ == null ?
+              alluxio.proto.journal.Table.RemoveTableEntry.getDefaultInstance() : removeTable_;
         }
       }
       /**
-       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       * <code>optional .alluxio.proto.journal.RemoveTableEntry remove_table = 50;</code>
        */
       private com.google.protobuf.SingleFieldBuilderV3<
-          alluxio.proto.journal.Table.RemoveTransformJobEntry, alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder, alluxio.proto.journal.Table.RemoveTransformJobEntryOrBuilder> 
-          getRemoveTransformJobFieldBuilder() {
-        if (removeTransformJobBuilder_ == null) {
-          removeTransformJobBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              alluxio.proto.journal.Table.RemoveTransformJobEntry, alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder, alluxio.proto.journal.Table.RemoveTransformJobEntryOrBuilder>(
-                  getRemoveTransformJob(),
+          alluxio.proto.journal.Table.RemoveTableEntry, alluxio.proto.journal.Table.RemoveTableEntry.Builder, alluxio.proto.journal.Table.RemoveTableEntryOrBuilder> 
+          getRemoveTableFieldBuilder() {
+        if (removeTableBuilder_ == null) {
+          removeTableBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.proto.journal.Table.RemoveTableEntry, alluxio.proto.journal.Table.RemoveTableEntry.Builder, alluxio.proto.journal.Table.RemoveTableEntryOrBuilder>(
+                  getRemoveTable(),
                   getParentForChildren(),
                   isClean());
-          removeTransformJob_ = null;
+          removeTable_ = null;
         }
-        return removeTransformJobBuilder_;
+        return removeTableBuilder_;
       }
 
-      private alluxio.proto.journal.File.RemoveSyncPointEntry removeSyncPoint_ = null;
+      private alluxio.proto.journal.Table.RemoveTablePartitionsEntry removeTablePartitions_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Table.RemoveTablePartitionsEntry, alluxio.proto.journal.Table.RemoveTablePartitionsEntry.Builder, alluxio.proto.journal.Table.RemoveTablePartitionsEntryOrBuilder> removeTablePartitionsBuilder_;
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+       */
+      public boolean hasRemoveTablePartitions() {
+        return ((bitField0_ & 0x04000000) == 0x04000000);
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+       */
+      public alluxio.proto.journal.Table.RemoveTablePartitionsEntry getRemoveTablePartitions() {
+        if (removeTablePartitionsBuilder_ == null) {
+          return removeTablePartitions_ == null ? alluxio.proto.journal.Table.RemoveTablePartitionsEntry.getDefaultInstance() : removeTablePartitions_;
+        } else {
+          return removeTablePartitionsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+       */
+      public Builder setRemoveTablePartitions(alluxio.proto.journal.Table.RemoveTablePartitionsEntry value) {
+        if (removeTablePartitionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          removeTablePartitions_ = value;
+          onChanged();
+        } else {
+          removeTablePartitionsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x04000000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+       */
+      public Builder setRemoveTablePartitions(
+          alluxio.proto.journal.Table.RemoveTablePartitionsEntry.Builder builderForValue) {
+        if (removeTablePartitionsBuilder_ == null) {
+          removeTablePartitions_ = builderForValue.build();
+          onChanged();
+        } else {
+          removeTablePartitionsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x04000000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+       */
+      public Builder mergeRemoveTablePartitions(alluxio.proto.journal.Table.RemoveTablePartitionsEntry value) {
+        if (removeTablePartitionsBuilder_ == null) {
+          if (((bitField0_ & 0x04000000) == 0x04000000) &&
+              removeTablePartitions_ != null &&
+              removeTablePartitions_ != alluxio.proto.journal.Table.RemoveTablePartitionsEntry.getDefaultInstance()) {
+            removeTablePartitions_ =
+              alluxio.proto.journal.Table.RemoveTablePartitionsEntry.newBuilder(removeTablePartitions_).mergeFrom(value).buildPartial();
+          } else {
+            removeTablePartitions_ = value;
+          }
+          onChanged();
+        } else {
+          removeTablePartitionsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x04000000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+       */
+      public Builder clearRemoveTablePartitions() {
+        if (removeTablePartitionsBuilder_ == null) {
+          removeTablePartitions_ = null;
+          onChanged();
+        } else {
+          removeTablePartitionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x04000000);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+       */
+      public alluxio.proto.journal.Table.RemoveTablePartitionsEntry.Builder getRemoveTablePartitionsBuilder() {
+        bitField0_ |= 0x04000000;
+        onChanged();
+        return getRemoveTablePartitionsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+       */
+      public alluxio.proto.journal.Table.RemoveTablePartitionsEntryOrBuilder getRemoveTablePartitionsOrBuilder() {
+        if (removeTablePartitionsBuilder_ != null) {
+          return removeTablePartitionsBuilder_.getMessageOrBuilder();
+        } else {
+          return removeTablePartitions_ == null ?
+              alluxio.proto.journal.Table.RemoveTablePartitionsEntry.getDefaultInstance() : removeTablePartitions_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTablePartitionsEntry remove_table_partitions = 49;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Table.RemoveTablePartitionsEntry, alluxio.proto.journal.Table.RemoveTablePartitionsEntry.Builder, alluxio.proto.journal.Table.RemoveTablePartitionsEntryOrBuilder> 
+          getRemoveTablePartitionsFieldBuilder() {
+        if (removeTablePartitionsBuilder_ == null) {
+          removeTablePartitionsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.proto.journal.Table.RemoveTablePartitionsEntry, alluxio.proto.journal.Table.RemoveTablePartitionsEntry.Builder, alluxio.proto.journal.Table.RemoveTablePartitionsEntryOrBuilder>(
+                  getRemoveTablePartitions(),
+                  getParentForChildren(),
+                  isClean());
+          removeTablePartitions_ = null;
+        }
+        return removeTablePartitionsBuilder_;
+      }
+
+      private alluxio.proto.journal.Table.RemoveTransformJobEntry removeTransformJob_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Table.RemoveTransformJobEntry, alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder, alluxio.proto.journal.Table.RemoveTransformJobEntryOrBuilder> removeTransformJobBuilder_;
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       */
+      public boolean hasRemoveTransformJob() {
+        return ((bitField0_ & 0x08000000) == 0x08000000);
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       */
+      public alluxio.proto.journal.Table.RemoveTransformJobEntry getRemoveTransformJob() {
+        if (removeTransformJobBuilder_ == null) {
+          return removeTransformJob_ == null ? alluxio.proto.journal.Table.RemoveTransformJobEntry.getDefaultInstance() : removeTransformJob_;
+        } else {
+          return removeTransformJobBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       */
+      public Builder setRemoveTransformJob(alluxio.proto.journal.Table.RemoveTransformJobEntry value) {
+        if (removeTransformJobBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          removeTransformJob_ = value;
+          onChanged();
+        } else {
+          removeTransformJobBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x08000000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       */
+      public Builder setRemoveTransformJob(
+          alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder builderForValue) {
+        if (removeTransformJobBuilder_ == null) {
+          removeTransformJob_ = builderForValue.build();
+          onChanged();
+        } else {
+          removeTransformJobBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x08000000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       */
+      public Builder mergeRemoveTransformJob(alluxio.proto.journal.Table.RemoveTransformJobEntry value) {
+        if (removeTransformJobBuilder_ == null) {
+          if (((bitField0_ & 0x08000000) == 0x08000000) &&
+              removeTransformJob_ != null &&
+              removeTransformJob_ != alluxio.proto.journal.Table.RemoveTransformJobEntry.getDefaultInstance()) {
+            removeTransformJob_ =
+              alluxio.proto.journal.Table.RemoveTransformJobEntry.newBuilder(removeTransformJob_).mergeFrom(value).buildPartial();
+          } else {
+            removeTransformJob_ = value;
+          }
+          onChanged();
+        } else {
+          removeTransformJobBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x08000000;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       */
+      public Builder clearRemoveTransformJob() {
+        if (removeTransformJobBuilder_ == null) {
+          removeTransformJob_ = null;
+          onChanged();
+        } else {
+          removeTransformJobBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x08000000);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       */
+      public alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder getRemoveTransformJobBuilder() {
+        bitField0_ |= 0x08000000;
+        onChanged();
+        return getRemoveTransformJobFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       */
+      public alluxio.proto.journal.Table.RemoveTransformJobEntryOrBuilder getRemoveTransformJobOrBuilder() {
+        if (removeTransformJobBuilder_ != null) {
+          return removeTransformJobBuilder_.getMessageOrBuilder();
+        } else {
+          return removeTransformJob_ == null ?
+              alluxio.proto.journal.Table.RemoveTransformJobEntry.getDefaultInstance() : removeTransformJob_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.RemoveTransformJobEntry remove_transform_job = 47;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Table.RemoveTransformJobEntry, alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder, alluxio.proto.journal.Table.RemoveTransformJobEntryOrBuilder> 
+          getRemoveTransformJobFieldBuilder() {
+        if (removeTransformJobBuilder_ == null) {
+          removeTransformJobBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.proto.journal.Table.RemoveTransformJobEntry, alluxio.proto.journal.Table.RemoveTransformJobEntry.Builder, alluxio.proto.journal.Table.RemoveTransformJobEntryOrBuilder>(
+                  getRemoveTransformJob(),
+                  getParentForChildren(),
+                  isClean());
+          removeTransformJob_ = null;
+        }
+        return removeTransformJobBuilder_;
+      }
+
+      private alluxio.proto.journal.File.RemoveSyncPointEntry removeSyncPoint_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
           alluxio.proto.journal.File.RemoveSyncPointEntry, alluxio.proto.journal.File.RemoveSyncPointEntry.Builder, alluxio.proto.journal.File.RemoveSyncPointEntryOrBuilder> removeSyncPointBuilder_;
       /**
        * <code>optional .alluxio.proto.journal.RemoveSyncPointEntry remove_sync_point = 33;</code>
        */
       public boolean hasRemoveSyncPoint() {
-        return ((bitField0_ & 0x01000000) == 0x01000000);
+        return ((bitField0_ & 0x10000000) == 0x10000000);
       }
       /**
        * <code>optional .alluxio.proto.journal.RemoveSyncPointEntry remove_sync_point = 33;</code>
@@ -6009,7 +7070,7 @@ public final class Journal {
         } else {
           removeSyncPointBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x01000000;
+        bitField0_ |= 0x10000000;
         return this;
       }
       /**
@@ -6023,7 +7084,7 @@ public final class Journal {
         } else {
           removeSyncPointBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x01000000;
+        bitField0_ |= 0x10000000;
         return this;
       }
       /**
@@ -6031,7 +7092,7 @@ public final class Journal {
        */
       public Builder mergeRemoveSyncPoint(alluxio.proto.journal.File.RemoveSyncPointEntry value) {
         if (removeSyncPointBuilder_ == null) {
-          if (((bitField0_ & 0x01000000) == 0x01000000) &&
+          if (((bitField0_ & 0x10000000) == 0x10000000) &&
               removeSyncPoint_ != null &&
               removeSyncPoint_ != alluxio.proto.journal.File.RemoveSyncPointEntry.getDefaultInstance()) {
             removeSyncPoint_ =
@@ -6043,7 +7104,7 @@ public final class Journal {
         } else {
           removeSyncPointBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x01000000;
+        bitField0_ |= 0x10000000;
         return this;
       }
       /**
@@ -6056,14 +7117,14 @@ public final class Journal {
         } else {
           removeSyncPointBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x01000000);
+        bitField0_ = (bitField0_ & ~0x10000000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.RemoveSyncPointEntry remove_sync_point = 33;</code>
        */
       public alluxio.proto.journal.File.RemoveSyncPointEntry.Builder getRemoveSyncPointBuilder() {
-        bitField0_ |= 0x01000000;
+        bitField0_ |= 0x10000000;
         onChanged();
         return getRemoveSyncPointFieldBuilder().getBuilder();
       }
@@ -6102,7 +7163,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.RenameEntry rename = 19;</code>
        */
       public boolean hasRename() {
-        return ((bitField0_ & 0x02000000) == 0x02000000);
+        return ((bitField0_ & 0x20000000) == 0x20000000);
       }
       /**
        * <code>optional .alluxio.proto.journal.RenameEntry rename = 19;</code>
@@ -6127,7 +7188,7 @@ public final class Journal {
         } else {
           renameBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x02000000;
+        bitField0_ |= 0x20000000;
         return this;
       }
       /**
@@ -6141,7 +7202,7 @@ public final class Journal {
         } else {
           renameBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x02000000;
+        bitField0_ |= 0x20000000;
         return this;
       }
       /**
@@ -6149,7 +7210,7 @@ public final class Journal {
        */
       public Builder mergeRename(alluxio.proto.journal.File.RenameEntry value) {
         if (renameBuilder_ == null) {
-          if (((bitField0_ & 0x02000000) == 0x02000000) &&
+          if (((bitField0_ & 0x20000000) == 0x20000000) &&
               rename_ != null &&
               rename_ != alluxio.proto.journal.File.RenameEntry.getDefaultInstance()) {
             rename_ =
@@ -6161,7 +7222,7 @@ public final class Journal {
         } else {
           renameBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x02000000;
+        bitField0_ |= 0x20000000;
         return this;
       }
       /**
@@ -6174,14 +7235,14 @@ public final class Journal {
         } else {
           renameBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x02000000);
+        bitField0_ = (bitField0_ & ~0x20000000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.RenameEntry rename = 19;</code>
        */
       public alluxio.proto.journal.File.RenameEntry.Builder getRenameBuilder() {
-        bitField0_ |= 0x02000000;
+        bitField0_ |= 0x20000000;
         onChanged();
         return getRenameFieldBuilder().getBuilder();
       }
@@ -6220,7 +7281,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.SetAclEntry set_acl = 31;</code>
        */
       public boolean hasSetAcl() {
-        return ((bitField0_ & 0x04000000) == 0x04000000);
+        return ((bitField0_ & 0x40000000) == 0x40000000);
       }
       /**
        * <code>optional .alluxio.proto.journal.SetAclEntry set_acl = 31;</code>
@@ -6245,7 +7306,7 @@ public final class Journal {
         } else {
           setAclBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x04000000;
+        bitField0_ |= 0x40000000;
         return this;
       }
       /**
@@ -6259,7 +7320,7 @@ public final class Journal {
         } else {
           setAclBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x04000000;
+        bitField0_ |= 0x40000000;
         return this;
       }
       /**
@@ -6267,7 +7328,7 @@ public final class Journal {
        */
       public Builder mergeSetAcl(alluxio.proto.journal.File.SetAclEntry value) {
         if (setAclBuilder_ == null) {
-          if (((bitField0_ & 0x04000000) == 0x04000000) &&
+          if (((bitField0_ & 0x40000000) == 0x40000000) &&
               setAcl_ != null &&
               setAcl_ != alluxio.proto.journal.File.SetAclEntry.getDefaultInstance()) {
             setAcl_ =
@@ -6279,7 +7340,7 @@ public final class Journal {
         } else {
           setAclBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x04000000;
+        bitField0_ |= 0x40000000;
         return this;
       }
       /**
@@ -6292,14 +7353,14 @@ public final class Journal {
         } else {
           setAclBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x04000000);
+        bitField0_ = (bitField0_ & ~0x40000000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.SetAclEntry set_acl = 31;</code>
        */
       public alluxio.proto.journal.File.SetAclEntry.Builder getSetAclBuilder() {
-        bitField0_ |= 0x04000000;
+        bitField0_ |= 0x40000000;
         onChanged();
         return getSetAclFieldBuilder().getBuilder();
       }
@@ -6338,7 +7399,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
        */
       public boolean hasSetAttribute() {
-        return ((bitField0_ & 0x08000000) == 0x08000000);
+        return ((bitField0_ & 0x80000000) == 0x80000000);
       }
       /**
        * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
@@ -6363,7 +7424,7 @@ public final class Journal {
         } else {
           setAttributeBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x08000000;
+        bitField0_ |= 0x80000000;
         return this;
       }
       /**
@@ -6377,7 +7438,7 @@ public final class Journal {
         } else {
           setAttributeBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x08000000;
+        bitField0_ |= 0x80000000;
         return this;
       }
       /**
@@ -6385,7 +7446,7 @@ public final class Journal {
        */
       public Builder mergeSetAttribute(alluxio.proto.journal.File.SetAttributeEntry value) {
         if (setAttributeBuilder_ == null) {
-          if (((bitField0_ & 0x08000000) == 0x08000000) &&
+          if (((bitField0_ & 0x80000000) == 0x80000000) &&
               setAttribute_ != null &&
               setAttribute_ != alluxio.proto.journal.File.SetAttributeEntry.getDefaultInstance()) {
             setAttribute_ =
@@ -6397,7 +7458,7 @@ public final class Journal {
         } else {
           setAttributeBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x08000000;
+        bitField0_ |= 0x80000000;
         return this;
       }
       /**
@@ -6410,14 +7471,14 @@ public final class Journal {
         } else {
           setAttributeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x08000000);
+        bitField0_ = (bitField0_ & ~0x80000000);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.SetAttributeEntry set_attribute = 27;</code>
        */
       public alluxio.proto.journal.File.SetAttributeEntry.Builder getSetAttributeBuilder() {
-        bitField0_ |= 0x08000000;
+        bitField0_ |= 0x80000000;
         onChanged();
         return getSetAttributeFieldBuilder().getBuilder();
       }
@@ -6449,6 +7510,124 @@ public final class Journal {
         return setAttributeBuilder_;
       }
 
+      private alluxio.proto.journal.Job.StartJobEntry startJob_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Job.StartJobEntry, alluxio.proto.journal.Job.StartJobEntry.Builder, alluxio.proto.journal.Job.StartJobEntryOrBuilder> startJobBuilder_;
+      /**
+       * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+       */
+      public boolean hasStartJob() {
+        return ((bitField1_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+       */
+      public alluxio.proto.journal.Job.StartJobEntry getStartJob() {
+        if (startJobBuilder_ == null) {
+          return startJob_ == null ? alluxio.proto.journal.Job.StartJobEntry.getDefaultInstance() : startJob_;
+        } else {
+          return startJobBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+       */
+      public Builder setStartJob(alluxio.proto.journal.Job.StartJobEntry value) {
+        if (startJobBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          startJob_ = value;
+          onChanged();
+        } else {
+          startJobBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+       */
+      public Builder setStartJob(
+          alluxio.proto.journal.Job.StartJobEntry.Builder builderForValue) {
+        if (startJobBuilder_ == null) {
+          startJob_ = builderForValue.build();
+          onChanged();
+        } else {
+          startJobBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+       */
+      public Builder mergeStartJob(alluxio.proto.journal.Job.StartJobEntry value) {
+        if (startJobBuilder_ == null) {
+          if (((bitField1_ & 0x00000001) == 0x00000001) &&
+              startJob_ != null &&
+              startJob_ != alluxio.proto.journal.Job.StartJobEntry.getDefaultInstance()) {
+            startJob_ =
+              alluxio.proto.journal.Job.StartJobEntry.newBuilder(startJob_).mergeFrom(value).buildPartial();
+          } else {
+            startJob_ = value;
+          }
+          onChanged();
+        } else {
+          startJobBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+       */
+      public Builder clearStartJob() {
+        if (startJobBuilder_ == null) {
+          startJob_ = null;
+          onChanged();
+        } else {
+          startJobBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+       */
+      public alluxio.proto.journal.Job.StartJobEntry.Builder getStartJobBuilder() {
+        bitField1_ |= 0x00000001;
+        onChanged();
+        return getStartJobFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+       */
+      public alluxio.proto.journal.Job.StartJobEntryOrBuilder getStartJobOrBuilder() {
+        if (startJobBuilder_ != null) {
+          return startJobBuilder_.getMessageOrBuilder();
+        } else {
+          return startJob_ == null ?
+              alluxio.proto.journal.Job.StartJobEntry.getDefaultInstance() : startJob_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.StartJobEntry start_job = 52;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Job.StartJobEntry, alluxio.proto.journal.Job.StartJobEntry.Builder, alluxio.proto.journal.Job.StartJobEntryOrBuilder> 
+          getStartJobFieldBuilder() {
+        if (startJobBuilder_ == null) {
+          startJobBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.proto.journal.Job.StartJobEntry, alluxio.proto.journal.Job.StartJobEntry.Builder, alluxio.proto.journal.Job.StartJobEntryOrBuilder>(
+                  getStartJob(),
+                  getParentForChildren(),
+                  isClean());
+          startJob_ = null;
+        }
+        return startJobBuilder_;
+      }
+
       private alluxio.proto.journal.Table.TransformJobEntry transformJob_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
           alluxio.proto.journal.Table.TransformJobEntry, alluxio.proto.journal.Table.TransformJobEntry.Builder, alluxio.proto.journal.Table.TransformJobEntryOrBuilder> transformJobBuilder_;
@@ -6456,7 +7635,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.TransformJobEntry transform_job = 46;</code>
        */
       public boolean hasTransformJob() {
-        return ((bitField0_ & 0x10000000) == 0x10000000);
+        return ((bitField1_ & 0x00000002) == 0x00000002);
       }
       /**
        * <code>optional .alluxio.proto.journal.TransformJobEntry transform_job = 46;</code>
@@ -6481,7 +7660,7 @@ public final class Journal {
         } else {
           transformJobBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x10000000;
+        bitField1_ |= 0x00000002;
         return this;
       }
       /**
@@ -6495,7 +7674,7 @@ public final class Journal {
         } else {
           transformJobBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x10000000;
+        bitField1_ |= 0x00000002;
         return this;
       }
       /**
@@ -6503,7 +7682,7 @@ public final class Journal {
        */
       public Builder mergeTransformJob(alluxio.proto.journal.Table.TransformJobEntry value) {
         if (transformJobBuilder_ == null) {
-          if (((bitField0_ & 0x10000000) == 0x10000000) &&
+          if (((bitField1_ & 0x00000002) == 0x00000002) &&
               transformJob_ != null &&
               transformJob_ != alluxio.proto.journal.Table.TransformJobEntry.getDefaultInstance()) {
             transformJob_ =
@@ -6515,7 +7694,7 @@ public final class Journal {
         } else {
           transformJobBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x10000000;
+        bitField1_ |= 0x00000002;
         return this;
       }
       /**
@@ -6528,14 +7707,14 @@ public final class Journal {
         } else {
           transformJobBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x10000000);
+        bitField1_ = (bitField1_ & ~0x00000002);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.TransformJobEntry transform_job = 46;</code>
        */
       public alluxio.proto.journal.Table.TransformJobEntry.Builder getTransformJobBuilder() {
-        bitField0_ |= 0x10000000;
+        bitField1_ |= 0x00000002;
         onChanged();
         return getTransformJobFieldBuilder().getBuilder();
       }
@@ -6567,6 +7746,242 @@ public final class Journal {
         return transformJobBuilder_;
       }
 
+      private alluxio.proto.journal.Job.UpdateJobEntry updateJob_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Job.UpdateJobEntry, alluxio.proto.journal.Job.UpdateJobEntry.Builder, alluxio.proto.journal.Job.UpdateJobEntryOrBuilder> updateJobBuilder_;
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+       */
+      public boolean hasUpdateJob() {
+        return ((bitField1_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+       */
+      public alluxio.proto.journal.Job.UpdateJobEntry getUpdateJob() {
+        if (updateJobBuilder_ == null) {
+          return updateJob_ == null ? alluxio.proto.journal.Job.UpdateJobEntry.getDefaultInstance() : updateJob_;
+        } else {
+          return updateJobBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+       */
+      public Builder setUpdateJob(alluxio.proto.journal.Job.UpdateJobEntry value) {
+        if (updateJobBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          updateJob_ = value;
+          onChanged();
+        } else {
+          updateJobBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+       */
+      public Builder setUpdateJob(
+          alluxio.proto.journal.Job.UpdateJobEntry.Builder builderForValue) {
+        if (updateJobBuilder_ == null) {
+          updateJob_ = builderForValue.build();
+          onChanged();
+        } else {
+          updateJobBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+       */
+      public Builder mergeUpdateJob(alluxio.proto.journal.Job.UpdateJobEntry value) {
+        if (updateJobBuilder_ == null) {
+          if (((bitField1_ & 0x00000004) == 0x00000004) &&
+              updateJob_ != null &&
+              updateJob_ != alluxio.proto.journal.Job.UpdateJobEntry.getDefaultInstance()) {
+            updateJob_ =
+              alluxio.proto.journal.Job.UpdateJobEntry.newBuilder(updateJob_).mergeFrom(value).buildPartial();
+          } else {
+            updateJob_ = value;
+          }
+          onChanged();
+        } else {
+          updateJobBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+       */
+      public Builder clearUpdateJob() {
+        if (updateJobBuilder_ == null) {
+          updateJob_ = null;
+          onChanged();
+        } else {
+          updateJobBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+       */
+      public alluxio.proto.journal.Job.UpdateJobEntry.Builder getUpdateJobBuilder() {
+        bitField1_ |= 0x00000004;
+        onChanged();
+        return getUpdateJobFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+       */
+      public alluxio.proto.journal.Job.UpdateJobEntryOrBuilder getUpdateJobOrBuilder() {
+        if (updateJobBuilder_ != null) {
+          return updateJobBuilder_.getMessageOrBuilder();
+        } else {
+          return updateJob_ == null ?
+              alluxio.proto.journal.Job.UpdateJobEntry.getDefaultInstance() : updateJob_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateJobEntry update_job = 53;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Job.UpdateJobEntry, alluxio.proto.journal.Job.UpdateJobEntry.Builder, alluxio.proto.journal.Job.UpdateJobEntryOrBuilder> 
+          getUpdateJobFieldBuilder() {
+        if (updateJobBuilder_ == null) {
+          updateJobBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.proto.journal.Job.UpdateJobEntry, alluxio.proto.journal.Job.UpdateJobEntry.Builder, alluxio.proto.journal.Job.UpdateJobEntryOrBuilder>(
+                  getUpdateJob(),
+                  getParentForChildren(),
+                  isClean());
+          updateJob_ = null;
+        }
+        return updateJobBuilder_;
+      }
+
+      private alluxio.proto.journal.Table.UpdateTableEntry updateTable_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Table.UpdateTableEntry, alluxio.proto.journal.Table.UpdateTableEntry.Builder, alluxio.proto.journal.Table.UpdateTableEntryOrBuilder> updateTableBuilder_;
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+       */
+      public boolean hasUpdateTable() {
+        return ((bitField1_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+       */
+      public alluxio.proto.journal.Table.UpdateTableEntry getUpdateTable() {
+        if (updateTableBuilder_ == null) {
+          return updateTable_ == null ? alluxio.proto.journal.Table.UpdateTableEntry.getDefaultInstance() : updateTable_;
+        } else {
+          return updateTableBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+       */
+      public Builder setUpdateTable(alluxio.proto.journal.Table.UpdateTableEntry value) {
+        if (updateTableBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          updateTable_ = value;
+          onChanged();
+        } else {
+          updateTableBuilder_.setMessage(value);
+        }
+        bitField1_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+       */
+      public Builder setUpdateTable(
+          alluxio.proto.journal.Table.UpdateTableEntry.Builder builderForValue) {
+        if (updateTableBuilder_ == null) {
+          updateTable_ = builderForValue.build();
+          onChanged();
+        } else {
+          updateTableBuilder_.setMessage(builderForValue.build());
+        }
+        bitField1_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+       */
+      public Builder mergeUpdateTable(alluxio.proto.journal.Table.UpdateTableEntry value) {
+        if (updateTableBuilder_ == null) {
+          if (((bitField1_ & 0x00000008) == 0x00000008) &&
+              updateTable_ != null &&
+              updateTable_ != alluxio.proto.journal.Table.UpdateTableEntry.getDefaultInstance()) {
+            updateTable_ =
+              alluxio.proto.journal.Table.UpdateTableEntry.newBuilder(updateTable_).mergeFrom(value).buildPartial();
+          } else {
+            updateTable_ = value;
+          }
+          onChanged();
+        } else {
+          updateTableBuilder_.mergeFrom(value);
+        }
+        bitField1_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+       */
+      public Builder clearUpdateTable() {
+        if (updateTableBuilder_ == null) {
+          updateTable_ = null;
+          onChanged();
+        } else {
+          updateTableBuilder_.clear();
+        }
+        bitField1_ = (bitField1_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+       */
+      public alluxio.proto.journal.Table.UpdateTableEntry.Builder getUpdateTableBuilder() {
+        bitField1_ |= 0x00000008;
+        onChanged();
+        return getUpdateTableFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+       */
+      public alluxio.proto.journal.Table.UpdateTableEntryOrBuilder getUpdateTableOrBuilder() {
+        if (updateTableBuilder_ != null) {
+          return updateTableBuilder_.getMessageOrBuilder();
+        } else {
+          return updateTable_ == null ?
+              alluxio.proto.journal.Table.UpdateTableEntry.getDefaultInstance() : updateTable_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.proto.journal.UpdateTableEntry update_table = 51;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.proto.journal.Table.UpdateTableEntry, alluxio.proto.journal.Table.UpdateTableEntry.Builder, alluxio.proto.journal.Table.UpdateTableEntryOrBuilder> 
+          getUpdateTableFieldBuilder() {
+        if (updateTableBuilder_ == null) {
+          updateTableBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.proto.journal.Table.UpdateTableEntry, alluxio.proto.journal.Table.UpdateTableEntry.Builder, alluxio.proto.journal.Table.UpdateTableEntryOrBuilder>(
+                  getUpdateTable(),
+                  getParentForChildren(),
+                  isClean());
+          updateTable_ = null;
+        }
+        return updateTableBuilder_;
+      }
+
       private alluxio.proto.journal.File.UpdateUfsModeEntry updateUfsMode_ = null;
       private com.google.protobuf.SingleFieldBuilderV3<
           alluxio.proto.journal.File.UpdateUfsModeEntry, alluxio.proto.journal.File.UpdateUfsModeEntry.Builder, alluxio.proto.journal.File.UpdateUfsModeEntryOrBuilder> updateUfsModeBuilder_;
@@ -6574,7 +7989,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.UpdateUfsModeEntry update_ufs_mode = 30;</code>
        */
       public boolean hasUpdateUfsMode() {
-        return ((bitField0_ & 0x20000000) == 0x20000000);
+        return ((bitField1_ & 0x00000010) == 0x00000010);
       }
       /**
        * <code>optional .alluxio.proto.journal.UpdateUfsModeEntry update_ufs_mode = 30;</code>
@@ -6599,7 +8014,7 @@ public final class Journal {
         } else {
           updateUfsModeBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x20000000;
+        bitField1_ |= 0x00000010;
         return this;
       }
       /**
@@ -6613,7 +8028,7 @@ public final class Journal {
         } else {
           updateUfsModeBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x20000000;
+        bitField1_ |= 0x00000010;
         return this;
       }
       /**
@@ -6621,7 +8036,7 @@ public final class Journal {
        */
       public Builder mergeUpdateUfsMode(alluxio.proto.journal.File.UpdateUfsModeEntry value) {
         if (updateUfsModeBuilder_ == null) {
-          if (((bitField0_ & 0x20000000) == 0x20000000) &&
+          if (((bitField1_ & 0x00000010) == 0x00000010) &&
               updateUfsMode_ != null &&
               updateUfsMode_ != alluxio.proto.journal.File.UpdateUfsModeEntry.getDefaultInstance()) {
             updateUfsMode_ =
@@ -6633,7 +8048,7 @@ public final class Journal {
         } else {
           updateUfsModeBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x20000000;
+        bitField1_ |= 0x00000010;
         return this;
       }
       /**
@@ -6646,14 +8061,14 @@ public final class Journal {
         } else {
           updateUfsModeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x20000000);
+        bitField1_ = (bitField1_ & ~0x00000010);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.UpdateUfsModeEntry update_ufs_mode = 30;</code>
        */
       public alluxio.proto.journal.File.UpdateUfsModeEntry.Builder getUpdateUfsModeBuilder() {
-        bitField0_ |= 0x20000000;
+        bitField1_ |= 0x00000010;
         onChanged();
         return getUpdateUfsModeFieldBuilder().getBuilder();
       }
@@ -6692,7 +8107,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.UpdateInodeEntry update_inode = 35;</code>
        */
       public boolean hasUpdateInode() {
-        return ((bitField0_ & 0x40000000) == 0x40000000);
+        return ((bitField1_ & 0x00000020) == 0x00000020);
       }
       /**
        * <code>optional .alluxio.proto.journal.UpdateInodeEntry update_inode = 35;</code>
@@ -6717,7 +8132,7 @@ public final class Journal {
         } else {
           updateInodeBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x40000000;
+        bitField1_ |= 0x00000020;
         return this;
       }
       /**
@@ -6731,7 +8146,7 @@ public final class Journal {
         } else {
           updateInodeBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x40000000;
+        bitField1_ |= 0x00000020;
         return this;
       }
       /**
@@ -6739,7 +8154,7 @@ public final class Journal {
        */
       public Builder mergeUpdateInode(alluxio.proto.journal.File.UpdateInodeEntry value) {
         if (updateInodeBuilder_ == null) {
-          if (((bitField0_ & 0x40000000) == 0x40000000) &&
+          if (((bitField1_ & 0x00000020) == 0x00000020) &&
               updateInode_ != null &&
               updateInode_ != alluxio.proto.journal.File.UpdateInodeEntry.getDefaultInstance()) {
             updateInode_ =
@@ -6751,7 +8166,7 @@ public final class Journal {
         } else {
           updateInodeBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x40000000;
+        bitField1_ |= 0x00000020;
         return this;
       }
       /**
@@ -6764,14 +8179,14 @@ public final class Journal {
         } else {
           updateInodeBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x40000000);
+        bitField1_ = (bitField1_ & ~0x00000020);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.UpdateInodeEntry update_inode = 35;</code>
        */
       public alluxio.proto.journal.File.UpdateInodeEntry.Builder getUpdateInodeBuilder() {
-        bitField0_ |= 0x40000000;
+        bitField1_ |= 0x00000020;
         onChanged();
         return getUpdateInodeFieldBuilder().getBuilder();
       }
@@ -6810,7 +8225,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.UpdateInodeDirectoryEntry update_inode_directory = 36;</code>
        */
       public boolean hasUpdateInodeDirectory() {
-        return ((bitField0_ & 0x80000000) == 0x80000000);
+        return ((bitField1_ & 0x00000040) == 0x00000040);
       }
       /**
        * <code>optional .alluxio.proto.journal.UpdateInodeDirectoryEntry update_inode_directory = 36;</code>
@@ -6835,7 +8250,7 @@ public final class Journal {
         } else {
           updateInodeDirectoryBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x80000000;
+        bitField1_ |= 0x00000040;
         return this;
       }
       /**
@@ -6849,7 +8264,7 @@ public final class Journal {
         } else {
           updateInodeDirectoryBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x80000000;
+        bitField1_ |= 0x00000040;
         return this;
       }
       /**
@@ -6857,7 +8272,7 @@ public final class Journal {
        */
       public Builder mergeUpdateInodeDirectory(alluxio.proto.journal.File.UpdateInodeDirectoryEntry value) {
         if (updateInodeDirectoryBuilder_ == null) {
-          if (((bitField0_ & 0x80000000) == 0x80000000) &&
+          if (((bitField1_ & 0x00000040) == 0x00000040) &&
               updateInodeDirectory_ != null &&
               updateInodeDirectory_ != alluxio.proto.journal.File.UpdateInodeDirectoryEntry.getDefaultInstance()) {
             updateInodeDirectory_ =
@@ -6869,7 +8284,7 @@ public final class Journal {
         } else {
           updateInodeDirectoryBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x80000000;
+        bitField1_ |= 0x00000040;
         return this;
       }
       /**
@@ -6882,14 +8297,14 @@ public final class Journal {
         } else {
           updateInodeDirectoryBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x80000000);
+        bitField1_ = (bitField1_ & ~0x00000040);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.UpdateInodeDirectoryEntry update_inode_directory = 36;</code>
        */
       public alluxio.proto.journal.File.UpdateInodeDirectoryEntry.Builder getUpdateInodeDirectoryBuilder() {
-        bitField0_ |= 0x80000000;
+        bitField1_ |= 0x00000040;
         onChanged();
         return getUpdateInodeDirectoryFieldBuilder().getBuilder();
       }
@@ -6928,7 +8343,7 @@ public final class Journal {
        * <code>optional .alluxio.proto.journal.UpdateInodeFileEntry update_inode_file = 37;</code>
        */
       public boolean hasUpdateInodeFile() {
-        return ((bitField1_ & 0x00000001) == 0x00000001);
+        return ((bitField1_ & 0x00000080) == 0x00000080);
       }
       /**
        * <code>optional .alluxio.proto.journal.UpdateInodeFileEntry update_inode_file = 37;</code>
@@ -6953,7 +8368,7 @@ public final class Journal {
         } else {
           updateInodeFileBuilder_.setMessage(value);
         }
-        bitField1_ |= 0x00000001;
+        bitField1_ |= 0x00000080;
         return this;
       }
       /**
@@ -6967,7 +8382,7 @@ public final class Journal {
         } else {
           updateInodeFileBuilder_.setMessage(builderForValue.build());
         }
-        bitField1_ |= 0x00000001;
+        bitField1_ |= 0x00000080;
         return this;
       }
       /**
@@ -6975,7 +8390,7 @@ public final class Journal {
        */
       public Builder mergeUpdateInodeFile(alluxio.proto.journal.File.UpdateInodeFileEntry value) {
         if (updateInodeFileBuilder_ == null) {
-          if (((bitField1_ & 0x00000001) == 0x00000001) &&
+          if (((bitField1_ & 0x00000080) == 0x00000080) &&
               updateInodeFile_ != null &&
               updateInodeFile_ != alluxio.proto.journal.File.UpdateInodeFileEntry.getDefaultInstance()) {
             updateInodeFile_ =
@@ -6987,7 +8402,7 @@ public final class Journal {
         } else {
           updateInodeFileBuilder_.mergeFrom(value);
         }
-        bitField1_ |= 0x00000001;
+        bitField1_ |= 0x00000080;
         return this;
       }
       /**
@@ -7000,14 +8415,14 @@ public final class Journal {
         } else {
           updateInodeFileBuilder_.clear();
         }
-        bitField1_ = (bitField1_ & ~0x00000001);
+        bitField1_ = (bitField1_ & ~0x00000080);
         return this;
       }
       /**
        * <code>optional .alluxio.proto.journal.UpdateInodeFileEntry update_inode_file = 37;</code>
        */
       public alluxio.proto.journal.File.UpdateInodeFileEntry.Builder getUpdateInodeFileBuilder() {
-        bitField1_ |= 0x00000001;
+        bitField1_ |= 0x00000080;
         onChanged();
         return getUpdateInodeFileFieldBuilder().getBuilder();
       }
@@ -7042,9 +8457,9 @@ public final class Journal {
       private java.util.List<alluxio.proto.journal.Journal.JournalEntry> journalEntries_ =
         java.util.Collections.emptyList();
       private void ensureJournalEntriesIsMutable() {
-        if (!((bitField1_ & 0x00000002) == 0x00000002)) {
+        if (!((bitField1_ & 0x00000100) == 0x00000100)) {
           journalEntries_ = new java.util.ArrayList<alluxio.proto.journal.Journal.JournalEntry>(journalEntries_);
-          bitField1_ |= 0x00000002;
+          bitField1_ |= 0x00000100;
          }
       }
 
@@ -7249,7 +8664,7 @@ public final class Journal {
       public Builder clearJournalEntries() {
         if (journalEntriesBuilder_ == null) {
           journalEntries_ = java.util.Collections.emptyList();
-          bitField1_ = (bitField1_ & ~0x00000002);
+          bitField1_ = (bitField1_ & ~0x00000100);
           onChanged();
         } else {
           journalEntriesBuilder_.clear();
@@ -7361,7 +8776,7 @@ public final class Journal {
           journalEntriesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
               alluxio.proto.journal.Journal.JournalEntry, alluxio.proto.journal.Journal.JournalEntry.Builder, alluxio.proto.journal.Journal.JournalEntryOrBuilder>(
                   journalEntries_,
-                  ((bitField1_ & 0x00000002) == 0x00000002),
+                  ((bitField1_ & 0x00000100) == 0x00000100),
                   getParentForChildren(),
                   isClean());
           journalEntries_ = null;
@@ -7433,67 +8848,79 @@ public final class Journal {
     java.lang.String[] descriptorData = {
       "\n\033proto/journal/journal.proto\022\025alluxio.p" +
       "roto.journal\032\031proto/journal/block.proto\032" +
-      "\030proto/journal/file.proto\032\030proto/journal" +
-      "/meta.proto\032\031proto/journal/table.proto\"\374" +
-      "\021\n\014JournalEntry\022\027\n\017sequence_number\030\001 \001(\003" +
-      "\022E\n\021active_sync_tx_id\030\" \001(\0132*.alluxio.pr" +
-      "oto.journal.ActiveSyncTxIdEntry\0227\n\tadd_t" +
-      "able\030+ \001(\0132$.alluxio.proto.journal.AddTa" +
-      "bleEntry\022@\n\016add_sync_point\030  \001(\0132(.allux" +
-      "io.proto.journal.AddSyncPointEntry\022B\n\017ad" +
-      "d_mount_point\030\002 \001(\0132).alluxio.proto.jour" +
-      "nal.AddMountPointEntry\022N\n\025async_persist_" +
-      "request\030\020 \001(\0132/.alluxio.proto.journal.As" +
-      "yncPersistRequestEntry\0227\n\tattach_db\030, \001(" +
-      "\0132$.alluxio.proto.journal.AttachDbEntry\022" +
-      "[\n\034block_container_id_generator\030\003 \001(\01325." +
-      "alluxio.proto.journal.BlockContainerIdGe" +
-      "neratorEntry\0229\n\nblock_info\030\004 \001(\0132%.allux" +
-      "io.proto.journal.BlockInfoEntry\022=\n\014clust" +
-      "er_info\030* \001(\0132\'.alluxio.proto.journal.Cl" +
-      "usterInfoEntry\022?\n\rcomplete_file\030\005 \001(\0132(." +
-      "alluxio.proto.journal.CompleteFileEntry\022" +
-      "=\n\014delete_block\030\035 \001(\0132\'.alluxio.proto.jo" +
-      "urnal.DeleteBlockEntry\022;\n\013delete_file\030\006 " +
-      "\001(\0132&.alluxio.proto.journal.DeleteFileEn" +
-      "try\022H\n\022delete_mount_point\030\010 \001(\0132,.alluxi" +
-      "o.proto.journal.DeleteMountPointEntry\0227\n" +
-      "\tdetach_db\030- \001(\0132$.alluxio.proto.journal" +
-      ".DetachDbEntry\022C\n\017inode_directory\030\t \001(\0132" +
-      "*.alluxio.proto.journal.InodeDirectoryEn" +
-      "try\022[\n\034inode_directory_id_generator\030\n \001(" +
-      "\01325.alluxio.proto.journal.InodeDirectory" +
-      "IdGeneratorEntry\0229\n\ninode_file\030\013 \001(\0132%.a" +
-      "lluxio.proto.journal.InodeFileEntry\022[\n\034i" +
-      "node_last_modification_time\030\014 \001(\01325.allu" +
-      "xio.proto.journal.InodeLastModificationT" +
-      "imeEntry\0227\n\tnew_block\030& \001(\0132$.alluxio.pr" +
-      "oto.journal.NewBlockEntry\022C\n\017path_proper" +
-      "ties\030( \001(\0132*.alluxio.proto.journal.PathP" +
-      "ropertiesEntry\022G\n\021persist_directory\030\017 \001(" +
-      "\0132,.alluxio.proto.journal.PersistDirecto" +
-      "ryEntry\022P\n\026remove_path_properties\030) \001(\0132" +
-      "0.alluxio.proto.journal.RemovePathProper" +
-      "tiesEntry\022L\n\024remove_transform_job\030/ \001(\0132" +
-      "..alluxio.proto.journal.RemoveTransformJ" +
-      "obEntry\022F\n\021remove_sync_point\030! \001(\0132+.all" +
-      "uxio.proto.journal.RemoveSyncPointEntry\022" +
-      "2\n\006rename\030\023 \001(\0132\".alluxio.proto.journal." +
-      "RenameEntry\0223\n\007set_acl\030\037 \001(\0132\".alluxio.p" +
-      "roto.journal.SetAclEntry\022?\n\rset_attribut" +
-      "e\030\033 \001(\0132(.alluxio.proto.journal.SetAttri" +
-      "buteEntry\022?\n\rtransform_job\030. \001(\0132(.allux" +
-      "io.proto.journal.TransformJobEntry\022B\n\017up" +
-      "date_ufs_mode\030\036 \001(\0132).alluxio.proto.jour" +
-      "nal.UpdateUfsModeEntry\022=\n\014update_inode\030#" +
-      " \001(\0132\'.alluxio.proto.journal.UpdateInode" +
-      "Entry\022P\n\026update_inode_directory\030$ \001(\01320." +
-      "alluxio.proto.journal.UpdateInodeDirecto" +
-      "ryEntry\022F\n\021update_inode_file\030% \001(\0132+.all" +
-      "uxio.proto.journal.UpdateInodeFileEntry\022" +
-      "<\n\017journal_entries\030\' \003(\0132#.alluxio.proto" +
-      ".journal.JournalEntryB\027\n\025alluxio.proto.j" +
-      "ournal"
+      "\030proto/journal/file.proto\032\027proto/journal" +
+      "/job.proto\032\030proto/journal/meta.proto\032\031pr" +
+      "oto/journal/table.proto\"\317\025\n\014JournalEntry" +
+      "\022\027\n\017sequence_number\030\001 \001(\003\022E\n\021active_sync" +
+      "_tx_id\030\" \001(\0132*.alluxio.proto.journal.Act" +
+      "iveSyncTxIdEntry\0227\n\tadd_table\030+ \001(\0132$.al" +
+      "luxio.proto.journal.AddTableEntry\022L\n\024add" +
+      "_table_partitions\0300 \001(\0132..alluxio.proto." +
+      "journal.AddTablePartitionsEntry\022@\n\016add_s" +
+      "ync_point\030  \001(\0132(.alluxio.proto.journal." +
+      "AddSyncPointEntry\022B\n\017add_mount_point\030\002 \001" +
+      "(\0132).alluxio.proto.journal.AddMountPoint" +
+      "Entry\022N\n\025async_persist_request\030\020 \001(\0132/.a" +
+      "lluxio.proto.journal.AsyncPersistRequest" +
+      "Entry\0227\n\tattach_db\030, \001(\0132$.alluxio.proto" +
+      ".journal.AttachDbEntry\022[\n\034block_containe" +
+      "r_id_generator\030\003 \001(\01325.alluxio.proto.jou" +
+      "rnal.BlockContainerIdGeneratorEntry\0229\n\nb" +
+      "lock_info\030\004 \001(\0132%.alluxio.proto.journal." +
+      "BlockInfoEntry\022=\n\014cluster_info\030* \001(\0132\'.a" +
+      "lluxio.proto.journal.ClusterInfoEntry\022?\n" +
+      "\rcomplete_file\030\005 \001(\0132(.alluxio.proto.jou" +
+      "rnal.CompleteFileEntry\022=\n\014delete_block\030\035" +
+      " \001(\0132\'.alluxio.proto.journal.DeleteBlock" +
+      "Entry\022;\n\013delete_file\030\006 \001(\0132&.alluxio.pro" +
+      "to.journal.DeleteFileEntry\022H\n\022delete_mou" +
+      "nt_point\030\010 \001(\0132,.alluxio.proto.journal.D" +
+      "eleteMountPointEntry\0227\n\tdetach_db\030- \001(\0132" +
+      "$.alluxio.proto.journal.DetachDbEntry\022=\n" +
+      "\014finished_job\0306 \001(\0132\'.alluxio.proto.jour" +
+      "nal.FinishedJobEntry\022C\n\017inode_directory\030" +
+      "\t \001(\0132*.alluxio.proto.journal.InodeDirec" +
+      "toryEntry\022[\n\034inode_directory_id_generato" +
+      "r\030\n \001(\01325.alluxio.proto.journal.InodeDir" +
+      "ectoryIdGeneratorEntry\0229\n\ninode_file\030\013 \001" +
+      "(\0132%.alluxio.proto.journal.InodeFileEntr" +
+      "y\022[\n\034inode_last_modification_time\030\014 \001(\0132" +
+      "5.alluxio.proto.journal.InodeLastModific" +
+      "ationTimeEntry\0227\n\tnew_block\030& \001(\0132$.allu" +
+      "xio.proto.journal.NewBlockEntry\022C\n\017path_" +
+      "properties\030( \001(\0132*.alluxio.proto.journal" +
+      ".PathPropertiesEntry\022G\n\021persist_director" +
+      "y\030\017 \001(\0132,.alluxio.proto.journal.PersistD" +
+      "irectoryEntry\022P\n\026remove_path_properties\030" +
+      ") \001(\01320.alluxio.proto.journal.RemovePath" +
+      "PropertiesEntry\022=\n\014remove_table\0302 \001(\0132\'." +
+      "alluxio.proto.journal.RemoveTableEntry\022R" +
+      "\n\027remove_table_partitions\0301 \001(\01321.alluxi" +
+      "o.proto.journal.RemoveTablePartitionsEnt" +
+      "ry\022L\n\024remove_transform_job\030/ \001(\0132..allux" +
+      "io.proto.journal.RemoveTransformJobEntry" +
+      "\022F\n\021remove_sync_point\030! \001(\0132+.alluxio.pr" +
+      "oto.journal.RemoveSyncPointEntry\0222\n\006rena" +
+      "me\030\023 \001(\0132\".alluxio.proto.journal.RenameE" +
+      "ntry\0223\n\007set_acl\030\037 \001(\0132\".alluxio.proto.jo" +
+      "urnal.SetAclEntry\022?\n\rset_attribute\030\033 \001(\013" +
+      "2(.alluxio.proto.journal.SetAttributeEnt" +
+      "ry\0227\n\tstart_job\0304 \001(\0132$.alluxio.proto.jo" +
+      "urnal.StartJobEntry\022?\n\rtransform_job\030. \001" +
+      "(\0132(.alluxio.proto.journal.TransformJobE" +
+      "ntry\0229\n\nupdate_job\0305 \001(\0132%.alluxio.proto" +
+      ".journal.UpdateJobEntry\022=\n\014update_table\030" +
+      "3 \001(\0132\'.alluxio.proto.journal.UpdateTabl" +
+      "eEntry\022B\n\017update_ufs_mode\030\036 \001(\0132).alluxi" +
+      "o.proto.journal.UpdateUfsModeEntry\022=\n\014up" +
+      "date_inode\030# \001(\0132\'.alluxio.proto.journal" +
+      ".UpdateInodeEntry\022P\n\026update_inode_direct" +
+      "ory\030$ \001(\01320.alluxio.proto.journal.Update" +
+      "InodeDirectoryEntry\022F\n\021update_inode_file" +
+      "\030% \001(\0132+.alluxio.proto.journal.UpdateIno" +
+      "deFileEntry\022<\n\017journal_entries\030\' \003(\0132#.a" +
+      "lluxio.proto.journal.JournalEntryB\027\n\025all" +
+      "uxio.proto.journal"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -7508,6 +8935,7 @@ public final class Journal {
         new com.google.protobuf.Descriptors.FileDescriptor[] {
           alluxio.proto.journal.Block.getDescriptor(),
           alluxio.proto.journal.File.getDescriptor(),
+          alluxio.proto.journal.Job.getDescriptor(),
           alluxio.proto.journal.Meta.getDescriptor(),
           alluxio.proto.journal.Table.getDescriptor(),
         }, assigner);
@@ -7516,9 +8944,10 @@ public final class Journal {
     internal_static_alluxio_proto_journal_JournalEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_proto_journal_JournalEntry_descriptor,
-        new java.lang.String[] { "SequenceNumber", "ActiveSyncTxId", "AddTable", "AddSyncPoint", "AddMountPoint", "AsyncPersistRequest", "AttachDb", "BlockContainerIdGenerator", "BlockInfo", "ClusterInfo", "CompleteFile", "DeleteBlock", "DeleteFile", "DeleteMountPoint", "DetachDb", "InodeDirectory", "InodeDirectoryIdGenerator", "InodeFile", "InodeLastModificationTime", "NewBlock", "PathProperties", "PersistDirectory", "RemovePathProperties", "RemoveTransformJob", "RemoveSyncPoint", "Rename", "SetAcl", "SetAttribute", "TransformJob", "UpdateUfsMode", "UpdateInode", "UpdateInodeDirectory", "UpdateInodeFile", "JournalEntries", });
+        new java.lang.String[] { "SequenceNumber", "ActiveSyncTxId", "AddTable", "AddTablePartitions", "AddSyncPoint", "AddMountPoint", "AsyncPersistRequest", "AttachDb", "BlockContainerIdGenerator", "BlockInfo", "ClusterInfo", "CompleteFile", "DeleteBlock", "DeleteFile", "DeleteMountPoint", "DetachDb", "FinishedJob", "InodeDirectory", "InodeDirectoryIdGenerator", "InodeFile", "InodeLastModificationTime", "NewBlock", "PathProperties", "PersistDirectory", "RemovePathProperties", "RemoveTable", "RemoveTablePartitions", "RemoveTransformJob", "RemoveSyncPoint", "Rename", "SetAcl", "SetAttribute", "StartJob", "TransformJob", "UpdateJob", "UpdateTable", "UpdateUfsMode", "UpdateInode", "UpdateInodeDirectory", "UpdateInodeFile", "JournalEntries", });
     alluxio.proto.journal.Block.getDescriptor();
     alluxio.proto.journal.File.getDescriptor();
+    alluxio.proto.journal.Job.getDescriptor();
     alluxio.proto.journal.Meta.getDescriptor();
     alluxio.proto.journal.Table.getDescriptor();
   }
@@ -4463,6 +4463,4756 @@ public final class Table {
 
   }
 
+  public interface UpdateTableEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:alluxio.proto.journal.UpdateTableEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    boolean hasDbName();
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    java.lang.String getDbName();
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getDbNameBytes();
+
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    boolean hasTableName();
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    java.lang.String getTableName();
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getTableNameBytes();
+
+    /**
+     * <code>optional string owner = 3;</code>
+     */
+    boolean hasOwner();
+    /**
+     * <code>optional string owner = 3;</code>
+     */
+    java.lang.String getOwner();
+    /**
+     * <code>optional string owner = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getOwnerBytes();
+
+    /**
+     * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+     */
+    boolean hasSchema();
+    /**
+     * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+     */
+    alluxio.grpc.table.Schema getSchema();
+    /**
+     * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+     */
+    alluxio.grpc.table.SchemaOrBuilder getSchemaOrBuilder();
+
+    /**
+     * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+     */
+    boolean hasLayout();
+    /**
+     * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+     */
+    alluxio.grpc.table.Layout getLayout();
+    /**
+     * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+     */
+    alluxio.grpc.table.LayoutOrBuilder getLayoutOrBuilder();
+
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    java.util.List<alluxio.grpc.table.ColumnStatisticsInfo> 
+        getTableStatsList();
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    alluxio.grpc.table.ColumnStatisticsInfo getTableStats(int index);
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    int getTableStatsCount();
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    java.util.List<? extends alluxio.grpc.table.ColumnStatisticsInfoOrBuilder> 
+        getTableStatsOrBuilderList();
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    alluxio.grpc.table.ColumnStatisticsInfoOrBuilder getTableStatsOrBuilder(
+        int index);
+
+    /**
+     * <code>map&lt;string, string&gt; parameters = 7;</code>
+     */
+    int getParametersCount();
+    /**
+     * <code>map&lt;string, string&gt; parameters = 7;</code>
+     */
+    boolean containsParameters(
+        java.lang.String key);
+    /**
+     * Use {@link #getParametersMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getParameters();
+    /**
+     * <code>map&lt;string, string&gt; parameters = 7;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getParametersMap();
+    /**
+     * <code>map&lt;string, string&gt; parameters = 7;</code>
+     */
+
+    java.lang.String getParametersOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue);
+    /**
+     * <code>map&lt;string, string&gt; parameters = 7;</code>
+     */
+
+    java.lang.String getParametersOrThrow(
+        java.lang.String key);
+  }
+  /**
+   * <pre>
+   * next available id: 8
+   * </pre>
+   *
+   * Protobuf type {@code alluxio.proto.journal.UpdateTableEntry}
+   */
+  public  static final class UpdateTableEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:alluxio.proto.journal.UpdateTableEntry)
+      UpdateTableEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UpdateTableEntry.newBuilder() to construct.
+    private UpdateTableEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UpdateTableEntry() {
+      dbName_ = "";
+      tableName_ = "";
+      owner_ = "";
+      tableStats_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UpdateTableEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              dbName_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              tableName_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              owner_ = bs;
+              break;
+            }
+            case 34: {
+              alluxio.grpc.table.Schema.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = schema_.toBuilder();
+              }
+              schema_ = input.readMessage(alluxio.grpc.table.Schema.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(schema_);
+                schema_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+            case 42: {
+              alluxio.grpc.table.Layout.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+                subBuilder = layout_.toBuilder();
+              }
+              layout_ = input.readMessage(alluxio.grpc.table.Layout.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(layout_);
+                layout_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                tableStats_ = new java.util.ArrayList<alluxio.grpc.table.ColumnStatisticsInfo>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              tableStats_.add(
+                  input.readMessage(alluxio.grpc.table.ColumnStatisticsInfo.PARSER, extensionRegistry));
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                parameters_ = com.google.protobuf.MapField.newMapField(
+                    ParametersDefaultEntryHolder.defaultEntry);
+                mutable_bitField0_ |= 0x00000040;
+              }
+              com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+              parameters__ = input.readMessage(
+                  ParametersDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+              parameters_.getMutableMap().put(
+                  parameters__.getKey(), parameters__.getValue());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          tableStats_ = java.util.Collections.unmodifiableList(tableStats_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_UpdateTableEntry_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 7:
+          return internalGetParameters();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_UpdateTableEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.journal.Table.UpdateTableEntry.class, alluxio.proto.journal.Table.UpdateTableEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int DB_NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object dbName_;
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public boolean hasDbName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public java.lang.String getDbName() {
+      java.lang.Object ref = dbName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dbName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDbNameBytes() {
+      java.lang.Object ref = dbName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dbName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TABLE_NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object tableName_;
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public boolean hasTableName() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public java.lang.String getTableName() {
+      java.lang.Object ref = tableName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tableName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTableNameBytes() {
+      java.lang.Object ref = tableName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tableName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OWNER_FIELD_NUMBER = 3;
+    private volatile java.lang.Object owner_;
+    /**
+     * <code>optional string owner = 3;</code>
+     */
+    public boolean hasOwner() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string owner = 3;</code>
+     */
+    public java.lang.String getOwner() {
+      java.lang.Object ref = owner_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          owner_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string owner = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getOwnerBytes() {
+      java.lang.Object ref = owner_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        owner_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SCHEMA_FIELD_NUMBER = 4;
+    private alluxio.grpc.table.Schema schema_;
+    /**
+     * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+     */
+    public boolean hasSchema() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+     */
+    public alluxio.grpc.table.Schema getSchema() {
+      return schema_ == null ? alluxio.grpc.table.Schema.getDefaultInstance() : schema_;
+    }
+    /**
+     * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+     */
+    public alluxio.grpc.table.SchemaOrBuilder getSchemaOrBuilder() {
+      return schema_ == null ? alluxio.grpc.table.Schema.getDefaultInstance() : schema_;
+    }
+
+    public static final int LAYOUT_FIELD_NUMBER = 5;
+    private alluxio.grpc.table.Layout layout_;
+    /**
+     * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+     */
+    public boolean hasLayout() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+     */
+    public alluxio.grpc.table.Layout getLayout() {
+      return layout_ == null ? alluxio.grpc.table.Layout.getDefaultInstance() : layout_;
+    }
+    /**
+     * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+     */
+    public alluxio.grpc.table.LayoutOrBuilder getLayoutOrBuilder() {
+      return layout_ == null ? alluxio.grpc.table.Layout.getDefaultInstance() : layout_;
+    }
+
+    public static final int TABLE_STATS_FIELD_NUMBER = 6;
+    private java.util.List<alluxio.grpc.table.ColumnStatisticsInfo> tableStats_;
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    public java.util.List<alluxio.grpc.table.ColumnStatisticsInfo> getTableStatsList() {
+      return tableStats_;
+    }
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    public java.util.List<? extends alluxio.grpc.table.ColumnStatisticsInfoOrBuilder> 
+        getTableStatsOrBuilderList() {
+      return tableStats_;
+    }
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    public int getTableStatsCount() {
+      return tableStats_.size();
+    }
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    public alluxio.grpc.table.ColumnStatisticsInfo getTableStats(int index) {
+      return tableStats_.get(index);
+    }
+    /**
+     * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+     */
+    public alluxio.grpc.table.ColumnStatisticsInfoOrBuilder getTableStatsOrBuilder(
+        int index) {
+      return tableStats_.get(index);
+    }
+
+    public static final int PARAMETERS_FIELD_NUMBER = 7;
+    private static final class ParametersDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_UpdateTableEntry_ParametersEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> parameters_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetParameters() {
+      if (parameters_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            ParametersDefaultEntryHolder.defaultEntry);
+      }
+      return parameters_;
+    }
+
+    public int getParametersCount() {
+      return internalGetParameters().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; parameters = 7;</code>
+     */
+
+    public boolean containsParameters(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      return internalGetParameters().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getParametersMap()} instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getParameters() {
+      return getParametersMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; parameters = 7;</code>
+     */
+
+    public java.util.Map<java.lang.String, java.lang.String> getParametersMap() {
+      return internalGetParameters().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; parameters = 7;</code>
+     */
+
+    public java.lang.String getParametersOrDefault(
+        java.lang.String key,
+        java.lang.String defaultValue) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetParameters().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; parameters = 7;</code>
+     */
+
+    public java.lang.String getParametersOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new java.lang.NullPointerException(); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetParameters().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (hasLayout()) {
+        if (!getLayout().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getTableStatsCount(); i++) {
+        if (!getTableStats(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, dbName_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, tableName_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, owner_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, getSchema());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(5, getLayout());
+      }
+      for (int i = 0; i < tableStats_.size(); i++) {
+        output.writeMessage(6, tableStats_.get(i));
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetParameters(),
+          ParametersDefaultEntryHolder.defaultEntry,
+          7);
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, dbName_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, tableName_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, owner_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getSchema());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getLayout());
+      }
+      for (int i = 0; i < tableStats_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, tableStats_.get(i));
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetParameters().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        parameters__ = ParametersDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(7, parameters__);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof alluxio.proto.journal.Table.UpdateTableEntry)) {
+        return super.equals(obj);
+      }
+      alluxio.proto.journal.Table.UpdateTableEntry other = (alluxio.proto.journal.Table.UpdateTableEntry) obj;
+
+      boolean result = true;
+      result = result && (hasDbName() == other.hasDbName());
+      if (hasDbName()) {
+        result = result && getDbName()
+            .equals(other.getDbName());
+      }
+      result = result && (hasTableName() == other.hasTableName());
+      if (hasTableName()) {
+        result = result && getTableName()
+            .equals(other.getTableName());
+      }
+      result = result && (hasOwner() == other.hasOwner());
+      if (hasOwner()) {
+        result = result && getOwner()
+            .equals(other.getOwner());
+      }
+      result = result && (hasSchema() == other.hasSchema());
+      if (hasSchema()) {
+        result = result && getSchema()
+            .equals(other.getSchema());
+      }
+      result = result && (hasLayout() == other.hasLayout());
+      if (hasLayout()) {
+        result = result && getLayout()
+            .equals(other.getLayout());
+      }
+      result = result && getTableStatsList()
+          .equals(other.getTableStatsList());
+      result = result && internalGetParameters().equals(
+          other.internalGetParameters());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasDbName()) {
+        hash = (37 * hash) + DB_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getDbName().hashCode();
+      }
+      if (hasTableName()) {
+        hash = (37 * hash) + TABLE_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getTableName().hashCode();
+      }
+      if (hasOwner()) {
+        hash = (37 * hash) + OWNER_FIELD_NUMBER;
+        hash = (53 * hash) + getOwner().hashCode();
+      }
+      if (hasSchema()) {
+        hash = (37 * hash) + SCHEMA_FIELD_NUMBER;
+        hash = (53 * hash) + getSchema().hashCode();
+      }
+      if (hasLayout()) {
+        hash = (37 * hash) + LAYOUT_FIELD_NUMBER;
+        hash = (53 * hash) + getLayout().hashCode();
+      }
+      if (getTableStatsCount() > 0) {
+        hash = (37 * hash) + TABLE_STATS_FIELD_NUMBER;
+        hash = (53 * hash) + getTableStatsList().hashCode();
+      }
+      if (!internalGetParameters().getMap().isEmpty()) {
+        hash = (37 * hash) + PARAMETERS_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetParameters().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.UpdateTableEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(alluxio.proto.journal.Table.UpdateTableEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * next available id: 8
+     * </pre>
+     *
+     * Protobuf type {@code alluxio.proto.journal.UpdateTableEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:alluxio.proto.journal.UpdateTableEntry)
+        alluxio.proto.journal.Table.UpdateTableEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_UpdateTableEntry_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 7:
+            return internalGetParameters();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 7:
+            return internalGetMutableParameters();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_UpdateTableEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.journal.Table.UpdateTableEntry.class, alluxio.proto.journal.Table.UpdateTableEntry.Builder.class);
+      }
+
+      // Construct using alluxio.proto.journal.Table.UpdateTableEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSchemaFieldBuilder();
+          getLayoutFieldBuilder();
+          getTableStatsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        dbName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        tableName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        owner_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (schemaBuilder_ == null) {
+          schema_ = null;
+        } else {
+          schemaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (layoutBuilder_ == null) {
+          layout_ = null;
+        } else {
+          layoutBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (tableStatsBuilder_ == null) {
+          tableStats_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          tableStatsBuilder_.clear();
+        }
+        internalGetMutableParameters().clear();
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_UpdateTableEntry_descriptor;
+      }
+
+      public alluxio.proto.journal.Table.UpdateTableEntry getDefaultInstanceForType() {
+        return alluxio.proto.journal.Table.UpdateTableEntry.getDefaultInstance();
+      }
+
+      public alluxio.proto.journal.Table.UpdateTableEntry build() {
+        alluxio.proto.journal.Table.UpdateTableEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.journal.Table.UpdateTableEntry buildPartial() {
+        alluxio.proto.journal.Table.UpdateTableEntry result = new alluxio.proto.journal.Table.UpdateTableEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.dbName_ = dbName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.tableName_ = tableName_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.owner_ = owner_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (schemaBuilder_ == null) {
+          result.schema_ = schema_;
+        } else {
+          result.schema_ = schemaBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (layoutBuilder_ == null) {
+          result.layout_ = layout_;
+        } else {
+          result.layout_ = layoutBuilder_.build();
+        }
+        if (tableStatsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            tableStats_ = java.util.Collections.unmodifiableList(tableStats_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.tableStats_ = tableStats_;
+        } else {
+          result.tableStats_ = tableStatsBuilder_.build();
+        }
+        result.parameters_ = internalGetParameters();
+        result.parameters_.makeImmutable();
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.journal.Table.UpdateTableEntry) {
+          return mergeFrom((alluxio.proto.journal.Table.UpdateTableEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.journal.Table.UpdateTableEntry other) {
+        if (other == alluxio.proto.journal.Table.UpdateTableEntry.getDefaultInstance()) return this;
+        if (other.hasDbName()) {
+          bitField0_ |= 0x00000001;
+          dbName_ = other.dbName_;
+          onChanged();
+        }
+        if (other.hasTableName()) {
+          bitField0_ |= 0x00000002;
+          tableName_ = other.tableName_;
+          onChanged();
+        }
+        if (other.hasOwner()) {
+          bitField0_ |= 0x00000004;
+          owner_ = other.owner_;
+          onChanged();
+        }
+        if (other.hasSchema()) {
+          mergeSchema(other.getSchema());
+        }
+        if (other.hasLayout()) {
+          mergeLayout(other.getLayout());
+        }
+        if (tableStatsBuilder_ == null) {
+          if (!other.tableStats_.isEmpty()) {
+            if (tableStats_.isEmpty()) {
+              tableStats_ = other.tableStats_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureTableStatsIsMutable();
+              tableStats_.addAll(other.tableStats_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tableStats_.isEmpty()) {
+            if (tableStatsBuilder_.isEmpty()) {
+              tableStatsBuilder_.dispose();
+              tableStatsBuilder_ = null;
+              tableStats_ = other.tableStats_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              tableStatsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getTableStatsFieldBuilder() : null;
+            } else {
+              tableStatsBuilder_.addAllMessages(other.tableStats_);
+            }
+          }
+        }
+        internalGetMutableParameters().mergeFrom(
+            other.internalGetParameters());
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (hasLayout()) {
+          if (!getLayout().isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getTableStatsCount(); i++) {
+          if (!getTableStats(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.journal.Table.UpdateTableEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.journal.Table.UpdateTableEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object dbName_ = "";
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public boolean hasDbName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public java.lang.String getDbName() {
+        java.lang.Object ref = dbName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dbName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDbNameBytes() {
+        java.lang.Object ref = dbName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dbName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder setDbName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dbName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder clearDbName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dbName_ = getDefaultInstance().getDbName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder setDbNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dbName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tableName_ = "";
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public boolean hasTableName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public java.lang.String getTableName() {
+        java.lang.Object ref = tableName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tableName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTableNameBytes() {
+        java.lang.Object ref = tableName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tableName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder setTableName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        tableName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder clearTableName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        tableName_ = getDefaultInstance().getTableName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder setTableNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        tableName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object owner_ = "";
+      /**
+       * <code>optional string owner = 3;</code>
+       */
+      public boolean hasOwner() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string owner = 3;</code>
+       */
+      public java.lang.String getOwner() {
+        java.lang.Object ref = owner_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            owner_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string owner = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getOwnerBytes() {
+        java.lang.Object ref = owner_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          owner_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string owner = 3;</code>
+       */
+      public Builder setOwner(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        owner_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string owner = 3;</code>
+       */
+      public Builder clearOwner() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        owner_ = getDefaultInstance().getOwner();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string owner = 3;</code>
+       */
+      public Builder setOwnerBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        owner_ = value;
+        onChanged();
+        return this;
+      }
+
+      private alluxio.grpc.table.Schema schema_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.grpc.table.Schema, alluxio.grpc.table.Schema.Builder, alluxio.grpc.table.SchemaOrBuilder> schemaBuilder_;
+      /**
+       * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+       */
+      public boolean hasSchema() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+       */
+      public alluxio.grpc.table.Schema getSchema() {
+        if (schemaBuilder_ == null) {
+          return schema_ == null ? alluxio.grpc.table.Schema.getDefaultInstance() : schema_;
+        } else {
+          return schemaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+       */
+      public Builder setSchema(alluxio.grpc.table.Schema value) {
+        if (schemaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          schema_ = value;
+          onChanged();
+        } else {
+          schemaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+       */
+      public Builder setSchema(
+          alluxio.grpc.table.Schema.Builder builderForValue) {
+        if (schemaBuilder_ == null) {
+          schema_ = builderForValue.build();
+          onChanged();
+        } else {
+          schemaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+       */
+      public Builder mergeSchema(alluxio.grpc.table.Schema value) {
+        if (schemaBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              schema_ != null &&
+              schema_ != alluxio.grpc.table.Schema.getDefaultInstance()) {
+            schema_ =
+              alluxio.grpc.table.Schema.newBuilder(schema_).mergeFrom(value).buildPartial();
+          } else {
+            schema_ = value;
+          }
+          onChanged();
+        } else {
+          schemaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+       */
+      public Builder clearSchema() {
+        if (schemaBuilder_ == null) {
+          schema_ = null;
+          onChanged();
+        } else {
+          schemaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+       */
+      public alluxio.grpc.table.Schema.Builder getSchemaBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getSchemaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+       */
+      public alluxio.grpc.table.SchemaOrBuilder getSchemaOrBuilder() {
+        if (schemaBuilder_ != null) {
+          return schemaBuilder_.getMessageOrBuilder();
+        } else {
+          return schema_ == null ?
+              alluxio.grpc.table.Schema.getDefaultInstance() : schema_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Schema schema = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.grpc.table.Schema, alluxio.grpc.table.Schema.Builder, alluxio.grpc.table.SchemaOrBuilder> 
+          getSchemaFieldBuilder() {
+        if (schemaBuilder_ == null) {
+          schemaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.grpc.table.Schema, alluxio.grpc.table.Schema.Builder, alluxio.grpc.table.SchemaOrBuilder>(
+                  getSchema(),
+                  getParentForChildren(),
+                  isClean());
+          schema_ = null;
+        }
+        return schemaBuilder_;
+      }
+
+      private alluxio.grpc.table.Layout layout_ = null;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.grpc.table.Layout, alluxio.grpc.table.Layout.Builder, alluxio.grpc.table.LayoutOrBuilder> layoutBuilder_;
+      /**
+       * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+       */
+      public boolean hasLayout() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+       */
+      public alluxio.grpc.table.Layout getLayout() {
+        if (layoutBuilder_ == null) {
+          return layout_ == null ? alluxio.grpc.table.Layout.getDefaultInstance() : layout_;
+        } else {
+          return layoutBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+       */
+      public Builder setLayout(alluxio.grpc.table.Layout value) {
+        if (layoutBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          layout_ = value;
+          onChanged();
+        } else {
+          layoutBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+       */
+      public Builder setLayout(
+          alluxio.grpc.table.Layout.Builder builderForValue) {
+        if (layoutBuilder_ == null) {
+          layout_ = builderForValue.build();
+          onChanged();
+        } else {
+          layoutBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+       */
+      public Builder mergeLayout(alluxio.grpc.table.Layout value) {
+        if (layoutBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              layout_ != null &&
+              layout_ != alluxio.grpc.table.Layout.getDefaultInstance()) {
+            layout_ =
+              alluxio.grpc.table.Layout.newBuilder(layout_).mergeFrom(value).buildPartial();
+          } else {
+            layout_ = value;
+          }
+          onChanged();
+        } else {
+          layoutBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+       */
+      public Builder clearLayout() {
+        if (layoutBuilder_ == null) {
+          layout_ = null;
+          onChanged();
+        } else {
+          layoutBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+       */
+      public alluxio.grpc.table.Layout.Builder getLayoutBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getLayoutFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+       */
+      public alluxio.grpc.table.LayoutOrBuilder getLayoutOrBuilder() {
+        if (layoutBuilder_ != null) {
+          return layoutBuilder_.getMessageOrBuilder();
+        } else {
+          return layout_ == null ?
+              alluxio.grpc.table.Layout.getDefaultInstance() : layout_;
+        }
+      }
+      /**
+       * <code>optional .alluxio.grpc.table.Layout layout = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          alluxio.grpc.table.Layout, alluxio.grpc.table.Layout.Builder, alluxio.grpc.table.LayoutOrBuilder> 
+          getLayoutFieldBuilder() {
+        if (layoutBuilder_ == null) {
+          layoutBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              alluxio.grpc.table.Layout, alluxio.grpc.table.Layout.Builder, alluxio.grpc.table.LayoutOrBuilder>(
+                  getLayout(),
+                  getParentForChildren(),
+                  isClean());
+          layout_ = null;
+        }
+        return layoutBuilder_;
+      }
+
+      private java.util.List<alluxio.grpc.table.ColumnStatisticsInfo> tableStats_ =
+        java.util.Collections.emptyList();
+      private void ensureTableStatsIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          tableStats_ = new java.util.ArrayList<alluxio.grpc.table.ColumnStatisticsInfo>(tableStats_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          alluxio.grpc.table.ColumnStatisticsInfo, alluxio.grpc.table.ColumnStatisticsInfo.Builder, alluxio.grpc.table.ColumnStatisticsInfoOrBuilder> tableStatsBuilder_;
+
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public java.util.List<alluxio.grpc.table.ColumnStatisticsInfo> getTableStatsList() {
+        if (tableStatsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tableStats_);
+        } else {
+          return tableStatsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public int getTableStatsCount() {
+        if (tableStatsBuilder_ == null) {
+          return tableStats_.size();
+        } else {
+          return tableStatsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public alluxio.grpc.table.ColumnStatisticsInfo getTableStats(int index) {
+        if (tableStatsBuilder_ == null) {
+          return tableStats_.get(index);
+        } else {
+          return tableStatsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public Builder setTableStats(
+          int index, alluxio.grpc.table.ColumnStatisticsInfo value) {
+        if (tableStatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTableStatsIsMutable();
+          tableStats_.set(index, value);
+          onChanged();
+        } else {
+          tableStatsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public Builder setTableStats(
+          int index, alluxio.grpc.table.ColumnStatisticsInfo.Builder builderForValue) {
+        if (tableStatsBuilder_ == null) {
+          ensureTableStatsIsMutable();
+          tableStats_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tableStatsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public Builder addTableStats(alluxio.grpc.table.ColumnStatisticsInfo value) {
+        if (tableStatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTableStatsIsMutable();
+          tableStats_.add(value);
+          onChanged();
+        } else {
+          tableStatsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public Builder addTableStats(
+          int index, alluxio.grpc.table.ColumnStatisticsInfo value) {
+        if (tableStatsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTableStatsIsMutable();
+          tableStats_.add(index, value);
+          onChanged();
+        } else {
+          tableStatsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public Builder addTableStats(
+          alluxio.grpc.table.ColumnStatisticsInfo.Builder builderForValue) {
+        if (tableStatsBuilder_ == null) {
+          ensureTableStatsIsMutable();
+          tableStats_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tableStatsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public Builder addTableStats(
+          int index, alluxio.grpc.table.ColumnStatisticsInfo.Builder builderForValue) {
+        if (tableStatsBuilder_ == null) {
+          ensureTableStatsIsMutable();
+          tableStats_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tableStatsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public Builder addAllTableStats(
+          java.lang.Iterable<? extends alluxio.grpc.table.ColumnStatisticsInfo> values) {
+        if (tableStatsBuilder_ == null) {
+          ensureTableStatsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tableStats_);
+          onChanged();
+        } else {
+          tableStatsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public Builder clearTableStats() {
+        if (tableStatsBuilder_ == null) {
+          tableStats_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          tableStatsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public Builder removeTableStats(int index) {
+        if (tableStatsBuilder_ == null) {
+          ensureTableStatsIsMutable();
+          tableStats_.remove(index);
+          onChanged();
+        } else {
+          tableStatsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public alluxio.grpc.table.ColumnStatisticsInfo.Builder getTableStatsBuilder(
+          int index) {
+        return getTableStatsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public alluxio.grpc.table.ColumnStatisticsInfoOrBuilder getTableStatsOrBuilder(
+          int index) {
+        if (tableStatsBuilder_ == null) {
+          return tableStats_.get(index);  } else {
+          return tableStatsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public java.util.List<? extends alluxio.grpc.table.ColumnStatisticsInfoOrBuilder> 
+           getTableStatsOrBuilderList() {
+        if (tableStatsBuilder_ != null) {
+          return tableStatsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tableStats_);
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public alluxio.grpc.table.ColumnStatisticsInfo.Builder addTableStatsBuilder() {
+        return getTableStatsFieldBuilder().addBuilder(
+            alluxio.grpc.table.ColumnStatisticsInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public alluxio.grpc.table.ColumnStatisticsInfo.Builder addTableStatsBuilder(
+          int index) {
+        return getTableStatsFieldBuilder().addBuilder(
+            index, alluxio.grpc.table.ColumnStatisticsInfo.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.ColumnStatisticsInfo table_stats = 6;</code>
+       */
+      public java.util.List<alluxio.grpc.table.ColumnStatisticsInfo.Builder> 
+           getTableStatsBuilderList() {
+        return getTableStatsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          alluxio.grpc.table.ColumnStatisticsInfo, alluxio.grpc.table.ColumnStatisticsInfo.Builder, alluxio.grpc.table.ColumnStatisticsInfoOrBuilder> 
+          getTableStatsFieldBuilder() {
+        if (tableStatsBuilder_ == null) {
+          tableStatsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              alluxio.grpc.table.ColumnStatisticsInfo, alluxio.grpc.table.ColumnStatisticsInfo.Builder, alluxio.grpc.table.ColumnStatisticsInfoOrBuilder>(
+                  tableStats_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          tableStats_ = null;
+        }
+        return tableStatsBuilder_;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> parameters_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+      internalGetParameters() {
+        if (parameters_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              ParametersDefaultEntryHolder.defaultEntry);
+        }
+        return parameters_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+      internalGetMutableParameters() {
+        onChanged();;
+        if (parameters_ == null) {
+          parameters_ = com.google.protobuf.MapField.newMapField(
+              ParametersDefaultEntryHolder.defaultEntry);
+        }
+        if (!parameters_.isMutable()) {
+          parameters_ = parameters_.copy();
+        }
+        return parameters_;
+      }
+
+      public int getParametersCount() {
+        return internalGetParameters().getMap().size();
+      }
+      /**
+       * <code>map&lt;string, string&gt; parameters = 7;</code>
+       */
+
+      public boolean containsParameters(
+          java.lang.String key) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        return internalGetParameters().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getParametersMap()} instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getParameters() {
+        return getParametersMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; parameters = 7;</code>
+       */
+
+      public java.util.Map<java.lang.String, java.lang.String> getParametersMap() {
+        return internalGetParameters().getMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; parameters = 7;</code>
+       */
+
+      public java.lang.String getParametersOrDefault(
+          java.lang.String key,
+          java.lang.String defaultValue) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetParameters().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <code>map&lt;string, string&gt; parameters = 7;</code>
+       */
+
+      public java.lang.String getParametersOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetParameters().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+
+      public Builder clearParameters() {
+        internalGetMutableParameters().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; parameters = 7;</code>
+       */
+
+      public Builder removeParameters(
+          java.lang.String key) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        internalGetMutableParameters().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+      getMutableParameters() {
+        return internalGetMutableParameters().getMutableMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; parameters = 7;</code>
+       */
+      public Builder putParameters(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new java.lang.NullPointerException(); }
+        if (value == null) { throw new java.lang.NullPointerException(); }
+        internalGetMutableParameters().getMutableMap()
+            .put(key, value);
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; parameters = 7;</code>
+       */
+
+      public Builder putAllParameters(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableParameters().getMutableMap()
+            .putAll(values);
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.UpdateTableEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.journal.UpdateTableEntry)
+    private static final alluxio.proto.journal.Table.UpdateTableEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new alluxio.proto.journal.Table.UpdateTableEntry();
+    }
+
+    public static alluxio.proto.journal.Table.UpdateTableEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<UpdateTableEntry>
+        PARSER = new com.google.protobuf.AbstractParser<UpdateTableEntry>() {
+      public UpdateTableEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UpdateTableEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<UpdateTableEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdateTableEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public alluxio.proto.journal.Table.UpdateTableEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RemoveTableEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:alluxio.proto.journal.RemoveTableEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    boolean hasDbName();
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    java.lang.String getDbName();
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getDbNameBytes();
+
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    boolean hasTableName();
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    java.lang.String getTableName();
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getTableNameBytes();
+  }
+  /**
+   * <pre>
+   * next available id: 3
+   * </pre>
+   *
+   * Protobuf type {@code alluxio.proto.journal.RemoveTableEntry}
+   */
+  public  static final class RemoveTableEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:alluxio.proto.journal.RemoveTableEntry)
+      RemoveTableEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RemoveTableEntry.newBuilder() to construct.
+    private RemoveTableEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RemoveTableEntry() {
+      dbName_ = "";
+      tableName_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RemoveTableEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              dbName_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              tableName_ = bs;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTableEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTableEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.journal.Table.RemoveTableEntry.class, alluxio.proto.journal.Table.RemoveTableEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int DB_NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object dbName_;
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public boolean hasDbName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public java.lang.String getDbName() {
+      java.lang.Object ref = dbName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dbName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDbNameBytes() {
+      java.lang.Object ref = dbName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dbName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TABLE_NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object tableName_;
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public boolean hasTableName() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public java.lang.String getTableName() {
+      java.lang.Object ref = tableName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tableName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTableNameBytes() {
+      java.lang.Object ref = tableName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tableName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, dbName_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, tableName_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, dbName_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, tableName_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof alluxio.proto.journal.Table.RemoveTableEntry)) {
+        return super.equals(obj);
+      }
+      alluxio.proto.journal.Table.RemoveTableEntry other = (alluxio.proto.journal.Table.RemoveTableEntry) obj;
+
+      boolean result = true;
+      result = result && (hasDbName() == other.hasDbName());
+      if (hasDbName()) {
+        result = result && getDbName()
+            .equals(other.getDbName());
+      }
+      result = result && (hasTableName() == other.hasTableName());
+      if (hasTableName()) {
+        result = result && getTableName()
+            .equals(other.getTableName());
+      }
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasDbName()) {
+        hash = (37 * hash) + DB_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getDbName().hashCode();
+      }
+      if (hasTableName()) {
+        hash = (37 * hash) + TABLE_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getTableName().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.RemoveTableEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(alluxio.proto.journal.Table.RemoveTableEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * next available id: 3
+     * </pre>
+     *
+     * Protobuf type {@code alluxio.proto.journal.RemoveTableEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:alluxio.proto.journal.RemoveTableEntry)
+        alluxio.proto.journal.Table.RemoveTableEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTableEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTableEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.journal.Table.RemoveTableEntry.class, alluxio.proto.journal.Table.RemoveTableEntry.Builder.class);
+      }
+
+      // Construct using alluxio.proto.journal.Table.RemoveTableEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        dbName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        tableName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTableEntry_descriptor;
+      }
+
+      public alluxio.proto.journal.Table.RemoveTableEntry getDefaultInstanceForType() {
+        return alluxio.proto.journal.Table.RemoveTableEntry.getDefaultInstance();
+      }
+
+      public alluxio.proto.journal.Table.RemoveTableEntry build() {
+        alluxio.proto.journal.Table.RemoveTableEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.journal.Table.RemoveTableEntry buildPartial() {
+        alluxio.proto.journal.Table.RemoveTableEntry result = new alluxio.proto.journal.Table.RemoveTableEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.dbName_ = dbName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.tableName_ = tableName_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.journal.Table.RemoveTableEntry) {
+          return mergeFrom((alluxio.proto.journal.Table.RemoveTableEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.journal.Table.RemoveTableEntry other) {
+        if (other == alluxio.proto.journal.Table.RemoveTableEntry.getDefaultInstance()) return this;
+        if (other.hasDbName()) {
+          bitField0_ |= 0x00000001;
+          dbName_ = other.dbName_;
+          onChanged();
+        }
+        if (other.hasTableName()) {
+          bitField0_ |= 0x00000002;
+          tableName_ = other.tableName_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.journal.Table.RemoveTableEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.journal.Table.RemoveTableEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object dbName_ = "";
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public boolean hasDbName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public java.lang.String getDbName() {
+        java.lang.Object ref = dbName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dbName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDbNameBytes() {
+        java.lang.Object ref = dbName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dbName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder setDbName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dbName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder clearDbName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dbName_ = getDefaultInstance().getDbName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder setDbNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dbName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tableName_ = "";
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public boolean hasTableName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public java.lang.String getTableName() {
+        java.lang.Object ref = tableName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tableName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTableNameBytes() {
+        java.lang.Object ref = tableName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tableName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder setTableName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        tableName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder clearTableName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        tableName_ = getDefaultInstance().getTableName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder setTableNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        tableName_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.RemoveTableEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.journal.RemoveTableEntry)
+    private static final alluxio.proto.journal.Table.RemoveTableEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new alluxio.proto.journal.Table.RemoveTableEntry();
+    }
+
+    public static alluxio.proto.journal.Table.RemoveTableEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<RemoveTableEntry>
+        PARSER = new com.google.protobuf.AbstractParser<RemoveTableEntry>() {
+      public RemoveTableEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RemoveTableEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RemoveTableEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RemoveTableEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public alluxio.proto.journal.Table.RemoveTableEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AddTablePartitionsEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:alluxio.proto.journal.AddTablePartitionsEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    boolean hasDbName();
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    java.lang.String getDbName();
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getDbNameBytes();
+
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    boolean hasTableName();
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    java.lang.String getTableName();
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getTableNameBytes();
+
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    java.util.List<alluxio.grpc.table.Partition> 
+        getPartitionsList();
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    alluxio.grpc.table.Partition getPartitions(int index);
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    int getPartitionsCount();
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    java.util.List<? extends alluxio.grpc.table.PartitionOrBuilder> 
+        getPartitionsOrBuilderList();
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    alluxio.grpc.table.PartitionOrBuilder getPartitionsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * Adds partitions to a table, replacing any existing partitions with the same specs.
+   * next available id: 4
+   * </pre>
+   *
+   * Protobuf type {@code alluxio.proto.journal.AddTablePartitionsEntry}
+   */
+  public  static final class AddTablePartitionsEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:alluxio.proto.journal.AddTablePartitionsEntry)
+      AddTablePartitionsEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AddTablePartitionsEntry.newBuilder() to construct.
+    private AddTablePartitionsEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AddTablePartitionsEntry() {
+      dbName_ = "";
+      tableName_ = "";
+      partitions_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private AddTablePartitionsEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              dbName_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              tableName_ = bs;
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                partitions_ = new java.util.ArrayList<alluxio.grpc.table.Partition>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              partitions_.add(
+                  input.readMessage(alluxio.grpc.table.Partition.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          partitions_ = java.util.Collections.unmodifiableList(partitions_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_AddTablePartitionsEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_AddTablePartitionsEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.journal.Table.AddTablePartitionsEntry.class, alluxio.proto.journal.Table.AddTablePartitionsEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int DB_NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object dbName_;
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public boolean hasDbName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public java.lang.String getDbName() {
+      java.lang.Object ref = dbName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dbName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDbNameBytes() {
+      java.lang.Object ref = dbName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dbName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TABLE_NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object tableName_;
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public boolean hasTableName() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public java.lang.String getTableName() {
+      java.lang.Object ref = tableName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tableName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTableNameBytes() {
+      java.lang.Object ref = tableName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tableName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PARTITIONS_FIELD_NUMBER = 3;
+    private java.util.List<alluxio.grpc.table.Partition> partitions_;
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    public java.util.List<alluxio.grpc.table.Partition> getPartitionsList() {
+      return partitions_;
+    }
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    public java.util.List<? extends alluxio.grpc.table.PartitionOrBuilder> 
+        getPartitionsOrBuilderList() {
+      return partitions_;
+    }
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    public int getPartitionsCount() {
+      return partitions_.size();
+    }
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    public alluxio.grpc.table.Partition getPartitions(int index) {
+      return partitions_.get(index);
+    }
+    /**
+     * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+     */
+    public alluxio.grpc.table.PartitionOrBuilder getPartitionsOrBuilder(
+        int index) {
+      return partitions_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getPartitionsCount(); i++) {
+        if (!getPartitions(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, dbName_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, tableName_);
+      }
+      for (int i = 0; i < partitions_.size(); i++) {
+        output.writeMessage(3, partitions_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, dbName_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, tableName_);
+      }
+      for (int i = 0; i < partitions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, partitions_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof alluxio.proto.journal.Table.AddTablePartitionsEntry)) {
+        return super.equals(obj);
+      }
+      alluxio.proto.journal.Table.AddTablePartitionsEntry other = (alluxio.proto.journal.Table.AddTablePartitionsEntry) obj;
+
+      boolean result = true;
+      result = result && (hasDbName() == other.hasDbName());
+      if (hasDbName()) {
+        result = result && getDbName()
+            .equals(other.getDbName());
+      }
+      result = result && (hasTableName() == other.hasTableName());
+      if (hasTableName()) {
+        result = result && getTableName()
+            .equals(other.getTableName());
+      }
+      result = result && getPartitionsList()
+          .equals(other.getPartitionsList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasDbName()) {
+        hash = (37 * hash) + DB_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getDbName().hashCode();
+      }
+      if (hasTableName()) {
+        hash = (37 * hash) + TABLE_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getTableName().hashCode();
+      }
+      if (getPartitionsCount() > 0) {
+        hash = (37 * hash) + PARTITIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getPartitionsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(alluxio.proto.journal.Table.AddTablePartitionsEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Adds partitions to a table, replacing any existing partitions with the same specs.
+     * next available id: 4
+     * </pre>
+     *
+     * Protobuf type {@code alluxio.proto.journal.AddTablePartitionsEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:alluxio.proto.journal.AddTablePartitionsEntry)
+        alluxio.proto.journal.Table.AddTablePartitionsEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_AddTablePartitionsEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_AddTablePartitionsEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.journal.Table.AddTablePartitionsEntry.class, alluxio.proto.journal.Table.AddTablePartitionsEntry.Builder.class);
+      }
+
+      // Construct using alluxio.proto.journal.Table.AddTablePartitionsEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPartitionsFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        dbName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        tableName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (partitionsBuilder_ == null) {
+          partitions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          partitionsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_AddTablePartitionsEntry_descriptor;
+      }
+
+      public alluxio.proto.journal.Table.AddTablePartitionsEntry getDefaultInstanceForType() {
+        return alluxio.proto.journal.Table.AddTablePartitionsEntry.getDefaultInstance();
+      }
+
+      public alluxio.proto.journal.Table.AddTablePartitionsEntry build() {
+        alluxio.proto.journal.Table.AddTablePartitionsEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.journal.Table.AddTablePartitionsEntry buildPartial() {
+        alluxio.proto.journal.Table.AddTablePartitionsEntry result = new alluxio.proto.journal.Table.AddTablePartitionsEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.dbName_ = dbName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.tableName_ = tableName_;
+        if (partitionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            partitions_ = java.util.Collections.unmodifiableList(partitions_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.partitions_ = partitions_;
+        } else {
+          result.partitions_ = partitionsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.journal.Table.AddTablePartitionsEntry) {
+          return mergeFrom((alluxio.proto.journal.Table.AddTablePartitionsEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.journal.Table.AddTablePartitionsEntry other) {
+        if (other == alluxio.proto.journal.Table.AddTablePartitionsEntry.getDefaultInstance()) return this;
+        if (other.hasDbName()) {
+          bitField0_ |= 0x00000001;
+          dbName_ = other.dbName_;
+          onChanged();
+        }
+        if (other.hasTableName()) {
+          bitField0_ |= 0x00000002;
+          tableName_ = other.tableName_;
+          onChanged();
+        }
+        if (partitionsBuilder_ == null) {
+          if (!other.partitions_.isEmpty()) {
+            if (partitions_.isEmpty()) {
+              partitions_ = other.partitions_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensurePartitionsIsMutable();
+              partitions_.addAll(other.partitions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.partitions_.isEmpty()) {
+            if (partitionsBuilder_.isEmpty()) {
+              partitionsBuilder_.dispose();
+              partitionsBuilder_ = null;
+              partitions_ = other.partitions_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              partitionsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPartitionsFieldBuilder() : null;
+            } else {
+              partitionsBuilder_.addAllMessages(other.partitions_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getPartitionsCount(); i++) {
+          if (!getPartitions(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.journal.Table.AddTablePartitionsEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.journal.Table.AddTablePartitionsEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object dbName_ = "";
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public boolean hasDbName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public java.lang.String getDbName() {
+        java.lang.Object ref = dbName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dbName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDbNameBytes() {
+        java.lang.Object ref = dbName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dbName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder setDbName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dbName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder clearDbName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dbName_ = getDefaultInstance().getDbName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder setDbNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dbName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tableName_ = "";
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public boolean hasTableName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public java.lang.String getTableName() {
+        java.lang.Object ref = tableName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tableName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTableNameBytes() {
+        java.lang.Object ref = tableName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tableName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder setTableName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        tableName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder clearTableName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        tableName_ = getDefaultInstance().getTableName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder setTableNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        tableName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<alluxio.grpc.table.Partition> partitions_ =
+        java.util.Collections.emptyList();
+      private void ensurePartitionsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          partitions_ = new java.util.ArrayList<alluxio.grpc.table.Partition>(partitions_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          alluxio.grpc.table.Partition, alluxio.grpc.table.Partition.Builder, alluxio.grpc.table.PartitionOrBuilder> partitionsBuilder_;
+
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public java.util.List<alluxio.grpc.table.Partition> getPartitionsList() {
+        if (partitionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(partitions_);
+        } else {
+          return partitionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public int getPartitionsCount() {
+        if (partitionsBuilder_ == null) {
+          return partitions_.size();
+        } else {
+          return partitionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public alluxio.grpc.table.Partition getPartitions(int index) {
+        if (partitionsBuilder_ == null) {
+          return partitions_.get(index);
+        } else {
+          return partitionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public Builder setPartitions(
+          int index, alluxio.grpc.table.Partition value) {
+        if (partitionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartitionsIsMutable();
+          partitions_.set(index, value);
+          onChanged();
+        } else {
+          partitionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public Builder setPartitions(
+          int index, alluxio.grpc.table.Partition.Builder builderForValue) {
+        if (partitionsBuilder_ == null) {
+          ensurePartitionsIsMutable();
+          partitions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          partitionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public Builder addPartitions(alluxio.grpc.table.Partition value) {
+        if (partitionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartitionsIsMutable();
+          partitions_.add(value);
+          onChanged();
+        } else {
+          partitionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public Builder addPartitions(
+          int index, alluxio.grpc.table.Partition value) {
+        if (partitionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePartitionsIsMutable();
+          partitions_.add(index, value);
+          onChanged();
+        } else {
+          partitionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public Builder addPartitions(
+          alluxio.grpc.table.Partition.Builder builderForValue) {
+        if (partitionsBuilder_ == null) {
+          ensurePartitionsIsMutable();
+          partitions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          partitionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public Builder addPartitions(
+          int index, alluxio.grpc.table.Partition.Builder builderForValue) {
+        if (partitionsBuilder_ == null) {
+          ensurePartitionsIsMutable();
+          partitions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          partitionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public Builder addAllPartitions(
+          java.lang.Iterable<? extends alluxio.grpc.table.Partition> values) {
+        if (partitionsBuilder_ == null) {
+          ensurePartitionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, partitions_);
+          onChanged();
+        } else {
+          partitionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public Builder clearPartitions() {
+        if (partitionsBuilder_ == null) {
+          partitions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          partitionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public Builder removePartitions(int index) {
+        if (partitionsBuilder_ == null) {
+          ensurePartitionsIsMutable();
+          partitions_.remove(index);
+          onChanged();
+        } else {
+          partitionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public alluxio.grpc.table.Partition.Builder getPartitionsBuilder(
+          int index) {
+        return getPartitionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public alluxio.grpc.table.PartitionOrBuilder getPartitionsOrBuilder(
+          int index) {
+        if (partitionsBuilder_ == null) {
+          return partitions_.get(index);  } else {
+          return partitionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public java.util.List<? extends alluxio.grpc.table.PartitionOrBuilder> 
+           getPartitionsOrBuilderList() {
+        if (partitionsBuilder_ != null) {
+          return partitionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(partitions_);
+        }
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public alluxio.grpc.table.Partition.Builder addPartitionsBuilder() {
+        return getPartitionsFieldBuilder().addBuilder(
+            alluxio.grpc.table.Partition.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public alluxio.grpc.table.Partition.Builder addPartitionsBuilder(
+          int index) {
+        return getPartitionsFieldBuilder().addBuilder(
+            index, alluxio.grpc.table.Partition.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .alluxio.grpc.table.Partition partitions = 3;</code>
+       */
+      public java.util.List<alluxio.grpc.table.Partition.Builder> 
+           getPartitionsBuilderList() {
+        return getPartitionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          alluxio.grpc.table.Partition, alluxio.grpc.table.Partition.Builder, alluxio.grpc.table.PartitionOrBuilder> 
+          getPartitionsFieldBuilder() {
+        if (partitionsBuilder_ == null) {
+          partitionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              alluxio.grpc.table.Partition, alluxio.grpc.table.Partition.Builder, alluxio.grpc.table.PartitionOrBuilder>(
+                  partitions_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          partitions_ = null;
+        }
+        return partitionsBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.AddTablePartitionsEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.journal.AddTablePartitionsEntry)
+    private static final alluxio.proto.journal.Table.AddTablePartitionsEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new alluxio.proto.journal.Table.AddTablePartitionsEntry();
+    }
+
+    public static alluxio.proto.journal.Table.AddTablePartitionsEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<AddTablePartitionsEntry>
+        PARSER = new com.google.protobuf.AbstractParser<AddTablePartitionsEntry>() {
+      public AddTablePartitionsEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new AddTablePartitionsEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<AddTablePartitionsEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AddTablePartitionsEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public alluxio.proto.journal.Table.AddTablePartitionsEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RemoveTablePartitionsEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:alluxio.proto.journal.RemoveTablePartitionsEntry)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    boolean hasDbName();
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    java.lang.String getDbName();
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getDbNameBytes();
+
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    boolean hasTableName();
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    java.lang.String getTableName();
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getTableNameBytes();
+
+    /**
+     * <code>repeated string partition_specs = 3;</code>
+     */
+    java.util.List<java.lang.String>
+        getPartitionSpecsList();
+    /**
+     * <code>repeated string partition_specs = 3;</code>
+     */
+    int getPartitionSpecsCount();
+    /**
+     * <code>repeated string partition_specs = 3;</code>
+     */
+    java.lang.String getPartitionSpecs(int index);
+    /**
+     * <code>repeated string partition_specs = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getPartitionSpecsBytes(int index);
+  }
+  /**
+   * <pre>
+   * next available id: 4
+   * </pre>
+   *
+   * Protobuf type {@code alluxio.proto.journal.RemoveTablePartitionsEntry}
+   */
+  public  static final class RemoveTablePartitionsEntry extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:alluxio.proto.journal.RemoveTablePartitionsEntry)
+      RemoveTablePartitionsEntryOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RemoveTablePartitionsEntry.newBuilder() to construct.
+    private RemoveTablePartitionsEntry(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RemoveTablePartitionsEntry() {
+      dbName_ = "";
+      tableName_ = "";
+      partitionSpecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RemoveTablePartitionsEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              dbName_ = bs;
+              break;
+            }
+            case 18: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000002;
+              tableName_ = bs;
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                partitionSpecs_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              partitionSpecs_.add(bs);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          partitionSpecs_ = partitionSpecs_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              alluxio.proto.journal.Table.RemoveTablePartitionsEntry.class, alluxio.proto.journal.Table.RemoveTablePartitionsEntry.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int DB_NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object dbName_;
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public boolean hasDbName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public java.lang.String getDbName() {
+      java.lang.Object ref = dbName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dbName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string db_name = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDbNameBytes() {
+      java.lang.Object ref = dbName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dbName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TABLE_NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object tableName_;
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public boolean hasTableName() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public java.lang.String getTableName() {
+      java.lang.Object ref = tableName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tableName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string table_name = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTableNameBytes() {
+      java.lang.Object ref = tableName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tableName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PARTITION_SPECS_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList partitionSpecs_;
+    /**
+     * <code>repeated string partition_specs = 3;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPartitionSpecsList() {
+      return partitionSpecs_;
+    }
+    /**
+     * <code>repeated string partition_specs = 3;</code>
+     */
+    public int getPartitionSpecsCount() {
+      return partitionSpecs_.size();
+    }
+    /**
+     * <code>repeated string partition_specs = 3;</code>
+     */
+    public java.lang.String getPartitionSpecs(int index) {
+      return partitionSpecs_.get(index);
+    }
+    /**
+     * <code>repeated string partition_specs = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getPartitionSpecsBytes(int index) {
+      return partitionSpecs_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, dbName_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, tableName_);
+      }
+      for (int i = 0; i < partitionSpecs_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, partitionSpecs_.getRaw(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, dbName_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, tableName_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < partitionSpecs_.size(); i++) {
+          dataSize += computeStringSizeNoTag(partitionSpecs_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPartitionSpecsList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof alluxio.proto.journal.Table.RemoveTablePartitionsEntry)) {
+        return super.equals(obj);
+      }
+      alluxio.proto.journal.Table.RemoveTablePartitionsEntry other = (alluxio.proto.journal.Table.RemoveTablePartitionsEntry) obj;
+
+      boolean result = true;
+      result = result && (hasDbName() == other.hasDbName());
+      if (hasDbName()) {
+        result = result && getDbName()
+            .equals(other.getDbName());
+      }
+      result = result && (hasTableName() == other.hasTableName());
+      if (hasTableName()) {
+        result = result && getTableName()
+            .equals(other.getTableName());
+      }
+      result = result && getPartitionSpecsList()
+          .equals(other.getPartitionSpecsList());
+      result = result && unknownFields.equals(other.unknownFields);
+      return result;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasDbName()) {
+        hash = (37 * hash) + DB_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getDbName().hashCode();
+      }
+      if (hasTableName()) {
+        hash = (37 * hash) + TABLE_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getTableName().hashCode();
+      }
+      if (getPartitionSpecsCount() > 0) {
+        hash = (37 * hash) + PARTITION_SPECS_FIELD_NUMBER;
+        hash = (53 * hash) + getPartitionSpecsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(alluxio.proto.journal.Table.RemoveTablePartitionsEntry prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * next available id: 4
+     * </pre>
+     *
+     * Protobuf type {@code alluxio.proto.journal.RemoveTablePartitionsEntry}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:alluxio.proto.journal.RemoveTablePartitionsEntry)
+        alluxio.proto.journal.Table.RemoveTablePartitionsEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                alluxio.proto.journal.Table.RemoveTablePartitionsEntry.class, alluxio.proto.journal.Table.RemoveTablePartitionsEntry.Builder.class);
+      }
+
+      // Construct using alluxio.proto.journal.Table.RemoveTablePartitionsEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        dbName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        tableName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        partitionSpecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return alluxio.proto.journal.Table.internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_descriptor;
+      }
+
+      public alluxio.proto.journal.Table.RemoveTablePartitionsEntry getDefaultInstanceForType() {
+        return alluxio.proto.journal.Table.RemoveTablePartitionsEntry.getDefaultInstance();
+      }
+
+      public alluxio.proto.journal.Table.RemoveTablePartitionsEntry build() {
+        alluxio.proto.journal.Table.RemoveTablePartitionsEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public alluxio.proto.journal.Table.RemoveTablePartitionsEntry buildPartial() {
+        alluxio.proto.journal.Table.RemoveTablePartitionsEntry result = new alluxio.proto.journal.Table.RemoveTablePartitionsEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.dbName_ = dbName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.tableName_ = tableName_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          partitionSpecs_ = partitionSpecs_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.partitionSpecs_ = partitionSpecs_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder clone() {
+        return (Builder) super.clone();
+      }
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.setField(field, value);
+      }
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return (Builder) super.clearField(field);
+      }
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return (Builder) super.clearOneof(oneof);
+      }
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return (Builder) super.setRepeatedField(field, index, value);
+      }
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return (Builder) super.addRepeatedField(field, value);
+      }
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof alluxio.proto.journal.Table.RemoveTablePartitionsEntry) {
+          return mergeFrom((alluxio.proto.journal.Table.RemoveTablePartitionsEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(alluxio.proto.journal.Table.RemoveTablePartitionsEntry other) {
+        if (other == alluxio.proto.journal.Table.RemoveTablePartitionsEntry.getDefaultInstance()) return this;
+        if (other.hasDbName()) {
+          bitField0_ |= 0x00000001;
+          dbName_ = other.dbName_;
+          onChanged();
+        }
+        if (other.hasTableName()) {
+          bitField0_ |= 0x00000002;
+          tableName_ = other.tableName_;
+          onChanged();
+        }
+        if (!other.partitionSpecs_.isEmpty()) {
+          if (partitionSpecs_.isEmpty()) {
+            partitionSpecs_ = other.partitionSpecs_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensurePartitionSpecsIsMutable();
+            partitionSpecs_.addAll(other.partitionSpecs_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        alluxio.proto.journal.Table.RemoveTablePartitionsEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (alluxio.proto.journal.Table.RemoveTablePartitionsEntry) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object dbName_ = "";
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public boolean hasDbName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public java.lang.String getDbName() {
+        java.lang.Object ref = dbName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            dbName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDbNameBytes() {
+        java.lang.Object ref = dbName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dbName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder setDbName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dbName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder clearDbName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dbName_ = getDefaultInstance().getDbName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string db_name = 1;</code>
+       */
+      public Builder setDbNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        dbName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tableName_ = "";
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public boolean hasTableName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public java.lang.String getTableName() {
+        java.lang.Object ref = tableName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tableName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTableNameBytes() {
+        java.lang.Object ref = tableName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tableName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder setTableName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        tableName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder clearTableName() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        tableName_ = getDefaultInstance().getTableName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string table_name = 2;</code>
+       */
+      public Builder setTableNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        tableName_ = value;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList partitionSpecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePartitionSpecsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          partitionSpecs_ = new com.google.protobuf.LazyStringArrayList(partitionSpecs_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string partition_specs = 3;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPartitionSpecsList() {
+        return partitionSpecs_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string partition_specs = 3;</code>
+       */
+      public int getPartitionSpecsCount() {
+        return partitionSpecs_.size();
+      }
+      /**
+       * <code>repeated string partition_specs = 3;</code>
+       */
+      public java.lang.String getPartitionSpecs(int index) {
+        return partitionSpecs_.get(index);
+      }
+      /**
+       * <code>repeated string partition_specs = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPartitionSpecsBytes(int index) {
+        return partitionSpecs_.getByteString(index);
+      }
+      /**
+       * <code>repeated string partition_specs = 3;</code>
+       */
+      public Builder setPartitionSpecs(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePartitionSpecsIsMutable();
+        partitionSpecs_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string partition_specs = 3;</code>
+       */
+      public Builder addPartitionSpecs(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePartitionSpecsIsMutable();
+        partitionSpecs_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string partition_specs = 3;</code>
+       */
+      public Builder addAllPartitionSpecs(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePartitionSpecsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, partitionSpecs_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string partition_specs = 3;</code>
+       */
+      public Builder clearPartitionSpecs() {
+        partitionSpecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string partition_specs = 3;</code>
+       */
+      public Builder addPartitionSpecsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePartitionSpecsIsMutable();
+        partitionSpecs_.add(value);
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.RemoveTablePartitionsEntry)
+    }
+
+    // @@protoc_insertion_point(class_scope:alluxio.proto.journal.RemoveTablePartitionsEntry)
+    private static final alluxio.proto.journal.Table.RemoveTablePartitionsEntry DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new alluxio.proto.journal.Table.RemoveTablePartitionsEntry();
+    }
+
+    public static alluxio.proto.journal.Table.RemoveTablePartitionsEntry getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<RemoveTablePartitionsEntry>
+        PARSER = new com.google.protobuf.AbstractParser<RemoveTablePartitionsEntry>() {
+      public RemoveTablePartitionsEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RemoveTablePartitionsEntry(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<RemoveTablePartitionsEntry> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RemoveTablePartitionsEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public alluxio.proto.journal.Table.RemoveTablePartitionsEntry getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   public interface TransformJobEntryOrBuilder extends
       // @@protoc_insertion_point(interface_extends:alluxio.proto.journal.TransformJobEntry)
       com.google.protobuf.MessageOrBuilder {
@@ -6355,6 +11105,31 @@ public final class Table {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_alluxio_proto_journal_AddTableEntry_ParametersEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_journal_UpdateTableEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_proto_journal_UpdateTableEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_journal_UpdateTableEntry_ParametersEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_proto_journal_UpdateTableEntry_ParametersEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_journal_RemoveTableEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_proto_journal_RemoveTableEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_journal_AddTablePartitionsEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_proto_journal_AddTablePartitionsEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_alluxio_proto_journal_TransformJobEntry_descriptor;
   private static final 
@@ -6397,15 +11172,30 @@ public final class Table {
       "lluxio.grpc.table.FieldSchema\0221\n\npartiti" +
       "ons\030\t \003(\0132\035.alluxio.grpc.table.Partition" +
       "\0321\n\017ParametersEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005valu" +
-      "e\030\002 \001(\t:\0028\001\"\376\001\n\021TransformJobEntry\022\017\n\007db_" +
-      "name\030\001 \001(\t\022\022\n\ntable_name\030\002 \001(\t\022\016\n\006job_id" +
-      "\030\003 \001(\003\022]\n\023transformed_layouts\030\004 \003(\0132@.al" +
-      "luxio.proto.journal.TransformJobEntry.Tr" +
-      "ansformedLayoutsEntry\032U\n\027TransformedLayo" +
-      "utsEntry\022\013\n\003key\030\001 \001(\t\022)\n\005value\030\002 \001(\0132\032.a" +
-      "lluxio.grpc.table.Layout:\0028\001\">\n\027RemoveTr" +
-      "ansformJobEntry\022\017\n\007db_name\030\001 \001(\t\022\022\n\ntabl" +
-      "e_name\030\002 \001(\t"
+      "e\030\002 \001(\t:\0028\001\"\335\002\n\020UpdateTableEntry\022\017\n\007db_n" +
+      "ame\030\001 \001(\t\022\022\n\ntable_name\030\002 \001(\t\022\r\n\005owner\030\003" +
+      " \001(\t\022*\n\006schema\030\004 \001(\0132\032.alluxio.grpc.tabl" +
+      "e.Schema\022*\n\006layout\030\005 \001(\0132\032.alluxio.grpc." +
+      "table.Layout\022=\n\013table_stats\030\006 \003(\0132(.allu" +
+      "xio.grpc.table.ColumnStatisticsInfo\022K\n\np" +
+      "arameters\030\007 \003(\01327.alluxio.proto.journal." +
+      "UpdateTableEntry.ParametersEntry\0321\n\017Para" +
+      "metersEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:" +
+      "\0028\001\"7\n\020RemoveTableEntry\022\017\n\007db_name\030\001 \001(\t" +
+      "\022\022\n\ntable_name\030\002 \001(\t\"q\n\027AddTablePartitio" +
+      "nsEntry\022\017\n\007db_name\030\001 \001(\t\022\022\n\ntable_name\030\002" +
+      " \001(\t\0221\n\npartitions\030\003 \003(\0132\035.alluxio.grpc." +
+      "table.Partition\"Z\n\032RemoveTablePartitions" +
+      "Entry\022\017\n\007db_name\030\001 \001(\t\022\022\n\ntable_name\030\002 \001" +
+      "(\t\022\027\n\017partition_specs\030\003 \003(\t\"\376\001\n\021Transfor" +
+      "mJobEntry\022\017\n\007db_name\030\001 \001(\t\022\022\n\ntable_name" +
+      "\030\002 \001(\t\022\016\n\006job_id\030\003 \001(\003\022]\n\023transformed_la" +
+      "youts\030\004 \003(\0132@.alluxio.proto.journal.Tran" +
+      "sformJobEntry.TransformedLayoutsEntry\032U\n" +
+      "\027TransformedLayoutsEntry\022\013\n\003key\030\001 \001(\t\022)\n" +
+      "\005value\030\002 \001(\0132\032.alluxio.grpc.table.Layout" +
+      ":\0028\001\">\n\027RemoveTransformJobEntry\022\017\n\007db_na" +
+      "me\030\001 \001(\t\022\022\n\ntable_name\030\002 \001(\t"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -6450,8 +11240,38 @@ public final class Table {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_proto_journal_AddTableEntry_ParametersEntry_descriptor,
         new java.lang.String[] { "Key", "Value", });
-    internal_static_alluxio_proto_journal_TransformJobEntry_descriptor =
+    internal_static_alluxio_proto_journal_UpdateTableEntry_descriptor =
       getDescriptor().getMessageTypes().get(3);
+    internal_static_alluxio_proto_journal_UpdateTableEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_proto_journal_UpdateTableEntry_descriptor,
+        new java.lang.String[] { "DbName", "TableName", "Owner", "Schema", "Layout", "TableStats", "Parameters", });
+    internal_static_alluxio_proto_journal_UpdateTableEntry_ParametersEntry_descriptor =
+      internal_static_alluxio_proto_journal_UpdateTableEntry_descriptor.getNestedTypes().get(0);
+    internal_static_alluxio_proto_journal_UpdateTableEntry_ParametersEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_proto_journal_UpdateTableEntry_ParametersEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_alluxio_proto_journal_RemoveTableEntry_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_alluxio_proto_journal_RemoveTableEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_proto_journal_RemoveTableEntry_descriptor,
+        new java.lang.String[] { "DbName", "TableName", });
+    internal_static_alluxio_proto_journal_AddTablePartitionsEntry_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_alluxio_proto_journal_AddTablePartitionsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_proto_journal_AddTablePartitionsEntry_descriptor,
+        new java.lang.String[] { "DbName", "TableName", "Partitions", });
+    internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_alluxio_proto_journal_RemoveTablePartitionsEntry_descriptor,
+        new java.lang.String[] { "DbName", "TableName", "PartitionSpecs", });
+    internal_static_alluxio_proto_journal_TransformJobEntry_descriptor =
+      getDescriptor().getMessageTypes().get(7);
     internal_static_alluxio_proto_journal_TransformJobEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_proto_journal_TransformJobEntry_descriptor,
@@ -6463,7 +11283,7 @@ public final class Table {
         internal_static_alluxio_proto_journal_TransformJobEntry_TransformedLayoutsEntry_descriptor,
         new java.lang.String[] { "Key", "Value", });
     internal_static_alluxio_proto_journal_RemoveTransformJobEntry_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_alluxio_proto_journal_RemoveTransformJobEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_alluxio_proto_journal_RemoveTransformJobEntry_descriptor,
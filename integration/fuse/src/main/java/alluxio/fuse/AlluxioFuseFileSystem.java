@@ -19,8 +19,6 @@ import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileOutStream;
 import alluxio.client.file.FileSystem;
 import alluxio.client.file.URIStatus;
-import alluxio.collections.IndexDefinition;
-import alluxio.collections.IndexedSet;
 import alluxio.conf.AlluxioConfiguration;
 import alluxio.conf.InstancedConfiguration;
 import alluxio.conf.PropertyKey;
@@ -65,7 +63,9 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -79,6 +79,8 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
   private static final Logger LOG = LoggerFactory.getLogger(AlluxioFuseFileSystem.class);
   private static final int MAX_OPEN_FILES = Integer.MAX_VALUE;
   private static final int MAX_OPEN_WAITTIME_MS = 5000;
+  /** The initial size of the read buffers of the FUSE threads, the maximum size of FUSE reads. */
+  private static final int READ_BUFFER_SIZE = 128 * Constants.KB;
   /**
    * df command will treat -1 as an unknown value.
    */
@@ -106,23 +108,6 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
   private static final long UID = AlluxioFuseUtils.getUid(System.getProperty("user.name"));
   private static final long GID = AlluxioFuseUtils.getGid(System.getProperty("user.name"));
 
-  // Open file managements
-  private static final IndexDefinition<OpenFileEntry, Long> ID_INDEX =
-      new IndexDefinition<OpenFileEntry, Long>(true) {
-        @Override
-        public Long getFieldValue(OpenFileEntry o) {
-          return o.getId();
-        }
-      };
-
-  private static final IndexDefinition<OpenFileEntry, String> PATH_INDEX =
-      new IndexDefinition<OpenFileEntry, String>(true) {
-        @Override
-        public String getFieldValue(OpenFileEntry o) {
-          return o.getPath();
-        }
-      };
-
   private final boolean mIsUserGroupTranslation;
   private final FileSystem mFileSystem;
   // base path within Alluxio namespace that is used for FUSE operations
@@ -133,10 +118,12 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
   // Keeps a cache of the most recently translated paths from String to Alluxio URI
   private final LoadingCache<String, AlluxioURI> mPathResolverCache;
 
-  // Table of open files with corresponding InputStreams and OutputStreams
-  private final IndexedSet<OpenFileEntry> mOpenFiles;
+  // Table of open files with corresponding InputStreams and OutputStreams, keyed by file handle
+  private final ConcurrentHashMap<Long, OpenFileEntry> mOpenFiles;
+  // Read buffers of the FUSE threads, reused by all their reads
+  private final ThreadLocal<byte[]> mReadBuffers;
 
-  private long mNextOpenFileId;
+  private final AtomicLong mNextOpenFileId;
   private final String mFsName;
 
   /**
@@ -151,8 +138,9 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
     mFsName = conf.get(PropertyKey.FUSE_FS_NAME);
     mFileSystem = fs;
     mAlluxioRootPath = Paths.get(opts.getAlluxioRoot());
-    mNextOpenFileId = 0L;
-    mOpenFiles = new IndexedSet<>(ID_INDEX, PATH_INDEX);
+    mNextOpenFileId = new AtomicLong(0L);
+    mOpenFiles = new ConcurrentHashMap<>();
+    mReadBuffers = ThreadLocal.withInitial(() -> new byte[READ_BUFFER_SIZE]);
 
     final int maxCachedPaths = conf.getInt(PropertyKey.FUSE_CACHED_PATHS_MAX);
     mIsUserGroupTranslation
@@ -306,13 +294,10 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
           CreateFilePOptions.newBuilder()
               .setMode(new alluxio.security.authorization.Mode((short) mode).toProto())
               .build());
-      synchronized (mOpenFiles) {
-        mOpenFiles.add(new OpenFileEntry(mNextOpenFileId, path, null, os));
-        fi.fh.set(mNextOpenFileId);
-
-        // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
-        mNextOpenFileId += 1;
-      }
+      // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
+      long fd = mNextOpenFileId.getAndIncrement();
+      mOpenFiles.put(fd, new OpenFileEntry(fd, path, null, os));
+      fi.fh.set(fd);
       if (gid != GID || uid != UID) {
         LOG.debug("Set attributes of path {} to {}", path, setAttributePOptions);
         mFileSystem.setAttribute(uri, setAttributePOptions);
@@ -345,7 +330,7 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
   public int flush(String path, FuseFileInfo fi) {
     LOG.trace("flush({})", path);
     final long fd = fi.fh.get();
-    OpenFileEntry oe = mOpenFiles.getFirstByField(ID_INDEX, fd);
+    OpenFileEntry oe = mOpenFiles.get(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
@@ -379,7 +364,7 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
       if (!status.isCompleted()) {
         // Always block waiting for file to be completed except when the file is writing
         // We do not want to block the writing process
-        if (!mOpenFiles.contains(PATH_INDEX, path) && !waitForFileCompleted(turi)) {
+        if (!isOpen(path) && !waitForFileCompleted(turi)) {
           LOG.error("File {} is not completed", path);
         }
         status = mFileSystem.getStatus(turi);
@@ -528,12 +513,10 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
       }
 
       FileInStream is = mFileSystem.openFile(uri);
-      synchronized (mOpenFiles) {
-        mOpenFiles.add(new OpenFileEntry(mNextOpenFileId, path, is, null));
-        fi.fh.set(mNextOpenFileId);
-        // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
-        mNextOpenFileId += 1;
-      }
+      // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
+      long fd = mNextOpenFileId.getAndIncrement();
+      mOpenFiles.put(fd, new OpenFileEntry(fd, path, is, null));
+      fi.fh.set(fd);
     } catch (FileDoesNotExistException | InvalidPathException e) {
       LOG.debug("Failed to open file {}, path does not exist or is invalid", path);
       return -ErrorCodes.ENOENT();
@@ -548,6 +531,9 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
   /**
    * Reads data from an open file.
    *
+   * Reads may be issued concurrently on the same file handle, see {@link OpenFileEntry}. The data
+   * is read into a buffer of the calling thread and copied once into the FUSE buffer.
+   *
    * @param path the FS path of the file to read
    * @param buf FUSE buffer to fill with data read
    * @param size how many bytes to read. The maximum value that is accepted
@@ -570,31 +556,22 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("read({}, {}, {})", path, size, offset);
     final int sz = (int) size;
     final long fd = fi.fh.get();
-    OpenFileEntry oe = mOpenFiles.getFirstByField(ID_INDEX, fd);
+    OpenFileEntry oe = mOpenFiles.get(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
     }
 
-    int rd = 0;
-    int nread = 0;
     if (oe.getIn() == null) {
       LOG.error("{} was not open for reading", path);
       return -ErrorCodes.EBADFD();
     }
+    int nread;
     try {
-      oe.getIn().seek(offset);
-      final byte[] dest = new byte[sz];
-      while (rd >= 0 && nread < size) {
-        rd = oe.getIn().read(dest, nread, sz - nread);
-        if (rd >= 0) {
-          nread += rd;
-        }
-      }
-
-      if (nread == -1) { // EOF
-        nread = 0;
-      } else if (nread > 0) {
+      final byte[] dest = getReadBuffer(sz);
+      nread = oe.read(offset, dest, sz,
+          () -> mFileSystem.openFile(mPathResolverCache.getUnchecked(oe.getPath())));
+      if (nread > 0) {
         buf.put(0, dest, 0, nread);
       }
     } catch (Throwable t) {
@@ -654,12 +631,8 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
   @Override
   public int release(String path, FuseFileInfo fi) {
     LOG.trace("release({})", path);
-    OpenFileEntry oe;
     final long fd = fi.fh.get();
-    synchronized (mOpenFiles) {
-      oe = mOpenFiles.getFirstByField(ID_INDEX, fd);
-      mOpenFiles.remove(oe);
-    }
+    OpenFileEntry oe = mOpenFiles.remove(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
@@ -693,9 +666,8 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
     }
     try {
       mFileSystem.rename(oldUri, newUri);
-      synchronized (mOpenFiles) {
-        if (mOpenFiles.contains(PATH_INDEX, oldPath)) {
-          OpenFileEntry oe = mOpenFiles.getFirstByField(PATH_INDEX, oldPath);
+      for (OpenFileEntry oe : mOpenFiles.values()) {
+        if (oe.getPath().equals(oldPath)) {
           oe.setPath(newPath);
         }
       }
@@ -828,7 +800,7 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("write({}, {}, {})", path, size, offset);
     final int sz = (int) size;
     final long fd = fi.fh.get();
-    OpenFileEntry oe = mOpenFiles.getFirstByField(ID_INDEX, fd);
+    OpenFileEntry oe = mOpenFiles.get(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
@@ -880,6 +852,35 @@ public final class AlluxioFuseFileSystem extends FuseStubFS {
     return 0;
   }
 
+  /**
+   * @param path the FS path of a file
+   * @return whether the file is open
+   */
+  private boolean isOpen(String path) {
+    for (OpenFileEntry oe : mOpenFiles.values()) {
+      if (oe.getPath().equals(path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the read buffer of the calling thread, growing it if it is smaller than the given
+   * size.
+   *
+   * @param size the size needed
+   * @return the read buffer of the calling thread
+   */
+  private byte[] getReadBuffer(int size) {
+    byte[] buffer = mReadBuffers.get();
+    if (buffer.length < size) {
+      buffer = new byte[size];
+      mReadBuffers.set(buffer);
+    }
+    return buffer;
+  }
+
   /**
    * Waits for the file to complete before opening it.
    *
@@ -13,14 +13,17 @@ package alluxio.fuse;
 
 import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileOutStream;
+import alluxio.exception.AlluxioException;
 
 import com.google.common.base.Preconditions;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Convenience class to encapsulate input/output streams of open alluxio files.
@@ -31,17 +34,30 @@ import javax.annotation.concurrent.NotThreadSafe;
  *
  * This mechanism is preferred over more complex sub-classing to avoid useless casts or type checks
  * for every read/write call, which happen quite often.
+ *
+ * Reads of a file open for reading may be issued concurrently by several FUSE threads. Since a
+ * {@link FileInStream} cannot be shared, each read borrows one of the idle input streams of the
+ * file, and additional streams are opened when all of them are in use. A read which continues
+ * where the previous read of a stream ended is served by the stream itself, which keeps streaming
+ * the block and reading ahead. Other reads are positioned reads, which leave the position of the
+ * stream untouched for the sequential reader.
  */
-@NotThreadSafe
+@ThreadSafe
 final class OpenFileEntry implements Closeable {
+  /** The maximum number of idle input streams kept open for a file. */
+  private static final int MAX_IDLE_IN_STREAMS = 8;
+
   private final long mId;
   private final FileInStream mIn;
   private final FileOutStream mOut;
+  /** The input streams of the file which are not used by any read. */
+  private final ConcurrentLinkedDeque<Reader> mIdleReaders = new ConcurrentLinkedDeque<>();
 
   // Path is likely to be changed when fuse rename() is called
-  private String mPath;
+  private volatile String mPath;
   /** the next write offset.  */
-  private long mOffset;
+  private volatile long mOffset;
+  private volatile boolean mClosed;
 
   /**
    * Constructs a new {@link OpenFileEntry} for an Alluxio file.
@@ -59,6 +75,9 @@ final class OpenFileEntry implements Closeable {
     mOut = out;
     mPath = path;
     mOffset = -1;
+    if (in != null) {
+      mIdleReaders.add(new Reader(in));
+    }
   }
 
   /**
@@ -121,18 +140,128 @@ final class OpenFileEntry implements Closeable {
     mOffset = offset;
   }
 
+  /**
+   * Reads data of a file open for reading. This method may be called concurrently.
+   *
+   * @param offset the offset in the file of the first byte to read
+   * @param dest the buffer to read into
+   * @param length the number of bytes to read
+   * @param opener opens another input stream of the file when all the streams are in use
+   * @return the number of bytes read, 0 at the end of the file
+   */
+  public int read(long offset, byte[] dest, int length, InStreamOpener opener)
+      throws IOException, AlluxioException {
+    Preconditions.checkState(mIn != null, "File %s is not open for reading", mPath);
+    Reader reader = acquireReader(offset);
+    if (reader == null) {
+      reader = new Reader(opener.open());
+    }
+    try {
+      return reader.read(offset, dest, length);
+    } finally {
+      releaseReader(reader);
+    }
+  }
+
   /**
    * Closes the underlying open streams.
    */
   @Override
   public void close() throws IOException {
-    if (mIn != null) {
-      mIn.close();
+    mClosed = true;
+    IOException exception = null;
+    Reader reader;
+    while ((reader = mIdleReaders.poll()) != null) {
+      try {
+        reader.mIn.close();
+      } catch (IOException e) {
+        exception = e;
+      }
     }
 
     if (mOut != null) {
       mOut.close();
     }
     mOffset = -1;
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  /**
+   * Takes an idle reader, preferring one whose previous read ended at the offset.
+   *
+   * @param offset the offset of the read
+   * @return the reader, or null if all the readers are in use
+   */
+  @Nullable
+  private Reader acquireReader(long offset) {
+    Iterator<Reader> iterator = mIdleReaders.iterator();
+    while (iterator.hasNext()) {
+      Reader reader = iterator.next();
+      if (reader.mNextOffset == offset && mIdleReaders.removeFirstOccurrence(reader)) {
+        return reader;
+      }
+    }
+    return mIdleReaders.pollFirst();
+  }
+
+  private void releaseReader(Reader reader) {
+    if (!mClosed && mIdleReaders.size() < MAX_IDLE_IN_STREAMS) {
+      mIdleReaders.addFirst(reader);
+      // close() may have drained the idle readers before the reader was added back.
+      if (!mClosed || !mIdleReaders.removeFirstOccurrence(reader)) {
+        return;
+      }
+    }
+    try {
+      reader.mIn.close();
+    } catch (IOException e) {
+      // The stream is not needed anymore, and the read already succeeded or failed.
+    }
+  }
+
+  /**
+   * Opens an input stream of the file.
+   */
+  @FunctionalInterface
+  interface InStreamOpener {
+    /**
+     * @return a new input stream of the file
+     */
+    FileInStream open() throws IOException, AlluxioException;
+  }
+
+  /**
+   * An input stream of the file, along with the offset where its previous read ended.
+   */
+  private static final class Reader {
+    private final FileInStream mIn;
+    private long mNextOffset;
+
+    private Reader(FileInStream in) {
+      mIn = in;
+      mNextOffset = in.getPos();
+    }
+
+    private int read(long offset, byte[] dest, int length) throws IOException {
+      boolean sequential = offset == mNextOffset;
+      if (sequential && mIn.getPos() != offset) {
+        // The previous read was a positioned read, and the reader is now reading sequentially
+        // from there, so it switches to streaming.
+        mIn.seek(offset);
+      }
+      int nread = 0;
+      while (nread < length) {
+        int rd = sequential ? mIn.read(dest, nread, length - nread)
+            : mIn.positionedRead(offset + nread, dest, nread, length - nread);
+        if (rd <= 0) {
+          break;
+        }
+        nread += rd;
+      }
+      mNextOffset = offset + nread;
+      return nread;
+    }
   }
 }
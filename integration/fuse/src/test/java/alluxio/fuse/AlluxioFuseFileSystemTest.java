@@ -17,6 +17,8 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doNothing;
@@ -414,6 +416,45 @@ public class AlluxioFuseFileSystemTest {
     assertArrayEquals("Source and dst data should be equal", expected, dst);
   }
 
+  @Test
+  public void readNonSequential() throws Exception {
+    AlluxioURI expectedPath = BASE_EXPECTED_URI.join("/foo/bar");
+    setUpOpenMock(expectedPath);
+
+    FileInStream fakeInStream = mock(FileInStream.class);
+    Answer<Integer> fill = invocationOnMock -> {
+      byte[] myDest = (byte[]) invocationOnMock.getArguments()[1];
+      for (byte i = 0; i < 4; i++) {
+        myDest[i] = (byte) (i + 10);
+      }
+      return 4;
+    };
+    when(fakeInStream.positionedRead(anyLong(), any(byte[].class), anyInt(), anyInt()))
+        .then(fill);
+    when(fakeInStream.read(any(byte[].class), anyInt(), anyInt())).thenReturn(4);
+    when(mFileSystem.openFile(expectedPath)).thenReturn(fakeInStream);
+    mFileInfo.flags.set(O_RDONLY.intValue());
+
+    Runtime r = Runtime.getSystemRuntime();
+    Pointer ptr = r.getMemoryManager().allocateTemporary(4, true);
+    mFuseFs.open("/foo/bar", mFileInfo);
+
+    // a read away from the position of the stream is a positioned read
+    assertEquals(4, mFuseFs.read("/foo/bar", ptr, 4, 100, mFileInfo));
+    verify(fakeInStream).positionedRead(eq(100L), any(byte[].class), eq(0), eq(4));
+    verify(fakeInStream, never()).seek(anyLong());
+    final byte[] dst = new byte[4];
+    ptr.get(0, dst, 0, 4);
+    assertArrayEquals(new byte[] {10, 11, 12, 13}, dst);
+
+    // the next read continues where the positioned read ended, so the stream is used
+    assertEquals(4, mFuseFs.read("/foo/bar", ptr, 4, 104, mFileInfo));
+    verify(fakeInStream).seek(104L);
+    verify(fakeInStream).read(any(byte[].class), eq(0), eq(4));
+    verify(fakeInStream, times(1)).positionedRead(anyLong(), any(byte[].class), anyInt(),
+        anyInt());
+  }
+
   @Test
   public void rename() throws Exception {
     AlluxioURI oldPath = BASE_EXPECTED_URI.join("/old");
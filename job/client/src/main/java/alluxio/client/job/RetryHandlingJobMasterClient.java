@@ -21,7 +21,7 @@ import alluxio.grpc.ListAllPRequest;
 import alluxio.grpc.RunPRequest;
 import alluxio.grpc.ServiceType;
 import alluxio.job.JobConfig;
-import alluxio.job.util.SerializationUtils;
+import alluxio.job.util.JobConfigCodec;
 import alluxio.job.wire.JobInfo;
 import alluxio.job.wire.JobServiceSummary;
 import alluxio.worker.job.JobMasterClientContext;
@@ -109,7 +109,7 @@ public final class RetryHandlingJobMasterClient extends AbstractMasterClient
 
   @Override
   public long run(final JobConfig jobConfig) throws IOException {
-    final ByteString jobConfigStr = ByteString.copyFrom(SerializationUtils.serialize(jobConfig));
+    final ByteString jobConfigStr = ByteString.copyFrom(JobConfigCodec.encode(jobConfig));
     return retryRPC(new RpcCallable<Long>() {
       public Long call() throws StatusRuntimeException {
         return mClient.run(RunPRequest.newBuilder().setJobConfig(jobConfigStr).build()).getJobId();
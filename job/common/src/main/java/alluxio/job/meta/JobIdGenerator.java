@@ -38,4 +38,14 @@ public final class JobIdGenerator {
   public long getNewJobId() {
     return mNextJobId.getAndIncrement();
   }
+
+  /**
+   * Makes sure that the ids generated from now on are greater than the given id, such as the id of
+   * a job restored from the journal.
+   *
+   * @param jobId a job id which is already in use
+   */
+  public void advancePast(long jobId) {
+    mNextJobId.accumulateAndGet(jobId + 1, Math::max);
+  }
 }
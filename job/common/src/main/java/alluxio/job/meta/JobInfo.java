@@ -156,6 +156,18 @@ public final class JobInfo implements Comparable<JobInfo> {
    * @param status the job status
    */
   public void setStatus(Status status) {
+    setStatus(status, CommonUtils.getCurrentMs());
+  }
+
+  /**
+   * Sets the status of a job, as changed at the given time. This is used to restore the status of
+   * a job from the journal.
+   *
+   * @param status the job status
+   * @param statusChangeMs the time when the status changed (in milliseconds)
+   * @see #setStatus(Status)
+   */
+  public void setStatus(Status status, long statusChangeMs) {
     synchronized (this) {
       // this is synchronized to serialize all setStatus calls.
       if (mStatus.isFinished()) {
@@ -163,7 +175,7 @@ public final class JobInfo implements Comparable<JobInfo> {
       }
       Status oldStatus = mStatus;
       mStatus = status;
-      mLastStatusChangeMs = CommonUtils.getCurrentMs();
+      mLastStatusChangeMs = statusChangeMs;
       if (mStatusChangeCallback != null && status != oldStatus) {
         mStatusChangeCallback.accept(this);
       }
@@ -0,0 +1,240 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.job.util;
+
+import alluxio.grpc.CompactJobConfig;
+import alluxio.grpc.CompositeJobConfig;
+import alluxio.grpc.EvictJobConfig;
+import alluxio.grpc.JobConfigMessage;
+import alluxio.grpc.LoadJobConfig;
+import alluxio.grpc.MigrateJobConfig;
+import alluxio.grpc.MoveJobConfig;
+import alluxio.grpc.PersistJobConfig;
+import alluxio.grpc.ReplicateJobConfig;
+import alluxio.job.JobConfig;
+import alluxio.job.composite.CompositeConfig;
+import alluxio.job.load.LoadConfig;
+import alluxio.job.migrate.MigrateConfig;
+import alluxio.job.persist.PersistConfig;
+import alluxio.job.replicate.EvictConfig;
+import alluxio.job.replicate.MoveConfig;
+import alluxio.job.replicate.ReplicateConfig;
+import alluxio.job.transform.CompactConfig;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Encodes job configurations to bytes and decodes them back.
+ *
+ * The configurations of the built-in jobs are encoded as a {@link JobConfigMessage} preceded by
+ * the {@link #SCHEMA_FORMAT} byte, which is much smaller and faster to produce than their Java
+ * serialization. Any other configuration is Java serialized. Decoding accepts both, so that the
+ * configurations sent by older clients or written to older journals can still be read.
+ */
+@ThreadSafe
+public final class JobConfigCodec {
+  /** The first byte of a schema encoded configuration, which never starts a Java stream. */
+  public static final byte SCHEMA_FORMAT = 1;
+
+  private JobConfigCodec() {} // prevent instantiation
+
+  /**
+   * @param config the job configuration
+   * @return the encoded configuration
+   * @throws IOException if the configuration fails to be Java serialized
+   */
+  public static byte[] encode(JobConfig config) throws IOException {
+    JobConfigMessage message = toProto(config);
+    if (message == null) {
+      return SerializationUtils.serialize(config);
+    }
+    byte[] bytes = new byte[1 + message.getSerializedSize()];
+    bytes[0] = SCHEMA_FORMAT;
+    message.writeTo(CodedOutputStream.newInstance(bytes, 1, bytes.length - 1));
+    return bytes;
+  }
+
+  /**
+   * Wrapper around {@link #encode(JobConfig)} which throws a runtime exception with the given
+   * message on failure.
+   *
+   * @param config the job configuration
+   * @param errorMessage the message to show if encoding fails
+   * @return the encoded configuration
+   */
+  public static byte[] encode(JobConfig config, String errorMessage) {
+    try {
+      return encode(config);
+    } catch (IOException e) {
+      throw new RuntimeException(errorMessage, e);
+    }
+  }
+
+  /**
+   * @param bytes the encoded configuration
+   * @return the job configuration
+   * @throws IOException if the bytes are not a valid configuration
+   * @throws ClassNotFoundException if the class of a Java serialized configuration is not found
+   */
+  public static JobConfig decode(byte[] bytes) throws IOException, ClassNotFoundException {
+    if (bytes.length > 0 && bytes[0] == SCHEMA_FORMAT) {
+      return fromProto(JobConfigMessage.parseFrom(
+          ByteString.copyFrom(bytes, 1, bytes.length - 1)));
+    }
+    Object config = SerializationUtils.deserialize(bytes);
+    if (!(config instanceof JobConfig)) {
+      throw new IOException("Expected a job config but got " + config);
+    }
+    return (JobConfig) config;
+  }
+
+  /**
+   * Wrapper around {@link #decode(byte[])} which throws a runtime exception with the given
+   * message on failure.
+   *
+   * @param bytes the encoded configuration
+   * @param errorMessage the message to show if decoding fails
+   * @return the job configuration
+   */
+  public static JobConfig decode(byte[] bytes, String errorMessage) {
+    try {
+      return decode(bytes);
+    } catch (Exception e) {
+      throw new RuntimeException(errorMessage, e);
+    }
+  }
+
+  /**
+   * @param config the job configuration
+   * @return the schema encoding of the configuration, or null if it has no schema
+   */
+  private static JobConfigMessage toProto(JobConfig config) throws IOException {
+    // Subclasses of the built-in configurations may carry more state, so they are Java serialized.
+    Class<?> type = config.getClass();
+    JobConfigMessage.Builder builder = JobConfigMessage.newBuilder();
+    if (type == LoadConfig.class) {
+      LoadConfig load = (LoadConfig) config;
+      builder.setLoad(LoadJobConfig.newBuilder()
+          .setFilePath(load.getFilePath())
+          .setReplication(load.getReplication()));
+    } else if (type == MigrateConfig.class) {
+      MigrateConfig migrate = (MigrateConfig) config;
+      MigrateJobConfig.Builder migrateBuilder = MigrateJobConfig.newBuilder()
+          .setSource(migrate.getSource())
+          .setDestination(migrate.getDestination())
+          .setOverwrite(migrate.isOverwrite())
+          .setDeleteSource(migrate.isDeleteSource());
+      if (migrate.getWriteType() != null) {
+        migrateBuilder.setWriteType(migrate.getWriteType());
+      }
+      builder.setMigrate(migrateBuilder);
+    } else if (type == PersistConfig.class) {
+      PersistConfig persist = (PersistConfig) config;
+      builder.setPersist(PersistJobConfig.newBuilder()
+          .setFilePath(persist.getFilePath())
+          .setMountId(persist.getMountId())
+          .setOverwrite(persist.isOverwrite())
+          .setUfsPath(persist.getUfsPath()));
+    } else if (type == ReplicateConfig.class) {
+      ReplicateConfig replicate = (ReplicateConfig) config;
+      ReplicateJobConfig.Builder replicateBuilder = ReplicateJobConfig.newBuilder()
+          .setBlockId(replicate.getBlockId())
+          .setReplicas(replicate.getReplicas());
+      if (replicate.getPath() != null) {
+        replicateBuilder.setPath(replicate.getPath());
+      }
+      builder.setReplicate(replicateBuilder);
+    } else if (type == EvictConfig.class) {
+      EvictConfig evict = (EvictConfig) config;
+      builder.setEvict(EvictJobConfig.newBuilder()
+          .setBlockId(evict.getBlockId())
+          .setReplicas(evict.getReplicas()));
+    } else if (type == MoveConfig.class) {
+      MoveConfig move = (MoveConfig) config;
+      MoveJobConfig.Builder moveBuilder = MoveJobConfig.newBuilder().setBlockId(move.getBlockId());
+      if (move.getWorkerHost() != null) {
+        moveBuilder.setWorkerHost(move.getWorkerHost());
+      }
+      if (move.getMediumType() != null) {
+        moveBuilder.setMediumType(move.getMediumType());
+      }
+      builder.setMove(moveBuilder);
+    } else if (type == CompactConfig.class) {
+      CompactConfig compact = (CompactConfig) config;
+      builder.setCompact(CompactJobConfig.newBuilder()
+          .setInput(compact.getInput())
+          .setOutput(compact.getOutput())
+          .setDatabaseType(compact.getDatabaseType())
+          .setNumFiles(compact.getNumFiles()));
+    } else if (type == CompositeConfig.class) {
+      CompositeConfig composite = (CompositeConfig) config;
+      CompositeJobConfig.Builder compositeBuilder = CompositeJobConfig.newBuilder()
+          .setSequential(composite.isSequential());
+      for (JobConfig job : composite.getJobs()) {
+        compositeBuilder.addJobs(ByteString.copyFrom(encode(job)));
+      }
+      builder.setComposite(compositeBuilder);
+    } else {
+      return null;
+    }
+    return builder.build();
+  }
+
+  private static JobConfig fromProto(JobConfigMessage message)
+      throws IOException, ClassNotFoundException {
+    switch (message.getConfigCase()) {
+      case LOAD:
+        LoadJobConfig load = message.getLoad();
+        return new LoadConfig(load.getFilePath(), load.getReplication());
+      case MIGRATE:
+        MigrateJobConfig migrate = message.getMigrate();
+        return new MigrateConfig(migrate.getSource(), migrate.getDestination(),
+            migrate.hasWriteType() ? migrate.getWriteType() : null, migrate.getOverwrite(),
+            migrate.getDeleteSource());
+      case PERSIST:
+        PersistJobConfig persist = message.getPersist();
+        return new PersistConfig(persist.getFilePath(), persist.getMountId(),
+            persist.getOverwrite(), persist.getUfsPath());
+      case REPLICATE:
+        ReplicateJobConfig replicate = message.getReplicate();
+        return new ReplicateConfig(replicate.hasPath() ? replicate.getPath() : null,
+            replicate.getBlockId(), replicate.getReplicas());
+      case EVICT:
+        EvictJobConfig evict = message.getEvict();
+        return new EvictConfig(evict.getBlockId(), evict.getReplicas());
+      case MOVE:
+        MoveJobConfig move = message.getMove();
+        return new MoveConfig(move.getBlockId(),
+            move.hasWorkerHost() ? move.getWorkerHost() : null,
+            move.hasMediumType() ? move.getMediumType() : null);
+      case COMPACT:
+        CompactJobConfig compact = message.getCompact();
+        return new CompactConfig(compact.getInput(), compact.getOutput(),
+            compact.getDatabaseType(), compact.getNumFiles());
+      case COMPOSITE:
+        CompositeJobConfig composite = message.getComposite();
+        ArrayList<JobConfig> jobs = new ArrayList<>(composite.getJobsCount());
+        for (ByteString job : composite.getJobsList()) {
+          jobs.add(decode(job.toByteArray()));
+        }
+        return new CompositeConfig(jobs, composite.getSequential());
+      default:
+        throw new IOException("Unknown job config type: " + message.getConfigCase());
+    }
+  }
+}
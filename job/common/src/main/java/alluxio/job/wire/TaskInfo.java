@@ -152,7 +152,10 @@ public class TaskInfo {
 
     alluxio.grpc.TaskInfo.Builder taskInfoBuilder =
         alluxio.grpc.TaskInfo.newBuilder().setJobId(mJobId).setTaskId(mTaskId)
-            .setStatus(mStatus.toProto()).setErrorMessage(mErrorMessage);
+            .setStatus(mStatus.toProto());
+    if (mErrorMessage != null) {
+      taskInfoBuilder.setErrorMessage(mErrorMessage);
+    }
     if (result != null) {
       taskInfoBuilder.setResult(ByteString.copyFrom(result));
     }
@@ -0,0 +1,86 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.job.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.job.JobConfig;
+import alluxio.job.TestJobConfig;
+import alluxio.job.composite.CompositeConfig;
+import alluxio.job.load.LoadConfig;
+import alluxio.job.migrate.MigrateConfig;
+import alluxio.job.persist.PersistConfig;
+import alluxio.job.replicate.EvictConfig;
+import alluxio.job.replicate.MoveConfig;
+import alluxio.job.replicate.ReplicateConfig;
+import alluxio.job.transform.CompactConfig;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests {@link JobConfigCodec}.
+ */
+public final class JobConfigCodecTest {
+  @Test
+  public void builtInConfigs() throws Exception {
+    List<JobConfig> configs = Lists.newArrayList(
+        new LoadConfig("/load", 3),
+        new MigrateConfig("/src", "/dst", "THROUGH", true, false),
+        new MigrateConfig("/src", "/dst", null, false, true),
+        new PersistConfig("/persist", 1L, true, "hdfs://persist"),
+        new ReplicateConfig("/replicate", 2L, 3),
+        new ReplicateConfig(null, 2L, 1),
+        new EvictConfig(3L, 2),
+        new MoveConfig(4L, "host", "SSD"),
+        new MoveConfig(4L, null, null),
+        new CompactConfig("/input", "/output", "hive", 100));
+    for (JobConfig config : configs) {
+      byte[] bytes = JobConfigCodec.encode(config);
+      assertEquals(JobConfigCodec.SCHEMA_FORMAT, bytes[0]);
+      assertTrue(bytes.length < SerializationUtils.serialize(config).length);
+      assertEquals(config, JobConfigCodec.decode(bytes));
+    }
+  }
+
+  @Test
+  public void compositeConfig() throws Exception {
+    ArrayList<JobConfig> jobs = new ArrayList<>();
+    jobs.add(new CompositeConfig(Lists.newArrayList(new LoadConfig("/", 1)), false));
+    jobs.add(new CompactConfig("/input", "/output", "hive", 100));
+    jobs.add(new TestJobConfig("/test"));
+    CompositeConfig config = new CompositeConfig(jobs, true);
+    byte[] bytes = JobConfigCodec.encode(config);
+    assertEquals(JobConfigCodec.SCHEMA_FORMAT, bytes[0]);
+    assertEquals(config, JobConfigCodec.decode(bytes));
+  }
+
+  @Test
+  public void javaSerializedConfigs() throws Exception {
+    // Configs without a schema are Java serialized.
+    TestJobConfig config = new TestJobConfig("/test");
+    byte[] bytes = JobConfigCodec.encode(config);
+    assertArrayEquals(SerializationUtils.serialize(config), bytes);
+    assertEquals(config, JobConfigCodec.decode(bytes));
+
+    // Built-in configs Java serialized by older clients and journals are still decoded.
+    LoadConfig load = new LoadConfig("/load", 1);
+    bytes = SerializationUtils.serialize(load);
+    assertEquals(load, JobConfigCodec.decode(bytes));
+    assertEquals(JobConfigCodec.SCHEMA_FORMAT, JobConfigCodec.encode(load)[0]);
+  }
+}
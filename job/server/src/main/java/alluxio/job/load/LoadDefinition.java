@@ -22,19 +22,17 @@ import alluxio.job.SelectExecutorsContext;
 import alluxio.job.load.LoadDefinition.LoadTask;
 import alluxio.job.util.JobUtils;
 import alluxio.job.util.SerializableVoid;
-import alluxio.job.util.SerializationUtils;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.WorkerInfo;
 
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -75,7 +73,7 @@ public final class LoadDefinition
       }
     }
     // Mapping from worker to block ids which that worker is supposed to load.
-    Multimap<WorkerInfo, LoadTask> assignments = LinkedListMultimap.create();
+    Map<WorkerInfo, ArrayList<LoadTask>> assignments = new LinkedHashMap<>();
     AlluxioURI uri = new AlluxioURI(config.getFilePath());
     for (FileBlockInfo blockInfo : context.getFileSystem().getStatus(uri).getFileBlockInfos()) {
       List<String> workersWithoutBlock = getWorkersWithoutBlock(workers, blockInfo);
@@ -95,10 +93,11 @@ public final class LoadDefinition
       for (int i = 0; i < neededReplicas; i++) {
         String address = workersWithoutBlock.get(i);
         WorkerInfo jobWorker = jobWorkersByAddress.get(address);
-        assignments.put(jobWorker, new LoadTask(blockInfo.getBlockInfo().getBlockId()));
+        assignments.computeIfAbsent(jobWorker, worker -> new ArrayList<>())
+            .add(new LoadTask(blockInfo.getBlockInfo().getBlockId()));
       }
     }
-    return SerializationUtils.makeValuesSerializable(assignments.asMap());
+    return assignments;
   }
 
   /**
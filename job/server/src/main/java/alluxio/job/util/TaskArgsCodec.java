@@ -0,0 +1,97 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.job.util;
+
+import alluxio.grpc.LoadTaskArgs;
+import alluxio.grpc.TaskArgsMessage;
+import alluxio.job.load.LoadDefinition.LoadTask;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Encodes the arguments of the tasks sent to the job workers to bytes and decodes them back.
+ *
+ * The list of blocks to load by a load task is encoded as a packed array of block ids in a
+ * {@link TaskArgsMessage}, preceded by the {@link JobConfigCodec#SCHEMA_FORMAT} byte. Any other
+ * arguments are Java serialized. Decoding accepts both.
+ */
+@ThreadSafe
+public final class TaskArgsCodec {
+  private TaskArgsCodec() {} // prevent instantiation
+
+  /**
+   * @param args the task arguments
+   * @return the encoded arguments, or null if the arguments are null
+   * @throws IOException if the arguments fail to be Java serialized
+   */
+  public static byte[] encode(Object args) throws IOException {
+    TaskArgsMessage message = toProto(args);
+    if (message == null) {
+      return SerializationUtils.serialize(args);
+    }
+    byte[] bytes = new byte[1 + message.getSerializedSize()];
+    bytes[0] = JobConfigCodec.SCHEMA_FORMAT;
+    message.writeTo(CodedOutputStream.newInstance(bytes, 1, bytes.length - 1));
+    return bytes;
+  }
+
+  /**
+   * @param bytes the encoded arguments
+   * @return the task arguments
+   * @throws IOException if the bytes are not valid arguments
+   * @throws ClassNotFoundException if the class of Java serialized arguments is not found
+   */
+  public static Serializable decode(byte[] bytes) throws IOException, ClassNotFoundException {
+    if (bytes.length > 0 && bytes[0] == JobConfigCodec.SCHEMA_FORMAT) {
+      return fromProto(TaskArgsMessage.parseFrom(
+          ByteString.copyFrom(bytes, 1, bytes.length - 1)));
+    }
+    return SerializationUtils.deserialize(bytes);
+  }
+
+  private static TaskArgsMessage toProto(Object args) {
+    if (!(args instanceof List) || ((List<?>) args).isEmpty()) {
+      return null;
+    }
+    List<?> list = (List<?>) args;
+    LoadTaskArgs.Builder load = LoadTaskArgs.newBuilder();
+    for (Object task : list) {
+      if (task == null || task.getClass() != LoadTask.class) {
+        return null;
+      }
+      load.addBlockIds(((LoadTask) task).getBlockId());
+    }
+    return TaskArgsMessage.newBuilder().setLoad(load).build();
+  }
+
+  private static Serializable fromProto(TaskArgsMessage message) throws IOException {
+    switch (message.getArgsCase()) {
+      case LOAD:
+        LoadTaskArgs load = message.getLoad();
+        ArrayList<LoadTask> tasks = new ArrayList<>(load.getBlockIdsCount());
+        for (int i = 0; i < load.getBlockIdsCount(); i++) {
+          tasks.add(new LoadTask(load.getBlockIds(i)));
+        }
+        return tasks;
+      default:
+        throw new IOException("Unknown task args type: " + message.getArgsCase());
+    }
+  }
+}
@@ -0,0 +1,294 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.job;
+
+import alluxio.Constants;
+import alluxio.grpc.JobInfo;
+import alluxio.resource.LockResource;
+import alluxio.util.io.BufferUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.protobuf.InvalidProtocolBufferException;
+import net.jcip.annotations.GuardedBy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The history of finished jobs, kept in the order the jobs finished.
+ *
+ * The status of every finished job is serialized into direct byte buffers, so that the history
+ * of millions of jobs does not live on the heap of the job master. Only an index from job id to
+ * the position of the serialized status is kept on the heap. Jobs are appended when they finish,
+ * and are removed from the oldest one once they are past their retention time, which frees the
+ * buffers holding them.
+ *
+ * Each record is stored as the job id, the time the job finished, the length of the serialized
+ * status and the serialized status itself. A record never spans buffers.
+ */
+@ThreadSafe
+public final class FinishedJobHistory {
+  private static final Logger LOG = LoggerFactory.getLogger(FinishedJobHistory.class);
+  private static final int DEFAULT_SEGMENT_SIZE = 4 * Constants.MB;
+  /** The size of the job id, finish time and length preceding each serialized job status. */
+  private static final int HEADER_SIZE = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+  private final int mSegmentSize;
+  private final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
+
+  /**
+   * The buffers holding the records, from the oldest one. The buffer position is the end of the
+   * records in the buffer.
+   */
+  @GuardedBy("mLock")
+  private final List<ByteBuffer> mSegments = new ArrayList<>();
+  /** The number of the first buffer in {@link #mSegments}, buffer numbers are never reused. */
+  @GuardedBy("mLock")
+  private long mFirstSegment;
+  /** The offset of the oldest record in the first buffer. */
+  @GuardedBy("mLock")
+  private int mHeadOffset;
+
+  /**
+   * The address of the record of every job, as the buffer number in the upper 32 bits and the
+   * offset in the buffer in the lower 32 bits.
+   */
+  private final ConcurrentHashMap<Long, Long> mIndex = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance of {@link FinishedJobHistory}.
+   */
+  public FinishedJobHistory() {
+    this(DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * Creates a new instance of {@link FinishedJobHistory}.
+   *
+   * @param segmentSize the size of the buffers to allocate
+   */
+  public FinishedJobHistory(int segmentSize) {
+    Preconditions.checkArgument(segmentSize > HEADER_SIZE, "segmentSize");
+    mSegmentSize = segmentSize;
+  }
+
+  /**
+   * Adds the status of a finished job. If the job is already in the history, its status is
+   * replaced.
+   *
+   * @param jobInfo the status of the job
+   */
+  public void add(JobInfo jobInfo) {
+    byte[] bytes = jobInfo.toByteArray();
+    int recordSize = HEADER_SIZE + bytes.length;
+    try (LockResource r = new LockResource(mLock.writeLock())) {
+      ByteBuffer segment = mSegments.isEmpty() ? null : mSegments.get(mSegments.size() - 1);
+      if (segment == null || segment.remaining() < recordSize) {
+        segment = ByteBuffer.allocateDirect(Math.max(mSegmentSize, recordSize));
+        mSegments.add(segment);
+      }
+      long address = ((mFirstSegment + mSegments.size() - 1) << 32) | segment.position();
+      segment.putLong(jobInfo.getId());
+      segment.putLong(jobInfo.getLastStatusChangeMs());
+      segment.putInt(bytes.length);
+      segment.put(bytes);
+      mIndex.put(jobInfo.getId(), address);
+    }
+  }
+
+  /**
+   * @param jobId the job id
+   * @return the status of the job, or null if the job is not in the history
+   */
+  @Nullable
+  public JobInfo get(long jobId) {
+    try (LockResource r = new LockResource(mLock.readLock())) {
+      Long address = mIndex.get(jobId);
+      if (address == null) {
+        return null;
+      }
+      return read(address);
+    }
+  }
+
+  /**
+   * @param jobId the job id
+   * @return whether the job is in the history
+   */
+  public boolean contains(long jobId) {
+    return mIndex.containsKey(jobId);
+  }
+
+  /**
+   * @return the ids of the jobs in the history
+   */
+  public Collection<Long> getJobIds() {
+    return Collections.unmodifiableCollection(mIndex.keySet());
+  }
+
+  /**
+   * @return the number of jobs in the history
+   */
+  public int size() {
+    return mIndex.size();
+  }
+
+  /**
+   * Removes jobs from the oldest one, as long as they finished before the given time.
+   *
+   * @param finishedBeforeMs the time before which jobs must have finished to be removed
+   * @param maxCount the maximum number of jobs to remove
+   * @return the number of jobs removed
+   */
+  public int removeFinishedBefore(long finishedBeforeMs, long maxCount) {
+    int removed = 0;
+    try (LockResource r = new LockResource(mLock.writeLock())) {
+      while (!mSegments.isEmpty() && removed < maxCount) {
+        ByteBuffer segment = mSegments.get(0);
+        if (mHeadOffset >= segment.position()) {
+          if (mSegments.size() == 1) {
+            // Keep the last buffer around for the next jobs.
+            break;
+          }
+          mSegments.remove(0);
+          BufferUtils.cleanDirectBuffer(segment);
+          mFirstSegment++;
+          mHeadOffset = 0;
+          continue;
+        }
+        long jobId = segment.getLong(mHeadOffset);
+        long finishMs = segment.getLong(mHeadOffset + Long.BYTES);
+        if (finishMs >= finishedBeforeMs) {
+          break;
+        }
+        // A job which was added again has a newer record, which stays in the history.
+        if (mIndex.remove(jobId, (mFirstSegment << 32) | mHeadOffset)) {
+          removed++;
+        }
+        mHeadOffset += HEADER_SIZE + segment.getInt(mHeadOffset + 2 * Long.BYTES);
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Removes all jobs from the history and frees its buffers.
+   */
+  public void clear() {
+    try (LockResource r = new LockResource(mLock.writeLock())) {
+      mIndex.clear();
+      for (ByteBuffer segment : mSegments) {
+        BufferUtils.cleanDirectBuffer(segment);
+      }
+      mSegments.clear();
+      mFirstSegment = 0;
+      mHeadOffset = 0;
+    }
+  }
+
+  /**
+   * Iterates over the jobs in the history in the order they finished. The iterator is weakly
+   * consistent: it sees jobs added after its creation, and skips jobs removed before it reaches
+   * them.
+   *
+   * @return an iterator over the status of the jobs in the history
+   */
+  public Iterator<JobInfo> iterator() {
+    return new Iterator<JobInfo>() {
+      /** The address of the next record to look at. */
+      private long mNextAddress = -1;
+      private JobInfo mNext;
+
+      @Override
+      public boolean hasNext() {
+        if (mNext == null) {
+          mNext = advance();
+        }
+        return mNext != null;
+      }
+
+      @Override
+      public JobInfo next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        JobInfo next = mNext;
+        mNext = null;
+        return next;
+      }
+
+      private JobInfo advance() {
+        try (LockResource r = new LockResource(mLock.readLock())) {
+          while (!mSegments.isEmpty()) {
+            long segmentNumber = mNextAddress >>> 32;
+            int offset = (int) mNextAddress;
+            if (mNextAddress < 0 || segmentNumber < mFirstSegment
+                || (segmentNumber == mFirstSegment && offset < mHeadOffset)) {
+              // The records up to here were removed, restart from the oldest record.
+              segmentNumber = mFirstSegment;
+              offset = mHeadOffset;
+            }
+            int index = (int) (segmentNumber - mFirstSegment);
+            if (index >= mSegments.size()) {
+              return null;
+            }
+            ByteBuffer segment = mSegments.get(index);
+            if (offset >= segment.position()) {
+              if (index == mSegments.size() - 1) {
+                mNextAddress = (segmentNumber << 32) | offset;
+                return null;
+              }
+              mNextAddress = (segmentNumber + 1) << 32;
+              continue;
+            }
+            long address = (segmentNumber << 32) | offset;
+            long jobId = segment.getLong(offset);
+            mNextAddress = address + HEADER_SIZE + segment.getInt(offset + 2 * Long.BYTES);
+            Long current = mIndex.get(jobId);
+            if (current != null && current == address) {
+              return read(address);
+            }
+          }
+          return null;
+        }
+      }
+    };
+  }
+
+  @GuardedBy("mLock")
+  private JobInfo read(long address) {
+    ByteBuffer segment = mSegments.get((int) ((address >>> 32) - mFirstSegment)).duplicate();
+    int offset = (int) address;
+    int length = segment.getInt(offset + 2 * Long.BYTES);
+    segment.limit(offset + HEADER_SIZE + length);
+    segment.position(offset + HEADER_SIZE);
+    try {
+      return JobInfo.parseFrom(segment);
+    } catch (InvalidProtocolBufferException e) {
+      // The records are only written by this class.
+      LOG.error("Failed to parse the status of job at address {}", address, e);
+      throw new IllegalStateException(e);
+    }
+  }
+}
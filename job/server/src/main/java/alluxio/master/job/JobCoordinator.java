@@ -18,45 +18,67 @@ import alluxio.job.JobDefinitionRegistry;
 import alluxio.job.JobServerContext;
 import alluxio.job.SelectExecutorsContext;
 import alluxio.job.meta.JobInfo;
+import alluxio.job.util.JobConfigCodec;
 import alluxio.job.wire.Status;
 import alluxio.job.wire.TaskInfo;
 import alluxio.master.job.command.CommandManager;
+import alluxio.proto.journal.Job.StartJobEntry;
+import alluxio.proto.journal.Job.UpdateJobEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.wire.WorkerInfo;
 
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * A job coordinator that coordinates the distributed task execution on the worker nodes.
+ *
+ * Every change to the status of the job or of its tasks is written to the journal through the
+ * given {@link JournalEntryWriter}, so that the job can be restored by the next primary job master.
  */
 @ThreadSafe
 public final class JobCoordinator {
   private static final Logger LOG = LoggerFactory.getLogger(JobCoordinator.class);
+  private static final JournalEntryWriter NOOP_JOURNAL_WRITER = entry -> { };
+
   /**
    * Access to mJobInfo should be synchronized in order to avoid inconsistent internal task state.
    */
   private final JobInfo mJobInfo;
+  /** The command manager, null if this coordinator was restored from the journal. */
+  @Nullable
   private final CommandManager mCommandManager;
 
   /** The context containing containing the necessary references to schedule jobs. */
+  @Nullable
   private final JobServerContext mJobServerContext;
 
+  /** The writer for the journal entries of the job. */
+  private final JournalEntryWriter mJournalWriter;
+
   /**
-   * List of all job workers at the time when the job was started. If this coordinator was created
-   * to represent an already-completed job, this list will be empty.
+   * List of all job workers at the time when the job was started. If the job was not started, or
+   * this coordinator was created to represent an already-completed job, this list will be empty.
    */
-  private final List<WorkerInfo> mWorkersInfoList;
+  private List<WorkerInfo> mWorkersInfoList = Collections.emptyList();
   /**
    * Map containing the worker info for every task associated with the coordinated job. If this
    * coordinator was created to represent an already-completed job, this map will be empty.
@@ -67,19 +89,32 @@ public final class JobCoordinator {
    * was created to represent an already-completed job, this map will be empty.
    */
   private final Map<Long, Integer> mWorkerIdToTaskId = Maps.newHashMap();
+  /**
+   * The id of the first task of the job. Task ids are not reused when a job is restarted, so that
+   * the task updates from its previous run are ignored.
+   */
+  private final int mFirstTaskId;
+  /** The id of the next task of the job. */
+  private int mNextTaskId;
+  /** Whether the tasks of the job were started by this coordinator. */
+  private boolean mStarted;
 
-  private JobCoordinator(CommandManager commandManager, JobServerContext jobServerContext,
-      List<WorkerInfo> workerInfoList, Long jobId, JobConfig jobConfig,
-      Consumer<JobInfo> statusChangeCallback) {
+  private JobCoordinator(@Nullable CommandManager commandManager,
+      @Nullable JobServerContext jobServerContext, long jobId, int firstTaskId,
+      JobConfig jobConfig, Consumer<JobInfo> statusChangeCallback,
+      JournalEntryWriter journalWriter) {
     Preconditions.checkNotNull(jobConfig);
     mJobServerContext = jobServerContext;
     mJobInfo = new JobInfo(jobId, jobConfig, statusChangeCallback);
     mCommandManager = commandManager;
-    mWorkersInfoList = workerInfoList;
+    mJournalWriter = Preconditions.checkNotNull(journalWriter, "journalWriter");
+    mFirstTaskId = firstTaskId;
+    mNextTaskId = firstTaskId;
   }
 
   /**
-   * Creates a new instance of the {@link JobCoordinator}.
+   * Creates a new instance of the {@link JobCoordinator} and starts the job, without journaling
+   * the changes to the job.
    *
    * @param commandManager the command manager
    * @param jobServerContext the context with information used to select executors
@@ -94,78 +129,171 @@ public final class JobCoordinator {
       JobServerContext jobServerContext, List<WorkerInfo> workerInfoList, Long jobId,
       JobConfig jobConfig, Consumer<JobInfo> statusChangeCallback)
       throws JobDoesNotExistException {
-    Preconditions.checkNotNull(commandManager, "commandManager");
-    JobCoordinator jobCoordinator = new JobCoordinator(commandManager, jobServerContext,
-        workerInfoList, jobId, jobConfig, statusChangeCallback);
-    jobCoordinator.start();
+    JobCoordinator jobCoordinator = create(commandManager, jobServerContext, jobId, 0, jobConfig,
+        statusChangeCallback, NOOP_JOURNAL_WRITER);
     // start the coordinator, create the tasks
+    jobCoordinator.start(workerInfoList);
     return jobCoordinator;
   }
 
-  private synchronized void start() throws JobDoesNotExistException {
-    // get the job definition
-    LOG.info("Starting job {}", mJobInfo.getJobConfig());
-    JobDefinition<JobConfig, ?, ?> definition =
-        JobDefinitionRegistry.INSTANCE.getJobDefinition(mJobInfo.getJobConfig());
-    SelectExecutorsContext context =
-        new SelectExecutorsContext(mJobInfo.getId(), mJobServerContext);
-    Map<WorkerInfo, ?> taskAddressToArgs;
-    try {
-      taskAddressToArgs =
-          definition.selectExecutors(mJobInfo.getJobConfig(), mWorkersInfoList, context);
-    } catch (Exception e) {
-      LOG.warn("Failed to select executor. {})", e.getMessage());
-      LOG.debug("Exception: ", e);
-      mJobInfo.setStatus(Status.FAILED);
-      mJobInfo.setErrorMessage(e.getMessage());
-      return;
-    }
-    if (taskAddressToArgs.isEmpty()) {
-      LOG.warn("No executor was selected.");
-      updateStatus();
-    }
+  /**
+   * Creates a new instance of the {@link JobCoordinator}. The job is started by
+   * {@link #start(List)}.
+   *
+   * @param commandManager the command manager
+   * @param jobServerContext the context with information used to select executors
+   * @param jobId the job Id
+   * @param firstTaskId the id of the first task of the job
+   * @param jobConfig configuration for the job
+   * @param statusChangeCallback Callback to be called for status changes on the job
+   * @param journalWriter the writer for the journal entries of the job
+   * @return the created coordinator
+   */
+  public static JobCoordinator create(CommandManager commandManager,
+      JobServerContext jobServerContext, long jobId, int firstTaskId, JobConfig jobConfig,
+      Consumer<JobInfo> statusChangeCallback, JournalEntryWriter journalWriter) {
+    Preconditions.checkNotNull(commandManager, "commandManager");
+    return new JobCoordinator(commandManager, jobServerContext, jobId, firstTaskId, jobConfig,
+        statusChangeCallback, journalWriter);
+  }
 
-    for (Entry<WorkerInfo, ?> entry : taskAddressToArgs.entrySet()) {
-      LOG.debug("Selected executor {} with parameters {}.", entry.getKey(), entry.getValue());
-      int taskId = mTaskIdToWorkerInfo.size();
-      // create task
-      mJobInfo.addTask(taskId);
-      // submit commands
-      mCommandManager.submitRunTaskCommand(mJobInfo.getId(), taskId, mJobInfo.getJobConfig(),
-          entry.getValue(), entry.getKey().getId());
-      mTaskIdToWorkerInfo.put(taskId, entry.getKey());
-      mWorkerIdToTaskId.put(entry.getKey().getId(), taskId);
+  /**
+   * Creates a coordinator for a job restored from the journal. The coordinator keeps track of the
+   * status of the job, but cannot start it: a restored job which did not finish is restarted with
+   * a new coordinator.
+   *
+   * @param entry the journal entry which started the job
+   * @param statusChangeCallback Callback to be called for status changes on the job
+   * @param journalWriter the writer for the journal entries of the job
+   * @return the restored coordinator
+   */
+  public static JobCoordinator restore(StartJobEntry entry,
+      Consumer<JobInfo> statusChangeCallback, JournalEntryWriter journalWriter) {
+    JobConfig jobConfig = JobConfigCodec.decode(
+        entry.getJobConfig().toByteArray(), "Failed to deserialize the config of a journaled job");
+    return new JobCoordinator(null, null, entry.getJobId(), entry.getFirstTaskId(), jobConfig,
+        statusChangeCallback, journalWriter);
+  }
+
+  /**
+   * Starts the job, by selecting the workers to run its tasks and sending them the tasks.
+   *
+   * @param workerInfoList the list of workers to use
+   * @throws JobDoesNotExistException when the job definition doesn't exist
+   */
+  public void start(List<WorkerInfo> workerInfoList) throws JobDoesNotExistException {
+    Preconditions.checkState(mCommandManager != null, "Restored jobs cannot be started");
+    synchronized (mJobInfo) {
+      if (mStarted || mJobInfo.getStatus().isFinished()) {
+        // The job was canceled before it could start.
+        return;
+      }
+      mStarted = true;
+      mWorkersInfoList = workerInfoList;
+      // get the job definition
+      LOG.info("Starting job {}", mJobInfo.getJobConfig());
+      JobDefinition<JobConfig, ?, ?> definition =
+          JobDefinitionRegistry.INSTANCE.getJobDefinition(mJobInfo.getJobConfig());
+      SelectExecutorsContext context =
+          new SelectExecutorsContext(mJobInfo.getId(), mJobServerContext);
+      Map<WorkerInfo, ?> taskAddressToArgs;
+      try {
+        taskAddressToArgs =
+            definition.selectExecutors(mJobInfo.getJobConfig(), mWorkersInfoList, context);
+      } catch (Exception e) {
+        LOG.warn("Failed to select executor. {})", e.getMessage());
+        LOG.debug("Exception: ", e);
+        mJobInfo.setErrorMessage(e.getMessage());
+        mJobInfo.setStatus(Status.FAILED);
+        journalUpdate(Collections.emptyList());
+        return;
+      }
+      if (taskAddressToArgs.isEmpty()) {
+        LOG.warn("No executor was selected.");
+        updateStatus();
+      }
+
+      List<TaskInfo> tasks = new ArrayList<>(taskAddressToArgs.size());
+      // The config is the same for all the tasks, so it is only encoded once.
+      ByteString jobConfig = UnsafeByteOperations.unsafeWrap(
+          JobConfigCodec.encode(mJobInfo.getJobConfig(), "Failed to serialize job config"));
+      boolean submitFailed = false;
+      for (Entry<WorkerInfo, ?> entry : taskAddressToArgs.entrySet()) {
+        LOG.debug("Selected executor {} with parameters {}.", entry.getKey(), entry.getValue());
+        int taskId = mNextTaskId++;
+        // create task
+        mJobInfo.addTask(taskId);
+        TaskInfo task = mJobInfo.getTaskInfo(taskId);
+        tasks.add(task);
+        // submit commands
+        try {
+          mCommandManager.submitRunTaskCommand(mJobInfo.getId(), taskId, jobConfig,
+              entry.getValue(), entry.getKey().getId());
+        } catch (IOException e) {
+          LOG.error("Failed to submit task {} of job {}", taskId, mJobInfo.getId(), e);
+          task.setStatus(Status.FAILED)
+              .setErrorMessage("Failed to serialize the task arguments: " + e.getMessage());
+          submitFailed = true;
+        }
+        mTaskIdToWorkerInfo.put(taskId, entry.getKey());
+        mWorkerIdToTaskId.put(entry.getKey().getId(), taskId);
+      }
+      if (submitFailed) {
+        updateStatus();
+      }
+      journalUpdate(tasks);
     }
   }
 
   /**
-   * Cancels the current job.
+   * Cancels the current job. A job which was not started yet is canceled right away.
    */
-  public synchronized void cancel() {
-    for (int taskId : mJobInfo.getTaskIdList()) {
-      mCommandManager.submitCancelTaskCommand(mJobInfo.getId(), taskId,
-          mTaskIdToWorkerInfo.get(taskId).getId());
+  public void cancel() {
+    synchronized (mJobInfo) {
+      if (!mStarted) {
+        if (!mJobInfo.getStatus().isFinished()) {
+          mJobInfo.setStatus(Status.CANCELED);
+          journalUpdate(Collections.emptyList());
+        }
+        return;
+      }
+      for (int taskId : mJobInfo.getTaskIdList()) {
+        mCommandManager.submitCancelTaskCommand(mJobInfo.getId(), taskId,
+            mTaskIdToWorkerInfo.get(taskId).getId());
+      }
     }
   }
 
   /**
-   * Updates internal status with given tasks.
+   * Updates internal status with given tasks. Updates for the tasks of a previous run of a
+   * restarted job are ignored.
    *
    * @param taskInfoList List of @TaskInfo instances to update
    */
   public void updateTasks(List<TaskInfo> taskInfoList) {
     synchronized (mJobInfo) {
+      List<TaskInfo> updated = new ArrayList<>(taskInfoList.size());
       for (TaskInfo taskInfo : taskInfoList) {
+        if (taskInfo.getTaskId() < mFirstTaskId) {
+          LOG.debug("Ignoring update for task {} of a previous run of job {}",
+              taskInfo.getTaskId(), mJobInfo.getId());
+          continue;
+        }
         mJobInfo.setTaskInfo(taskInfo.getTaskId(), taskInfo);
+        updated.add(taskInfo);
+      }
+      if (updated.isEmpty()) {
+        return;
       }
       updateStatus();
+      journalUpdate(updated);
     }
   }
 
   /**
    * @return true if the job is finished
    */
-  public synchronized boolean isJobFinished() {
+  public boolean isJobFinished() {
     return mJobInfo.getStatus().isFinished();
   }
 
@@ -176,6 +304,35 @@ public final class JobCoordinator {
     return mJobInfo.getId();
   }
 
+  /**
+   * @return whether the tasks of the job were started by this coordinator
+   */
+  public boolean isStarted() {
+    synchronized (mJobInfo) {
+      return mStarted;
+    }
+  }
+
+  /**
+   * @return the id to use for the first task of the job if it is restarted
+   */
+  public int getNextTaskId() {
+    synchronized (mJobInfo) {
+      int nextTaskId = mNextTaskId;
+      for (int taskId : mJobInfo.getTaskIdList()) {
+        nextTaskId = Math.max(nextTaskId, taskId + 1);
+      }
+      return nextTaskId;
+    }
+  }
+
+  /**
+   * @return the configuration of the job
+   */
+  public JobConfig getJobConfig() {
+    return mJobInfo.getJobConfig();
+  }
+
   /**
    * Sets the job as failed with given error message.
    *
@@ -184,8 +341,9 @@ public final class JobCoordinator {
   public void setJobAsFailed(String errorMessage) {
     synchronized (mJobInfo) {
       if (!mJobInfo.getStatus().isFinished()) {
-        mJobInfo.setStatus(Status.FAILED);
         mJobInfo.setErrorMessage(errorMessage);
+        mJobInfo.setStatus(Status.FAILED);
+        journalUpdate(Collections.emptyList());
       }
     }
   }
@@ -209,6 +367,7 @@ public final class JobCoordinator {
         taskInfo.setStatus(Status.FAILED);
         taskInfo.setErrorMessage("Job worker was lost before the task could complete");
         updateStatus();
+        journalUpdate(Collections.singletonList(taskInfo));
       }
     }
   }
@@ -216,24 +375,90 @@ public final class JobCoordinator {
   /**
    * @return the on the wire job info for the job being coordinated
    */
-  public synchronized alluxio.job.wire.JobInfo getJobInfoWire() {
-    return new alluxio.job.wire.JobInfo(mJobInfo);
+  public alluxio.job.wire.JobInfo getJobInfoWire() {
+    synchronized (mJobInfo) {
+      return new alluxio.job.wire.JobInfo(mJobInfo);
+    }
+  }
+
+  /**
+   * Applies a journaled update of the job.
+   *
+   * @param entry the journal entry
+   */
+  public void processJournalEntry(UpdateJobEntry entry) {
+    alluxio.grpc.JobInfo update = entry.getJobInfo();
+    synchronized (mJobInfo) {
+      for (alluxio.grpc.TaskInfo task : update.getTaskInfosList()) {
+        try {
+          mJobInfo.setTaskInfo(task.getTaskId(), new TaskInfo(task));
+        } catch (IOException e) {
+          LOG.warn("Failed to restore the result of task {} of job {}: {}", task.getTaskId(),
+              mJobInfo.getId(), e.toString());
+          mJobInfo.setTaskInfo(task.getTaskId(), new TaskInfo().setJobId(mJobInfo.getId())
+              .setTaskId(task.getTaskId()).setStatus(Status.valueOf(task.getStatus().name()))
+              .setErrorMessage(task.getErrorMessage()));
+        }
+      }
+      mJobInfo.setErrorMessage(update.getErrorMessage());
+      if (update.hasResult()) {
+        mJobInfo.setResult(update.getResult());
+      }
+      // Set the status last, since finishing the job hands it over to the status change callback.
+      mJobInfo.setStatus(Status.valueOf(update.getStatus().name()),
+          update.getLastStatusChangeMs());
+    }
+  }
+
+  /**
+   * @return the journal entries representing the job
+   */
+  public List<JournalEntry> getJournalEntries() {
+    synchronized (mJobInfo) {
+      return Arrays.asList(JournalEntry.newBuilder().setStartJob(StartJobEntry.newBuilder()
+              .setJobId(mJobInfo.getId())
+              .setJobConfig(UnsafeByteOperations.unsafeWrap(JobConfigCodec.encode(
+                  mJobInfo.getJobConfig(), "Failed to serialize job config")))
+              .setFirstTaskId(mFirstTaskId)).build(),
+          getUpdateEntry(mJobInfo.getTaskInfoList()));
+    }
+  }
+
+  /**
+   * Writes the changes to the job to the journal.
+   *
+   * @param changedTasks the tasks which changed
+   */
+  private void journalUpdate(List<TaskInfo> changedTasks) {
+    mJournalWriter.writeJournalEntry(getUpdateEntry(changedTasks));
+  }
+
+  private JournalEntry getUpdateEntry(List<TaskInfo> tasks) {
+    alluxio.job.wire.JobInfo jobInfo = new alluxio.job.wire.JobInfo(mJobInfo);
+    jobInfo.setTaskInfoList(tasks);
+    try {
+      return JournalEntry.newBuilder()
+          .setUpdateJob(UpdateJobEntry.newBuilder().setJobInfo(jobInfo.toProto())).build();
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          String.format("Failed to serialize the status of job %d", mJobInfo.getId()), e);
+    }
   }
 
   /**
    * Updates the status of the job. When all the tasks are completed, run the join method in the
    * definition.
    */
-  private synchronized void updateStatus() {
+  private void updateStatus() {
     int completed = 0;
     List<TaskInfo> taskInfoList = mJobInfo.getTaskInfoList();
     for (TaskInfo info : taskInfoList) {
       switch (info.getStatus()) {
         case FAILED:
-          mJobInfo.setStatus(Status.FAILED);
           if (mJobInfo.getErrorMessage().isEmpty()) {
             mJobInfo.setErrorMessage("Task execution failed: " + info.getErrorMessage());
           }
+          mJobInfo.setStatus(Status.FAILED);
           return;
         case CANCELED:
           if (mJobInfo.getStatus() != Status.FAILED) {
@@ -266,8 +491,8 @@ public final class JobCoordinator {
         mJobInfo.setResult(join(taskInfoList));
         mJobInfo.setStatus(Status.COMPLETED);
       } catch (Exception e) {
-        mJobInfo.setStatus(Status.FAILED);
         mJobInfo.setErrorMessage(e.getMessage());
+        mJobInfo.setStatus(Status.FAILED);
       }
     }
   }
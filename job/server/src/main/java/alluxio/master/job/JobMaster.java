@@ -22,6 +22,7 @@ import alluxio.conf.ServerConfiguration;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.JobDoesNotExistException;
 import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.exception.status.UnavailableException;
 import alluxio.grpc.GrpcService;
 import alluxio.grpc.JobCommand;
 import alluxio.grpc.RegisterCommand;
@@ -37,7 +38,10 @@ import alluxio.job.wire.TaskInfo;
 import alluxio.master.AbstractMaster;
 import alluxio.master.MasterContext;
 import alluxio.master.job.command.CommandManager;
-import alluxio.master.journal.NoopJournaled;
+import alluxio.master.journal.DelegatingJournaled;
+import alluxio.master.journal.JournalContext;
+import alluxio.master.journal.Journaled;
+import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.resource.LockResource;
 import alluxio.underfs.UfsManager;
 import alluxio.util.CommonUtils;
@@ -54,9 +58,9 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
@@ -68,7 +72,7 @@ import javax.annotation.concurrent.ThreadSafe;
  * The master that handles all job managing operations.
  */
 @ThreadSafe
-public final class JobMaster extends AbstractMaster implements NoopJournaled {
+public final class JobMaster extends AbstractMaster implements DelegatingJournaled {
   private static final Logger LOG = LoggerFactory.getLogger(JobMaster.class);
 
   /**
@@ -149,19 +153,29 @@ public final class JobMaster extends AbstractMaster implements NoopJournaled {
         ExecutorServiceFactories.cachedThreadPool(Constants.JOB_MASTER_NAME));
     mJobServerContext = new JobServerContext(filesystem, fsContext, ufsManager);
     mCommandManager = new CommandManager();
-    mTracker = new JobTracker(JOB_CAPACITY, RETENTION_MS, MAX_PURGE_COUNT);
+    mTracker = new JobTracker(JOB_CAPACITY, RETENTION_MS, MAX_PURGE_COUNT,
+        this::writeJournalEntry);
   }
 
   @Override
   public void start(Boolean isLeader) throws IOException {
     super.start(isLeader);
-    // Fail any jobs that were still running when the last job master stopped.
-    for (JobCoordinator jobCoordinator : mTracker.coordinators()) {
-      if (!jobCoordinator.isJobFinished()) {
-        jobCoordinator.setJobAsFailed("Job failed: Job master shut down during execution");
-      }
-    }
     if (isLeader) {
+      // Restart the jobs which were still running on the previous primary, once the job workers
+      // had the time to register with this master.
+      long restoreDelayMs = ServerConfiguration.getMs(PropertyKey.JOB_MASTER_JOB_RESTORE_DELAY);
+      getExecutorService().submit(() -> {
+        CommonUtils.sleepMs(restoreDelayMs);
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        int restarted = mTracker.restartJobs(mCommandManager, mJobServerContext,
+            getWorkerInfoList());
+        if (restarted > 0) {
+          LOG.info("Restarted {} jobs which were running on the previous primary job master",
+              restarted);
+        }
+      });
       getExecutorService()
           .submit(new HeartbeatThread(HeartbeatContext.JOB_MASTER_LOST_WORKER_DETECTION,
               new LostWorkerDetectionHeartbeatExecutor(),
@@ -185,6 +199,25 @@ public final class JobMaster extends AbstractMaster implements NoopJournaled {
     return Constants.JOB_MASTER_NAME;
   }
 
+  @Override
+  public Journaled getDelegate() {
+    return mTracker;
+  }
+
+  /**
+   * Writes a journal entry for a change to a job.
+   *
+   * @param entry the journal entry
+   */
+  private void writeJournalEntry(JournalEntry entry) {
+    try (JournalContext context = createJournalContext()) {
+      context.append(entry);
+    } catch (UnavailableException e) {
+      throw new IllegalStateException(
+          String.format("Failed to journal job change: %s", e.getMessage()), e);
+    }
+  }
+
   /**
    * Runs a job with the given configuration.
    *
@@ -193,7 +226,7 @@ public final class JobMaster extends AbstractMaster implements NoopJournaled {
    * @throws JobDoesNotExistException   when the job doesn't exist
    * @throws ResourceExhaustedException if the job master is too busy to run the job
    */
-  public synchronized long run(JobConfig jobConfig)
+  public long run(JobConfig jobConfig)
       throws JobDoesNotExistException, ResourceExhaustedException {
     // This RPC service implementation triggers another RPC.
     // Run the implementation under forked context to avoid interference.
@@ -209,7 +242,7 @@ public final class JobMaster extends AbstractMaster implements NoopJournaled {
   }
 
   /**
-   * Cancels a job.
+   * Cancels a job. Canceling a finished job has no effect.
    *
    * @param jobId the id of the job
    * @throws JobDoesNotExistException when the job does not exist
@@ -217,6 +250,9 @@ public final class JobMaster extends AbstractMaster implements NoopJournaled {
   public void cancel(long jobId) throws JobDoesNotExistException {
     JobCoordinator jobCoordinator = mTracker.getCoordinator(jobId);
     if (jobCoordinator == null) {
+      if (mTracker.isFinished(jobId)) {
+        return;
+      }
       throw new JobDoesNotExistException(ExceptionMessage.JOB_DOES_NOT_EXIST.getMessage(jobId));
     }
     jobCoordinator.cancel();
@@ -237,11 +273,11 @@ public final class JobMaster extends AbstractMaster implements NoopJournaled {
    * @throws JobDoesNotExistException if the job does not exist
    */
   public alluxio.job.wire.JobInfo getStatus(long jobId) throws JobDoesNotExistException {
-    JobCoordinator jobCoordinator = mTracker.getCoordinator(jobId);
-    if (jobCoordinator == null) {
+    alluxio.job.wire.JobInfo jobInfo = mTracker.getJobInfo(jobId);
+    if (jobInfo == null) {
       throw new JobDoesNotExistException(ExceptionMessage.JOB_DOES_NOT_EXIST.getMessage(jobId));
     }
-    return jobCoordinator.getJobInfoWire();
+    return jobInfo;
   }
 
   /**
@@ -250,13 +286,19 @@ public final class JobMaster extends AbstractMaster implements NoopJournaled {
    * @return {@link JobServiceSummary}
    */
   public alluxio.job.wire.JobServiceSummary getSummary() {
-    Collection<JobCoordinator> coordinators = mTracker.coordinators();
-
     List<alluxio.job.wire.JobInfo> jobInfos = new ArrayList<>();
 
-    for (JobCoordinator coordinator : coordinators) {
+    for (JobCoordinator coordinator : mTracker.coordinators()) {
       jobInfos.add(coordinator.getJobInfoWire());
     }
+    Iterator<alluxio.grpc.JobInfo> finishedJobs = mTracker.finishedJobs();
+    while (finishedJobs.hasNext()) {
+      try {
+        jobInfos.add(new alluxio.job.wire.JobInfo(finishedJobs.next()));
+      } catch (IOException e) {
+        LOG.warn("Failed to deserialize the status of a finished job: {}", e.toString());
+      }
+    }
 
     return new JobServiceSummary(jobInfos);
   }
@@ -24,8 +24,7 @@ import alluxio.grpc.ListAllPRequest;
 import alluxio.grpc.ListAllPResponse;
 import alluxio.grpc.RunPRequest;
 import alluxio.grpc.RunPResponse;
-import alluxio.job.JobConfig;
-import alluxio.job.util.SerializationUtils;
+import alluxio.job.util.JobConfigCodec;
 
 import com.google.common.base.Preconditions;
 import io.grpc.stub.StreamObserver;
@@ -90,7 +89,7 @@ public class JobMasterClientServiceHandler
       try {
         byte[] jobConfigBytes = request.getJobConfig().toByteArray();
         return RunPResponse.newBuilder()
-            .setJobId(mJobMaster.run((JobConfig) SerializationUtils.deserialize(jobConfigBytes)))
+            .setJobId(mJobMaster.run(JobConfigCodec.decode(jobConfigBytes)))
             .build();
       } catch (ClassNotFoundException e) {
         throw new InvalidArgumentException(e);
@@ -17,24 +17,38 @@ import alluxio.exception.ExceptionMessage;
 import alluxio.exception.JobDoesNotExistException;
 import alluxio.exception.status.ResourceExhaustedException;
 import alluxio.job.JobConfig;
+import alluxio.job.JobDefinitionRegistry;
 import alluxio.job.JobServerContext;
 import alluxio.job.meta.JobIdGenerator;
 import alluxio.job.meta.JobInfo;
+import alluxio.job.util.JobConfigCodec;
 import alluxio.job.wire.Status;
 import alluxio.master.job.command.CommandManager;
+import alluxio.master.journal.Journaled;
+import alluxio.master.journal.checkpoint.CheckpointName;
+import alluxio.proto.journal.Job.FinishedJobEntry;
+import alluxio.proto.journal.Job.StartJobEntry;
+import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.util.CommonUtils;
 import alluxio.wire.WorkerInfo;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+import com.google.protobuf.UnsafeByteOperations;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
@@ -43,9 +57,15 @@ import javax.annotation.Nullable;
  * scheduled or finished jobs.
  *
  * All modification of the status of jobs should occur within this class,
+ *
+ * Jobs are submitted without a global lock: the capacity is reserved with an atomic counter, and
+ * the new jobs are started from a lock-free queue by whichever submitting thread gets to drain it.
+ * Once a job finishes, its coordinator is dropped and its status moves to the off-heap
+ * {@link FinishedJobHistory}. The jobs and their tasks are journaled, so that the jobs which were
+ * running on a failed primary job master are restarted by the next primary.
  */
 @ThreadSafe
-public class JobTracker {
+public class JobTracker implements Journaled {
   private static final Logger LOG = LoggerFactory.getLogger(JobTracker.class);
 
   /**
@@ -74,28 +94,54 @@ public class JobTracker {
   /** Used to generate Id for new jobs. */
   private final JobIdGenerator mJobIdGenerator;
 
-  /** The main index to track jobs through their Job Id. */
+  /** The writer for the journal entries of the jobs. */
+  private final JournalEntryWriter mJournalWriter;
+
+  /** The coordinators of the jobs which did not finish, by job id. */
   private final ConcurrentHashMap<Long, JobCoordinator> mCoordinators;
 
-  /** A FIFO queue used to track jobs which have status {@link Status#isFinished()} as true. */
-  private final LinkedBlockingQueue<JobInfo> mFinished;
+  /** The jobs which have status {@link Status#isFinished()} as true, in the order they finished. */
+  private final FinishedJobHistory mFinished;
+
+  /** The number of tracked jobs, including finished ones, used to reserve capacity for jobs. */
+  private final AtomicLong mNumJobs = new AtomicLong();
+
+  /** The jobs waiting to be started, with the workers to start them with. */
+  private final ConcurrentLinkedQueue<PendingJob> mPendingJobs = new ConcurrentLinkedQueue<>();
+
+  /** Whether a thread is starting the pending jobs. */
+  private final AtomicBoolean mStartingJobs = new AtomicBoolean();
 
   /**
-   * Create a new instance of {@link JobTracker}.
+   * Create a new instance of {@link JobTracker} which does not journal the jobs.
    *
    * @param capacity the capacity of jobs that can be handled
    * @param retentionMs the minimum amount of time to retain jobs
    * @param maxJobPurgeCount the max amount of jobs to purge when reaching max capacity
    */
   public JobTracker(long capacity, long retentionMs, long maxJobPurgeCount) {
+    this(capacity, retentionMs, maxJobPurgeCount, entry -> { });
+  }
+
+  /**
+   * Create a new instance of {@link JobTracker}.
+   *
+   * @param capacity the capacity of jobs that can be handled
+   * @param retentionMs the minimum amount of time to retain jobs
+   * @param maxJobPurgeCount the max amount of jobs to purge when reaching max capacity
+   * @param journalWriter the writer for the journal entries of the jobs
+   */
+  public JobTracker(long capacity, long retentionMs, long maxJobPurgeCount,
+      JournalEntryWriter journalWriter) {
     Preconditions.checkArgument(capacity >= 0);
     mCapacity = capacity;
     Preconditions.checkArgument(retentionMs >= 0);
     mRetentionMs = retentionMs;
     mMaxJobPurgeCount = maxJobPurgeCount <= 0 ? Long.MAX_VALUE : maxJobPurgeCount;
+    mJournalWriter = Preconditions.checkNotNull(journalWriter, "journalWriter");
     mCoordinators = new ConcurrentHashMap<>(0,
         0.95f, ServerConfiguration.getInt(PropertyKey.MASTER_RPC_EXECUTOR_PARALLELISM));
-    mFinished = new LinkedBlockingQueue<>();
+    mFinished = new FinishedJobHistory();
     mJobIdGenerator = new JobIdGenerator();
   }
 
@@ -107,28 +153,28 @@ public class JobTracker {
     if (!status.isFinished()) {
       return;
     }
-    // Retry if offering to mFinished doesn't work
-    for (int i = 0; i < 2; i++) {
-      if (mFinished.offer(jobInfo)) {
-        return;
-      }
-      if (!removeFinished()) {
-        // Still couldn't add to mFinished - remove from coordinators so that it doesn't
-        // get stuck
-        LOG.warn("Failed to remove any jobs from the finished queue in status change callback");
+    alluxio.job.wire.JobInfo wireJobInfo = new alluxio.job.wire.JobInfo(jobInfo);
+    alluxio.grpc.JobInfo finished;
+    try {
+      finished = wireJobInfo.toProto();
+    } catch (IOException e) {
+      LOG.warn("Failed to serialize the task results of job {}, dropping them: {}",
+          jobInfo.getId(), e.toString());
+      wireJobInfo.setTaskInfoList(new ArrayList<>());
+      try {
+        finished = wireJobInfo.toProto();
+      } catch (IOException ee) {
+        throw new IllegalStateException(ee);
       }
     }
-    if (mFinished.offer(jobInfo)) {
-      return;
-    }
-    //remove from the coordinator map preemptively so that it doesn't get lost forever even if
-    // it's still within the retention time
-    LOG.warn("Failed to offer job id {} to finished queue, removing from tracking preemptively",
-        jobInfo.getId());
+    // Add the job to the history before removing its coordinator, so that it can always be found.
+    mFinished.add(finished);
+    mCoordinators.remove(jobInfo.getId());
   }
 
   /**
-   * Gets a {@link JobCoordinator} associated with the given job Id.
+   * Gets a {@link JobCoordinator} associated with the given job Id. Only the jobs which did not
+   * finish have a coordinator.
    *
    * @param jobId the job id associated with the {@link JobCoordinator}
    * @return The {@link JobCoordinator} associated with the id, or null if there is no association
@@ -139,7 +185,41 @@ public class JobTracker {
   }
 
   /**
-   * Adds a job with the given {@link JobConfig} to the job tracker.
+   * Gets the status of a job, which can be finished.
+   *
+   * @param jobId the job id
+   * @return the status of the job, or null if the job is not tracked
+   */
+  @Nullable
+  public alluxio.job.wire.JobInfo getJobInfo(long jobId) {
+    JobCoordinator coordinator = mCoordinators.get(jobId);
+    if (coordinator != null) {
+      return coordinator.getJobInfoWire();
+    }
+    alluxio.grpc.JobInfo finished = mFinished.get(jobId);
+    if (finished == null) {
+      return null;
+    }
+    try {
+      return new alluxio.job.wire.JobInfo(finished);
+    } catch (IOException e) {
+      throw new IllegalStateException(
+          String.format("Failed to deserialize the status of job %d", jobId), e);
+    }
+  }
+
+  /**
+   * @param jobId the job id
+   * @return whether the job finished and is still tracked
+   */
+  public boolean isFinished(long jobId) {
+    return mFinished.contains(jobId);
+  }
+
+  /**
+   * Adds a job with the given {@link JobConfig} to the job tracker. The job is started before
+   * returning, unless other jobs are being started concurrently, in which case it is started by
+   * the thread starting them.
    *
    * @param jobConfig configuration for the job
    * @param manager command manager for jobs
@@ -149,92 +229,222 @@ public class JobTracker {
    * @throws JobDoesNotExistException   if the job type does not exist
    * @throws ResourceExhaustedException if there is no more space available in the job master
    */
-  public synchronized long addJob(JobConfig jobConfig, CommandManager manager,
+  public long addJob(JobConfig jobConfig, CommandManager manager,
       JobServerContext ctx, List<WorkerInfo> workers) throws
       JobDoesNotExistException, ResourceExhaustedException {
-    if (removeFinished()) {
-      long jobId = mJobIdGenerator.getNewJobId();
-      JobCoordinator jobCoordinator = JobCoordinator.create(manager, ctx,
-          workers, jobId, jobConfig, this::statusChangeCallback);
-      mCoordinators.put(jobId, jobCoordinator);
-      return jobId;
-    } else {
+    // Fail fast for unknown jobs, before they are journaled.
+    JobDefinitionRegistry.INSTANCE.getJobDefinition(jobConfig);
+    if (!reserveCapacity()) {
       throw new ResourceExhaustedException(
           ExceptionMessage.JOB_MASTER_FULL_CAPACITY.getMessage(mCapacity));
     }
+    long jobId = mJobIdGenerator.getNewJobId();
+    JobCoordinator jobCoordinator;
+    try {
+      jobCoordinator = JobCoordinator.create(manager, ctx, jobId, 0, jobConfig,
+          this::statusChangeCallback, mJournalWriter);
+      mJournalWriter.writeJournalEntry(getStartEntry(jobId, jobConfig, 0));
+    } catch (RuntimeException e) {
+      mNumJobs.decrementAndGet();
+      throw e;
+    }
+    mCoordinators.put(jobId, jobCoordinator);
+    mPendingJobs.add(new PendingJob(jobCoordinator, workers));
+    startPendingJobs();
+    return jobId;
   }
 
   /**
-   * Removes all finished jobs outside of the retention time from the queue.
+   * Restarts the jobs which were restored from the journal and did not finish. They are started
+   * from scratch, under the same job id.
    *
-   * @return true if at least one job was removed, or if not at maximum capacity yet, false if at
-   *         capacity and no job was removed
+   * @param manager command manager for jobs
+   * @param ctx the {@link JobServerContext} from the job master
+   * @param workers a list of available workers
+   * @return the number of restarted jobs
    */
-  private synchronized boolean removeFinished() {
-    boolean removedJob = false;
-    boolean isFull = mCoordinators.size() >= mCapacity;
-    if (!isFull) {
-      return true;
-    }
-    // coordinators at max capacity
-    // Try to clear the queue
-    if (mFinished.isEmpty()) {
-      // The job master is at full capacity and no job has finished.
-      return false;
-    }
-    int removeCount = 0;
-    while (!mFinished.isEmpty() && removeCount < mMaxJobPurgeCount) {
-      JobInfo oldestJob = mFinished.peek();
-      if (oldestJob == null) { // no items to remove
-        break;
+  public int restartJobs(CommandManager manager, JobServerContext ctx, List<WorkerInfo> workers) {
+    int restarted = 0;
+    for (JobCoordinator restored : mCoordinators.values()) {
+      if (restored.isStarted() || restored.isJobFinished()) {
+        continue;
       }
-      long timeSinceCompletion = CommonUtils.getCurrentMs() - oldestJob.getLastStatusChangeMs();
-      // Once inserted into mFinished, the status of a job should not change - so the peek()
-      // /poll() methods guarantee to some extent that the job at the top of the queue is one
-      // of the oldest jobs. Thus, if it is still within retention time here, we likely can't
-      // remove anything else from the queue. Though it should be noted that it is not strictly
-      // guaranteed that the job at the top of is the oldest.
-      if (timeSinceCompletion < mRetentionMs) {
-        break;
+      long jobId = restored.getJobId();
+      int firstTaskId = restored.getNextTaskId();
+      JobCoordinator jobCoordinator = JobCoordinator.create(manager, ctx, jobId, firstTaskId,
+          restored.getJobConfig(), this::statusChangeCallback, mJournalWriter);
+      // The job may have been canceled concurrently, in which case it is left finished.
+      if (!mCoordinators.replace(jobId, restored, jobCoordinator)) {
+        continue;
       }
+      mJournalWriter.writeJournalEntry(
+          getStartEntry(jobId, restored.getJobConfig(), firstTaskId));
+      LOG.info("Restarting job {}", jobId);
+      mPendingJobs.add(new PendingJob(jobCoordinator, workers));
+      restarted++;
+    }
+    startPendingJobs();
+    return restarted;
+  }
 
-      // Remove the top item since we know it's old enough now.
-      // Assumes there are no concurrent poll() operations taking place between here and the
-      // first peek()
-      if (mFinished.poll() == null) {
-        // This should not happen because peek() returned an element
-        // there should be no other concurrent operations that remove from mFinished
-        LOG.warn("Polling the queue resulted in a null element");
-        break;
+  /**
+   * Starts the pending jobs, unless another thread is already starting them. A thread which adds
+   * a job after the other thread is done draining the queue starts the job itself.
+   */
+  private void startPendingJobs() {
+    while (!mPendingJobs.isEmpty() && mStartingJobs.compareAndSet(false, true)) {
+      try {
+        PendingJob pending;
+        while ((pending = mPendingJobs.poll()) != null) {
+          pending.start();
+        }
+      } finally {
+        mStartingJobs.set(false);
       }
-      // Remove from the job coordinator
-      if (mCoordinators.remove(oldestJob.getId()) == null) {
-        LOG.warn("Did not find a coordinator with id {}", oldestJob.getId());
-      } else {
-        removedJob = true;
-        removeCount++;
+    }
+  }
+
+  /**
+   * Reserves the capacity for a new job, by removing finished jobs when at capacity.
+   *
+   * @return whether the capacity could be reserved
+   */
+  private boolean reserveCapacity() {
+    while (true) {
+      long numJobs = mNumJobs.get();
+      if (numJobs >= mCapacity) {
+        if (!removeFinished()) {
+          return false;
+        }
+        continue;
+      }
+      if (mNumJobs.compareAndSet(numJobs, numJobs + 1)) {
+        return true;
       }
     }
-    return removedJob;
+  }
+
+  /**
+   * Removes finished jobs outside of the retention time, from the oldest one.
+   *
+   * @return true if at least one job was removed, false otherwise
+   */
+  private boolean removeFinished() {
+    int removed = mFinished.removeFinishedBefore(CommonUtils.getCurrentMs() - mRetentionMs + 1,
+        mMaxJobPurgeCount);
+    mNumJobs.addAndGet(-removed);
+    return removed > 0;
   }
 
   /**
    * A collection of all job Ids currently tracked in the job master. Jobs may be in a finished
    * state.
    *
-   * @return An unmodifiable collection of all tracked Job Ids
+   * @return A collection of all tracked Job Ids
    */
   public Collection<Long> jobs() {
-    return Collections.unmodifiableCollection(mCoordinators.keySet());
+    List<Long> jobs = new ArrayList<>(mCoordinators.size() + mFinished.size());
+    jobs.addAll(mCoordinators.keySet());
+    jobs.addAll(mFinished.getJobIds());
+    return Collections.unmodifiableCollection(jobs);
   }
 
   /**
-   * A collection of all {@link JobCoordinator} currently tracked by the job master. May contain
-   * coordinators for jobs which have finished.
+   * A collection of all {@link JobCoordinator} of the jobs which did not finish.
    *
    * @return An unmodifiable collection of all tracked {@link JobCoordinator}
    */
   public Collection<JobCoordinator> coordinators() {
     return Collections.unmodifiableCollection(mCoordinators.values());
   }
+
+  /**
+   * @return an iterator over the status of the finished jobs, in the order they finished
+   */
+  public Iterator<alluxio.grpc.JobInfo> finishedJobs() {
+    return mFinished.iterator();
+  }
+
+  @Override
+  public boolean processJournalEntry(JournalEntry entry) {
+    if (entry.hasStartJob()) {
+      StartJobEntry startJob = entry.getStartJob();
+      // The ids of the previous primary are seeded from its own clock, so new jobs must not
+      // reuse the restored ids.
+      mJobIdGenerator.advancePast(startJob.getJobId());
+      JobCoordinator coordinator =
+          JobCoordinator.restore(startJob, this::statusChangeCallback, mJournalWriter);
+      // A restarted job replaces its previous run.
+      if (mCoordinators.put(startJob.getJobId(), coordinator) == null) {
+        mNumJobs.incrementAndGet();
+      }
+    } else if (entry.hasUpdateJob()) {
+      long jobId = entry.getUpdateJob().getJobInfo().getId();
+      JobCoordinator coordinator = mCoordinators.get(jobId);
+      if (coordinator == null) {
+        LOG.warn("Ignoring update for job {} which is not running", jobId);
+        return true;
+      }
+      coordinator.processJournalEntry(entry.getUpdateJob());
+    } else if (entry.hasFinishedJob()) {
+      mJobIdGenerator.advancePast(entry.getFinishedJob().getJobInfo().getId());
+      mFinished.add(entry.getFinishedJob().getJobInfo());
+      mNumJobs.incrementAndGet();
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public void resetState() {
+    mPendingJobs.clear();
+    mCoordinators.clear();
+    mFinished.clear();
+    mNumJobs.set(0);
+  }
+
+  @Override
+  public Iterator<JournalEntry> getJournalEntryIterator() {
+    return Iterators.concat(
+        Iterators.concat(Iterators.transform(mCoordinators.values().iterator(),
+            coordinator -> coordinator.getJournalEntries().iterator())),
+        Iterators.transform(mFinished.iterator(), jobInfo -> JournalEntry.newBuilder()
+            .setFinishedJob(FinishedJobEntry.newBuilder().setJobInfo(jobInfo)).build()));
+  }
+
+  @Override
+  public CheckpointName getCheckpointName() {
+    return CheckpointName.JOB_MASTER;
+  }
+
+  private static JournalEntry getStartEntry(long jobId, JobConfig jobConfig, int firstTaskId) {
+    return JournalEntry.newBuilder().setStartJob(StartJobEntry.newBuilder()
+        .setJobId(jobId)
+        .setJobConfig(UnsafeByteOperations.unsafeWrap(
+            JobConfigCodec.encode(jobConfig, "Failed to serialize job config")))
+        .setFirstTaskId(firstTaskId)).build();
+  }
+
+  /**
+   * A job waiting to be started.
+   */
+  private static final class PendingJob {
+    private final JobCoordinator mCoordinator;
+    private final List<WorkerInfo> mWorkers;
+
+    private PendingJob(JobCoordinator coordinator, List<WorkerInfo> workers) {
+      mCoordinator = coordinator;
+      mWorkers = workers;
+    }
+
+    private void start() {
+      try {
+        mCoordinator.start(mWorkers);
+      } catch (Exception e) {
+        LOG.warn("Failed to start job {}: {}", mCoordinator.getJobId(), e.toString());
+        mCoordinator.setJobAsFailed("Failed to start the job: " + e.getMessage());
+      }
+    }
+  }
 }
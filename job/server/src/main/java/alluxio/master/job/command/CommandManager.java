@@ -15,13 +15,13 @@ import alluxio.grpc.CancelTaskCommand;
 import alluxio.grpc.JobCommand;
 import alluxio.grpc.RunTaskCommand;
 import alluxio.job.JobConfig;
-import alluxio.job.util.SerializationUtils;
+import alluxio.job.util.JobConfigCodec;
+import alluxio.job.util.TaskArgsCodec;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.protobuf.ByteString;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.google.protobuf.UnsafeByteOperations;
 
 import java.io.IOException;
 import java.util.List;
@@ -35,8 +35,6 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public final class CommandManager {
 
-  private static final Logger LOG = LoggerFactory.getLogger(CommandManager.class);
-
   // TODO(yupeng) add retry support
   private final Map<Long, List<JobCommand>> mWorkerIdToPendingCommands = Maps.newHashMap();
 
@@ -54,27 +52,37 @@ public final class CommandManager {
    * @param taskArgs the arguments passed to the executor on the worker
    * @param workerId the id of the worker
    */
-  public synchronized void submitRunTaskCommand(long jobId, int taskId, JobConfig jobConfig,
-      Object taskArgs, long workerId) {
+  public void submitRunTaskCommand(long jobId, int taskId, JobConfig jobConfig,
+      Object taskArgs, long workerId) throws IOException {
+    submitRunTaskCommand(jobId, taskId, ByteString.copyFrom(JobConfigCodec.encode(jobConfig)),
+        taskArgs, workerId);
+  }
+
+  /**
+   * Submits a run-task command to a specified worker. The job configuration is encoded once by
+   * the caller, and shared by all the tasks of the job.
+   *
+   * @param jobId the id of the job
+   * @param taskId the id of the task
+   * @param jobConfig the job configuration encoded by {@link JobConfigCodec}
+   * @param taskArgs the arguments passed to the executor on the worker
+   * @param workerId the id of the worker
+   */
+  public void submitRunTaskCommand(long jobId, int taskId, ByteString jobConfig,
+      Object taskArgs, long workerId) throws IOException {
     RunTaskCommand.Builder runTaskCommand = RunTaskCommand.newBuilder();
     runTaskCommand.setJobId(jobId);
     runTaskCommand.setTaskId(taskId);
-    try {
-      runTaskCommand.setJobConfig(ByteString.copyFrom(SerializationUtils.serialize(jobConfig)));
-      if (taskArgs != null) {
-        runTaskCommand.setTaskArgs(ByteString.copyFrom(SerializationUtils.serialize(taskArgs)));
-      }
-    } catch (IOException e) {
-      // TODO(yupeng) better exception handling
-      LOG.info("Failed to serialize the run task command:" + e);
-      return;
+    runTaskCommand.setJobConfig(jobConfig);
+    if (taskArgs != null) {
+      runTaskCommand.setTaskArgs(UnsafeByteOperations.unsafeWrap(TaskArgsCodec.encode(taskArgs)));
     }
     JobCommand.Builder command = JobCommand.newBuilder();
     command.setRunTaskCommand(runTaskCommand);
-    if (!mWorkerIdToPendingCommands.containsKey(workerId)) {
-      mWorkerIdToPendingCommands.put(workerId, Lists.<JobCommand>newArrayList());
+    synchronized (this) {
+      mWorkerIdToPendingCommands.computeIfAbsent(workerId, id -> Lists.newArrayList())
+          .add(command.build());
     }
-    mWorkerIdToPendingCommands.get(workerId).add(command.build());
   }
 
   /**
@@ -22,7 +22,8 @@ import alluxio.job.JobConfig;
 import alluxio.job.JobServerContext;
 import alluxio.job.RunTaskContext;
 import alluxio.worker.job.JobMasterClient;
-import alluxio.job.util.SerializationUtils;
+import alluxio.job.util.JobConfigCodec;
+import alluxio.job.util.TaskArgsCodec;
 import alluxio.util.ThreadFactoryUtils;
 import alluxio.wire.WorkerNetAddress;
 import alluxio.worker.JobWorkerIdRegistry;
@@ -117,11 +118,10 @@ public class CommandHandlingExecutor implements HeartbeatExecutor {
         int taskId = command.getTaskId();
         JobConfig jobConfig;
         try {
-          jobConfig =
-              (JobConfig) SerializationUtils.deserialize(command.getJobConfig().toByteArray());
+          jobConfig = JobConfigCodec.decode(command.getJobConfig().toByteArray());
           Serializable taskArgs = null;
           if (command.hasTaskArgs()) {
-            taskArgs = SerializationUtils.deserialize(command.getTaskArgs().toByteArray());
+            taskArgs = TaskArgsCodec.decode(command.getTaskArgs().toByteArray());
           }
           RunTaskContext context = new RunTaskContext(jobId, taskId, mServerContext);
           LOG.info("Received run task " + taskId + " for job " + jobId + " on worker "
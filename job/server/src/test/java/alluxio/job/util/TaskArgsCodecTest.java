@@ -0,0 +1,64 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.job.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.job.load.LoadDefinition.LoadTask;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests {@link TaskArgsCodec}.
+ */
+public final class TaskArgsCodecTest {
+  @Test
+  public void loadTasks() throws Exception {
+    ArrayList<LoadTask> tasks = new ArrayList<>();
+    for (long blockId = 0; blockId < 1000; blockId++) {
+      tasks.add(new LoadTask(blockId << 24));
+    }
+    byte[] bytes = TaskArgsCodec.encode(tasks);
+    assertEquals(JobConfigCodec.SCHEMA_FORMAT, bytes[0]);
+    assertTrue(bytes.length < SerializationUtils.serialize(tasks).length / 2);
+    assertEquals(blockIds(tasks), blockIds(TaskArgsCodec.decode(bytes)));
+
+    // Load tasks Java serialized by older masters are still decoded.
+    bytes = SerializationUtils.serialize(tasks);
+    assertEquals(blockIds(tasks), blockIds(TaskArgsCodec.decode(bytes)));
+  }
+
+  @Test
+  public void otherArgs() throws Exception {
+    List<Integer> args = Lists.newArrayList(1, 2);
+    byte[] bytes = TaskArgsCodec.encode(args);
+    assertArrayEquals(SerializationUtils.serialize(args), bytes);
+    assertEquals(args, TaskArgsCodec.decode(bytes));
+
+    ArrayList<LoadTask> empty = new ArrayList<>();
+    assertEquals(0, ((List<?>) TaskArgsCodec.decode(TaskArgsCodec.encode(empty))).size());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Long> blockIds(Serializable tasks) {
+    return ((List<LoadTask>) tasks).stream().map(LoadTask::getBlockId)
+        .collect(Collectors.toList());
+  }
+}
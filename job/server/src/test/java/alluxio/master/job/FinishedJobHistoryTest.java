@@ -0,0 +1,147 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.grpc.JobInfo;
+import alluxio.grpc.Status;
+import alluxio.grpc.TaskInfo;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Unit tests for {@link FinishedJobHistory}.
+ */
+public final class FinishedJobHistoryTest {
+  /** A segment size fitting a few jobs, so that the jobs span several segments. */
+  private static final int SEGMENT_SIZE = 256;
+
+  private FinishedJobHistory mHistory;
+
+  @Before
+  public void before() {
+    mHistory = new FinishedJobHistory(SEGMENT_SIZE);
+  }
+
+  @Test
+  public void addAndGet() {
+    for (long id = 0; id < 100; id++) {
+      mHistory.add(job(id, id));
+    }
+    assertEquals(100, mHistory.size());
+    for (long id = 0; id < 100; id++) {
+      assertEquals(job(id, id), mHistory.get(id));
+    }
+    assertNull(mHistory.get(100));
+    assertFalse(mHistory.contains(100));
+    assertEquals(100, Sets.newHashSet(mHistory.getJobIds()).size());
+  }
+
+  @Test
+  public void addLargerThanSegment() {
+    JobInfo large = JobInfo.newBuilder(job(1, 1)).setResult(new String(new char[1000])).build();
+    mHistory.add(job(0, 0));
+    mHistory.add(large);
+    mHistory.add(job(2, 2));
+    assertEquals(large, mHistory.get(1));
+    assertEquals(Lists.newArrayList(job(0, 0), large, job(2, 2)), list(mHistory.iterator()));
+  }
+
+  @Test
+  public void addReplaces() {
+    mHistory.add(job(0, 0));
+    mHistory.add(job(1, 1));
+    JobInfo replaced = JobInfo.newBuilder(job(0, 2)).setErrorMessage("replaced").build();
+    mHistory.add(replaced);
+    assertEquals(2, mHistory.size());
+    assertEquals(replaced, mHistory.get(0));
+    assertEquals(Lists.newArrayList(job(1, 1), replaced), list(mHistory.iterator()));
+    // Removing the old record of the job keeps the new one.
+    assertEquals(1, mHistory.removeFinishedBefore(2, Long.MAX_VALUE));
+    assertEquals(replaced, mHistory.get(0));
+    assertFalse(mHistory.contains(1));
+  }
+
+  @Test
+  public void removeFinishedBefore() {
+    for (long id = 0; id < 100; id++) {
+      mHistory.add(job(id, id));
+    }
+    assertEquals(0, mHistory.removeFinishedBefore(0, Long.MAX_VALUE));
+    assertEquals(10, mHistory.removeFinishedBefore(50, 10));
+    assertEquals(40, mHistory.removeFinishedBefore(50, Long.MAX_VALUE));
+    assertEquals(50, mHistory.size());
+    assertNull(mHistory.get(49));
+    assertEquals(job(50, 50), mHistory.get(50));
+    assertEquals(50, mHistory.removeFinishedBefore(Long.MAX_VALUE, Long.MAX_VALUE));
+    assertEquals(0, mHistory.size());
+
+    // The history can be reused once emptied.
+    mHistory.add(job(100, 100));
+    assertEquals(Lists.newArrayList(job(100, 100)), list(mHistory.iterator()));
+  }
+
+  @Test
+  public void iterateWhileModified() {
+    for (long id = 0; id < 10; id++) {
+      mHistory.add(job(id, id));
+    }
+    Iterator<JobInfo> iterator = mHistory.iterator();
+    assertEquals(job(0, 0), iterator.next());
+    // Jobs removed before the iterator reaches them are skipped.
+    mHistory.removeFinishedBefore(5, Long.MAX_VALUE);
+    assertEquals(job(5, 5), iterator.next());
+    // Jobs added after the iterator was created are seen.
+    for (long id = 10; id < 20; id++) {
+      mHistory.add(job(id, id));
+    }
+    List<JobInfo> remaining = list(iterator);
+    assertEquals(14, remaining.size());
+    assertEquals(job(19, 19), remaining.get(13));
+  }
+
+  @Test
+  public void clear() {
+    for (long id = 0; id < 10; id++) {
+      mHistory.add(job(id, id));
+    }
+    mHistory.clear();
+    assertEquals(0, mHistory.size());
+    assertNull(mHistory.get(0));
+    assertFalse(mHistory.iterator().hasNext());
+    mHistory.add(job(0, 0));
+    assertTrue(mHistory.contains(0));
+  }
+
+  private static JobInfo job(long id, long finishMs) {
+    return JobInfo.newBuilder().setId(id).setStatus(Status.COMPLETED).setErrorMessage("")
+        .setLastStatusChangeMs(finishMs).addTaskInfos(TaskInfo.newBuilder().setJobId(id)
+            .setTaskId(0).setStatus(Status.COMPLETED).setErrorMessage("")).build();
+  }
+
+  private static List<JobInfo> list(Iterator<JobInfo> iterator) {
+    List<JobInfo> list = new ArrayList<>();
+    iterator.forEachRemaining(list::add);
+    return list;
+  }
+}
@@ -86,8 +86,8 @@ public final class JobMasterTest {
     PowerMockito.mockStatic(JobCoordinator.class);
     Mockito.when(
         JobCoordinator.create(Mockito.any(CommandManager.class),
-            Mockito.any(JobServerContext.class), Mockito.anyList(), Mockito.anyLong(),
-            Mockito.any(JobConfig.class), Mockito.any(null)))
+            Mockito.any(JobServerContext.class), Mockito.anyLong(), Mockito.anyInt(),
+            Mockito.any(JobConfig.class), Mockito.any(), Mockito.any(JournalEntryWriter.class)))
         .thenReturn(coordinator);
     TestJobConfig jobConfig = new TestJobConfig("/test");
     for (long i = 0; i < TEST_JOB_MASTER_JOB_CAPACITY; i++) {
@@ -102,8 +102,8 @@ public final class JobMasterTest {
     PowerMockito.mockStatic(JobCoordinator.class);
     Mockito.when(
         JobCoordinator.create(Mockito.any(CommandManager.class),
-            Mockito.any(JobServerContext.class), Mockito.anyList(), Mockito.anyLong(),
-            Mockito.any(JobConfig.class), Mockito.any(null)))
+            Mockito.any(JobServerContext.class), Mockito.anyLong(), Mockito.anyInt(),
+            Mockito.any(JobConfig.class), Mockito.any(), Mockito.any(JournalEntryWriter.class)))
         .thenReturn(coordinator);
     TestJobConfig jobConfig = new TestJobConfig("/test");
     for (long i = 0; i < TEST_JOB_MASTER_JOB_CAPACITY; i++) {
@@ -21,11 +21,16 @@ import static org.junit.Assert.fail;
 import alluxio.exception.status.ResourceExhaustedException;
 import alluxio.job.JobServerContext;
 import alluxio.job.SleepJobConfig;
+import alluxio.job.wire.Status;
+import alluxio.job.wire.TaskInfo;
 import alluxio.master.job.command.CommandManager;
+import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.util.CommonUtils;
 import alluxio.util.FormatUtils;
 import alluxio.wire.WorkerInfo;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -33,8 +38,12 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
 import org.powermock.reflect.Whitebox;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 public class JobTrackerTest {
 
@@ -97,7 +106,8 @@ public class JobTrackerTest {
     fillJobTracker(tracker, 10);
     finishAllJobs(tracker);
     addJob(tracker, 100);
-    assertEquals(6, tracker.coordinators().size());
+    assertEquals(1, tracker.coordinators().size());
+    assertEquals(6, tracker.jobs().size());
   }
 
   @Test
@@ -117,9 +127,109 @@ public class JobTrackerTest {
     assertNotNull("job should exist", mTracker.getCoordinator(jobId));
     assertFalse("job should not be finished", mTracker.getCoordinator(jobId).isJobFinished());
     finishAllJobs();
-    assertTrue("job should be finished", mTracker.getCoordinator(jobId).isJobFinished());
-    assertEquals("finished should be of size 1", 1, ((Queue) Whitebox.getInternalState(mTracker,
-        "mFinished")).size());
+    assertNull("finished job should not have a coordinator", mTracker.getCoordinator(jobId));
+    assertTrue("job should be finished", mTracker.getJobInfo(jobId).getStatus().isFinished());
+    assertEquals("finished should be of size 1", 1, ((FinishedJobHistory) Whitebox
+        .getInternalState(mTracker, "mFinished")).size());
+  }
+
+  @Test
+  public void testReplayJournal() throws Exception {
+    List<JournalEntry> journal = new ArrayList<>();
+    JobTracker tracker = new JobTracker(CAPACITY, RETENTION_TIME, PURGE_CONUT, journal::add);
+    long finishedJobId = addJob(tracker, 100);
+    tracker.getCoordinator(finishedJobId).setJobAsFailed("failed for test");
+    long runningJobId = addJob(tracker, 100);
+    tracker.getCoordinator(runningJobId).updateTasks(Lists.newArrayList(new TaskInfo()
+        .setJobId(runningJobId).setTaskId(0).setStatus(Status.RUNNING).setErrorMessage("")));
+
+    JobTracker replayed = replay(journal);
+    assertEquals(Sets.newHashSet(tracker.jobs()), Sets.newHashSet(replayed.jobs()));
+    assertEquals(tracker.getJobInfo(finishedJobId), replayed.getJobInfo(finishedJobId));
+    assertEquals("failed for test", replayed.getJobInfo(finishedJobId).getErrorMessage());
+    assertEquals(Status.RUNNING, replayed.getJobInfo(runningJobId).getStatus());
+    assertFalse(replayed.getCoordinator(runningJobId).isStarted());
+
+    // The checkpoint of the replayed tracker restores the same jobs.
+    JobTracker restored = replay(Lists.newArrayList(replayed.getJournalEntryIterator()));
+    assertEquals(Sets.newHashSet(tracker.jobs()), Sets.newHashSet(restored.jobs()));
+    assertEquals(replayed.getJobInfo(finishedJobId), restored.getJobInfo(finishedJobId));
+    assertEquals(replayed.getJobInfo(runningJobId).getTaskInfoList(),
+        restored.getJobInfo(runningJobId).getTaskInfoList());
+  }
+
+  @Test
+  public void testRestartJobs() throws Exception {
+    long jobId = addJob(100);
+    long canceledJobId = addJob(100);
+
+    JobTracker replayed = replay(Lists.newArrayList(mTracker.getJournalEntryIterator()));
+    replayed.getCoordinator(canceledJobId).cancel();
+    assertEquals(Status.CANCELED, replayed.getJobInfo(canceledJobId).getStatus());
+    assertEquals(1, replayed.restartJobs(mMockCommandManager, mMockJobServerContext, mWorkers));
+    JobCoordinator restarted = replayed.getCoordinator(jobId);
+    assertTrue(restarted.isStarted());
+    // The restarted job does not reuse the task ids of its previous run.
+    assertEquals(Lists.newArrayList(1),
+        restarted.getJobInfoWire().getTaskInfoList().stream().map(TaskInfo::getTaskId)
+            .collect(Collectors.toList()));
+    restarted.updateTasks(Lists.newArrayList(new TaskInfo().setJobId(jobId).setTaskId(0)
+        .setStatus(Status.COMPLETED).setErrorMessage("")));
+    assertEquals(Status.CREATED, replayed.getJobInfo(jobId).getStatus());
+    assertEquals(0, replayed.restartJobs(mMockCommandManager, mMockJobServerContext, mWorkers));
+  }
+
+  @Test
+  public void testAddJobAfterReplay() throws Exception {
+    List<JournalEntry> journal = new ArrayList<>();
+    JobTracker tracker = new JobTracker(CAPACITY, RETENTION_TIME, PURGE_CONUT, journal::add);
+    addJob(tracker, 100);
+    // The previous primary generated ids ahead of the clock of the next primary.
+    long journaledJobId = CommonUtils.getCurrentMs() + 1000 * 1000;
+    JournalEntry startEntry = journal.get(0);
+    JobTracker replayed = replay(Lists.newArrayList(startEntry.toBuilder()
+        .setStartJob(startEntry.getStartJob().toBuilder().setJobId(journaledJobId)).build()));
+
+    long jobId = addJob(replayed, 100);
+    assertTrue(jobId > journaledJobId);
+    assertEquals(Sets.newHashSet(journaledJobId, jobId), Sets.newHashSet(replayed.jobs()));
+    assertNotNull(replayed.getCoordinator(journaledJobId));
+  }
+
+  @Test
+  public void testConcurrentAddJobs() throws Exception {
+    int numThreads = 8;
+    int jobsPerThread = 100;
+    JobTracker tracker = new JobTracker(numThreads * jobsPerThread, RETENTION_TIME, PURGE_CONUT);
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < numThreads; i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < jobsPerThread; j++) {
+            addJob(tracker, 100);
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(numThreads * jobsPerThread, tracker.jobs().size());
+    assertTrue(tracker.coordinators().stream().allMatch(JobCoordinator::isStarted));
+    mException.expect(ResourceExhaustedException.class);
+    addJob(tracker, 100);
+  }
+
+  private JobTracker replay(List<JournalEntry> journal) {
+    JobTracker replayed = new JobTracker(CAPACITY, RETENTION_TIME, PURGE_CONUT);
+    for (JournalEntry entry : journal) {
+      assertTrue(replayed.processJournalEntry(entry));
+    }
+    return replayed;
   }
 
   private long addJob(int sleepTimeMs) throws Exception {
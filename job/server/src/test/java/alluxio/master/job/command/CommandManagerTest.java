@@ -14,13 +14,15 @@ package alluxio.master.job.command;
 import alluxio.grpc.JobCommand;
 import alluxio.job.JobConfig;
 import alluxio.job.TestJobConfig;
-import alluxio.job.util.SerializationUtils;
+import alluxio.job.util.JobConfigCodec;
+import alluxio.job.util.TaskArgsCodec;
 
 import com.google.common.collect.Lists;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -48,9 +50,21 @@ public final class CommandManagerTest {
     Assert.assertEquals(jobId, command.getRunTaskCommand().getJobId());
     Assert.assertEquals(taskId, command.getRunTaskCommand().getTaskId());
     Assert.assertEquals(jobConfig,
-        SerializationUtils.deserialize(command.getRunTaskCommand().getJobConfig().toByteArray()));
+        JobConfigCodec.decode(command.getRunTaskCommand().getJobConfig().toByteArray()));
     Assert.assertEquals(args,
-        SerializationUtils.deserialize(command.getRunTaskCommand().getTaskArgs().toByteArray()));
+        TaskArgsCodec.decode(command.getRunTaskCommand().getTaskArgs().toByteArray()));
+  }
+
+  @Test
+  public void submitRunTaskCommandWithUnserializableArgs() throws Exception {
+    long workerId = 2L;
+    try {
+      mManager.submitRunTaskCommand(0L, 1, new TestJobConfig("/test"), new Object(), workerId);
+      Assert.fail("Submitting a task with unserializable arguments should fail");
+    } catch (IOException e) {
+      // expected
+    }
+    Assert.assertTrue(mManager.pollAllPendingCommands(workerId).isEmpty());
   }
 
   @Test
@@ -0,0 +1,150 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.policy;
+
+import alluxio.Constants;
+import alluxio.client.block.BlockWorkerInfo;
+import alluxio.client.block.policy.options.GetWorkerOptions;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.WorkerNetAddress;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates the mapping of blocks to workers by the UFS read location policies. The benchmark
+ * measures the time taken to map a block, and prints at setup the fraction of the blocks which
+ * are mapped to another worker when a worker leaves the cluster, and when a worker joins it.
+ * These blocks are read again from the under storage by their new worker.
+ *
+ * With n workers, {@link ConsistentHashPolicy} moves about 1/n of the blocks on each membership
+ * change, while {@link DeterministicHashPolicy} moves about (n-1)/n of them.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 2, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BlockLocationPolicyBench {
+  private static final int PORT = 29999;
+
+  @Param({"CONSISTENT_HASH", "DETERMINISTIC_HASH"})
+  public Policy mPolicy;
+
+  @Param({"10", "100"})
+  public int mWorkers;
+
+  @Param({"100000"})
+  public int mBlocks;
+
+  /**
+   * The policies to compare.
+   */
+  public enum Policy {
+    CONSISTENT_HASH(ConsistentHashPolicy.class),
+    DETERMINISTIC_HASH(DeterministicHashPolicy.class),
+    ;
+
+    private final Class<? extends BlockLocationPolicy> mClass;
+
+    Policy(Class<? extends BlockLocationPolicy> clazz) {
+      mClass = clazz;
+    }
+  }
+
+  private BlockLocationPolicy mLocationPolicy;
+  private List<BlockWorkerInfo> mWorkerInfos;
+  private long mNextBlockId;
+
+  /**
+   * Creates the policy and the workers, and prints the fraction of the blocks moved by
+   * membership changes.
+   */
+  @Setup(Level.Trial)
+  public void before() {
+    InstancedConfiguration conf = InstancedConfiguration.defaults();
+    mLocationPolicy = BlockLocationPolicy.Factory.create(mPolicy.mClass.getName(), conf);
+    mWorkerInfos = workers(0, mWorkers);
+    WorkerNetAddress[] initial = map(mWorkerInfos);
+
+    List<BlockWorkerInfo> shrunk = new ArrayList<>(mWorkerInfos);
+    shrunk.remove(mWorkers / 2);
+    System.out.printf("%n%s with %d workers moves %.4f of %d blocks when a worker leaves%n",
+        mPolicy, mWorkers, moved(initial, map(shrunk)), mBlocks);
+
+    List<BlockWorkerInfo> grown = new ArrayList<>(mWorkerInfos);
+    grown.addAll(workers(mWorkers, 1));
+    System.out.printf("%s with %d workers moves %.4f of %d blocks when a worker joins%n",
+        mPolicy, mWorkers, moved(initial, map(grown)), mBlocks);
+    // Map the blocks with the initial workers again, so that the measured policy works with a
+    // stable membership.
+    map(mWorkerInfos);
+  }
+
+  /**
+   * Maps the next block to a worker.
+   *
+   * @return the worker
+   */
+  @Benchmark
+  public WorkerNetAddress getWorker() {
+    return mLocationPolicy.getWorker(options(mWorkerInfos, mNextBlockId++ % mBlocks));
+  }
+
+  private WorkerNetAddress[] map(List<BlockWorkerInfo> workers) {
+    WorkerNetAddress[] mapping = new WorkerNetAddress[mBlocks];
+    for (int i = 0; i < mBlocks; i++) {
+      mapping[i] = mLocationPolicy.getWorker(options(workers, i));
+    }
+    return mapping;
+  }
+
+  private static double moved(WorkerNetAddress[] before, WorkerNetAddress[] after) {
+    int moved = 0;
+    for (int i = 0; i < before.length; i++) {
+      if (!before[i].equals(after[i])) {
+        moved++;
+      }
+    }
+    return (double) moved / before.length;
+  }
+
+  private static GetWorkerOptions options(List<BlockWorkerInfo> workers, long blockId) {
+    return GetWorkerOptions.defaults().setBlockWorkerInfos(workers)
+        .setBlockInfo(new BlockInfo().setBlockId(blockId).setLength(Constants.MB));
+  }
+
+  private static List<BlockWorkerInfo> workers(int first, int count) {
+    List<BlockWorkerInfo> workers = new ArrayList<>(count);
+    for (int i = first; i < first + count; i++) {
+      workers.add(new BlockWorkerInfo(new WorkerNetAddress().setHost("worker" + i)
+          .setRpcPort(PORT).setDataPort(PORT).setWebPort(PORT), Constants.TB, 0));
+    }
+    return workers;
+  }
+}
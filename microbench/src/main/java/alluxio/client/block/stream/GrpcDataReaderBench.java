@@ -0,0 +1,216 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.stream;
+
+import alluxio.client.file.FileSystemContext;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.grpc.BlockWorkerGrpc;
+import alluxio.grpc.Chunk;
+import alluxio.grpc.GrpcServer;
+import alluxio.grpc.GrpcServerAddress;
+import alluxio.grpc.GrpcServerBuilder;
+import alluxio.grpc.GrpcService;
+import alluxio.grpc.ReadRequest;
+import alluxio.grpc.ReadResponse;
+import alluxio.network.protocol.databuffer.DataBuffer;
+import alluxio.security.authentication.AuthType;
+import alluxio.security.user.UserState;
+import alluxio.util.io.BufferUtils;
+import alluxio.wire.WorkerNetAddress;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the chunk handling of {@link GrpcDataReader}.
+ *
+ * The reader talks to an in-process gRPC server on the loopback interface which streams chunks
+ * from memory, so the measured cost is the client side receive, unmarshal and ack path plus the
+ * transport, without any worker storage.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class GrpcDataReaderBench {
+  private static final String HOST = "localhost";
+  private static final long BLOCK_ID = 1L;
+
+  @Param({"true", "false"})
+  public boolean mZeroCopy;
+
+  @Param({"65536", "1048576"})
+  public int mChunkSize;
+
+  /** The number of bytes read per benchmark invocation. */
+  @Param({"67108864"})
+  public long mReadLength;
+
+  private GrpcServer mServer;
+  private FileSystemContext mContext;
+  private GrpcDataReader.Factory mFactory;
+
+  /**
+   * Starts the data server and creates the client context.
+   */
+  @Setup(Level.Trial)
+  public void before() throws Exception {
+    InstancedConfiguration conf = InstancedConfiguration.defaults();
+    conf.set(PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.NOSASL);
+    conf.set(PropertyKey.USER_NETWORK_ZEROCOPY_ENABLED, mZeroCopy);
+
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    mServer = GrpcServerBuilder
+        .forAddress(GrpcServerAddress.create(HOST, new InetSocketAddress(HOST, port)), conf,
+            UserState.Factory.create(conf))
+        .addService(new GrpcService(new InMemoryBlockWorker(mChunkSize)))
+        .build()
+        .start();
+
+    mContext = FileSystemContext.create(conf);
+    WorkerNetAddress address =
+        new WorkerNetAddress().setHost(HOST).setDataPort(port).setRpcPort(port);
+    mFactory = new GrpcDataReader.Factory(mContext, address,
+        ReadRequest.newBuilder().setBlockId(BLOCK_ID).setChunkSize(mChunkSize).build());
+  }
+
+  /**
+   * Stops the data server and closes the client context.
+   */
+  @TearDown(Level.Trial)
+  public void after() throws Exception {
+    mContext.close();
+    mServer.shutdown();
+  }
+
+  /**
+   * Reads {@link #mReadLength} bytes chunk by chunk and releases every chunk.
+   *
+   * @return the number of bytes read
+   */
+  @Benchmark
+  public long readRegion() throws Exception {
+    long bytesRead = 0;
+    try (DataReader reader = mFactory.create(0, mReadLength)) {
+      DataBuffer chunk;
+      while ((chunk = reader.readChunk()) != null) {
+        bytesRead += chunk.readableBytes();
+        chunk.release();
+      }
+    }
+    return bytesRead;
+  }
+
+  /**
+   * A block worker service which serves every read request from a single in-memory chunk,
+   * honoring gRPC flow control.
+   */
+  private static final class InMemoryBlockWorker extends BlockWorkerGrpc.BlockWorkerImplBase {
+    private final ByteString mChunk;
+
+    InMemoryBlockWorker(int chunkSize) {
+      mChunk = UnsafeByteOperations.unsafeWrap(
+          ByteBuffer.wrap(BufferUtils.getIncreasingByteArray(chunkSize)));
+    }
+
+    @Override
+    public StreamObserver<ReadRequest> readBlock(StreamObserver<ReadResponse> responseObserver) {
+      ServerCallStreamObserver<ReadResponse> serverObserver =
+          (ServerCallStreamObserver<ReadResponse>) responseObserver;
+      ReadStreamer streamer = new ReadStreamer(serverObserver, mChunk);
+      serverObserver.setOnReadyHandler(streamer::send);
+      return streamer;
+    }
+  }
+
+  /**
+   * Streams the requested range to the client. Receipts of data sent by the client are ignored.
+   */
+  private static final class ReadStreamer implements StreamObserver<ReadRequest> {
+    private final ServerCallStreamObserver<ReadResponse> mResponseObserver;
+    private final ByteString mChunk;
+    private boolean mStarted;
+    private boolean mDone;
+    private long mPos;
+    private long mEnd;
+
+    ReadStreamer(ServerCallStreamObserver<ReadResponse> responseObserver, ByteString chunk) {
+      mResponseObserver = responseObserver;
+      mChunk = chunk;
+    }
+
+    @Override
+    public synchronized void onNext(ReadRequest request) {
+      if (mStarted) {
+        return;
+      }
+      mStarted = true;
+      mPos = request.getOffset();
+      mEnd = request.getOffset() + request.getLength();
+      send();
+    }
+
+    synchronized void send() {
+      if (!mStarted || mDone) {
+        return;
+      }
+      while (mPos < mEnd && mResponseObserver.isReady()) {
+        int size = (int) Math.min(mChunk.size(), mEnd - mPos);
+        ByteString data = size == mChunk.size() ? mChunk : mChunk.substring(0, size);
+        mResponseObserver.onNext(
+            ReadResponse.newBuilder().setChunk(Chunk.newBuilder().setData(data)).build());
+        mPos += size;
+      }
+      if (mPos >= mEnd) {
+        mDone = true;
+        mResponseObserver.onCompleted();
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {}
+
+    @Override
+    public synchronized void onCompleted() {
+      if (!mDone) {
+        mDone = true;
+        mResponseObserver.onCompleted();
+      }
+    }
+  }
+}
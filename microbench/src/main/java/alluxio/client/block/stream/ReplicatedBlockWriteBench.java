@@ -0,0 +1,262 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.block.stream;
+
+import alluxio.client.WriteType;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.file.options.OutStreamOptions;
+import alluxio.conf.InstancedConfiguration;
+import alluxio.conf.PropertyKey;
+import alluxio.exception.status.AlluxioStatusException;
+import alluxio.grpc.BlockWorkerGrpc;
+import alluxio.grpc.GrpcServer;
+import alluxio.grpc.GrpcServerAddress;
+import alluxio.grpc.GrpcServerBuilder;
+import alluxio.grpc.GrpcService;
+import alluxio.grpc.GrpcUtils;
+import alluxio.grpc.WriteRequest;
+import alluxio.grpc.WriteRequestCommand;
+import alluxio.grpc.WriteResponse;
+import alluxio.security.authentication.AuthType;
+import alluxio.security.user.UserState;
+import alluxio.util.io.BufferUtils;
+import alluxio.wire.WorkerNetAddress;
+
+import io.grpc.stub.StreamObserver;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for writing a replicated block through
+ * {@link BlockOutStream#createReplicatedBlockOutStream}, comparing the client sending the block
+ * to every worker with the client sending it to the first worker of a pipeline.
+ *
+ * Every worker is an in-process gRPC server on the loopback interface which discards the data it
+ * receives, and forwards it to the next worker of the pipeline the same way the block write
+ * handler of the worker does. The measured cost is the transport of all the replicas without any
+ * worker storage. All the workers share the loopback interface, so the benchmark shows the
+ * serialization and send cost saved on the client rather than the NIC bandwidth saved.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ReplicatedBlockWriteBench {
+  private static final String HOST = "localhost";
+  private static final long BLOCK_ID = 1L;
+
+  @Param({"2", "3"})
+  public int mReplication;
+
+  @Param({"false", "true"})
+  public boolean mPipelined;
+
+  /** The number of bytes written per benchmark invocation. */
+  @Param({"67108864"})
+  public long mBlockSize;
+
+  @Param({"1048576"})
+  public int mChunkSize;
+
+  private final List<GrpcServer> mServers = new ArrayList<>();
+  private final List<WorkerNetAddress> mWorkers = new ArrayList<>();
+  private FileSystemContext mServerContext;
+  private FileSystemContext mContext;
+  private OutStreamOptions mOptions;
+  private byte[] mChunk;
+
+  /**
+   * Starts the workers and creates the client context.
+   */
+  @Setup(Level.Trial)
+  public void before() throws Exception {
+    InstancedConfiguration conf = InstancedConfiguration.defaults();
+    conf.set(PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.NOSASL);
+    conf.set(PropertyKey.USER_SHORT_CIRCUIT_ENABLED, false);
+    conf.set(PropertyKey.USER_NETWORK_WRITER_CHUNK_SIZE_BYTES, mChunkSize);
+    conf.set(PropertyKey.USER_FILE_REPLICATION_PIPELINE_ENABLED, mPipelined);
+
+    mServerContext = FileSystemContext.create(conf);
+    for (int i = 0; i < mReplication; i++) {
+      int port;
+      try (ServerSocket socket = new ServerSocket(0)) {
+        port = socket.getLocalPort();
+      }
+      mServers.add(GrpcServerBuilder
+          .forAddress(GrpcServerAddress.create(HOST, new InetSocketAddress(HOST, port)), conf,
+              UserState.Factory.create(conf))
+          .addService(new GrpcService(new ChainedBlockWorker(mServerContext)))
+          .build()
+          .start());
+      mWorkers.add(new WorkerNetAddress().setHost(HOST).setDataPort(port).setRpcPort(port));
+    }
+
+    mContext = FileSystemContext.create(conf);
+    mOptions = OutStreamOptions.defaults(mContext.getClientContext())
+        .setWriteType(WriteType.MUST_CACHE);
+    mChunk = BufferUtils.getIncreasingByteArray(mChunkSize);
+  }
+
+  /**
+   * Stops the workers and closes the contexts.
+   */
+  @TearDown(Level.Trial)
+  public void after() throws Exception {
+    mContext.close();
+    for (GrpcServer server : mServers) {
+      server.shutdown();
+    }
+    mServerContext.close();
+  }
+
+  /**
+   * Writes a block of {@link #mBlockSize} bytes to all the replicas and waits for every worker
+   * to complete the write.
+   *
+   * @return the number of bytes written
+   */
+  @Benchmark
+  public long writeBlock() throws Exception {
+    long bytesWritten = 0;
+    try (BlockOutStream out = BlockOutStream.createReplicatedBlockOutStream(mContext, BLOCK_ID,
+        mBlockSize, mWorkers, mOptions)) {
+      while (bytesWritten < mBlockSize) {
+        int size = (int) Math.min(mChunk.length, mBlockSize - bytesWritten);
+        out.write(mChunk, 0, size);
+        bytesWritten += size;
+      }
+    }
+    return bytesWritten;
+  }
+
+  /**
+   * A block worker service which discards the blocks written to it, after forwarding them to the
+   * next worker of the pipeline if any.
+   */
+  private static final class ChainedBlockWorker extends BlockWorkerGrpc.BlockWorkerImplBase {
+    private final FileSystemContext mContext;
+
+    ChainedBlockWorker(FileSystemContext context) {
+      mContext = context;
+    }
+
+    @Override
+    public StreamObserver<WriteRequest> writeBlock(StreamObserver<WriteResponse> responseObserver) {
+      return new ChainedWriteObserver(mContext, responseObserver);
+    }
+  }
+
+  /**
+   * Receives a block and forwards it to the next worker of the pipeline, completing only after
+   * the next worker has completed.
+   */
+  private static final class ChainedWriteObserver implements StreamObserver<WriteRequest> {
+    private final FileSystemContext mContext;
+    private final StreamObserver<WriteResponse> mResponseObserver;
+    private DataWriter mForwardWriter;
+    private boolean mStarted;
+    private long mPos;
+
+    ChainedWriteObserver(FileSystemContext context,
+        StreamObserver<WriteResponse> responseObserver) {
+      mContext = context;
+      mResponseObserver = responseObserver;
+    }
+
+    @Override
+    public synchronized void onNext(WriteRequest request) {
+      try {
+        if (!mStarted) {
+          mStarted = true;
+          WriteRequestCommand command = request.getCommand();
+          if (command.getPipelineCount() > 0) {
+            mForwardWriter = GrpcDataWriter.create(mContext,
+                GrpcUtils.fromProto(command.getPipeline(0)), Long.MAX_VALUE,
+                command.toBuilder().clearOffset().clearPipeline()
+                    .addAllPipeline(command.getPipelineList().subList(1,
+                        command.getPipelineCount()))
+                    .buildPartial());
+          }
+        }
+        if (request.hasCommand()) {
+          if (request.getCommand().getFlush()) {
+            if (mForwardWriter != null) {
+              mForwardWriter.flush();
+            }
+            mResponseObserver.onNext(WriteResponse.newBuilder().setOffset(mPos).build());
+          }
+          return;
+        }
+        mPos += request.getChunk().getData().size();
+        if (mForwardWriter != null) {
+          mForwardWriter.writeChunk(
+              Unpooled.wrappedBuffer(request.getChunk().getData().asReadOnlyByteBuffer()));
+        }
+      } catch (Exception e) {
+        cancelForwarding();
+        mResponseObserver.onError(
+            AlluxioStatusException.fromThrowable(e).toGrpcStatusException());
+      }
+    }
+
+    @Override
+    public synchronized void onError(Throwable t) {
+      cancelForwarding();
+    }
+
+    @Override
+    public synchronized void onCompleted() {
+      try {
+        if (mForwardWriter != null) {
+          mForwardWriter.close();
+        }
+        mResponseObserver.onCompleted();
+      } catch (Exception e) {
+        mResponseObserver.onError(
+            AlluxioStatusException.fromThrowable(e).toGrpcStatusException());
+      }
+    }
+
+    private void cancelForwarding() {
+      if (mForwardWriter == null) {
+        return;
+      }
+      try {
+        mForwardWriter.cancel();
+        mForwardWriter.close();
+      } catch (Exception e) {
+        // Ignores the error as the write already failed.
+      }
+      mForwardWriter = null;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block;
+
+import alluxio.Constants;
+import alluxio.collections.TwoKeyConcurrentMap;
+import alluxio.master.block.meta.MasterWorkerInfo;
+import alluxio.master.metastore.heap.HeapBlockStore;
+import alluxio.proto.meta.Block.BlockLocation;
+import alluxio.proto.meta.Block.BlockMeta;
+import alluxio.wire.WorkerNetAddress;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap retained by the block master to track block locations: the blocks of each
+ * {@link MasterWorkerInfo}, and the lengths and locations of the blocks in the
+ * {@link HeapBlockStore}. The benchmark measures the time taken to add all the locations, and
+ * prints the heap retained per block location at the end of each iteration.
+ *
+ * The PRIMITIVE structures are the ones used by the master. The BOXED structures are sets and
+ * maps of boxed block ids, as the master used before, and serve as the baseline.
+ *
+ * The default parameters track 100M block locations, which needs a heap of about 8GB for the
+ * PRIMITIVE structures and 48GB for the BOXED ones, e.g. with {@code -jvmArgs -Xmx48g}. Smaller
+ * clusters can be measured with {@code -p mBlocksPerWorker=...}.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BlockLocationFootprintBench {
+  private static final int BLOCKS_PER_FILE = 8;
+
+  @Param({"PRIMITIVE", "BOXED"})
+  public Structures mStructures;
+
+  @Param({"200"})
+  public int mWorkers;
+
+  @Param({"500000"})
+  public int mBlocksPerWorker;
+
+  @Param({"1", "3"})
+  public int mReplicas;
+
+  /**
+   * The structures tracking block locations.
+   */
+  public enum Structures {
+    PRIMITIVE,
+    BOXED,
+  }
+
+  private long mHeapBefore;
+  private Object mTracked;
+
+  /**
+   * Measures the heap used before adding the locations.
+   */
+  @Setup(Level.Iteration)
+  public void before() {
+    mTracked = null;
+    mHeapBefore = usedHeap();
+  }
+
+  /**
+   * Prints the heap retained by the structures, and releases them.
+   */
+  @TearDown(Level.Iteration)
+  public void after() {
+    long locations = (long) mWorkers * mBlocksPerWorker;
+    System.out.printf("%n%s structures retain %d bytes per block location for %d locations%n",
+        mStructures, (usedHeap() - mHeapBefore) / locations, locations);
+    mTracked = null;
+  }
+
+  /**
+   * Adds all the block locations.
+   */
+  @Benchmark
+  public void addLocations() {
+    mTracked = mStructures == Structures.PRIMITIVE ? addPrimitive() : addBoxed();
+  }
+
+  private Object addPrimitive() {
+    List<MasterWorkerInfo> workers = new ArrayList<>(mWorkers);
+    for (int i = 0; i < mWorkers; i++) {
+      workers.add(new MasterWorkerInfo(i, new WorkerNetAddress().setHost("worker" + i)));
+    }
+    HeapBlockStore store = new HeapBlockStore();
+    long blocks = (long) mWorkers * mBlocksPerWorker / mReplicas;
+    for (long i = 0; i < blocks; i++) {
+      long blockId = blockId(i);
+      store.putBlock(blockId, BlockMeta.newBuilder().setLength(Constants.GB).build());
+      for (int r = 0; r < mReplicas; r++) {
+        int worker = (int) ((i + r) % mWorkers);
+        workers.get(worker).addBlock(blockId);
+        store.addLocation(blockId, location(worker));
+      }
+    }
+    return new Object[] {workers, store};
+  }
+
+  private Object addBoxed() {
+    List<Set<Long>> workers = new ArrayList<>(mWorkers);
+    for (int i = 0; i < mWorkers; i++) {
+      workers.add(new HashSet<>());
+    }
+    Map<Long, BlockMeta> blockMetas = new ConcurrentHashMap<>();
+    TwoKeyConcurrentMap<Long, Long, BlockLocation, Map<Long, BlockLocation>> blockLocations =
+        new TwoKeyConcurrentMap<>(() -> new HashMap<>(4));
+    long blocks = (long) mWorkers * mBlocksPerWorker / mReplicas;
+    for (long i = 0; i < blocks; i++) {
+      long blockId = blockId(i);
+      blockMetas.put(blockId, BlockMeta.newBuilder().setLength(Constants.GB).build());
+      for (int r = 0; r < mReplicas; r++) {
+        int worker = (int) ((i + r) % mWorkers);
+        workers.get(worker).add(blockId);
+        blockLocations.addInnerValue(blockId, (long) worker, location(worker));
+      }
+    }
+    return new Object[] {workers, blockMetas, blockLocations};
+  }
+
+  /**
+   * @param index the index of a block
+   * @return the id of the block, with {@link #BLOCKS_PER_FILE} blocks per container
+   */
+  private static long blockId(long index) {
+    return ((index / BLOCKS_PER_FILE) << 24) + index % BLOCKS_PER_FILE;
+  }
+
+  private static BlockLocation location(int worker) {
+    return BlockLocation.newBuilder().setWorkerId(worker).setTier("MEM").setMediumType("MEM")
+        .build();
+  }
+
+  private static long usedHeap() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
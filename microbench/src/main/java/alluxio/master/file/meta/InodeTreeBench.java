@@ -0,0 +1,179 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.AlluxioURI;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.grpc.CreateDirectoryPOptions;
+import alluxio.grpc.CreateFilePOptions;
+import alluxio.grpc.MountPOptions;
+import alluxio.master.MasterUtils;
+import alluxio.master.file.RpcContext;
+import alluxio.master.file.contexts.CreateDirectoryContext;
+import alluxio.master.file.contexts.CreateFileContext;
+import alluxio.master.file.meta.InodeTree.LockPattern;
+import alluxio.master.file.meta.options.MountInfo;
+import alluxio.master.journal.NoopJournalContext;
+import alluxio.master.metastore.InodeStore;
+import alluxio.master.metastore.MetastoreType;
+import alluxio.security.authorization.Mode;
+import alluxio.underfs.MasterUfsManager;
+import alluxio.util.IdUtils;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks for locking paths in {@link InodeTree} on top of the configured metastore.
+ *
+ * The tree is a single chain of {@link #mDepth} directories, and the deepest directory holds
+ * {@link #mFiles} files. Every benchmark locks the full path of a random file, so the cost is
+ * dominated by walking and locking the ancestors.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class InodeTreeBench {
+  private static final String OWNER = "owner";
+  private static final String GROUP = "group";
+
+  @Param({"HEAP", "ROCKS"})
+  public MetastoreType mMetastore;
+
+  @Param({"3", "10"})
+  public int mDepth;
+
+  @Param({"1000"})
+  public int mFiles;
+
+  private File mBaseDir;
+  private InodeStore mInodeStore;
+  private InodeTree mTree;
+  private AlluxioURI[] mFilePaths;
+
+  /**
+   * Builds the inode tree.
+   */
+  @Setup(Level.Trial)
+  public void before() throws Exception {
+    mBaseDir = Files.createTempDirectory("inode-tree-bench").toFile();
+    ServerConfiguration.set(PropertyKey.MASTER_METASTORE, mMetastore);
+
+    InodeLockManager lockManager = new InodeLockManager();
+    mInodeStore = MasterUtils.getInodeStoreFactory(mBaseDir.getAbsolutePath()).apply(lockManager);
+    AtomicLong containerId = new AtomicLong(0);
+    MountInfo rootMountInfo = new MountInfo(new AlluxioURI(MountTable.ROOT),
+        new AlluxioURI(mBaseDir.getAbsolutePath()), IdUtils.ROOT_MOUNT_ID,
+        MountPOptions.getDefaultInstance());
+    mTree = new InodeTree(mInodeStore, containerId::getAndIncrement,
+        new InodeDirectoryIdGenerator(containerId::getAndIncrement),
+        new MountTable(new MasterUfsManager(), rootMountInfo), lockManager);
+    mTree.initializeRoot(OWNER, GROUP, new Mode((short) 0755), NoopJournalContext.INSTANCE);
+
+    StringBuilder dir = new StringBuilder();
+    for (int i = 0; i < mDepth; i++) {
+      dir.append("/dir").append(i);
+    }
+    createPath(new AlluxioURI(dir.toString()), CreateDirectoryContext
+        .mergeFrom(CreateDirectoryPOptions.newBuilder().setRecursive(true))
+        .setOwner(OWNER).setGroup(GROUP));
+    mFilePaths = new AlluxioURI[mFiles];
+    for (int i = 0; i < mFiles; i++) {
+      mFilePaths[i] = new AlluxioURI(dir + "/file" + i);
+      createPath(mFilePaths[i], CreateFileContext.mergeFrom(CreateFilePOptions.newBuilder())
+          .setOwner(OWNER).setGroup(GROUP));
+    }
+  }
+
+  /**
+   * Releases the inode store and its on-disk state.
+   */
+  @TearDown(Level.Trial)
+  public void after() throws Exception {
+    mInodeStore.close();
+    FileUtils.deleteDirectory(mBaseDir);
+    ServerConfiguration.reset();
+  }
+
+  /**
+   * Locks a random file path for reading.
+   *
+   * @return whether the full path exists
+   */
+  @Benchmark
+  public boolean lockRead() throws Exception {
+    try (LockedInodePath path = mTree.lockInodePath(randomPath(), LockPattern.READ)) {
+      return path.fullPathExists();
+    }
+  }
+
+  /**
+   * Locks a random file path for updating the file inode.
+   *
+   * @return whether the full path exists
+   */
+  @Benchmark
+  public boolean lockWriteInode() throws Exception {
+    try (LockedInodePath path = mTree.lockInodePath(randomPath(), LockPattern.WRITE_INODE)) {
+      return path.fullPathExists();
+    }
+  }
+
+  /**
+   * Locks the edge leading to a random file path, as done when creating or deleting it.
+   *
+   * @return whether the full path exists
+   */
+  @Benchmark
+  public boolean lockWriteEdge() throws Exception {
+    try (LockedInodePath path = mTree.lockInodePath(randomPath(), LockPattern.WRITE_EDGE)) {
+      return path.fullPathExists();
+    }
+  }
+
+  private AlluxioURI randomPath() {
+    return mFilePaths[ThreadLocalRandom.current().nextInt(mFilePaths.length)];
+  }
+
+  private void createPath(AlluxioURI uri, CreateDirectoryContext context) throws Exception {
+    try (LockedInodePath path = mTree.lockInodePath(uri, LockPattern.WRITE_EDGE)) {
+      mTree.createPath(RpcContext.NOOP, path, context);
+    }
+  }
+
+  private void createPath(AlluxioURI uri, CreateFileContext context) throws Exception {
+    try (LockedInodePath path = mTree.lockInodePath(uri, LockPattern.WRITE_EDGE)) {
+      mTree.createPath(RpcContext.NOOP, path, context);
+    }
+  }
+}
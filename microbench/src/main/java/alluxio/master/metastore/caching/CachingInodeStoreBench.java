@@ -0,0 +1,194 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.metastore.caching;
+
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.master.file.contexts.CreateDirectoryContext;
+import alluxio.master.file.contexts.CreateFileContext;
+import alluxio.master.file.meta.InodeLockManager;
+import alluxio.master.file.meta.MutableInodeDirectory;
+import alluxio.master.file.meta.MutableInodeFile;
+import alluxio.master.metastore.InodeStore;
+import alluxio.master.metastore.MetastoreType;
+import alluxio.master.metastore.heap.HeapInodeStore;
+import alluxio.master.metastore.rocks.RocksInodeStore;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the hit and miss paths of {@link CachingInodeStore}.
+ *
+ * The namespace is {@link #mDirs} directories under the root, each holding an equal share of
+ * {@link #mFiles} files. With a cache size smaller than the namespace, uniformly random lookups
+ * mostly miss and fall through to the backing store, while lookups in the hot set should hit.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CachingInodeStoreBench {
+  private static final long ROOT_ID = 0;
+  /** Fraction of the files which make up the frequently accessed set. */
+  private static final double HOT_FRACTION = 0.01;
+
+  @Param({"HEAP", "ROCKS"})
+  public MetastoreType mBackingStoreType;
+
+  @Param({"10000", "1000000"})
+  public int mCacheSize;
+
+  @Param({"100"})
+  public int mDirs;
+
+  @Param({"500000"})
+  public int mFiles;
+
+  private File mBaseDir;
+  private InodeStore mStore;
+  private long[] mFileIds;
+
+  /**
+   * Populates the inode store, spilling to the backing store once the cache is full.
+   */
+  @Setup(Level.Trial)
+  public void before() throws Exception {
+    mBaseDir = Files.createTempDirectory("caching-inode-store-bench").toFile();
+    ServerConfiguration.set(PropertyKey.MASTER_METASTORE_INODE_CACHE_MAX_SIZE, mCacheSize);
+    InodeStore backingStore = mBackingStoreType == MetastoreType.ROCKS
+        ? new RocksInodeStore(mBaseDir.getAbsolutePath()) : new HeapInodeStore();
+    mStore = new CachingInodeStore(backingStore, new InodeLockManager());
+
+    mStore.writeNewInode(
+        MutableInodeDirectory.create(ROOT_ID, -1, "", CreateDirectoryContext.defaults()));
+    for (int d = 1; d <= mDirs; d++) {
+      mStore.writeNewInode(
+          MutableInodeDirectory.create(d, ROOT_ID, dirName(d), CreateDirectoryContext.defaults()));
+      mStore.addChild(ROOT_ID, dirName(d), (long) d);
+    }
+    mFileIds = new long[mFiles];
+    for (int f = 0; f < mFiles; f++) {
+      long parentId = parentId(f);
+      MutableInodeFile file = MutableInodeFile.create(mDirs + 1 + f, parentId, fileName(f), 0,
+          CreateFileContext.defaults());
+      mStore.writeNewInode(file);
+      mStore.addChild(parentId, fileName(f), file.getId());
+      mFileIds[f] = file.getId();
+    }
+  }
+
+  /**
+   * Closes the inode store and deletes its on-disk state.
+   */
+  @TearDown(Level.Trial)
+  public void after() throws Exception {
+    mStore.close();
+    FileUtils.deleteDirectory(mBaseDir);
+    ServerConfiguration.reset();
+  }
+
+  /**
+   * Looks up a uniformly random inode.
+   *
+   * @return whether the inode exists
+   */
+  @Benchmark
+  public boolean getUniform() {
+    return mStore.get(fileId(ThreadLocalRandom.current().nextInt(mFiles))).isPresent();
+  }
+
+  /**
+   * Looks up an inode in the frequently accessed set.
+   *
+   * @return whether the inode exists
+   */
+  @Benchmark
+  public boolean getHot() {
+    return mStore.get(fileId(hotFile())).isPresent();
+  }
+
+  /**
+   * Resolves a uniformly random edge.
+   *
+   * @return whether the edge exists
+   */
+  @Benchmark
+  public boolean getChildIdUniform() {
+    int f = ThreadLocalRandom.current().nextInt(mFiles);
+    return mStore.getChildId(parentId(f), fileName(f)).isPresent();
+  }
+
+  /**
+   * Resolves an edge in the frequently accessed set.
+   *
+   * @return whether the edge exists
+   */
+  @Benchmark
+  public boolean getChildIdHot() {
+    int f = hotFile();
+    return mStore.getChildId(parentId(f), fileName(f)).isPresent();
+  }
+
+  /**
+   * Lists the child ids of a random directory.
+   *
+   * @param bh the blackhole consuming the child ids
+   */
+  @Benchmark
+  public void listChildIds(Blackhole bh) {
+    long dirId = 1 + ThreadLocalRandom.current().nextInt(mDirs);
+    for (Long childId : mStore.getChildIds(dirId)) {
+      bh.consume(childId);
+    }
+  }
+
+  private int hotFile() {
+    return ThreadLocalRandom.current().nextInt(Math.max(1, (int) (mFiles * HOT_FRACTION)));
+  }
+
+  private long fileId(int f) {
+    return mFileIds[f];
+  }
+
+  private long parentId(int f) {
+    return 1 + f % mDirs;
+  }
+
+  private static String dirName(long d) {
+    return "dir" + d;
+  }
+
+  private static String fileName(int f) {
+    return "file" + f;
+  }
+}
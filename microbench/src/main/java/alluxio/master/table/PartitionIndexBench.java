@@ -0,0 +1,137 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.table;
+
+import alluxio.grpc.table.Constraint;
+import alluxio.grpc.table.Domain;
+import alluxio.grpc.table.EquatableValueSet;
+import alluxio.grpc.table.FieldSchema;
+import alluxio.grpc.table.Layout;
+import alluxio.grpc.table.PartitionInfo;
+import alluxio.grpc.table.Range;
+import alluxio.grpc.table.RangeSet;
+import alluxio.grpc.table.Value;
+import alluxio.table.common.layout.HiveLayout;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks for planning a read of a partitioned table, as done by
+ * {@link AlluxioCatalog#readTable}, against the number of partitions of the table.
+ *
+ * The table is partitioned by ds and hour, with 24 hours per day. The equality and range
+ * benchmarks select a single day and a week of days respectively, and are compared with returning
+ * every partition, which is what reading a table cost before partitions were pruned.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PartitionIndexBench {
+  private static final int HOURS = 24;
+  private static final List<FieldSchema> PARTITION_COLS = Arrays.asList(
+      FieldSchema.newBuilder().setName("ds").setType("string").build(),
+      FieldSchema.newBuilder().setName("hour").setType("int").build());
+
+  @Param({"1000", "10000", "100000"})
+  public int mPartitions;
+
+  private PartitionScheme mScheme;
+  private Constraint mEqualityConstraint;
+  private Constraint mRangeConstraint;
+
+  /**
+   * Creates the partitions of the table and builds its index.
+   */
+  @Setup(Level.Trial)
+  public void before() {
+    List<Partition> partitions = new ArrayList<>(mPartitions);
+    for (int i = 0; i < mPartitions; i++) {
+      String ds = day(i / HOURS);
+      String hour = Integer.toString(i % HOURS);
+      String spec = "ds=" + ds + "/hour=" + hour;
+      partitions.add(new Partition(spec, new HiveLayout(PartitionInfo.newBuilder()
+          .setPartitionName(spec).setDbName("db").setTableName("table")
+          .addValues(ds).addValues(hour).build(), Collections.emptyList())));
+    }
+    mScheme = PartitionScheme.create(partitions, Layout.getDefaultInstance(), PARTITION_COLS);
+
+    int days = (mPartitions + HOURS - 1) / HOURS;
+    mEqualityConstraint = Constraint.newBuilder().putColumnConstraints("ds",
+        Domain.newBuilder().setEquatable(EquatableValueSet.newBuilder().setWhiteList(true)
+            .addCandidates(Value.newBuilder().setStringType(day(days / 2)))).build()).build();
+    mRangeConstraint = Constraint.newBuilder().putColumnConstraints("ds",
+        Domain.newBuilder().setRange(RangeSet.newBuilder().addRanges(Range.newBuilder()
+            .setLow(Value.newBuilder().setStringType(day(days / 2)))
+            .setHigh(Value.newBuilder().setStringType(day(days / 2 + 6))))).build()).build();
+    // Build the index before measuring.
+    mScheme.getPartitions(mEqualityConstraint);
+  }
+
+  /**
+   * Plans a read of the whole table.
+   *
+   * @return the partitions to read
+   */
+  @Benchmark
+  public List<alluxio.grpc.table.Partition> readAll() {
+    return toProto(mScheme.getPartitions(Constraint.getDefaultInstance()));
+  }
+
+  /**
+   * Plans a read of the partitions of a single day.
+   *
+   * @return the partitions to read
+   */
+  @Benchmark
+  public List<alluxio.grpc.table.Partition> readEquality() {
+    return toProto(mScheme.getPartitions(mEqualityConstraint));
+  }
+
+  /**
+   * Plans a read of the partitions of a week.
+   *
+   * @return the partitions to read
+   */
+  @Benchmark
+  public List<alluxio.grpc.table.Partition> readRange() {
+    return toProto(mScheme.getPartitions(mRangeConstraint));
+  }
+
+  private static List<alluxio.grpc.table.Partition> toProto(List<Partition> partitions) {
+    return partitions.stream().map(Partition::toProto).collect(Collectors.toList());
+  }
+
+  private static String day(int day) {
+    return String.format("day-%06d", day);
+  }
+}
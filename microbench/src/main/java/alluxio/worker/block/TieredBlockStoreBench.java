@@ -0,0 +1,267 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.util.io.BufferUtils;
+import alluxio.worker.block.io.BlockReader;
+import alluxio.worker.block.io.BlockWriter;
+
+import com.google.common.base.Joiner;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks for the lock and read paths of {@link TieredBlockStore} over local storage
+ * directories.
+ *
+ * Run with {@code -t <threads>} to measure how the metadata and block lock paths scale with
+ * concurrent readers. The {@code readWithChurn} group runs readers next to a thread which keeps
+ * creating, moving and removing blocks; vary its readers with {@code -tg <readers>,1}.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TieredBlockStoreBench {
+  private static final String TIER_ALIAS = "SSD";
+  private static final long SETUP_SESSION_ID = 1;
+  /** Block ids of the blocks churned by the writer in the mixed benchmark. */
+  private static final long CHURN_BLOCK_ID_START = 1L << 40;
+
+  /**
+   * The block store shared by all benchmark threads.
+   */
+  @State(Scope.Benchmark)
+  public static class BlockStoreState {
+    @Param({"1", "4"})
+    public int mDirs;
+
+    @Param({"10000"})
+    public int mBlocks;
+
+    @Param({"65536"})
+    public int mBlockSize;
+
+    private final AtomicLong mNextSessionId = new AtomicLong(SETUP_SESSION_ID + 1);
+    private final AtomicLong mNextChurnBlockId = new AtomicLong(CHURN_BLOCK_ID_START);
+    private File mBaseDir;
+    private TieredBlockStore mStore;
+    private long[] mBlockIds;
+
+    /**
+     * Configures a single tier and fills it with committed blocks.
+     */
+    @Setup(Level.Trial)
+    public void before() throws Exception {
+      mBaseDir = Files.createTempDirectory("tiered-block-store-bench").toFile();
+      List<String> paths = new ArrayList<>();
+      for (int i = 0; i < mDirs; i++) {
+        File dir = new File(mBaseDir, "dir" + i);
+        dir.mkdirs();
+        paths.add(dir.getAbsolutePath());
+      }
+      // Leave headroom so that setup never triggers eviction.
+      long dirQuota = 2L * mBlocks * mBlockSize / mDirs;
+      ServerConfiguration.set(PropertyKey.WORKER_TIERED_STORE_LEVELS, 1);
+      ServerConfiguration.set(PropertyKey.Template.WORKER_TIERED_STORE_LEVEL_ALIAS.format(0),
+          TIER_ALIAS);
+      ServerConfiguration.set(PropertyKey.Template.WORKER_TIERED_STORE_LEVEL_DIRS_PATH.format(0),
+          Joiner.on(',').join(paths));
+      ServerConfiguration.set(PropertyKey.Template.WORKER_TIERED_STORE_LEVEL_DIRS_QUOTA.format(0),
+          Joiner.on(',').join(Collections.nCopies(mDirs, dirQuota)));
+      ServerConfiguration.set(
+          PropertyKey.Template.WORKER_TIERED_STORE_LEVEL_DIRS_MEDIUMTYPE.format(0),
+          Joiner.on(',').join(Collections.nCopies(mDirs, TIER_ALIAS)));
+      mStore = new TieredBlockStore();
+
+      byte[] data = BufferUtils.getIncreasingByteArray(mBlockSize);
+      mBlockIds = new long[mBlocks];
+      for (int i = 0; i < mBlocks; i++) {
+        long blockId = i + 1;
+        mStore.createBlock(SETUP_SESSION_ID, blockId,
+            BlockStoreLocation.anyDirInTier(TIER_ALIAS), mBlockSize);
+        try (BlockWriter writer = mStore.getBlockWriter(SETUP_SESSION_ID, blockId)) {
+          writer.append(ByteBuffer.wrap(data));
+        }
+        mStore.commitBlock(SETUP_SESSION_ID, blockId, false);
+        mBlockIds[i] = blockId;
+      }
+    }
+
+    /**
+     * Deletes the storage directories.
+     */
+    @TearDown(Level.Trial)
+    public void after() throws Exception {
+      FileUtils.deleteDirectory(mBaseDir);
+      ServerConfiguration.reset();
+    }
+
+    private long randomBlockId() {
+      return mBlockIds[ThreadLocalRandom.current().nextInt(mBlockIds.length)];
+    }
+  }
+
+  /**
+   * Per-thread session and read buffer.
+   */
+  @State(Scope.Thread)
+  public static class ReaderState {
+    @Param({"8192"})
+    public int mChunkSize;
+
+    private long mSessionId;
+    private ByteBuf mBuf;
+
+    /**
+     * Allocates a session id and a read buffer for the thread.
+     *
+     * @param store the shared block store state
+     */
+    @Setup(Level.Trial)
+    public void before(BlockStoreState store) {
+      mSessionId = store.mNextSessionId.getAndIncrement();
+      mBuf = PooledByteBufAllocator.DEFAULT.directBuffer(mChunkSize, mChunkSize);
+    }
+
+    /**
+     * Releases the read buffer.
+     */
+    @TearDown(Level.Trial)
+    public void after() {
+      mBuf.release();
+    }
+  }
+
+  /**
+   * Locks and unlocks a random block.
+   *
+   * @param store the block store state
+   * @param reader the reader state
+   * @return the lock id
+   */
+  @Benchmark
+  public long lockUnlock(BlockStoreState store, ReaderState reader) throws Exception {
+    long lockId = store.mStore.lockBlock(reader.mSessionId, store.randomBlockId());
+    store.mStore.unlockBlock(lockId);
+    return lockId;
+  }
+
+  /**
+   * Looks up the metadata of a random block.
+   *
+   * @param store the block store state
+   * @return the block size
+   */
+  @Benchmark
+  public long getVolatileBlockMeta(BlockStoreState store) throws Exception {
+    return store.mStore.getVolatileBlockMeta(store.randomBlockId()).getBlockSize();
+  }
+
+  /**
+   * Locks a random block, reads its first chunk the same way the data server does, and unlocks
+   * it again.
+   *
+   * @param store the block store state
+   * @param reader the reader state
+   * @return the number of bytes read
+   */
+  @Benchmark
+  public int lockReadChunk(BlockStoreState store, ReaderState reader) throws Exception {
+    long blockId = store.randomBlockId();
+    long lockId = store.mStore.lockBlock(reader.mSessionId, blockId);
+    try (BlockReader blockReader =
+             store.mStore.getBlockReader(reader.mSessionId, blockId, lockId)) {
+      reader.mBuf.clear();
+      return blockReader.transferTo(reader.mBuf);
+    } finally {
+      store.mStore.unlockBlock(lockId);
+    }
+  }
+
+  /**
+   * Records an access to a random block, which notifies the block store event listeners.
+   *
+   * @param store the block store state
+   * @param reader the reader state
+   */
+  @Benchmark
+  public void accessBlock(BlockStoreState store, ReaderState reader) throws Exception {
+    store.mStore.accessBlock(reader.mSessionId, store.randomBlockId());
+  }
+
+  /**
+   * Reads a random block next to the churning writer.
+   *
+   * @param store the block store state
+   * @param reader the reader state
+   * @return the number of bytes read
+   */
+  @Benchmark
+  @Group("readWithChurn")
+  @GroupThreads(7)
+  public int readWithChurnReader(BlockStoreState store, ReaderState reader) throws Exception {
+    return lockReadChunk(store, reader);
+  }
+
+  /**
+   * Creates and commits a block, moves it to another dir of the tier and removes it again, which
+   * takes the metadata write lock several times.
+   *
+   * @param store the block store state
+   * @param reader the reader state
+   */
+  @Benchmark
+  @Group("readWithChurn")
+  @GroupThreads(1)
+  public void readWithChurnWriter(BlockStoreState store, ReaderState reader) throws Exception {
+    long blockId = store.mNextChurnBlockId.getAndIncrement();
+    store.mStore.createBlock(reader.mSessionId, blockId,
+        BlockStoreLocation.anyDirInTier(TIER_ALIAS), store.mBlockSize);
+    store.mStore.commitBlock(reader.mSessionId, blockId, false);
+    if (store.mDirs > 1) {
+      int dir = store.mStore.getVolatileBlockMeta(blockId).getParentDir().getDirIndex();
+      store.mStore.moveBlock(reader.mSessionId, blockId,
+          new BlockStoreLocation(TIER_ALIAS, (dir + 1) % store.mDirs));
+    }
+    store.mStore.removeBlock(reader.mSessionId, blockId);
+  }
+}
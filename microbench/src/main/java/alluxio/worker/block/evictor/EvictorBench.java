@@ -0,0 +1,156 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.evictor;
+
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.worker.block.BlockMetadataEvictorView;
+import alluxio.worker.block.BlockMetadataManager;
+import alluxio.worker.block.BlockStoreEventListener;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.allocator.Allocator;
+import alluxio.worker.block.meta.BlockMeta;
+import alluxio.worker.block.meta.StorageDir;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the eviction latency of the evictors over a worker with an SSD and an HDD tier
+ * which are both full.
+ *
+ * Blocks only exist in the worker metadata, so millions of blocks can be tracked without writing
+ * any data. Freeing space in the SSD tier moves its blocks to the HDD tier, which in turn evicts
+ * HDD blocks, so a plan walks the candidates of both tiers. The plans are computed against the
+ * same view and never executed, so every invocation sees the same blocks. At 10M blocks the
+ * worker metadata needs a heap of several GB, pass {@code -jvmArgsAppend -Xmx16g} if needed.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-server")
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EvictorBench {
+  private static final String[] TIER_ALIASES = {"SSD", "HDD"};
+  private static final long BLOCK_SIZE = 1024 * 1024;
+  private static final long SESSION_ID = 1;
+
+  @Param({"alluxio.worker.block.evictor.LRUEvictor",
+      "alluxio.worker.block.evictor.LRFUEvictor"})
+  public String mEvictorClass;
+
+  /** The number of blocks across both tiers. */
+  @Param({"1000000", "3000000", "10000000"})
+  public int mBlocks;
+
+  /** The number of blocks freed by each eviction. */
+  @Param({"1", "64"})
+  public int mBlocksToFree;
+
+  private File mBaseDir;
+  private BlockMetadataEvictorView mView;
+  private Evictor mEvictor;
+  private int mLastBlockId;
+
+  /**
+   * Fills both tiers with block metadata and creates the evictor over them.
+   */
+  @Setup(Level.Trial)
+  public void before() throws Exception {
+    mBaseDir = Files.createTempDirectory("evictor-bench").toFile();
+    long tierQuota = (long) mBlocks / TIER_ALIASES.length * BLOCK_SIZE;
+    ServerConfiguration.set(PropertyKey.WORKER_TIERED_STORE_LEVELS, TIER_ALIASES.length);
+    for (int i = 0; i < TIER_ALIASES.length; i++) {
+      File dir = new File(mBaseDir, TIER_ALIASES[i]);
+      dir.mkdirs();
+      ServerConfiguration.set(PropertyKey.Template.WORKER_TIERED_STORE_LEVEL_ALIAS.format(i),
+          TIER_ALIASES[i]);
+      ServerConfiguration.set(PropertyKey.Template.WORKER_TIERED_STORE_LEVEL_DIRS_PATH.format(i),
+          dir.getAbsolutePath());
+      ServerConfiguration.set(PropertyKey.Template.WORKER_TIERED_STORE_LEVEL_DIRS_QUOTA.format(i),
+          tierQuota);
+      ServerConfiguration.set(
+          PropertyKey.Template.WORKER_TIERED_STORE_LEVEL_DIRS_MEDIUMTYPE.format(i),
+          TIER_ALIASES[i]);
+    }
+    ServerConfiguration.set(PropertyKey.WORKER_EVICTOR_CLASS, mEvictorClass);
+
+    BlockMetadataManager manager = BlockMetadataManager.createBlockMetadataManager();
+    int blockId = 0;
+    for (String alias : TIER_ALIASES) {
+      StorageDir dir = manager.getTier(alias).getDir(0);
+      for (int i = 0; i < mBlocks / TIER_ALIASES.length; i++) {
+        dir.addBlockMeta(new BlockMeta(++blockId, BLOCK_SIZE, dir));
+      }
+    }
+    mLastBlockId = blockId;
+    mView = new BlockMetadataEvictorView(manager, Collections.emptySet(),
+        Collections.emptySet());
+    mEvictor = Evictor.Factory.create(mView, Allocator.Factory.create(mView));
+
+    // Give the blocks distinct recency and frequency.
+    BlockStoreEventListener listener = (BlockStoreEventListener) mEvictor;
+    Random random = new Random(0);
+    for (int i = 0; i < mBlocks; i++) {
+      listener.onAccessBlock(SESSION_ID, 1 + random.nextInt(mLastBlockId));
+    }
+  }
+
+  /**
+   * Deletes the storage directories.
+   */
+  @TearDown(Level.Trial)
+  public void after() throws Exception {
+    FileUtils.deleteDirectory(mBaseDir);
+    ServerConfiguration.reset();
+  }
+
+  /**
+   * Plans freeing {@link #mBlocksToFree} blocks worth of space in the SSD tier.
+   *
+   * @return the eviction plan
+   */
+  @Benchmark
+  public EvictionPlan freeSpace() {
+    return mEvictor.freeSpaceWithView(mBlocksToFree * BLOCK_SIZE,
+        BlockStoreLocation.anyDirInTier(TIER_ALIASES[0]), mView, Evictor.Mode.BEST_EFFORT);
+  }
+
+  /**
+   * Records an access to a random block, which updates the eviction order.
+   */
+  @Benchmark
+  public void accessBlock() {
+    ((BlockStoreEventListener) mEvictor).onAccessBlock(SESSION_ID,
+        1 + ThreadLocalRandom.current().nextInt(mLastBlockId));
+  }
+}
@@ -19,9 +19,6 @@ import alluxio.exception.status.NotFoundException;
 import alluxio.grpc.table.ColumnStatisticsInfo;
 import alluxio.grpc.table.ColumnStatisticsList;
 import alluxio.grpc.table.Constraint;
-import alluxio.grpc.table.Domain;
-import alluxio.grpc.table.FieldSchema;
-import alluxio.grpc.table.PartitionInfo;
 import alluxio.master.journal.JournalContext;
 import alluxio.master.journal.JournalEntryIterable;
 import alluxio.master.journal.Journaled;
@@ -32,7 +29,6 @@ import alluxio.table.common.udb.UdbContext;
 import alluxio.table.common.udb.UnderDatabaseRegistry;
 import alluxio.util.StreamUtils;
 
-import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterators;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,6 +114,16 @@ public class AlluxioCatalog implements Journaled {
     return true;
   }
 
+  /**
+   * Syncs the tables and partitions of a database from its under database.
+   *
+   * @param journalContext journal context
+   * @param dbName the database name
+   */
+  public void syncDatabase(JournalContext journalContext, String dbName) throws IOException {
+    getDatabaseByName(dbName).sync(journalContext);
+  }
+
   /**
    * Get a table object by name.
    *
@@ -208,48 +214,8 @@ public class AlluxioCatalog implements Journaled {
   public List<alluxio.grpc.table.Partition> readTable(String dbName, String tableName,
       Constraint constraint) throws IOException {
     Table table = getTable(dbName, tableName);
-    // TODO(david): implement partition pruning
-    return table.getPartitions().stream().map(Partition::toProto).collect(Collectors.toList());
-  }
-
-  private static boolean checkDomain(String value, FieldSchema schema, Domain constraint) {
-    Comparable object;
-    // TODO(yuzhu): handle more complex data types
-    switch (schema.getType()) {
-      case "boolean":
-        object = Boolean.valueOf(value);
-        break;
-      case "int":
-      case "integer":
-        object = Integer.valueOf(value);
-        break;
-      case "long":
-        object = Long.valueOf(value);
-        break;
-      case "string":
-        object = value;
-        break;
-      case "double":
-        object = Double.valueOf(value);
-        break;
-      default:
-        return false;
-    }
-    return alluxio.master.table.Domain.parseFrom(constraint).isInDomain(object);
-  }
-
-  private static boolean checkDomain(PartitionInfo partitionInfo,
-      Map<FieldSchema, Domain> constraints) {
-    Preconditions.checkArgument(constraints.size() == partitionInfo.getValuesList().size(),
-        "partition key size is not the same as constraint size");
-    int index = 0;
-    for (Map.Entry<FieldSchema, Domain> entry : constraints.entrySet()) {
-      String val = partitionInfo.getValuesList().get(index++);
-      if (!checkDomain(val, entry.getKey(), entry.getValue())) {
-        return false;
-      }
-    }
-    return true;
+    return table.getPartitions(constraint).stream().map(Partition::toProto)
+        .collect(Collectors.toList());
   }
 
   private void apply(alluxio.proto.journal.Table.AttachDbEntry entry) {
@@ -274,8 +240,15 @@ public class AlluxioCatalog implements Journaled {
       apply(entry.getAttachDb());
       return true;
     } else if (entry.hasAddTable()) {
-      Database db = mDBs.get(entry.getAddTable().getDbName());
-      return db.processJournalEntry(entry);
+      return processDatabaseEntry(entry.getAddTable().getDbName(), entry);
+    } else if (entry.hasAddTablePartitions()) {
+      return processDatabaseEntry(entry.getAddTablePartitions().getDbName(), entry);
+    } else if (entry.hasRemoveTable()) {
+      return processDatabaseEntry(entry.getRemoveTable().getDbName(), entry);
+    } else if (entry.hasRemoveTablePartitions()) {
+      return processDatabaseEntry(entry.getRemoveTablePartitions().getDbName(), entry);
+    } else if (entry.hasUpdateTable()) {
+      return processDatabaseEntry(entry.getUpdateTable().getDbName(), entry);
     } else if (entry.hasDetachDb()) {
       apply(entry.getDetachDb());
       return true;
@@ -283,6 +256,16 @@ public class AlluxioCatalog implements Journaled {
     return false;
   }
 
+  private boolean processDatabaseEntry(String dbName, Journal.JournalEntry entry) {
+    Database db = mDBs.get(dbName);
+    if (db == null) {
+      // The database was detached while it was being synced.
+      LOG.warn("Ignoring journal entry for detached database {}", dbName);
+      return true;
+    }
+    return db.processJournalEntry(entry);
+  }
+
   @Override
   public void resetState() {
     mDBs.clear();
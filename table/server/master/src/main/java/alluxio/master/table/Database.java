@@ -11,6 +11,8 @@
 
 package alluxio.master.table;
 
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.exception.status.NotFoundException;
 import alluxio.grpc.table.FileStatistics;
 import alluxio.grpc.table.Schema;
@@ -21,18 +23,28 @@ import alluxio.proto.journal.Journal;
 import alluxio.table.common.udb.UdbContext;
 import alluxio.table.common.udb.UdbTable;
 import alluxio.table.common.udb.UnderDatabase;
+import alluxio.util.ThreadFactoryUtils;
 
+import com.google.common.base.Stopwatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The database implementation that manages a collection of tables.
@@ -167,29 +179,113 @@ public class Database implements Journaled {
     return mConfig;
   }
 
+  /**
+   * @return the under database
+   */
+  public UnderDatabase getUdb() {
+    return mUdb;
+  }
+
   /**
    * Syncs the metadata from the under db.
+   *
+   * The tables are fetched from the under db concurrently, and compared with the tables of this
+   * database. Only the differences are applied and journaled: new tables, tables removed from the
+   * under db, and the changed metadata and partitions of existing tables. A table which fails to
+   * sync is left unchanged, and the other tables are still synced.
+   *
    * @param context journal context
    */
-  public void sync(JournalContext context) throws IOException {
-    for (String tableName : mUdb.getTableNames()) {
-      // TODO(gpang): concurrency control
-      Table table = mTables.get(tableName);
-      if (table == null) {
-        // add table from udb
-        UdbTable udbTable = mUdb.getTable(tableName);
-        table = Table.create(this, udbTable);
-        alluxio.proto.journal.Table.AddTableEntry addTableEntry = table.toJournalProto();
-        Journal.JournalEntry entry = Journal.JournalEntry.newBuilder().setAddTable(addTableEntry)
-            .build();
-        applyAndJournal(context, entry);
-      } else {
-        // sync metadata from udb
-        // TODO(gpang): implement
+  public synchronized void sync(JournalContext context) throws IOException {
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    List<String> tableNames = mUdb.getTableNames();
+    Set<String> udbTableNames = new HashSet<>(tableNames);
+    int threads = Math.max(1, Math.min(tableNames.size(),
+        ServerConfiguration.getInt(PropertyKey.TABLE_CATALOG_UDB_SYNC_THREADS)));
+    ExecutorService executor = Executors.newFixedThreadPool(threads,
+        ThreadFactoryUtils.build("udb-sync-" + mName + "-%d", true));
+    int changedTables = 0;
+    int failedTables = 0;
+    Throwable failure = null;
+    try {
+      CompletionService<List<Journal.JournalEntry>> completionService =
+          new ExecutorCompletionService<>(executor);
+      // Bound the number of fetched tables waiting to be applied.
+      int maxPending = 2 * threads;
+      int submitted = 0;
+      for (int completed = 0; completed < tableNames.size(); completed++) {
+        while (submitted < tableNames.size() && submitted - completed < maxPending) {
+          String tableName = tableNames.get(submitted++);
+          completionService.submit(() -> getSyncEntries(tableName));
+        }
+        try {
+          List<Journal.JournalEntry> entries = completionService.take().get();
+          for (Journal.JournalEntry entry : entries) {
+            applyAndJournal(context, entry);
+          }
+          if (!entries.isEmpty()) {
+            changedTables++;
+          }
+        } catch (ExecutionException e) {
+          failedTables++;
+          LOG.warn("Failed to sync a table of database {}: {}", mName, e.getCause().toString());
+          if (failure == null) {
+            failure = e.getCause();
+          }
+        }
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while syncing database " + mName, e);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    int removedTables = 0;
+    for (Table table : getTables()) {
+      if (!udbTableNames.contains(table.getName())) {
+        applyAndJournal(context, getRemoveTableEntry(table.getName()));
+        removedTables++;
+      }
+    }
+    LOG.info("Synced database {} from {} tables in the udb in {}ms: {} tables added or updated, "
+            + "{} tables removed, {} tables failed", mName, tableNames.size(),
+        stopwatch.elapsed(TimeUnit.MILLISECONDS), changedTables, removedTables, failedTables);
+    if (failure != null) {
+      throw new IOException(String.format("Failed to sync %d of %d tables of database %s",
+          failedTables, tableNames.size(), mName), failure);
     }
   }
 
+  /**
+   * Fetches a table from the under db and compares it with the table of this database.
+   *
+   * @param tableName the table name
+   * @return the journal entries which bring the table up to date
+   */
+  private List<Journal.JournalEntry> getSyncEntries(String tableName) throws IOException {
+    Table table = mTables.get(tableName);
+    UdbTable udbTable;
+    try {
+      udbTable = mUdb.getTable(tableName);
+    } catch (NotFoundException e) {
+      // The table was dropped after the tables were listed.
+      return table == null ? Collections.emptyList()
+          : Collections.singletonList(getRemoveTableEntry(tableName));
+    }
+    if (table == null) {
+      return Collections.singletonList(Journal.JournalEntry.newBuilder()
+          .setAddTable(Table.create(this, udbTable).toJournalProto()).build());
+    }
+    return table.getSyncEntries(udbTable);
+  }
+
+  private Journal.JournalEntry getRemoveTableEntry(String tableName) {
+    return Journal.JournalEntry.newBuilder().setRemoveTable(
+        alluxio.proto.journal.Table.RemoveTableEntry.newBuilder().setDbName(mName)
+            .setTableName(tableName)).build();
+  }
+
   @Override
   public boolean processJournalEntry(Journal.JournalEntry entry) {
     if (entry.hasAddTable()) {
@@ -198,10 +294,44 @@ public class Database implements Journaled {
         apply(addTable);
         return true;
       }
+    } else if (entry.hasRemoveTable()) {
+      alluxio.proto.journal.Table.RemoveTableEntry removeTable = entry.getRemoveTable();
+      if (removeTable.getDbName().equals(mName)) {
+        mTables.remove(removeTable.getTableName());
+        return true;
+      }
+    } else if (entry.hasUpdateTable()) {
+      alluxio.proto.journal.Table.UpdateTableEntry updateTable = entry.getUpdateTable();
+      Table table = getTableForEntry(updateTable.getDbName(), updateTable.getTableName());
+      if (table != null) {
+        table.update(updateTable);
+        return true;
+      }
+    } else if (entry.hasAddTablePartitions()) {
+      alluxio.proto.journal.Table.AddTablePartitionsEntry addPartitions =
+          entry.getAddTablePartitions();
+      Table table = getTableForEntry(addPartitions.getDbName(), addPartitions.getTableName());
+      if (table != null) {
+        table.addPartitions(addPartitions);
+        return true;
+      }
+    } else if (entry.hasRemoveTablePartitions()) {
+      alluxio.proto.journal.Table.RemoveTablePartitionsEntry removePartitions =
+          entry.getRemoveTablePartitions();
+      Table table =
+          getTableForEntry(removePartitions.getDbName(), removePartitions.getTableName());
+      if (table != null) {
+        table.removePartitions(removePartitions);
+        return true;
+      }
     }
     return false;
   }
 
+  private Table getTableForEntry(String dbName, String tableName) {
+    return dbName.equals(mName) ? mTables.get(tableName) : null;
+  }
+
   private void apply(alluxio.proto.journal.Table.AddTableEntry entry) {
     Table table = Table.create(this, entry);
     addTable(entry.getTableName(), table);
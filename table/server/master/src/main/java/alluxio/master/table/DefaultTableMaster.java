@@ -14,16 +14,22 @@ package alluxio.master.table;
 import alluxio.Constants;
 import alluxio.Server;
 import alluxio.clock.SystemClock;
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
 import alluxio.grpc.GrpcService;
 import alluxio.grpc.ServiceType;
 import alluxio.grpc.table.ColumnStatisticsInfo;
 import alluxio.grpc.table.ColumnStatisticsList;
 import alluxio.grpc.table.Constraint;
 import alluxio.grpc.table.Partition;
+import alluxio.heartbeat.HeartbeatContext;
+import alluxio.heartbeat.HeartbeatExecutor;
+import alluxio.heartbeat.HeartbeatThread;
 import alluxio.master.CoreMaster;
 import alluxio.master.CoreMasterContext;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.journal.DelegatingJournaled;
+import alluxio.master.journal.JournalContext;
 import alluxio.master.journal.Journaled;
 import alluxio.master.journal.JournaledGroup;
 import alluxio.master.journal.checkpoint.CheckpointName;
@@ -146,6 +152,10 @@ public class DefaultTableMaster extends CoreMaster
     super.start(isLeader);
     if (isLeader) {
       mTransformManager.start(getExecutorService(), mMasterContext.getUserState());
+      getExecutorService().submit(new HeartbeatThread(HeartbeatContext.MASTER_TABLE_UDB_SYNC,
+          new UdbSyncExecutor(),
+          ServerConfiguration.getMs(PropertyKey.TABLE_CATALOG_UDB_SYNC_INTERVAL),
+          ServerConfiguration.global(), mMasterContext.getUserState()));
     }
   }
 
@@ -163,4 +173,36 @@ public class DefaultTableMaster extends CoreMaster
   public Journaled getDelegate() {
     return mJournaledComponents;
   }
+
+  /**
+   * Periodically syncs the attached databases from their under databases, so that tables and
+   * partitions added to the under databases after attaching them become visible.
+   */
+  private final class UdbSyncExecutor implements HeartbeatExecutor {
+    @Override
+    public void heartbeat() throws InterruptedException {
+      List<String> dbNames;
+      try {
+        dbNames = mCatalog.getAllDatabases();
+      } catch (IOException e) {
+        LOG.warn("Failed to list databases to sync: {}", e.toString());
+        return;
+      }
+      for (String dbName : dbNames) {
+        if (Thread.interrupted()) {
+          throw new InterruptedException("UdbSyncExecutor interrupted.");
+        }
+        try (JournalContext journalContext = createJournalContext()) {
+          mCatalog.syncDatabase(journalContext, dbName);
+        } catch (IOException e) {
+          LOG.warn("Failed to sync database {}: {}", dbName, e.toString());
+        }
+      }
+    }
+
+    @Override
+    public void close() {
+      // Nothing to clean up
+    }
+  }
 }
@@ -0,0 +1,374 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.table;
+
+import alluxio.grpc.table.Constraint;
+import alluxio.grpc.table.Domain;
+import alluxio.grpc.table.EquatableValueSet;
+import alluxio.grpc.table.FieldSchema;
+import alluxio.grpc.table.PartitionInfo;
+import alluxio.grpc.table.Range;
+import alluxio.grpc.table.Value;
+
+import com.google.protobuf.Message;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An index of the partition values of a partitioned table, which finds the partitions matching a
+ * {@link Constraint} without checking every partition.
+ *
+ * Every partition column of a supported type has a sorted index from value to partitions for range
+ * domains, and a hash index for equatable domains. A partition whose value for a column is missing
+ * or cannot be parsed as the column type is never pruned by a constraint on that column, and
+ * constraints on other columns never prune partitions.
+ */
+@ThreadSafe
+public final class PartitionIndex {
+  private final List<Partition> mPartitions;
+  /** The indexes of the partition columns, keyed by column name. */
+  private final Map<String, ColumnIndex> mColumns = new HashMap<>();
+
+  /**
+   * @param partitions the partitions of the table
+   * @param partitionCols the partition columns of the table
+   */
+  public PartitionIndex(List<Partition> partitions, List<FieldSchema> partitionCols) {
+    mPartitions = partitions;
+    List<ColumnIndex> columns = new ArrayList<>(partitionCols.size());
+    for (FieldSchema col : partitionCols) {
+      ColumnType type = ColumnType.of(col.getType());
+      ColumnIndex column = type == null ? null : new ColumnIndex(type, partitions.size());
+      columns.add(column);
+      if (column != null) {
+        mColumns.put(col.getName(), column);
+      }
+    }
+    for (int i = 0; i < partitions.size(); i++) {
+      List<String> values = getPartitionValues(partitions.get(i), partitionCols);
+      for (int c = 0; c < columns.size(); c++) {
+        if (columns.get(c) != null) {
+          columns.get(c).add(i, values == null ? null : values.get(c));
+        }
+      }
+    }
+    for (ColumnIndex column : mColumns.values()) {
+      column.build();
+    }
+  }
+
+  /**
+   * @param constraint the constraint on the table columns
+   * @return the partitions which may contain rows matching the constraint, in table order
+   */
+  public List<Partition> getPartitions(Constraint constraint) {
+    int numPartitions = mPartitions.size();
+    BitSet matches = new BitSet(numPartitions);
+    matches.set(0, numPartitions);
+    for (Map.Entry<String, Domain> entry : constraint.getColumnConstraintsMap().entrySet()) {
+      ColumnIndex column = mColumns.get(entry.getKey());
+      if (column == null) {
+        continue;
+      }
+      matches.and(column.match(entry.getValue()));
+      if (matches.isEmpty()) {
+        return Collections.emptyList();
+      }
+    }
+    if (matches.cardinality() == numPartitions) {
+      return mPartitions;
+    }
+    List<Partition> result = new ArrayList<>(matches.cardinality());
+    for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+      result.add(mPartitions.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the values of the partition columns of a partition, from the partition info of its
+   * layout, or else by parsing its spec of the form "col1=value1/col2=value2".
+   *
+   * @return the values in the order of the partition columns, or null if they are unknown
+   */
+  @Nullable
+  private static List<String> getPartitionValues(Partition partition,
+      List<FieldSchema> partitionCols) {
+    Message data = partition.getBaseLayout().getData();
+    if (data instanceof PartitionInfo
+        && ((PartitionInfo) data).getValuesCount() == partitionCols.size()) {
+      return ((PartitionInfo) data).getValuesList();
+    }
+    String[] parts = partition.getSpec().split("/");
+    if (parts.length != partitionCols.size()) {
+      return null;
+    }
+    List<String> values = new ArrayList<>(parts.length);
+    for (int i = 0; i < parts.length; i++) {
+      int eq = parts[i].indexOf('=');
+      if (eq == -1 || !unescape(parts[i].substring(0, eq))
+          .equalsIgnoreCase(partitionCols.get(i).getName())) {
+        return null;
+      }
+      values.add(unescape(parts[i].substring(eq + 1)));
+    }
+    return values;
+  }
+
+  /**
+   * Reverses the escaping of special characters as %XX in Hive partition names.
+   */
+  private static String unescape(String s) {
+    if (s.indexOf('%') == -1) {
+      return s;
+    }
+    StringBuilder sb = new StringBuilder(s.length());
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c == '%' && i + 2 < s.length()) {
+        try {
+          sb.append((char) Integer.parseInt(s.substring(i + 1, i + 3), 16));
+          i += 2;
+          continue;
+        } catch (NumberFormatException e) {
+          // Not an escape sequence, keep the character as is.
+        }
+      }
+      sb.append(c);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * The types of partition columns which can be indexed.
+   */
+  private enum ColumnType {
+    BOOLEAN,
+    LONG,
+    DOUBLE,
+    STRING,
+    ;
+
+    @Nullable
+    static ColumnType of(String type) {
+      String t = type.toLowerCase(Locale.ROOT);
+      switch (t) {
+        case "boolean":
+          return BOOLEAN;
+        case "tinyint":
+        case "smallint":
+        case "int":
+        case "integer":
+        case "bigint":
+        case "long":
+          return LONG;
+        case "float":
+        case "double":
+          return DOUBLE;
+        case "string":
+          return STRING;
+        default:
+          return t.startsWith("varchar") || t.startsWith("char") ? STRING : null;
+      }
+    }
+
+    /**
+     * @return the partition value as a key of this type, or null if it cannot be parsed
+     */
+    @Nullable
+    Comparable<?> parse(@Nullable String value) {
+      if (value == null) {
+        return null;
+      }
+      try {
+        switch (this) {
+          case BOOLEAN:
+            return "true".equalsIgnoreCase(value) ? Boolean.TRUE
+                : "false".equalsIgnoreCase(value) ? Boolean.FALSE : null;
+          case LONG:
+            return Long.valueOf(value);
+          case DOUBLE:
+            return Double.valueOf(value);
+          default:
+            return value;
+        }
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+
+    /**
+     * @return the constraint value as a key of this type, or null if no key of this type equals
+     *         the value
+     */
+    @Nullable
+    Comparable<?> convert(Value value) {
+      switch (this) {
+        case BOOLEAN:
+          return value.hasBooleanType() ? value.getBooleanType() : null;
+        case LONG:
+          if (value.hasLongType()) {
+            return value.getLongType();
+          }
+          if (value.hasDoubleType() && value.getDoubleType() == Math.rint(value.getDoubleType())) {
+            return (long) value.getDoubleType();
+          }
+          return null;
+        case DOUBLE:
+          if (value.hasDoubleType()) {
+            return value.getDoubleType();
+          }
+          return value.hasLongType() ? (double) value.getLongType() : null;
+        default:
+          return value.hasStringType() ? value.getStringType() : null;
+      }
+    }
+
+    /**
+     * Converts an inclusive range bound to a key of this type, rounding numbers inwards.
+     *
+     * @return the bound, or null if the value cannot be compared with keys of this type
+     */
+    @Nullable
+    Comparable<?> convertBound(Value value, boolean low) {
+      if (this == LONG && value.hasDoubleType()) {
+        double d = value.getDoubleType();
+        return (long) (low ? Math.ceil(d) : Math.floor(d));
+      }
+      return convert(value);
+    }
+  }
+
+  /**
+   * The index of a single partition column.
+   */
+  private static final class ColumnIndex {
+    private final ColumnType mType;
+    private final int mNumPartitions;
+    /** The partitions which cannot be pruned by this column. */
+    private final BitSet mUnindexed = new BitSet();
+    /** The partitions by value, while building the index. */
+    private Map<Comparable<?>, List<Integer>> mBuilder = new HashMap<>();
+    private Map<Comparable<?>, int[]> mHashIndex;
+    private NavigableMap<Comparable<?>, int[]> mSortedIndex;
+
+    ColumnIndex(ColumnType type, int numPartitions) {
+      mType = type;
+      mNumPartitions = numPartitions;
+    }
+
+    void add(int partition, @Nullable String value) {
+      Comparable<?> key = mType.parse(value);
+      if (key == null) {
+        mUnindexed.set(partition);
+      } else {
+        mBuilder.computeIfAbsent(key, k -> new ArrayList<>(1)).add(partition);
+      }
+    }
+
+    void build() {
+      mHashIndex = new HashMap<>(mBuilder.size());
+      for (Map.Entry<Comparable<?>, List<Integer>> entry : mBuilder.entrySet()) {
+        mHashIndex.put(entry.getKey(), entry.getValue().stream().mapToInt(i -> i).toArray());
+      }
+      mSortedIndex = new TreeMap<>(mHashIndex);
+      mBuilder = null;
+    }
+
+    /**
+     * @return the partitions which may match the domain
+     */
+    BitSet match(Domain domain) {
+      switch (domain.getValueSetCase()) {
+        case ALL_OR_NONE:
+          return domain.getAllOrNone().getAll() ? all() : new BitSet();
+        case EQUATABLE:
+          return matchEquatable(domain.getEquatable());
+        case RANGE:
+          return matchRanges(domain.getRange().getRangesList());
+        default:
+          // An empty domain matches nothing.
+          return new BitSet();
+      }
+    }
+
+    private BitSet matchEquatable(EquatableValueSet set) {
+      BitSet listed = new BitSet(mNumPartitions);
+      for (Value candidate : set.getCandidatesList()) {
+        Comparable<?> key = mType.convert(candidate);
+        if (key != null) {
+          setAll(listed, mHashIndex.get(key));
+        }
+      }
+      if (set.getWhiteList()) {
+        listed.or(mUnindexed);
+      } else {
+        // Unindexed partitions are never listed, so they stay in the complement.
+        listed.flip(0, mNumPartitions);
+      }
+      return listed;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private BitSet matchRanges(List<Range> ranges) {
+      BitSet matches = new BitSet(mNumPartitions);
+      for (Range range : ranges) {
+        Comparable low = range.hasLow() ? mType.convertBound(range.getLow(), true) : null;
+        Comparable high = range.hasHigh() ? mType.convertBound(range.getHigh(), false) : null;
+        if ((range.hasLow() && low == null) || (range.hasHigh() && high == null)) {
+          // The bounds are of a different type than the column, so nothing can be pruned.
+          return all();
+        }
+        if (low != null && high != null && low.compareTo(high) > 0) {
+          continue;
+        }
+        NavigableMap<Comparable<?>, int[]> values = mSortedIndex;
+        if (low != null) {
+          values = values.tailMap(low, true);
+        }
+        if (high != null) {
+          values = values.headMap(high, true);
+        }
+        for (int[] partitions : values.values()) {
+          setAll(matches, partitions);
+        }
+      }
+      matches.or(mUnindexed);
+      return matches;
+    }
+
+    private BitSet all() {
+      BitSet all = new BitSet(mNumPartitions);
+      all.set(0, mNumPartitions);
+      return all;
+    }
+
+    private static void setAll(BitSet bits, @Nullable int[] partitions) {
+      if (partitions != null) {
+        for (int partition : partitions) {
+          bits.set(partition);
+        }
+      }
+    }
+  }
+}
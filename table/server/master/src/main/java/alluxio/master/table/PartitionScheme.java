@@ -11,6 +11,7 @@
 
 package alluxio.master.table;
 
+import alluxio.grpc.table.Constraint;
 import alluxio.grpc.table.FieldSchema;
 import alluxio.grpc.table.Layout;
 
@@ -27,6 +28,17 @@ public interface PartitionScheme {
    */
   List<Partition> getPartitions();
 
+  /**
+   * Get the partitions which may contain rows matching a constraint. The default implementation
+   * does not prune any partitions.
+   *
+   * @param constraint the constraint on the table columns
+   * @return a list of partitions
+   */
+  default List<Partition> getPartitions(Constraint constraint) {
+    return getPartitions();
+  }
+
   /**
    * @param spec the partition spec
    * @return the corresponding partition, or null if spec does not exist
@@ -11,6 +11,7 @@
 
 package alluxio.master.table;
 
+import alluxio.grpc.table.Constraint;
 import alluxio.grpc.table.FieldSchema;
 import alluxio.grpc.table.Layout;
 
@@ -22,6 +23,8 @@ import java.util.List;
 public class PartitionedTableScheme extends BasePartitionScheme {
   private final Layout mTableInfo;
   private final List<FieldSchema> mPartCols;
+  /** The index of the partition values, which is built when the table is first read. */
+  private volatile PartitionIndex mIndex;
 
   /**
    * constructor for PartitionedTableScheme.
@@ -37,6 +40,24 @@ public class PartitionedTableScheme extends BasePartitionScheme {
     mPartCols = partCols;
   }
 
+  @Override
+  public List<Partition> getPartitions(Constraint constraint) {
+    if (constraint.getColumnConstraintsCount() == 0) {
+      return mPartitions;
+    }
+    PartitionIndex index = mIndex;
+    if (index == null) {
+      synchronized (this) {
+        index = mIndex;
+        if (index == null) {
+          index = new PartitionIndex(mPartitions, mPartCols);
+          mIndex = index;
+        }
+      }
+    }
+    return index.getPartitions(constraint);
+  }
+
   @Override
   public Layout getTableLayout() {
     return mTableInfo;
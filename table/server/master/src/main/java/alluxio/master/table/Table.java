@@ -12,11 +12,17 @@
 package alluxio.master.table;
 
 import alluxio.grpc.table.ColumnStatisticsInfo;
+import alluxio.grpc.table.Constraint;
 import alluxio.grpc.table.FieldSchema;
 import alluxio.grpc.table.Layout;
 import alluxio.grpc.table.Schema;
 import alluxio.grpc.table.TableInfo;
+import alluxio.proto.journal.Journal.JournalEntry;
 import alluxio.proto.journal.Table.AddTableEntry;
+import alluxio.proto.journal.Table.AddTablePartitionsEntry;
+import alluxio.proto.journal.Table.RemoveTablePartitionsEntry;
+import alluxio.proto.journal.Table.UpdateTableEntry;
+import alluxio.table.common.UdbPartition;
 import alluxio.table.common.transform.TransformContext;
 import alluxio.table.common.transform.TransformDefinition;
 import alluxio.table.common.transform.TransformPlan;
@@ -27,9 +33,14 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -44,7 +55,8 @@ public class Table {
   private String mName;
   private final Database mDatabase;
   private Schema mSchema;
-  private PartitionScheme mPartitionScheme;
+  /** The partitions are replaced as a whole, so that readers always see a consistent scheme. */
+  private volatile PartitionScheme mPartitionScheme;
   private String mOwner;
   private List<ColumnStatisticsInfo> mStatistics;
   private Map<String, String> mParameters;
@@ -110,6 +122,134 @@ public class Table {
         entry.getOwner(), entry.getTableStatsList(), entry.getParametersMap(),
         entry.getPartitionColsList(), entry.getLayout());
   }
+
+  /**
+   * Compares the table with its current version in the udb, and returns the journal entries
+   * which bring the table up to date. Only the partitions which were added, changed or removed in
+   * the udb are journaled. A change to the partition columns, or to an unpartitioned table,
+   * replaces the whole table.
+   *
+   * @param udbTable the udb table
+   * @return the journal entries to apply, or an empty list if the table is unchanged
+   */
+  public List<JournalEntry> getSyncEntries(UdbTable udbTable) throws IOException {
+    PartitionScheme scheme = mPartitionScheme;
+    List<UdbPartition> udbPartitions = udbTable.getPartitions();
+    if (!udbTable.getPartitionCols().equals(scheme.getPartitionCols())) {
+      return Collections.singletonList(getAddTableEntry(udbTable, udbPartitions));
+    }
+    boolean partitioned = !scheme.getPartitionCols().isEmpty();
+    boolean tableChanged = !Objects.equals(mOwner, udbTable.getOwner())
+        || !Objects.equals(mSchema, udbTable.getSchema())
+        || !Objects.equals(mStatistics, udbTable.getStatistics())
+        || !mParameters.equals(udbTable.getParameters())
+        || (partitioned && !scheme.getTableLayout().equals(udbTable.getLayout()));
+
+    List<alluxio.grpc.table.Partition> addedPartitions = new ArrayList<>();
+    Set<String> udbSpecs = new HashSet<>(udbPartitions.size());
+    for (UdbPartition udbPartition : udbPartitions) {
+      udbSpecs.add(udbPartition.getSpec());
+      Partition partition = scheme.getPartition(udbPartition.getSpec());
+      alluxio.grpc.table.Layout layout = udbPartition.getLayout().toProto();
+      if (partition == null || !partition.getBaseLayout().toProto().equals(layout)) {
+        addedPartitions.add(new Partition(udbPartition).toProto());
+      }
+    }
+    List<String> removedSpecs = scheme.getPartitions().stream().map(Partition::getSpec)
+        .filter(spec -> !udbSpecs.contains(spec)).collect(Collectors.toList());
+
+    if (!partitioned) {
+      if (tableChanged || !addedPartitions.isEmpty() || !removedSpecs.isEmpty()) {
+        return Collections.singletonList(getAddTableEntry(udbTable, udbPartitions));
+      }
+      return Collections.emptyList();
+    }
+    List<JournalEntry> entries = new ArrayList<>(3);
+    String dbName = mDatabase.getName();
+    if (tableChanged) {
+      entries.add(JournalEntry.newBuilder().setUpdateTable(UpdateTableEntry.newBuilder()
+          .setDbName(dbName)
+          .setTableName(mName)
+          .setOwner(udbTable.getOwner())
+          .setSchema(udbTable.getSchema())
+          .setLayout(udbTable.getLayout())
+          .addAllTableStats(udbTable.getStatistics())
+          .putAllParameters(udbTable.getParameters())).build());
+    }
+    if (!addedPartitions.isEmpty()) {
+      entries.add(JournalEntry.newBuilder().setAddTablePartitions(AddTablePartitionsEntry
+          .newBuilder()
+          .setDbName(dbName)
+          .setTableName(mName)
+          .addAllPartitions(addedPartitions)).build());
+    }
+    if (!removedSpecs.isEmpty()) {
+      entries.add(JournalEntry.newBuilder().setRemoveTablePartitions(RemoveTablePartitionsEntry
+          .newBuilder()
+          .setDbName(dbName)
+          .setTableName(mName)
+          .addAllPartitionSpecs(removedSpecs)).build());
+    }
+    return entries;
+  }
+
+  private JournalEntry getAddTableEntry(UdbTable udbTable, List<UdbPartition> udbPartitions) {
+    Table table = new Table(mDatabase,
+        udbPartitions.stream().map(Partition::new).collect(Collectors.toList()),
+        udbTable.getSchema(), udbTable.getName(), udbTable.getOwner(), udbTable.getStatistics(),
+        udbTable.getParameters(), udbTable.getPartitionCols(), udbTable.getLayout());
+    return JournalEntry.newBuilder().setAddTable(table.toJournalProto()).build();
+  }
+
+  /**
+   * Updates the table metadata, keeping its partitions.
+   *
+   * @param entry the update table entry
+   */
+  public void update(UpdateTableEntry entry) {
+    mOwner = entry.getOwner();
+    mSchema = entry.getSchema();
+    mStatistics = entry.getTableStatsList();
+    mParameters = new HashMap<>(entry.getParametersMap());
+    PartitionScheme scheme = mPartitionScheme;
+    mPartitionScheme = PartitionScheme.create(scheme.getPartitions(), entry.getLayout(),
+        scheme.getPartitionCols());
+  }
+
+  /**
+   * Adds partitions to the table, replacing the existing partitions with the same specs.
+   *
+   * @param entry the add table partitions entry
+   */
+  public void addPartitions(AddTablePartitionsEntry entry) {
+    PartitionScheme scheme = mPartitionScheme;
+    Map<String, Partition> partitions = new LinkedHashMap<>();
+    for (Partition partition : scheme.getPartitions()) {
+      partitions.put(partition.getSpec(), partition);
+    }
+    for (alluxio.grpc.table.Partition proto : entry.getPartitionsList()) {
+      Partition partition =
+          Partition.fromProto(mDatabase.getContext().getLayoutRegistry(), proto);
+      partitions.put(partition.getSpec(), partition);
+    }
+    mPartitionScheme = PartitionScheme.create(new ArrayList<>(partitions.values()),
+        scheme.getTableLayout(), scheme.getPartitionCols());
+  }
+
+  /**
+   * Removes partitions from the table.
+   *
+   * @param entry the remove table partitions entry
+   */
+  public void removePartitions(RemoveTablePartitionsEntry entry) {
+    PartitionScheme scheme = mPartitionScheme;
+    Set<String> removed = new HashSet<>(entry.getPartitionSpecsList());
+    mPartitionScheme = PartitionScheme.create(scheme.getPartitions().stream()
+            .filter(partition -> !removed.contains(partition.getSpec()))
+            .collect(Collectors.toList()),
+        scheme.getTableLayout(), scheme.getPartitionCols());
+  }
+
   /**
    * @return the table name
    */
@@ -132,6 +272,14 @@ public class Table {
     return mPartitionScheme.getPartitions();
   }
 
+  /**
+   * @param constraint the constraint on the table columns
+   * @return the partitions which may contain rows matching the constraint
+   */
+  public List<Partition> getPartitions(Constraint constraint) {
+    return mPartitionScheme.getPartitions(constraint);
+  }
+
   /**
    * @return the table schema
    */
@@ -0,0 +1,232 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.table;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import alluxio.conf.PropertyKey;
+import alluxio.conf.ServerConfiguration;
+import alluxio.exception.status.NotFoundException;
+import alluxio.master.journal.JournalContext;
+import alluxio.proto.journal.Journal.JournalEntry;
+import alluxio.table.common.LayoutRegistry;
+import alluxio.table.common.udb.UdbContext;
+import alluxio.table.common.udb.UnderDatabaseRegistry;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for syncing a {@link Database} from its udb.
+ */
+public final class DatabaseTest {
+  private static final String DB_NAME = "db";
+  private static final int NUM_TABLES = 20;
+
+  private CatalogContext mCatalogContext;
+  private Database mDb;
+  private InMemoryDatabase mUdb;
+
+  @Before
+  public void before() {
+    ServerConfiguration.set(PropertyKey.TABLE_CATALOG_UDB_SYNC_THREADS, 4);
+    UnderDatabaseRegistry udbRegistry = new UnderDatabaseRegistry();
+    udbRegistry.refresh();
+    LayoutRegistry layoutRegistry = new LayoutRegistry();
+    layoutRegistry.refresh();
+    mCatalogContext = new CatalogContext(udbRegistry, layoutRegistry);
+    mDb = createDatabase();
+    mUdb = (InMemoryDatabase) mDb.getUdb();
+    for (int i = 0; i < NUM_TABLES; i++) {
+      mUdb.createTable("table" + i, "ds", "hour")
+          .putPartition("/loc/0", "2020-01-01", "0")
+          .putPartition("/loc/1", "2020-01-01", "1")
+          .putPartition("/loc/2", "2020-01-02", "0");
+    }
+    mUdb.createTable("unpartitioned");
+  }
+
+  @After
+  public void after() {
+    ServerConfiguration.reset();
+  }
+
+  @Test
+  public void syncNewTables() throws Exception {
+    RecordingJournalContext context = new RecordingJournalContext();
+    mDb.sync(context);
+    assertEquals(NUM_TABLES + 1, context.mEntries.size());
+    assertTrue(context.mEntries.stream().allMatch(JournalEntry::hasAddTable));
+    assertEquals(NUM_TABLES + 1, mDb.getTables().size());
+    assertEquals(Lists.newArrayList("ds=2020-01-01/hour=0", "ds=2020-01-01/hour=1",
+        "ds=2020-01-02/hour=0"), specs(mDb.getTable("table3")));
+    assertEquals(Lists.newArrayList("unpartitioned"), specs(mDb.getTable("unpartitioned")));
+  }
+
+  @Test
+  public void syncOnlyJournalsChanges() throws Exception {
+    mDb.sync(new RecordingJournalContext());
+    Partition unchanged = mDb.getTable("table0").getPartition("ds=2020-01-01/hour=0");
+
+    RecordingJournalContext context = new RecordingJournalContext();
+    mDb.sync(context);
+    assertEquals(Collections.emptyList(), context.mEntries);
+    assertEquals(2 * (NUM_TABLES + 1), mUdb.getNumGetTables());
+
+    changeTables();
+    context = new RecordingJournalContext();
+    mDb.sync(context);
+    assertEquals(6, context.mEntries.size());
+    assertEquals(1, entriesOfTable(context, "table0").get(0).getAddTablePartitions()
+        .getPartitionsCount());
+    assertEquals(1, entriesOfTable(context, "table1").get(0).getAddTablePartitions()
+        .getPartitionsCount());
+    assertEquals(Lists.newArrayList("ds=2020-01-01/hour=1"), entriesOfTable(context, "table2")
+        .get(0).getRemoveTablePartitions().getPartitionSpecsList());
+    assertEquals("v", entriesOfTable(context, "table3").get(0).getUpdateTable()
+        .getParametersMap().get("k"));
+    assertTrue(entriesOfTable(context, "table4").get(0).hasRemoveTable());
+    assertTrue(entriesOfTable(context, "unpartitioned").get(0).hasAddTable());
+
+    assertEquals(Lists.newArrayList("ds=2020-01-01/hour=0", "ds=2020-01-01/hour=1",
+        "ds=2020-01-02/hour=0", "ds=2020-01-03/hour=0"), specs(mDb.getTable("table0")));
+    // Partitions which did not change are kept as is.
+    assertSame(unchanged, mDb.getTable("table0").getPartition("ds=2020-01-01/hour=0"));
+    assertEquals("/moved", ((alluxio.grpc.table.PartitionInfo) mDb.getTable("table1")
+        .getPartition("ds=2020-01-01/hour=1").getBaseLayout().getData())
+        .getStorage().getLocation());
+    assertEquals(Lists.newArrayList("ds=2020-01-01/hour=0", "ds=2020-01-02/hour=0"),
+        specs(mDb.getTable("table2")));
+    assertEquals("v", mDb.getTable("table3").toProto().getParametersMap().get("k"));
+    assertEquals(3, mDb.getTable("table3").getPartitions().size());
+    try {
+      mDb.getTable("table4");
+      fail("Table removed from the udb should be removed");
+    } catch (NotFoundException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void replayJournal() throws Exception {
+    RecordingJournalContext context = new RecordingJournalContext();
+    mDb.sync(context);
+    changeTables();
+    mDb.sync(context);
+
+    Database replayed = createDatabase();
+    for (JournalEntry entry : context.mEntries) {
+      assertTrue(replayed.processJournalEntry(entry));
+    }
+    assertEquals(checkpoint(mDb), checkpoint(replayed));
+  }
+
+  @Test
+  public void syncFailedTable() throws Exception {
+    mDb.sync(new RecordingJournalContext());
+    changeTables();
+    mUdb.setFailing("table0", true);
+    RecordingJournalContext context = new RecordingJournalContext();
+    try {
+      mDb.sync(context);
+      fail("Sync should fail when a table fails to sync");
+    } catch (IOException e) {
+      // expected
+    }
+    // The other tables are still synced.
+    assertEquals(5, context.mEntries.size());
+    assertEquals(3, mDb.getTable("table0").getPartitions().size());
+
+    mUdb.setFailing("table0", false);
+    context = new RecordingJournalContext();
+    mDb.sync(context);
+    assertEquals(1, context.mEntries.size());
+    assertEquals(4, mDb.getTable("table0").getPartitions().size());
+  }
+
+  private void changeTables() {
+    mUdb.createTable("table0", "ds", "hour")
+        .putPartition("/loc/0", "2020-01-01", "0")
+        .putPartition("/loc/1", "2020-01-01", "1")
+        .putPartition("/loc/2", "2020-01-02", "0")
+        .putPartition("/loc/3", "2020-01-03", "0");
+    mUdb.createTable("table1", "ds", "hour")
+        .putPartition("/loc/0", "2020-01-01", "0")
+        .putPartition("/moved", "2020-01-01", "1")
+        .putPartition("/loc/2", "2020-01-02", "0");
+    mUdb.createTable("table2", "ds", "hour")
+        .putPartition("/loc/0", "2020-01-01", "0")
+        .putPartition("/loc/2", "2020-01-02", "0");
+    mUdb.createTable("table3", "ds", "hour")
+        .putPartition("/loc/0", "2020-01-01", "0")
+        .putPartition("/loc/1", "2020-01-01", "1")
+        .putPartition("/loc/2", "2020-01-02", "0")
+        .setParameter("k", "v");
+    mUdb.dropTable("table4");
+    mUdb.createTable("unpartitioned").setParameter("k", "v");
+  }
+
+  private Database createDatabase() {
+    return Database.create(mCatalogContext, new UdbContext(mCatalogContext.getUdbRegistry(), null,
+        InMemoryUdbFactory.TYPE, DB_NAME), InMemoryUdbFactory.TYPE, DB_NAME,
+        Collections.emptyMap());
+  }
+
+  private static List<JournalEntry> entriesOfTable(RecordingJournalContext context,
+      String tableName) {
+    return context.mEntries.stream().filter(entry -> tableName.equals(
+        entry.hasAddTable() ? entry.getAddTable().getTableName()
+            : entry.hasAddTablePartitions() ? entry.getAddTablePartitions().getTableName()
+            : entry.hasRemoveTablePartitions() ? entry.getRemoveTablePartitions().getTableName()
+            : entry.hasUpdateTable() ? entry.getUpdateTable().getTableName()
+            : entry.getRemoveTable().getTableName()))
+        .collect(Collectors.toList());
+  }
+
+  private static List<String> specs(Table table) {
+    return table.getPartitions().stream().map(Partition::getSpec).collect(Collectors.toList());
+  }
+
+  private static List<JournalEntry> checkpoint(Database db) {
+    List<JournalEntry> entries = new ArrayList<>();
+    db.getJournalEntryIterator().forEachRemaining(entries::add);
+    entries.sort(Comparator.comparing(entry -> entry.getAddTable().getTableName()));
+    return entries;
+  }
+
+  /**
+   * A journal context which records the journaled entries.
+   */
+  private static final class RecordingJournalContext implements JournalContext {
+    private final List<JournalEntry> mEntries = new ArrayList<>();
+
+    @Override
+    public void append(JournalEntry entry) {
+      mEntries.add(entry);
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.table;
+
+import alluxio.exception.status.NotFoundException;
+import alluxio.grpc.table.ColumnStatisticsInfo;
+import alluxio.grpc.table.FieldSchema;
+import alluxio.grpc.table.Layout;
+import alluxio.grpc.table.PartitionInfo;
+import alluxio.grpc.table.Schema;
+import alluxio.grpc.table.Storage;
+import alluxio.table.common.UdbPartition;
+import alluxio.table.common.layout.HiveLayout;
+import alluxio.table.common.udb.UdbConfiguration;
+import alluxio.table.common.udb.UdbContext;
+import alluxio.table.common.udb.UdbTable;
+import alluxio.table.common.udb.UnderDatabase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * A udb which keeps its tables in memory, used for testing database syncs without a metastore.
+ * Tables are fetched as snapshots, so changes made to a table after it was fetched are only seen
+ * by the next fetch.
+ */
+public class InMemoryDatabase implements UnderDatabase {
+  private static final Schema SCHEMA = Schema.newBuilder()
+      .addCols(FieldSchema.newBuilder().setName("c1").setType("string")).build();
+
+  private final String mName;
+  private final Map<String, InMemoryTable> mTables = new ConcurrentSkipListMap<>();
+  private final Set<String> mFailingTables = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger mNumGetTables = new AtomicInteger();
+
+  private InMemoryDatabase(String name) {
+    mName = name;
+  }
+
+  /**
+   * Creates an instance.
+   *
+   * @param udbContext the db context
+   * @param configuration the configuration
+   * @return the new instance
+   */
+  public static InMemoryDatabase create(UdbContext udbContext, UdbConfiguration configuration) {
+    return new InMemoryDatabase(udbContext.getDbName());
+  }
+
+  @Override
+  public String getType() {
+    return InMemoryUdbFactory.TYPE;
+  }
+
+  @Override
+  public String getName() {
+    return mName;
+  }
+
+  @Override
+  public List<String> getTableNames() {
+    return new ArrayList<>(mTables.keySet());
+  }
+
+  @Override
+  public UdbTable getTable(String tableName) throws IOException {
+    mNumGetTables.incrementAndGet();
+    if (mFailingTables.contains(tableName)) {
+      throw new IOException("Failed to get table " + tableName);
+    }
+    InMemoryTable table = mTables.get(tableName);
+    if (table == null) {
+      throw new NotFoundException("Table " + tableName + " does not exist.");
+    }
+    return table.snapshot();
+  }
+
+  /**
+   * Creates a table.
+   *
+   * @param tableName the table name
+   * @param partitionCols the names of the partition columns, none for an unpartitioned table
+   * @return the table
+   */
+  public InMemoryTable createTable(String tableName, String... partitionCols) {
+    InMemoryTable table = new InMemoryTable(tableName, Arrays.stream(partitionCols)
+        .map(col -> FieldSchema.newBuilder().setName(col).setType("string").build())
+        .collect(Collectors.toList()));
+    mTables.put(tableName, table);
+    return table;
+  }
+
+  /**
+   * @param tableName the name of the table to drop
+   */
+  public void dropTable(String tableName) {
+    mTables.remove(tableName);
+  }
+
+  /**
+   * @param tableName the table name
+   * @param failing whether fetching the table fails
+   */
+  public void setFailing(String tableName, boolean failing) {
+    if (failing) {
+      mFailingTables.add(tableName);
+    } else {
+      mFailingTables.remove(tableName);
+    }
+  }
+
+  /**
+   * @return the number of times a table was fetched
+   */
+  public int getNumGetTables() {
+    return mNumGetTables.get();
+  }
+
+  /**
+   * A table of the in-memory udb.
+   */
+  public final class InMemoryTable {
+    private final String mTableName;
+    private final List<FieldSchema> mPartitionCols;
+    private final Map<String, String> mParameters = new HashMap<>();
+    /** The partition locations by partition values. */
+    private final Map<List<String>, String> mPartitions = new LinkedHashMap<>();
+
+    private InMemoryTable(String tableName, List<FieldSchema> partitionCols) {
+      mTableName = tableName;
+      mPartitionCols = partitionCols;
+    }
+
+    /**
+     * Adds a partition, or moves it to a new location if it exists.
+     *
+     * @param location the partition location
+     * @param values the partition values
+     * @return this table
+     */
+    public synchronized InMemoryTable putPartition(String location, String... values) {
+      mPartitions.put(Arrays.asList(values), location);
+      return this;
+    }
+
+    /**
+     * @param values the values of the partition to remove
+     * @return this table
+     */
+    public synchronized InMemoryTable removePartition(String... values) {
+      mPartitions.remove(Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * @param key the parameter key
+     * @param value the parameter value
+     * @return this table
+     */
+    public synchronized InMemoryTable setParameter(String key, String value) {
+      mParameters.put(key, value);
+      return this;
+    }
+
+    private synchronized UdbTable snapshot() {
+      List<UdbPartition> partitions = new ArrayList<>();
+      if (mPartitionCols.isEmpty()) {
+        partitions.add(partition(mTableName, Collections.emptyList(),
+            "/warehouse/" + mName + "/" + mTableName));
+      } else {
+        for (Map.Entry<List<String>, String> entry : mPartitions.entrySet()) {
+          List<String> parts = new ArrayList<>();
+          for (int i = 0; i < mPartitionCols.size(); i++) {
+            parts.add(mPartitionCols.get(i).getName() + "=" + entry.getKey().get(i));
+          }
+          partitions.add(partition(String.join("/", parts), entry.getKey(), entry.getValue()));
+        }
+      }
+      Layout layout = new HiveLayout(PartitionInfo.newBuilder().setDbName(mName)
+          .setTableName(mTableName).build(), Collections.emptyList()).toProto();
+      return new Snapshot(mTableName, new HashMap<>(mParameters), mPartitionCols, layout,
+          partitions);
+    }
+
+    private UdbPartition partition(String spec, List<String> values, String location) {
+      HiveLayout layout = new HiveLayout(PartitionInfo.newBuilder()
+          .setDbName(mName)
+          .setTableName(mTableName)
+          .setPartitionName(spec)
+          .addAllValues(values)
+          .setStorage(Storage.newBuilder().setLocation(location))
+          .build(), Collections.emptyList());
+      return new UdbPartition() {
+        @Override
+        public String getSpec() {
+          return spec;
+        }
+
+        @Override
+        public alluxio.table.common.Layout getLayout() {
+          return layout;
+        }
+      };
+    }
+  }
+
+  /**
+   * An immutable snapshot of a table.
+   */
+  private static final class Snapshot implements UdbTable {
+    private final String mTableName;
+    private final Map<String, String> mParameters;
+    private final List<FieldSchema> mPartitionCols;
+    private final Layout mLayout;
+    private final List<UdbPartition> mPartitions;
+
+    private Snapshot(String tableName, Map<String, String> parameters,
+        List<FieldSchema> partitionCols, Layout layout, List<UdbPartition> partitions) {
+      mTableName = tableName;
+      mParameters = parameters;
+      mPartitionCols = partitionCols;
+      mLayout = layout;
+      mPartitions = partitions;
+    }
+
+    @Override
+    public String getName() {
+      return mTableName;
+    }
+
+    @Override
+    public Schema getSchema() {
+      return SCHEMA;
+    }
+
+    @Override
+    public String getOwner() {
+      return "owner";
+    }
+
+    @Override
+    public Map<String, String> getParameters() {
+      return mParameters;
+    }
+
+    @Override
+    public List<FieldSchema> getPartitionCols() {
+      return mPartitionCols;
+    }
+
+    @Override
+    public Layout getLayout() {
+      return mLayout;
+    }
+
+    @Override
+    public List<ColumnStatisticsInfo> getStatistics() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public List<UdbPartition> getPartitions() {
+      return mPartitions;
+    }
+  }
+}
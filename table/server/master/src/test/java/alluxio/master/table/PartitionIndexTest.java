@@ -0,0 +1,154 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.table;
+
+import static org.junit.Assert.assertEquals;
+
+import alluxio.grpc.table.AllOrNoneSet;
+import alluxio.grpc.table.Constraint;
+import alluxio.grpc.table.Domain;
+import alluxio.grpc.table.EquatableValueSet;
+import alluxio.grpc.table.FieldSchema;
+import alluxio.grpc.table.PartitionInfo;
+import alluxio.grpc.table.Range;
+import alluxio.grpc.table.RangeSet;
+import alluxio.grpc.table.Value;
+import alluxio.table.common.layout.HiveLayout;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for {@link PartitionIndex}.
+ */
+public final class PartitionIndexTest {
+  private static final List<FieldSchema> PARTITION_COLS = Arrays.asList(
+      FieldSchema.newBuilder().setName("ds").setType("string").build(),
+      FieldSchema.newBuilder().setName("hour").setType("int").build());
+
+  /** Partitions ds=2020-01-0{day}/hour={hour} for 3 days of 24 hours. */
+  private final List<Partition> mPartitions = new ArrayList<>();
+  private final PartitionIndex mIndex;
+
+  public PartitionIndexTest() {
+    for (int day = 1; day <= 3; day++) {
+      for (int hour = 0; hour < 24; hour++) {
+        mPartitions.add(partition("2020-01-0" + day, Integer.toString(hour)));
+      }
+    }
+    // The hour of this partition is not a number, so it is never pruned by hour.
+    mPartitions.add(partition("2020-01-04", "__HIVE_DEFAULT_PARTITION__"));
+    mIndex = new PartitionIndex(mPartitions, PARTITION_COLS);
+  }
+
+  @Test
+  public void noConstraint() {
+    assertEquals(mPartitions, mIndex.getPartitions(Constraint.getDefaultInstance()));
+  }
+
+  @Test
+  public void equatable() {
+    List<Partition> partitions = mIndex.getPartitions(constraint("ds",
+        equatableDomain(true, Value.newBuilder().setStringType("2020-01-02").build())));
+    assertEquals(mPartitions.subList(24, 48), partitions);
+
+    partitions = mIndex.getPartitions(constraint("hour",
+        equatableDomain(true, Value.newBuilder().setLongType(5).build())));
+    assertEquals(Arrays.asList("ds=2020-01-01/hour=5", "ds=2020-01-02/hour=5",
+        "ds=2020-01-03/hour=5", "ds=2020-01-04/hour=__HIVE_DEFAULT_PARTITION__"),
+        specs(partitions));
+  }
+
+  @Test
+  public void equatableBlackList() {
+    List<Partition> partitions = mIndex.getPartitions(constraint("ds",
+        equatableDomain(false, Value.newBuilder().setStringType("2020-01-01").build(),
+            Value.newBuilder().setStringType("2020-01-03").build())));
+    assertEquals(25, partitions.size());
+    assertEquals(mPartitions.subList(24, 48), partitions.subList(0, 24));
+  }
+
+  @Test
+  public void range() {
+    Domain hours = Domain.newBuilder().setRange(RangeSet.newBuilder()
+        .addRanges(Range.newBuilder().setLow(Value.newBuilder().setLongType(22)))
+        .addRanges(Range.newBuilder().setHigh(Value.newBuilder().setDoubleType(1.5)))).build();
+    Domain days = Domain.newBuilder().setRange(RangeSet.newBuilder()
+        .addRanges(Range.newBuilder().setLow(Value.newBuilder().setStringType("2020-01-02"))
+            .setHigh(Value.newBuilder().setStringType("2020-01-02")))).build();
+    Constraint constraint = Constraint.newBuilder().putColumnConstraints("hour", hours)
+        .putColumnConstraints("ds", days).build();
+    assertEquals(Arrays.asList("ds=2020-01-02/hour=0", "ds=2020-01-02/hour=1",
+        "ds=2020-01-02/hour=22", "ds=2020-01-02/hour=23"),
+        specs(mIndex.getPartitions(constraint)));
+  }
+
+  @Test
+  public void rangeOfOtherType() {
+    Domain hours = Domain.newBuilder().setRange(RangeSet.newBuilder()
+        .addRanges(Range.newBuilder().setLow(Value.newBuilder().setStringType("a")))).build();
+    assertEquals(mPartitions, mIndex.getPartitions(constraint("hour", hours)));
+  }
+
+  @Test
+  public void allOrNone() {
+    assertEquals(Collections.emptyList(), mIndex.getPartitions(constraint("ds",
+        Domain.newBuilder().setAllOrNone(AllOrNoneSet.newBuilder().setAll(false)).build())));
+    assertEquals(mPartitions, mIndex.getPartitions(constraint("ds",
+        Domain.newBuilder().setAllOrNone(AllOrNoneSet.newBuilder().setAll(true)).build())));
+  }
+
+  @Test
+  public void nonPartitionColumn() {
+    assertEquals(mPartitions, mIndex.getPartitions(constraint("other",
+        equatableDomain(true, Value.newBuilder().setStringType("x").build()))));
+  }
+
+  @Test
+  public void valuesFromSpec() {
+    // Partitions without values in their layout are indexed by parsing their spec.
+    List<Partition> partitions = Arrays.asList(
+        new Partition("ds=2020-01-01/hour=1", layout(PartitionInfo.getDefaultInstance())),
+        new Partition("ds=2020%2F01/hour=2", layout(PartitionInfo.getDefaultInstance())));
+    PartitionIndex index = new PartitionIndex(partitions, PARTITION_COLS);
+    assertEquals(partitions.subList(1, 2), index.getPartitions(constraint("ds",
+        equatableDomain(true, Value.newBuilder().setStringType("2020/01").build()))));
+  }
+
+  private static Partition partition(String ds, String hour) {
+    String spec = "ds=" + ds + "/hour=" + hour;
+    return new Partition(spec, layout(PartitionInfo.newBuilder().setPartitionName(spec)
+        .addValues(ds).addValues(hour).build()));
+  }
+
+  private static HiveLayout layout(PartitionInfo info) {
+    return new HiveLayout(info, Collections.emptyList());
+  }
+
+  private static Domain equatableDomain(boolean whiteList, Value... values) {
+    return Domain.newBuilder().setEquatable(EquatableValueSet.newBuilder()
+        .setWhiteList(whiteList).addAllCandidates(Arrays.asList(values))).build();
+  }
+
+  private static Constraint constraint(String column, Domain domain) {
+    return Constraint.newBuilder().putColumnConstraints(column, domain).build();
+  }
+
+  private static List<String> specs(List<Partition> partitions) {
+    return partitions.stream().map(Partition::getSpec).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.table.under.hive;
+
+import alluxio.resource.CloseableResource;
+import alluxio.resource.ResourcePool;
+
+import org.apache.hadoop.hive.conf.HiveConf;
+import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
+import org.apache.hadoop.hive.metastore.api.MetaException;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A pool of hive metastore clients. Hive metastore clients are not thread safe, so a client is
+ * only used by one thread at a time, between {@link #acquireClientResource()} and closing the
+ * returned resource.
+ */
+@ThreadSafe
+public final class HiveClientPool extends ResourcePool<HiveMetaStoreClient> {
+  private final Queue<HiveMetaStoreClient> mClientList = new ConcurrentLinkedQueue<>();
+  private final String mMetastoreUris;
+
+  /**
+   * Creates a new hive client pool.
+   *
+   * @param metastoreUris the thrift uris of the hive metastore
+   * @param maxCapacity the maximum number of clients
+   */
+  public HiveClientPool(String metastoreUris, int maxCapacity) {
+    super(maxCapacity);
+    mMetastoreUris = metastoreUris;
+  }
+
+  /**
+   * Acquires a client, which is released to the pool when the returned resource is closed.
+   *
+   * @return the client resource
+   */
+  public CloseableResource<HiveMetaStoreClient> acquireClientResource() throws IOException {
+    HiveMetaStoreClient client;
+    try {
+      client = acquire();
+    } catch (IllegalStateException e) {
+      throw new IOException(e.getMessage(), e.getCause());
+    }
+    return new CloseableResource<HiveMetaStoreClient>(client) {
+      @Override
+      public void close() {
+        release(get());
+      }
+    };
+  }
+
+  @Override
+  public void close() throws IOException {
+    HiveMetaStoreClient client;
+    while ((client = mClientList.poll()) != null) {
+      client.close();
+    }
+  }
+
+  @Override
+  protected HiveMetaStoreClient createNewResource() {
+    // Hive uses/saves the thread context class loader.
+    ClassLoader currentClassLoader = Thread.currentThread().getContextClassLoader();
+    try {
+      // use the extension class loader
+      Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
+      HiveConf conf = new HiveConf();
+      conf.set("hive.metastore.uris", mMetastoreUris);
+      HiveMetaStoreClient client = new HiveMetaStoreClient(conf);
+      mClientList.add(client);
+      return client;
+    } catch (MetaException e) {
+      // The client was not created, so it does not count towards the capacity.
+      mCurrentCapacity.decrementAndGet();
+      throw new IllegalStateException("Failed to create hive client: " + e.getMessage(), e);
+    } finally {
+      Thread.currentThread().setContextClassLoader(currentClassLoader);
+    }
+  }
+}
@@ -20,6 +20,7 @@ import alluxio.grpc.MountPOptions;
 import alluxio.grpc.table.ColumnStatisticsInfo;
 import alluxio.grpc.table.Layout;
 import alluxio.grpc.table.PartitionInfo;
+import alluxio.resource.CloseableResource;
 import alluxio.table.common.layout.HiveLayout;
 import alluxio.table.common.udb.UdbConfiguration;
 import alluxio.table.common.udb.UdbContext;
@@ -28,7 +29,6 @@ import alluxio.table.common.udb.UnderDatabase;
 import alluxio.table.under.hive.util.PathTranslator;
 import alluxio.util.io.PathUtils;
 
-import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
 import org.apache.hadoop.hive.metastore.Warehouse;
 import org.apache.hadoop.hive.metastore.api.ColumnStatisticsObj;
@@ -57,14 +57,16 @@ public class HiveDatabase implements UnderDatabase {
   /** the name of the hive db. */
   private final String mHiveDbName;
 
-  /** The cached hive client. This should not be used directly, but via {@link #getHive()}. */
-  private HiveMetaStoreClient mHive = null;
+  /** The pool of hive clients, since a hive client can only be used by one thread at a time. */
+  private final HiveClientPool mClientPool;
 
   private HiveDatabase(UdbContext udbContext, UdbConfiguration configuration,
       String hiveDbName) {
     mUdbContext = udbContext;
     mConfiguration = configuration;
     mHiveDbName = hiveDbName;
+    mClientPool = new HiveClientPool(configuration.get(Property.HIVE_METASTORE_URIS),
+        Integer.parseInt(configuration.get(Property.MAX_CLIENTS)));
   }
 
   /**
@@ -110,8 +112,8 @@ public class HiveDatabase implements UnderDatabase {
 
   @Override
   public List<String> getTableNames() throws IOException {
-    try {
-      return getHive().getAllTables(mHiveDbName);
+    try (CloseableResource<HiveMetaStoreClient> client = getClient()) {
+      return client.get().getAllTables(mHiveDbName);
     } catch (MetaException e) {
       throw new IOException("Failed to get hive tables: " + e.getMessage(), e);
     }
@@ -194,18 +196,18 @@ public class HiveDatabase implements UnderDatabase {
   @Override
   public UdbTable getTable(String tableName) throws IOException {
     Table table;
-    try {
-      table = getHive().getTable(mHiveDbName, tableName);
+    try (CloseableResource<HiveMetaStoreClient> client = getClient()) {
+      table = client.get().getTable(mHiveDbName, tableName);
 
       // Potentially expensive call
       List<Partition> partitions =
-          getHive().listPartitions(mHiveDbName, table.getTableName(), (short) -1);
+          client.get().listPartitions(mHiveDbName, table.getTableName(), (short) -1);
 
       PathTranslator pathTranslator = mountAlluxioPaths(table, partitions);
       List<String> colNames = table.getSd().getCols().stream().map(FieldSchema::getName)
           .collect(Collectors.toList());
       List<ColumnStatisticsObj> columnStats =
-          getHive().getTableColumnStatistics(mHiveDbName, tableName, colNames);
+          client.get().getTableColumnStatistics(mHiveDbName, tableName, colNames);
 
       List<ColumnStatisticsInfo> colStats =
           columnStats.stream().map(HiveUtils::toProto).collect(Collectors.toList());
@@ -234,24 +236,10 @@ public class HiveDatabase implements UnderDatabase {
     }
   }
 
-  HiveMetaStoreClient getHive() throws IOException {
-    if (mHive != null) {
-      return mHive;
-    }
-
-    // Hive uses/saves the thread context class loader.
-    ClassLoader currentClassLoader = Thread.currentThread().getContextClassLoader();
-    try {
-      // use the extension class loader
-      Thread.currentThread().setContextClassLoader(this.getClass().getClassLoader());
-      HiveConf conf = new HiveConf();
-      conf.set("hive.metastore.uris", mConfiguration.get(Property.HIVE_METASTORE_URIS));
-      mHive = new HiveMetaStoreClient(conf);
-      return mHive;
-    } catch (MetaException e) {
-      throw new IOException("Failed to create hive client: " + e.getMessage(), e);
-    } finally {
-      Thread.currentThread().setContextClassLoader(currentClassLoader);
-    }
+  /**
+   * @return a hive client, which is released when the resource is closed
+   */
+  CloseableResource<HiveMetaStoreClient> getClient() throws IOException {
+    return mClientPool.acquireClientResource();
   }
 }
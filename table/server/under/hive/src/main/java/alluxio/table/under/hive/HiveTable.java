@@ -16,12 +16,14 @@ import alluxio.grpc.table.FieldSchema;
 import alluxio.grpc.table.Layout;
 import alluxio.grpc.table.PartitionInfo;
 import alluxio.grpc.table.Schema;
+import alluxio.resource.CloseableResource;
 import alluxio.table.common.UdbPartition;
 import alluxio.table.common.layout.HiveLayout;
 import alluxio.table.common.udb.UdbTable;
 import alluxio.table.under.hive.util.PathTranslator;
 
 import org.apache.hadoop.hive.common.FileUtils;
+import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
 import org.apache.hadoop.hive.metastore.api.Partition;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.thrift.TException;
@@ -144,11 +146,14 @@ public class HiveTable implements UdbTable {
       List<String> partitionNames = partitions.stream().map(
           partition -> FileUtils.makePartName(partitionColumns,
               partition.getValues())).collect(Collectors.toList());
-      Map<String, List<ColumnStatisticsInfo>> statsMap = mHiveDatabase.getHive()
-          .getPartitionColumnStatistics(mHiveDatabase.getName(), mName, partitionNames, dataColumns)
-          .entrySet().stream().collect(Collectors.toMap(e -> e.getKey(),
-              e -> e.getValue().stream().map(HiveUtils::toProto).collect(Collectors.toList()),
-              (e1, e2) -> e2));
+      Map<String, List<ColumnStatisticsInfo>> statsMap;
+      try (CloseableResource<HiveMetaStoreClient> client = mHiveDatabase.getClient()) {
+        statsMap = client.get().getPartitionColumnStatistics(mHiveDatabase.getName(), mName,
+            partitionNames, dataColumns).entrySet().stream().collect(Collectors.toMap(
+                e -> e.getKey(),
+                e -> e.getValue().stream().map(HiveUtils::toProto).collect(Collectors.toList()),
+                (e1, e2) -> e2));
+      }
       for (Partition partition : partitions) {
         String partName = FileUtils.makePartName(partitionColumns, partition.getValues());
         PartitionInfo.Builder pib = PartitionInfo.newBuilder()
@@ -26,4 +26,7 @@ public final class Property {
       new UdbProperty("database-name", "The name of the database in the hive metastore.", "");
   public static final UdbProperty HIVE_METASTORE_URIS =
       new UdbProperty("hive.metastore.uris", "The thrift URI for the hive metastore.", "");
+  public static final UdbProperty MAX_CLIENTS =
+      new UdbProperty("max-clients", "The maximum number of concurrent connections to the hive "
+          + "metastore, used to fetch tables concurrently.", "8");
 }
@@ -17,6 +17,7 @@ import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileSystem;
 import alluxio.client.file.URIStatus;
 import alluxio.exception.FileDoesNotExistException;
+import alluxio.grpc.CreateFilePOptions;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.file.contexts.CreateDirectoryContext;
 import alluxio.master.file.contexts.CreateFileContext;
@@ -47,6 +48,7 @@ import java.io.ByteArrayInputStream;
 import java.net.HttpURLConnection;
 import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -553,6 +555,61 @@ public final class S3ClientRestApiTest extends RestApiTest {
         .run();
   }
 
+  @Test
+  public void getBucketInPages() throws Exception {
+    final String bucket = "bucket-to-get-in-pages";
+    createBucketRestCall(bucket);
+
+    // Prepare a bucket where sorting the object keys differs from walking the directories in
+    // the order of their names:
+    // - /a/b/file1
+    // - /a-file2
+    // - /a0/
+    // - /dir1/file3
+    // - /dir1/sub/file4
+    // - /dir1-file5
+    // - /file6
+    String bucketPath = AlluxioURI.SEPARATOR + bucket;
+    List<URIStatus> objectsList = new ArrayList<>();
+    for (String key : new String[] {"a/b/file1", "a-file2", "dir1/file3", "dir1/sub/file4",
+        "dir1-file5", "file6"}) {
+      AlluxioURI file = new AlluxioURI(bucketPath + AlluxioURI.SEPARATOR + key);
+      mFileSystemMaster.createFile(file, CreateFileContext.mergeFrom(
+          CreateFilePOptions.newBuilder().setRecursive(true)));
+      objectsList.add(new URIStatus(mFileSystemMaster.getFileInfo(file, GET_STATUS_CONTEXT)));
+    }
+    AlluxioURI emptyDir = new AlluxioURI(bucketPath + "/a0");
+    mFileSystemMaster.createDirectory(emptyDir, CreateDirectoryContext.defaults());
+    objectsList.add(new URIStatus(mFileSystemMaster.getFileInfo(emptyDir, GET_STATUS_CONTEXT)));
+
+    for (String prefix : new String[] {null, "a", "dir1/", "dir1/s"}) {
+      String continuationToken = null;
+      int numPages = 0;
+      do {
+        ListBucketOptions options = ListBucketOptions.defaults().setMaxKeys("2")
+            .setPrefix(prefix).setContinuationToken(continuationToken);
+        ListBucketResult expected =
+            new ListBucketResult(bucketPath, new ArrayList<>(objectsList), options);
+        Map<String, String> params = new HashMap<>();
+        params.put("max-keys", "2");
+        if (prefix != null) {
+          params.put("prefix", prefix);
+        }
+        if (continuationToken != null) {
+          params.put("continuation-token", continuationToken);
+        }
+        new TestCase(mHostname, mPort, S3_SERVICE_PREFIX + AlluxioURI.SEPARATOR + bucket,
+            params, HttpMethod.GET, expected,
+            TestCaseOptions.defaults().setContentType(TestCaseOptions.XML_CONTENT_TYPE)).run();
+        continuationToken = expected.getNextContinuationToken();
+        numPages++;
+      } while (continuationToken != null);
+      if (prefix == null) {
+        Assert.assertEquals(4, numPages);
+      }
+    }
+  }
+
   @Test
   public void getNonExistingBucket() throws Exception {
     final String bucketName = "non-existing-bucket";
@@ -587,6 +644,43 @@ public final class S3ClientRestApiTest extends RestApiTest {
     getObjectTest(CommonUtils.randomAlphaNumString(Constants.MB).getBytes());
   }
 
+  @Test
+  public void getObjectRange() throws Exception {
+    final String bucket = "bucket";
+    createBucketRestCall(bucket);
+    final String objectKey = bucket + AlluxioURI.SEPARATOR + "object.txt";
+    byte[] object = CommonUtils.randomAlphaNumString(Constants.MB).getBytes();
+    createObjectRestCall(objectKey, object, null, NO_PARAMS);
+
+    HttpURLConnection connection = getObjectRangeRestCall(objectKey, "bytes=100-199");
+    Assert.assertEquals(Response.Status.PARTIAL_CONTENT.getStatusCode(),
+        connection.getResponseCode());
+    Assert.assertEquals("bytes 100-199/" + object.length,
+        connection.getHeaderField(S3Constants.S3_CONTENT_RANGE_HEADER));
+    Assert.assertArrayEquals(Arrays.copyOfRange(object, 100, 200),
+        IOUtils.toByteArray(connection.getInputStream()));
+
+    // The last bytes of the object.
+    connection = getObjectRangeRestCall(objectKey, "bytes=-10");
+    Assert.assertArrayEquals(Arrays.copyOfRange(object, object.length - 10, object.length),
+        IOUtils.toByteArray(connection.getInputStream()));
+
+    // A range ending after the object is truncated to the object.
+    connection = getObjectRangeRestCall(objectKey, "bytes=" + (object.length - 5) + "-"
+        + (object.length + 100));
+    Assert.assertArrayEquals(Arrays.copyOfRange(object, object.length - 5, object.length),
+        IOUtils.toByteArray(connection.getInputStream()));
+
+    // Several ranges are not supported, the whole object is returned.
+    connection = getObjectRangeRestCall(objectKey, "bytes=0-1,5-6");
+    Assert.assertEquals(Response.Status.OK.getStatusCode(), connection.getResponseCode());
+    Assert.assertArrayEquals(object, IOUtils.toByteArray(connection.getInputStream()));
+
+    connection = getObjectRangeRestCall(objectKey, "bytes=" + object.length + "-");
+    Assert.assertEquals(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode(),
+        connection.getResponseCode());
+  }
+
   @Test
   public void getNonExistentObject() throws Exception {
     final String objectKey = "bucket/non-existent-object";
@@ -1010,6 +1104,16 @@ public final class S3ClientRestApiTest extends RestApiTest {
         TestCaseOptions.defaults()).call();
   }
 
+  private HttpURLConnection getObjectRangeRestCall(String objectKey, String range)
+      throws Exception {
+    String uri = S3_SERVICE_PREFIX + AlluxioURI.SEPARATOR + objectKey;
+    HttpURLConnection connection = (HttpURLConnection) new TestCase(mHostname, mPort, uri,
+        NO_PARAMS, HttpMethod.GET, null, TestCaseOptions.defaults()).createURL().openConnection();
+    connection.setRequestProperty(S3Constants.S3_RANGE_HEADER, range);
+    connection.connect();
+    return connection;
+  }
+
   private void deleteObjectRestCall(String objectKey) throws Exception {
     String uri = S3_SERVICE_PREFIX + AlluxioURI.SEPARATOR + objectKey;
     new TestCase(mHostname, mPort, uri, NO_PARAMS, HttpMethod.DELETE, null,
@@ -21,6 +21,7 @@ import alluxio.underfs.UfsDirectoryStatus;
 import alluxio.underfs.UfsFileStatus;
 import alluxio.underfs.UfsMode;
 import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.options.CreateOptions;
 import alluxio.underfs.options.DeleteOptions;
@@ -235,6 +236,12 @@ public class DelegatingUnderFileSystem implements UnderFileSystem {
     return mUfs.listStatus(path, options);
   }
 
+  @Override
+  public UfsStatusIterator listStatusIterator(String path, ListOptions options)
+      throws IOException {
+    return mUfs.listStatusIterator(path, options);
+  }
+
   @Override
   public boolean mkdirs(String path) throws IOException {
     return mUfs.mkdirs(path);
@@ -27,8 +27,10 @@ import alluxio.underfs.ConsistentUnderFileSystem;
 import alluxio.underfs.UfsDirectoryStatus;
 import alluxio.underfs.UfsFileStatus;
 import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.UnderFileSystemConfiguration;
+import alluxio.underfs.UnderFileSystemWithLogging.UfsCallable;
 import alluxio.underfs.options.CreateOptions;
 import alluxio.underfs.options.DeleteOptions;
 import alluxio.underfs.options.FileLocationOptions;
@@ -454,23 +456,71 @@ public class HdfsUnderFileSystem extends ConsistentUnderFileSystem
     UfsStatus[] rtn = new UfsStatus[files.length];
     int i = 0;
     for (FileStatus status : files) {
-      // only return the relative path, to keep consistent with java.io.File.list()
-      UfsStatus retStatus;
-      if (!status.isDir()) {
-        String contentHash = UnderFileSystemUtils
-            .approximateContentHash(status.getLen(), status.getModificationTime());
-        retStatus = new UfsFileStatus(status.getPath().getName(), contentHash, status.getLen(),
-            status.getModificationTime(), status.getOwner(), status.getGroup(),
-            status.getPermission().toShort(), status.getBlockSize());
-      } else {
-        retStatus = new UfsDirectoryStatus(status.getPath().getName(), status.getOwner(),
-            status.getGroup(), status.getPermission().toShort(), status.getModificationTime());
-      }
-      rtn[i++] = retStatus;
+      rtn[i++] = getChildStatus(status);
     }
     return rtn;
   }
 
+  @Override
+  @Nullable
+  protected UfsStatusIterator listChildrenIterator(String path) throws IOException {
+    UfsCallable<UfsStatusIterator> listing;
+    //#ifdef HADOOP1
+    // FileSystem#listStatusIterator is not available in Hadoop 1
+    listing = () -> super.listChildrenIterator(path);
+    //#else
+    listing = () -> listChildrenPaged(path);
+    //#endif
+    return listing.call();
+  }
+
+  //#ifndef HADOOP1
+  /**
+   * Lists the children of a directory through {@link FileSystem#listStatusIterator}, which is
+   * paged by the HDFS client according to dfs.ls.limit.
+   *
+   * @param path the path of the directory to list
+   * @return an iterator over the statuses of the children, or null if the path does not denote a
+   *         directory
+   */
+  @Nullable
+  private UfsStatusIterator listChildrenPaged(String path) throws IOException {
+    org.apache.hadoop.fs.RemoteIterator<FileStatus> files;
+    FileStatus first;
+    try {
+      files = getFs().listStatusIterator(new Path(path));
+      if (!files.hasNext()) {
+        return UfsStatusIterator.fromArray();
+      }
+      first = files.next();
+    } catch (FileNotFoundException e) {
+      return null;
+    }
+    // Check if path is a file
+    if (!files.hasNext() && first.getPath().toString().equals(path)) {
+      return null;
+    }
+    return new UfsStatusIterator() {
+      private FileStatus mFirst = first;
+
+      @Override
+      public boolean hasNext() throws IOException {
+        return mFirst != null || files.hasNext();
+      }
+
+      @Override
+      public UfsStatus next() throws IOException {
+        if (mFirst != null) {
+          FileStatus status = mFirst;
+          mFirst = null;
+          return getChildStatus(status);
+        }
+        return getChildStatus(files.next());
+      }
+    };
+  }
+  //#endif
+
   @Override
   public void connectFromMaster(String host) throws IOException {
     if (!mUfsConf.isSet(PropertyKey.MASTER_KEYTAB_KEY_FILE)
@@ -712,6 +762,23 @@ public class HdfsUnderFileSystem extends ConsistentUnderFileSystem
     throw te;
   }
 
+  /**
+   * @param status the HDFS status of a file or directory
+   * @return the status of the file or directory, named by its name within its parent directory to
+   *         keep consistent with java.io.File.list()
+   */
+  private static UfsStatus getChildStatus(FileStatus status) {
+    if (!status.isDir()) {
+      String contentHash = UnderFileSystemUtils
+          .approximateContentHash(status.getLen(), status.getModificationTime());
+      return new UfsFileStatus(status.getPath().getName(), contentHash, status.getLen(),
+          status.getModificationTime(), status.getOwner(), status.getGroup(),
+          status.getPermission().toShort(), status.getBlockSize());
+    }
+    return new UfsDirectoryStatus(status.getPath().getName(), status.getOwner(),
+        status.getGroup(), status.getPermission().toShort(), status.getModificationTime());
+  }
+
   /**
    * List status for given path. Returns an array of {@link FileStatus} with an entry for each file
    * and directory in the directory denoted by this path.
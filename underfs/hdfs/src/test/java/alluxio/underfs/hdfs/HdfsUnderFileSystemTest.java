@@ -15,18 +15,31 @@ import alluxio.AlluxioURI;
 import alluxio.ConfigurationTestUtils;
 import alluxio.conf.AlluxioConfiguration;
 import alluxio.conf.PropertyKey;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystemConfiguration;
+import alluxio.underfs.options.ListOptions;
 
 import com.google.common.collect.ImmutableMap;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Tests {@link HdfsUnderFileSystem}.
  */
 public final class HdfsUnderFileSystemTest {
 
+  @Rule
+  public TemporaryFolder mTemporaryFolder = new TemporaryFolder();
+
   private HdfsUnderFileSystem mHdfsUnderFileSystem;
   private final AlluxioConfiguration mAlluxioConf = ConfigurationTestUtils.defaults();
 
@@ -63,4 +76,35 @@ public final class HdfsUnderFileSystemTest {
     Assert.assertEquals(ufsConf.get(PropertyKey.UNDERFS_HDFS_IMPL), conf.get("fs.hdfs.impl"));
     Assert.assertTrue(conf.getBoolean("fs.hdfs.impl.disable.cache", false));
   }
+
+  /**
+   * Tests that {@link HdfsUnderFileSystem#listStatusIterator} streams the listing of a directory
+   * and its descendants.
+   */
+  @Test
+  public void listStatusIterator() throws Exception {
+    File dir = mTemporaryFolder.newFolder("dir");
+    new File(dir, "sub").mkdir();
+    new File(dir, "sub/nested").createNewFile();
+    new File(dir, "file").createNewFile();
+    String path = "file://" + dir.getAbsolutePath();
+
+    Assert.assertEquals(Arrays.asList("file", "sub"),
+        listNames(path, ListOptions.defaults()));
+    Assert.assertEquals(Arrays.asList("file", "sub", "sub/nested"),
+        listNames(path, ListOptions.defaults().setRecursive(true)));
+    Assert.assertNull(mHdfsUnderFileSystem.listStatusIterator(path + "/missing",
+        ListOptions.defaults()));
+  }
+
+  private List<String> listNames(String path, ListOptions options) throws Exception {
+    List<String> names = new ArrayList<>();
+    try (UfsStatusIterator statuses = mHdfsUnderFileSystem.listStatusIterator(path, options)) {
+      while (statuses.hasNext()) {
+        names.add(statuses.next().getName());
+      }
+    }
+    Collections.sort(names);
+    return names;
+  }
 }
@@ -21,6 +21,7 @@ import alluxio.underfs.ConsistentUnderFileSystem;
 import alluxio.underfs.UfsDirectoryStatus;
 import alluxio.underfs.UfsFileStatus;
 import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.UnderFileSystemConfiguration;
 import alluxio.underfs.options.CreateOptions;
@@ -48,14 +49,21 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystemException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFileAttributes;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Stack;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -288,22 +296,7 @@ public class LocalUnderFileSystem extends ConsistentUnderFileSystem
       UfsStatus[] rtn = new UfsStatus[files.length];
       int i = 0;
       for (File f : files) {
-        // TODO(adit): do we need extra call for attributes?
-        PosixFileAttributes attr =
-            Files.readAttributes(Paths.get(f.getPath()), PosixFileAttributes.class);
-        short mode = FileUtils.translatePosixPermissionToMode(attr.permissions());
-        UfsStatus retStatus;
-        if (f.isDirectory()) {
-          retStatus = new UfsDirectoryStatus(f.getName(), attr.owner().getName(),
-              attr.group().getName(), mode, f.lastModified());
-        } else {
-          String contentHash =
-              UnderFileSystemUtils.approximateContentHash(f.length(), f.lastModified());
-          retStatus = new UfsFileStatus(f.getName(), contentHash, f.length(), f.lastModified(),
-              attr.owner().getName(), attr.group().getName(), mode,
-              mUfsConf.getBytes(PropertyKey.USER_BLOCK_SIZE_BYTES_DEFAULT));
-        }
-        rtn[i++] = retStatus;
+        rtn[i++] = getChildStatus(f);
       }
       return rtn;
     } else {
@@ -311,6 +304,62 @@ public class LocalUnderFileSystem extends ConsistentUnderFileSystem
     }
   }
 
+  @Override
+  @Nullable
+  protected UfsStatusIterator listChildrenIterator(String path) throws IOException {
+    DirectoryStream<Path> stream;
+    try {
+      stream = Files.newDirectoryStream(Paths.get(stripPath(path)));
+    } catch (NoSuchFileException | NotDirectoryException e) {
+      return null;
+    }
+    Iterator<Path> children = stream.iterator();
+    return new UfsStatusIterator() {
+      @Override
+      public boolean hasNext() throws IOException {
+        try {
+          return children.hasNext();
+        } catch (DirectoryIteratorException e) {
+          throw e.getCause();
+        }
+      }
+
+      @Override
+      public UfsStatus next() throws IOException {
+        try {
+          return getChildStatus(children.next().toFile());
+        } catch (DirectoryIteratorException e) {
+          throw e.getCause();
+        }
+      }
+
+      @Override
+      public void close() throws IOException {
+        stream.close();
+      }
+    };
+  }
+
+  /**
+   * @param f a file or directory
+   * @return the status of the file or directory, named by its name within its parent directory
+   */
+  private UfsStatus getChildStatus(File f) throws IOException {
+    // TODO(adit): do we need extra call for attributes?
+    PosixFileAttributes attr =
+        Files.readAttributes(Paths.get(f.getPath()), PosixFileAttributes.class);
+    short mode = FileUtils.translatePosixPermissionToMode(attr.permissions());
+    if (f.isDirectory()) {
+      return new UfsDirectoryStatus(f.getName(), attr.owner().getName(),
+          attr.group().getName(), mode, f.lastModified());
+    }
+    String contentHash =
+        UnderFileSystemUtils.approximateContentHash(f.length(), f.lastModified());
+    return new UfsFileStatus(f.getName(), contentHash, f.length(), f.lastModified(),
+        attr.owner().getName(), attr.group().getName(), mode,
+        mUfsConf.getBytes(PropertyKey.USER_BLOCK_SIZE_BYTES_DEFAULT));
+  }
+
   @Override
   public boolean mkdirs(String path, MkdirsOptions options) throws IOException {
     path = stripPath(path);
@@ -22,9 +22,11 @@ import alluxio.conf.PropertyKey;
 import alluxio.underfs.UfsDirectoryStatus;
 import alluxio.underfs.UfsFileStatus;
 import alluxio.underfs.UfsMode;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystem;
 import alluxio.underfs.UnderFileSystemConfiguration;
 import alluxio.underfs.options.DeleteOptions;
+import alluxio.underfs.options.ListOptions;
 import alluxio.underfs.options.MkdirsOptions;
 import alluxio.util.ConfigurationUtils;
 import alluxio.util.io.PathUtils;
@@ -41,6 +43,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
@@ -265,6 +270,54 @@ public class LocalUnderFileSystemTest {
     assertTrue(s.isFile());
   }
 
+  @Test
+  public void listStatusIterator() throws IOException {
+    String dir = PathUtils.concatPath(mLocalUfsRoot, getUniqueFileName());
+    mLocalUfs.mkdirs(PathUtils.concatPath(dir, "sub"));
+    mLocalUfs.create(PathUtils.concatPath(dir, "file")).close();
+    mLocalUfs.create(PathUtils.concatPath(dir, "sub", "nested")).close();
+
+    List<String> names = new ArrayList<>();
+    try (UfsStatusIterator statuses =
+             mLocalUfs.listStatusIterator(dir, ListOptions.defaults())) {
+      while (statuses.hasNext()) {
+        names.add(statuses.next().getName());
+      }
+    }
+    Collections.sort(names);
+    assertEquals(Arrays.asList("file", "sub"), names);
+  }
+
+  @Test
+  public void listStatusIteratorRecursive() throws IOException {
+    String dir = PathUtils.concatPath(mLocalUfsRoot, getUniqueFileName());
+    mLocalUfs.mkdirs(PathUtils.concatPath(dir, "a", "b"));
+    mLocalUfs.create(PathUtils.concatPath(dir, "a", "b", "file")).close();
+    mLocalUfs.create(PathUtils.concatPath(dir, "file")).close();
+
+    List<String> names = new ArrayList<>();
+    try (UfsStatusIterator statuses =
+             mLocalUfs.listStatusIterator(dir, ListOptions.defaults().setRecursive(true))) {
+      while (statuses.hasNext()) {
+        names.add(statuses.next().getName());
+      }
+    }
+    // Every directory is returned before its descendants.
+    assertTrue(names.indexOf("a") < names.indexOf("a/b"));
+    assertTrue(names.indexOf("a/b") < names.indexOf("a/b/file"));
+    Collections.sort(names);
+    assertEquals(Arrays.asList("a", "a/b", "a/b/file", "file"), names);
+  }
+
+  @Test
+  public void listStatusIteratorOfFile() throws IOException {
+    String file = PathUtils.concatPath(mLocalUfsRoot, getUniqueFileName());
+    mLocalUfs.create(file).close();
+    Assert.assertNull(mLocalUfs.listStatusIterator(file, ListOptions.defaults()));
+    Assert.assertNull(mLocalUfs.listStatusIterator(PathUtils.concatPath(mLocalUfsRoot, "missing"),
+        ListOptions.defaults().setRecursive(true)));
+  }
+
   private byte[] getBytes() {
     String s = "BYTES";
     return s.getBytes();
@@ -18,8 +18,10 @@ import alluxio.conf.InstancedConfiguration;
 import alluxio.conf.PropertyKey;
 import alluxio.underfs.ObjectUnderFileSystem;
 import alluxio.underfs.UfsMode;
+import alluxio.underfs.UfsStatusIterator;
 import alluxio.underfs.UnderFileSystemConfiguration;
 import alluxio.underfs.options.DeleteOptions;
+import alluxio.underfs.options.ListOptions;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
@@ -29,7 +31,9 @@ import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.AccessControlList;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.Owner;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import org.junit.Assert;
@@ -42,6 +46,7 @@ import org.mockito.Mockito;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Map;
@@ -199,4 +204,36 @@ public class S3AUnderFileSystemTest {
     Assert.assertEquals(UfsMode.READ_WRITE,
         mS3UnderFileSystem.getOperationMode(physicalUfsState));
   }
+
+  @Test
+  public void listStatusIteratorStreamsChunks() throws Exception {
+    Mockito.when(mClient.getS3AccountOwner()).thenThrow(AmazonClientException.class);
+    ListObjectsV2Result first = new ListObjectsV2Result();
+    first.getObjectSummaries().add(objectSummary(PATH + "/f1"));
+    first.getCommonPrefixes().add(PATH + "/sub/");
+    first.setTruncated(true);
+    ListObjectsV2Result second = new ListObjectsV2Result();
+    // The directory has already been returned from the common prefix of the first chunk.
+    second.getObjectSummaries().add(objectSummary(PATH + "/sub/"));
+    second.getObjectSummaries().add(objectSummary(PATH + "/f2"));
+    Mockito.when(mClient.listObjectsV2(Matchers.any(ListObjectsV2Request.class)))
+        .thenReturn(first, second);
+
+    try (UfsStatusIterator statuses = mS3UnderFileSystem.listStatusIterator(
+        "s3a://" + BUCKET_NAME + "/" + PATH, ListOptions.defaults())) {
+      Assert.assertEquals("f1", statuses.next().getName());
+      Assert.assertTrue(statuses.next().isDirectory());
+      // The second chunk is only listed once the first chunk has been consumed.
+      Mockito.verify(mClient).listObjectsV2(Matchers.any(ListObjectsV2Request.class));
+      Assert.assertEquals("f2", statuses.next().getName());
+      Assert.assertFalse(statuses.hasNext());
+    }
+  }
+
+  private static S3ObjectSummary objectSummary(String key) {
+    S3ObjectSummary summary = new S3ObjectSummary();
+    summary.setKey(key);
+    summary.setLastModified(new Date());
+    return summary;
+  }
 }